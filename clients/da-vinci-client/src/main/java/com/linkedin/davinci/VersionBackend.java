@@ -286,6 +286,30 @@ public class VersionBackend {
         computingCallback);
   }
 
+  public <K, V> void scan(
+      int userPartition,
+      byte[] startKeyBytes,
+      byte[] endKeyBytes,
+      AbstractAvroChunkingAdapter<V> chunkingAdaptor,
+      RecordDeserializer<K> keyDeserializer,
+      StoreDeserializerCache<V> storeDeserializerCache,
+      int readerSchemaId,
+      BinaryDecoder binaryDecoder,
+      StreamingCallback<K, V> callback) {
+    chunkingAdaptor.getByKeyRange(
+        getStorageEngineOrThrow(),
+        userPartition,
+        startKeyBytes,
+        endKeyBytes,
+        version.isChunkingEnabled(),
+        binaryDecoder,
+        keyDeserializer,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor.get(),
+        callback);
+  }
+
   public int getPartitionCount() {
     return version.getPartitionCount();
   }
@@ -8,10 +8,12 @@ import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
 import java.io.File;
+import java.io.IOException;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.rocksdb.Checkpoint;
@@ -137,11 +139,15 @@ public class BlobSnapshotManager {
     String fullPathForPartitionDBSnapshot = RocksDBUtils.composeSnapshotDir(this.basePath, topicName, partitionId);
     File partitionSnapshotDir = new File(fullPathForPartitionDBSnapshot);
     if (partitionSnapshotDir.exists()) {
-      if (!partitionSnapshotDir.delete()) {
+      // The new checkpoint hard-links the same SST files, so the checksums of the files which did not change since the
+      // previous snapshot remain cached by SnapshotManifestProvider.
+      try {
+        FileUtils.deleteDirectory(partitionSnapshotDir);
+      } catch (IOException e) {
         throw new VeniceException(
-            "Failed to delete the existing snapshot directory: " + fullPathForPartitionDBSnapshot);
+            "Failed to delete the existing snapshot directory: " + fullPathForPartitionDBSnapshot,
+            e);
       }
-      return;
     }
     try {
       Checkpoint checkpoint = createCheckpoint(rocksDB);
@@ -45,6 +45,7 @@ import com.linkedin.venice.compute.ComputeUtils;
 import com.linkedin.venice.controllerapi.D2ServiceDiscoveryResponse;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.pubsub.adapter.kafka.admin.ApacheKafkaAdminAdapter;
@@ -73,6 +74,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -114,6 +116,13 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
   private static final ExecutorService READ_CHUNK_EXECUTOR = Executors.newFixedThreadPool(
       Runtime.getRuntime().availableProcessors(),
       new DaemonThreadFactory("DaVinci_Read_Chunk_Executor"));
+  /**
+   * Runs the concurrent partition scans of {@link #scan}, unless the request brings its own executor. A scan can hold
+   * its threads for a long time, so it doesn't share them with the chunks of the batch gets.
+   */
+  private static final ExecutorService SCAN_EXECUTOR = Executors.newFixedThreadPool(
+      Runtime.getRuntime().availableProcessors(),
+      new DaemonThreadFactory("DaVinci_Scan_Executor"));
   public static final int DEFAULT_CHUNK_SPLIT_THRESHOLD = 100;
 
   private final DaVinciConfig daVinciConfig;
@@ -339,6 +348,18 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     return this.storeDeserializerCache;
   }
 
+  RecordDeserializer<K> getKeyDeserializer() {
+    return this.keyDeserializer;
+  }
+
+  ClientConfig getClientConfig() {
+    return this.clientConfig;
+  }
+
+  ReadOnlySchemaRepository getSchemaRepository() {
+    return getBackend().getSchemaRepository();
+  }
+
   DaVinciConfig getDaVinciConfig() {
     return this.daVinciConfig;
   }
@@ -593,6 +614,118 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     }
   }
 
+  @Override
+  public void scan(DaVinciScanRequest<K> scanRequest, StreamingCallback<K, V> callback) {
+    throwIfNotReady();
+    try (ReferenceCounted<VersionBackend> versionRef = getStoreBackend().getDaVinciCurrentVersion()) {
+      VersionBackend versionBackend = versionRef.get();
+      if (versionBackend == null) {
+        getStoreBackend().getStats().recordBadRequest();
+        callback.onCompletion(
+            Optional.of(new VeniceClientException("Da Vinci client is not subscribed, storeName=" + getStoreName())));
+        return;
+      }
+
+      List<Integer> partitions = new ArrayList<>();
+      if (scanRequest.getPartitions() == null) {
+        for (int partition = 0; partition < versionBackend.getPartitionCount(); partition++) {
+          if (isPartitionReadyToServe(versionBackend, partition)) {
+            partitions.add(partition);
+          }
+        }
+      } else {
+        for (int partition: scanRequest.getPartitions()) {
+          if (isPartitionReadyToServe(versionBackend, partition)) {
+            partitions.add(partition);
+          } else if (!isPartitionSubscribed(versionBackend, partition)) {
+            getStoreBackend().getStats().recordBadRequest();
+            callback.onCompletion(Optional.of(new NonLocalAccessException(versionBackend.toString(), partition)));
+            return;
+          } else {
+            String message =
+                "Partition: " + partition + " for store version: " + versionBackend + " is not ready to serve";
+            callback.onCompletion(Optional.of(new VeniceClientException(message)));
+            return;
+          }
+        }
+      }
+
+      int readerSchemaId = versionBackend.getSupersetOrLatestValueSchemaId();
+      StoreDeserializerCache<V> valueDeserializerCache = getStoreDeserializerCache();
+      if (scanRequest.getProjectionFields() != null) {
+        if (getClientConfig().isSpecificClient()) {
+          callback.onCompletion(
+              Optional.of(
+                  new VeniceClientException("Field projection requires generic values, storeName=" + getStoreName())));
+          return;
+        }
+        try {
+          valueDeserializerCache = new ProjectingStoreDeserializerCache<>(
+              getSchemaRepository(),
+              getStoreName(),
+              getSchemaRepository().getValueSchema(getStoreName(), readerSchemaId).getSchema(),
+              scanRequest.getProjectionFields());
+        } catch (VeniceClientException e) {
+          callback.onCompletion(Optional.of(e));
+          return;
+        }
+      }
+
+      byte[] startKeyBytes =
+          scanRequest.getStartKey() == null ? null : getKeySerializer().serialize(scanRequest.getStartKey());
+      byte[] endKeyBytes =
+          scanRequest.getEndKey() == null ? null : getKeySerializer().serialize(scanRequest.getEndKey());
+      StoreDeserializerCache<V> scanDeserializerCache = valueDeserializerCache;
+      Consumer<List<Integer>> partitionsScanner = partitionsToScan -> {
+        ReusableObjects reusableObjects = REUSABLE_OBJECTS.get();
+        for (int partition: partitionsToScan) {
+          versionBackend.scan(
+              partition,
+              startKeyBytes,
+              endKeyBytes,
+              getAvroChunkingAdapter(),
+              getKeyDeserializer(),
+              scanDeserializerCache,
+              readerSchemaId,
+              reusableObjects.binaryDecoder,
+              callback);
+        }
+      };
+
+      // Every task scans a disjoint subset of the partitions, which bounds how many partitions get scanned at once.
+      int parallelism = Math.min(scanRequest.getParallelism(), partitions.size());
+      Executor scanExecutor = scanRequest.getExecutor() == null ? SCAN_EXECUTOR : scanRequest.getExecutor();
+      try {
+        if (parallelism <= 1) {
+          partitionsScanner.accept(partitions);
+        } else {
+          CompletableFuture[] scanFutures = new CompletableFuture[parallelism];
+          for (int task = 0; task < parallelism; task++) {
+            List<Integer> partitionsOfTask = new ArrayList<>();
+            for (int i = task; i < partitions.size(); i += parallelism) {
+              partitionsOfTask.add(partitions.get(i));
+            }
+            scanFutures[task] =
+                CompletableFuture.runAsync(() -> partitionsScanner.accept(partitionsOfTask), scanExecutor);
+          }
+          CompletableFuture.allOf(scanFutures).get();
+        }
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        callback.onCompletion(Optional.of(cause instanceof Exception ? (Exception) cause : e));
+        return;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        callback.onCompletion(Optional.of(e));
+        return;
+      } catch (VeniceException e) {
+        callback.onCompletion(Optional.of(e));
+        return;
+      }
+      callback.onCompletion(Optional.empty());
+    }
+  }
+
   private boolean handleCallbackForEmptyKeySet(Set<K> keys, StreamingCallback callback) {
     if (keys.isEmpty()) {
       // no result for empty key set
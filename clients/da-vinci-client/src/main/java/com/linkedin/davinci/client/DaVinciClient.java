@@ -1,6 +1,7 @@
 package com.linkedin.davinci.client;
 
 import com.linkedin.venice.client.store.AvroGenericStoreClient;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -55,4 +56,19 @@ public interface DaVinciClient<K, V> extends AvroGenericStoreClient<K, V> {
    * @return partition count
    */
   int getPartitionCount();
+
+  /**
+   * Iterate over the local records of the store, reading them sequentially from the storage instead of looking them up
+   * one by one. Within a partition, records are returned in the order of their serialized keys. When the partitions
+   * are not specified, the ones which are subscribed but not ready to serve yet are skipped. The scan fails if one of
+   * the specified partitions is not ready to serve.
+   *
+   * The method returns once the scan is over, and {@link StreamingCallback#onCompletion} has been invoked. When
+   * several partitions are scanned in parallel, {@link StreamingCallback#onRecordReceived} is invoked concurrently by
+   * different threads.
+   *
+   * @param scanRequest the partitions, key range and value fields to scan
+   * @param callback receives the scanned records
+   */
+  void scan(DaVinciScanRequest<K> scanRequest, StreamingCallback<K, V> callback);
 }
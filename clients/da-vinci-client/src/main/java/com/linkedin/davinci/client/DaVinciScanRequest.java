@@ -0,0 +1,108 @@
+package com.linkedin.davinci.client;
+
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+
+/**
+ * Describes which records a {@link DaVinciClient#scan} iterates over, and how.
+ *
+ * @param <K>
+ */
+public class DaVinciScanRequest<K> {
+  /**
+   * Partitions to scan, all the local partitions of the client when not specified.
+   */
+  private Set<Integer> partitions;
+
+  /**
+   * Inclusive lower bound of the scanned keys. Keys are compared by their serialized bytes, which is the order they are
+   * iterated in, so this bound doesn't follow the natural order of the key type.
+   */
+  private K startKey;
+
+  /**
+   * Exclusive upper bound of the scanned keys, compared the same way as {@link #startKey}.
+   */
+  private K endKey;
+
+  /**
+   * Fields of the value schema to deserialize. When specified, the other fields are skipped, and the values are
+   * returned as generic records of a schema containing only these fields.
+   */
+  private Set<String> projectionFields;
+
+  /**
+   * How many partitions get scanned at the same time.
+   */
+  private int parallelism = 1;
+
+  /**
+   * Runs the scans of the partitions when the parallelism is above 1. When not specified, they run in a pool dedicated
+   * to the scans, so that long scans don't hold the threads the large batch gets are split into.
+   */
+  private Executor executor;
+
+  public Set<Integer> getPartitions() {
+    return partitions;
+  }
+
+  public DaVinciScanRequest<K> setPartitions(Set<Integer> partitions) {
+    this.partitions = partitions;
+    return this;
+  }
+
+  public K getStartKey() {
+    return startKey;
+  }
+
+  public DaVinciScanRequest<K> setStartKey(K startKey) {
+    this.startKey = startKey;
+    return this;
+  }
+
+  public K getEndKey() {
+    return endKey;
+  }
+
+  public DaVinciScanRequest<K> setEndKey(K endKey) {
+    this.endKey = endKey;
+    return this;
+  }
+
+  public Set<String> getProjectionFields() {
+    return projectionFields;
+  }
+
+  public DaVinciScanRequest<K> setProjectionFields(Set<String> projectionFields) {
+    this.projectionFields = projectionFields;
+    return this;
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  public DaVinciScanRequest<K> setParallelism(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Scan parallelism should be positive, got: " + parallelism);
+    }
+    this.parallelism = parallelism;
+    return this;
+  }
+
+  public Executor getExecutor() {
+    return executor;
+  }
+
+  public DaVinciScanRequest<K> setExecutor(Executor executor) {
+    this.executor = executor;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "DaVinciScanRequest{partitions=" + partitions + ", projectionFields=" + projectionFields + ", parallelism="
+        + parallelism + "}";
+  }
+}
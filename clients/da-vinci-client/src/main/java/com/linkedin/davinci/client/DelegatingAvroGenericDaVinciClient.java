@@ -52,6 +52,11 @@ public class DelegatingAvroGenericDaVinciClient<K, V>
     return delegate.getPartitionCount();
   }
 
+  @Override
+  public void scan(DaVinciScanRequest<K> scanRequest, StreamingCallback<K, V> callback) {
+    delegate.scan(scanRequest, callback);
+  }
+
   @Override
   public CompletableFuture<V> get(K key) throws VeniceClientException {
     return delegate.get(key);
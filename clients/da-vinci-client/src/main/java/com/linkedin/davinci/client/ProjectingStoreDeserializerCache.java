@@ -0,0 +1,70 @@
+package com.linkedin.davinci.client;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.serialization.StoreDeserializerCache;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.avro.Schema;
+
+
+/**
+ * Deserializes the values of every writer schema into a projection of the value schema, so that the decoder skips the
+ * fields which are not part of the projection instead of materializing them.
+ */
+class ProjectingStoreDeserializerCache<T> implements StoreDeserializerCache<T> {
+  private final ReadOnlySchemaRepository schemaRepository;
+  private final String storeName;
+  private final Schema projectionSchema;
+  private final Map<Integer, RecordDeserializer<T>> deserializers = new VeniceConcurrentHashMap<>();
+
+  ProjectingStoreDeserializerCache(
+      ReadOnlySchemaRepository schemaRepository,
+      String storeName,
+      Schema valueSchema,
+      Set<String> projectionFields) {
+    this.schemaRepository = schemaRepository;
+    this.storeName = storeName;
+    this.projectionSchema = createProjectionSchema(valueSchema, projectionFields);
+  }
+
+  static Schema createProjectionSchema(Schema valueSchema, Set<String> projectionFields) {
+    if (valueSchema.getType() != Schema.Type.RECORD) {
+      throw new VeniceClientException(
+          "Only fields of a record value schema can be projected, value schema: " + valueSchema);
+    }
+    List<Schema.Field> fields = new ArrayList<>(projectionFields.size());
+    for (Schema.Field field: valueSchema.getFields()) {
+      if (projectionFields.contains(field.name())) {
+        fields.add(AvroCompatibilityHelper.newField(field).build());
+      }
+    }
+    if (fields.size() != projectionFields.size()) {
+      throw new VeniceClientException(
+          "Some of the projection fields: " + projectionFields + " are not part of value schema: " + valueSchema);
+    }
+    Schema projectionSchema =
+        Schema.createRecord(valueSchema.getName(), valueSchema.getDoc(), valueSchema.getNamespace(), false);
+    projectionSchema.setFields(fields);
+    return projectionSchema;
+  }
+
+  @Override
+  public RecordDeserializer<T> getDeserializer(int writerSchemaId, int readerSchemaId) {
+    return getDeserializer(writerSchemaId);
+  }
+
+  @Override
+  public RecordDeserializer<T> getDeserializer(int writerSchemaId) {
+    return deserializers.computeIfAbsent(writerSchemaId, id -> {
+      Schema writerSchema = schemaRepository.getValueSchema(storeName, id).getSchema();
+      return FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(writerSchema, projectionSchema);
+    });
+  }
+}
@@ -21,6 +21,7 @@ import static com.linkedin.venice.ConfigKeys.KAFKA_SECURITY_PROTOCOL;
 import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
 import static com.linkedin.venice.ConfigKeys.REFRESH_ATTEMPTS_FOR_ZK_RECONNECT;
 import static com.linkedin.venice.ConfigKeys.REFRESH_INTERVAL_FOR_ZK_RECONNECT_MS;
+import static com.linkedin.venice.ConfigKeys.STORE_REPOSITORY_REFRESH_THREAD_COUNT;
 import static com.linkedin.venice.ConfigKeys.ZOOKEEPER_ADDRESS;
 
 import com.linkedin.venice.SSLConfig;
@@ -66,6 +67,7 @@ public class VeniceClusterConfig {
   private final long kafkaFetchQuotaUnorderedRecordPerSecond;
   private final int refreshAttemptsForZkReconnect;
   private final long refreshIntervalForZkReconnectInMs;
+  private final int storeRepositoryRefreshThreadCount;
   private final long kafkaReadCycleDelayMs;
   private final long kafkaEmptyPollSleepMs;
   private final long kafkaFetchMinSizePerSecond;
@@ -121,6 +123,7 @@ public class VeniceClusterConfig {
     this.refreshAttemptsForZkReconnect = clusterProps.getInt(REFRESH_ATTEMPTS_FOR_ZK_RECONNECT, 3);
     this.refreshIntervalForZkReconnectInMs =
         clusterProps.getLong(REFRESH_INTERVAL_FOR_ZK_RECONNECT_MS, TimeUnit.SECONDS.toMillis(10));
+    this.storeRepositoryRefreshThreadCount = clusterProps.getInt(STORE_REPOSITORY_REFRESH_THREAD_COUNT, 8);
     this.kafkaReadCycleDelayMs = clusterProps.getLong(KAFKA_READ_CYCLE_DELAY_MS, 1000);
     this.kafkaEmptyPollSleepMs = clusterProps.getLong(KAFKA_EMPTY_POLL_SLEEP_MS, 0);
     // get fetching related from config or use the kafka default values.
@@ -277,6 +280,10 @@ public class VeniceClusterConfig {
     return refreshAttemptsForZkReconnect;
   }
 
+  public int getStoreRepositoryRefreshThreadCount() {
+    return storeRepositoryRefreshThreadCount;
+  }
+
   public long getKafkaReadCycleDelayMs() {
     return kafkaReadCycleDelayMs;
   }
@@ -41,6 +41,11 @@ import static com.linkedin.venice.ConfigKeys.PUBSUB_TOPIC_MANAGER_METADATA_FETCH
 import static com.linkedin.venice.ConfigKeys.PUBSUB_TOPIC_MANAGER_METADATA_FETCHER_THREAD_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PRINCIPAL_NAME;
 import static com.linkedin.venice.ConfigKeys.SERVER_BLOCKING_QUEUE_TYPE;
+import static com.linkedin.venice.ConfigKeys.SERVER_COMPACTION_AWARE_INGESTION_THROTTLING_BACK_OFF_PRESSURE;
+import static com.linkedin.venice.ConfigKeys.SERVER_COMPACTION_AWARE_INGESTION_THROTTLING_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_COMPACTION_AWARE_INGESTION_THROTTLING_INTERVAL_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_COMPACTION_AWARE_INGESTION_THROTTLING_MIN_RECORDS_PER_SEC;
+import static com.linkedin.venice.ConfigKeys.SERVER_COMPACTION_AWARE_INGESTION_THROTTLING_RECOVERY_PRESSURE;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_FAST_AVRO_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_QUEUE_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_THREAD_NUM;
@@ -61,6 +66,7 @@ import static com.linkedin.venice.ConfigKeys.SERVER_DISK_HEALTH_CHECK_SERVICE_EN
 import static com.linkedin.venice.ConfigKeys.SERVER_DISK_HEALTH_CHECK_TIMEOUT_IN_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_ENABLE_LIVE_CONFIG_BASED_KAFKA_THROTTLING;
 import static com.linkedin.venice.ConfigKeys.SERVER_ENABLE_PARALLEL_BATCH_GET;
+import static com.linkedin.venice.ConfigKeys.SERVER_FIELD_LEVEL_WRITE_COMPUTE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_FORKED_PROCESS_JVM_ARGUMENT_LIST;
 import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_HEADER_TABLE_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_INBOUND_ENABLED;
@@ -71,7 +77,10 @@ import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_MAX_HEADER_LIST_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_CHECKPOINT_DURING_GRACEFUL_SHUTDOWN_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_HEARTBEAT_INTERVAL_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_APPLICATION_PORT;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_REPORT_COALESCING_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_SERVICE_PORT;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_UNIX_DOMAIN_SOCKET_DIR;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_UNIX_DOMAIN_SOCKET_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_MODE;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_TASK_MAX_IDLE_COUNT;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_CONSUMER_OFFSET_COLLECTION_ENABLED;
@@ -83,6 +92,8 @@ import static com.linkedin.venice.ConfigKeys.SERVER_LEAKED_RESOURCE_CLEAN_UP_INT
 import static com.linkedin.venice.ConfigKeys.SERVER_LOCAL_CONSUMER_CONFIG_PREFIX;
 import static com.linkedin.venice.ConfigKeys.SERVER_MAX_REQUEST_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_MAX_WAIT_FOR_VERSION_INFO_MS_CONFIG;
+import static com.linkedin.venice.ConfigKeys.SERVER_METADATA_LONG_POLL_CHECK_INTERVAL_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_METADATA_LONG_POLL_MAX_WAIT_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_NETTY_GRACEFUL_SHUTDOWN_PERIOD_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_NETTY_IDLE_TIME_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_NETTY_WORKER_THREADS;
@@ -99,6 +110,12 @@ import static com.linkedin.venice.ConfigKeys.SERVER_PROMOTION_TO_LEADER_REPLICA_
 import static com.linkedin.venice.ConfigKeys.SERVER_PUBSUB_CONSUMER_POLL_RETRY_BACKOFF_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_PUBSUB_CONSUMER_POLL_RETRY_TIMES;
 import static com.linkedin.venice.ConfigKeys.SERVER_QUOTA_ENFORCEMENT_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_QUOTA_ENFORCEMENT_GCRA_BURST_CREDIT_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_QUOTA_ENFORCEMENT_GCRA_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_READ_QOS_FAIR_ALLOCATION_RATIO;
+import static com.linkedin.venice.ConfigKeys.SERVER_READ_QOS_MAX_QUEUE_LENGTH_PER_STORE;
+import static com.linkedin.venice.ConfigKeys.SERVER_READ_QOS_POLICY;
+import static com.linkedin.venice.ConfigKeys.SERVER_READ_QOS_SCHEDULING_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_RECORD_LEVEL_METRICS_WHEN_BOOTSTRAPPING_CURRENT_VERSION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_REMOTE_CONSUMER_CONFIG_PREFIX;
 import static com.linkedin.venice.ConfigKeys.SERVER_REMOTE_INGESTION_REPAIR_SLEEP_INTERVAL_SECONDS;
@@ -115,6 +132,7 @@ import static com.linkedin.venice.ConfigKeys.SERVER_SOURCE_TOPIC_OFFSET_CHECK_IN
 import static com.linkedin.venice.ConfigKeys.SERVER_SSL_HANDSHAKE_QUEUE_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.SERVER_SSL_HANDSHAKE_THREAD_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_STOP_CONSUMPTION_TIMEOUT_IN_SECONDS;
+import static com.linkedin.venice.ConfigKeys.SERVER_STORE_RESTORE_PARALLELISM;
 import static com.linkedin.venice.ConfigKeys.SERVER_STORE_TO_EARLY_TERMINATION_THRESHOLD_MS_MAP;
 import static com.linkedin.venice.ConfigKeys.SERVER_STUCK_CONSUMER_REPAIR_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_STUCK_CONSUMER_REPAIR_INTERVAL_SECOND;
@@ -134,6 +152,7 @@ import static com.linkedin.venice.ConfigKeys.UNSORTED_INPUT_DRAINER_SIZE;
 import static com.linkedin.venice.ConfigKeys.USE_DA_VINCI_SPECIFIC_EXECUTION_STATUS_FOR_ERROR;
 import static com.linkedin.venice.pubsub.PubSubConstants.PUBSUB_TOPIC_MANAGER_METADATA_FETCHER_CONSUMER_POOL_SIZE_DEFAULT_VALUE;
 
+import com.linkedin.alpini.base.queuing.QOSPolicy;
 import com.linkedin.davinci.helix.LeaderFollowerPartitionStateModelFactory;
 import com.linkedin.davinci.kafka.consumer.KafkaConsumerService;
 import com.linkedin.davinci.kafka.consumer.RemoteIngestionRepairService;
@@ -185,6 +204,7 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final RocksDBServerConfig rocksDBServerConfig;
   private final boolean enableServerAllowList;
   private final boolean autoCreateDataPath; // default true
+  private final int storeRestoreParallelism;
 
   /**
    *  Maximum number of thread that the thread pool would keep to run the Helix leader follower state transition.
@@ -298,6 +318,14 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
   private final boolean quotaEnforcementEnabled;
 
+  private final boolean quotaEnforcementGcraEnabled;
+
+  private final long quotaEnforcementGcraBurstCreditMs;
+
+  private final long metadataLongPollCheckIntervalMs;
+
+  private final long metadataLongPollMaxWaitMs;
+
   private final boolean serverCalculateQuotaUsageBasedOnPartitionsAssignmentEnabled;
 
   private final long nodeCapacityInRcu;
@@ -329,6 +357,8 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
   private final boolean computeFastAvroEnabled;
 
+  private final boolean fieldLevelWriteComputeEnabled;
+
   private final long participantMessageConsumptionDelayMs;
 
   /**
@@ -357,6 +387,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final int databaseLookupQueueCapacity;
   private final int computeQueueCapacity;
   private final BlockingQueueType blockingQueueType;
+  private final boolean readQosSchedulingEnabled;
+  private final String readQosPolicy;
+  private final String readQosFairAllocationRatio;
+  private final int readQosMaxQueueLengthPerStore;
   private final boolean restServiceEpollEnabled;
   private final String kafkaAdminClass;
   private final String kafkaWriteOnlyClass;
@@ -371,6 +405,9 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final IngestionMode ingestionMode;
   private final int ingestionServicePort;
   private final int ingestionApplicationPort;
+  private final boolean ingestionUnixDomainSocketEnabled;
+  private final String ingestionUnixDomainSocketDir;
+  private final boolean ingestionReportCoalescingEnabled;
   private final boolean databaseChecksumVerificationEnabled;
   private final boolean rocksDbStorageEngineConfigCheckEnabled;
 
@@ -415,6 +452,11 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final String localD2ZkHost;
 
   private final boolean enableLiveConfigBasedKafkaThrottling;
+  private final boolean compactionAwareIngestionThrottlingEnabled;
+  private final long compactionAwareIngestionThrottlingIntervalMs;
+  private final double compactionAwareIngestionThrottlingBackOffPressure;
+  private final double compactionAwareIngestionThrottlingRecoveryPressure;
+  private final long compactionAwareIngestionThrottlingMinRecordsPerSec;
 
   private final boolean serverIngestionCheckpointDuringGracefulShutdownEnabled;
 
@@ -482,6 +524,7 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         DATA_BASE_PATH,
         Paths.get(System.getProperty("java.io.tmpdir"), "venice-server-data").toAbsolutePath().toString());
     autoCreateDataPath = Boolean.parseBoolean(serverProperties.getString(AUTOCREATE_DATA_PATH, "true"));
+    storeRestoreParallelism = serverProperties.getInt(SERVER_STORE_RESTORE_PARALLELISM, 1);
     rocksDBServerConfig = new RocksDBServerConfig(serverProperties);
     enableServerAllowList = serverProperties.getBoolean(ENABLE_SERVER_ALLOW_LIST, false);
     maxLeaderFollowerStateTransitionThreadNumber =
@@ -541,6 +584,11 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     leakedResourceCleanUpIntervalInMS =
         TimeUnit.MINUTES.toMillis(serverProperties.getLong(SERVER_LEAKED_RESOURCE_CLEAN_UP_INTERVAL_IN_MINUTES, 10));
     quotaEnforcementEnabled = serverProperties.getBoolean(SERVER_QUOTA_ENFORCEMENT_ENABLED, false);
+    quotaEnforcementGcraEnabled = serverProperties.getBoolean(SERVER_QUOTA_ENFORCEMENT_GCRA_ENABLED, false);
+    quotaEnforcementGcraBurstCreditMs = serverProperties.getLong(SERVER_QUOTA_ENFORCEMENT_GCRA_BURST_CREDIT_MS, 1000);
+    metadataLongPollCheckIntervalMs = serverProperties.getLong(SERVER_METADATA_LONG_POLL_CHECK_INTERVAL_MS, 1000);
+    metadataLongPollMaxWaitMs =
+        serverProperties.getLong(SERVER_METADATA_LONG_POLL_MAX_WAIT_MS, TimeUnit.SECONDS.toMillis(60));
     serverCalculateQuotaUsageBasedOnPartitionsAssignmentEnabled =
         serverProperties.getBoolean(SEVER_CALCULATE_QUOTA_USAGE_BASED_ON_PARTITIONS_ASSIGNMENT_ENABLED, true);
 
@@ -556,6 +604,7 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     serverMaxWaitForVersionInfo =
         Duration.ofMillis(serverProperties.getLong(SERVER_MAX_WAIT_FOR_VERSION_INFO_MS_CONFIG, 5000));
     computeFastAvroEnabled = serverProperties.getBoolean(SERVER_COMPUTE_FAST_AVRO_ENABLED, true);
+    fieldLevelWriteComputeEnabled = serverProperties.getBoolean(SERVER_FIELD_LEVEL_WRITE_COMPUTE_ENABLED, false);
     participantMessageConsumptionDelayMs = serverProperties.getLong(PARTICIPANT_MESSAGE_CONSUMPTION_DELAY_MS, 60000);
     serverPromotionToLeaderReplicaDelayMs =
         TimeUnit.SECONDS.toMillis(serverProperties.getLong(SERVER_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS, 300));
@@ -595,6 +644,11 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     } catch (IllegalArgumentException e) {
       throw new VeniceException("Valid blocking queue options: " + Arrays.toString(BlockingQueueType.values()));
     }
+    readQosSchedulingEnabled = serverProperties.getBoolean(SERVER_READ_QOS_SCHEDULING_ENABLED, false);
+    readQosPolicy = serverProperties
+        .getString(SERVER_READ_QOS_POLICY, QOSPolicy.HIGHEST_PRIORITY_W_FAIR_ALLOCATION_MULTI_QUEUE.name());
+    readQosFairAllocationRatio = serverProperties.getString(SERVER_READ_QOS_FAIR_ALLOCATION_RATIO, "5:15:80");
+    readQosMaxQueueLengthPerStore = serverProperties.getInt(SERVER_READ_QOS_MAX_QUEUE_LENGTH_PER_STORE, 0);
 
     restServiceEpollEnabled = serverProperties.getBoolean(SERVER_REST_SERVICE_EPOLL_ENABLED, false);
     kafkaAdminClass = serverProperties.getString(KAFKA_ADMIN_CLASS, ApacheKafkaAdminAdapter.class.getName());
@@ -630,6 +684,12 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         IngestionMode.valueOf(serverProperties.getString(SERVER_INGESTION_MODE, IngestionMode.BUILT_IN.toString()));
     ingestionServicePort = serverProperties.getInt(SERVER_INGESTION_ISOLATION_SERVICE_PORT, 27015);
     ingestionApplicationPort = serverProperties.getInt(SERVER_INGESTION_ISOLATION_APPLICATION_PORT, 27016);
+    ingestionUnixDomainSocketEnabled =
+        serverProperties.getBoolean(SERVER_INGESTION_ISOLATION_UNIX_DOMAIN_SOCKET_ENABLED, false);
+    ingestionUnixDomainSocketDir =
+        serverProperties.getString(SERVER_INGESTION_ISOLATION_UNIX_DOMAIN_SOCKET_DIR, dataBasePath);
+    ingestionReportCoalescingEnabled =
+        serverProperties.getBoolean(SERVER_INGESTION_ISOLATION_REPORT_COALESCING_ENABLED, false);
     databaseChecksumVerificationEnabled =
         serverProperties.getBoolean(SERVER_DATABASE_CHECKSUM_VERIFICATION_ENABLED, false);
 
@@ -689,6 +749,23 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     localD2ZkHost = serverProperties.getString(LOCAL_D2_ZK_HOST, "");
     enableLiveConfigBasedKafkaThrottling =
         serverProperties.getBoolean(SERVER_ENABLE_LIVE_CONFIG_BASED_KAFKA_THROTTLING, false);
+    compactionAwareIngestionThrottlingEnabled =
+        serverProperties.getBoolean(SERVER_COMPACTION_AWARE_INGESTION_THROTTLING_ENABLED, false);
+    compactionAwareIngestionThrottlingIntervalMs = serverProperties
+        .getLong(SERVER_COMPACTION_AWARE_INGESTION_THROTTLING_INTERVAL_MS, TimeUnit.SECONDS.toMillis(1));
+    compactionAwareIngestionThrottlingBackOffPressure =
+        serverProperties.getDouble(SERVER_COMPACTION_AWARE_INGESTION_THROTTLING_BACK_OFF_PRESSURE, 0.8);
+    compactionAwareIngestionThrottlingRecoveryPressure =
+        serverProperties.getDouble(SERVER_COMPACTION_AWARE_INGESTION_THROTTLING_RECOVERY_PRESSURE, 0.5);
+    if (compactionAwareIngestionThrottlingRecoveryPressure > compactionAwareIngestionThrottlingBackOffPressure) {
+      throw new VeniceException(
+          "Config for " + SERVER_COMPACTION_AWARE_INGESTION_THROTTLING_RECOVERY_PRESSURE + ": "
+              + compactionAwareIngestionThrottlingRecoveryPressure + " should be lower than or equal to "
+              + SERVER_COMPACTION_AWARE_INGESTION_THROTTLING_BACK_OFF_PRESSURE + ": "
+              + compactionAwareIngestionThrottlingBackOffPressure);
+    }
+    compactionAwareIngestionThrottlingMinRecordsPerSec =
+        serverProperties.getLong(SERVER_COMPACTION_AWARE_INGESTION_THROTTLING_MIN_RECORDS_PER_SEC, 100);
     /**
      * Enable graceful shutdown by default.
      * Speculative risks when disabling graceful shutdown:
@@ -868,6 +945,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return autoCreateDataPath;
   }
 
+  public int getStoreRestoreParallelism() {
+    return storeRestoreParallelism;
+  }
+
   public RocksDBServerConfig getRocksDBServerConfig() {
     return rocksDBServerConfig;
   }
@@ -964,6 +1045,22 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return quotaEnforcementEnabled;
   }
 
+  public boolean isQuotaEnforcementGcraEnabled() {
+    return quotaEnforcementGcraEnabled;
+  }
+
+  public long getQuotaEnforcementGcraBurstCreditMs() {
+    return quotaEnforcementGcraBurstCreditMs;
+  }
+
+  public long getMetadataLongPollCheckIntervalMs() {
+    return metadataLongPollCheckIntervalMs;
+  }
+
+  public long getMetadataLongPollMaxWaitMs() {
+    return metadataLongPollMaxWaitMs;
+  }
+
   public boolean isServerCalculateQuotaUsageBasedOnPartitionsAssignmentEnabled() {
     return serverCalculateQuotaUsageBasedOnPartitionsAssignmentEnabled;
   }
@@ -1004,10 +1101,30 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return blockingQueueType;
   }
 
+  public boolean isReadQosSchedulingEnabled() {
+    return readQosSchedulingEnabled;
+  }
+
+  public String getReadQosPolicy() {
+    return readQosPolicy;
+  }
+
+  public String getReadQosFairAllocationRatio() {
+    return readQosFairAllocationRatio;
+  }
+
+  public int getReadQosMaxQueueLengthPerStore() {
+    return readQosMaxQueueLengthPerStore;
+  }
+
   public boolean isComputeFastAvroEnabled() {
     return computeFastAvroEnabled;
   }
 
+  public boolean isFieldLevelWriteComputeEnabled() {
+    return fieldLevelWriteComputeEnabled;
+  }
+
   public long getParticipantMessageConsumptionDelayMs() {
     return participantMessageConsumptionDelayMs;
   }
@@ -1104,6 +1221,18 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return ingestionApplicationPort;
   }
 
+  public boolean isIngestionUnixDomainSocketEnabled() {
+    return ingestionUnixDomainSocketEnabled;
+  }
+
+  public String getIngestionUnixDomainSocketDir() {
+    return ingestionUnixDomainSocketDir;
+  }
+
+  public boolean isIngestionReportCoalescingEnabled() {
+    return ingestionReportCoalescingEnabled;
+  }
+
   public boolean isDatabaseChecksumVerificationEnabled() {
     return databaseChecksumVerificationEnabled;
   }
@@ -1220,6 +1349,26 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return enableLiveConfigBasedKafkaThrottling;
   }
 
+  public boolean isCompactionAwareIngestionThrottlingEnabled() {
+    return compactionAwareIngestionThrottlingEnabled;
+  }
+
+  public long getCompactionAwareIngestionThrottlingIntervalMs() {
+    return compactionAwareIngestionThrottlingIntervalMs;
+  }
+
+  public double getCompactionAwareIngestionThrottlingBackOffPressure() {
+    return compactionAwareIngestionThrottlingBackOffPressure;
+  }
+
+  public double getCompactionAwareIngestionThrottlingRecoveryPressure() {
+    return compactionAwareIngestionThrottlingRecoveryPressure;
+  }
+
+  public long getCompactionAwareIngestionThrottlingMinRecordsPerSec() {
+    return compactionAwareIngestionThrottlingMinRecordsPerSec;
+  }
+
   public boolean isServerIngestionCheckpointDuringGracefulShutdownEnabled() {
     return serverIngestionCheckpointDuringGracefulShutdownEnabled;
   }
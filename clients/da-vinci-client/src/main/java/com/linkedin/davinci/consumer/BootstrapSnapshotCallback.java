@@ -0,0 +1,21 @@
+package com.linkedin.davinci.consumer;
+
+/**
+ * Receives the records of a snapshot exported by {@link BootstrappingVeniceChangelogConsumer#exportSnapshot}.
+ *
+ * Partitions are exported concurrently, so the methods of this interface can be invoked by several threads at the same
+ * time. The records of a given partition are always delivered by a single thread, in the order of their serialized
+ * keys, and are followed by exactly one {@link #onPartitionCompletion} for that partition.
+ *
+ * @param <K>
+ * @param <V>
+ */
+public interface BootstrapSnapshotCallback<K, V> {
+  void onRecord(int partition, K key, V value);
+
+  /**
+   * @param snapshotCoordinate the position in the change stream the exported records of this partition reflect. Changes
+   *                           returned by later polls for this partition come after this position.
+   */
+  void onPartitionCompletion(int partition, VeniceChangeCoordinate snapshotCoordinate);
+}
@@ -2,6 +2,7 @@ package com.linkedin.davinci.consumer;
 
 import com.linkedin.venice.pubsub.api.PubSubMessage;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -44,4 +45,18 @@ public interface BootstrappingVeniceChangelogConsumer<K, V> {
    */
   Collection<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> poll(long timeoutInMs);
 
+  /**
+   * Streams the locally bootstrapped state of all subscribed partitions to the callback, by scanning the local storage
+   * of several partitions in parallel instead of replaying it through {@link #poll(long)}. It can only be called once
+   * the future returned by 'start()' has completed, and must not be called concurrently with 'poll()'.
+   *
+   * The exported state of each partition is consistent with the coordinate returned for it. Once the export is done,
+   * the bootstrap state is no longer returned by poll, and subsequent calls to poll return the changes which come after
+   * those coordinates.
+   *
+   * @param callback receives the records and the completion of each partition
+   * @param parallelism how many partitions to scan at the same time
+   * @return the coordinate of each exported partition
+   */
+  Map<Integer, VeniceChangeCoordinate> exportSnapshot(BootstrapSnapshotCallback<K, V> callback, int parallelism);
 }
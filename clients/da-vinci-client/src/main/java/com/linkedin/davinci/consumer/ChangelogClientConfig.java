@@ -34,6 +34,18 @@ public class ChangelogClientConfig<T extends SpecificRecord> {
    */
   private long rocksDBBlockCacheSizeInBytes = 1024 * 1024L;
 
+  /**
+   * Number of threads decoding the polled records, the records of a partition are always decoded by the same thread so
+   * that they keep their order. Default is 0, which decodes the records on the polling thread.
+   */
+  private int decodeThreadCount = 0;
+
+  /**
+   * Upper bound of the payload bytes of the records being decoded at any time by the decoding threads. Default is
+   * 64 MB.
+   */
+  private long maxInFlightDecodeBytes = 64 * 1024 * 1024L;
+
   public ChangelogClientConfig(String storeName) {
     this.innerClientConfig = new ClientConfig<>(storeName);
   }
@@ -187,6 +199,24 @@ public class ChangelogClientConfig<T extends SpecificRecord> {
     return this;
   }
 
+  public int getDecodeThreadCount() {
+    return decodeThreadCount;
+  }
+
+  public ChangelogClientConfig setDecodeThreadCount(int decodeThreadCount) {
+    this.decodeThreadCount = decodeThreadCount;
+    return this;
+  }
+
+  public long getMaxInFlightDecodeBytes() {
+    return maxInFlightDecodeBytes;
+  }
+
+  public ChangelogClientConfig setMaxInFlightDecodeBytes(long maxInFlightDecodeBytes) {
+    this.maxInFlightDecodeBytes = maxInFlightDecodeBytes;
+    return this;
+  }
+
   public ChangelogClientConfig setSpecificValue(Class<T> specificValue) {
     this.innerClientConfig.setSpecificValueClass(specificValue);
     return this;
@@ -207,7 +237,9 @@ public class ChangelogClientConfig<T extends SpecificRecord> {
         .setVersionSwapDetectionIntervalTimeInMs(config.getVersionSwapDetectionIntervalTimeInMs())
         .setRocksDBBlockCacheSizeInBytes(config.getRocksDBBlockCacheSizeInBytes())
         .setConsumerName(config.consumerName)
-        .setDatabaseSyncBytesInterval(config.getDatabaseSyncBytesInterval());
+        .setDatabaseSyncBytesInterval(config.getDatabaseSyncBytesInterval())
+        .setDecodeThreadCount(config.getDecodeThreadCount())
+        .setMaxInFlightDecodeBytes(config.getMaxInFlightDecodeBytes());
     return newConfig;
   }
 }
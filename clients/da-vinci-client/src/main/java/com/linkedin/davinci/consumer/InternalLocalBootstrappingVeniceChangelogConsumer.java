@@ -41,6 +41,7 @@ import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.service.AbstractVeniceService;
 import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.PropertyBuilder;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
@@ -50,11 +51,16 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
@@ -290,15 +296,8 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
       int partition,
       Collection<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> resultSet) {
     // Transform and populate into the collection that we return.
-    // TODO: this is a shortcoming of both this interface and the change capture client, we need to specify
-    // a user
-    // schema for deserialization
-    ValueRecord valueRecord = ValueRecord.parseAndCreate(value);
     // Create a change event to wrap the record we pulled from disk and deserialize the record
-    ChangeEvent<V> changeEvent = new ChangeEvent<>(
-        null,
-        (V) storeDeserializerCache.getDeserializer(valueRecord.getSchemaId(), valueRecord.getSchemaId())
-            .deserialize(valueRecord.getDataInBytes()));
+    ChangeEvent<V> changeEvent = new ChangeEvent<>(null, deserializeStoredValue(value));
 
     PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate> record = new ImmutableChangeCapturePubSubMessage<>(
         keyDeserializer.deserialize(key),
@@ -311,6 +310,15 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
     resultSet.add(record);
   }
 
+  private V deserializeStoredValue(byte[] value) {
+    // TODO: this is a shortcoming of both this interface and the change capture client, we need to specify
+    // a user
+    // schema for deserialization
+    ValueRecord valueRecord = ValueRecord.parseAndCreate(value);
+    return storeDeserializerCache.getDeserializer(valueRecord.getSchemaId(), valueRecord.getSchemaId())
+        .deserialize(valueRecord.getDataInBytes());
+  }
+
   @VisibleForTesting
   void onCompletionForStorage(
       int partition,
@@ -339,6 +347,77 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
     return bootstrapStateMap;
   }
 
+  @Override
+  public Map<Integer, VeniceChangeCoordinate> exportSnapshot(
+      BootstrapSnapshotCallback<K, V> callback,
+      int parallelism) {
+    if (!isStarted) {
+      throw new VeniceException("Client isn't started yet!!");
+    }
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Snapshot export parallelism should be positive, got: " + parallelism);
+    }
+    AbstractStorageEngine storageEngine = storageService.getStorageEngine(localStateTopicName);
+    /**
+     * The local storage only gets written by poll, so as long as no poll happens in the meantime, the content of each
+     * partition is the one of its current position.
+     */
+    Map<Integer, VeniceChangeCoordinate> snapshotCoordinates = new HashMap<>();
+    for (Map.Entry<Integer, BootstrapState> state: bootstrapStateMap.entrySet()) {
+      snapshotCoordinates.put(state.getKey(), state.getValue().currentPubSubPosition);
+    }
+    ExecutorService exportExecutor = Executors.newFixedThreadPool(
+        Math.min(parallelism, Math.max(snapshotCoordinates.size(), 1)),
+        new DaemonThreadFactory("BootstrapSnapshotExport-" + storeName));
+    try {
+      List<CompletableFuture<Void>> exportFutures = new ArrayList<>(snapshotCoordinates.size());
+      for (Map.Entry<Integer, VeniceChangeCoordinate> entry: snapshotCoordinates.entrySet()) {
+        exportFutures.add(
+            CompletableFuture.runAsync(
+                () -> exportPartition(storageEngine, entry.getKey(), entry.getValue(), callback),
+                exportExecutor));
+      }
+      CompletableFuture.allOf(exportFutures.toArray(new CompletableFuture[0])).join();
+    } catch (CompletionException e) {
+      throw new VeniceException("Failed to export local bootstrap data with exception: ", e.getCause());
+    } finally {
+      exportExecutor.shutdownNow();
+    }
+
+    // The exported snapshot replaces the replay of the local bootstrap data through poll.
+    for (BootstrapState state: bootstrapStateMap.values()) {
+      if (state.bootstrapState.equals(PollState.BOOTSTRAPPING)) {
+        state.bootstrapState = PollState.CONSUMING;
+        bootstrapCompletedCount++;
+      }
+    }
+    LOGGER.info("Exported local bootstrap data of partitions: {}", snapshotCoordinates.keySet());
+    return snapshotCoordinates;
+  }
+
+  private void exportPartition(
+      AbstractStorageEngine storageEngine,
+      int partition,
+      VeniceChangeCoordinate snapshotCoordinate,
+      BootstrapSnapshotCallback<K, V> callback) {
+    AtomicBoolean completed = new AtomicBoolean(false);
+    storageEngine.getByKeyPrefix(partition, null, new BytesStreamingCallback() {
+      @Override
+      public void onRecordReceived(byte[] key, byte[] value) {
+        callback.onRecord(partition, keyDeserializer.deserialize(key), deserializeStoredValue(value));
+      }
+
+      @Override
+      public void onCompletion() {
+        completed.set(true);
+      }
+    });
+    if (!completed.get()) {
+      throw new VeniceException("Interrupted while exporting local bootstrap data of partition: " + partition);
+    }
+    callback.onPartitionCompletion(partition, snapshotCoordinate);
+  }
+
   /**
    * Polls change capture client and persist the results to local disk. Also updates the bootstrapStateMap with latest
    * offsets and if the client has caught up or not.
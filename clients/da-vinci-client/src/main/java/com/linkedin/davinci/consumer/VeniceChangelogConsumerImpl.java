@@ -46,17 +46,21 @@ import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.AvroSpecificStoreDeserializerCache;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.DictionaryUtils;
+import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.lazy.Lazy;
 import com.linkedin.venice.views.ChangeCaptureView;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -64,7 +68,10 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
@@ -123,6 +130,13 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
   protected final BasicConsumerStats changeCaptureStats;
   protected final HeartbeatReporterThread heartbeatReporterThread;
 
+  /**
+   * Single-threaded executors decoding the polled records when parallel decoding is enabled, or null otherwise. The
+   * records of a partition are always decoded by the same executor, so that they keep their order.
+   */
+  private final ExecutorService[] decodeExecutors;
+  private final long maxInFlightDecodeBytes;
+
   public VeniceChangelogConsumerImpl(
       ChangelogClientConfig changelogClientConfig,
       PubSubConsumerAdapter pubSubConsumer) {
@@ -154,6 +168,17 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
     this.chunkAssembler = new ChunkAssembler(storeName);
     this.startTimestamp = System.currentTimeMillis();
     LOGGER.info("VeniceChangelogConsumer created at timestamp: {}", startTimestamp);
+    int decodeThreadCount = changelogClientConfig.getDecodeThreadCount();
+    if (decodeThreadCount > 0) {
+      this.decodeExecutors = new ExecutorService[decodeThreadCount];
+      for (int i = 0; i < decodeThreadCount; i++) {
+        this.decodeExecutors[i] =
+            Executors.newSingleThreadExecutor(new DaemonThreadFactory("ChangelogConsumer-Decode-" + storeName));
+      }
+    } else {
+      this.decodeExecutors = null;
+    }
+    this.maxInFlightDecodeBytes = changelogClientConfig.getMaxInFlightDecodeBytes();
     this.storeRepository = new ThinClientMetaStoreBasedRepository(
         changelogClientConfig.getInnerClientConfig(),
         VeniceProperties.empty(),
@@ -538,6 +563,13 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
     synchronized (pubSubConsumer) {
       messagesMap = pubSubConsumer.poll(timeoutInMs);
     }
+    if (decodeExecutors != null) {
+      decodeInParallel(messagesMap, topicSuffix, includeControlMessage, pubSubMessages);
+      if (changeCaptureStats != null) {
+        changeCaptureStats.recordRecordsConsumed(pubSubMessages.size());
+      }
+      return pubSubMessages;
+    }
     for (Map.Entry<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> entry: messagesMap
         .entrySet()) {
       PubSubTopicPartition pubSubTopicPartition = entry.getKey();
@@ -579,6 +611,142 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
     return pubSubMessages;
   }
 
+  /**
+   * Same as the sequential processing of the polled records in {@link #internalPoll}, except that runs of data records
+   * are decoded in batches by {@link #decodeExecutors}. Control messages are still handled on the polling thread, after
+   * all the records polled before them are decoded, since they may change the state which decoding relies on, e.g. the
+   * compressors and the high watermarks on version swap.
+   *
+   * The decoded records are collected in the order they were polled, and the payload bytes of the batches being decoded
+   * are bounded by {@link #maxInFlightDecodeBytes}.
+   */
+  private void decodeInParallel(
+      Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> messagesMap,
+      String topicSuffix,
+      boolean includeControlMessage,
+      List<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> pubSubMessages) {
+    DecodeBatchQueue decodeBatchQueue = new DecodeBatchQueue(pubSubMessages);
+    // Batches are cut so that all the executors can be busy within the in-flight budget.
+    long maxBatchBytes = Math.max(1, maxInFlightDecodeBytes / decodeExecutors.length);
+    for (Map.Entry<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> entry: messagesMap
+        .entrySet()) {
+      PubSubTopicPartition pubSubTopicPartition = entry.getKey();
+      List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> batch = new ArrayList<>();
+      long batchBytes = 0;
+      for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message: entry.getValue()) {
+        maybeUpdatePartitionToBootstrapMap(message, pubSubTopicPartition);
+        if (message.getKey().isControlMessage()) {
+          if (!batch.isEmpty()) {
+            decodeBatchQueue.submit(pubSubTopicPartition, batch, batchBytes);
+            batch = new ArrayList<>();
+            batchBytes = 0;
+          }
+          decodeBatchQueue.awaitAll();
+          ControlMessage controlMessage = (ControlMessage) message.getValue().getPayloadUnion();
+          if (handleControlMessage(
+              controlMessage,
+              pubSubTopicPartition,
+              topicSuffix,
+              message.getKey().getKey(),
+              message.getValue().getProducerMetadata().getMessageTimestamp())) {
+            break;
+          }
+          if (includeControlMessage) {
+            pubSubMessages.add(
+                new ImmutableChangeCapturePubSubMessage<>(
+                    null,
+                    null,
+                    message.getTopicPartition(),
+                    message.getOffset(),
+                    0,
+                    0,
+                    false));
+          }
+        } else {
+          batch.add(message);
+          batchBytes += message.getPayloadSize();
+          if (batchBytes >= maxBatchBytes) {
+            decodeBatchQueue.submit(pubSubTopicPartition, batch, batchBytes);
+            batch = new ArrayList<>();
+            batchBytes = 0;
+          }
+        }
+      }
+      if (!batch.isEmpty()) {
+        decodeBatchQueue.submit(pubSubTopicPartition, batch, batchBytes);
+      }
+    }
+    decodeBatchQueue.awaitAll();
+  }
+
+  private List<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> decodeBatch(
+      PubSubTopicPartition pubSubTopicPartition,
+      List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> batch) {
+    long decodeStartTimeInNS = System.nanoTime();
+    List<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> decodedMessages = new ArrayList<>(batch.size());
+    for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message: batch) {
+      convertPubSubMessageToPubSubChangeEventMessage(message, pubSubTopicPartition).ifPresent(decodedMessages::add);
+    }
+    if (changeCaptureStats != null) {
+      changeCaptureStats.recordDecodedBatch(
+          pubSubTopicPartition.getPartitionNumber(),
+          batch.size(),
+          LatencyUtils.getElapsedTimeFromNSToMS(decodeStartTimeInNS));
+    }
+    return decodedMessages;
+  }
+
+  /**
+   * The batches being decoded during a poll, in the order they were polled. Only accessed by the polling thread.
+   */
+  private class DecodeBatchQueue {
+    private final List<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> decodedMessages;
+    private final Deque<CompletableFuture<List<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>>>> batches =
+        new ArrayDeque<>();
+    private final Deque<Long> batchBytes = new ArrayDeque<>();
+    private long inFlightBytes = 0;
+
+    DecodeBatchQueue(List<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> decodedMessages) {
+      this.decodedMessages = decodedMessages;
+    }
+
+    void submit(
+        PubSubTopicPartition pubSubTopicPartition,
+        List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> batch,
+        long bytes) {
+      // The oldest batch is always allowed in, even if it is larger than the budget by itself.
+      while (!batches.isEmpty() && inFlightBytes + bytes > maxInFlightDecodeBytes) {
+        awaitOldest();
+      }
+      ExecutorService executor = decodeExecutors[pubSubTopicPartition.getPartitionNumber() % decodeExecutors.length];
+      batches.add(CompletableFuture.supplyAsync(() -> decodeBatch(pubSubTopicPartition, batch), executor));
+      batchBytes.add(bytes);
+      inFlightBytes += bytes;
+      if (changeCaptureStats != null) {
+        changeCaptureStats.recordDecodeInFlightBytes(inFlightBytes);
+      }
+    }
+
+    void awaitAll() {
+      while (!batches.isEmpty()) {
+        awaitOldest();
+      }
+    }
+
+    private void awaitOldest() {
+      CompletableFuture<List<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>>> batch = batches.poll();
+      inFlightBytes -= batchBytes.poll();
+      try {
+        decodedMessages.addAll(batch.join());
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw new VeniceException(e.getCause());
+      }
+    }
+  }
+
   void maybeUpdatePartitionToBootstrapMap(
       PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message,
       PubSubTopicPartition pubSubTopicPartition) {
@@ -932,6 +1100,11 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
   public void close() {
     this.unsubscribeAll();
     pubSubConsumer.close();
+    if (decodeExecutors != null) {
+      for (ExecutorService decodeExecutor: decodeExecutors) {
+        decodeExecutor.shutdownNow();
+      }
+    }
   }
 
   @VisibleForTesting
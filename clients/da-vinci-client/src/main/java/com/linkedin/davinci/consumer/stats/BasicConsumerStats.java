@@ -1,20 +1,30 @@
 package com.linkedin.davinci.consumer.stats;
 
 import com.linkedin.venice.stats.AbstractVeniceStats;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.tehuti.metrics.MetricsRepository;
 import io.tehuti.metrics.Sensor;
 import io.tehuti.metrics.stats.Avg;
 import io.tehuti.metrics.stats.Max;
+import io.tehuti.metrics.stats.Rate;
+import java.util.Map;
 
 
 public class BasicConsumerStats extends AbstractVeniceStats {
   private final Sensor maxLagSensor;
   private final Sensor recordsConsumed;
+  private final Sensor decodedRecordsSensor;
+  private final Sensor decodeBatchLatencySensor;
+  private final Sensor decodeInFlightBytesSensor;
+  private final Map<Integer, Sensor> partitionDecodedRecordsSensors = new VeniceConcurrentHashMap<>();
 
   public BasicConsumerStats(MetricsRepository metricsRepository, String name) {
     super(metricsRepository, name);
     maxLagSensor = registerSensor("max_partition_lag", new Max());
     recordsConsumed = registerSensor("records_consumed", new Avg(), new Max());
+    decodedRecordsSensor = registerSensor("decoded_records", new Rate());
+    decodeBatchLatencySensor = registerSensor("decode_batch_latency", new Avg(), new Max());
+    decodeInFlightBytesSensor = registerSensor("decode_in_flight_bytes", new Avg(), new Max());
   }
 
   public void recordLag(Long lag) {
@@ -24,4 +34,20 @@ public class BasicConsumerStats extends AbstractVeniceStats {
   public void recordRecordsConsumed(int count) {
     recordsConsumed.record(count);
   }
+
+  /**
+   * Record a batch of records of a partition decoded by a decoding thread, the rate of the per-partition sensor is the
+   * decode throughput of the partition.
+   */
+  public void recordDecodedBatch(int partition, int recordCount, double latencyMs) {
+    decodedRecordsSensor.record(recordCount);
+    partitionDecodedRecordsSensors
+        .computeIfAbsent(partition, p -> registerSensorIfAbsent("partition_" + p + "_decoded_records", new Rate()))
+        .record(recordCount);
+    decodeBatchLatencySensor.record(latencyMs);
+  }
+
+  public void recordDecodeInFlightBytes(long inFlightBytes) {
+    decodeInFlightBytesSensor.record(inFlightBytes);
+  }
 }
@@ -0,0 +1,80 @@
+package com.linkedin.davinci.ingestion;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
+import com.linkedin.venice.utils.Time;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * The transport of the {@link IngestionAction} requests between the main process and the forked ingestion process.
+ * Implementations only need to deliver a single request, the retries are handled here.
+ */
+public abstract class AbstractIngestionTransport implements AutoCloseable {
+  private static final Logger LOGGER = LogManager.getLogger(AbstractIngestionTransport.class);
+  private static final int DEFAULT_REQUEST_RETRY_WAIT_TIME_MS = 1 * Time.MS_PER_SECOND;
+  private static final int DEFAULT_REQUEST_RETRY_COUNT = 10;
+
+  private final int requestTimeoutInSeconds;
+
+  protected AbstractIngestionTransport(int requestTimeoutInSeconds) {
+    this.requestTimeoutInSeconds = requestTimeoutInSeconds;
+  }
+
+  /**
+   * Send a single request and wait for its response, without any retry.
+   */
+  public abstract <T extends SpecificRecordBase, S extends SpecificRecordBase> T sendRequest(
+      IngestionAction action,
+      S param,
+      int requestTimeoutInSeconds);
+
+  @Override
+  public abstract void close();
+
+  public <T extends SpecificRecordBase, S extends SpecificRecordBase> T sendRequest(IngestionAction action, S param) {
+    return sendRequestWithRetry(action, param, DEFAULT_REQUEST_RETRY_COUNT);
+  }
+
+  public <T extends SpecificRecordBase, S extends SpecificRecordBase> T sendRequestWithRetry(
+      IngestionAction action,
+      S param,
+      int maxAttempt) {
+    // Sanity check for maxAttempt argument.
+    if (maxAttempt <= 0) {
+      throw new IllegalArgumentException("maxAttempt must be a positive integer");
+    }
+    T result;
+    int retryCount = 0;
+    final long startTimeIsMs = System.currentTimeMillis();
+    while (true) {
+      try {
+        result = sendRequest(action, param, requestTimeoutInSeconds);
+        break;
+      } catch (VeniceException e) {
+        retryCount++;
+        if (retryCount != maxAttempt) {
+          LOGGER.warn(
+              "Encounter exception when sending request, will retry for {} / {} time.",
+              retryCount,
+              maxAttempt,
+              e);
+        } else {
+          long totalTimeInMs = System.currentTimeMillis() - startTimeIsMs;
+          throw new VeniceException(
+              "Failed to send request to remote forked process after " + maxAttempt
+                  + " attempts, total time spent in millis: " + totalTimeInMs,
+              e);
+        }
+      }
+      try {
+        Thread.sleep(DEFAULT_REQUEST_RETRY_WAIT_TIME_MS);
+      } catch (InterruptedException e) {
+        throw new VeniceException(e);
+      }
+    }
+    return result;
+  }
+}
@@ -21,17 +21,16 @@ import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.apache.http.util.EntityUtils;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 
 
-public class HttpClientTransport implements AutoCloseable {
-  private static final Logger LOGGER = LogManager.getLogger(HttpClientTransport.class);
+/**
+ * The transport of the requests between the main process and the forked ingestion process over HTTP, on the loopback
+ * interface of the host.
+ */
+public class HttpClientTransport extends AbstractIngestionTransport {
   private static final int DEFAULT_CONNECTION_TIMEOUT_MS = 30 * Time.MS_PER_SECOND;
   private static final int DEFAULT_SOCKET_TIMEOUT_MS = 30 * Time.MS_PER_SECOND;
-  private static final int DEFAULT_REQUEST_RETRY_WAIT_TIME_MS = 1 * Time.MS_PER_SECOND;
 
-  private static final int DEFAULT_REQUEST_RETRY_COUNT = 10;
   private static final int DEFAULT_MAX_CONNECTION_PER_ROUTE = 2;
   private static final int DEFAULT_MAX_CONNECTION_TOTAL = 10;
   private static final int DEFAULT_IDLE_CONNECTION_CLEANUP_THRESHOLD_IN_MINUTES = 3 * Time.MINUTES_PER_HOUR;
@@ -41,11 +40,10 @@ public class HttpClientTransport implements AutoCloseable {
 
   private final CloseableHttpAsyncClient httpClient;
   private final String forkedProcessRequestUrl;
-  private final int requestTimeoutInSeconds;
 
   public HttpClientTransport(Optional<SSLFactory> sslFactory, int port, int requestTimeoutInSeconds) {
+    super(requestTimeoutInSeconds);
     this.forkedProcessRequestUrl = (sslFactory.isPresent() ? HTTPS : HTTP) + "://" + Utils.getHostName() + ":" + port;
-    this.requestTimeoutInSeconds = requestTimeoutInSeconds;
     this.httpClient =
         HttpClientUtils
             .getMinimalHttpClientWithConnManager(
@@ -72,6 +70,7 @@ public class HttpClientTransport implements AutoCloseable {
    * This method shoves the POST string query params into the URL so the body will only contain the byte array data
    * to make processing/deserializing easier. Please make sure the query params doesn't exceed the URL limit of 2048 chars.
    */
+  @Override
   public <T extends SpecificRecordBase, S extends SpecificRecordBase> T sendRequest(
       IngestionAction action,
       S param,
@@ -114,48 +113,4 @@ public class HttpClientTransport implements AutoCloseable {
     }
     return deserializeIngestionActionResponse(action, responseContent);
   }
-
-  public <T extends SpecificRecordBase, S extends SpecificRecordBase> T sendRequest(IngestionAction action, S param) {
-    return sendRequestWithRetry(action, param, DEFAULT_REQUEST_RETRY_COUNT);
-  }
-
-  public <T extends SpecificRecordBase, S extends SpecificRecordBase> T sendRequestWithRetry(
-      IngestionAction action,
-      S param,
-      int maxAttempt) {
-    // Sanity check for maxAttempt argument.
-    if (maxAttempt <= 0) {
-      throw new IllegalArgumentException("maxAttempt must be a positive integer");
-    }
-    T result;
-    int retryCount = 0;
-    final long startTimeIsMs = System.currentTimeMillis();
-    while (true) {
-      try {
-        result = sendRequest(action, param, requestTimeoutInSeconds);
-        break;
-      } catch (VeniceException e) {
-        retryCount++;
-        if (retryCount != maxAttempt) {
-          LOGGER.warn(
-              "Encounter exception when sending request, will retry for {} / {} time.",
-              retryCount,
-              maxAttempt,
-              e);
-        } else {
-          long totalTimeInMs = System.currentTimeMillis() - startTimeIsMs;
-          throw new VeniceException(
-              "Failed to send request to remote forked process after " + maxAttempt
-                  + " attempts, total time spent in millis: " + totalTimeInMs,
-              e);
-        }
-      }
-      try {
-        Thread.sleep(DEFAULT_REQUEST_RETRY_WAIT_TIME_MS);
-      } catch (InterruptedException e) {
-        throw new VeniceException(e);
-      }
-    }
-    return result;
-  }
 }
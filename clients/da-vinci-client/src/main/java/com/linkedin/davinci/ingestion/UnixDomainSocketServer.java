@@ -0,0 +1,64 @@
+package com.linkedin.davinci.ingestion;
+
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Serves the requests of {@link UnixDomainSocketTransport} on a Unix domain socket, in addition to the TCP port of the
+ * main process or of the forked ingestion process. The socket file is only accessible to its owner.
+ */
+public class UnixDomainSocketServer implements AutoCloseable {
+  private static final Logger LOGGER = LogManager.getLogger(UnixDomainSocketServer.class);
+
+  private final Path socketPath;
+  private final EventLoopGroup bossGroup;
+  private final EventLoopGroup workerGroup;
+  private Channel serverChannel;
+
+  public UnixDomainSocketServer(String socketPath) {
+    this.socketPath = Paths.get(socketPath);
+    this.bossGroup = new EpollEventLoopGroup(1, new DaemonThreadFactory("IngestionUnixDomainSocketBoss"));
+    this.workerGroup = new EpollEventLoopGroup(2, new DaemonThreadFactory("IngestionUnixDomainSocketWorker"));
+  }
+
+  public void start(ChannelInitializer<Channel> channelInitializer) throws IOException, InterruptedException {
+    // The socket file left behind by a previous process would prevent binding.
+    Files.deleteIfExists(socketPath);
+    serverChannel = new ServerBootstrap().group(bossGroup, workerGroup)
+        .channel(EpollServerDomainSocketChannel.class)
+        .childHandler(channelInitializer)
+        .bind(new DomainSocketAddress(socketPath.toString()))
+        .sync()
+        .channel();
+    Files.setPosixFilePermissions(socketPath, PosixFilePermissions.fromString("rw-------"));
+    LOGGER.info("Listening on Unix domain socket: {}", socketPath);
+  }
+
+  @Override
+  public void close() {
+    if (serverChannel != null) {
+      serverChannel.close().syncUninterruptibly();
+    }
+    workerGroup.shutdownGracefully();
+    bossGroup.shutdownGracefully();
+    try {
+      Files.deleteIfExists(socketPath);
+    } catch (IOException e) {
+      LOGGER.warn("Unable to delete Unix domain socket: {}", socketPath, e);
+    }
+  }
+}
@@ -0,0 +1,206 @@
+package com.linkedin.davinci.ingestion;
+
+import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.deserializeIngestionActionResponse;
+import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.serializeIngestionActionRequest;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.exceptions.VeniceHttpException;
+import com.linkedin.venice.exceptions.VeniceTimeoutException;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.pool.AbstractChannelPoolHandler;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.channel.pool.FixedChannelPool;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.avro.specific.SpecificRecordBase;
+
+
+/**
+ * The transport of the requests between the main process and the forked ingestion process over a Unix domain socket,
+ * which skips the TCP stack of the loopback interface. The requests are the same HTTP requests as the ones of
+ * {@link HttpClientTransport}, so both processes serve them with the same handlers, but they are sent over a small pool
+ * of persistent connections, one request at a time per connection.
+ *
+ * The socket is only accessible to the user running both processes, so no SSL is involved.
+ */
+public class UnixDomainSocketTransport extends AbstractIngestionTransport {
+  private static final AttributeKey<CompletableFuture<Response>> RESPONSE_FUTURE =
+      AttributeKey.valueOf("ingestionResponseFuture");
+  // Same limit as the servers, since the initial metric report is fairly large.
+  private static final int MAX_CONTENT_LENGTH = 1024 * 1024 * 100;
+  private static final int MAX_CONNECTION_COUNT = 10;
+
+  private final String socketPath;
+  private final EventLoopGroup eventLoopGroup;
+  private final ChannelPool channelPool;
+
+  public UnixDomainSocketTransport(String socketPath, int requestTimeoutInSeconds) {
+    super(requestTimeoutInSeconds);
+    this.socketPath = socketPath;
+    this.eventLoopGroup = new EpollEventLoopGroup(1, new DaemonThreadFactory("IngestionUnixDomainSocketTransport"));
+    Bootstrap bootstrap = new Bootstrap().group(eventLoopGroup)
+        .channel(EpollDomainSocketChannel.class)
+        .remoteAddress(new DomainSocketAddress(socketPath));
+    this.channelPool = new FixedChannelPool(bootstrap, new AbstractChannelPoolHandler() {
+      @Override
+      public void channelCreated(Channel ch) {
+        ch.pipeline()
+            .addLast(new HttpClientCodec())
+            .addLast(new HttpObjectAggregator(MAX_CONTENT_LENGTH))
+            .addLast(new ResponseHandler());
+      }
+    }, MAX_CONNECTION_COUNT);
+  }
+
+  @Override
+  public <T extends SpecificRecordBase, S extends SpecificRecordBase> T sendRequest(
+      IngestionAction action,
+      S param,
+      int requestTimeoutInSeconds) {
+    byte[] requestPayload;
+    try {
+      requestPayload = serializeIngestionActionRequest(action, param);
+    } catch (Exception e) {
+      throw new VeniceException("Unable to encode the provided byte array data", e);
+    }
+    long deadlineNs = System.nanoTime() + TimeUnit.SECONDS.toNanos(requestTimeoutInSeconds);
+    Channel channel = acquireChannel(requestTimeoutInSeconds);
+
+    FullHttpRequest request = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "/" + action.toString(),
+        Unpooled.wrappedBuffer(requestPayload));
+    request.headers().set(HttpHeaderNames.CONTENT_LENGTH, requestPayload.length);
+    CompletableFuture<Response> responseFuture = new CompletableFuture<>();
+    channel.attr(RESPONSE_FUTURE).set(responseFuture);
+    boolean isChannelReusable = false;
+    Response response;
+    try {
+      channel.writeAndFlush(request).addListener(writeFuture -> {
+        if (!writeFuture.isSuccess()) {
+          responseFuture.completeExceptionally(writeFuture.cause());
+        }
+      });
+      response = responseFuture.get(deadlineNs - System.nanoTime(), TimeUnit.NANOSECONDS);
+      isChannelReusable = true;
+    } catch (TimeoutException e) {
+      throw new VeniceTimeoutException(
+          "Unable to finish isolated ingestion request in given " + requestTimeoutInSeconds + " s.",
+          e);
+    } catch (InterruptedException e) {
+      // Keep the interruption flag.
+      Thread.currentThread().interrupt();
+      throw new VeniceException("Isolated ingestion request was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new VeniceException("Encounter exception when submitting isolated ingestion request", e.getCause());
+    } finally {
+      channel.attr(RESPONSE_FUTURE).set(null);
+      if (!isChannelReusable) {
+        // The response might still come later, and must not be taken for the response of the next request.
+        channel.close();
+      }
+      channelPool.release(channel);
+    }
+
+    if (response.statusCode != HttpResponseStatus.OK.code()) {
+      throw new VeniceHttpException(response.statusCode, "Isolated ingestion server returned unexpected status");
+    }
+    return deserializeIngestionActionResponse(action, response.content);
+  }
+
+  private Channel acquireChannel(int requestTimeoutInSeconds) {
+    Future<Channel> acquireFuture = channelPool.acquire();
+    try {
+      if (!acquireFuture.await(requestTimeoutInSeconds, TimeUnit.SECONDS)) {
+        // Give the channel back to the pool if it eventually gets acquired.
+        acquireFuture.addListener(future -> {
+          if (future.isSuccess()) {
+            channelPool.release((Channel) future.getNow());
+          }
+        });
+        throw new VeniceTimeoutException(
+            "Unable to connect to isolated ingestion socket: " + socketPath + " in given " + requestTimeoutInSeconds
+                + " s.");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new VeniceException("Isolated ingestion request was interrupted", e);
+    }
+    if (!acquireFuture.isSuccess()) {
+      throw new VeniceException("Unable to connect to isolated ingestion socket: " + socketPath, acquireFuture.cause());
+    }
+    return acquireFuture.getNow();
+  }
+
+  @Override
+  public void close() {
+    channelPool.close();
+    eventLoopGroup.shutdownGracefully();
+  }
+
+  private static class Response {
+    private final int statusCode;
+    private final byte[] content;
+
+    Response(int statusCode, byte[] content) {
+      this.statusCode = statusCode;
+      this.content = content;
+    }
+  }
+
+  private static class ResponseHandler extends SimpleChannelInboundHandler<FullHttpResponse> {
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse msg) {
+      CompletableFuture<Response> responseFuture = ctx.channel().attr(RESPONSE_FUTURE).getAndSet(null);
+      if (responseFuture == null) {
+        // The request already timed out.
+        return;
+      }
+      byte[] content = new byte[msg.content().readableBytes()];
+      msg.content().readBytes(content);
+      responseFuture.complete(new Response(msg.status().code(), content));
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+      CompletableFuture<Response> responseFuture = ctx.channel().attr(RESPONSE_FUTURE).getAndSet(null);
+      if (responseFuture != null) {
+        responseFuture.completeExceptionally(new VeniceException("Isolated ingestion connection got closed"));
+      }
+      super.channelInactive(ctx);
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+      CompletableFuture<Response> responseFuture = ctx.channel().attr(RESPONSE_FUTURE).getAndSet(null);
+      if (responseFuture != null) {
+        responseFuture.completeExceptionally(cause);
+      }
+      ctx.close();
+    }
+  }
+}
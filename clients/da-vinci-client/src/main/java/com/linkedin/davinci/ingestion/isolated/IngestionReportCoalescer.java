@@ -0,0 +1,88 @@
+package com.linkedin.davinci.ingestion.isolated;
+
+import com.linkedin.venice.ingestion.protocol.IngestionTaskReport;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionReportType;
+import com.linkedin.venice.utils.Utils;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+
+/**
+ * Coalesces the PROGRESS reports of a partition which are waiting for delivery to the main process: a PROGRESS report
+ * only carries the latest offset of the partition, so when the reports pile up behind a slow one, only the latest
+ * PROGRESS report of the partition is delivered, in place of the first one.
+ *
+ * Any other report of the partition seals its pending PROGRESS report, and the PROGRESS reports which follow are
+ * delivered after it, so that the reports of a partition keep their order.
+ */
+class IngestionReportCoalescer {
+  private final Executor reportingExecutor;
+  private final Consumer<IngestionTaskReport> reportSender;
+  // Guarded by this
+  private final Map<String, PendingReport> pendingProgressReports = new HashMap<>();
+  private final AtomicLong coalescedReportCount = new AtomicLong();
+
+  /**
+   * @param reportingExecutor the single thread executor delivering the reports in order
+   * @param reportSender delivers a report to the main process
+   */
+  IngestionReportCoalescer(Executor reportingExecutor, Consumer<IngestionTaskReport> reportSender) {
+    this.reportingExecutor = reportingExecutor;
+    this.reportSender = reportSender;
+  }
+
+  /**
+   * Deliver the given report, unless it is a PROGRESS report superseding one which is still pending.
+   */
+  void report(IngestionTaskReport report) {
+    if (IngestionReportType.valueOf(report.reportType) != IngestionReportType.PROGRESS) {
+      seal(report);
+      reportingExecutor.execute(() -> reportSender.accept(report));
+      return;
+    }
+    String replicaId = Utils.getReplicaId(report.topicName.toString(), report.partitionId);
+    PendingReport pendingReport;
+    synchronized (this) {
+      pendingReport = pendingProgressReports.get(replicaId);
+      if (pendingReport != null) {
+        pendingReport.report = report;
+        coalescedReportCount.incrementAndGet();
+        return;
+      }
+      pendingReport = new PendingReport(report);
+      pendingProgressReports.put(replicaId, pendingReport);
+    }
+    PendingReport reportToDeliver = pendingReport;
+    reportingExecutor.execute(() -> {
+      IngestionTaskReport latestReport;
+      synchronized (this) {
+        pendingProgressReports.remove(replicaId, reportToDeliver);
+        latestReport = reportToDeliver.report;
+      }
+      reportSender.accept(latestReport);
+    });
+  }
+
+  /**
+   * Make sure that the PROGRESS reports received after the given report of the same partition are delivered after it.
+   * Needed for the reports which are delivered by other means than {@link #report(IngestionTaskReport)}.
+   */
+  synchronized void seal(IngestionTaskReport report) {
+    pendingProgressReports.remove(Utils.getReplicaId(report.topicName.toString(), report.partitionId));
+  }
+
+  long getCoalescedReportCount() {
+    return coalescedReportCount.get();
+  }
+
+  private static class PendingReport {
+    private IngestionTaskReport report;
+
+    PendingReport(IngestionTaskReport report) {
+      this.report = report;
+    }
+  }
+}
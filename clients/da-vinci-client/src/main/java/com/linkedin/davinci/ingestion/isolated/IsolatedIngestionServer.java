@@ -15,6 +15,7 @@ import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.ingestion.DefaultIngestionBackend;
 import com.linkedin.davinci.ingestion.IsolatedIngestionBackend;
+import com.linkedin.davinci.ingestion.UnixDomainSocketServer;
 import com.linkedin.davinci.ingestion.main.MainIngestionMonitorService;
 import com.linkedin.davinci.ingestion.main.MainIngestionRequestClient;
 import com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils;
@@ -22,6 +23,7 @@ import com.linkedin.davinci.kafka.consumer.KafkaStoreIngestionService;
 import com.linkedin.davinci.kafka.consumer.RemoteIngestionRepairService;
 import com.linkedin.davinci.repository.VeniceMetadataRepositoryBuilder;
 import com.linkedin.davinci.stats.AggVersionedStorageEngineStats;
+import com.linkedin.davinci.stats.IsolatedIngestionReportStats;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.storage.StorageEngineMetadataService;
 import com.linkedin.davinci.storage.StorageMetadataService;
@@ -148,6 +150,8 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
   private int stopConsumptionTimeoutInSeconds;
   private DefaultIngestionBackend ingestionBackend;
   private final RemoteIngestionRepairService repairService;
+  private final IngestionReportCoalescer reportCoalescer;
+  private UnixDomainSocketServer unixDomainSocketServer;
 
   private LeakedResourceCleaner leakedResourceCleaner;
 
@@ -177,6 +181,11 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
             .getInt(
                 SERVER_REMOTE_INGESTION_REPAIR_SLEEP_INTERVAL_SECONDS,
                 RemoteIngestionRepairService.DEFAULT_REPAIR_THREAD_SLEEP_INTERVAL_SECONDS));
+    reportCoalescer = serverConfig.isIngestionReportCoalescingEnabled()
+        ? new IngestionReportCoalescer(
+            statusReportingExecutor,
+            report -> getReportClient().reportIngestionStatus(report))
+        : null;
     bootstrap.group(bossGroup, workerGroup)
         .channel(serverSocketChannelClass)
         .childHandler(new IsolatedIngestionServerChannelInitializer(this))
@@ -188,6 +197,16 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
 
   @Override
   public boolean startInner() {
+    if (IsolatedIngestionUtils.isUnixDomainSocketEnabled(serverConfig)) {
+      // Bound before the TCP port, since the main process starts sending requests once the TCP port is bound.
+      unixDomainSocketServer =
+          new UnixDomainSocketServer(IsolatedIngestionUtils.getUnixDomainSocketPath(serverConfig, servicePort));
+      try {
+        unixDomainSocketServer.start(new IsolatedIngestionServerChannelInitializer(this));
+      } catch (Exception e) {
+        throw new VeniceException("Ingestion Service is unable to bind to its Unix domain socket", e);
+      }
+    }
     int maxAttempt = 100;
     long waitTime = 500;
     int retryCount = 0;
@@ -219,6 +238,9 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
 
   @Override
   public void stopInner() throws Exception {
+    if (unixDomainSocketServer != null) {
+      unixDomainSocketServer.close();
+    }
     ChannelFuture shutdown = serverFuture.channel().closeFuture();
     workerGroup.shutdownGracefully();
     bossGroup.shutdownGracefully();
@@ -375,7 +397,12 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
             report.message);
       }
 
+      if (reportCoalescer != null) {
+        reportCoalescer.seal(report);
+      }
       stopConsumptionAndReport(report);
+    } else if (reportCoalescer != null) {
+      reportCoalescer.report(report);
     } else {
       statusReportingExecutor.execute(() -> reportClient.reportIngestionStatus(report));
     }
@@ -593,6 +620,9 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
 
     // Create MetricsRepository
     metricsRepository = MetricsRepositoryUtils.createMultiThreadedMetricsRepository();
+    if (reportCoalescer != null) {
+      new IsolatedIngestionReportStats(metricsRepository, reportCoalescer::getCoalescedReportCount);
+    }
 
     // Initialize store/schema repositories.
     VeniceMetadataRepositoryBuilder veniceMetadataRepositoryBuilder =
@@ -5,15 +5,16 @@ import com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils;
 import com.linkedin.venice.listener.VerifySslHandler;
 import com.linkedin.venice.security.SSLFactory;
 import com.linkedin.venice.utils.SslUtils;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
-import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.unix.DomainSocketChannel;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpRequestDecoder;
 import io.netty.handler.codec.http.HttpResponseEncoder;
 import java.util.Optional;
 
 
-public class IsolatedIngestionServerChannelInitializer extends ChannelInitializer<SocketChannel> {
+public class IsolatedIngestionServerChannelInitializer extends ChannelInitializer<Channel> {
   private final IsolatedIngestionServer isolatedIngestionServer;
   private final Optional<SSLFactory> sslFactory;
   private final Optional<IsolatedIngestionServerAclHandler> aclHandler;
@@ -26,9 +27,11 @@ public class IsolatedIngestionServerChannelInitializer extends ChannelInitialize
   }
 
   @Override
-  protected void initChannel(SocketChannel ch) {
+  protected void initChannel(Channel ch) {
+    // The Unix domain socket is only accessible to the user running both processes.
+    Optional<SSLFactory> sslFactory = ch instanceof DomainSocketChannel ? Optional.empty() : this.sslFactory;
     sslFactory.ifPresent(
-        sslFactory -> ch.pipeline().addLast(new SslInitializer(SslUtils.toAlpiniSSLFactory(sslFactory), false)));
+        factory -> ch.pipeline().addLast(new SslInitializer(SslUtils.toAlpiniSSLFactory(factory), false)));
     ch.pipeline().addLast(new HttpRequestDecoder());
     // Set the maximum allowed request size to 100MB as the initial metric report size is fairly large.
     ch.pipeline().addLast(new HttpObjectAggregator(1024 * 1024 * 100));
@@ -5,6 +5,7 @@ import static java.lang.Thread.currentThread;
 
 import com.linkedin.davinci.config.VeniceConfigLoader;
 import com.linkedin.davinci.ingestion.IsolatedIngestionBackend;
+import com.linkedin.davinci.ingestion.UnixDomainSocketServer;
 import com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils;
 import com.linkedin.davinci.kafka.consumer.KafkaStoreIngestionService;
 import com.linkedin.davinci.notifier.VeniceNotifier;
@@ -24,6 +25,7 @@ import io.tehuti.metrics.MetricsRepository;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -69,6 +71,7 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
    */
   private long connectionTimeoutMs;
   private volatile long latestHeartbeatTimestamp = -1;
+  private UnixDomainSocketServer unixDomainSocketServer;
 
   public MainIngestionMonitorService(IsolatedIngestionBackend ingestionBackend, VeniceConfigLoader configLoader) {
     this.configLoader = configLoader;
@@ -94,6 +97,11 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
   @Override
   public boolean startInner() throws Exception {
     int applicationPort = configLoader.getVeniceServerConfig().getIngestionApplicationPort();
+    if (IsolatedIngestionUtils.isUnixDomainSocketEnabled(configLoader.getVeniceServerConfig())) {
+      unixDomainSocketServer = new UnixDomainSocketServer(
+          IsolatedIngestionUtils.getUnixDomainSocketPath(configLoader.getVeniceServerConfig(), applicationPort));
+      unixDomainSocketServer.start(new MainIngestionReportChannelInitializer(this, Optional.empty()));
+    }
     serverFuture = bootstrap.bind(applicationPort).sync();
     LOGGER.info("Report listener service started on port: {}", applicationPort);
     connectionTimeoutMs =
@@ -111,6 +119,9 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
     shutdownScheduler(longRunningTaskExecutor, "Long running task");
     heartbeatClient.close();
 
+    if (unixDomainSocketServer != null) {
+      unixDomainSocketServer.close();
+    }
     ChannelFuture shutdown = serverFuture.channel().closeFuture();
     workerGroup.shutdownGracefully();
     bossGroup.shutdownGracefully();
@@ -4,15 +4,16 @@ import com.linkedin.alpini.netty4.ssl.SslInitializer;
 import com.linkedin.venice.listener.VerifySslHandler;
 import com.linkedin.venice.security.SSLFactory;
 import com.linkedin.venice.utils.SslUtils;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
-import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.unix.DomainSocketChannel;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpRequestDecoder;
 import io.netty.handler.codec.http.HttpResponseEncoder;
 import java.util.Optional;
 
 
-public class MainIngestionReportChannelInitializer extends ChannelInitializer<SocketChannel> {
+public class MainIngestionReportChannelInitializer extends ChannelInitializer<Channel> {
   private final MainIngestionMonitorService mainIngestionMonitorService;
   private final Optional<SSLFactory> sslFactory;
   private final VerifySslHandler verifySslHandler = new VerifySslHandler();
@@ -25,9 +26,11 @@ public class MainIngestionReportChannelInitializer extends ChannelInitializer<So
   }
 
   @Override
-  protected void initChannel(SocketChannel ch) {
+  protected void initChannel(Channel ch) {
+    // The Unix domain socket is only accessible to the user running both processes.
+    Optional<SSLFactory> sslFactory = ch instanceof DomainSocketChannel ? Optional.empty() : this.sslFactory;
     sslFactory.ifPresent(
-        sslFactory -> ch.pipeline().addLast(new SslInitializer(SslUtils.toAlpiniSSLFactory(sslFactory), false)));
+        factory -> ch.pipeline().addLast(new SslInitializer(SslUtils.toAlpiniSSLFactory(factory), false)));
     ch.pipeline().addLast(new HttpRequestDecoder());
     ch.pipeline().addLast(new HttpObjectAggregator(1024 * 1024 * 100));
     ch.pipeline().addLast(new HttpResponseEncoder());
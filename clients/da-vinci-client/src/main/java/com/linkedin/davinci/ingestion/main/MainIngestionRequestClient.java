@@ -8,7 +8,7 @@ import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_REQUEST_
 import static com.linkedin.venice.ingestion.protocol.enums.IngestionCommandType.START_CONSUMPTION;
 
 import com.linkedin.davinci.config.VeniceConfigLoader;
-import com.linkedin.davinci.ingestion.HttpClientTransport;
+import com.linkedin.davinci.ingestion.AbstractIngestionTransport;
 import com.linkedin.davinci.ingestion.isolated.IsolatedIngestionServer;
 import com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils;
 import com.linkedin.venice.exceptions.VeniceException;
@@ -21,7 +21,6 @@ import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
 import com.linkedin.venice.ingestion.protocol.enums.IngestionCommandType;
 import com.linkedin.venice.ingestion.protocol.enums.IngestionComponentType;
 import com.linkedin.venice.meta.IngestionMetadataUpdateType;
-import com.linkedin.venice.security.SSLFactory;
 import com.linkedin.venice.utils.ForkedJavaProcess;
 import com.linkedin.venice.utils.Utils;
 import java.io.Closeable;
@@ -39,17 +38,16 @@ public class MainIngestionRequestClient implements Closeable {
   private static final Logger LOGGER = LogManager.getLogger(MainIngestionRequestClient.class);
 
   private static final int REQUEST_MAX_ATTEMPT = 10;
-  private HttpClientTransport httpClientTransport;
+  private AbstractIngestionTransport ingestionTransport;
   private final int heartbeatRequestTimeoutSeconds;
 
   public MainIngestionRequestClient(VeniceConfigLoader configLoader) {
     heartbeatRequestTimeoutSeconds =
         configLoader.getCombinedProperties().getInt(SERVER_INGESTION_ISOLATION_HEARTBEAT_REQUEST_TIMEOUT_SECONDS, 5);
-    Optional<SSLFactory> sslFactory = IsolatedIngestionUtils.getSSLFactory(configLoader);
     int port = configLoader.getVeniceServerConfig().getIngestionServicePort();
     int requestTimeoutInSeconds =
         configLoader.getCombinedProperties().getInt(SERVER_INGESTION_ISOLATION_REQUEST_TIMEOUT_SECONDS, 120);
-    httpClientTransport = new HttpClientTransport(sslFactory, port, requestTimeoutInSeconds);
+    ingestionTransport = IsolatedIngestionUtils.createIngestionTransport(configLoader, port, requestTimeoutInSeconds);
   }
 
   public synchronized Process startForkedIngestionProcess(VeniceConfigLoader configLoader) {
@@ -179,7 +177,7 @@ public class MainIngestionRequestClient implements Closeable {
               + IngestionMetadataUpdateType.valueOf(ingestionStorageMetadata.metadataUpdateType) + " for topic: "
               + ingestionStorageMetadata.topicName + " partition: " + ingestionStorageMetadata.partitionId);
       IngestionTaskReport report =
-          httpClientTransport.sendRequest(IngestionAction.UPDATE_METADATA, ingestionStorageMetadata);
+          ingestionTransport.sendRequest(IngestionAction.UPDATE_METADATA, ingestionStorageMetadata);
       return report.isPositive;
     } catch (Exception e) {
       /**
@@ -199,7 +197,7 @@ public class MainIngestionRequestClient implements Closeable {
     processShutdownCommand.componentType = ingestionComponentType.getValue();
     LOGGER.info("Sending shutdown component request to forked process for component: " + ingestionComponentType.name());
     try {
-      httpClientTransport.sendRequest(IngestionAction.SHUTDOWN_COMPONENT, processShutdownCommand);
+      ingestionTransport.sendRequest(IngestionAction.SHUTDOWN_COMPONENT, processShutdownCommand);
     } catch (Exception e) {
       LOGGER.warn("Encounter exception when shutting down component: " + ingestionComponentType.name());
     }
@@ -207,7 +205,7 @@ public class MainIngestionRequestClient implements Closeable {
 
   public boolean sendHeartbeatRequest() {
     try {
-      httpClientTransport.sendRequest(IngestionAction.HEARTBEAT, getDummyCommand(), heartbeatRequestTimeoutSeconds);
+      ingestionTransport.sendRequest(IngestionAction.HEARTBEAT, getDummyCommand(), heartbeatRequestTimeoutSeconds);
       return true;
     } catch (Exception e) {
       // Don't spam the server logging.
@@ -217,17 +215,17 @@ public class MainIngestionRequestClient implements Closeable {
   }
 
   public LoadedStoreUserPartitionMapping getLoadedStoreUserPartitionMapping() {
-    return httpClientTransport.sendRequest(IngestionAction.GET_LOADED_STORE_USER_PARTITION_MAPPING, getDummyCommand());
+    return ingestionTransport.sendRequest(IngestionAction.GET_LOADED_STORE_USER_PARTITION_MAPPING, getDummyCommand());
   }
 
   @Override
   public void close() {
-    httpClientTransport.close();
+    ingestionTransport.close();
   }
 
   // Visible for testing
-  protected void setHttpClientTransport(HttpClientTransport clientTransport) {
-    this.httpClientTransport = clientTransport;
+  protected void setIngestionTransport(AbstractIngestionTransport clientTransport) {
+    this.ingestionTransport = clientTransport;
   }
 
   private boolean sendIngestionCommandWithRetry(
@@ -241,7 +239,7 @@ public class MainIngestionRequestClient implements Closeable {
     LOGGER.info("Sending request: " + commandType + " to forked process" + commandInfo);
     IngestionTaskReport report;
     try {
-      report = httpClientTransport.sendRequestWithRetry(IngestionAction.COMMAND, command, requestMaxAttempt);
+      report = ingestionTransport.sendRequestWithRetry(IngestionAction.COMMAND, command, requestMaxAttempt);
     } catch (Exception e) {
       throw new VeniceException("Caught exception when sending command: " + commandType + commandInfo, e);
     }
@@ -18,6 +18,10 @@ import static com.linkedin.venice.ingestion.protocol.enums.IngestionAction.SHUTD
 import static com.linkedin.venice.ingestion.protocol.enums.IngestionAction.UPDATE_METADATA;
 
 import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.ingestion.AbstractIngestionTransport;
+import com.linkedin.davinci.ingestion.HttpClientTransport;
+import com.linkedin.davinci.ingestion.UnixDomainSocketTransport;
 import com.linkedin.davinci.ingestion.isolated.IsolatedIngestionServer;
 import com.linkedin.davinci.ingestion.isolated.IsolatedIngestionServerAclHandler;
 import com.linkedin.venice.authorization.DefaultIdentityParser;
@@ -51,6 +55,7 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
@@ -525,6 +530,46 @@ public class IsolatedIngestionUtils {
     }
   }
 
+  /**
+   * @return true if the main process and the forked ingestion process should talk over Unix domain sockets. Both
+   * processes run on the same host with the same configs, so they always come to the same conclusion.
+   */
+  public static boolean isUnixDomainSocketEnabled(VeniceServerConfig serverConfig) {
+    if (!serverConfig.isIngestionUnixDomainSocketEnabled()) {
+      return false;
+    }
+    if (!Epoll.isAvailable()) {
+      LOGGER.warn(
+          "Unix domain sockets are enabled for isolated ingestion, but epoll is not available, will use TCP instead",
+          Epoll.unavailabilityCause());
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * @return the path of the Unix domain socket served along with the given TCP port.
+   */
+  public static String getUnixDomainSocketPath(VeniceServerConfig serverConfig, int port) {
+    return Paths.get(serverConfig.getIngestionUnixDomainSocketDir(), "venice_ingestion_" + port + ".sock")
+        .toAbsolutePath()
+        .toString();
+  }
+
+  /**
+   * Create the transport of the requests to the process serving the given port.
+   */
+  public static AbstractIngestionTransport createIngestionTransport(
+      VeniceConfigLoader configLoader,
+      int port,
+      int requestTimeoutInSeconds) {
+    VeniceServerConfig serverConfig = configLoader.getVeniceServerConfig();
+    if (isUnixDomainSocketEnabled(serverConfig)) {
+      return new UnixDomainSocketTransport(getUnixDomainSocketPath(serverConfig, port), requestTimeoutInSeconds);
+    }
+    return new HttpClientTransport(getSSLFactory(configLoader), port, requestTimeoutInSeconds);
+  }
+
   /**
    * Create SSLFactory for D2Client in ClientConfig, which will be used by different ingestion components.
    */
@@ -0,0 +1,179 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.stats.HostLevelIngestionStats;
+import com.linkedin.davinci.store.AbstractStoragePartition;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * {@code CompactionAwareIngestionThrottler} backs off the consumption of a store version before RocksDB stalls the
+ * writes of its partitions, so that an ingestion surge doesn't pile up L0 files and pending compactions until the
+ * writes stall, and the read latency of the host with them.
+ *
+ * It is a control loop driven by {@link StoreIngestionTask}. Every interval, it samples the write stall pressure of
+ * the partitions of the store version, see {@link AbstractStoragePartition#getWriteStallPressure()}, and adjusts the
+ * number of records the store version can consume per interval, with additive increase and multiplicative decrease:
+ * 1. Above the back off pressure, the limit is halved, starting from the records consumed in the last interval.
+ * 2. Below the recovery pressure, the limit grows by a tenth of the consumption before the first back off, and the
+ *    store version isn't limited anymore once the limit gets back to it.
+ * 3. In between, the limit is kept.
+ *
+ * The consumers are shared by many store versions, so blocking the consumer of a store version would throttle the
+ * others too. Instead, a partition gets paused once the store version consumed all its allowed records of the current
+ * interval, and resumed at the next interval, the same way as {@link StorageUtilizationManager} enforces the storage
+ * quota.
+ */
+public class CompactionAwareIngestionThrottler {
+  private static final Logger LOGGER = LogManager.getLogger(CompactionAwareIngestionThrottler.class);
+  private static final long UNLIMITED = -1;
+  private static final int RECOVERY_STEP_COUNT = 10;
+
+  private final String versionTopic;
+  private final DoubleSupplier writeStallPressureSupplier;
+  private final HostLevelIngestionStats stats;
+  private final TopicPartitionConsumerFunction pausePartition;
+  private final TopicPartitionConsumerFunction resumePartition;
+  private final Time time;
+  private final long intervalMs;
+  private final double backOffPressure;
+  private final double recoveryPressure;
+  private final long minRecordsPerInterval;
+  /**
+   * The paused partitions, and the topic each of them was paused on.
+   */
+  private final Map<Integer, String> pausedPartitions = new VeniceConcurrentHashMap<>();
+  private final AtomicLong consumedRecordCount = new AtomicLong();
+
+  private volatile long allowedRecordsPerInterval = UNLIMITED;
+  /**
+   * The records consumed in the interval before the first back off, which the limit recovers to.
+   */
+  private long unthrottledRecordsPerInterval;
+  private long intervalStartMs;
+
+  public CompactionAwareIngestionThrottler(
+      VeniceServerConfig serverConfig,
+      String versionTopic,
+      DoubleSupplier writeStallPressureSupplier,
+      HostLevelIngestionStats stats,
+      TopicPartitionConsumerFunction pausePartition,
+      TopicPartitionConsumerFunction resumePartition,
+      Time time) {
+    this.versionTopic = versionTopic;
+    this.writeStallPressureSupplier = writeStallPressureSupplier;
+    this.stats = stats;
+    this.pausePartition = pausePartition;
+    this.resumePartition = resumePartition;
+    this.time = time;
+    this.intervalMs = serverConfig.getCompactionAwareIngestionThrottlingIntervalMs();
+    this.backOffPressure = serverConfig.getCompactionAwareIngestionThrottlingBackOffPressure();
+    this.recoveryPressure = serverConfig.getCompactionAwareIngestionThrottlingRecoveryPressure();
+    long minRecordsPerSec = serverConfig.getCompactionAwareIngestionThrottlingMinRecordsPerSec();
+    this.minRecordsPerInterval = Math.max(1, minRecordsPerSec * intervalMs / TimeUnit.SECONDS.toMillis(1));
+    this.intervalStartMs = time.getMilliseconds();
+  }
+
+  /**
+   * Records the records consumed from a partition, and pauses the partition for the rest of the interval if the store
+   * version consumed all its allowed records. Called by the consumer thread.
+   */
+  public void recordConsumption(PubSubTopicPartition topicPartition, int recordCount) {
+    long consumedRecords = consumedRecordCount.addAndGet(recordCount);
+    long allowedRecords = allowedRecordsPerInterval;
+    if (allowedRecords != UNLIMITED && consumedRecords >= allowedRecords) {
+      int partition = topicPartition.getPartitionNumber();
+      String topic = topicPartition.getPubSubTopic().getName();
+      if (pausedPartitions.putIfAbsent(partition, topic) == null) {
+        pausePartition.execute(topic, partition);
+        stats.recordIngestionThrottlerPartitionPause();
+      }
+    }
+  }
+
+  /**
+   * Samples the write stall pressure and adjusts the allowed records once per interval, then resumes the paused
+   * partitions. Called by the ingestion task thread.
+   */
+  public void maybeAdjust() {
+    long currentTimeMs = time.getMilliseconds();
+    if (currentTimeMs - intervalStartMs < intervalMs) {
+      return;
+    }
+    intervalStartMs = currentTimeMs;
+    long consumedRecords = consumedRecordCount.getAndSet(0);
+    double pressure;
+    try {
+      pressure = writeStallPressureSupplier.getAsDouble();
+    } catch (Exception e) {
+      LOGGER.warn("Failed to get the write stall pressure of: {}, keeping the current limit", versionTopic, e);
+      resumePausedPartitions();
+      return;
+    }
+    stats.recordWriteStallPressure(pressure);
+
+    long allowedRecords = allowedRecordsPerInterval;
+    if (pressure >= backOffPressure) {
+      if (allowedRecords == UNLIMITED) {
+        unthrottledRecordsPerInterval = Math.max(consumedRecords, minRecordsPerInterval);
+        allowedRecords = unthrottledRecordsPerInterval;
+      }
+      allowedRecords = Math.max(allowedRecords / 2, minRecordsPerInterval);
+      stats.recordIngestionThrottlerBackOff();
+      LOGGER.info(
+          "Backed off the ingestion of: {} to {} records per {}ms, since its write stall pressure reached: {}",
+          versionTopic,
+          allowedRecords,
+          intervalMs,
+          pressure);
+    } else if (allowedRecords != UNLIMITED && pressure < recoveryPressure) {
+      allowedRecords += Math.max(unthrottledRecordsPerInterval / RECOVERY_STEP_COUNT, minRecordsPerInterval);
+      if (allowedRecords >= unthrottledRecordsPerInterval) {
+        allowedRecords = UNLIMITED;
+        LOGGER.info(
+            "Stopped throttling the ingestion of: {}, since its write stall pressure is down to: {}",
+            versionTopic,
+            pressure);
+      }
+    }
+    allowedRecordsPerInterval = allowedRecords;
+    if (allowedRecords != UNLIMITED) {
+      stats.recordIngestionThrottlerRecordsPerSecLimit(allowedRecords * TimeUnit.SECONDS.toMillis(1) / intervalMs);
+    }
+    resumePausedPartitions();
+  }
+
+  /**
+   * Forgets about a partition which is no longer consumed.
+   */
+  public void removePartition(int partition) {
+    pausedPartitions.remove(partition);
+  }
+
+  /**
+   * @return the records the store version can consume per interval, or -1 if it isn't limited.
+   */
+  public long getAllowedRecordsPerInterval() {
+    return allowedRecordsPerInterval;
+  }
+
+  public boolean isPartitionPaused(int partition) {
+    return pausedPartitions.containsKey(partition);
+  }
+
+  private void resumePausedPartitions() {
+    for (Map.Entry<Integer, String> entry: pausedPartitions.entrySet()) {
+      if (pausedPartitions.remove(entry.getKey(), entry.getValue())) {
+        resumePartition.execute(entry.getValue(), entry.getKey());
+      }
+    }
+  }
+}
@@ -26,8 +26,10 @@ import com.linkedin.davinci.stats.ingestion.heartbeat.HeartbeatMonitoringService
 import com.linkedin.davinci.storage.chunking.ChunkedValueManifestContainer;
 import com.linkedin.davinci.storage.chunking.ChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.GenericRecordChunkingAdapter;
+import com.linkedin.davinci.storage.chunking.RawBytesChunkingAdapter;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheBackend;
+import com.linkedin.davinci.store.record.ByteBufferValueRecord;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.davinci.store.view.VeniceViewWriter;
 import com.linkedin.davinci.validation.KafkaDataIntegrityValidator;
@@ -64,6 +66,7 @@ import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.schema.writecompute.DerivedSchemaEntry;
 import com.linkedin.venice.serialization.AvroStoreDeserializerCache;
+import com.linkedin.venice.serialization.RawBytesStoreDeserializerCache;
 import com.linkedin.venice.stats.StatsErrorCode;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.ByteUtils;
@@ -150,6 +153,7 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
    */
   private final long newLeaderInactiveTime;
   private final StoreWriteComputeProcessor storeWriteComputeHandler;
+  private final boolean fieldLevelWriteComputeEnabled;
   private final boolean isNativeReplicationEnabled;
   private final String nativeReplicationSourceVersionTopicKafkaURL;
   private final Set<String> nativeReplicationSourceVersionTopicKafkaURLSingletonSet;
@@ -228,6 +232,7 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
         schemaRepository,
         mergeRecordHelper,
         serverConfig.isComputeFastAvroEnabled());
+    this.fieldLevelWriteComputeEnabled = serverConfig.isFieldLevelWriteComputeEnabled();
     this.isNativeReplicationEnabled = version.isNativeReplicationEnabled();
 
     /**
@@ -3066,36 +3071,41 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
       readerUpdateProtocolVersion = update.updateSchemaId;
     }
     ChunkedValueManifestContainer valueManifestContainer = new ChunkedValueManifestContainer();
-    final GenericRecord currValue = readStoredValueRecord(
-        partitionConsumptionState,
-        keyBytes,
-        readerValueSchemaId,
-        consumerRecord.getTopicPartition(),
-        valueManifestContainer);
-
+    final GenericRecord currValue;
     final byte[] updatedValueBytes;
-    final ChunkedValueManifest oldValueManifest = valueManifestContainer.getManifest();
-
-    try {
-      long writeComputeStartTimeInNS = System.nanoTime();
-      // Leader nodes are the only ones which process UPDATES, so it's valid to always compress and not call
-      // 'maybeCompress'.
-      updatedValueBytes = compressor.get()
-          .compress(
-              storeWriteComputeHandler.applyWriteCompute(
-                  currValue,
-                  update.schemaId,
-                  readerValueSchemaId,
-                  update.updateValue,
-                  update.updateSchemaId,
-                  readerUpdateProtocolVersion));
-      hostLevelIngestionStats
-          .recordWriteComputeUpdateLatency(LatencyUtils.getElapsedTimeFromNSToMS(writeComputeStartTimeInNS));
-    } catch (Exception e) {
-      writeComputeFailureCode = StatsErrorCode.WRITE_COMPUTE_UPDATE_FAILURE.code;
-      throw new RuntimeException(e);
+    if (fieldLevelWriteComputeEnabled) {
+      final ByteBufferValueRecord<ByteBuffer> currValueBytes = readStoredValueBytes(
+          partitionConsumptionState,
+          keyBytes,
+          consumerRecord.getTopicPartition(),
+          valueManifestContainer);
+      final byte[] fieldLevelUpdatedValueBytes = currValueBytes == null
+          ? null
+          : applyWriteComputeOnSerializedValue(
+              update,
+              currValueBytes,
+              readerValueSchemaId,
+              readerUpdateProtocolVersion);
+      if (fieldLevelUpdatedValueBytes != null) {
+        // The current value is only needed below when the update results in no value, which partial updates never do.
+        currValue = null;
+        updatedValueBytes = fieldLevelUpdatedValueBytes;
+      } else {
+        currValue = deserializeStoredValue(currValueBytes, readerValueSchemaId);
+        updatedValueBytes = applyWriteCompute(update, currValue, readerValueSchemaId, readerUpdateProtocolVersion);
+      }
+    } else {
+      currValue = readStoredValueRecord(
+          partitionConsumptionState,
+          keyBytes,
+          readerValueSchemaId,
+          consumerRecord.getTopicPartition(),
+          valueManifestContainer);
+      updatedValueBytes = applyWriteCompute(update, currValue, readerValueSchemaId, readerUpdateProtocolVersion);
     }
 
+    final ChunkedValueManifest oldValueManifest = valueManifestContainer.getManifest();
+
     if (updatedValueBytes == null) {
       if (currValue != null) {
         throw new IllegalStateException(
@@ -3152,6 +3162,137 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
     }
   }
 
+  private byte[] applyWriteCompute(
+      Update update,
+      GenericRecord currValue,
+      int readerValueSchemaId,
+      int readerUpdateProtocolVersion) {
+    try {
+      long writeComputeStartTimeInNS = System.nanoTime();
+      // Leader nodes are the only ones which process UPDATES, so it's valid to always compress and not call
+      // 'maybeCompress'.
+      byte[] updatedValueBytes = compressor.get()
+          .compress(
+              storeWriteComputeHandler.applyWriteCompute(
+                  currValue,
+                  update.schemaId,
+                  readerValueSchemaId,
+                  update.updateValue,
+                  update.updateSchemaId,
+                  readerUpdateProtocolVersion));
+      hostLevelIngestionStats
+          .recordWriteComputeUpdateLatency(LatencyUtils.getElapsedTimeFromNSToMS(writeComputeStartTimeInNS));
+      return updatedValueBytes;
+    } catch (Exception e) {
+      writeComputeFailureCode = StatsErrorCode.WRITE_COMPUTE_UPDATE_FAILURE.code;
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Apply the update on the serialized stored value, which only re-encodes the updated fields.
+   * @return null if the stored value is not serialized with the reader value schema, in which case the update must be
+   *         applied on the deserialized value instead.
+   */
+  private byte[] applyWriteComputeOnSerializedValue(
+      Update update,
+      ByteBufferValueRecord<ByteBuffer> currValueBytes,
+      int readerValueSchemaId,
+      int readerUpdateProtocolVersion) {
+    try {
+      long writeComputeStartTimeInNS = System.nanoTime();
+      byte[] updatedValueBytes = storeWriteComputeHandler.applyWriteComputeOnSerializedValue(
+          currValueBytes.value(),
+          currValueBytes.writerSchemaId(),
+          update.schemaId,
+          readerValueSchemaId,
+          update.updateValue,
+          update.updateSchemaId,
+          readerUpdateProtocolVersion);
+      if (updatedValueBytes == null) {
+        return null;
+      }
+      updatedValueBytes = compressor.get().compress(updatedValueBytes);
+      hostLevelIngestionStats
+          .recordWriteComputeUpdateLatency(LatencyUtils.getElapsedTimeFromNSToMS(writeComputeStartTimeInNS));
+      return updatedValueBytes;
+    } catch (Exception e) {
+      writeComputeFailureCode = StatsErrorCode.WRITE_COMPUTE_UPDATE_FAILURE.code;
+      throw new RuntimeException(e);
+    }
+  }
+
+  private GenericRecord deserializeStoredValue(
+      ByteBufferValueRecord<ByteBuffer> storedValueBytes,
+      int readerValueSchemaID) {
+    if (storedValueBytes == null) {
+      return null;
+    }
+    try {
+      return storeDeserializerCache.getDeserializer(storedValueBytes.writerSchemaId(), readerValueSchemaID)
+          .deserialize(storedValueBytes.value());
+    } catch (Exception e) {
+      writeComputeFailureCode = StatsErrorCode.WRITE_COMPUTE_DESERIALIZATION_FAILURE.code;
+      throw e;
+    }
+  }
+
+  /**
+   * Read the existing value bytes, decompressed, the same way as {@link #readStoredValueRecord} reads the value.
+   * @return null if there is no existing value.
+   */
+  private ByteBufferValueRecord<ByteBuffer> readStoredValueBytes(
+      PartitionConsumptionState partitionConsumptionState,
+      byte[] keyBytes,
+      PubSubTopicPartition topicPartition,
+      ChunkedValueManifestContainer manifestContainer) {
+    PartitionConsumptionState.TransientRecord transientRecord = partitionConsumptionState.getTransientRecord(keyBytes);
+    if (transientRecord == null) {
+      try {
+        long lookupStartTimeInNS = System.nanoTime();
+        ByteBufferValueRecord<ByteBuffer> storedValueBytes = RawBytesChunkingAdapter.INSTANCE.getWithSchemaId(
+            storageEngine,
+            topicPartition.getPartitionNumber(),
+            ByteBuffer.wrap(keyBytes),
+            isChunked,
+            null,
+            null,
+            RawBytesStoreDeserializerCache.getInstance(),
+            compressor.get(),
+            manifestContainer);
+        hostLevelIngestionStats
+            .recordWriteComputeLookUpLatency(LatencyUtils.getElapsedTimeFromNSToMS(lookupStartTimeInNS));
+        return storedValueBytes;
+      } catch (Exception e) {
+        writeComputeFailureCode = StatsErrorCode.WRITE_COMPUTE_DESERIALIZATION_FAILURE.code;
+        throw e;
+      }
+    }
+    hostLevelIngestionStats.recordWriteComputeCacheHitCount();
+    if (transientRecord.getValue() == null) {
+      return null;
+    }
+    if (manifestContainer != null) {
+      manifestContainer.setManifest(transientRecord.getValueManifest());
+    }
+    return new ByteBufferValueRecord<>(
+        getCurrentValueFromTransientRecord(transientRecord),
+        transientRecord.getValueSchemaId());
+  }
+
+  ByteBuffer getCurrentValueFromTransientRecord(PartitionConsumptionState.TransientRecord transientRecord) {
+    ByteBuffer compressedValue =
+        ByteBuffer.wrap(transientRecord.getValue(), transientRecord.getValueOffset(), transientRecord.getValueLen());
+    try {
+      return getCompressionStrategy().isCompressionEnabled()
+          ? getCompressor().get()
+              .decompress(compressedValue.array(), compressedValue.position(), compressedValue.remaining())
+          : compressedValue;
+    } catch (IOException e) {
+      throw new VeniceException(e);
+    }
+  }
+
   /**
    * Read the existing value. If a value for this key is found from the transient map then use that value, otherwise read
    * it from the storage engine.
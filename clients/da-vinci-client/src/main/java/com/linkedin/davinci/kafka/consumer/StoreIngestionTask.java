@@ -102,6 +102,7 @@ import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.PartitionUtils;
 import com.linkedin.venice.utils.RedundantExceptionFilter;
 import com.linkedin.venice.utils.SparseConcurrentList;
+import com.linkedin.venice.utils.SystemTime;
 import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.Timer;
 import com.linkedin.venice.utils.Utils;
@@ -258,6 +259,8 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
   protected int idleCounter = 0;
 
   private final StorageUtilizationManager storageUtilizationManager;
+  /** Null unless the compaction aware ingestion throttling is enabled */
+  private final CompactionAwareIngestionThrottler compactionAwareIngestionThrottler;
 
   protected final AggKafkaConsumerService aggKafkaConsumerService;
 
@@ -469,6 +472,23 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
         this::pauseConsumption,
         this::resumeConsumption);
     this.storeRepository.registerStoreDataChangedListener(this.storageUtilizationManager);
+    if (serverConfig.isCompactionAwareIngestionThrottlingEnabled()) {
+      this.compactionAwareIngestionThrottler = new CompactionAwareIngestionThrottler(
+          serverConfig,
+          kafkaVersionTopic,
+          storageEngine::getWriteStallPressure,
+          hostLevelIngestionStats,
+          this::pauseConsumption,
+          (topic, partition) -> {
+            // The partitions paused because of the storage quota stay paused until the storage quota allows it.
+            if (!storageUtilizationManager.isPartitionPausedIngestion(partition)) {
+              resumeConsumption(topic, partition);
+            }
+          },
+          SystemTime.INSTANCE);
+    } else {
+      this.compactionAwareIngestionThrottler = null;
+    }
     this.kafkaClusterUrlResolver = serverConfig.getKafkaClusterUrlResolver();
     Object2IntMap<String> kafkaClusterUrlToIdMap = serverConfig.getKafkaClusterUrlToIdMap();
     this.localKafkaClusterId = kafkaClusterUrlToIdMap.getOrDefault(localKafkaServer, Integer.MIN_VALUE);
@@ -1023,6 +1043,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
       String kafkaUrl,
       int kafkaClusterId) throws InterruptedException {
     long totalBytesRead = 0;
+    int recordsToPersist = 0;
     double elapsedTimeForPuttingIntoQueue = 0;
     boolean metricsEnabled = emitMetrics.get();
     long beforeProcessingBatchRecordsTimestampMs = System.currentTimeMillis();
@@ -1086,8 +1107,12 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
           if (metricsEnabled) {
             elapsedTimeForPuttingIntoQueue += LatencyUtils.getElapsedTimeFromNSToMS(queuePutStartTimeInNS);
           }
+          recordsToPersist++;
           break;
         case PRODUCED_TO_KAFKA:
+          // The leader persists the record once its produce callback queues it to the drainer.
+          recordsToPersist++;
+          break;
         case SKIPPED_MESSAGE:
         case DUPLICATE_MESSAGE:
           break;
@@ -1107,6 +1132,9 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
      * Even if the records list is empty, we still need to check quota to potentially resume partition
      */
     storageUtilizationManager.enforcePartitionQuota(topicPartition.getPartitionNumber(), totalBytesRead);
+    if (compactionAwareIngestionThrottler != null) {
+      compactionAwareIngestionThrottler.recordConsumption(topicPartition, recordsToPersist);
+    }
 
     if (metricsEnabled) {
       if (totalBytesRead > 0) {
@@ -1132,6 +1160,11 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     return this.failedPartitions;
   }
 
+  // For testing purpose
+  CompactionAwareIngestionThrottler getCompactionAwareIngestionThrottler() {
+    return this.compactionAwareIngestionThrottler;
+  }
+
   private void processIngestionException() {
     partitionIngestionExceptionList.forEach(partitionExceptionInfo -> {
       int exceptionPartition = partitionExceptionInfo.getPartitionId();
@@ -1267,6 +1300,9 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     if (storageUtilizationManager.hasPausedPartitionIngestion()) {
       storageUtilizationManager.checkAllPartitionsQuota();
     }
+    if (compactionAwareIngestionThrottler != null) {
+      compactionAwareIngestionThrottler.maybeAdjust();
+    }
     Thread.sleep(readCycleDelayMs);
   }
 
@@ -1844,6 +1880,9 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
          */
         partitionConsumptionStateMap.remove(partition);
         storageUtilizationManager.removePartition(partition);
+        if (compactionAwareIngestionThrottler != null) {
+          compactionAwareIngestionThrottler.removePartition(partition);
+        }
         kafkaDataIntegrityValidator.clearPartition(partition);
         // Reset the error partition tracking
         PartitionExceptionInfo partitionExceptionInfo = partitionIngestionExceptionList.get(partition);
@@ -2561,6 +2600,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     /**
      * Indicate the batch push is done, and the internal storage engine needs to do some cleanup.
      */
+    classifyVersionReadyToServe(storageEngine);
     storageEngine.endBatchWrite(storagePartitionConfig);
 
     if (cacheBackend.isPresent()) {
@@ -3629,6 +3669,20 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     void apply(PartitionConsumptionState partitionConsumptionState, boolean extraDisjunctionCondition);
   }
 
+  /**
+   * A future version which becomes ready to serve is about to take the reads of its store, so its partitions switch to
+   * the RocksDB resources of the current versions at the reopen which happens at this point anyway, instead of getting
+   * reopened once they serve reads, see
+   * {@link com.linkedin.davinci.store.rocksdb.RocksDBServerConfig#ROCKSDB_NON_CURRENT_VERSION_ISOLATION_ENABLED}.
+   * The backup versions, which become ready to serve again after a restart, keep their resources.
+   */
+  private void classifyVersionReadyToServe(AbstractStorageEngine engine) {
+    Store store = storeRepository.getStore(storeName);
+    if (store != null && versionNumber >= store.getCurrentVersion()) {
+      engine.setCurrentVersion(true);
+    }
+  }
+
   /**
    * @return the default way of checking whether a partition is ready to serve or not:
    *         i.  if completion has been reported, no need to report anything again unless extraDisjunctionCondition is true
@@ -3655,6 +3709,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
                 /**
                  * May adjust the underlying storage partition to optimize read perf.
                  */
+                classifyVersionReadyToServe(storageEngineReloadedFromRepo);
                 storageEngineReloadedFromRepo.adjustStoragePartition(
                     partition,
                     AbstractStorageEngine.StoragePartitionAdjustmentTrigger.PREPARE_FOR_READ,
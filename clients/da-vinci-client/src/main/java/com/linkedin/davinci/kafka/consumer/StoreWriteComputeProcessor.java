@@ -100,11 +100,12 @@ public class StoreWriteComputeProcessor {
       ByteBuffer writeComputeBytes,
       int writerUpdateProtocolVersion,
       int readerUpdateProtocolVersion) {
-    int writerSchemaUniqueId = getSchemaAndUniqueId(writerValueSchemaId, writerUpdateProtocolVersion).getUniqueId();
     SchemaAndUniqueId readerSchemaContainer = getSchemaAndUniqueId(readerValueSchemaId, readerUpdateProtocolVersion);
-    RecordDeserializer<GenericRecord> deserializer =
-        this.writeComputeDeserializerCache.get(writerSchemaUniqueId, readerSchemaContainer.getUniqueId());
-    GenericRecord writeComputeRecord = deserializer.deserialize(writeComputeBytes);
+    GenericRecord writeComputeRecord = deserializeWriteComputeRecord(
+        writeComputeBytes,
+        writerValueSchemaId,
+        writerUpdateProtocolVersion,
+        readerSchemaContainer);
 
     GenericRecord updatedValue =
         writeComputeProcessor.updateRecord(readerSchemaContainer.getValueSchema(), currValue, writeComputeRecord);
@@ -116,6 +117,52 @@ public class StoreWriteComputeProcessor {
     return getValueSerializer(readerValueSchemaId).serialize(updatedValue);
   }
 
+  /**
+   * Apply Update operation on the serialized current value record, without deserializing the whole record: only the
+   * fields which the Update operation touches are decoded and re-encoded, see
+   * {@link WriteComputeProcessor#updateSerializedRecord}.
+   *
+   * This is only possible when the current value is serialized with the reader value schema, since the bytes of the
+   * untouched fields are copied to the updated value as they are.
+   *
+   * @param currValueBytes serialized value record that is currently stored on this Venice server, not compressed.
+   * @param currValueSchemaId ID of the value schema which the current value record is serialized with.
+   *
+   * @return Bytes of partially updated original value, or null if the current value record is not serialized with the
+   *         reader value schema, in which case {@link #applyWriteCompute} should be used instead.
+   */
+  public byte[] applyWriteComputeOnSerializedValue(
+      @Nonnull ByteBuffer currValueBytes,
+      int currValueSchemaId,
+      int writerValueSchemaId,
+      int readerValueSchemaId,
+      ByteBuffer writeComputeBytes,
+      int writerUpdateProtocolVersion,
+      int readerUpdateProtocolVersion) {
+    if (currValueSchemaId != readerValueSchemaId) {
+      return null;
+    }
+    SchemaAndUniqueId readerSchemaContainer = getSchemaAndUniqueId(readerValueSchemaId, readerUpdateProtocolVersion);
+    GenericRecord writeComputeRecord = deserializeWriteComputeRecord(
+        writeComputeBytes,
+        writerValueSchemaId,
+        writerUpdateProtocolVersion,
+        readerSchemaContainer);
+    return writeComputeProcessor
+        .updateSerializedRecord(readerSchemaContainer.getValueSchema(), currValueBytes, writeComputeRecord);
+  }
+
+  private GenericRecord deserializeWriteComputeRecord(
+      ByteBuffer writeComputeBytes,
+      int writerValueSchemaId,
+      int writerUpdateProtocolVersion,
+      SchemaAndUniqueId readerSchemaContainer) {
+    int writerSchemaUniqueId = getSchemaAndUniqueId(writerValueSchemaId, writerUpdateProtocolVersion).getUniqueId();
+    RecordDeserializer<GenericRecord> deserializer =
+        this.writeComputeDeserializerCache.get(writerSchemaUniqueId, readerSchemaContainer.getUniqueId());
+    return deserializer.deserialize(writeComputeBytes);
+  }
+
   private SchemaAndUniqueId getSchemaAndUniqueId(int valueSchemaId, int writeComputeSchemaId) {
     return schemaAndUniqueIdCache.get(valueSchemaId, writeComputeSchemaId);
   }
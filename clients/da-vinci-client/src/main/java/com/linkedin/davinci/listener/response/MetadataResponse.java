@@ -7,6 +7,8 @@ import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 
@@ -56,6 +58,24 @@ public class MetadataResponse {
     responseRecord.setBatchGetLimit(batchGetLimit);
   }
 
+  /**
+   * Set the metadata hash to the hash of all the other fields, which must be set beforehand. The versions and the
+   * replicas of each partition are sorted first, so that all the storage nodes agree on the hash of the same metadata
+   * no matter in which order they list them.
+   */
+  public void computeMetadataHash() {
+    Collections.sort(responseRecord.getVersions());
+    for (List<CharSequence> replicas: responseRecord.getRoutingInfo().values()) {
+      replicas.sort(Comparator.comparing(CharSequence::toString));
+    }
+    responseRecord.setMetadataHash(0);
+    responseRecord.setMetadataHash(responseRecord.hashCode());
+  }
+
+  public int getMetadataHash() {
+    return responseRecord.getMetadataHash();
+  }
+
   public ByteBuf getResponseBody() {
     return Unpooled.wrappedBuffer(serializedResponse());
   }
@@ -18,6 +18,7 @@ import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.StaticClusterInfoProvider;
 import com.linkedin.venice.service.ICProvider;
+import com.linkedin.venice.stats.StoreRepositoryStats;
 import com.linkedin.venice.stats.ZkClientStatusStats;
 import com.linkedin.venice.utils.VeniceProperties;
 import io.tehuti.metrics.MetricsRepository;
@@ -127,7 +128,9 @@ public class VeniceMetadataRepositoryBuilder {
         adapter,
         clusterName,
         clusterConfig.getRefreshAttemptsForZkReconnect(),
-        clusterConfig.getRefreshIntervalForZkReconnectInMs());
+        clusterConfig.getRefreshIntervalForZkReconnectInMs(),
+        clusterConfig.getStoreRepositoryRefreshThreadCount(),
+        Optional.of(new StoreRepositoryStats(metricsRepository, zkClientNamePrefix + clusterName)));
 
     storeRepo = new HelixReadOnlyStoreRepositoryAdapter(
         readOnlyZKSharedSystemStoreRepository,
@@ -17,6 +17,7 @@ import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import javax.annotation.concurrent.ThreadSafe;
 import org.apache.avro.Schema;
@@ -25,8 +26,22 @@ import org.apache.avro.generic.GenericRecord;
 
 @ThreadSafe
 public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationHandler {
+  private final boolean linearMergeEnabled;
+
   public SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator elementComparator) {
+    this(elementComparator, true);
+  }
+
+  /**
+   * @param linearMergeEnabled whether collection merges on a list or a map in the collection-merge state merge the
+   *                           elements they touch into the already sorted elements in linear time, instead of sorting
+   *                           all the elements again. The result is the same either way.
+   */
+  public SortBasedCollectionFieldOpHandler(
+      AvroCollectionElementComparator elementComparator,
+      boolean linearMergeEnabled) {
     super(elementComparator);
+    this.linearMergeEnabled = linearMergeEnabled;
   }
 
   @Override
@@ -526,6 +541,16 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
     if (currElements == null) {
       currElements = Collections.emptyList();
     }
+    if (canMergeInLinearTime(modifyTimestamp, collectionFieldRmd, currElements.size())) {
+      return linearMergeCollectionMergeList(
+          modifyTimestamp,
+          collectionFieldRmd,
+          currValueRecord,
+          currValueRecordField,
+          currElements,
+          toAddElementSet,
+          toRemoveElementSet);
+    }
     final List<Long> activeTimestamps = collectionFieldRmd.getActiveElementTimestamps();
     final IndexedHashMap<Object, Long> activeElementToTsMap = Utils.createElementToActiveTsMap(
         currElements,
@@ -765,8 +790,8 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
     }
     collectionMergePartKeys.sort(String::compareTo);
 
-    // Step 2: Remove elements (MAP_DIFF).
-    for (String toRemoveKey: toRemoveKeys) {
+    // Step 2: Remove elements (MAP_DIFF). A key removed more than once must only be deleted once.
+    for (String toRemoveKey: new HashSet<>(toRemoveKeys)) {
       putOnlyPartMap.remove(toRemoveKey);
       deletedKeys.add(toRemoveKey);
     }
@@ -839,6 +864,16 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
     }
     IndexedHashMap<String, Object> currMap =
         (IndexedHashMap<String, Object>) currValueRecord.get(currValueRecordField.pos());
+    if (currMap != null && canMergeInLinearTime(modifyTimestamp, collectionFieldRmd, currMap.size())) {
+      return linearMergeCollectionMergeMap(
+          modifyTimestamp,
+          collectionFieldRmd,
+          currValueRecord,
+          currValueRecordField,
+          currMap,
+          newEntries,
+          toRemoveKeys);
+    }
     List<KeyValPair> currKeyValPairs = new ArrayList<>(currMap.size());
     currMap.forEach((key, value) -> currKeyValPairs.add(new KeyValPair(key, value)));
 
@@ -967,6 +1002,365 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
     return UpdateResultStatus.PARTIALLY_UPDATED;
   }
 
+  /**
+   * The elements of the collection-merge part and the deleted elements are kept sorted by (timestamp, element), and
+   * all the elements added, re-added or deleted by a collection merge get the same modify timestamp. So these only
+   * need to be sorted among themselves and merged into the elements left untouched, which costs O(n + k * log(k)) for
+   * n existing elements and k elements in the request, instead of sorting all the elements again. When the modify
+   * timestamp is higher than all the existing ones, which is the case of elements appended over time, the merge boils
+   * down to appending them.
+   *
+   * This relies on the active timestamps of the collection-merge part being strictly higher than the top-level
+   * timestamp, which only a collection merge with the same timestamp as the top-level one can break, and on the RMD
+   * matching the current elements. Anything else goes through the sort-based merge.
+   */
+  private boolean canMergeInLinearTime(
+      final long modifyTimestamp,
+      CollectionRmdTimestamp<?> collectionFieldRmd,
+      final int currElementCount) {
+    if (!linearMergeEnabled) {
+      return false;
+    }
+    final long topLevelTimestamp = collectionFieldRmd.getTopLevelFieldTimestamp();
+    final List<Long> activeTimestamps = collectionFieldRmd.getActiveElementTimestamps();
+    return modifyTimestamp > topLevelTimestamp
+        && currElementCount == collectionFieldRmd.getPutOnlyPartLength() + activeTimestamps.size()
+        && collectionFieldRmd.getDeletedElements().size() == collectionFieldRmd.getDeletedElementTimestamps().size()
+        && (activeTimestamps.isEmpty() || activeTimestamps.get(0) > topLevelTimestamp);
+  }
+
+  /**
+   * Same result as {@link #handleModifyCollectionMergeList}, see {@link #canMergeInLinearTime}.
+   */
+  private UpdateResultStatus linearMergeCollectionMergeList(
+      final long modifyTimestamp,
+      CollectionRmdTimestamp<Object> collectionFieldRmd,
+      GenericRecord currValueRecord,
+      Schema.Field currValueRecordField,
+      List<Object> currElements,
+      Set<Object> toAddElementSet,
+      Set<Object> toRemoveElementSet) {
+    final List<Object> elements = toRandomAccessList(currElements);
+    final PrimitiveLongList activeTimestamps = toPrimitiveLongList(collectionFieldRmd.getActiveElementTimestamps());
+    final List<Object> deletedElements = toRandomAccessList(collectionFieldRmd.getDeletedElements());
+    final PrimitiveLongList deletedTimestamps = toPrimitiveLongList(collectionFieldRmd.getDeletedElementTimestamps());
+    final int putOnlyPartLength = collectionFieldRmd.getPutOnlyPartLength();
+    final long topLevelTimestamp = collectionFieldRmd.getTopLevelFieldTimestamp();
+
+    // Elements of the request which are either active or deleted already.
+    final Set<Object> knownElements = new HashSet<>();
+    // Elements which get the modify timestamp, and move from where they are (if anywhere) to the merged part.
+    final List<Object> newActiveElements = new ArrayList<>();
+    final List<Object> newDeletedElements = new ArrayList<>();
+    final boolean[] movedActiveElements = new boolean[elements.size()];
+    final boolean[] movedDeletedElements = new boolean[deletedElements.size()];
+    int newPutOnlyPartLength = putOnlyPartLength;
+    boolean updated = false;
+
+    // Step 1: Check deleted elements against the elements to add (SET_UNION) and to remove (SET_DIFF).
+    for (int i = 0; i < deletedElements.size(); i++) {
+      final Object deletedElement = deletedElements.get(i);
+      final boolean toAdd = toAddElementSet.contains(deletedElement);
+      if (toAdd || toRemoveElementSet.contains(deletedElement)) {
+        if (!knownElements.add(deletedElement)) {
+          // Duplicate deleted element, only the first one is kept.
+          movedDeletedElements[i] = true;
+          continue;
+        }
+        if (deletedTimestamps.getPrimitive(i) < modifyTimestamp) {
+          // Element will be added back, or deleted with the modify timestamp.
+          movedDeletedElements[i] = true;
+          (toAdd ? newActiveElements : newDeletedElements).add(deletedElement);
+          updated = true;
+        } // Else: Element remains "deleted".
+      }
+    }
+
+    // Step 2: Check existing elements against the elements to add and to remove.
+    for (int i = 0; i < elements.size(); i++) {
+      final Object element = elements.get(i);
+      final boolean toAdd = toAddElementSet.contains(element);
+      if ((toAdd || toRemoveElementSet.contains(element)) && knownElements.add(element)) {
+        final long activeTimestamp =
+            i < putOnlyPartLength ? topLevelTimestamp : activeTimestamps.getPrimitive(i - putOnlyPartLength);
+        if (toAdd ? activeTimestamp < modifyTimestamp : activeTimestamp <= modifyTimestamp) {
+          movedActiveElements[i] = true;
+          (toAdd ? newActiveElements : newDeletedElements).add(element);
+          if (i < putOnlyPartLength) {
+            newPutOnlyPartLength--;
+          }
+          updated = true;
+        } // Else: Element keeps its higher active timestamp.
+      }
+    }
+
+    // Step 3: Elements which were neither active nor deleted.
+    for (Object toAddElement: toAddElementSet) {
+      if (!knownElements.contains(toAddElement)) {
+        newActiveElements.add(toAddElement);
+        updated = true;
+      }
+    }
+    for (Object toRemoveElement: toRemoveElementSet) {
+      if (!knownElements.contains(toRemoveElement)) {
+        newDeletedElements.add(toRemoveElement);
+        updated = true;
+      }
+    }
+    if (!updated) {
+      return UpdateResultStatus.NOT_UPDATED_AT_ALL;
+    }
+    final Comparator<Object> listElementComparator = getListElementComparator(currValueRecordField.schema());
+
+    // Step 4: Set new active elements and their active timestamps.
+    newActiveElements.sort(listElementComparator);
+    final List<Object> resultElements = new ArrayList<>(elements.size() + newActiveElements.size());
+    final PrimitiveLongList resultActiveTimestamps =
+        new PrimitiveLongArrayList(activeTimestamps.size() + newActiveElements.size());
+    for (int i = 0; i < putOnlyPartLength; i++) {
+      if (!movedActiveElements[i]) {
+        resultElements.add(elements.get(i));
+      }
+    }
+    mergeSortedElements(
+        elements::get,
+        putOnlyPartLength,
+        elements.size(),
+        activeTimestamps,
+        movedActiveElements,
+        newActiveElements,
+        modifyTimestamp,
+        listElementComparator,
+        (element, timestamp, isNewElement) -> {
+          resultElements.add(element);
+          resultActiveTimestamps.addPrimitive(timestamp);
+        });
+    currValueRecord.put(currValueRecordField.pos(), resultElements);
+    collectionFieldRmd.setActiveElementTimestamps(resultActiveTimestamps);
+    collectionFieldRmd.setPutOnlyPartLength(newPutOnlyPartLength);
+
+    // Step 5: Set new deleted elements and their deleted timestamps.
+    newDeletedElements.sort(listElementComparator);
+    final List<Object> resultDeletedElements = new ArrayList<>(deletedElements.size() + newDeletedElements.size());
+    final PrimitiveLongList resultDeletedTimestamps =
+        new PrimitiveLongArrayList(deletedElements.size() + newDeletedElements.size());
+    mergeSortedElements(
+        deletedElements::get,
+        0,
+        deletedElements.size(),
+        deletedTimestamps,
+        movedDeletedElements,
+        newDeletedElements,
+        modifyTimestamp,
+        listElementComparator,
+        (element, timestamp, isNewElement) -> {
+          resultDeletedElements.add(element);
+          resultDeletedTimestamps.addPrimitive(timestamp);
+        });
+    collectionFieldRmd.setDeletedElementsAndTimestamps(resultDeletedElements, resultDeletedTimestamps);
+    return UpdateResultStatus.PARTIALLY_UPDATED;
+  }
+
+  /**
+   * Same result as {@link #handleModifyCollectionMergeMap}, see {@link #canMergeInLinearTime}.
+   */
+  private UpdateResultStatus linearMergeCollectionMergeMap(
+      final long modifyTimestamp,
+      CollectionRmdTimestamp<String> collectionFieldRmd,
+      GenericRecord currValueRecord,
+      Schema.Field currValueRecordField,
+      IndexedHashMap<String, Object> currMap,
+      Map<String, Object> newEntries,
+      List<String> toRemoveKeys) {
+    final PrimitiveLongList activeTimestamps = toPrimitiveLongList(collectionFieldRmd.getActiveElementTimestamps());
+    final List<String> deletedKeys = toRandomAccessList(collectionFieldRmd.getDeletedElements());
+    final PrimitiveLongList deletedTimestamps = toPrimitiveLongList(collectionFieldRmd.getDeletedElementTimestamps());
+    final int putOnlyPartLength = collectionFieldRmd.getPutOnlyPartLength();
+    final long topLevelTimestamp = collectionFieldRmd.getTopLevelFieldTimestamp();
+    final Set<String> toRemoveKeySet = new HashSet<>(toRemoveKeys);
+
+    // Keys of the request which are either active or deleted already.
+    final Set<String> knownKeys = new HashSet<>();
+    // Keys which get the modify timestamp, and move from where they are (if anywhere) to the merged part.
+    final List<String> newActiveKeys = new ArrayList<>();
+    final List<String> newDeletedKeys = new ArrayList<>();
+    final boolean[] movedActiveKeys = new boolean[currMap.size()];
+    final boolean[] movedDeletedKeys = new boolean[deletedKeys.size()];
+    int newPutOnlyPartLength = putOnlyPartLength;
+    boolean updated = false;
+
+    // Step 1: Check deleted keys against the entries to add (MAP_UNION) and the keys to remove (MAP_DIFF).
+    for (int i = 0; i < deletedKeys.size(); i++) {
+      final String deletedKey = deletedKeys.get(i);
+      final boolean toAdd = newEntries.containsKey(deletedKey);
+      if (toAdd || toRemoveKeySet.contains(deletedKey)) {
+        if (!knownKeys.add(deletedKey)) {
+          // Duplicate deleted key, only the first one is kept.
+          movedDeletedKeys[i] = true;
+          continue;
+        }
+        if (deletedTimestamps.getPrimitive(i) < modifyTimestamp) {
+          // k-v entry will be added back, or the key deleted with the modify timestamp.
+          movedDeletedKeys[i] = true;
+          (toAdd ? newActiveKeys : newDeletedKeys).add(deletedKey);
+          updated = true;
+        } // Else: Key remains "deleted".
+      }
+    }
+
+    // Step 2: Check existing entries against the entries to add and the keys to remove.
+    for (int i = 0; i < currMap.size(); i++) {
+      final Map.Entry<String, Object> entry = currMap.getByIndex(i);
+      final String key = entry.getKey();
+      final boolean toAdd = newEntries.containsKey(key);
+      if ((toAdd || toRemoveKeySet.contains(key)) && knownKeys.add(key)) {
+        final long activeTimestamp =
+            i < putOnlyPartLength ? topLevelTimestamp : activeTimestamps.getPrimitive(i - putOnlyPartLength);
+        final boolean moved;
+        if (toAdd) {
+          // Note that if the current active timestamp is equal to the modify timestamp, we compare value.
+          moved = activeTimestamp < modifyTimestamp || (activeTimestamp == modifyTimestamp
+              && shouldUpdateMapFieldItemValueWithSameTs(
+                  entry.getValue(),
+                  newEntries.get(key),
+                  currValueRecordField.schema()));
+        } else {
+          moved = activeTimestamp <= modifyTimestamp;
+        }
+        if (moved) {
+          movedActiveKeys[i] = true;
+          (toAdd ? newActiveKeys : newDeletedKeys).add(key);
+          if (i < putOnlyPartLength) {
+            newPutOnlyPartLength--;
+          }
+          updated = true;
+        } // Else: Existing k-v entry is kept as is.
+      }
+    }
+
+    // Step 3: Keys which were neither active nor deleted.
+    for (String newKey: newEntries.keySet()) {
+      if (!knownKeys.contains(newKey)) {
+        newActiveKeys.add(newKey);
+        updated = true;
+      }
+    }
+    for (String toRemoveKey: toRemoveKeySet) {
+      if (!knownKeys.contains(toRemoveKey)) {
+        newDeletedKeys.add(toRemoveKey);
+        updated = true;
+      }
+    }
+    if (!updated) {
+      return UpdateResultStatus.NOT_UPDATED_AT_ALL;
+    }
+
+    // Step 4: Set new active map entries and their active timestamps.
+    newActiveKeys.sort(String::compareTo);
+    final IndexedHashMap<String, Object> resultMap = new IndexedHashMap<>(currMap.size() + newActiveKeys.size());
+    final PrimitiveLongList resultActiveTimestamps =
+        new PrimitiveLongArrayList(activeTimestamps.size() + newActiveKeys.size());
+    for (int i = 0; i < putOnlyPartLength; i++) {
+      if (!movedActiveKeys[i]) {
+        final Map.Entry<String, Object> entry = currMap.getByIndex(i);
+        resultMap.put(entry.getKey(), entry.getValue());
+      }
+    }
+    mergeSortedElements(
+        i -> currMap.getByIndex(i).getKey(),
+        putOnlyPartLength,
+        currMap.size(),
+        activeTimestamps,
+        movedActiveKeys,
+        newActiveKeys,
+        modifyTimestamp,
+        String::compareTo,
+        (key, timestamp, isNewElement) -> {
+          resultMap.put(key, isNewElement ? newEntries.get(key) : currMap.get(key));
+          resultActiveTimestamps.addPrimitive(timestamp);
+        });
+    currValueRecord.put(currValueRecordField.pos(), resultMap);
+    collectionFieldRmd.setActiveElementTimestamps(resultActiveTimestamps);
+    collectionFieldRmd.setPutOnlyPartLength(newPutOnlyPartLength);
+
+    // Step 5: Set new deleted keys and their deleted timestamps.
+    newDeletedKeys.sort(String::compareTo);
+    final List<String> resultDeletedKeys = new ArrayList<>(deletedKeys.size() + newDeletedKeys.size());
+    final PrimitiveLongList resultDeletedTimestamps =
+        new PrimitiveLongArrayList(deletedKeys.size() + newDeletedKeys.size());
+    mergeSortedElements(
+        deletedKeys::get,
+        0,
+        deletedKeys.size(),
+        deletedTimestamps,
+        movedDeletedKeys,
+        newDeletedKeys,
+        modifyTimestamp,
+        String::compareTo,
+        (key, timestamp, isNewElement) -> {
+          resultDeletedKeys.add(key);
+          resultDeletedTimestamps.addPrimitive(timestamp);
+        });
+    collectionFieldRmd.setDeletedElementsAndTimestamps(resultDeletedKeys, resultDeletedTimestamps);
+    return UpdateResultStatus.PARTIALLY_UPDATED;
+  }
+
+  /**
+   * Merges the elements in [fromIndex, toIndex) which did not move, sorted by (timestamp, element), with the new
+   * elements, sorted by element and all at {@code newTimestamp}, and passes them in order to the consumer.
+   *
+   * @param timestamps timestamps of the elements, starting with the one at {@code fromIndex}.
+   */
+  private static <T> void mergeSortedElements(
+      IntFunction<T> elementAt,
+      final int fromIndex,
+      final int toIndex,
+      PrimitiveLongList timestamps,
+      boolean[] movedElements,
+      List<T> sortedNewElements,
+      final long newTimestamp,
+      Comparator<? super T> elementComparator,
+      MergedElementConsumer<T> consumer) {
+    int newElementIdx = 0;
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (movedElements[i]) {
+        continue;
+      }
+      final T element = elementAt.apply(i);
+      final long timestamp = timestamps.getPrimitive(i - fromIndex);
+      while (newElementIdx < sortedNewElements.size() && (timestamp > newTimestamp || (timestamp == newTimestamp
+          && elementComparator.compare(sortedNewElements.get(newElementIdx), element) < 0))) {
+        consumer.accept(sortedNewElements.get(newElementIdx++), newTimestamp, true);
+      }
+      consumer.accept(element, timestamp, false);
+    }
+    // Usually all of them, since the modify timestamp tends to be the highest one.
+    while (newElementIdx < sortedNewElements.size()) {
+      consumer.accept(sortedNewElements.get(newElementIdx++), newTimestamp, true);
+    }
+  }
+
+  private static <T> List<T> toRandomAccessList(List<T> list) {
+    // LinkedList is not efficient for get operation.
+    return list instanceof LinkedList ? new ArrayList<>(list) : list;
+  }
+
+  private static PrimitiveLongList toPrimitiveLongList(List<Long> timestamps) {
+    if (timestamps instanceof PrimitiveLongList) {
+      return (PrimitiveLongList) timestamps;
+    }
+    PrimitiveLongList primitiveTimestamps = new PrimitiveLongArrayList(timestamps.size());
+    for (long timestamp: timestamps) {
+      primitiveTimestamps.addPrimitive(timestamp);
+    }
+    return primitiveTimestamps;
+  }
+
+  @FunctionalInterface
+  private interface MergedElementConsumer<T> {
+    void accept(T element, long timestamp, boolean isNewElement);
+  }
+
   private Schema getArraySchema(Schema arrayFieldSchema) {
     switch (arrayFieldSchema.getType()) {
       case ARRAY:
@@ -0,0 +1,135 @@
+package com.linkedin.davinci.schema.writecompute;
+
+import java.util.List;
+import org.apache.avro.Schema;
+
+
+/**
+ * Walks over Avro binary encoded data without decoding it, so that the position where each field of a record starts
+ * and ends can be found by only reading the lengths, counts and union branches which the encoding carries.
+ *
+ * This class is not thread-safe, and is meant to be used for a single serialized value.
+ */
+class AvroBinaryFieldCursor {
+  private final byte[] bytes;
+  private final int limit;
+  private int position;
+
+  AvroBinaryFieldCursor(byte[] bytes, int offset, int length) {
+    this.bytes = bytes;
+    this.position = offset;
+    this.limit = offset + length;
+  }
+
+  int getPosition() {
+    return position;
+  }
+
+  int getLimit() {
+    return limit;
+  }
+
+  /**
+   * Move the cursor right after the datum of the given schema which starts at the current position.
+   */
+  void skip(Schema schema) {
+    switch (schema.getType()) {
+      case NULL:
+        break;
+      case BOOLEAN:
+        advance(1);
+        break;
+      case INT:
+      case LONG:
+      case ENUM:
+        readLong();
+        break;
+      case FLOAT:
+        advance(4);
+        break;
+      case DOUBLE:
+        advance(8);
+        break;
+      case FIXED:
+        advance(schema.getFixedSize());
+        break;
+      case STRING:
+      case BYTES:
+        advance(readLength());
+        break;
+      case RECORD:
+        for (Schema.Field field: schema.getFields()) {
+          skip(field.schema());
+        }
+        break;
+      case UNION:
+        List<Schema> branches = schema.getTypes();
+        long branchIndex = readLong();
+        if (branchIndex < 0 || branchIndex >= branches.size()) {
+          throw new IllegalStateException("Invalid union branch index " + branchIndex + " for schema: " + schema);
+        }
+        skip(branches.get((int) branchIndex));
+        break;
+      case ARRAY:
+        skipBlocks(false, schema.getElementType());
+        break;
+      case MAP:
+        skipBlocks(true, schema.getValueType());
+        break;
+      default:
+        throw new IllegalStateException("Unsupported schema type: " + schema.getType());
+    }
+  }
+
+  /**
+   * Arrays and maps are encoded as a series of blocks ending with an empty one. A block with a negative count is
+   * followed by its size in bytes, which allows to skip it as a whole.
+   */
+  private void skipBlocks(boolean hasStringKeys, Schema itemSchema) {
+    long count = readLong();
+    while (count != 0) {
+      if (count < 0) {
+        advance(readLength());
+      } else {
+        for (long i = 0; i < count; i++) {
+          if (hasStringKeys) {
+            advance(readLength());
+          }
+          skip(itemSchema);
+        }
+      }
+      count = readLong();
+    }
+  }
+
+  private int readLength() {
+    long length = readLong();
+    if (length < 0 || length > limit - position) {
+      throw new IllegalStateException("Invalid length " + length + " at position " + position);
+    }
+    return (int) length;
+  }
+
+  private long readLong() {
+    long value = 0;
+    int shift = 0;
+    int b;
+    do {
+      if (position >= limit || shift > 63) {
+        throw new IllegalStateException("Invalid variable-length long at position " + position);
+      }
+      b = bytes[position++] & 0xFF;
+      value |= (long) (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    // Zig-zag decoding
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private void advance(int length) {
+    if (length > limit - position) {
+      throw new IllegalStateException("Cannot skip " + length + " bytes at position " + position);
+    }
+    position += length;
+  }
+}
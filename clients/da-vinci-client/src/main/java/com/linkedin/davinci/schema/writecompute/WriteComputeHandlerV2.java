@@ -3,6 +3,7 @@ package com.linkedin.davinci.schema.writecompute;
 import static com.linkedin.venice.schema.rmd.RmdConstants.TIMESTAMP_FIELD_NAME;
 import static com.linkedin.venice.schema.rmd.RmdConstants.TIMESTAMP_FIELD_POS;
 
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.davinci.schema.SchemaUtils;
 import com.linkedin.davinci.schema.merge.AvroCollectionElementComparator;
 import com.linkedin.davinci.schema.merge.CollectionFieldOperationHandler;
@@ -10,17 +11,21 @@ import com.linkedin.davinci.schema.merge.MergeRecordHelper;
 import com.linkedin.davinci.schema.merge.SortBasedCollectionFieldOpHandler;
 import com.linkedin.davinci.schema.merge.UpdateResultStatus;
 import com.linkedin.davinci.schema.merge.ValueAndRmd;
+import com.linkedin.davinci.serializer.avro.MapOrderPreservingSerDeFactory;
 import com.linkedin.davinci.utils.IndexedHashMap;
 import com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp;
 import com.linkedin.venice.schema.writecompute.WriteComputeConstants;
 import com.linkedin.venice.schema.writecompute.WriteComputeHandlerV1;
 import com.linkedin.venice.schema.writecompute.WriteComputeOperation;
 import com.linkedin.venice.utils.AvroSchemaUtils;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import javax.annotation.Nonnull;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
 import org.apache.commons.lang.Validate;
 
 
@@ -39,6 +44,75 @@ public class WriteComputeHandlerV2 extends WriteComputeHandlerV1 {
         new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE);
   }
 
+  /**
+   * Handle partial update request on a serialized value record that does not have replication metadata, without
+   * decoding the whole record. The boundaries of the top-level fields are found by skipping over the serialized bytes,
+   * the bytes of the fields which the update does not touch are copied as they are, and only the updated fields are
+   * re-encoded. A collection merging operation decodes the current value of its own field only.
+   *
+   * The result is equivalent to deserializing the value, applying {@link #updateValueRecord} and serializing it again.
+   *
+   * @param valueSchema the schema which the current value is serialized with, and which the write compute schema is
+   *                    derived from.
+   * @param currValueBytes the serialized current value record, which must not be compressed.
+   * @return the serialized updated value record.
+   */
+  public byte[] updateSerializedValueRecord(
+      @Nonnull Schema valueSchema,
+      @Nonnull ByteBuffer currValueBytes,
+      @Nonnull GenericRecord writeComputeRecord) {
+    if (valueSchema.getType() != Schema.Type.RECORD) {
+      throw new IllegalStateException("Expect a Record value schema. Got: " + valueSchema);
+    }
+    if (!WriteComputeOperation.isPartialUpdateOp(writeComputeRecord)) {
+      throw new IllegalStateException(
+          "Write Compute only support partial update. Got unexpected Write Compute record: " + writeComputeRecord);
+    }
+
+    final byte[] bytes = currValueBytes.array();
+    final AvroBinaryFieldCursor cursor = new AvroBinaryFieldCursor(
+        bytes,
+        currValueBytes.arrayOffset() + currValueBytes.position(),
+        currValueBytes.remaining());
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(currValueBytes.remaining());
+    int unchangedBytesStart = cursor.getPosition();
+    for (Schema.Field valueField: valueSchema.getFields()) {
+      final int fieldStart = cursor.getPosition();
+      cursor.skip(valueField.schema());
+      final int fieldEnd = cursor.getPosition();
+
+      Object writeComputeFieldValue = writeComputeRecord.get(valueField.name());
+      WriteComputeOperation operationType = WriteComputeOperation.getFieldOperationType(writeComputeFieldValue);
+      if (operationType == WriteComputeOperation.NO_OP_ON_FIELD) {
+        continue;
+      }
+      // Only collection merging needs the current field value, a put replaces it regardless.
+      Object currFieldValue = operationType == WriteComputeOperation.PUT_NEW_FIELD
+          ? null
+          : deserializeFieldValue(valueField.schema(), bytes, fieldStart, fieldEnd - fieldStart);
+      Object updatedFieldValue = updateFieldValue(valueField.schema(), currFieldValue, writeComputeFieldValue);
+      byte[] updatedFieldBytes =
+          MapOrderPreservingSerDeFactory.getSerializer(valueField.schema()).serialize(updatedFieldValue);
+
+      outputStream.write(bytes, unchangedBytesStart, fieldStart - unchangedBytesStart);
+      outputStream.write(updatedFieldBytes, 0, updatedFieldBytes.length);
+      unchangedBytesStart = fieldEnd;
+    }
+    if (cursor.getPosition() != cursor.getLimit()) {
+      throw new IllegalStateException(
+          "Expect the current value to be serialized with schema: " + valueSchema + ". Got "
+              + (cursor.getLimit() - cursor.getPosition()) + " trailing bytes.");
+    }
+    outputStream.write(bytes, unchangedBytesStart, cursor.getPosition() - unchangedBytesStart);
+    return outputStream.toByteArray();
+  }
+
+  private Object deserializeFieldValue(Schema fieldSchema, byte[] bytes, int offset, int length) {
+    BinaryDecoder decoder = AvroCompatibilityHelper.newBinaryDecoder(bytes, offset, length, null);
+    // The deserializer is typed for records, but decodes a datum of any schema.
+    return MapOrderPreservingSerDeFactory.getDeserializer(fieldSchema, fieldSchema).deserialize(decoder);
+  }
+
   /**
    * Handle partial update request on a value record that has associated replication metadata.
    */
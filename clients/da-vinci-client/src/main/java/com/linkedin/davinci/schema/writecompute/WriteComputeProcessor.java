@@ -3,6 +3,7 @@ package com.linkedin.davinci.schema.writecompute;
 import com.linkedin.davinci.schema.merge.MergeRecordHelper;
 import com.linkedin.davinci.schema.merge.ValueAndRmd;
 import io.tehuti.utils.Utils;
+import java.nio.ByteBuffer;
 import javax.annotation.concurrent.ThreadSafe;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericRecord;
@@ -55,6 +56,23 @@ public class WriteComputeProcessor {
         .updateValueRecord(Utils.notNull(valueSchema), currRecord, Utils.notNull(writeComputeRecord));
   }
 
+  /**
+   * Apply write-compute operations on the given serialized record, re-encoding only the fields they update.
+   *
+   * @param valueSchema the value schema which the record is serialized with, and which write compute schema is derived
+   *                    from
+   * @return serialized write-compute updated record
+   */
+  public byte[] updateSerializedRecord(
+      Schema valueSchema,
+      ByteBuffer currRecordBytes,
+      GenericRecord writeComputeRecord) {
+    return writeComputeHandlerV2.updateSerializedValueRecord(
+        Utils.notNull(valueSchema),
+        Utils.notNull(currRecordBytes),
+        Utils.notNull(writeComputeRecord));
+  }
+
   public ValueAndRmd<GenericRecord> updateRecordWithRmd(
       Schema currValueSchema,
       ValueAndRmd<GenericRecord> oldRecordAndRmd,
@@ -15,6 +15,8 @@ public class AggVersionedStorageEngineStats extends
     AbstractVeniceAggVersionedStats<AggVersionedStorageEngineStats.StorageEngineStats, AggVersionedStorageEngineStats.StorageEngineStatsReporter> {
   private static final Logger LOGGER = LogManager.getLogger(AggVersionedStorageEngineStats.class);
 
+  private final StorageEngineRestoreStats restoreStats;
+
   public AggVersionedStorageEngineStats(
       MetricsRepository metricsRepository,
       ReadOnlyStoreRepository metadataRepository,
@@ -25,6 +27,7 @@ public class AggVersionedStorageEngineStats extends
         StorageEngineStats::new,
         StorageEngineStatsReporter::new,
         unregisterMetricForDeletedStoreEnabled);
+    this.restoreStats = new StorageEngineRestoreStats(metricsRepository);
   }
 
   public void setStorageEngine(String topicName, AbstractStorageEngine storageEngine) {
@@ -55,9 +58,29 @@ public class AggVersionedStorageEngineStats extends
     }
   }
 
+  public void recordStorageEngineOpenLatency(String topicName, long latencyInMs) {
+    restoreStats.recordStorageEngineOpenLatency(latencyInMs);
+    if (!Version.isVersionTopicOrStreamReprocessingTopic(topicName)) {
+      LOGGER.warn("Invalid topic name: {}", topicName);
+      return;
+    }
+    String storeName = Version.parseStoreFromKafkaTopicName(topicName);
+    int version = Version.parseVersionFromKafkaTopicName(topicName);
+    try {
+      getStats(storeName, version).setOpenLatencyInMs(latencyInMs);
+    } catch (Exception e) {
+      LOGGER.warn("Failed to record open latency for store: {}, version: {}", storeName, version);
+    }
+  }
+
+  public void recordRestoreTime(long restoreTimeInMs) {
+    restoreStats.recordRestoreTime(restoreTimeInMs);
+  }
+
   static class StorageEngineStats {
     private AbstractStorageEngine storageEngine;
     private final AtomicInteger rocksDBOpenFailureCount = new AtomicInteger(0);
+    private volatile long openLatencyInMs = 0;
 
     public void setStorageEngine(AbstractStorageEngine storageEngine) {
       this.storageEngine = storageEngine;
@@ -77,9 +100,25 @@ public class AggVersionedStorageEngineStats extends
       return 0;
     }
 
+    public long getLazyPartitionOpenCount() {
+      return storageEngine == null ? 0 : storageEngine.getLazyPartitionOpenCount();
+    }
+
+    public long getIdlePartitionCloseCount() {
+      return storageEngine == null ? 0 : storageEngine.getIdlePartitionCloseCount();
+    }
+
+    public int getUnopenedPartitionCount() {
+      return storageEngine == null ? 0 : storageEngine.getUnopenedPartitionCount();
+    }
+
     public void recordRocksDBOpenFailure() {
       rocksDBOpenFailureCount.incrementAndGet();
     }
+
+    public void setOpenLatencyInMs(long openLatencyInMs) {
+      this.openLatencyInMs = openLatencyInMs;
+    }
   }
 
   static class StorageEngineStatsReporter extends AbstractVeniceStatsReporter<StorageEngineStats> {
@@ -113,6 +152,38 @@ public class AggVersionedStorageEngineStats extends
           return stats.rocksDBOpenFailureCount.get();
         }
       }, "rocksdb_open_failure_count"));
+      registerSensor(new AsyncGauge((ignored, ignored2) -> {
+        StorageEngineStats stats = getStats();
+        if (stats == null) {
+          return StatsErrorCode.NULL_STORAGE_ENGINE_STATS.code;
+        } else {
+          return stats.openLatencyInMs;
+        }
+      }, "storage_engine_open_latency_ms"));
+      registerSensor(new AsyncGauge((ignored, ignored2) -> {
+        StorageEngineStats stats = getStats();
+        if (stats == null) {
+          return StatsErrorCode.NULL_STORAGE_ENGINE_STATS.code;
+        } else {
+          return stats.getLazyPartitionOpenCount();
+        }
+      }, "lazy_partition_open_count"));
+      registerSensor(new AsyncGauge((ignored, ignored2) -> {
+        StorageEngineStats stats = getStats();
+        if (stats == null) {
+          return StatsErrorCode.NULL_STORAGE_ENGINE_STATS.code;
+        } else {
+          return stats.getIdlePartitionCloseCount();
+        }
+      }, "idle_partition_close_count"));
+      registerSensor(new AsyncGauge((ignored, ignored2) -> {
+        StorageEngineStats stats = getStats();
+        if (stats == null) {
+          return StatsErrorCode.NULL_STORAGE_ENGINE_STATS.code;
+        } else {
+          return stats.getUnopenedPartitionCount();
+        }
+      }, "unopened_partition_count"));
     }
   }
 }
@@ -122,6 +122,16 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
 
   private final Sensor leaderIngestionActiveActiveDeleteLatencySensor;
 
+  /**
+   * Measure the control loop of {@link com.linkedin.davinci.kafka.consumer.CompactionAwareIngestionThrottler}: the
+   * write stall pressure sampled at every interval, the records per second allowed to the store versions which are
+   * backed off, how often they are backed off, and how often their partitions are paused for the rest of an interval.
+   */
+  private final Sensor writeStallPressureSensor;
+  private final Sensor ingestionThrottlerRecordsPerSecLimitSensor;
+  private final Sensor ingestionThrottlerBackOffSensor;
+  private final Sensor ingestionThrottlerPartitionPauseSensor;
+
   /**
    * Measure the count of ignored updates due to conflict resolution
    */
@@ -425,6 +435,31 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
         totalStats,
         () -> totalStats.leaderIngestionActiveActiveDeleteLatencySensor,
         avgAndMax());
+
+    this.writeStallPressureSensor = registerPerStoreAndTotalSensor(
+        "write_stall_pressure",
+        totalStats,
+        () -> totalStats.writeStallPressureSensor,
+        avgAndMax());
+
+    this.ingestionThrottlerRecordsPerSecLimitSensor = registerPerStoreAndTotalSensor(
+        "compaction_aware_ingestion_throttler_records_per_sec_limit",
+        totalStats,
+        () -> totalStats.ingestionThrottlerRecordsPerSecLimitSensor,
+        new Avg(),
+        new Min());
+
+    this.ingestionThrottlerBackOffSensor = registerPerStoreAndTotalSensor(
+        "compaction_aware_ingestion_throttler_back_off",
+        totalStats,
+        () -> totalStats.ingestionThrottlerBackOffSensor,
+        new OccurrenceRate());
+
+    this.ingestionThrottlerPartitionPauseSensor = registerPerStoreAndTotalSensor(
+        "compaction_aware_ingestion_throttler_partition_pause",
+        totalStats,
+        () -> totalStats.ingestionThrottlerPartitionPauseSensor,
+        new OccurrenceRate());
   }
 
   /** Record a host-level byte consumption rate across all store versions */
@@ -592,4 +627,20 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
   public void recordOffsetRegressionDCRError() {
     totalOffsetRegressionDCRErrorRate.record();
   }
+
+  public void recordWriteStallPressure(double pressure) {
+    writeStallPressureSensor.record(pressure);
+  }
+
+  public void recordIngestionThrottlerRecordsPerSecLimit(long recordsPerSec) {
+    ingestionThrottlerRecordsPerSecLimitSensor.record(recordsPerSec);
+  }
+
+  public void recordIngestionThrottlerBackOff() {
+    ingestionThrottlerBackOffSensor.record();
+  }
+
+  public void recordIngestionThrottlerPartitionPause() {
+    ingestionThrottlerPartitionPauseSensor.record();
+  }
 }
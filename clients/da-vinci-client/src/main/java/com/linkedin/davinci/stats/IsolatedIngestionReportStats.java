@@ -0,0 +1,26 @@
+package com.linkedin.davinci.stats;
+
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.stats.AsyncGauge;
+import java.util.function.LongSupplier;
+
+
+/**
+ * Stats of the reports the forked ingestion process delivers to the main process, which get forwarded to the main
+ * process along with the other metrics of the forked process.
+ */
+public class IsolatedIngestionReportStats extends AbstractVeniceStats {
+  private static final String METRICS_PREFIX = "ingestion_isolation_report";
+
+  /**
+   * @param coalescedReportCount the number of PROGRESS reports which got superseded before being delivered
+   */
+  public IsolatedIngestionReportStats(MetricsRepository metricsRepository, LongSupplier coalescedReportCount) {
+    super(metricsRepository, METRICS_PREFIX);
+    registerSensor(
+        new AsyncGauge(
+            (ignored1, ignored2) -> coalescedReportCount.getAsLong(),
+            "coalesced_progress_report_count"));
+  }
+}
@@ -15,6 +15,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.rocksdb.Cache;
 import org.rocksdb.SstFileManager;
 
 
@@ -53,6 +54,7 @@ public class RocksDBMemoryStats extends AbstractVeniceStats {
       "rocksdb.num-running-compactions",
       "rocksdb.num-running-flushes",
       "rocksdb.actual-delayed-write-rate",
+      "rocksdb.is-write-stopped",
       "rocksdb.block-cache-capacity",
       "rocksdb.block-cache-pinned-usage",
       "rocksdb.block-cache-usage");
@@ -66,6 +68,8 @@ public class RocksDBMemoryStats extends AbstractVeniceStats {
               "rocksdb.block-cache-usage")));
   private volatile long memoryLimit = -1;
   private volatile SstFileManager sstFileManager;
+  private volatile Cache currentVersionBlockCache;
+  private volatile Cache nonCurrentVersionBlockCache;
 
   // metrics related to block cache, which should not be collected when plain table format is enabled.
   private static final Set<String> BLOCK_CACHE_METRICS =
@@ -100,6 +104,49 @@ public class RocksDBMemoryStats extends AbstractVeniceStats {
         return total;
       }, metric));
     }
+    /**
+     * The write stall pressure of the partition closest to having its writes delayed by RocksDB, see
+     * {@link RocksDBStoragePartition#getWriteStallPressure()}.
+     */
+    registerSensor(new AsyncGauge((ignored, ignored2) -> {
+      double maxPressure = 0;
+      synchronized (hostedRocksDBPartitions) {
+        for (RocksDBStoragePartition dbPartition: hostedRocksDBPartitions.values()) {
+          try {
+            maxPressure = Math.max(maxPressure, dbPartition.getWriteStallPressure());
+          } catch (VeniceException e) {
+            LOGGER.warn("Could not get the write stall pressure of a rocksDB partition with error:", e);
+          }
+        }
+      }
+      return maxPressure;
+    }, "max_write_stall_pressure"));
+    /**
+     * The usage of the block caches of the current and the non-current versions, refer
+     * {@link com.linkedin.davinci.store.rocksdb.RocksDBServerConfig#ROCKSDB_NON_CURRENT_VERSION_ISOLATION_ENABLED}.
+     * The non-current version ones are only reported when they have their own block cache.
+     */
+    registerSensor(
+        new AsyncGauge(
+            (ignored, ignored2) -> currentVersionBlockCache == null ? -1 : currentVersionBlockCache.getUsage(),
+            "current_version_block_cache_usage"));
+    registerSensor(
+        new AsyncGauge(
+            (ignored, ignored2) -> currentVersionBlockCache == null ? -1 : currentVersionBlockCache.getPinnedUsage(),
+            "current_version_block_cache_pinned_usage"));
+    registerSensor(
+        new AsyncGauge(
+            (ignored, ignored2) -> nonCurrentVersionBlockCache == null ? -1 : nonCurrentVersionBlockCache.getUsage(),
+            "non_current_version_block_cache_usage"));
+    registerSensor(
+        new AsyncGauge(
+            (ignored, ignored2) -> nonCurrentVersionBlockCache == null
+                ? -1
+                : nonCurrentVersionBlockCache.getPinnedUsage(),
+            "non_current_version_block_cache_pinned_usage"));
+    registerSensor(new AsyncGauge((ignored, ignored2) -> getMemtableUsage(true), "current_version_memtable_usage"));
+    registerSensor(
+        new AsyncGauge((ignored, ignored2) -> getMemtableUsage(false), "non_current_version_memtable_usage"));
     registerSensor(new AsyncGauge((ignored, ignored2) -> memoryLimit, "memory_limit"));
     registerSensor(new AsyncGauge((ignored, ignored2) -> {
       if (memoryLimit > 0 && sstFileManager != null) {
@@ -109,6 +156,32 @@ public class RocksDBMemoryStats extends AbstractVeniceStats {
     }, "memory_usage"));
   }
 
+  private long getMemtableUsage(boolean currentVersion) {
+    long total = 0;
+    synchronized (hostedRocksDBPartitions) {
+      for (RocksDBStoragePartition dbPartition: hostedRocksDBPartitions.values()) {
+        if (dbPartition.isCurrentVersion() != currentVersion) {
+          continue;
+        }
+        try {
+          total += dbPartition.getRocksDBStatValue("rocksdb.cur-size-all-mem-tables");
+        } catch (VeniceException e) {
+          LOGGER.warn("Could not get the memtable usage of a rocksDB partition with error:", e);
+        }
+      }
+    }
+    return total;
+  }
+
+  /**
+   * @param nonCurrentVersionBlockCache the block cache of the non-current versions, or null if they share the block
+   *                                    cache of the current versions.
+   */
+  public void setBlockCaches(Cache currentVersionBlockCache, Cache nonCurrentVersionBlockCache) {
+    this.currentVersionBlockCache = currentVersionBlockCache;
+    this.nonCurrentVersionBlockCache = nonCurrentVersionBlockCache;
+  }
+
   public void setMemoryLimit(long memoryLimit) {
     this.memoryLimit = memoryLimit;
   }
@@ -17,11 +17,25 @@ public class ServerMetadataServiceStats extends AbstractVeniceStats {
    */
   private final Sensor requestBasedMetadataFailureCount;
 
+  /**
+   * Measure the number of long poll requests waiting for the metadata to change
+   */
+  private final Sensor requestBasedMetadataLongPollCount;
+
+  /**
+   * Measure the number of long poll requests answered because the metadata changed
+   */
+  private final Sensor requestBasedMetadataLongPollChangeCount;
+
   public ServerMetadataServiceStats(MetricsRepository metricsRepository) {
     super(metricsRepository, "ServerMetadataStats");
 
     this.requestBasedMetadataInvokeCount = registerSensorIfAbsent("request_based_metadata_invoke_count", new Rate());
     this.requestBasedMetadataFailureCount = registerSensorIfAbsent("request_based_metadata_failure_count", new Rate());
+    this.requestBasedMetadataLongPollCount =
+        registerSensorIfAbsent("request_based_metadata_long_poll_count", new Rate());
+    this.requestBasedMetadataLongPollChangeCount =
+        registerSensorIfAbsent("request_based_metadata_long_poll_change_count", new Rate());
   }
 
   public void recordRequestBasedMetadataInvokeCount() {
@@ -31,4 +45,12 @@ public class ServerMetadataServiceStats extends AbstractVeniceStats {
   public void recordRequestBasedMetadataFailureCount() {
     requestBasedMetadataFailureCount.record();
   }
+
+  public void recordRequestBasedMetadataLongPollCount() {
+    requestBasedMetadataLongPollCount.record();
+  }
+
+  public void recordRequestBasedMetadataLongPollChangeCount() {
+    requestBasedMetadataLongPollChangeCount.record();
+  }
 }
@@ -0,0 +1,40 @@
+package com.linkedin.davinci.stats;
+
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Gauge;
+import io.tehuti.metrics.stats.Max;
+
+
+/**
+ * Host level stats of the restore of the persisted storage engines, which happens when the storage service starts.
+ */
+public class StorageEngineRestoreStats extends AbstractVeniceStats {
+  private static final String METRICS_PREFIX = "storage_engine_restore";
+
+  /**
+   * Time spent to open a storage engine and all its partitions.
+   */
+  private final Sensor storageEngineOpenLatencySensor;
+
+  /**
+   * Time spent to restore all the persisted storage engines.
+   */
+  private final Sensor restoreTimeSensor;
+
+  public StorageEngineRestoreStats(MetricsRepository metricsRepository) {
+    super(metricsRepository, METRICS_PREFIX);
+    storageEngineOpenLatencySensor = registerSensorIfAbsent("storage_engine_open_latency_ms", new Avg(), new Max());
+    restoreTimeSensor = registerSensorIfAbsent("restore_time_ms", new Gauge());
+  }
+
+  public void recordStorageEngineOpenLatency(double latencyInMs) {
+    storageEngineOpenLatencySensor.record(latencyInMs);
+  }
+
+  public void recordRestoreTime(double restoreTimeInMs) {
+    restoreTimeSensor.record(restoreTimeInMs);
+  }
+}
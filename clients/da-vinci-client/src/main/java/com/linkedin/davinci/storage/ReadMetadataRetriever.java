@@ -2,10 +2,18 @@ package com.linkedin.davinci.storage;
 
 import com.linkedin.davinci.listener.response.MetadataResponse;
 import com.linkedin.davinci.listener.response.ServerCurrentVersionResponse;
+import java.util.concurrent.CompletableFuture;
 
 
 public interface ReadMetadataRetriever {
   MetadataResponse getMetadata(String storeName);
 
+  /**
+   * Long poll the metadata of the given store.
+   * @return a future completed with the metadata once its hash differs from the given one, or with null if it doesn't
+   *         within the given time.
+   */
+  CompletableFuture<MetadataResponse> getMetadataOnChange(String storeName, int knownMetadataHash, long maxWaitMs);
+
   ServerCurrentVersionResponse getCurrentVersionResponse(String storeName);
 }
@@ -13,6 +13,7 @@ import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.StorageEngineFactory;
 import com.linkedin.davinci.store.blackhole.BlackHoleStorageEngineFactory;
 import com.linkedin.davinci.store.memory.InMemoryStorageEngineFactory;
+import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
 import com.linkedin.davinci.store.rocksdb.RocksDBStorageEngineFactory;
 import com.linkedin.venice.ConfigKeys;
 import com.linkedin.venice.exceptions.VeniceException;
@@ -22,9 +23,12 @@ import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
 import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.StoreDataChangedListener;
 import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.meta.VersionStatus;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.service.AbstractVeniceService;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.ExceptionUtils;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Utils;
@@ -39,6 +43,13 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -65,6 +76,13 @@ public class StorageService extends AbstractVeniceService {
   private final InternalAvroSpecificSerializer<StoreVersionState> storeVersionStateSerializer;
   private final InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer;
   private final ReadOnlyStoreRepository storeRepository;
+  private ScheduledExecutorService idlePartitionCloseExecutor;
+  private final StoreDataChangedListener versionSwapListener = new StoreDataChangedListener() {
+    @Override
+    public void handleStoreChanged(Store store) {
+      updateCurrentVersions(store);
+    }
+  };
 
   /**
    * Allocates a new {@code StorageService} object.
@@ -235,52 +253,238 @@ public class StorageService extends AbstractVeniceService {
       boolean restoreMetadataPartitions,
       Function<String, Boolean> checkWhetherStorageEngineShouldBeKeptOrNot) {
     LOGGER.info("Start restoring all the stores persisted previously");
-    for (Map.Entry<PersistenceType, StorageEngineFactory> entry: persistenceTypeToStorageEngineFactoryMap.entrySet()) {
-      PersistenceType pType = entry.getKey();
-      StorageEngineFactory factory = entry.getValue();
-      LOGGER.info("Start restoring all the stores with type: {}", pType);
-      Set<String> storeNames = factory.getPersistedStoreNames();
-      for (String storeName: storeNames) {
-        LOGGER.info("Start restoring store: {} with type: {}", storeName, pType);
-        /**
-         * Setup store-level persistence type based on current database setup.
-         */
-        VeniceStoreVersionConfig storeConfig = configLoader.getStoreConfig(storeName, pType);
-        // Load the metadata & data restore settings from config loader.
-        storeConfig.setRestoreDataPartitions(restoreDataPartitions);
-        storeConfig.setRestoreMetadataPartition(restoreMetadataPartitions);
-        AbstractStorageEngine storageEngine;
-
-        if (checkWhetherStorageEngineShouldBeKeptOrNot.apply(storeName)) {
+    long restoreStartTimeInNs = System.nanoTime();
+    int restoreParallelism = serverConfig.getStoreRestoreParallelism();
+    /**
+     * With a parallelism of 1, the restore tasks run in the calling thread, one after another. Otherwise, both the
+     * stores and their data partitions get opened by a pool of threads. None of the tasks blocks on another one, so
+     * a bounded pool can't deadlock.
+     */
+    ExecutorService restoreExecutor = restoreParallelism > 1
+        ? Executors.newFixedThreadPool(restoreParallelism, new DaemonThreadFactory("StorageService-Restore"))
+        : null;
+    Executor executor = restoreExecutor == null ? Runnable::run : restoreExecutor;
+    try {
+      for (Map.Entry<PersistenceType, StorageEngineFactory> entry: persistenceTypeToStorageEngineFactoryMap
+          .entrySet()) {
+        PersistenceType pType = entry.getKey();
+        StorageEngineFactory factory = entry.getValue();
+        LOGGER.info("Start restoring all the stores with type: {} and parallelism: {}", pType, restoreParallelism);
+        List<String> currentVersionStoreNames = new ArrayList<>();
+        List<String> otherStoreNames = new ArrayList<>();
+        for (String storeName: factory.getPersistedStoreNames()) {
+          if (!checkWhetherStorageEngineShouldBeKeptOrNot.apply(storeName)) {
+            LOGGER.info("Starting deleting local storage engine: {} with type: {}", storeName, pType);
+            factory.removeStorageEngine(storeName);
+            LOGGER.info("Done deleting local storage engine: {} with type: {}", storeName, pType);
+          } else if (isCurrentVersion(storeName)) {
+            currentVersionStoreNames.add(storeName);
+          } else {
+            otherStoreNames.add(storeName);
+          }
+        }
+        // Current versions serve the reads, so they are fully restored before the backup and future versions.
+        for (List<String> storeNames: Arrays.asList(currentVersionStoreNames, otherStoreNames)) {
+          List<CompletableFuture<Void>> restoreFutures = new ArrayList<>(storeNames.size());
+          for (String storeName: storeNames) {
+            /**
+             * Setup store-level persistence type based on current database setup.
+             */
+            VeniceStoreVersionConfig storeConfig = configLoader.getStoreConfig(storeName, pType);
+            // Load the metadata & data restore settings from config loader.
+            storeConfig.setRestoreDataPartitions(restoreDataPartitions);
+            storeConfig.setRestoreMetadataPartition(restoreMetadataPartitions);
+            restoreFutures.add(restoreStore(storeConfig, factory, executor));
+          }
           try {
-            storageEngine = openStore(storeConfig, () -> null);
-          } catch (Exception e) {
-            if (ExceptionUtils.recursiveClassEquals(e, RocksDBException.class)) {
-              LOGGER.warn("Encountered RocksDB error while opening store: {}", storeName, e);
-              // if store version does not exist, clean up the resources.
-              deleteStorageEngineOnRocksDBError(storeName, storeRepository, factory);
-              continue;
+            CompletableFuture.allOf(restoreFutures.toArray(new CompletableFuture[0])).join();
+          } catch (CompletionException e) {
+            if (e.getCause() instanceof VeniceException) {
+              throw (VeniceException) e.getCause();
             }
-            LOGGER.error("Could not load the following store : " + storeName, e);
-            aggVersionedStorageEngineStats.recordRocksDBOpenFailure(storeName);
-            throw new VeniceException("Error caught during opening store " + storeName, e);
+            throw new VeniceException("Error caught during restoring stores", e.getCause());
           }
+        }
+        LOGGER.info("Done restoring all the stores with type: {}", pType);
+      }
+    } finally {
+      if (restoreExecutor != null) {
+        restoreExecutor.shutdownNow();
+      }
+    }
+    long restoreTimeInMs = LatencyUtils.getElapsedTimeFromNSToMS(restoreStartTimeInNs);
+    aggVersionedStorageEngineStats.recordRestoreTime(restoreTimeInMs);
+    LOGGER.info("Done restoring all the stores persisted previously in {} ms", restoreTimeInMs);
+  }
 
-          Set<Integer> partitionIds = storageEngine.getPartitionIds();
-          LOGGER.info(
-              "Loaded the following partitions: {}, for store: {}",
-              Arrays.toString(partitionIds.toArray()),
-              storeName);
-          LOGGER.info("Done restoring store: {} with type: {}", storeName, pType);
-        } else {
-          LOGGER.info("Starting deleting local storage engine: {} with type: {}", storeName, pType);
-          factory.removeStorageEngine(storeName);
-          LOGGER.info("Done deleting local storage engine: {} with type: {}", storeName, pType);
+  /**
+   * Opens the storage engine of a persisted store, then its data partitions as separate tasks of the executor, so
+   * that the partitions of a large store get opened concurrently as well.
+   *
+   * @return a future completing once the store and all its partitions are opened, or once the store got deleted
+   *         because of a RocksDB error. It completes exceptionally with a {@link VeniceException} otherwise.
+   */
+  private CompletableFuture<Void> restoreStore(
+      VeniceStoreVersionConfig storeConfig,
+      StorageEngineFactory factory,
+      Executor executor) {
+    String storeName = storeConfig.getStoreVersionName();
+    boolean restoreDataPartitions = storeConfig.isRestoreDataPartitions();
+    long startTimeInNs = System.nanoTime();
+    return CompletableFuture.supplyAsync(() -> {
+      LOGGER.info("Start restoring store: {} with type: {}", storeName, factory.getPersistenceType());
+      // The data partitions are restored below, with one task per partition.
+      storeConfig.setRestoreDataPartitions(false);
+      try {
+        return openStoreForRestore(storeConfig);
+      } catch (Exception e) {
+        handleStoreRestoreFailure(storeName, factory, e);
+        return null;
+      } finally {
+        storeConfig.setRestoreDataPartitions(restoreDataPartitions);
+      }
+    }, executor).thenCompose(storageEngine -> {
+      if (storageEngine == null) {
+        return CompletableFuture.completedFuture(null);
+      }
+      List<CompletableFuture<Void>> partitionFutures = new ArrayList<>();
+      if (restoreDataPartitions) {
+        List<Integer> partitionIds = new ArrayList<>((Set<Integer>) storageEngine.getPersistedPartitionIds());
+        // reverse order, to minimize array resizing in {@link SparseConcurrentList} when restoring sequentially
+        partitionIds.sort(Collections.reverseOrder());
+        for (Integer partitionId: partitionIds) {
+          if (!AbstractStorageEngine.isMetadataPartition(partitionId)) {
+            partitionFutures
+                .add(CompletableFuture.runAsync(() -> storageEngine.restoreStoragePartition(partitionId), executor));
+          }
         }
       }
-      LOGGER.info("Done restoring all the stores with type: {}", pType);
+      return CompletableFuture.allOf(partitionFutures.toArray(new CompletableFuture[0]))
+          .handle((ignored, throwable) -> {
+            if (throwable != null) {
+              // Only close the storage engine once none of its partitions is being opened anymore.
+              closeStorageEngine(storeName);
+              handleStoreRestoreFailure(
+                  storeName,
+                  factory,
+                  throwable instanceof CompletionException ? throwable.getCause() : throwable);
+              return null;
+            }
+            long openLatencyInMs = LatencyUtils.getElapsedTimeFromNSToMS(startTimeInNs);
+            aggVersionedStorageEngineStats.recordStorageEngineOpenLatency(storeName, openLatencyInMs);
+            LOGGER.info(
+                "Loaded the following partitions: {}, for store: {} in {} ms",
+                Arrays.toString(storageEngine.getPartitionIds().toArray()),
+                storeName,
+                openLatencyInMs);
+            LOGGER.info("Done restoring store: {} with type: {}", storeName, factory.getPersistenceType());
+            return null;
+          });
+    });
+  }
+
+  /**
+   * A store which can't be opened because of a RocksDB error is skipped, and deleted if it isn't needed anymore. Any
+   * other error fails the restore.
+   */
+  private void handleStoreRestoreFailure(String storeName, StorageEngineFactory factory, Throwable e) {
+    if (ExceptionUtils.recursiveClassEquals(e, RocksDBException.class)) {
+      LOGGER.warn("Encountered RocksDB error while opening store: {}", storeName, e);
+      // if store version does not exist, clean up the resources.
+      deleteStorageEngineOnRocksDBError(storeName, storeRepository, factory);
+      return;
+    }
+    LOGGER.error("Could not load the following store : " + storeName, e);
+    aggVersionedStorageEngineStats.recordRocksDBOpenFailure(storeName);
+    throw new VeniceException("Error caught during opening store " + storeName, e);
+  }
+
+  /**
+   * Closes the idle partitions of the online versions which are not current, see
+   * {@link AbstractStorageEngine#closeIdlePartitions}. The other versions are left alone, as they either serve the
+   * reads or are being ingested.
+   */
+  void closeIdlePartitions(long idleTimeoutInMs) {
+    for (AbstractStorageEngine engine: storageEngineRepository.getAllLocalStorageEngines()) {
+      String storeVersionName = engine.getStoreVersionName();
+      if (!engine.isLazyPartitionOpenEnabled() || !Version.isVersionTopic(storeVersionName)) {
+        continue;
+      }
+      try {
+        Store store = storeRepository.getStore(Version.parseStoreFromKafkaTopicName(storeVersionName));
+        int versionNumber = Version.parseVersionFromKafkaTopicName(storeVersionName);
+        if (store == null || store.getCurrentVersion() == versionNumber) {
+          continue;
+        }
+        Version version = store.getVersion(versionNumber);
+        if (version == null || version.getStatus() != VersionStatus.ONLINE) {
+          continue;
+        }
+        engine.closeIdlePartitions(idleTimeoutInMs);
+      } catch (Exception e) {
+        LOGGER.error("Failed to close the idle partitions of: {}", storeVersionName, e);
+      }
+    }
+  }
+
+  /**
+   * Tells the storage engines of a store which of their store versions is the current version after a version swap or
+   * a rollback, see {@link RocksDBServerConfig#ROCKSDB_NON_CURRENT_VERSION_ISOLATION_ENABLED}. The opened partitions
+   * are not reopened for it, since a version which just got swapped in or out may still serve reads. They keep their
+   * RocksDB resources until they get reopened, and the future versions switch to the resources of the current
+   * versions when they become ready to serve, see {@link AbstractStorageEngine#setCurrentVersion(boolean)}.
+   */
+  void updateCurrentVersions(Store store) {
+    int currentVersion = store.getCurrentVersion();
+    for (AbstractStorageEngine engine: storageEngineRepository.getAllLocalStorageEngines()) {
+      String storeVersionName = engine.getStoreVersionName();
+      if (!Version.isVersionTopic(storeVersionName)
+          || !store.getName().equals(Version.parseStoreFromKafkaTopicName(storeVersionName))) {
+        continue;
+      }
+      int version = Version.parseVersionFromKafkaTopicName(storeVersionName);
+      // The future versions are left as they are, until they become ready to serve.
+      if (version <= currentVersion) {
+        engine.setCurrentVersion(version == currentVersion);
+      }
+    }
+  }
+
+  /**
+   * Classifies a new storage engine before any of its data partitions gets opened. The storage engines of the stores
+   * unknown to the store repository are left as they are.
+   */
+  private void initCurrentVersion(AbstractStorageEngine engine) {
+    String storeVersionName = engine.getStoreVersionName();
+    if (storeRepository == null || !Version.isVersionTopic(storeVersionName)) {
+      return;
+    }
+    try {
+      Store store = storeRepository.getStore(Version.parseStoreFromKafkaTopicName(storeVersionName));
+      if (store != null) {
+        engine.setCurrentVersion(store.getCurrentVersion() == Version.parseVersionFromKafkaTopicName(storeVersionName));
+      }
+    } catch (Exception e) {
+      LOGGER.error("Failed to check whether {} is a current version", storeVersionName, e);
+    }
+  }
+
+  private boolean isNonCurrentVersionIsolationEnabled() {
+    RocksDBServerConfig rocksDBServerConfig = serverConfig.getRocksDBServerConfig();
+    return rocksDBServerConfig != null && rocksDBServerConfig.isNonCurrentVersionIsolationEnabled();
+  }
+
+  private boolean isCurrentVersion(String storeVersionName) {
+    if (storeRepository == null || !Version.isVersionTopic(storeVersionName)) {
+      return false;
+    }
+    try {
+      Store store = storeRepository.getStore(Version.parseStoreFromKafkaTopicName(storeVersionName));
+      return store != null && store.getCurrentVersion() == Version.parseVersionFromKafkaTopicName(storeVersionName);
+    } catch (Exception e) {
+      LOGGER.warn("Failed to check whether {} is a current version", storeVersionName, e);
+      return false;
     }
-    LOGGER.info("Done restoring all the stores persisted previously");
   }
 
   public synchronized AbstractStorageEngine openStoreForNewPartition(
@@ -346,7 +550,28 @@ public class StorageService extends AbstractVeniceService {
     if (engine != null) {
       return engine;
     }
+    engine = createStorageEngine(storeConfig);
+    registerStorageEngine(engine, initialStoreVersionStateSupplier.get());
+    return engine;
+  }
 
+  /**
+   * Different from {@link #openStore}, the lock of this service is only held to register the storage engine, and not
+   * while it gets opened, so that several stores can be restored concurrently. The factory guarantees that the same
+   * store doesn't get opened twice.
+   */
+  private AbstractStorageEngine openStoreForRestore(VeniceStoreVersionConfig storeConfig) {
+    AbstractStorageEngine engine = createStorageEngine(storeConfig);
+    synchronized (this) {
+      if (storageEngineRepository.getLocalStorageEngine(storeConfig.getStoreVersionName()) == null) {
+        registerStorageEngine(engine, null);
+      }
+    }
+    return engine;
+  }
+
+  private AbstractStorageEngine createStorageEngine(VeniceStoreVersionConfig storeConfig) {
+    String topicName = storeConfig.getStoreVersionName();
     long startTimeInBuildingNewEngine = System.nanoTime();
     /**
      * For new store, it will use the storage engine configured in host level if it is not known.
@@ -357,13 +582,11 @@ public class StorageService extends AbstractVeniceService {
 
     LOGGER.info("Creating/Opening Storage Engine {} with type: {}", topicName, storeConfig.getStorePersistenceType());
     StorageEngineFactory factory = getInternalStorageEngineFactory(storeConfig);
-    engine =
+    AbstractStorageEngine engine =
         factory.getStorageEngine(storeConfig, isReplicationMetadataEnabled(topicName, factory.getPersistenceType()));
-    engine.updateStoreVersionStateCache(initialStoreVersionStateSupplier.get());
-    storageEngineRepository.addLocalStorageEngine(engine);
-    // Setup storage engine stats
-    aggVersionedStorageEngineStats.setStorageEngine(topicName, engine);
-
+    if (isNonCurrentVersionIsolationEnabled()) {
+      initCurrentVersion(engine);
+    }
     LOGGER.info(
         "time spent on creating new storage Engine for store {}: {} ms",
         topicName,
@@ -371,6 +594,13 @@ public class StorageService extends AbstractVeniceService {
     return engine;
   }
 
+  private synchronized void registerStorageEngine(AbstractStorageEngine engine, StoreVersionState storeVersionState) {
+    engine.updateStoreVersionStateCache(storeVersionState);
+    storageEngineRepository.addLocalStorageEngine(engine);
+    // Setup storage engine stats
+    aggVersionedStorageEngineStats.setStorageEngine(engine.getStoreVersionName(), engine);
+  }
+
   /**
    * Drops the partition of the specified store version in the storage service. When all data partitions are dropped,
    * it will also drop the storage engine of the specific store version.
@@ -531,6 +761,22 @@ public class StorageService extends AbstractVeniceService {
 
   @Override
   public boolean startInner() throws Exception {
+    RocksDBServerConfig rocksDBServerConfig = serverConfig.getRocksDBServerConfig();
+    if (rocksDBServerConfig != null && rocksDBServerConfig.isLazyPartitionOpenEnabled()
+        && rocksDBServerConfig.getIdlePartitionCloseTimeoutMs() > 0) {
+      long idleTimeoutInMs = rocksDBServerConfig.getIdlePartitionCloseTimeoutMs();
+      long checkIntervalInMs = Math.max(idleTimeoutInMs / 10, TimeUnit.SECONDS.toMillis(1));
+      idlePartitionCloseExecutor =
+          Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("StorageService-IdlePartitionClose"));
+      idlePartitionCloseExecutor.scheduleWithFixedDelay(
+          () -> closeIdlePartitions(idleTimeoutInMs),
+          checkIntervalInMs,
+          checkIntervalInMs,
+          TimeUnit.MILLISECONDS);
+    }
+    if (storeRepository != null && isNonCurrentVersionIsolationEnabled()) {
+      storeRepository.registerStoreDataChangedListener(versionSwapListener);
+    }
     // After Storage Node starts, Helix controller initiates the state transition for the Stores that
     // should be consumed/served by the router.
 
@@ -540,6 +786,12 @@ public class StorageService extends AbstractVeniceService {
 
   @Override
   public void stopInner() throws VeniceException {
+    if (idlePartitionCloseExecutor != null) {
+      idlePartitionCloseExecutor.shutdownNow();
+    }
+    if (storeRepository != null && isNonCurrentVersionIsolationEnabled()) {
+      storeRepository.unregisterStoreDataChangedListener(versionSwapListener);
+    }
     VeniceException lastException = null;
     try {
       this.storageEngineRepository.close();
@@ -213,6 +213,33 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
         computingCallback);
   }
 
+  public <K> void getByKeyRange(
+      AbstractStorageEngine store,
+      int userPartition,
+      byte[] startKeyBytes,
+      byte[] endKeyBytes,
+      boolean isChunked,
+      BinaryDecoder reusedDecoder,
+      RecordDeserializer<K> keyDeserializer,
+      int readerSchemaId,
+      StoreDeserializerCache<T> storeDeserializerCache,
+      VeniceCompressor compressor,
+      StreamingCallback<K, T> callback) {
+    ChunkingUtils.getFromStorageByKeyRange(
+        this,
+        store,
+        userPartition,
+        startKeyBytes,
+        endKeyBytes,
+        isChunked,
+        keyDeserializer,
+        reusedDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor,
+        callback);
+  }
+
   private final DecompressingDecoderWrapperValueOnly<byte[], T> byteArrayDecompressingDecoderValueOnly = (
       reusedDecoder,
       bytes,
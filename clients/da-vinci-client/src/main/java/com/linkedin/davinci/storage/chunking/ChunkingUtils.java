@@ -199,6 +199,62 @@ public class ChunkingUtils {
     store.getByKeyPrefix(partition, keyPrefixBytes, callback);
   }
 
+  /**
+   * Scans the keys of a partition within the range [startKeyBytes, endKeyBytes), and re-assembles the chunked values.
+   *
+   * Chunks are skipped while iterating, and fetched when their manifest is found under the top-level key. Since keys
+   * are serialized by a self-delimiting Avro encoding, no key is a prefix of another one, so the chunking suffix
+   * doesn't move any top-level key across the bounds of the range.
+   */
+  static <CHUNKS_CONTAINER, KEY, VALUE> void getFromStorageByKeyRange(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int partition,
+      byte[] startKeyBytes,
+      byte[] endKeyBytes,
+      boolean isChunked,
+      RecordDeserializer<KEY> keyDeserializer,
+      BinaryDecoder reusedDecoder,
+      int readerSchemaId,
+      StoreDeserializerCache<VALUE> storeDeserializerCache,
+      VeniceCompressor compressor,
+      StreamingCallback<KEY, VALUE> callback) {
+
+    BytesStreamingCallback bytesStreamingCallback = new BytesStreamingCallback() {
+      @Override
+      public void onRecordReceived(byte[] key, byte[] value) {
+        if (key == null || value == null
+            || ValueRecord.parseSchemaId(value) == AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion()) {
+          return;
+        }
+        byte[] userKey = isChunked ? KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.getKeyFromNonChunkedKey(key) : key;
+        VALUE deserializedValue = getFromStorage(
+            value,
+            value.length,
+            0,
+            adapter,
+            store,
+            partition,
+            null,
+            null,
+            reusedDecoder,
+            readerSchemaId,
+            storeDeserializerCache,
+            compressor,
+            false,
+            null);
+        callback.onRecordReceived(keyDeserializer.deserialize(userKey), deserializedValue);
+      }
+
+      @Override
+      public void onCompletion() {
+        /* Nothing to do here. */
+      }
+    };
+
+    store.getByKeyRange(partition, startKeyBytes, endKeyBytes, bytesStreamingCallback);
+  }
+
   /**
    * Fetches the value associated with the given key, and potentially re-assembles it, if it is
    * a chunked value.
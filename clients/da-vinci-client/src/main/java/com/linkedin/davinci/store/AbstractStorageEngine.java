@@ -16,6 +16,7 @@ import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.SparseConcurrentList;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.io.Closeable;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -25,6 +26,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -66,7 +68,23 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
 
   private final String storeVersionName;
   private final SparseConcurrentList<Partition> partitionList = new SparseConcurrentList<>();
+  /**
+   * Persisted data partitions which are registered, but not opened, see {@link #isLazyPartitionOpenEnabled()}.
+   */
+  private final Set<Integer> unopenedPartitionIds = VeniceConcurrentHashMap.newKeySet();
+  /**
+   * Guards the lazy opening of the partitions. It is only taken while holding the read lock of the partition, or the
+   * lock of this storage engine, and no other lock is acquired while holding it.
+   */
+  private final Object lazyPartitionOpenLock = new Object();
+  private final AtomicLong lazyPartitionOpenCount = new AtomicLong();
+  private final AtomicLong idlePartitionCloseCount = new AtomicLong();
   private Partition metadataPartition;
+  /**
+   * Whether this store version uses the resources of the current versions, which its data partitions get opened with,
+   * see {@link StoragePartitionConfig#isCurrentVersion()}.
+   */
+  private volatile boolean currentVersion = true;
   private final AtomicReference<StoreVersionState> versionStateCache = new AtomicReference<>();
   private final InternalAvroSpecificSerializer<StoreVersionState> storeVersionStateSerializer;
   private final InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer;
@@ -137,6 +155,15 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
 
   public abstract Partition createStoragePartition(StoragePartitionConfig partitionConfig);
 
+  /**
+   * When enabled, the persisted data partitions are only registered when the storage engine gets restored, and each of
+   * them is opened on its first access, by a read or by ingestion. Partitions which have been idle for a while can be
+   * closed with {@link #closeIdlePartitions}, and get opened again on their next access.
+   */
+  public boolean isLazyPartitionOpenEnabled() {
+    return false;
+  }
+
   /**
    * Load the existing storage partitions.
    * The implementation should decide when to call this function properly to restore partitions.
@@ -161,10 +188,14 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
 
     if (restoreDataPartitions) {
       LOGGER.info("Data partitions restore enabled. Restoring data partitions.");
-      partitionIds.stream()
-          .sorted((o1, o2) -> Integer.compare(o2, o1)) // reverse order, to minimize array resizing in {@link
-                                                       // SparseConcurrentList}
-          .forEach(this::addStoragePartition);
+      if (isLazyPartitionOpenEnabled()) {
+        partitionIds.forEach(this::registerUnopenedPartition);
+      } else {
+        partitionIds.stream()
+            .sorted((o1, o2) -> Integer.compare(o2, o1)) // reverse order, to minimize array resizing in {@link
+                                                         // SparseConcurrentList}
+            .forEach(this::addStoragePartition);
+      }
     }
   }
 
@@ -193,7 +224,12 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
           "StoragePartitionConfig should contain the right partition id: " + partitionId + ", but got "
               + partitionConfig.getPartitionId());
     }
+    partitionConfig.setCurrentVersion(currentVersion);
     LOGGER.info("Storage partition adjustment got triggered by: {} with config: {}", mode, partitionConfig);
+    if (unopenedPartitionIds.contains(partitionId) && openUnopenedPartition(partitionConfig) != null) {
+      LOGGER.info("Opened the unopened partition: {} with the adjusted config", partitionId);
+      return;
+    }
     AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
     if (partition.verifyConfig(partitionConfig)) {
       LOGGER.info("Store partition adjustment will be skipped as there is no difference");
@@ -232,8 +268,153 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
           "Partition " + partitionId + " of store " + this.getStoreVersionName() + " already exists.");
     }
 
+    storagePartitionConfig.setCurrentVersion(currentVersion);
+    setStoragePartition(partitionId, createStoragePartition(storagePartitionConfig));
+  }
+
+  /**
+   * Opens a persisted data partition. Different from {@link #addStoragePartition(int)}, the lock of this storage engine
+   * is not held while the partition gets opened, so that several partitions of the same store can be restored
+   * concurrently. The partition is only registered when {@link #isLazyPartitionOpenEnabled()}.
+   */
+  public void restoreStoragePartition(int partitionId) {
+    StoragePartitionConfig storagePartitionConfig = new StoragePartitionConfig(storeVersionName, partitionId);
+    storagePartitionConfig.setCurrentVersion(currentVersion);
+    if (partitionId == METADATA_PARTITION_ID) {
+      throw new StorageInitializationException("The metadata partition is not allowed to be set via this function!");
+    }
+    if (isLazyPartitionOpenEnabled()) {
+      registerUnopenedPartition(partitionId);
+      return;
+    }
+    if (containsPartition(partitionId)) {
+      throw new StorageInitializationException(
+          "Partition " + partitionId + " of store " + this.getStoreVersionName() + " already exists.");
+    }
     Partition partition = createStoragePartition(storagePartitionConfig);
+    synchronized (this) {
+      if (containsPartition(partitionId)) {
+        partition.close();
+        throw new StorageInitializationException(
+            "Partition " + partitionId + " of store " + this.getStoreVersionName() + " already exists.");
+      }
+      setStoragePartition(partitionId, partition);
+    }
+  }
+
+  private synchronized void registerUnopenedPartition(int partitionId) {
+    if (containsPartition(partitionId)) {
+      throw new StorageInitializationException(
+          "Partition " + partitionId + " of store " + this.getStoreVersionName() + " already exists.");
+    }
+    unopenedPartitionIds.add(partitionId);
+    createRWLockForPartitionIfAbsent(partitionId);
+  }
+
+  /**
+   * @return the opened partition, or null if the partition isn't registered anymore.
+   */
+  private Partition openUnopenedPartition(StoragePartitionConfig storagePartitionConfig) {
+    int partitionId = storagePartitionConfig.getPartitionId();
+    synchronized (lazyPartitionOpenLock) {
+      Partition partition = partitionList.get(partitionId);
+      if (partition != null || !unopenedPartitionIds.contains(partitionId)) {
+        return partition;
+      }
+      long startTimeInMs = System.currentTimeMillis();
+      storagePartitionConfig.setCurrentVersion(currentVersion);
+      partition = createStoragePartition(storagePartitionConfig);
+      partitionList.set(partitionId, partition);
+      unopenedPartitionIds.remove(partitionId);
+      lazyPartitionOpenCount.incrementAndGet();
+      LOGGER.info(
+          "Lazily opened partition: {} of store: {} in {} ms",
+          partitionId,
+          storeVersionName,
+          LatencyUtils.getElapsedTimeFromMsToMs(startTimeInMs));
+      return partition;
+    }
+  }
+
+  /**
+   * Closes the opened data partitions which haven't been accessed for the given time. They are still hosted by this
+   * storage engine, and get opened again on their next access. Partitions being used at the moment are skipped.
+   *
+   * @return the number of closed partitions
+   */
+  public synchronized int closeIdlePartitions(long idleTimeoutInMs) {
+    if (!isLazyPartitionOpenEnabled()) {
+      return 0;
+    }
+    long currentTimeInMs = System.currentTimeMillis();
+    int closedPartitionCount = 0;
+    for (Partition partition: new ArrayList<>(partitionList.values())) {
+      int partitionId = partition.getPartitionId();
+      if (currentTimeInMs - partition.getLastAccessTimeInMs() < idleTimeoutInMs) {
+        continue;
+      }
+      ReadWriteLock readWriteLock = getRWLockForPartitionOrThrow(partitionId);
+      if (!readWriteLock.writeLock().tryLock()) {
+        continue;
+      }
+      try {
+        if (partitionList.get(partitionId) != partition) {
+          continue;
+        }
+        partitionList.remove(partitionId);
+        unopenedPartitionIds.add(partitionId);
+        partition.close();
+      } finally {
+        readWriteLock.writeLock().unlock();
+      }
+      idlePartitionCloseCount.incrementAndGet();
+      closedPartitionCount++;
+    }
+    if (closedPartitionCount > 0) {
+      LOGGER.info("Closed {} idle partitions of store: {}", closedPartitionCount, storeVersionName);
+    }
+    return closedPartitionCount;
+  }
+
+  public long getLazyPartitionOpenCount() {
+    return lazyPartitionOpenCount.get();
+  }
+
+  public long getIdlePartitionCloseCount() {
+    return idlePartitionCloseCount.get();
+  }
+
+  public int getUnopenedPartitionCount() {
+    return unopenedPartitionIds.size();
+  }
+
+  public boolean isCurrentVersion() {
+    return currentVersion;
+  }
+
+  /**
+   * Sets whether this store version uses the resources of the current versions. The opened data partitions are not
+   * reopened for it, since they may be serving reads. It applies to the ones opened or adjusted from now on, such as
+   * at {@link StoragePartitionAdjustmentTrigger#END_BATCH_PUSH} and
+   * {@link StoragePartitionAdjustmentTrigger#PREPARE_FOR_READ}, when the version becomes ready to serve.
+   */
+  public synchronized void setCurrentVersion(boolean currentVersion) {
+    this.currentVersion = currentVersion;
+  }
+
+  /**
+   * @return the data partitions which are opened at the moment, without opening the other ones.
+   */
+  protected synchronized List<Partition> getOpenedPartitions() {
+    return new ArrayList<>(partitionList.values());
+  }
+
+  private void setStoragePartition(int partitionId, Partition partition) {
     this.partitionList.set(partitionId, partition);
+    createRWLockForPartitionIfAbsent(partitionId);
+  }
+
+  private void createRWLockForPartitionIfAbsent(int partitionId) {
     if (this.rwLockForStoragePartitionAdjustmentList.get(partitionId) == null) {
       /**
        * It is intentional to keep the read-write lock even the partition gets moved to other places
@@ -247,6 +428,9 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
   }
 
   public synchronized void closePartition(int partitionId) {
+    if (unopenedPartitionIds.remove(partitionId)) {
+      return;
+    }
     AbstractStoragePartition partition = this.partitionList.remove(partitionId);
     if (partition == null) {
       LOGGER.error("Failed to close a non existing partition: {} Store {}", partitionId, getStoreVersionName());
@@ -295,6 +479,10 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
       clearPartitionOffset(partitionId);
     }
 
+    if (unopenedPartitionIds.contains(partitionId)) {
+      // The partition needs to be opened to get dropped properly.
+      openUnopenedPartition(new StoragePartitionConfig(storeVersionName, partitionId));
+    }
     AbstractStoragePartition partition = this.partitionList.remove(partitionId);
     partition.drop();
 
@@ -330,9 +518,8 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
       LOGGER.info("Started dropping store: {}", getStoreVersionName());
     }
 
-    // partitionList is implementation of SparseConcurrentList which sets element to null on `remove`. So its fine
-    // to call size() while removing elements from the list.
-    for (int partitionId = 0; partitionId < partitionList.size(); partitionId++) {
+    // The unopened partitions are included, and get opened to be dropped.
+    for (int partitionId: getPartitionIds()) {
       if (!containsPartition(partitionId)) {
         continue;
       }
@@ -366,11 +553,12 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
         storeVersionName,
         LatencyUtils.getElapsedTimeFromMsToMs(startTime));
     partitionList.clear();
+    unopenedPartitionIds.clear();
     closeMetadataPartition();
   }
 
   public boolean isClosed() {
-    return this.partitionList.isEmpty();
+    return this.partitionList.isEmpty() && unopenedPartitionIds.isEmpty();
   }
 
   /**
@@ -450,11 +638,14 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
    */
   public void reopenStoragePartition(int partitionId) {
     executeWithSafeGuard(partitionId, () -> {
-      if (!containsPartition(partitionId)) {
-        LOGGER.warn("Partition {}_{} doesn't exist.", storeVersionName, partitionId);
+      AbstractStoragePartition storagePartition = partitionList.get(partitionId);
+      if (storagePartition == null) {
+        // An unopened partition doesn't hold any resource, so there is nothing to reopen.
+        if (!unopenedPartitionIds.contains(partitionId)) {
+          LOGGER.warn("Partition {}_{} doesn't exist.", storeVersionName, partitionId);
+        }
         return;
       }
-      AbstractStoragePartition storagePartition = getPartitionOrThrow(partitionId);
       storagePartition.reopen();
     });
   }
@@ -530,6 +721,17 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  public void getByKeyRange(
+      int partitionId,
+      byte[] startKey,
+      byte[] endKey,
+      BytesStreamingCallback bytesStreamingCallback) {
+    executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      partition.getByKeyRange(startKey, endKey, bytesStreamingCallback);
+    });
+  }
+
   public void delete(int partitionId, byte[] key) throws VeniceException {
     executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
@@ -678,7 +880,7 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
    * @return True/False, does the partition exist on this node
    */
   public synchronized boolean containsPartition(int partitionId) {
-    return this.partitionList.get(partitionId) != null;
+    return this.partitionList.get(partitionId) != null || unopenedPartitionIds.contains(partitionId);
   }
 
   /**
@@ -688,7 +890,7 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
    * @return the number of non-null partitions in {@link #partitionList}
    */
   public synchronized long getNumberOfPartitions() {
-    return this.partitionList.nonNullSize();
+    return this.partitionList.nonNullSize() + unopenedPartitionIds.size();
   }
 
   /**
@@ -697,7 +899,10 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
    * @return partition Ids that are hosted in the current Storage Engine.
    */
   public synchronized Set<Integer> getPartitionIds() {
-    return this.partitionList.values().stream().map(Partition::getPartitionId).collect(Collectors.toSet());
+    Set<Integer> partitionIds =
+        this.partitionList.values().stream().map(Partition::getPartitionId).collect(Collectors.toSet());
+    partitionIds.addAll(unopenedPartitionIds);
+    return partitionIds;
   }
 
   public AbstractStoragePartition getPartitionOrThrow(int partitionId) {
@@ -706,6 +911,13 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     readWriteLock.readLock().lock();
     try {
       partition = partitionList.get(partitionId);
+      if (partition == null && unopenedPartitionIds.contains(partitionId)) {
+        // Callers using the partition hold its read lock, which prevents it from being closed while being used.
+        partition = openUnopenedPartition(new StoragePartitionConfig(storeVersionName, partitionId));
+      }
+      if (partition != null && isLazyPartitionOpenEnabled()) {
+        partition.recordAccess(System.currentTimeMillis());
+      }
     } finally {
       readWriteLock.readLock().unlock();
     }
@@ -718,6 +930,18 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     return partition;
   }
 
+  /**
+   * @return the highest write stall pressure among the open partitions, see
+   *         {@link AbstractStoragePartition#getWriteStallPressure()}. The unopened partitions are not opened for it.
+   */
+  public synchronized double getWriteStallPressure() {
+    double maxPressure = 0;
+    for (Partition partition: partitionList.values()) {
+      maxPressure = Math.max(maxPressure, partition.getWriteStallPressure());
+    }
+    return maxPressure;
+  }
+
   public synchronized long getPartitionSizeInBytes(int partitionId) {
     AbstractStoragePartition partition = partitionList.get(partitionId);
     return partition != null ? partition.getPartitionSizeInBytes() : 0;
@@ -3,6 +3,7 @@ package com.linkedin.davinci.store;
 import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.store.rocksdb.ReplicationMetadataRocksDBStoragePartition;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
+import com.linkedin.venice.utils.ByteUtils;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
@@ -19,10 +20,27 @@ import java.util.function.Supplier;
 public abstract class AbstractStoragePartition {
   protected final Integer partitionId;
 
+  /**
+   * Last time this partition got accessed through its storage engine. It is only tracked when the storage engine opens
+   * its partitions lazily, to find out the idle ones.
+   */
+  private volatile long lastAccessTimeInMs = System.currentTimeMillis();
+
   public AbstractStoragePartition(Integer partitionId) {
     this.partitionId = partitionId;
   }
 
+  public long getLastAccessTimeInMs() {
+    return lastAccessTimeInMs;
+  }
+
+  public void recordAccess(long accessTimeInMs) {
+    // Only update the timestamp once per second, to avoid writing the same cache line on every read.
+    if (accessTimeInMs - lastAccessTimeInMs >= 1000) {
+      lastAccessTimeInMs = accessTimeInMs;
+    }
+  }
+
   /**
    * returns the id of this partition
    */
@@ -76,6 +94,33 @@ public abstract class AbstractStoragePartition {
    */
   public abstract void getByKeyPrefix(byte[] keyPrefix, BytesStreamingCallback callback);
 
+  /**
+   * Populate provided callback with key-value pairs from the partition database where the keys are within the range
+   * [startKey, endKey), compared as unsigned bytes. A null bound leaves the range unbounded on that side.
+   *
+   * This default implementation filters the result of a full iteration, implementations which keep their keys sorted
+   * should seek to the range instead.
+   * @param startKey inclusive lower bound
+   * @param endKey exclusive upper bound
+   * @param callback
+   */
+  public void getByKeyRange(byte[] startKey, byte[] endKey, BytesStreamingCallback callback) {
+    getByKeyPrefix(null, new BytesStreamingCallback() {
+      @Override
+      public void onRecordReceived(byte[] key, byte[] value) {
+        if ((startKey == null || ByteUtils.compare(key, startKey) >= 0)
+            && (endKey == null || ByteUtils.compare(key, endKey) < 0)) {
+          callback.onRecordReceived(key, value);
+        }
+      }
+
+      @Override
+      public void onCompletion() {
+        callback.onCompletion();
+      }
+    });
+  }
+
   /**
    * Delete a key from the partition database
    */
@@ -136,6 +181,14 @@ public abstract class AbstractStoragePartition {
    */
   public abstract long getPartitionSizeInBytes();
 
+  /**
+   * @return how close the partition is to having its writes stalled by the storage engine, where 1 means the writes
+   *         are being stalled. Storage engines which don't stall their writes always return 0.
+   */
+  public double getWriteStallPressure() {
+    return 0;
+  }
+
   public boolean validateBatchIngestion() {
     return true;
   }
@@ -19,6 +19,11 @@ public class StoragePartitionConfig {
   private boolean writeOnlyConfig;
   private boolean readWriteLeaderForDefaultCF;
   private boolean readWriteLeaderForRMDCF;
+  /**
+   * Refer {@link com.linkedin.davinci.store.rocksdb.RocksDBServerConfig#ROCKSDB_NON_CURRENT_VERSION_ISOLATION_ENABLED},
+   * set by {@link AbstractStorageEngine} from the version class of its store version.
+   */
+  private boolean currentVersion;
 
   public StoragePartitionConfig(String storeName, int partitionId) {
     this.storeName = storeName;
@@ -28,6 +33,7 @@ public class StoragePartitionConfig {
     this.writeOnlyConfig = true;
     this.readWriteLeaderForDefaultCF = false;
     this.readWriteLeaderForRMDCF = false;
+    this.currentVersion = true;
   }
 
   public String getStoreName() {
@@ -84,6 +90,14 @@ public class StoragePartitionConfig {
     this.readWriteLeaderForRMDCF = readWriteLeaderForRMDCF;
   }
 
+  public boolean isCurrentVersion() {
+    return currentVersion;
+  }
+
+  public void setCurrentVersion(boolean currentVersion) {
+    this.currentVersion = currentVersion;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -96,7 +110,7 @@ public class StoragePartitionConfig {
     return partitionId == that.partitionId && deferredWrite == that.deferredWrite && readOnly == that.readOnly
         && writeOnlyConfig == that.writeOnlyConfig && storeName.equals(that.storeName)
         && readWriteLeaderForDefaultCF == that.readWriteLeaderForDefaultCF
-        && readWriteLeaderForRMDCF == that.readWriteLeaderForRMDCF;
+        && readWriteLeaderForRMDCF == that.readWriteLeaderForRMDCF && currentVersion == that.currentVersion;
   }
 
   @Override
@@ -108,13 +122,15 @@ public class StoragePartitionConfig {
         readOnly,
         writeOnlyConfig,
         readWriteLeaderForDefaultCF,
-        readWriteLeaderForRMDCF);
+        readWriteLeaderForRMDCF,
+        currentVersion);
   }
 
   @Override
   public String toString() {
     return "Replica: " + Utils.getReplicaId(storeName, partitionId) + ", deferred-write: " + deferredWrite
         + ", read-only: " + readOnly + ", write-only: " + writeOnlyConfig + ", read-write leader for default CF: "
-        + readWriteLeaderForDefaultCF + ", read-write leader for RMD CF: " + readWriteLeaderForRMDCF;
+        + readWriteLeaderForDefaultCF + ", read-write leader for RMD CF: " + readWriteLeaderForRMDCF
+        + ", current version: " + currentVersion;
   }
 }
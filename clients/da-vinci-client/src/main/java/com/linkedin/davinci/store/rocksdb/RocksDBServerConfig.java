@@ -3,6 +3,7 @@ package com.linkedin.davinci.store.rocksdb;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 import org.rocksdb.CompactionStyle;
 import org.rocksdb.CompressionType;
 
@@ -219,6 +220,47 @@ public class RocksDBServerConfig {
    * https://rocksdb.org/blog/2022/10/07/asynchronous-io-in-rocksdb.html
    */
   public static final String ROCKSDB_READ_ASYNC_IO_ENABLED = "rocksdb.read.async.io.enabled";
+  /**
+   * Readahead size of the iterators used to scan a key range, which read the SST files sequentially.
+   */
+  public static final String ROCKSDB_SCAN_READAHEAD_SIZE_IN_BYTES = "rocksdb.scan.readahead.size.in.bytes";
+
+  /**
+   * Whether to only register the persisted partitions when restoring a storage engine, and to open the RocksDB database
+   * of each partition on its first access, by a read or by ingestion. This saves the startup time and the memory of the
+   * partitions which are not used, such as the ones of the backup versions.
+   */
+  public static final String ROCKSDB_LAZY_PARTITION_OPEN_ENABLED = "rocksdb.lazy.partition.open.enabled";
+
+  /**
+   * When the lazy partition open is enabled, the partitions of the non-current versions which haven't been accessed
+   * for this long get closed, until their next access. Idle partitions are never closed if this is not positive.
+   */
+  public static final String ROCKSDB_IDLE_PARTITION_CLOSE_TIMEOUT_MS = "rocksdb.idle.partition.close.timeout.ms";
+
+  /**
+   * Whether the partitions of the non-current versions, which are the future and backup versions, get their own block
+   * cache, memtable budget and flush/compaction rate limiter, so that their ingestion and compactions can't evict the
+   * blocks of the current versions or take the I/O of their reads. A future version switches to the resources of the
+   * current versions at the reopen of its partitions when it becomes ready to serve, and a backup version switches
+   * back the next time its partitions get opened, since the partitions serving reads are never reopened for it.
+   */
+  public static final String ROCKSDB_NON_CURRENT_VERSION_ISOLATION_ENABLED =
+      "rocksdb.non.current.version.isolation.enabled";
+  public static final String ROCKSDB_NON_CURRENT_VERSION_BLOCK_CACHE_SIZE_IN_BYTES =
+      "rocksdb.non.current.version.block.cache.size.in.bytes";
+  /**
+   * The memtables of the non-current versions are charged to their block cache, like
+   * {@link #ROCKSDB_TOTAL_MEMTABLE_USAGE_CAP_IN_BYTES} for the current versions.
+   */
+  public static final String ROCKSDB_NON_CURRENT_VERSION_MEMTABLE_USAGE_CAP_IN_BYTES =
+      "rocksdb.non.current.version.memtable.usage.cap.in.bytes";
+  /**
+   * The flush and compaction quota of the non-current versions, carved out of
+   * {@link #ROCKSDB_WRITE_QUOTA_BYTES_PER_SECOND}, so the current versions get the rest of it.
+   */
+  public static final String ROCKSDB_NON_CURRENT_VERSION_WRITE_QUOTA_BYTES_PER_SECOND =
+      "rocksdb.non.current.version.write.quota.bytes.per.second";
 
   public static final String ROCKSDB_MAX_LOG_FILE_NUM = "rocksdb.max.log.file.num";
   public static final String ROCKSDB_MAX_LOG_FILE_SIZE = "rocksdb.max.log.file.size";
@@ -290,6 +332,13 @@ public class RocksDBServerConfig {
   private final int maxLogFileNum;
   private final long maxLogFileSize;
   private final boolean readAsyncIOEanbled;
+  private final long scanReadaheadSizeInBytes;
+  private final boolean lazyPartitionOpenEnabled;
+  private final long idlePartitionCloseTimeoutMs;
+  private final boolean nonCurrentVersionIsolationEnabled;
+  private final long nonCurrentVersionBlockCacheSizeInBytes;
+  private final long nonCurrentVersionMemtableUsageCapInBytes;
+  private final long nonCurrentVersionWriteQuotaBytesPerSecond;
   private final String transformerValueSchema;
 
   public RocksDBServerConfig(VeniceProperties props) {
@@ -413,6 +462,22 @@ public class RocksDBServerConfig {
     this.maxLogFileNum = props.getInt(ROCKSDB_MAX_LOG_FILE_NUM, 3);
     this.maxLogFileSize = props.getSizeInBytes(ROCKSDB_MAX_LOG_FILE_SIZE, 10 * 1024 * 1024); // 10MB;
     this.readAsyncIOEanbled = props.getBoolean(ROCKSDB_READ_ASYNC_IO_ENABLED, true);
+    this.scanReadaheadSizeInBytes = props.getSizeInBytes(ROCKSDB_SCAN_READAHEAD_SIZE_IN_BYTES, 2 * 1024 * 1024); // 2MB
+    this.lazyPartitionOpenEnabled = props.getBoolean(ROCKSDB_LAZY_PARTITION_OPEN_ENABLED, false);
+    this.idlePartitionCloseTimeoutMs =
+        props.getLong(ROCKSDB_IDLE_PARTITION_CLOSE_TIMEOUT_MS, TimeUnit.MINUTES.toMillis(30));
+    this.nonCurrentVersionIsolationEnabled = props.getBoolean(ROCKSDB_NON_CURRENT_VERSION_ISOLATION_ENABLED, false);
+    this.nonCurrentVersionBlockCacheSizeInBytes =
+        props.getSizeInBytes(ROCKSDB_NON_CURRENT_VERSION_BLOCK_CACHE_SIZE_IN_BYTES, 2 * 1024 * 1024 * 1024L); // 2GB
+    this.nonCurrentVersionMemtableUsageCapInBytes =
+        props.getSizeInBytes(ROCKSDB_NON_CURRENT_VERSION_MEMTABLE_USAGE_CAP_IN_BYTES, 1024 * 1024 * 1024L); // 1GB
+    this.nonCurrentVersionWriteQuotaBytesPerSecond =
+        props.getSizeInBytes(ROCKSDB_NON_CURRENT_VERSION_WRITE_QUOTA_BYTES_PER_SECOND, 20L * 1024 * 1024); // 20MB
+    if (nonCurrentVersionIsolationEnabled && nonCurrentVersionWriteQuotaBytesPerSecond >= writeQuotaBytesPerSecond) {
+      throw new VeniceException(
+          ROCKSDB_NON_CURRENT_VERSION_WRITE_QUOTA_BYTES_PER_SECOND + ": " + nonCurrentVersionWriteQuotaBytesPerSecond
+              + " should be lower than " + ROCKSDB_WRITE_QUOTA_BYTES_PER_SECOND + ": " + writeQuotaBytesPerSecond);
+    }
     this.transformerValueSchema =
         props.containsKey(RECORD_TRANSFORMER_VALUE_SCHEMA) ? props.getString(RECORD_TRANSFORMER_VALUE_SCHEMA) : "null";
   }
@@ -624,6 +689,34 @@ public class RocksDBServerConfig {
     return readAsyncIOEanbled;
   }
 
+  public long getScanReadaheadSizeInBytes() {
+    return scanReadaheadSizeInBytes;
+  }
+
+  public boolean isLazyPartitionOpenEnabled() {
+    return lazyPartitionOpenEnabled;
+  }
+
+  public long getIdlePartitionCloseTimeoutMs() {
+    return idlePartitionCloseTimeoutMs;
+  }
+
+  public boolean isNonCurrentVersionIsolationEnabled() {
+    return nonCurrentVersionIsolationEnabled;
+  }
+
+  public long getNonCurrentVersionBlockCacheSizeInBytes() {
+    return nonCurrentVersionBlockCacheSizeInBytes;
+  }
+
+  public long getNonCurrentVersionMemtableUsageCapInBytes() {
+    return nonCurrentVersionMemtableUsageCapInBytes;
+  }
+
+  public long getNonCurrentVersionWriteQuotaBytesPerSecond() {
+    return nonCurrentVersionWriteQuotaBytesPerSecond;
+  }
+
   public String getTransformerValueSchema() {
     return transformerValueSchema;
   }
@@ -168,18 +168,16 @@ public class RocksDBStorageEngine extends AbstractStorageEngine<RocksDBStoragePa
     }
   }
 
+  @Override
+  public boolean isLazyPartitionOpenEnabled() {
+    return rocksDBServerConfig.isLazyPartitionOpenEnabled();
+  }
+
   @Override
   public long getRMDSizeInBytes() {
-    Set<Integer> partitionIds = super.getPartitionIds();
     long diskUsage = 0;
-    for (int i: partitionIds) {
-      AbstractStoragePartition partition;
-      try {
-        partition = super.getPartitionOrThrow(i);
-      } catch (VeniceException e) {
-        LOGGER.warn("Could not find partition {} for store {}", i, super.getStoreVersionName());
-        continue;
-      }
+    // Unopened partitions are skipped, as opening them only to collect this metric would defeat their lazy opening.
+    for (AbstractStoragePartition partition: getOpenedPartitions()) {
       diskUsage += partition.getRmdByteUsage();
     }
     cachedRMDDiskUsage = diskUsage;
@@ -64,7 +64,20 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
   private final String rocksDBPath;
   private final Cache sharedCache;
   private Cache sharedRMDCache;
+  /**
+   * The block cache, write buffer manager and rate limiter of the non-current versions, which are only created when
+   * {@link RocksDBServerConfig#isNonCurrentVersionIsolationEnabled()}, so that the future and backup versions can't
+   * take the resources the reads of the current versions depend on.
+   */
+  private Cache nonCurrentVersionCache;
+  private WriteBufferManager nonCurrentVersionWriteBufferManager;
+  private RateLimiter nonCurrentVersionRateLimiter;
   private final Map<String, RocksDBStorageEngine> storageEngineMap = new HashMap<>();
+  /**
+   * Stores whose storage engine is being built, guarded by the monitor of this factory, so that the slow RocksDB open
+   * operations of different stores don't hold the factory lock, while the same store still doesn't get opened twice.
+   */
+  private final Set<String> storeNamesBeingOpened = new HashSet<>();
   private final Optional<Statistics> aggStatistics;
 
   /**
@@ -151,7 +164,12 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
           rocksDBServerConfig.getRocksDBBlockCacheSizeInBytes(),
           rocksDBServerConfig.getRocksDBBlockCacheShardBits(),
           rocksDBServerConfig.getRocksDBBlockCacheStrictCapacityLimit());
-
+      if (rocksDBServerConfig.isNonCurrentVersionIsolationEnabled()) {
+        this.nonCurrentVersionCache = new ClockCache(
+            rocksDBServerConfig.getNonCurrentVersionBlockCacheSizeInBytes(),
+            rocksDBServerConfig.getRocksDBBlockCacheShardBits(),
+            rocksDBServerConfig.getRocksDBBlockCacheStrictCapacityLimit());
+      }
     } else {
       // Default to LRUCache
       this.sharedCache = new LRUCache(
@@ -164,6 +182,12 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
             rocksDBServerConfig.getRocksDBBlockCacheShardBits(),
             rocksDBServerConfig.getRocksDBBlockCacheStrictCapacityLimit());
       }
+      if (rocksDBServerConfig.isNonCurrentVersionIsolationEnabled()) {
+        this.nonCurrentVersionCache = new LRUCache(
+            rocksDBServerConfig.getNonCurrentVersionBlockCacheSizeInBytes(),
+            rocksDBServerConfig.getRocksDBBlockCacheShardBits(),
+            rocksDBServerConfig.getRocksDBBlockCacheStrictCapacityLimit());
+      }
     }
 
     if (rocksDBServerConfig.isRocksDBStatisticsEnabled()) {
@@ -177,6 +201,11 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
     // The memory usage of all the memtables will cost to the shared block cache
     this.writeBufferManager =
         new WriteBufferManager(rocksDBServerConfig.getRocksDBTotalMemtableUsageCapInBytes(), this.sharedCache);
+    if (nonCurrentVersionCache != null) {
+      this.nonCurrentVersionWriteBufferManager = new WriteBufferManager(
+          rocksDBServerConfig.getNonCurrentVersionMemtableUsageCapInBytes(),
+          this.nonCurrentVersionCache);
+    }
     this.memoryLimit = serverConfig.getIngestionMemoryLimit();
     this.memtableSize = rocksDBServerConfig.getRocksDBMemtableSizeInBytes();
     try {
@@ -194,12 +223,32 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
       throw new VeniceException("Failed to create the shared SstFileManager", e);
     }
     this.rocksDBThrottler = new RocksDBThrottler(rocksDBServerConfig.getDatabaseOpenOperationThrottle());
+    /**
+     * RocksJava can't tag the flushes and compactions of a database with a lower I/O priority of a shared rate limiter,
+     * so the non-current versions get a separate one instead, with their share of the write quota, which caps their
+     * background I/O without raising the total one of the host.
+     */
+    long writeQuotaBytesPerSecond = rocksDBServerConfig.getWriteQuotaBytesPerSecond();
+    if (nonCurrentVersionCache != null) {
+      writeQuotaBytesPerSecond -= rocksDBServerConfig.getNonCurrentVersionWriteQuotaBytesPerSecond();
+    }
     this.rateLimiter = new RateLimiter(
-        rocksDBServerConfig.getWriteQuotaBytesPerSecond(),
+        writeQuotaBytesPerSecond,
         DEFAULT_REFILL_PERIOD_MICROS,
         DEFAULT_FAIRNESS,
         DEFAULT_MODE,
         rocksDBServerConfig.isAutoTunedRateLimiterEnabled());
+    if (nonCurrentVersionCache != null) {
+      this.nonCurrentVersionRateLimiter = new RateLimiter(
+          rocksDBServerConfig.getNonCurrentVersionWriteQuotaBytesPerSecond(),
+          DEFAULT_REFILL_PERIOD_MICROS,
+          DEFAULT_FAIRNESS,
+          DEFAULT_MODE,
+          rocksDBServerConfig.isAutoTunedRateLimiterEnabled());
+    }
+    if (rocksDBMemoryStats != null) {
+      rocksDBMemoryStats.setBlockCaches(sharedCache, nonCurrentVersionCache);
+    }
   }
 
   public long getMemoryLimit() {
@@ -214,12 +263,14 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
     return aggStatistics;
   }
 
-  public WriteBufferManager getWriteBufferManager() {
-    return writeBufferManager;
+  public WriteBufferManager getWriteBufferManager(boolean isCurrentVersion) {
+    return isCurrentVersion || nonCurrentVersionWriteBufferManager == null
+        ? writeBufferManager
+        : nonCurrentVersionWriteBufferManager;
   }
 
-  public RateLimiter getRateLimiter() {
-    return rateLimiter;
+  public RateLimiter getRateLimiter(boolean isCurrentVersion) {
+    return isCurrentVersion || nonCurrentVersionRateLimiter == null ? rateLimiter : nonCurrentVersionRateLimiter;
   }
 
   public SstFileManager getSstFileManager() {
@@ -241,37 +292,67 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
     return env;
   }
 
-  public Cache getSharedCache(boolean isRMD) {
+  /**
+   * The non-current versions share their block cache for both the values and the replication metadata.
+   */
+  public Cache getSharedCache(boolean isRMD, boolean isCurrentVersion) {
+    if (!isCurrentVersion && nonCurrentVersionCache != null) {
+      return nonCurrentVersionCache;
+    }
     return rocksDBServerConfig.isUseSeparateRMDCacheEnabled() && isRMD ? sharedRMDCache : sharedCache;
   }
 
   @Override
-  public synchronized AbstractStorageEngine getStorageEngine(VeniceStoreVersionConfig storeConfig)
+  public AbstractStorageEngine getStorageEngine(VeniceStoreVersionConfig storeConfig)
       throws StorageInitializationException {
     return getStorageEngine(storeConfig, false);
   }
 
   @Override
-  public synchronized AbstractStorageEngine getStorageEngine(
+  public AbstractStorageEngine getStorageEngine(
       VeniceStoreVersionConfig storeConfig,
       boolean replicationMetadataEnabled) throws StorageInitializationException {
     verifyPersistenceType(storeConfig);
     final String storeName = storeConfig.getStoreVersionName();
+    synchronized (this) {
+      try {
+        while (storeNamesBeingOpened.contains(storeName)) {
+          wait();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new StorageInitializationException("Interrupted while waiting for the opening of store: " + storeName, e);
+      }
+      RocksDBStorageEngine storageEngine = storageEngineMap.get(storeName);
+      if (storageEngine != null) {
+        return storageEngine;
+      }
+      storeNamesBeingOpened.add(storeName);
+    }
+
+    RocksDBStorageEngine storageEngine = null;
     try {
-      return storageEngineMap.computeIfAbsent(
-          storeName,
-          ignored -> new RocksDBStorageEngine(
-              storeConfig,
-              this,
-              rocksDBPath,
-              rocksDBMemoryStats,
-              rocksDBThrottler,
-              rocksDBServerConfig,
-              storeVersionStateSerializer,
-              partitionStateSerializer,
-              replicationMetadataEnabled));
+      storageEngine = new RocksDBStorageEngine(
+          storeConfig,
+          this,
+          rocksDBPath,
+          rocksDBMemoryStats,
+          rocksDBThrottler,
+          rocksDBServerConfig,
+          storeVersionStateSerializer,
+          partitionStateSerializer,
+          replicationMetadataEnabled);
+      return storageEngine;
     } catch (Exception e) {
       throw new StorageInitializationException(e);
+    } finally {
+      synchronized (this) {
+        if (storageEngine != null) {
+          storageEngineMap.put(storeName, storageEngine);
+        }
+        storeNamesBeingOpened.remove(storeName);
+        notifyAll();
+      }
     }
   }
 
@@ -303,6 +384,11 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
     }
     writeBufferManager.close();
     rateLimiter.close();
+    if (nonCurrentVersionCache != null) {
+      nonCurrentVersionWriteBufferManager.close();
+      nonCurrentVersionRateLimiter.close();
+      nonCurrentVersionCache.close();
+    }
     this.env.close();
     if (sstFileManager != null) {
       sstFileManager.close();
@@ -138,6 +138,11 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   protected final boolean writeOnly;
   protected final boolean readWriteLeaderForDefaultCF;
   protected final boolean readWriteLeaderForRMDCF;
+  /**
+   * Whether the database uses the resources of the current versions, or the ones of the non-current versions, refer
+   * {@link RocksDBServerConfig#ROCKSDB_NON_CURRENT_VERSION_ISOLATION_ENABLED}.
+   */
+  protected final boolean currentVersion;
 
   private final Optional<Statistics> aggStatistics;
   private final RocksDBMemoryStats rocksDBMemoryStats;
@@ -198,6 +203,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     this.writeOnly = storagePartitionConfig.isWriteOnlyConfig();
     this.readWriteLeaderForDefaultCF = storagePartitionConfig.isReadWriteLeaderForDefaultCF();
     this.readWriteLeaderForRMDCF = storagePartitionConfig.isReadWriteLeaderForRMDCF();
+    this.currentVersion = storagePartitionConfig.isCurrentVersion();
     this.fullPathForPartitionDB = RocksDBUtils.composePartitionDbDir(dbDir, storeNameAndVersion, partitionId);
     this.options = options;
     /**
@@ -359,13 +365,13 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     Options options = new Options();
 
     options.setEnv(factory.getEnv());
-    options.setRateLimiter(factory.getRateLimiter());
+    options.setRateLimiter(factory.getRateLimiter(storagePartitionConfig.isCurrentVersion()));
     if (factory.enforceMemoryLimit(storeName)) {
       options.setSstFileManager(factory.getSstFileManagerForMemoryLimiter());
     } else {
       options.setSstFileManager(factory.getSstFileManager());
     }
-    options.setWriteBufferManager(factory.getWriteBufferManager());
+    options.setWriteBufferManager(factory.getWriteBufferManager(storagePartitionConfig.isCurrentVersion()));
 
     options.setCreateIfMissing(true);
     options.setCompressionType(rocksDBServerConfig.getRocksDBOptionsCompressionType());
@@ -401,7 +407,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       // and share the same cache across all the RocksDB databases
       BlockBasedTableConfig tableConfig = new BlockBasedTableConfig();
       tableConfig.setBlockSize(rocksDBServerConfig.getRocksDBSSTFileBlockSizeInBytes());
-      tableConfig.setBlockCache(factory.getSharedCache(isRMD));
+      tableConfig.setBlockCache(factory.getSharedCache(isRMD, storagePartitionConfig.isCurrentVersion()));
       tableConfig.setCacheIndexAndFilterBlocks(rocksDBServerConfig.isRocksDBSetCacheIndexAndFilterBlocks());
       tableConfig.setFormatVersion(rocksDBServerConfig.getBlockBaseFormatVersion());
       options.setTableFormatConfig(tableConfig);
@@ -720,6 +726,40 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  /**
+   * The iterator seeks straight to the start of the range, and the end of the range is pushed down as an iterate upper
+   * bound. Since the range is read sequentially, readahead is enabled, and the blocks read by the scan are not added
+   * to the block cache to avoid evicting the ones used by point lookups.
+   */
+  @Override
+  public void getByKeyRange(byte[] startKey, byte[] endKey, BytesStreamingCallback callback) {
+    if ((startKey != null || endKey != null) && rocksDBServerConfig.isRocksDBPlainTableFormatEnabled()) {
+      throw new VeniceException("Get by key range is not supported with RocksDB PlainTable Format.");
+    }
+
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+
+      try (Slice upperBound = endKey == null ? null : new Slice(endKey);
+          ReadOptions readOptions = getReadOptionsForScan(upperBound);
+          RocksIterator iterator = rocksDB.newIterator(readOptions)) {
+        if (startKey == null) {
+          iterator.seekToFirst();
+        } else {
+          iterator.seek(startKey);
+        }
+        while (iterator.isValid()) {
+          callback.onRecordReceived(iterator.key(), iterator.value());
+          iterator.next();
+        }
+      }
+    } finally {
+      readCloseRWLock.readLock().unlock();
+      callback.onCompletion();
+    }
+  }
+
   public synchronized boolean validateBatchIngestion() {
     if (!deferredWrite) {
       return true;
@@ -735,6 +775,15 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  private ReadOptions getReadOptionsForScan(Slice upperBound) {
+    ReadOptions readOptions =
+        new ReadOptions().setReadaheadSize(rocksDBServerConfig.getScanReadaheadSizeInBytes()).setFillCache(false);
+    if (upperBound != null) {
+      readOptions.setIterateUpperBound(upperBound);
+    }
+    return readOptions;
+  }
+
   private Slice getPrefixIterationUpperBound(byte[] prefix) {
     byte[] upperBound = getIncrementedByteArray(Arrays.copyOf(prefix, prefix.length), prefix.length - 1);
     return upperBound == null ? null : new Slice(upperBound);
@@ -940,6 +989,38 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  /**
+   * @return how close this partition is to RocksDB delaying its writes, as the highest ratio of its L0 file count and
+   *         its pending compaction bytes over the thresholds at which RocksDB starts to delay the writes, and at
+   *         least 1 once the writes are delayed or stopped.
+   */
+  @Override
+  public double getWriteStallPressure() {
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+      double pressure = 0;
+      if (options.level0SlowdownWritesTrigger() > 0) {
+        // Unlike the other stats used here, the file count of a level is only available as a string property.
+        long level0FileCount = Long.parseLong(rocksDB.getProperty("rocksdb.num-files-at-level0"));
+        pressure = (double) level0FileCount / options.level0SlowdownWritesTrigger();
+      }
+      if (options.softPendingCompactionBytesLimit() > 0) {
+        long pendingCompactionBytes = getRocksDBStatValue("rocksdb.estimate-pending-compaction-bytes");
+        pressure = Math.max(pressure, (double) pendingCompactionBytes / options.softPendingCompactionBytesLimit());
+      }
+      if (getRocksDBStatValue("rocksdb.actual-delayed-write-rate") > 0
+          || getRocksDBStatValue("rocksdb.is-write-stopped") > 0) {
+        pressure = Math.max(pressure, 1);
+      }
+      return pressure;
+    } catch (RocksDBException e) {
+      throw new VeniceException("Failed to get the L0 file count of RocksDB: " + replicaId, e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
   public Map<MemoryUsageType, Long> getApproximateMemoryUsageByType(final Set<Cache> caches) {
     readCloseRWLock.readLock().lock();
     try {
@@ -950,6 +1031,10 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  public boolean isCurrentVersion() {
+    return currentVersion;
+  }
+
   /**
    * Check {@link AbstractStoragePartition#verifyConfig(StoragePartitionConfig)}.
    *
@@ -964,6 +1049,10 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     if (writeOnly != partitionConfig.isWriteOnlyConfig()) {
       return false;
     }
+    if (rocksDBServerConfig.isNonCurrentVersionIsolationEnabled()
+        && currentVersion != partitionConfig.isCurrentVersion()) {
+      return false;
+    }
     if (rocksDBServerConfig.isLevel0CompactionTuningForReadWriteLeaderEnabled()) {
       if (readWriteLeaderForDefaultCF != partitionConfig.isReadWriteLeaderForDefaultCF()) {
         return false;
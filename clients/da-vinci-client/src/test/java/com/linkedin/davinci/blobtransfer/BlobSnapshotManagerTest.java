@@ -7,10 +7,14 @@ import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import org.apache.commons.io.FileUtils;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -63,9 +67,43 @@ public class BlobSnapshotManagerTest {
     snapShotTimestamps.get(STORE_NAME).put(PARTITION_ID, System.currentTimeMillis() - SNAPSHOT_RETENTION_TIME - 1);
     blobSnapshotManager.setSnapShotTimestamps(snapShotTimestamps);
 
+    // The stale snapshot is kept while it is in use
     blobSnapshotManager.maybeUpdateHybridSnapshot(mockRocksDB, STORE_NAME, PARTITION_ID);
-
     verify(mockCheckpoint, times(1)).createCheckpoint(DB_DIR + "/.snapshot_files");
+
+    // and recreated once it is not
+    blobSnapshotManager.decreaseConcurrentUserCount(STORE_NAME, PARTITION_ID);
+    blobSnapshotManager.decreaseConcurrentUserCount(STORE_NAME, PARTITION_ID);
+    blobSnapshotManager.maybeUpdateHybridSnapshot(mockRocksDB, STORE_NAME, PARTITION_ID);
+    verify(mockCheckpoint, times(2)).createCheckpoint(DB_DIR + "/.snapshot_files");
+  }
+
+  @Test
+  public void testStaleSnapshotDirectoryRecreated() throws RocksDBException, IOException {
+    RocksDB mockRocksDB = mock(RocksDB.class);
+    Checkpoint mockCheckpoint = mock(Checkpoint.class);
+    Store mockStore = mock(Store.class);
+    when(readOnlyStoreRepository.getStore(STORE_NAME)).thenReturn(mockStore);
+    when(mockStore.isHybrid()).thenReturn(true);
+    BlobSnapshotManager blobSnapshotManager =
+        spy(new BlobSnapshotManager(BASE_PATH, SNAPSHOT_RETENTION_TIME, readOnlyStoreRepository));
+    doReturn(mockCheckpoint).when(blobSnapshotManager).createCheckpoint(mockRocksDB);
+    // The previous snapshot directory isn't empty, and must be deleted before the new checkpoint gets created in it
+    File snapshotDir = new File(DB_DIR + "/.snapshot_files");
+    File previousSnapshotFile = new File(snapshotDir, "000001.sst");
+    FileUtils.writeStringToFile(previousSnapshotFile, "previous", StandardCharsets.UTF_8);
+    doAnswer(invocation -> {
+      Assert.assertFalse(previousSnapshotFile.exists());
+      return null;
+    }).when(mockCheckpoint).createCheckpoint(snapshotDir.getPath());
+
+    try {
+      blobSnapshotManager.maybeUpdateHybridSnapshot(mockRocksDB, STORE_NAME, PARTITION_ID);
+      verify(mockCheckpoint, times(1)).createCheckpoint(snapshotDir.getPath());
+      Assert.assertFalse(snapshotDir.exists());
+    } finally {
+      FileUtils.deleteDirectory(new File(BASE_PATH));
+    }
   }
 
   @Test
@@ -2,30 +2,62 @@ package com.linkedin.davinci.client;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 
 import com.linkedin.davinci.StoreBackend;
 import com.linkedin.davinci.VersionBackend;
+import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.davinci.storage.chunking.AbstractAvroChunkingAdapter;
+import com.linkedin.davinci.storage.chunking.GenericChunkingAdapter;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.ClientConfig;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.compression.NoopCompressor;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.serialization.AvroStoreDeserializerCache;
+import com.linkedin.venice.serialization.KeyWithChunkingSuffixSerializer;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serializer.AvroSerializer;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.utils.PropertyBuilder;
 import com.linkedin.venice.utils.ReferenceCounted;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 
 public class AvroGenericDaVinciClientTest {
+  private static final String SCAN_STORE_NAME = "test_store";
+  private static final Schema SCAN_KEY_SCHEMA = Schema.create(Schema.Type.STRING);
+  private static final Schema SCAN_VALUE_SCHEMA = new Schema.Parser().parse(
+      "{\"type\": \"record\", \"name\": \"User\", \"fields\": ["
+          + "{\"name\": \"name\", \"type\": \"string\"}, {\"name\": \"age\", \"type\": \"int\"}]}");
+  private static final int SCAN_PARTITION_COUNT = 4;
+  private static final int NOT_READY_PARTITION = 3;
+
   @Test
   public void testPropertyBuilderWithRecordTransformer() {
     String schema = "{\n" + "  \"type\": \"string\"\n" + "}\n";
@@ -103,4 +135,156 @@ public class AvroGenericDaVinciClientTest {
       assertEquals(resultMap.get(keyPrefix + i), testValue);
     }
   }
+
+  @Test
+  public void testScan() {
+    AvroGenericDaVinciClient<CharSequence, GenericRecord> dvcClient = createScanClient();
+    ScanResult result = new ScanResult();
+    dvcClient.scan(new DaVinciScanRequest<>(), result);
+
+    assertEquals(result.completion, Optional.empty());
+    // The chunks are skipped, and so is the partition which is not ready to serve
+    assertEquals(result.records.size(), NOT_READY_PARTITION);
+    for (int partition = 0; partition < NOT_READY_PARTITION; partition++) {
+      GenericRecord value = result.records.get("key_" + partition);
+      assertEquals(value.getSchema().getFields().size(), 2);
+      assertEquals(value.get("name").toString(), "name_" + partition);
+      assertEquals(value.get("age"), partition);
+    }
+  }
+
+  @Test
+  public void testScanWithProjection() {
+    AvroGenericDaVinciClient<CharSequence, GenericRecord> dvcClient = createScanClient();
+    ScanResult result = new ScanResult();
+    dvcClient.scan(new DaVinciScanRequest<CharSequence>().setProjectionFields(Collections.singleton("name")), result);
+
+    assertEquals(result.completion, Optional.empty());
+    assertEquals(result.records.size(), NOT_READY_PARTITION);
+    for (int partition = 0; partition < NOT_READY_PARTITION; partition++) {
+      GenericRecord value = result.records.get("key_" + partition);
+      assertEquals(value.getSchema().getFields().size(), 1);
+      assertEquals(value.get("name").toString(), "name_" + partition);
+    }
+
+    result = new ScanResult();
+    dvcClient.scan(new DaVinciScanRequest<CharSequence>().setProjectionFields(Collections.singleton("email")), result);
+    Assert.assertTrue(result.completion.get() instanceof VeniceClientException);
+    Assert.assertTrue(result.records.isEmpty());
+  }
+
+  @Test(timeOut = 60 * 1000)
+  public void testParallelScanOnScanExecutor() {
+    AvroGenericDaVinciClient<CharSequence, GenericRecord> dvcClient = createScanClient();
+    ScanResult result = new ScanResult();
+    dvcClient.scan(new DaVinciScanRequest<CharSequence>().setParallelism(SCAN_PARTITION_COUNT), result);
+
+    assertEquals(result.completion, Optional.empty());
+    assertEquals(result.records.size(), NOT_READY_PARTITION);
+    for (String threadName: result.threadNames) {
+      Assert.assertTrue(threadName.startsWith("DaVinci_Scan_Executor"), threadName);
+    }
+  }
+
+  @Test
+  public void testScanOfPartitionNotReadyToServe() {
+    AvroGenericDaVinciClient<CharSequence, GenericRecord> dvcClient = createScanClient();
+    ScanResult result = new ScanResult();
+    Set<Integer> partitions = new HashSet<>(Arrays.asList(0, NOT_READY_PARTITION));
+    dvcClient.scan(new DaVinciScanRequest<CharSequence>().setPartitions(partitions), result);
+
+    Assert.assertTrue(result.completion.get() instanceof VeniceClientException);
+    Assert.assertTrue(result.completion.get().getMessage().contains("is not ready to serve"));
+    Assert.assertTrue(result.records.isEmpty());
+  }
+
+  /**
+   * Every partition of the mocked storage engine holds the record "key_{partition}" of a chunked store, followed by a
+   * chunk of some other record.
+   */
+  private static AvroGenericDaVinciClient<CharSequence, GenericRecord> createScanClient() {
+    AvroGenericDaVinciClient<CharSequence, GenericRecord> dvcClient = mock(AvroGenericDaVinciClient.class);
+    when(dvcClient.getStoreName()).thenReturn(SCAN_STORE_NAME);
+
+    ReadOnlySchemaRepository schemaRepository = mock(ReadOnlySchemaRepository.class);
+    when(schemaRepository.getValueSchema(SCAN_STORE_NAME, 1)).thenReturn(new SchemaEntry(1, SCAN_VALUE_SCHEMA));
+    when(dvcClient.getSchemaRepository()).thenReturn(schemaRepository);
+    when(dvcClient.getStoreDeserializerCache())
+        .thenReturn(new AvroStoreDeserializerCache<>(schemaRepository, SCAN_STORE_NAME, true));
+    when(dvcClient.getClientConfig()).thenReturn(ClientConfig.defaultGenericClientConfig(SCAN_STORE_NAME));
+    when(dvcClient.getKeySerializer()).thenReturn(new AvroSerializer<>(SCAN_KEY_SCHEMA));
+    when(dvcClient.getKeyDeserializer())
+        .thenReturn(SerializerDeserializerFactory.getAvroGenericDeserializer(SCAN_KEY_SCHEMA));
+    when(dvcClient.getAvroChunkingAdapter()).thenReturn(GenericChunkingAdapter.INSTANCE);
+
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    KeyWithChunkingSuffixSerializer keyWithChunkingSuffixSerializer = new KeyWithChunkingSuffixSerializer();
+    doAnswer(invocation -> {
+      int partition = invocation.getArgument(0);
+      BytesStreamingCallback callback = invocation.getArgument(3);
+      GenericRecord value = new GenericData.Record(SCAN_VALUE_SCHEMA);
+      value.put("name", "name_" + partition);
+      value.put("age", partition);
+      byte[] keyBytes = new AvroSerializer<>(SCAN_KEY_SCHEMA).serialize("key_" + partition);
+      byte[] valueBytes = SerializerDeserializerFactory.getAvroGenericSerializer(SCAN_VALUE_SCHEMA).serialize(value);
+      callback.onRecordReceived(
+          keyWithChunkingSuffixSerializer.serializeNonChunkedKey(keyBytes),
+          ValueRecord.create(1, valueBytes).serialize());
+      int chunkSchemaId = AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion();
+      callback.onRecordReceived(new byte[] { 1, 2, 3 }, ValueRecord.create(chunkSchemaId, new byte[4]).serialize());
+      callback.onCompletion();
+      return null;
+    }).when(storageEngine).getByKeyRange(anyInt(), any(), any(), any());
+
+    VersionBackend versionBackend = mock(VersionBackend.class);
+    when(versionBackend.getPartitionCount()).thenReturn(SCAN_PARTITION_COUNT);
+    when(versionBackend.getSupersetOrLatestValueSchemaId()).thenReturn(1);
+    doAnswer(invocation -> {
+      AbstractAvroChunkingAdapter<GenericRecord> chunkingAdapter = invocation.getArgument(3);
+      RecordDeserializer<CharSequence> keyDeserializer = invocation.getArgument(4);
+      BinaryDecoder binaryDecoder = invocation.getArgument(7);
+      StreamingCallback<CharSequence, GenericRecord> callback = invocation.getArgument(8);
+      chunkingAdapter.getByKeyRange(
+          storageEngine,
+          invocation.getArgument(0),
+          invocation.getArgument(1),
+          invocation.getArgument(2),
+          true,
+          binaryDecoder,
+          keyDeserializer,
+          invocation.getArgument(6),
+          invocation.getArgument(5),
+          new NoopCompressor(),
+          callback);
+      return null;
+    }).when(versionBackend).scan(anyInt(), any(), any(), any(), any(), any(), anyInt(), any(), any());
+
+    StoreBackend storeBackend = mock(StoreBackend.class);
+    // Every scan releases its own reference
+    when(storeBackend.getDaVinciCurrentVersion())
+        .thenAnswer(invocation -> new ReferenceCounted<>(versionBackend, ignored -> {}));
+    when(dvcClient.getStoreBackend()).thenReturn(storeBackend);
+    when(dvcClient.isPartitionReadyToServe(any(), anyInt()))
+        .thenAnswer(invocation -> invocation.<Integer>getArgument(1) != NOT_READY_PARTITION);
+    when(dvcClient.isPartitionSubscribed(any(), anyInt())).thenReturn(true);
+    doCallRealMethod().when(dvcClient).scan(any(), any());
+    return dvcClient;
+  }
+
+  private static class ScanResult implements StreamingCallback<CharSequence, GenericRecord> {
+    private final Map<String, GenericRecord> records = new ConcurrentHashMap<>();
+    private final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+    private Optional<Exception> completion;
+
+    @Override
+    public void onRecordReceived(CharSequence key, GenericRecord value) {
+      records.put(key.toString(), value);
+      threadNames.add(Thread.currentThread().getName());
+    }
+
+    @Override
+    public void onCompletion(Optional<Exception> exception) {
+      completion = exception;
+    }
+  }
 }
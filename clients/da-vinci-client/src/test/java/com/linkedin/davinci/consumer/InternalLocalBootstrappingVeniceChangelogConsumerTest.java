@@ -10,6 +10,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
@@ -20,6 +21,7 @@ import static org.mockito.Mockito.when;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.repository.ThinClientMetaStoreBasedRepository;
 import com.linkedin.davinci.storage.StorageEngineMetadataService;
 import com.linkedin.davinci.storage.StorageEngineRepository;
@@ -33,6 +35,7 @@ import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.controllerapi.D2ControllerClient;
 import com.linkedin.venice.controllerapi.StoreResponse;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
 import com.linkedin.venice.kafka.protocol.ProducerMetadata;
 import com.linkedin.venice.kafka.protocol.Put;
@@ -305,6 +308,80 @@ public class InternalLocalBootstrappingVeniceChangelogConsumerTest {
         TEST_ROCKSDB_BLOCK_CACHE_SIZE_IN_BYTES);
   }
 
+  @Test
+  public void testExportSnapshot() throws ExecutionException, InterruptedException {
+    PubSubTopic versionTopic = pubSubTopicRepository.getTopic(Version.composeKafkaTopic(storeName, 1));
+    PubSubTopic changeCaptureTopic =
+        pubSubTopicRepository.getTopic(versionTopic.getName() + ChangeCaptureView.CHANGE_CAPTURE_TOPIC_SUFFIX);
+    PubSubTopicPartition topicPartition_0 = new PubSubTopicPartitionImpl(versionTopic, 0);
+    PubSubTopicPartition topicPartition_1 = new PubSubTopicPartitionImpl(versionTopic, 1);
+    doReturn(ImmutableSet.of(topicPartition_0, topicPartition_1)).when(pubSubConsumer).getAssignment();
+    doReturn(0L).when(pubSubConsumer).getLatestOffset(topicPartition_0);
+    doReturn(0L).when(pubSubConsumer).getLatestOffset(topicPartition_1);
+    doReturn(1L).when(pubSubConsumer).endOffset(topicPartition_0);
+    doReturn(1L).when(pubSubConsumer).endOffset(topicPartition_1);
+
+    StorageService mockStorageService = mock(StorageService.class);
+    AbstractStorageEngine mockStorageEngine = mock(AbstractStorageEngine.class);
+    when(mockStorageService.getStorageEngine(anyString())).thenReturn(mockStorageEngine);
+    StorageMetadataService mockStorageMetadataService = mock(StorageMetadataService.class);
+    when(mockStorageMetadataService.getLastOffset(anyString(), anyInt()))
+        .thenReturn(new OffsetRecord(mock(InternalAvroSpecificSerializer.class)));
+    bootstrappingVeniceChangelogConsumer.setStorageAndMetadataService(mockStorageService, mockStorageMetadataService);
+    when(pubSubConsumer.poll(anyLong()))
+        .thenReturn(prepareChangeCaptureRecordsToBePolled(TEST_KEY_1, changeCaptureTopic, TEST_PARTITION_ID_0))
+        .thenReturn(prepareChangeCaptureRecordsToBePolled(TEST_KEY_2, changeCaptureTopic, TEST_PARTITION_ID_1));
+
+    // Only exporting requires the client to be started
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> bootstrappingVeniceChangelogConsumer.exportSnapshot(mock(BootstrapSnapshotCallback.class), 2));
+    bootstrappingVeniceChangelogConsumer.start().get();
+
+    Map<Integer, String> partitionToKey =
+        ImmutableMap.of(TEST_PARTITION_ID_0, TEST_KEY_1, TEST_PARTITION_ID_1, TEST_KEY_2);
+    doAnswer(invocation -> {
+      int partition = invocation.getArgument(0);
+      BytesStreamingCallback callback = invocation.getArgument(2);
+      String key = partitionToKey.get(partition);
+      callback.onRecordReceived(
+          keySerializer.serialize(key),
+          ValueRecord.create(TEST_SCHEMA_ID, valueSerializer.serialize(TEST_RECORDS.get(key).getCurrentValue()))
+              .serialize());
+      callback.onCompletion();
+      return null;
+    }).when(mockStorageEngine).getByKeyPrefix(anyInt(), eq(null), any(BytesStreamingCallback.class));
+
+    Map<Integer, String> exportedRecords = new VeniceConcurrentHashMap<>();
+    Map<Integer, VeniceChangeCoordinate> completedPartitions = new VeniceConcurrentHashMap<>();
+    Map<Integer, VeniceChangeCoordinate> snapshotCoordinates =
+        bootstrappingVeniceChangelogConsumer.exportSnapshot(new BootstrapSnapshotCallback<Utf8, Utf8>() {
+          @Override
+          public void onRecord(int partition, Utf8 key, Utf8 value) {
+            Assert.assertFalse(completedPartitions.containsKey(partition));
+            Assert.assertEquals(value.toString(), TEST_RECORDS.get(key.toString()).getCurrentValue());
+            exportedRecords.put(partition, key.toString());
+          }
+
+          @Override
+          public void onPartitionCompletion(int partition, VeniceChangeCoordinate snapshotCoordinate) {
+            completedPartitions.put(partition, snapshotCoordinate);
+          }
+        }, 2);
+
+    Assert.assertEquals(exportedRecords, partitionToKey);
+    Assert.assertEquals(completedPartitions, snapshotCoordinates);
+    Assert.assertEquals(snapshotCoordinates.size(), 2);
+    for (Map.Entry<Integer, VeniceChangeCoordinate> entry: snapshotCoordinates.entrySet()) {
+      InternalLocalBootstrappingVeniceChangelogConsumer.BootstrapState state =
+          bootstrappingVeniceChangelogConsumer.getBootstrapStateMap().get(entry.getKey());
+      Assert.assertEquals(entry.getValue(), state.currentPubSubPosition);
+      // Poll no longer replays the local bootstrap data once it has been exported
+      Assert.assertEquals(state.bootstrapState, InternalLocalBootstrappingVeniceChangelogConsumer.PollState.CONSUMING);
+    }
+    Assert.assertEquals(bootstrappingVeniceChangelogConsumer.getBootstrapCompletedCount(), 2);
+  }
+
   @Test
   public void testProcessRecordBytes_UpdatesBootstrapStateMap() throws IOException {
     byte[] key = "key".getBytes();
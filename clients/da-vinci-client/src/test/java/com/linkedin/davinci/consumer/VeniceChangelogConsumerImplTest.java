@@ -46,22 +46,29 @@ import com.linkedin.venice.schema.rmd.RmdSchemaGenerator;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.lazy.Lazy;
 import com.linkedin.venice.views.ChangeCaptureView;
+import io.tehuti.metrics.MetricsRepository;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -256,8 +263,8 @@ public class VeniceChangelogConsumerImplTest {
     Assert.assertTrue(bootstrapStateMap.get(0));
   }
 
-  @Test
-  public void testConsumeAfterImage() throws ExecutionException, InterruptedException {
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testConsumeAfterImage(boolean parallelDecode) throws ExecutionException, InterruptedException {
     D2ControllerClient d2ControllerClient = mock(D2ControllerClient.class);
     StoreResponse storeResponse = mock(StoreResponse.class);
     StoreInfo storeInfo = mock(StoreInfo.class);
@@ -282,7 +289,8 @@ public class VeniceChangelogConsumerImplTest {
         new ChangelogClientConfig<>().setD2ControllerClient(d2ControllerClient)
             .setSchemaReader(schemaReader)
             .setStoreName(storeName)
-            .setViewName("");
+            .setViewName("")
+            .setDecodeThreadCount(parallelDecode ? 2 : 0);
     VeniceChangelogConsumerImpl<String, Utf8> veniceChangelogConsumer =
         new VeniceAfterImageConsumerImpl<>(changelogClientConfig, mockPubSubConsumer);
     Assert.assertEquals(veniceChangelogConsumer.getPartitionCount(), 2);
@@ -330,6 +338,164 @@ public class VeniceChangelogConsumerImplTest {
     verify(mockPubSubConsumer).close();
   }
 
+  @Test
+  public void testParallelDecodeKeepsPollOrderAcrossPartitions() throws ExecutionException, InterruptedException {
+    PubSubConsumerAdapter mockPubSubConsumer = mock(PubSubConsumerAdapter.class);
+    PubSubTopic versionTopic = pubSubTopicRepository.getTopic(Version.composeKafkaTopic(storeName, 1));
+    // Batches of 2 records, which are decoded by one thread for partition 0 and another one for partition 1
+    DecodeTrackingConsumer veniceChangelogConsumer =
+        createParallelDecodeConsumer(mockPubSubConsumer, 400, new MetricsRepository());
+
+    // Partition 1 is polled before partition 0
+    Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> pubSubMessagesMap =
+        new LinkedHashMap<>();
+    List<String> expectedValues = new ArrayList<>();
+    for (int partition = 1; partition >= 0; partition--) {
+      List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> pubSubMessageList = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        pubSubMessageList.add(constructVersionTopicRecord(versionTopic, partition, i, 100));
+        expectedValues.add("newValue" + partition + "_" + i);
+      }
+      pubSubMessagesMap.put(new PubSubTopicPartitionImpl(versionTopic, partition), pubSubMessageList);
+    }
+    doReturn(pubSubMessagesMap).when(mockPubSubConsumer).poll(100);
+
+    Assert.assertEquals(getCurrentValues(veniceChangelogConsumer.poll(100)), expectedValues);
+    Assert.assertEquals(veniceChangelogConsumer.decodedRecordCount.get(), 20);
+    veniceChangelogConsumer.close();
+  }
+
+  @Test
+  public void testParallelDecodeInFlightBytes() throws ExecutionException, InterruptedException {
+    PubSubConsumerAdapter mockPubSubConsumer = mock(PubSubConsumerAdapter.class);
+    PubSubTopic versionTopic = pubSubTopicRepository.getTopic(Version.composeKafkaTopic(storeName, 1));
+    List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> pubSubMessageList = new ArrayList<>();
+    List<String> expectedValues = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      pubSubMessageList.add(constructVersionTopicRecord(versionTopic, 0, i, 100));
+      expectedValues.add("newValue0_" + i);
+    }
+    doReturn(Collections.singletonMap(new PubSubTopicPartitionImpl(versionTopic, 0), pubSubMessageList))
+        .when(mockPubSubConsumer)
+        .poll(100);
+
+    // Every record is a batch by itself, and the budget fits 2 of them
+    MetricsRepository metricsRepository = new MetricsRepository();
+    DecodeTrackingConsumer veniceChangelogConsumer =
+        createParallelDecodeConsumer(mockPubSubConsumer, 200, metricsRepository);
+    Assert.assertEquals(getCurrentValues(veniceChangelogConsumer.poll(100)), expectedValues);
+    Assert.assertEquals(metricsRepository.getMetric(".vcc-test--decode_in_flight_bytes.Max").value(), 200.0);
+    veniceChangelogConsumer.close();
+
+    // A record larger than the budget is still decoded, alone
+    metricsRepository = new MetricsRepository();
+    veniceChangelogConsumer = createParallelDecodeConsumer(mockPubSubConsumer, 50, metricsRepository);
+    Assert.assertEquals(getCurrentValues(veniceChangelogConsumer.poll(100)), expectedValues);
+    Assert.assertEquals(metricsRepository.getMetric(".vcc-test--decode_in_flight_bytes.Max").value(), 100.0);
+    veniceChangelogConsumer.close();
+  }
+
+  @Test
+  public void testParallelDecodeWaitsForRecordsBeforeControlMessage() throws ExecutionException, InterruptedException {
+    PubSubConsumerAdapter mockPubSubConsumer = mock(PubSubConsumerAdapter.class);
+    PubSubTopic versionTopic = pubSubTopicRepository.getTopic(Version.composeKafkaTopic(storeName, 1));
+    DecodeTrackingConsumer veniceChangelogConsumer =
+        createParallelDecodeConsumer(mockPubSubConsumer, 64 * 1024 * 1024L, new MetricsRepository());
+
+    Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> pubSubMessagesMap =
+        new LinkedHashMap<>();
+    List<String> expectedValues = new ArrayList<>();
+    for (int partition = 0; partition < 2; partition++) {
+      List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> pubSubMessageList = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        if (i == 5) {
+          pubSubMessageList.add(constructStartOfPushMessage(versionTopic, partition));
+        }
+        pubSubMessageList.add(constructVersionTopicRecord(versionTopic, partition, i, 100));
+        expectedValues.add("newValue" + partition + "_" + i);
+      }
+      pubSubMessagesMap.put(new PubSubTopicPartitionImpl(versionTopic, partition), pubSubMessageList);
+    }
+    doReturn(pubSubMessagesMap).when(mockPubSubConsumer).poll(100);
+
+    Assert.assertEquals(getCurrentValues(veniceChangelogConsumer.poll(100)), expectedValues);
+    // Every control message was handled once all the records polled before it were decoded
+    Assert.assertEquals(veniceChangelogConsumer.decodedRecordCountsAtControlMessages, Arrays.asList(5, 15));
+    veniceChangelogConsumer.close();
+  }
+
+  private DecodeTrackingConsumer createParallelDecodeConsumer(
+      PubSubConsumerAdapter mockPubSubConsumer,
+      long maxInFlightDecodeBytes,
+      MetricsRepository metricsRepository) throws ExecutionException, InterruptedException {
+    D2ControllerClient d2ControllerClient = mock(D2ControllerClient.class);
+    StoreResponse storeResponse = mock(StoreResponse.class);
+    StoreInfo storeInfo = mock(StoreInfo.class);
+    doReturn(1).when(storeInfo).getCurrentVersion();
+    doReturn(2).when(storeInfo).getPartitionCount();
+    doReturn(storeInfo).when(storeResponse).getStore();
+    doReturn(storeResponse).when(d2ControllerClient).getStore(storeName);
+    MultiSchemaResponse multiRMDSchemaResponse = mock(MultiSchemaResponse.class);
+    MultiSchemaResponse.Schema rmdSchemaFromMultiSchemaResponse = mock(MultiSchemaResponse.Schema.class);
+    doReturn(rmdSchema.toString()).when(rmdSchemaFromMultiSchemaResponse).getSchemaStr();
+    doReturn(new MultiSchemaResponse.Schema[] { rmdSchemaFromMultiSchemaResponse }).when(multiRMDSchemaResponse)
+        .getSchemas();
+    doReturn(multiRMDSchemaResponse).when(d2ControllerClient).getAllReplicationMetadataSchemas(storeName);
+
+    ChangelogClientConfig changelogClientConfig =
+        new ChangelogClientConfig<>().setD2ControllerClient(d2ControllerClient)
+            .setSchemaReader(schemaReader)
+            .setStoreName(storeName)
+            .setViewName("")
+            .setConsumerName("test")
+            .setDecodeThreadCount(2)
+            .setMaxInFlightDecodeBytes(maxInFlightDecodeBytes);
+    changelogClientConfig.getInnerClientConfig().setMetricsRepository(metricsRepository);
+    DecodeTrackingConsumer veniceChangelogConsumer =
+        new DecodeTrackingConsumer(changelogClientConfig, mockPubSubConsumer);
+
+    ThinClientMetaStoreBasedRepository mockRepository = mock(ThinClientMetaStoreBasedRepository.class);
+    Store store = mock(Store.class);
+    Version mockVersion = new VersionImpl(storeName, 1, "foo");
+    Mockito.when(store.getCurrentVersion()).thenReturn(1);
+    Mockito.when(store.getCompressionStrategy()).thenReturn(CompressionStrategy.NO_OP);
+    Mockito.when(mockRepository.getStore(anyString())).thenReturn(store);
+    Mockito.when(mockRepository.getValueSchema(storeName, 1)).thenReturn(new SchemaEntry(1, valueSchema));
+    Mockito.when(store.getVersionOrThrow(Mockito.anyInt())).thenReturn(mockVersion);
+    veniceChangelogConsumer.setStoreRepository(mockRepository);
+    veniceChangelogConsumer.subscribe(new HashSet<>(Arrays.asList(0, 1))).get();
+    return veniceChangelogConsumer;
+  }
+
+  private PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> constructVersionTopicRecord(
+      PubSubTopic versionTopic,
+      int partition,
+      long index,
+      int payloadSize) {
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> pubSubMessage = constructConsumerRecord(
+        versionTopic,
+        partition,
+        "newValue" + partition + "_" + index,
+        "key" + index,
+        Arrays.asList(index, index));
+    return new ImmutablePubSubMessage<>(
+        pubSubMessage.getKey(),
+        pubSubMessage.getValue(),
+        pubSubMessage.getTopicPartition(),
+        index,
+        0,
+        payloadSize);
+  }
+
+  private static List<String> getCurrentValues(
+      Collection<PubSubMessage<String, ChangeEvent<Utf8>, VeniceChangeCoordinate>> pubSubMessages) {
+    List<String> currentValues = new ArrayList<>(pubSubMessages.size());
+    for (PubSubMessage<String, ChangeEvent<Utf8>, VeniceChangeCoordinate> pubSubMessage: pubSubMessages) {
+      currentValues.add(pubSubMessage.getValue().getCurrentValue().toString());
+    }
+    return currentValues;
+  }
+
   private void prepareChangeCaptureRecordsToBePolled(
       long startIdx,
       long endIdx,
@@ -514,4 +680,35 @@ public class VeniceChangelogConsumerImplTest {
     PubSubTopicPartition pubSubTopicPartition = new PubSubTopicPartitionImpl(versionTopic, partition);
     return new ImmutablePubSubMessage<>(kafkaKey, kafkaMessageEnvelope, pubSubTopicPartition, 0, 0, 0);
   }
+
+  /**
+   * Counts the records which got decoded, and how many of them were decoded whenever a control message got handled.
+   */
+  private static class DecodeTrackingConsumer extends VeniceAfterImageConsumerImpl<String, Utf8> {
+    private final AtomicInteger decodedRecordCount = new AtomicInteger();
+    private final List<Integer> decodedRecordCountsAtControlMessages = new CopyOnWriteArrayList<>();
+
+    DecodeTrackingConsumer(ChangelogClientConfig changelogClientConfig, PubSubConsumerAdapter consumer) {
+      super(changelogClientConfig, consumer);
+    }
+
+    @Override
+    protected boolean handleControlMessage(
+        ControlMessage controlMessage,
+        PubSubTopicPartition pubSubTopicPartition,
+        String topicSuffix,
+        byte[] key,
+        long timestamp) {
+      decodedRecordCountsAtControlMessages.add(decodedRecordCount.get());
+      return super.handleControlMessage(controlMessage, pubSubTopicPartition, topicSuffix, key, timestamp);
+    }
+
+    @Override
+    protected Optional<PubSubMessage<String, ChangeEvent<Utf8>, VeniceChangeCoordinate>> convertPubSubMessageToPubSubChangeEventMessage(
+        PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message,
+        PubSubTopicPartition pubSubTopicPartition) {
+      decodedRecordCount.incrementAndGet();
+      return super.convertPubSubMessageToPubSubChangeEventMessage(message, pubSubTopicPartition);
+    }
+  }
 }
@@ -0,0 +1,135 @@
+package com.linkedin.davinci.ingestion;
+
+import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.buildHttpResponse;
+import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.deserializeIngestionActionRequest;
+import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.getIngestionActionFromRequest;
+import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.readHttpRequestContent;
+import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.serializeIngestionActionResponse;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.exceptions.VeniceHttpException;
+import com.linkedin.venice.ingestion.protocol.IngestionStorageMetadata;
+import com.linkedin.venice.ingestion.protocol.IngestionTaskCommand;
+import com.linkedin.venice.ingestion.protocol.IngestionTaskReport;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
+import com.linkedin.venice.utils.Utils;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.epoll.Epoll;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class UnixDomainSocketTransportTest {
+  private static final int REQUEST_TIMEOUT_SECONDS = 10;
+
+  private String socketPath;
+  private UnixDomainSocketServer server;
+  private UnixDomainSocketTransport transport;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    if (!Epoll.isAvailable()) {
+      throw new SkipException("Unix domain sockets need epoll: " + Epoll.unavailabilityCause());
+    }
+    socketPath = Paths.get(Utils.getTempDataDirectory().getAbsolutePath(), "ingestion.sock").toString();
+    server = new UnixDomainSocketServer(socketPath);
+    server.start(new ChannelInitializer<Channel>() {
+      @Override
+      protected void initChannel(Channel ch) {
+        ch.pipeline()
+            .addLast(new HttpServerCodec())
+            .addLast(new HttpObjectAggregator(1024 * 1024))
+            .addLast(new UpdateMetadataHandler());
+      }
+    });
+    transport = new UnixDomainSocketTransport(socketPath, REQUEST_TIMEOUT_SECONDS);
+  }
+
+  @AfterMethod(alwaysRun = true)
+  public void cleanUp() {
+    if (transport != null) {
+      transport.close();
+    }
+    if (server != null) {
+      server.close();
+    }
+  }
+
+  @Test(timeOut = 60 * 1000)
+  public void testRequestRoundTrip() throws Exception {
+    Assert.assertEquals(
+        Files.getPosixFilePermissions(Paths.get(socketPath)),
+        PosixFilePermissions.fromString("rw-------"));
+    // The connections are reused by the consecutive requests
+    for (int partition = 0; partition < 20; partition++) {
+      IngestionTaskReport report = transport.sendRequest(IngestionAction.UPDATE_METADATA, createMetadata(partition));
+      Assert.assertTrue(report.isPositive);
+      Assert.assertEquals(report.topicName.toString(), "test_store_v1");
+      Assert.assertEquals(report.partitionId, partition);
+    }
+  }
+
+  @Test(timeOut = 60 * 1000)
+  public void testErrorResponse() {
+    IngestionTaskCommand command = new IngestionTaskCommand();
+    command.topicName = "test_store_v1";
+    VeniceHttpException e = Assert.expectThrows(
+        VeniceHttpException.class,
+        () -> transport.sendRequest(IngestionAction.COMMAND, command, REQUEST_TIMEOUT_SECONDS));
+    Assert.assertEquals(e.getHttpStatusCode(), HttpResponseStatus.BAD_REQUEST.code());
+
+    // The transport keeps working after an error response
+    IngestionTaskReport report = transport.sendRequest(IngestionAction.UPDATE_METADATA, createMetadata(1));
+    Assert.assertTrue(report.isPositive);
+
+    server.close();
+    Assert.expectThrows(
+        VeniceException.class,
+        () -> transport.sendRequest(IngestionAction.UPDATE_METADATA, createMetadata(2), REQUEST_TIMEOUT_SECONDS));
+  }
+
+  private static IngestionStorageMetadata createMetadata(int partition) {
+    IngestionStorageMetadata metadata = new IngestionStorageMetadata();
+    metadata.topicName = "test_store_v1";
+    metadata.partitionId = partition;
+    metadata.payload = ByteBuffer.wrap(new byte[0]);
+    metadata.metadataUpdateType = 0;
+    return metadata;
+  }
+
+  /**
+   * Answers the {@link IngestionAction#UPDATE_METADATA} requests with a positive report of the same partition, and
+   * rejects any other request.
+   */
+  private static class UpdateMetadataHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest msg) {
+      IngestionAction action = getIngestionActionFromRequest(msg);
+      if (action != IngestionAction.UPDATE_METADATA) {
+        ctx.writeAndFlush(buildHttpResponse(HttpResponseStatus.BAD_REQUEST, "Unsupported action: " + action));
+        return;
+      }
+      IngestionStorageMetadata metadata = deserializeIngestionActionRequest(action, readHttpRequestContent(msg));
+      IngestionTaskReport report = new IngestionTaskReport();
+      report.topicName = metadata.topicName;
+      report.partitionId = metadata.partitionId;
+      report.isPositive = true;
+      report.message = "";
+      ctx.writeAndFlush(buildHttpResponse(HttpResponseStatus.OK, serializeIngestionActionResponse(action, report)));
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.linkedin.davinci.ingestion.isolated;
+
+import com.linkedin.davinci.stats.IsolatedIngestionReportStats;
+import com.linkedin.venice.ingestion.protocol.IngestionTaskReport;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionReportType;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class IngestionReportCoalescerTest {
+  private static final String TOPIC = "test_store_v1";
+
+  @Test
+  public void testProgressReportsAreCoalesced() {
+    Queue<Runnable> tasks = new ArrayDeque<>();
+    List<IngestionTaskReport> deliveredReports = new ArrayList<>();
+    IngestionReportCoalescer coalescer = new IngestionReportCoalescer(tasks::add, deliveredReports::add);
+    MetricsRepository metricsRepository = new MetricsRepository();
+    new IsolatedIngestionReportStats(metricsRepository, coalescer::getCoalescedReportCount);
+
+    coalescer.report(createReport(IngestionReportType.PROGRESS, 0, 10));
+    coalescer.report(createReport(IngestionReportType.PROGRESS, 1, 15));
+    coalescer.report(createReport(IngestionReportType.PROGRESS, 0, 20));
+    coalescer.report(createReport(IngestionReportType.PROGRESS, 0, 30));
+    Assert.assertEquals(tasks.size(), 2);
+    Assert.assertEquals(coalescer.getCoalescedReportCount(), 2);
+    Assert.assertEquals(
+        metricsRepository.getMetric(".ingestion_isolation_report--coalesced_progress_report_count.Gauge").value(),
+        2.0);
+
+    runAll(tasks);
+    Assert.assertEquals(deliveredReports.size(), 2);
+    assertReport(deliveredReports.get(0), IngestionReportType.PROGRESS, 0, 30);
+    assertReport(deliveredReports.get(1), IngestionReportType.PROGRESS, 1, 15);
+
+    // Once delivered, the next report of the partition gets delivered on its own.
+    coalescer.report(createReport(IngestionReportType.PROGRESS, 0, 40));
+    runAll(tasks);
+    Assert.assertEquals(deliveredReports.size(), 3);
+    assertReport(deliveredReports.get(2), IngestionReportType.PROGRESS, 0, 40);
+  }
+
+  @Test
+  public void testOtherReportsKeepOrder() {
+    Queue<Runnable> tasks = new ArrayDeque<>();
+    List<IngestionTaskReport> deliveredReports = new ArrayList<>();
+    IngestionReportCoalescer coalescer = new IngestionReportCoalescer(tasks::add, deliveredReports::add);
+
+    coalescer.report(createReport(IngestionReportType.PROGRESS, 0, 10));
+    coalescer.report(createReport(IngestionReportType.END_OF_PUSH_RECEIVED, 0, 20));
+    coalescer.report(createReport(IngestionReportType.PROGRESS, 0, 30));
+    coalescer.report(createReport(IngestionReportType.PROGRESS, 0, 40));
+    IngestionTaskReport completedReport = createReport(IngestionReportType.COMPLETED, 0, 50);
+    coalescer.seal(completedReport);
+    tasks.add(() -> deliveredReports.add(completedReport));
+    coalescer.report(createReport(IngestionReportType.PROGRESS, 0, 60));
+    Assert.assertEquals(coalescer.getCoalescedReportCount(), 1);
+
+    runAll(tasks);
+    Assert.assertEquals(deliveredReports.size(), 5);
+    assertReport(deliveredReports.get(0), IngestionReportType.PROGRESS, 0, 10);
+    assertReport(deliveredReports.get(1), IngestionReportType.END_OF_PUSH_RECEIVED, 0, 20);
+    assertReport(deliveredReports.get(2), IngestionReportType.PROGRESS, 0, 40);
+    assertReport(deliveredReports.get(3), IngestionReportType.COMPLETED, 0, 50);
+    assertReport(deliveredReports.get(4), IngestionReportType.PROGRESS, 0, 60);
+  }
+
+  private static void runAll(Queue<Runnable> tasks) {
+    while (!tasks.isEmpty()) {
+      tasks.poll().run();
+    }
+  }
+
+  private static IngestionTaskReport createReport(IngestionReportType reportType, int partitionId, long offset) {
+    IngestionTaskReport report = new IngestionTaskReport();
+    report.reportType = reportType.getValue();
+    report.topicName = TOPIC;
+    report.partitionId = partitionId;
+    report.offset = offset;
+    report.message = "";
+    return report;
+  }
+
+  private static void assertReport(
+      IngestionTaskReport report,
+      IngestionReportType expectedReportType,
+      int expectedPartitionId,
+      long expectedOffset) {
+    Assert.assertEquals(IngestionReportType.valueOf(report.reportType), expectedReportType);
+    Assert.assertEquals(report.partitionId, expectedPartitionId);
+    Assert.assertEquals(report.offset, expectedOffset);
+  }
+}
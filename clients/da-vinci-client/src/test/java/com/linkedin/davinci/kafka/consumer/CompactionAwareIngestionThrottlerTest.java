@@ -0,0 +1,102 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.stats.HostLevelIngestionStats;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.api.PubSubTopic;
+import com.linkedin.venice.utils.TestMockTime;
+import com.linkedin.venice.utils.Utils;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class CompactionAwareIngestionThrottlerTest {
+  private static final long INTERVAL_MS = 1000;
+
+  @Test
+  public void testBackOffAndRecovery() {
+    VeniceServerConfig serverConfig = mock(VeniceServerConfig.class);
+    doReturn(INTERVAL_MS).when(serverConfig).getCompactionAwareIngestionThrottlingIntervalMs();
+    doReturn(0.8).when(serverConfig).getCompactionAwareIngestionThrottlingBackOffPressure();
+    doReturn(0.5).when(serverConfig).getCompactionAwareIngestionThrottlingRecoveryPressure();
+    doReturn(100L).when(serverConfig).getCompactionAwareIngestionThrottlingMinRecordsPerSec();
+    HostLevelIngestionStats stats = mock(HostLevelIngestionStats.class);
+    TestMockTime time = new TestMockTime();
+    AtomicReference<Double> pressure = new AtomicReference<>(0d);
+    Set<Integer> pausedPartitions = new HashSet<>();
+    PubSubTopic versionTopic = new PubSubTopicRepository().getTopic(Utils.getUniqueString("store") + "_v1");
+    CompactionAwareIngestionThrottler throttler = new CompactionAwareIngestionThrottler(
+        serverConfig,
+        versionTopic.getName(),
+        pressure::get,
+        stats,
+        (topic, partition) -> Assert.assertTrue(pausedPartitions.add(partition)),
+        (topic, partition) -> Assert.assertTrue(pausedPartitions.remove(partition)),
+        time);
+    PubSubTopicPartitionImpl partition0 = new PubSubTopicPartitionImpl(versionTopic, 0);
+    PubSubTopicPartitionImpl partition1 = new PubSubTopicPartitionImpl(versionTopic, 1);
+
+    // Nothing is throttled while the pressure is low.
+    throttler.recordConsumption(partition0, 10000);
+    Assert.assertTrue(pausedPartitions.isEmpty());
+    time.addMilliseconds(INTERVAL_MS);
+    throttler.maybeAdjust();
+    Assert.assertEquals(throttler.getAllowedRecordsPerInterval(), -1);
+
+    // Once the pressure gets high, the limit starts from half the records consumed in the last interval.
+    throttler.recordConsumption(partition0, 10000);
+    time.addMilliseconds(INTERVAL_MS);
+    pressure.set(0.9);
+    throttler.maybeAdjust();
+    Assert.assertEquals(throttler.getAllowedRecordsPerInterval(), 5000);
+    verify(stats).recordIngestionThrottlerBackOff();
+    verify(stats).recordIngestionThrottlerRecordsPerSecLimit(5000);
+
+    // The partitions are paused once the allowed records of the interval are consumed.
+    throttler.recordConsumption(partition0, 3000);
+    Assert.assertTrue(pausedPartitions.isEmpty());
+    throttler.recordConsumption(partition1, 2000);
+    Assert.assertEquals(pausedPartitions, Collections.singleton(1));
+    throttler.recordConsumption(partition0, 100);
+    Assert.assertTrue(throttler.isPartitionPaused(0));
+    Assert.assertTrue(throttler.isPartitionPaused(1));
+    verify(stats, times(2)).recordIngestionThrottlerPartitionPause();
+
+    // They are only resumed at the next interval, and the limit is kept while the pressure is in between.
+    throttler.maybeAdjust();
+    Assert.assertEquals(pausedPartitions.size(), 2);
+    time.addMilliseconds(INTERVAL_MS);
+    pressure.set(0.6);
+    throttler.maybeAdjust();
+    Assert.assertTrue(pausedPartitions.isEmpty());
+    Assert.assertEquals(throttler.getAllowedRecordsPerInterval(), 5000);
+
+    // The limit is halved again while the pressure stays high, but never below the min records.
+    pressure.set(0.9);
+    for (int i = 0; i < 10; i++) {
+      time.addMilliseconds(INTERVAL_MS);
+      throttler.maybeAdjust();
+    }
+    Assert.assertEquals(throttler.getAllowedRecordsPerInterval(), 100);
+
+    // It grows back by a tenth of the records consumed before the first back off, until it isn't limited anymore.
+    pressure.set(0.1);
+    int recoveryCount = 0;
+    while (throttler.getAllowedRecordsPerInterval() != -1) {
+      time.addMilliseconds(INTERVAL_MS);
+      throttler.maybeAdjust();
+      recoveryCount++;
+    }
+    Assert.assertEquals(recoveryCount, 10);
+  }
+}
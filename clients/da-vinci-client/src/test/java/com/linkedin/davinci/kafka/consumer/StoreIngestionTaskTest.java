@@ -4249,6 +4249,90 @@ public abstract class StoreIngestionTaskTest {
     });
   }
 
+  @Test
+  public void testCompactionAwareIngestionThrottlerCountsRecordsProducedByLeader() throws InterruptedException {
+    String storeName = Utils.getUniqueString("store");
+    Store mockStore = mock(Store.class);
+    String versionTopic = Version.composeKafkaTopic(storeName, 1);
+    VeniceStoreVersionConfig mockVeniceStoreVersionConfig = mock(VeniceStoreVersionConfig.class);
+    doReturn(versionTopic).when(mockVeniceStoreVersionConfig).getStoreVersionName();
+    Version mockVersion = mock(Version.class);
+    doReturn(1).when(mockVersion).getPartitionCount();
+    doReturn(VersionStatus.STARTED).when(mockVersion).getStatus();
+    Properties mockKafkaConsumerProperties = mock(Properties.class);
+    doReturn("localhost").when(mockKafkaConsumerProperties).getProperty(eq(KAFKA_BOOTSTRAP_SERVERS));
+    ReadOnlyStoreRepository mockReadOnlyStoreRepository = mock(ReadOnlyStoreRepository.class);
+    doReturn(mockStore).when(mockReadOnlyStoreRepository).getStoreOrThrow(eq(storeName));
+    doReturn(mockVersion).when(mockStore).getVersion(1);
+    VeniceServerConfig mockVeniceServerConfig = mock(VeniceServerConfig.class);
+    VeniceProperties mockVeniceProperties = mock(VeniceProperties.class);
+    doReturn(true).when(mockVeniceProperties).isEmpty();
+    doReturn(mockVeniceProperties).when(mockVeniceServerConfig).getKafkaConsumerConfigsForLocalConsumption();
+    doReturn(Object2IntMaps.emptyMap()).when(mockVeniceServerConfig).getKafkaClusterUrlToIdMap();
+    doReturn(Int2ObjectMaps.emptyMap()).when(mockVeniceServerConfig).getKafkaClusterIdToUrlMap();
+    doReturn(true).when(mockVeniceServerConfig).isCompactionAwareIngestionThrottlingEnabled();
+    doReturn(1L).when(mockVeniceServerConfig).getCompactionAwareIngestionThrottlingIntervalMs();
+    doReturn(1.0).when(mockVeniceServerConfig).getCompactionAwareIngestionThrottlingBackOffPressure();
+    doReturn(0.5).when(mockVeniceServerConfig).getCompactionAwareIngestionThrottlingRecoveryPressure();
+    doReturn(1L).when(mockVeniceServerConfig).getCompactionAwareIngestionThrottlingMinRecordsPerSec();
+    // The writes of the store version are about to stall.
+    AbstractStorageEngine mockStorageEngine = mock(AbstractStorageEngine.class);
+    doReturn(2.0).when(mockStorageEngine).getWriteStallPressure();
+    StorageEngineRepository mockStorageEngineRepository = mock(StorageEngineRepository.class);
+    doReturn(mockStorageEngine).when(mockStorageEngineRepository).getLocalStorageEngine(eq(versionTopic));
+    AggHostLevelIngestionStats mockAggHostLevelIngestionStats = mock(AggHostLevelIngestionStats.class);
+    doReturn(mock(HostLevelIngestionStats.class)).when(mockAggHostLevelIngestionStats).getStoreStats(eq(storeName));
+    PartitionConsumptionState pcs = mock(PartitionConsumptionState.class);
+    doReturn(LeaderFollowerStateType.LEADER).when(pcs).getLeaderFollowerState();
+
+    StoreIngestionTaskFactory ingestionTaskFactory = TestUtils.getStoreIngestionTaskBuilder(storeName)
+        .setStorageMetadataService(mockStorageMetadataService)
+        .setStorageEngineRepository(mockStorageEngineRepository)
+        .setMetadataRepository(mockReadOnlyStoreRepository)
+        .setTopicManagerRepository(mockTopicManagerRepository)
+        .setHostLevelIngestionStats(mockAggHostLevelIngestionStats)
+        .setServerConfig(mockVeniceServerConfig)
+        .setPubSubTopicRepository(pubSubTopicRepository)
+        .build();
+    LeaderFollowerStoreIngestionTask ingestionTask = spy(
+        (LeaderFollowerStoreIngestionTask) ingestionTaskFactory.getNewIngestionTask(
+            mockStore,
+            mockVersion,
+            mockKafkaConsumerProperties,
+            () -> true,
+            mockVeniceStoreVersionConfig,
+            0,
+            false,
+            Optional.empty(),
+            null));
+    ingestionTask.setPartitionConsumptionState(0, pcs);
+    // The leader produces the records it consumes from the real-time topic to the version topic.
+    doReturn(true).when(ingestionTask).shouldProcessRecord(any());
+    doReturn(StoreIngestionTask.DelegateConsumerRecordResult.PRODUCED_TO_KAFKA).when(ingestionTask)
+        .delegateConsumerRecord(any(), anyInt(), anyString(), anyInt(), anyLong(), anyLong());
+
+    PubSubTopicPartition rtTopicPartition =
+        new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic(Version.composeRealTimeTopic(storeName)), 0);
+    List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> records = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      KafkaMessageEnvelope kafkaMessageEnvelope = new KafkaMessageEnvelope();
+      kafkaMessageEnvelope.messageType = MessageType.DELETE.getValue();
+      KafkaKey kafkaKey = new KafkaKey(MessageType.DELETE, ("key" + i).getBytes());
+      records.add(new ImmutablePubSubMessage<>(kafkaKey, kafkaMessageEnvelope, rtTopicPartition, i, 0, 0));
+    }
+
+    CompactionAwareIngestionThrottler throttler = ingestionTask.getCompactionAwareIngestionThrottler();
+    ingestionTask.produceToStoreBufferServiceOrKafka(records, rtTopicPartition, "localhost", 0);
+    Thread.sleep(10);
+    // The back off starts from the 10 records the leader produced in the last interval.
+    throttler.maybeAdjust();
+    assertEquals(throttler.getAllowedRecordsPerInterval(), 5);
+    assertFalse(throttler.isPartitionPaused(0));
+
+    ingestionTask.produceToStoreBufferServiceOrKafka(records, rtTopicPartition, "localhost", 0);
+    assertTrue(throttler.isPartitionPaused(0));
+  }
+
   @Test(dataProvider = "aaConfigProvider")
   public void testStoreIngestionRecordTransformer(AAConfig aaConfig) throws Exception {
     KafkaKey kafkaKey = new KafkaKey(MessageType.PUT, putKeyFoo);
@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -312,6 +313,110 @@ public class CollectionMergeTest {
     Assert.assertEquals(updatedMap, Arrays.asList("key1", "key2", "key4", "key3"));
   }
 
+  /**
+   * Applies the same random sequence of operations on a list field and a map field with the linear merge enabled and
+   * disabled, and checks that both always end up with the same elements and the same RMD.
+   */
+  @Test
+  public void testLinearMergeMatchesSortBasedMerge() {
+    SortBasedCollectionFieldOpHandler linearMergeHandler =
+        new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE, true);
+    SortBasedCollectionFieldOpHandler sortBasedMergeHandler =
+        new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE, false);
+    Schema.Field listField = VALUE_SCHEMA.getField(LIST_FIELD_NAME);
+    Schema.Field mapField = VALUE_SCHEMA.getField(MAP_FIELD_NAME);
+    Random random = new Random(0);
+
+    for (int run = 0; run < 200; run++) {
+      GenericRecord linearMergeRecord = new GenericData.Record(VALUE_SCHEMA);
+      GenericRecord sortBasedMergeRecord = new GenericData.Record(VALUE_SCHEMA);
+      for (GenericRecord valueRecord: Arrays.asList(linearMergeRecord, sortBasedMergeRecord)) {
+        valueRecord.put(LIST_FIELD_NAME, new ArrayList<>());
+        valueRecord.put(MAP_FIELD_NAME, new IndexedHashMap<>());
+      }
+      GenericRecord linearMergeTsRecord =
+          (GenericRecord) initiateFieldLevelRmdRecord().get(RmdConstants.TIMESTAMP_FIELD_NAME);
+      GenericRecord sortBasedMergeTsRecord =
+          (GenericRecord) initiateFieldLevelRmdRecord().get(RmdConstants.TIMESTAMP_FIELD_NAME);
+      for (GenericRecord tsRecord: Arrays.asList(linearMergeTsRecord, sortBasedMergeTsRecord)) {
+        for (String fieldName: Arrays.asList(LIST_FIELD_NAME, MAP_FIELD_NAME)) {
+          GenericRecord fieldTsRecord = (GenericRecord) tsRecord.get(fieldName);
+          fieldTsRecord.put(TOP_LEVEL_TS_FIELD_NAME, 0L);
+          fieldTsRecord.put(TOP_LEVEL_COLO_ID_FIELD_NAME, 0);
+          fieldTsRecord.put(PUT_ONLY_PART_LENGTH_FIELD_NAME, 0);
+          fieldTsRecord.put(ACTIVE_ELEM_TS_FIELD_NAME, new ArrayList<>());
+          fieldTsRecord.put(DELETED_ELEM_FIELD_NAME, new ArrayList<>());
+          fieldTsRecord.put(DELETED_ELEM_TS_FIELD_NAME, new ArrayList<>());
+        }
+      }
+      final int elementCount = 5 + random.nextInt(40);
+      long timestamp = 0;
+
+      for (int step = 0; step < 40; step++) {
+        // Mostly increasing timestamps, sometimes going back in time.
+        timestamp += random.nextInt(4) - (random.nextInt(5) == 0 ? 3 : 0);
+        final int coloID = random.nextInt(3);
+        final int operation = random.nextInt(10);
+        List<Object> toAddElements = new ArrayList<>();
+        List<Object> toRemoveElements = new ArrayList<>();
+        Map<String, Object> newEntries = new HashMap<>();
+        for (int i = random.nextInt(6); i > 0; i--) {
+          int element = random.nextInt(elementCount);
+          toAddElements.add("item" + element);
+          newEntries.put("key" + element, random.nextInt(3));
+        }
+        for (int i = random.nextInt(4); i > 0; i--) {
+          toRemoveElements.add("item" + random.nextInt(elementCount));
+        }
+        List<String> toRemoveKeys = new ArrayList<>();
+        toRemoveElements.forEach(element -> toRemoveKeys.add(((String) element).replace("item", "key")));
+
+        for (boolean linearMerge: new boolean[] { true, false }) {
+          SortBasedCollectionFieldOpHandler handler = linearMerge ? linearMergeHandler : sortBasedMergeHandler;
+          GenericRecord valueRecord = linearMerge ? linearMergeRecord : sortBasedMergeRecord;
+          GenericRecord tsRecord = linearMerge ? linearMergeTsRecord : sortBasedMergeTsRecord;
+          CollectionRmdTimestamp<Object> listRmd =
+              new CollectionRmdTimestamp<>((GenericRecord) tsRecord.get(LIST_FIELD_NAME));
+          CollectionRmdTimestamp<String> mapRmd =
+              new CollectionRmdTimestamp<>((GenericRecord) tsRecord.get(MAP_FIELD_NAME));
+          switch (operation) {
+            case 0:
+              handler.handlePutList(timestamp, coloID, new ArrayList<>(toAddElements), listRmd, valueRecord, listField);
+              IndexedHashMap<String, Object> newMap = new IndexedHashMap<>();
+              newMap.putAll(newEntries);
+              handler.handlePutMap(timestamp, coloID, newMap, mapRmd, valueRecord, mapField);
+              break;
+            case 1:
+              handler.handleDeleteList(timestamp, coloID, listRmd, valueRecord, listField);
+              handler.handleDeleteMap(timestamp, coloID, mapRmd, valueRecord, mapField);
+              break;
+            default:
+              handler.handleModifyList(
+                  timestamp,
+                  listRmd,
+                  valueRecord,
+                  listField,
+                  new ArrayList<>(toAddElements),
+                  new ArrayList<>(toRemoveElements));
+              handler.handleModifyMap(
+                  timestamp,
+                  mapRmd,
+                  valueRecord,
+                  mapField,
+                  new HashMap<>(newEntries),
+                  new ArrayList<>(toRemoveKeys));
+          }
+        }
+
+        Assert.assertEquals(linearMergeRecord.get(LIST_FIELD_NAME), sortBasedMergeRecord.get(LIST_FIELD_NAME));
+        Assert.assertEquals(
+            new ArrayList<>(((Map<String, Object>) linearMergeRecord.get(MAP_FIELD_NAME)).entrySet()),
+            new ArrayList<>(((Map<String, Object>) sortBasedMergeRecord.get(MAP_FIELD_NAME)).entrySet()));
+        Assert.assertEquals(linearMergeTsRecord, sortBasedMergeTsRecord);
+      }
+    }
+  }
+
   private GenericRecord initiateFieldLevelRmdRecord() {
     GenericRecord rmdRecord = new GenericData.Record(RMD_SCHEMA);
     Schema fieldLevelTimestampSchema =
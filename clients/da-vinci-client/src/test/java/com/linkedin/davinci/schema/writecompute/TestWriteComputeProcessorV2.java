@@ -5,14 +5,24 @@ import static org.apache.avro.Schema.Type.*;
 
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.davinci.schema.merge.CollectionTimestampMergeRecordHelper;
+import com.linkedin.davinci.serializer.avro.MapOrderPreservingSerDeFactory;
 import com.linkedin.venice.schema.writecompute.TestWriteComputeProcessor;
 import com.linkedin.venice.schema.writecompute.WriteComputeHandlerV1;
 import com.linkedin.venice.schema.writecompute.WriteComputeSchemaConverter;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.writer.update.UpdateBuilderImpl;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericArray;
 import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -30,6 +40,21 @@ public class TestWriteComputeProcessorV2 extends TestWriteComputeProcessor {
       + "        \"name\" : \"intField\",\n" + "        \"type\" : \"int\"\n" + "      } ]\n" + "    },\n"
       + "    \"default\" : {\n" + "      \"intField\" : 1\n" + "    }\n" + "  } ]\n" + "}";
 
+  private final static String multiTypeRecordStr =
+      "{\"type\":\"record\",\"name\":\"multiTypeRecord\",\"fields\":["
+          + "{\"name\":\"intField\",\"type\":\"int\",\"default\":0},"
+          + "{\"name\":\"stringField\",\"type\":\"string\",\"default\":\"\"},"
+          + "{\"name\":\"nullableArray\",\"type\":[\"null\",{\"type\":\"array\",\"items\":\"int\"}],"
+          + "\"default\":null},"
+          + "{\"name\":\"stringMap\",\"type\":{\"type\":\"map\",\"values\":\"string\"},\"default\":{}},"
+          + "{\"name\":\"fixedField\",\"type\":{\"type\":\"fixed\",\"name\":\"fourBytes\",\"size\":4},"
+          + "\"default\":\"abcd\"},"
+          + "{\"name\":\"enumField\",\"type\":{\"type\":\"enum\",\"name\":\"color\",\"symbols\":"
+          + "[\"RED\",\"BLUE\"]},\"default\":\"RED\"},"
+          + "{\"name\":\"longList\",\"type\":{\"type\":\"array\",\"items\":\"long\"},\"default\":[]},"
+          + "{\"name\":\"doubleField\",\"type\":\"double\",\"default\":0.0},"
+          + "{\"name\":\"bytesField\",\"type\":\"bytes\",\"default\":\"\"}]}";
+
   private final WriteComputeSchemaConverter writeComputeSchemaConverter = WriteComputeSchemaConverter.getInstance();
 
   @Override
@@ -91,4 +116,70 @@ public class TestWriteComputeProcessorV2 extends TestWriteComputeProcessor {
     Assert.assertNotNull(result);
     Assert.assertEquals(result.get("nestedRecord"), nestedRecord);
   }
+
+  @Test
+  public void testUpdateSerializedRecordMatchesUpdateRecord() {
+    Schema valueSchema = AvroCompatibilityHelper.parse(multiTypeRecordStr);
+    Schema writeComputeSchema = writeComputeSchemaConverter.convertFromValueRecordSchema(valueSchema);
+    WriteComputeProcessor writeComputeProcessor = new WriteComputeProcessor(new CollectionTimestampMergeRecordHelper());
+    RecordSerializer<GenericRecord> serializer = MapOrderPreservingSerDeFactory.getSerializer(valueSchema);
+    RecordDeserializer<GenericRecord> deserializer =
+        MapOrderPreservingSerDeFactory.getDeserializer(valueSchema, valueSchema);
+
+    GenericRecord value = new GenericData.Record(valueSchema);
+    value.put("intField", 1);
+    value.put("stringField", "value");
+    value.put("nullableArray", null);
+    Map<String, String> stringMap = new HashMap<>();
+    for (int i = 0; i < 100; i++) {
+      stringMap.put("key_" + i, "value_" + i);
+    }
+    value.put("stringMap", stringMap);
+    value.put(
+        "fixedField",
+        new GenericData.Fixed(valueSchema.getField("fixedField").schema(), new byte[] { 1, 2, 3, 4 }));
+    value.put("enumField", new GenericData.EnumSymbol(valueSchema.getField("enumField").schema(), "BLUE"));
+    List<Long> longList = new ArrayList<>();
+    for (long i = 0; i < 100; i++) {
+      longList.add(i);
+    }
+    value.put("longList", longList);
+    value.put("doubleField", 1.5);
+    value.put("bytesField", ByteBuffer.wrap(new byte[] { 5, 6 }));
+
+    List<GenericRecord> updates = Arrays.asList(
+        new UpdateBuilderImpl(writeComputeSchema).setNewFieldValue("stringField", "updated").build(),
+        new UpdateBuilderImpl(writeComputeSchema).setNewFieldValue("intField", 2)
+            .setNewFieldValue("doubleField", 2.5)
+            .build(),
+        new UpdateBuilderImpl(writeComputeSchema).setElementsToAddToListField("nullableArray", Arrays.asList(1, 2))
+            .build(),
+        new UpdateBuilderImpl(writeComputeSchema).setElementsToAddToListField("longList", Arrays.asList(100L, 0L))
+            .setElementsToRemoveFromListField("longList", Arrays.asList(1L, 2L))
+            .build(),
+        new UpdateBuilderImpl(writeComputeSchema)
+            .setEntriesToAddToMapField("stringMap", Collections.singletonMap("key_100", "value_100"))
+            .setKeysToRemoveFromMapField("stringMap", Arrays.asList("key_0", "key_1"))
+            .build(),
+        new UpdateBuilderImpl(writeComputeSchema).setNewFieldValue("bytesField", ByteBuffer.wrap(new byte[] { 7 }))
+            .setNewFieldValue("nullableArray", null)
+            .build());
+
+    byte[] expectedValueBytes = serializer.serialize(value);
+    byte[] actualValueBytes = expectedValueBytes;
+    for (GenericRecord update: updates) {
+      GenericRecord expectedValue = writeComputeProcessor
+          .updateRecord(valueSchema, deserializer.deserialize(expectedValueBytes), update);
+      expectedValueBytes = serializer.serialize(expectedValue);
+
+      // The serialized value is preceded by a header, as it is in the storage engine.
+      ByteBuffer actualValueBuffer = ByteBuffer.allocate(actualValueBytes.length + 4);
+      actualValueBuffer.position(4);
+      actualValueBuffer.put(actualValueBytes);
+      actualValueBuffer.position(4);
+      actualValueBytes = writeComputeProcessor.updateSerializedRecord(valueSchema, actualValueBuffer, update);
+
+      Assert.assertEquals(deserializer.deserialize(actualValueBytes), deserializer.deserialize(expectedValueBytes));
+    }
+  }
 }
@@ -1,7 +1,12 @@
 package com.linkedin.davinci.storage;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -13,6 +18,7 @@ import com.linkedin.davinci.stats.AggVersionedStorageEngineStats;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.StorageEngineFactory;
+import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
 import com.linkedin.venice.exceptions.VeniceNoStoreException;
 import com.linkedin.venice.kafka.protocol.state.PartitionState;
 import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
@@ -20,15 +26,20 @@ import com.linkedin.venice.meta.PartitionerConfig;
 import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.StoreDataChangedListener;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.utils.Utils;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.mockito.ArgumentCaptor;
 import org.mockito.internal.util.collections.Sets;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -121,4 +132,149 @@ public class StorageServiceTest {
     expectedMapping.put(resourceName, partitionSet);
     Assert.assertEquals(storageService.getStoreAndUserPartitionsMapping(), expectedMapping);
   }
+
+  @Test
+  public void testRestoreAllStoresInParallel() {
+    VeniceConfigLoader configLoader = mock(VeniceConfigLoader.class);
+    VeniceServerConfig mockServerConfig = mock(VeniceServerConfig.class);
+    when(mockServerConfig.getDataBasePath()).thenReturn("/tmp");
+    when(mockServerConfig.getStoreRestoreParallelism()).thenReturn(4);
+    when(configLoader.getVeniceServerConfig()).thenReturn(mockServerConfig);
+
+    AggVersionedStorageEngineStats storageEngineStats = mock(AggVersionedStorageEngineStats.class);
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    StorageEngineFactory mockStorageEngineFactory = mock(StorageEngineFactory.class);
+    when(mockStorageEngineFactory.getPersistenceType()).thenReturn(PersistenceType.BLACK_HOLE);
+
+    String storeName = "test_store";
+    Store mockStore = mock(Store.class);
+    when(mockStore.getCurrentVersion()).thenReturn(2);
+    when(storeRepository.getStore(storeName)).thenReturn(mockStore);
+    List<String> resourceNames = Arrays.asList("test_store_v1", "test_store_v2", "test_store_v3");
+    when(mockStorageEngineFactory.getPersistedStoreNames()).thenReturn(new HashSet<>(resourceNames));
+
+    Set<Integer> partitionSet =
+        new HashSet<>(Arrays.asList(0, 1, 2, AbstractStorageEngine.METADATA_PARTITION_ID));
+    List<String> openedResourceNames = Collections.synchronizedList(new ArrayList<>());
+    Map<String, AbstractStorageEngine> storageEngines = new HashMap<>();
+    for (String resourceName: resourceNames) {
+      VeniceStoreVersionConfig storeVersionConfig = mock(VeniceStoreVersionConfig.class);
+      when(storeVersionConfig.getStoreVersionName()).thenReturn(resourceName);
+      when(storeVersionConfig.isStorePersistenceTypeKnown()).thenReturn(true);
+      when(storeVersionConfig.getStorePersistenceType()).thenReturn(PersistenceType.BLACK_HOLE);
+      when(storeVersionConfig.isRestoreDataPartitions()).thenReturn(true);
+      when(configLoader.getStoreConfig(eq(resourceName), eq(PersistenceType.BLACK_HOLE)))
+          .thenReturn(storeVersionConfig);
+
+      AbstractStorageEngine mockStorageEngine = mock(AbstractStorageEngine.class);
+      when(mockStorageEngine.getStoreVersionName()).thenReturn(resourceName);
+      when(mockStorageEngine.getPersistedPartitionIds()).thenReturn(partitionSet);
+      when(mockStorageEngine.getPartitionIds()).thenReturn(partitionSet);
+      when(mockStorageEngineFactory.getStorageEngine(storeVersionConfig, false)).thenAnswer(invocation -> {
+        openedResourceNames.add(resourceName);
+        return mockStorageEngine;
+      });
+      storageEngines.put(resourceName, mockStorageEngine);
+    }
+
+    Map<PersistenceType, StorageEngineFactory> persistenceTypeToStorageEngineFactoryMap = new HashMap<>();
+    persistenceTypeToStorageEngineFactoryMap.put(PersistenceType.BLACK_HOLE, mockStorageEngineFactory);
+    StorageService storageService = new StorageService(
+        configLoader,
+        storageEngineStats,
+        mock(RocksDBMemoryStats.class),
+        mock(InternalAvroSpecificSerializer.class),
+        mock(InternalAvroSpecificSerializer.class),
+        storeRepository,
+        true,
+        true,
+        (s) -> true,
+        Optional.of(persistenceTypeToStorageEngineFactoryMap));
+
+    // The current version is restored before the other ones.
+    Assert.assertEquals(openedResourceNames.size(), resourceNames.size());
+    Assert.assertEquals(openedResourceNames.get(0), "test_store_v2");
+    for (String resourceName: resourceNames) {
+      AbstractStorageEngine storageEngine = storageEngines.get(resourceName);
+      Assert.assertSame(storageService.getStorageEngine(resourceName), storageEngine);
+      for (int partitionId = 0; partitionId < 3; partitionId++) {
+        verify(storageEngine).restoreStoragePartition(partitionId);
+      }
+      verify(storageEngine, never()).restoreStoragePartition(AbstractStorageEngine.METADATA_PARTITION_ID);
+      verify(storageEngineStats).recordStorageEngineOpenLatency(eq(resourceName), anyLong());
+    }
+    verify(storageEngineStats).recordRestoreTime(anyLong());
+  }
+
+  @Test
+  public void testNonCurrentVersionIsolationOnVersionSwap() throws Exception {
+    VeniceConfigLoader configLoader = mock(VeniceConfigLoader.class);
+    VeniceServerConfig mockServerConfig = mock(VeniceServerConfig.class);
+    when(mockServerConfig.getDataBasePath()).thenReturn("/tmp");
+    RocksDBServerConfig rocksDBServerConfig = mock(RocksDBServerConfig.class);
+    when(rocksDBServerConfig.isNonCurrentVersionIsolationEnabled()).thenReturn(true);
+    when(mockServerConfig.getRocksDBServerConfig()).thenReturn(rocksDBServerConfig);
+    when(configLoader.getVeniceServerConfig()).thenReturn(mockServerConfig);
+
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    StorageEngineFactory mockStorageEngineFactory = mock(StorageEngineFactory.class);
+    when(mockStorageEngineFactory.getPersistenceType()).thenReturn(PersistenceType.BLACK_HOLE);
+
+    String storeName = "test_store";
+    Store mockStore = mock(Store.class);
+    when(mockStore.getName()).thenReturn(storeName);
+    when(mockStore.getCurrentVersion()).thenReturn(2);
+    when(storeRepository.getStore(storeName)).thenReturn(mockStore);
+    List<String> resourceNames = Arrays.asList("test_store_v1", "test_store_v2", "test_store_v3");
+    when(mockStorageEngineFactory.getPersistedStoreNames()).thenReturn(new HashSet<>(resourceNames));
+
+    List<AbstractStorageEngine> storageEngines = new ArrayList<>();
+    for (String resourceName: resourceNames) {
+      VeniceStoreVersionConfig storeVersionConfig = mock(VeniceStoreVersionConfig.class);
+      when(storeVersionConfig.getStoreVersionName()).thenReturn(resourceName);
+      when(storeVersionConfig.isStorePersistenceTypeKnown()).thenReturn(true);
+      when(storeVersionConfig.getStorePersistenceType()).thenReturn(PersistenceType.BLACK_HOLE);
+      when(configLoader.getStoreConfig(eq(resourceName), eq(PersistenceType.BLACK_HOLE)))
+          .thenReturn(storeVersionConfig);
+
+      AbstractStorageEngine mockStorageEngine = mock(AbstractStorageEngine.class);
+      when(mockStorageEngine.getStoreVersionName()).thenReturn(resourceName);
+      when(mockStorageEngineFactory.getStorageEngine(storeVersionConfig, false)).thenReturn(mockStorageEngine);
+      storageEngines.add(mockStorageEngine);
+    }
+
+    Map<PersistenceType, StorageEngineFactory> persistenceTypeToStorageEngineFactoryMap = new HashMap<>();
+    persistenceTypeToStorageEngineFactoryMap.put(PersistenceType.BLACK_HOLE, mockStorageEngineFactory);
+    StorageService storageService = new StorageService(
+        configLoader,
+        mock(AggVersionedStorageEngineStats.class),
+        mock(RocksDBMemoryStats.class),
+        mock(InternalAvroSpecificSerializer.class),
+        mock(InternalAvroSpecificSerializer.class),
+        storeRepository,
+        true,
+        true,
+        (s) -> true,
+        Optional.of(persistenceTypeToStorageEngineFactoryMap));
+
+    // The storage engines are classified when they get created.
+    verify(storageEngines.get(0)).setCurrentVersion(false);
+    verify(storageEngines.get(1)).setCurrentVersion(true);
+    verify(storageEngines.get(2)).setCurrentVersion(false);
+
+    ArgumentCaptor<StoreDataChangedListener> listenerCaptor = ArgumentCaptor.forClass(StoreDataChangedListener.class);
+    storageService.startInner();
+    verify(storeRepository).registerStoreDataChangedListener(listenerCaptor.capture());
+
+    // The version swap updates the current and the backup versions, and the future versions are left alone.
+    clearInvocations(storageEngines.toArray());
+    when(mockStore.getCurrentVersion()).thenReturn(1);
+    listenerCaptor.getValue().handleStoreChanged(mockStore);
+    verify(storageEngines.get(0)).setCurrentVersion(true);
+    verify(storageEngines.get(1)).setCurrentVersion(false);
+    verify(storageEngines.get(2), never()).setCurrentVersion(anyBoolean());
+
+    storageService.stopInner();
+    verify(storeRepository).unregisterStoreDataChangedListener(any());
+  }
 }
@@ -1,15 +1,18 @@
 package com.linkedin.davinci.storage.chunking;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 
+import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.record.ByteBufferValueRecord;
 import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.helix.HelixReadOnlySchemaRepository;
@@ -18,6 +21,7 @@ import com.linkedin.venice.serialization.AvroStoreDeserializerCache;
 import com.linkedin.venice.serialization.RawBytesStoreDeserializerCache;
 import com.linkedin.venice.serialization.StoreDeserializerCache;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.ByteUtils;
@@ -25,6 +29,7 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
@@ -163,7 +168,7 @@ public class ChunkingTest {
       AbstractAvroChunkingAdapter chunkingAdapter,
       boolean rawBytesStoreDeserializerCache,
       Function<Object, Void> assertions,
-      boolean getWithSchemaId) {
+      ReadMode readMode) {
     int partition = 9;
     String storeName = "test";
     byte[] keyBytes = ByteUtils.fromHexString("040647454ff4baf2630a5449544c45440010494d504c49434954");
@@ -227,7 +232,44 @@ public class ChunkingTest {
       VeniceCompressor compressor =
           compressorFactory.getCompressor(CompressionStrategy.NO_OP, storageEngine.getStoreVersionName());
       Object retrievedObject;
-      if (getWithSchemaId) {
+      if (readMode == ReadMode.SCAN) {
+        // Chunks are iterated after the top-level key holding their manifest
+        doAnswer(invocation -> {
+          BytesStreamingCallback callback = invocation.getArgument(3);
+          callback.onRecordReceived(serializeNonChunkedKey, serializedCVMwithHeader);
+          callback.onRecordReceived(firstKey, chunk1Bytes);
+          callback.onRecordReceived(secondKey, chunk2Bytes);
+          callback.onCompletion();
+          return null;
+        }).when(storageEngine).getByKeyRange(eq(partition), eq(null), eq(null), any());
+        RecordDeserializer<byte[]> keyDeserializer = mock(RecordDeserializer.class);
+        doAnswer(invocation -> invocation.getArgument(0)).when(keyDeserializer).deserialize(any(byte[].class));
+        List<Object> scannedValues = new ArrayList<>();
+        chunkingAdapter.getByKeyRange(
+            storageEngine,
+            partition,
+            null,
+            null,
+            true,
+            null,
+            keyDeserializer,
+            readerSchemaId,
+            storeDeserializerCache,
+            compressor,
+            new StreamingCallback<byte[], Object>() {
+              @Override
+              public void onRecordReceived(byte[] key, Object value) {
+                Assert.assertEquals(key, keyBytes);
+                scannedValues.add(value);
+              }
+
+              @Override
+              public void onCompletion(Optional<Exception> exception) {
+              }
+            });
+        Assert.assertEquals(scannedValues.size(), 1);
+        retrievedObject = scannedValues.get(0);
+      } else if (readMode == ReadMode.GET_WITH_SCHEMA_ID) {
         retrievedObject = chunkingAdapter.getWithSchemaId(
             storageEngine,
             partition,
@@ -256,13 +298,26 @@ public class ChunkingTest {
     }
   }
 
+  private enum ReadMode {
+    GET, GET_WITH_SCHEMA_ID, SCAN
+  }
+
   @Test(dataProvider = "recordProvider")
   public void testGenericRecordChunkingAdapter(GenericRecord record) {
     runTest(record, GenericRecordChunkingAdapter.INSTANCE, false, (valueFromStorageEngine) -> {
       Assert.assertTrue(valueFromStorageEngine instanceof GenericRecord);
       Assert.assertEquals(valueFromStorageEngine, record);
       return null;
-    }, false);
+    }, ReadMode.GET);
+  }
+
+  @Test(dataProvider = "recordProvider")
+  public void testGenericRecordChunkingAdapterScan(GenericRecord record) {
+    runTest(record, GenericRecordChunkingAdapter.INSTANCE, false, (valueFromStorageEngine) -> {
+      Assert.assertTrue(valueFromStorageEngine instanceof GenericRecord);
+      Assert.assertEquals(valueFromStorageEngine, record);
+      return null;
+    }, ReadMode.SCAN);
   }
 
   @Test(dataProvider = "recordProvider")
@@ -273,7 +328,7 @@ public class ChunkingTest {
       Assert.assertTrue(valueFromStorageEngine instanceof ByteBuffer);
       Assert.assertEquals(ByteUtils.extractByteArray((ByteBuffer) valueFromStorageEngine), serializedRecord);
       return null;
-    }, false);
+    }, ReadMode.GET);
   }
 
   @Test(dataProvider = "recordProvider")
@@ -286,6 +341,6 @@ public class ChunkingTest {
       Assert.assertTrue(value instanceof ByteBuffer);
       Assert.assertEquals(ByteUtils.extractByteArray((ByteBuffer) value), serializedRecord);
       return null;
-    }, true);
+    }, ReadMode.GET_WITH_SCHEMA_ID);
   }
 }
@@ -4,11 +4,13 @@ import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.AbstractStorageEngineTest;
+import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.io.File;
+import java.util.Properties;
 import java.util.Set;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -116,4 +118,99 @@ public class RocksDBStorageEngineFactoryTest {
 
     factory.removeStorageEngine(storeEngine);
   }
+
+  @Test
+  public void testLazyPartitionOpen() {
+    Properties properties = new Properties();
+    properties.put(RocksDBServerConfig.ROCKSDB_LAZY_PARTITION_OPEN_ENABLED, "true");
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, properties);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+
+    final String testStore = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    VeniceStoreVersionConfig testStoreConfig =
+        new VeniceStoreVersionConfig(testStore, veniceServerProperties, PersistenceType.ROCKS_DB);
+    AbstractStorageEngine storageEngine = factory.getStorageEngine(testStoreConfig);
+    storageEngine.addStoragePartition(1);
+    byte[] key = "key".getBytes();
+    byte[] value = "value".getBytes();
+    storageEngine.put(1, key, value);
+    factory.close();
+
+    // The persisted partition is only registered when the storage engine gets restored.
+    factory = new RocksDBStorageEngineFactory(serverConfig);
+    storageEngine = factory.getStorageEngine(testStoreConfig);
+    Assert.assertTrue(storageEngine.containsPartition(1));
+    Assert.assertEquals(storageEngine.getUnopenedPartitionCount(), 1);
+    Assert.assertEquals(storageEngine.getLazyPartitionOpenCount(), 0);
+
+    // The first access opens it.
+    Assert.assertEquals(storageEngine.get(1, key), value);
+    Assert.assertEquals(storageEngine.getUnopenedPartitionCount(), 0);
+    Assert.assertEquals(storageEngine.getLazyPartitionOpenCount(), 1);
+
+    // A partition which has just been accessed isn't idle.
+    Assert.assertEquals(storageEngine.closeIdlePartitions(Long.MAX_VALUE), 0);
+    Assert.assertEquals(storageEngine.closeIdlePartitions(0), 1);
+    Assert.assertTrue(storageEngine.containsPartition(1));
+    Assert.assertEquals(storageEngine.getUnopenedPartitionCount(), 1);
+    Assert.assertEquals(storageEngine.getIdlePartitionCloseCount(), 1);
+
+    Assert.assertEquals(storageEngine.get(1, key), value);
+    Assert.assertEquals(storageEngine.getLazyPartitionOpenCount(), 2);
+
+    factory.removeStorageEngine(storageEngine);
+    factory.close();
+  }
+
+  @Test
+  public void testNonCurrentVersionIsolation() {
+    Properties properties = new Properties();
+    properties.put(RocksDBServerConfig.ROCKSDB_NON_CURRENT_VERSION_ISOLATION_ENABLED, "true");
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, properties);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    Assert.assertNotSame(factory.getSharedCache(false, false), factory.getSharedCache(false, true));
+    Assert.assertSame(factory.getSharedCache(true, false), factory.getSharedCache(false, false));
+    Assert.assertNotSame(factory.getWriteBufferManager(false), factory.getWriteBufferManager(true));
+    Assert.assertNotSame(factory.getRateLimiter(false), factory.getRateLimiter(true));
+    // The quota of the non-current versions is carved out of the write quota.
+    RocksDBServerConfig rocksDBServerConfig = serverConfig.getRocksDBServerConfig();
+    long nonCurrentVersionWriteQuota = rocksDBServerConfig.getNonCurrentVersionWriteQuotaBytesPerSecond();
+    Assert.assertEquals(factory.getRateLimiter(false).getBytesPerSecond(), nonCurrentVersionWriteQuota);
+    Assert.assertEquals(
+        factory.getRateLimiter(true).getBytesPerSecond(),
+        rocksDBServerConfig.getWriteQuotaBytesPerSecond() - nonCurrentVersionWriteQuota);
+
+    final String testStore = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    VeniceStoreVersionConfig testStoreConfig =
+        new VeniceStoreVersionConfig(testStore, veniceServerProperties, PersistenceType.ROCKS_DB);
+    AbstractStorageEngine storageEngine = factory.getStorageEngine(testStoreConfig);
+    storageEngine.setCurrentVersion(false);
+    storageEngine.addStoragePartition(1);
+    byte[] key = "key".getBytes();
+    byte[] value = "value".getBytes();
+    storageEngine.put(1, key, value);
+    RocksDBStoragePartition partition = (RocksDBStoragePartition) storageEngine.getPartitionOrThrow(1);
+    Assert.assertFalse(partition.isCurrentVersion());
+
+    // The opened partitions are not reopened when the version class changes, since they may be serving reads.
+    storageEngine.setCurrentVersion(true);
+    Assert.assertSame(storageEngine.getPartitionOrThrow(1), partition);
+
+    // They switch at the reopen of a version which becomes ready to serve, and keep their data.
+    storageEngine.adjustStoragePartition(
+        1,
+        AbstractStorageEngine.StoragePartitionAdjustmentTrigger.PREPARE_FOR_READ,
+        new StoragePartitionConfig(testStore, 1));
+    RocksDBStoragePartition reopenedPartition = (RocksDBStoragePartition) storageEngine.getPartitionOrThrow(1);
+    Assert.assertNotSame(reopenedPartition, partition);
+    Assert.assertTrue(reopenedPartition.isCurrentVersion());
+    Assert.assertEquals(storageEngine.get(1, key), value);
+
+    factory.removeStorageEngine(storageEngine);
+    factory.close();
+  }
 }
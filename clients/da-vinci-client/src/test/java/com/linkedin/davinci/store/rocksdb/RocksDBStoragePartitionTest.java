@@ -9,6 +9,7 @@ import static org.mockito.Mockito.mock;
 import static org.testng.Assert.assertTrue;
 import static org.testng.AssertJUnit.assertFalse;
 
+import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
@@ -30,11 +31,13 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import org.apache.commons.lang.RandomStringUtils;
 import org.apache.logging.log4j.LogManager;
@@ -613,6 +616,73 @@ public class RocksDBStoragePartitionTest {
     removeDir(storeDir);
   }
 
+  @Test
+  public void testGetByKeyRange() {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    VeniceStoreVersionConfig storeConfig = new VeniceStoreVersionConfig(storeName, veniceServerProperties);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig,
+        storeConfig);
+
+    TreeMap<String, String> records = new TreeMap<>();
+    for (int i = 0; i < 100; i++) {
+      String key = String.format("%s%03d", KEY_PREFIX, i);
+      records.put(key, "value_" + i);
+      storagePartition.put(key.getBytes(), records.get(key).getBytes());
+    }
+
+    String startKey = KEY_PREFIX + "010";
+    String endKey = KEY_PREFIX + "050";
+    Assert.assertEquals(scanKeyRange(storagePartition, startKey, endKey), records.subMap(startKey, endKey));
+    Assert.assertEquals(scanKeyRange(storagePartition, null, endKey), records.headMap(endKey));
+    Assert.assertEquals(scanKeyRange(storagePartition, startKey, null), records.tailMap(startKey));
+    Assert.assertEquals(scanKeyRange(storagePartition, null, null), records);
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
+  /**
+   * @return the scanned records, in the order they have been received
+   */
+  private Map<String, String> scanKeyRange(RocksDBStoragePartition storagePartition, String startKey, String endKey) {
+    Map<String, String> scannedRecords = new LinkedHashMap<>();
+    AtomicBoolean completed = new AtomicBoolean(false);
+    storagePartition.getByKeyRange(
+        startKey == null ? null : startKey.getBytes(),
+        endKey == null ? null : endKey.getBytes(),
+        new BytesStreamingCallback() {
+          @Override
+          public void onRecordReceived(byte[] key, byte[] value) {
+            scannedRecords.put(new String(key), new String(value));
+          }
+
+          @Override
+          public void onCompletion() {
+            completed.set(true);
+          }
+        });
+    assertTrue(completed.get());
+    Assert.assertEquals(
+        new ArrayList<>(scannedRecords.keySet()),
+        new ArrayList<>(new TreeMap<>(scannedRecords).keySet()),
+        "Records should be scanned in key order");
+    return scannedRecords;
+  }
+
   @Test
   public void testRocksDBValidityCheck() {
     String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
@@ -66,6 +66,18 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
    * {@link com.linkedin.venice.fastclient.meta.RequestBasedMetadata#DEFAULT_CONN_WARMUP_TIMEOUT_IN_SECONDS_DEFAULT} by default.
    */
   private final long metadataConnWarmupTimeoutInSeconds;
+  /**
+   * Config to enable/disable long polling the metadata, in which the storage node holds the metadata request until the
+   * metadata changes, so that version swaps and replica moves are picked up right away instead of on the next refresh.
+   * The metadata is polled every {@link #metadataRefreshIntervalInSeconds} again whenever long polling fails.
+   */
+  private final boolean isMetadataLongPollEnabled;
+  /**
+   * The max time in seconds a storage node holds a metadata long poll request. Should be lower than the request timeout
+   * of the d2 client. If not configured, it will be set to
+   * {@link com.linkedin.venice.fastclient.meta.RequestBasedMetadata#DEFAULT_LONG_POLL_TIMEOUT_IN_SECONDS} by default.
+   */
+  private final long metadataLongPollTimeoutInSeconds;
   private final boolean longTailRetryEnabledForSingleGet;
   private final boolean longTailRetryEnabledForBatchGet;
   private final boolean longTailRetryEnabledForCompute;
@@ -115,6 +127,8 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       boolean isMetadataConnWarmupEnabled,
       long metadataRefreshIntervalInSeconds,
       long metadataConnWarmupTimeoutInSeconds,
+      boolean isMetadataLongPollEnabled,
+      long metadataLongPollTimeoutInSeconds,
       boolean longTailRetryEnabledForSingleGet,
       int longTailRetryThresholdForSingleGetInMicroSeconds,
       boolean longTailRetryEnabledForBatchGet,
@@ -199,6 +213,8 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     this.isMetadataConnWarmupEnabled = isMetadataConnWarmupEnabled;
     this.metadataRefreshIntervalInSeconds = metadataRefreshIntervalInSeconds;
     this.metadataConnWarmupTimeoutInSeconds = metadataConnWarmupTimeoutInSeconds;
+    this.isMetadataLongPollEnabled = isMetadataLongPollEnabled;
+    this.metadataLongPollTimeoutInSeconds = metadataLongPollTimeoutInSeconds;
 
     this.longTailRetryEnabledForSingleGet = longTailRetryEnabledForSingleGet;
     this.longTailRetryThresholdForSingleGetInMicroSeconds = longTailRetryThresholdForSingleGetInMicroSeconds;
@@ -338,6 +354,14 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     return metadataConnWarmupTimeoutInSeconds;
   }
 
+  public boolean isMetadataLongPollEnabled() {
+    return isMetadataLongPollEnabled;
+  }
+
+  public long getMetadataLongPollTimeoutInSeconds() {
+    return metadataLongPollTimeoutInSeconds;
+  }
+
   public boolean isLongTailRetryEnabledForSingleGet() {
     return longTailRetryEnabledForSingleGet;
   }
@@ -433,6 +457,8 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     private boolean isMetadataConnWarmupEnabled = true;
     private long metadataRefreshIntervalInSeconds = -1;
     private long metadataConnWarmupTimeoutInSeconds = -1;
+    private boolean isMetadataLongPollEnabled = false;
+    private long metadataLongPollTimeoutInSeconds = -1;
 
     private boolean longTailRetryEnabledForSingleGet = false;
     private int longTailRetryThresholdForSingleGetInMicroSeconds = 1000; // 1ms.
@@ -567,6 +593,16 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       return this;
     }
 
+    public ClientConfigBuilder<K, V, T> setIsMetadataLongPollEnabled(boolean isMetadataLongPollEnabled) {
+      this.isMetadataLongPollEnabled = isMetadataLongPollEnabled;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setMetadataLongPollTimeoutInSeconds(long metadataLongPollTimeoutInSeconds) {
+      this.metadataLongPollTimeoutInSeconds = metadataLongPollTimeoutInSeconds;
+      return this;
+    }
+
     public ClientConfigBuilder<K, V, T> setLongTailRetryEnabledForSingleGet(boolean longTailRetryEnabledForSingleGet) {
       this.longTailRetryEnabledForSingleGet = longTailRetryEnabledForSingleGet;
       return this;
@@ -664,6 +700,8 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           .setIsMetadataConnWarmupEnabled(isMetadataConnWarmupEnabled)
           .setMetadataRefreshIntervalInSeconds(metadataRefreshIntervalInSeconds)
           .setMetadataConnWarmupTimeoutInSeconds(metadataConnWarmupTimeoutInSeconds)
+          .setIsMetadataLongPollEnabled(isMetadataLongPollEnabled)
+          .setMetadataLongPollTimeoutInSeconds(metadataLongPollTimeoutInSeconds)
           .setLongTailRetryEnabledForSingleGet(longTailRetryEnabledForSingleGet)
           .setLongTailRetryThresholdForSingleGetInMicroSeconds(longTailRetryThresholdForSingleGetInMicroSeconds)
           .setLongTailRetryEnabledForBatchGet(longTailRetryEnabledForBatchGet)
@@ -703,6 +741,8 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           isMetadataConnWarmupEnabled,
           metadataRefreshIntervalInSeconds,
           metadataConnWarmupTimeoutInSeconds,
+          isMetadataLongPollEnabled,
+          metadataLongPollTimeoutInSeconds,
           longTailRetryEnabledForSingleGet,
           longTailRetryThresholdForSingleGetInMicroSeconds,
           longTailRetryEnabledForBatchGet,
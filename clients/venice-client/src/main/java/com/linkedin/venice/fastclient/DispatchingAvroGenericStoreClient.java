@@ -430,10 +430,18 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
     int currentVersion = requestContext.currentVersion;
     Map<Integer, List<String>> partitionRouteMap = new HashMap<>();
     Set<String> partitionsWithNoRoutes = new ConcurrentSkipListSet<>();
-    for (K key: keys) {
-      byte[] keyBytes = keySerializer.serialize(key);
-      // For each key determine partition
-      int partitionId = metadata.getPartitionId(currentVersion, keyBytes);
+    List<K> keyList = new ArrayList<>(keys);
+    byte[][] keyBytesArray = new byte[keyCnt][];
+    for (int i = 0; i < keyCnt; i++) {
+      keyBytesArray[i] = keySerializer.serialize(keyList.get(i));
+    }
+    // Determine the partition of all the keys at once
+    int[] partitionIds = new int[keyCnt];
+    metadata.getPartitionIds(currentVersion, keyBytesArray, partitionIds);
+    for (int i = 0; i < keyCnt; i++) {
+      K key = keyList.get(i);
+      byte[] keyBytes = keyBytesArray[i];
+      int partitionId = partitionIds[i];
       // Find routes for each partition
       List<String> routes = partitionRouteMap.computeIfAbsent(
           partitionId,
@@ -74,11 +74,25 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
   public static final long DEFAULT_REFRESH_INTERVAL_IN_SECONDS = 60;
   private static final long ZSTD_DICT_FETCH_TIMEOUT_IN_SECONDS = 10;
   public static final long DEFAULT_CONN_WARMUP_TIMEOUT_IN_SECONDS_DEFAULT = 20;
+  public static final long DEFAULT_LONG_POLL_TIMEOUT_IN_SECONDS = 30;
   static final long INITIAL_METADATA_FETCH_REFRESH_INTERVAL_IN_SECONDS = 5;
+  /**
+   * The minimum delay between two long polls, so that a client doesn't keep polling the storage nodes when they return
+   * metadata which keeps changing, or which differs from one storage node to another.
+   */
+  static final long MIN_LONG_POLL_INTERVAL_IN_MILLIS = 1000;
+  /**
+   * The metadata hash of the responses of storage nodes which don't support long polling.
+   */
+  private static final int UNKNOWN_METADATA_HASH = 0;
 
   private long refreshIntervalInSeconds;
   private final boolean isMetadataConnWarmupEnabled;
   private final long connWarmupTimeoutInSeconds;
+  private final boolean isMetadataLongPollEnabled;
+  private final long longPollTimeoutInSeconds;
+  /** The hash of the last applied metadata, which the next long poll waits to change. */
+  private volatile int metadataHash = UNKNOWN_METADATA_HASH;
   /** scheduler to run {@link #refresh()} to periodically update metadata */
   private ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
   /** scheduler within {@link #refresh()} to warmup new instances updated via metadata refresh.
@@ -122,6 +136,10 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
     this.connWarmupTimeoutInSeconds = clientConfig.getMetadataConnWarmupTimeoutInSeconds() > 0
         ? clientConfig.getMetadataConnWarmupTimeoutInSeconds()
         : DEFAULT_CONN_WARMUP_TIMEOUT_IN_SECONDS_DEFAULT;
+    this.isMetadataLongPollEnabled = clientConfig.isMetadataLongPollEnabled();
+    this.longPollTimeoutInSeconds = clientConfig.getMetadataLongPollTimeoutInSeconds() > 0
+        ? clientConfig.getMetadataLongPollTimeoutInSeconds()
+        : DEFAULT_LONG_POLL_TIMEOUT_IN_SECONDS;
     this.d2TransportClient = d2TransportClient;
     this.d2ServiceDiscovery = new D2ServiceDiscovery();
     this.clusterDiscoveryD2ServiceName = d2TransportClient.getServiceName();
@@ -160,6 +178,15 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
     return partitioner.getPartitionId(key, versionPartitionCountMap.get(version));
   }
 
+  @Override
+  public void getPartitionIds(int version, byte[][] keys, int[] partitionIds) {
+    VenicePartitioner partitioner = versionPartitionerMap.get(version);
+    if (partitioner == null) {
+      throw new VeniceClientException("Unknown version number: " + version + " for store: " + storeName);
+    }
+    partitioner.getPartitionIds(keys, versionPartitionCountMap.get(version), partitionIds);
+  }
+
   @Override
   public List<String> getReplicas(int version, int partitionId) {
     String key = getVersionPartitionMapKey(version, partitionId);
@@ -359,133 +386,162 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
    * Update is only performed if the version from the fetched metadata is different from the local version. We evict
    * old values as we perform updates, while making sure we keep all currently active versions.
    * @param onDemandRefresh
+   * @param longPoll whether to wait for the metadata to differ from the last applied one, in which case failures are
+   *                 left to the next refresh to handle rather than retried right away.
    * @return if the fetched metadata was an updated version
    */
-  synchronized void updateCache(boolean onDemandRefresh) throws InterruptedException {
+  void updateCache(boolean onDemandRefresh, boolean longPoll) throws InterruptedException {
     LOGGER.debug("Metadata fetch operation for store: {} started", storeName);
     long currentTimeMs = System.currentTimeMillis();
     // call the METADATA endpoint
     try {
-      TransportClientResponse transportClientResponse = fetchMetadata().get();
-      // Metadata response schema forward compatibility support via router backed schema reader
-      int writerSchemaId = transportClientResponse.getSchemaId();
-      Schema writerSchema = metadataResponseSchemaReader.getValueSchema(writerSchemaId);
+      // Wait for the metadata without holding the lock, since a long poll can take up to the long poll timeout.
+      TransportClientResponse transportClientResponse = fetchMetadata(longPoll).get();
       byte[] body = transportClientResponse.getBody();
-      RecordDeserializer<MetadataResponseRecord> metadataResponseDeserializer =
-          FastSerializerDeserializerFactory.getFastAvroSpecificDeserializer(writerSchema, MetadataResponseRecord.class);
-      MetadataResponseRecord metadataResponse = metadataResponseDeserializer.deserialize(body);
-      VersionProperties versionMetadata = metadataResponse.getVersionMetadata();
-      batchGetLimit.set(metadataResponse.getBatchGetLimit());
-      int fetchedCurrentVersion = versionMetadata.getCurrentVersion();
-
-      // call the DICTIONARY endpoint if needed
-      CompletableFuture<TransportClientResponse> dictionaryFetchFuture = null;
-      if (!versionZstdDictionaryMap.containsKey(fetchedCurrentVersion)
-          && versionMetadata.getCompressionStrategy() == CompressionStrategy.ZSTD_WITH_DICT.getValue()) {
-        dictionaryFetchFuture = fetchCompressionDictionary(fetchedCurrentVersion);
-      }
-
-      // Update partitioner pair map (versionPartitionerMap)
-      int partitionCount = versionMetadata.getPartitionCount();
-      Properties params = new Properties();
-      params.putAll(versionMetadata.getPartitionerParams());
-      VenicePartitioner partitioner = PartitionUtils
-          .getVenicePartitioner(versionMetadata.getPartitionerClass().toString(), new VeniceProperties(params));
-      versionPartitionerMap.put(fetchedCurrentVersion, partitioner);
-      versionPartitionCountMap.put(fetchedCurrentVersion, partitionCount);
-
-      // Update readyToServeInstanceMap
-      Map<Integer, List<String>> routingInfo = metadataResponse.getRoutingInfo()
-          .entrySet()
-          .stream()
-          .collect(
-              Collectors.toMap(
-                  e -> Integer.valueOf(e.getKey().toString()),
-                  e -> e.getValue().stream().map(CharSequence::toString).collect(Collectors.toList())));
-
-      for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
-        String key = getVersionPartitionMapKey(fetchedCurrentVersion, partitionId);
-        readyToServeInstancesMap.put(key, routingInfo.get(partitionId));
-      }
-
-      // Update schemas
-      Map.Entry<CharSequence, CharSequence> lastEntry = null;
-      for (Map.Entry<CharSequence, CharSequence> entry: metadataResponse.getKeySchema().entrySet()) {
-        lastEntry = entry;
-      }
-      SchemaEntry keySchema = lastEntry == null
-          ? null
-          : new SchemaEntry(Integer.parseInt(lastEntry.getKey().toString()), lastEntry.getValue().toString());
-      SchemaData schemaData = new SchemaData(storeName, keySchema);
-      for (Map.Entry<CharSequence, CharSequence> entry: metadataResponse.getValueSchemas().entrySet()) {
-        schemaData
-            .addValueSchema(new SchemaEntry(Integer.parseInt(entry.getKey().toString()), entry.getValue().toString()));
-      }
-      schemas.set(schemaData);
-
-      // Update helix group info
-      for (Map.Entry<CharSequence, Integer> entry: metadataResponse.getHelixGroupInfo().entrySet()) {
-        helixGroupInfo.put(entry.getKey().toString(), entry.getValue());
-      }
-
-      latestSuperSetValueSchemaId.set(metadataResponse.getLatestSuperSetValueSchemaId());
-      // Wait for dictionary fetch to finish if there is one
-      try {
-        if (dictionaryFetchFuture != null) {
-          dictionaryFetchFuture.get(ZSTD_DICT_FETCH_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
-        }
-      } catch (ExecutionException | TimeoutException e) {
-        LOGGER.warn(
-            "Dictionary fetch operation could not complete in time for some of the versions. "
-                + "Will be retried on next refresh",
-            e);
-        // throw exception to make the start() blocking till the dictionary is fetched in case
-        // of initial fetch. For other cases: returning an exception doesn't make any difference.
-        throw new VeniceException(e);
-      }
-
-      if (isMetadataConnWarmupEnabled) {
-        // warmup H2 conns before setting the fetched version as the current version
-        warmupConnectionToInstances(fetchedCurrentVersion, partitionCount);
+      if (longPoll && body.length == 0) {
+        // The metadata didn't change during the long poll, so the local metadata is up-to-date.
+        clientStats.updateCacheTimestamp(currentTimeMs);
+        return;
       }
-
-      // Evict entries from inactive versions
-      Set<Integer> activeVersions = new HashSet<>(metadataResponse.getVersions());
-      readyToServeInstancesMap.entrySet()
-          .removeIf(entry -> !activeVersions.contains(getVersionFromKey(entry.getKey())));
-      versionPartitionerMap.entrySet().removeIf(entry -> !activeVersions.contains(entry.getKey()));
-      versionPartitionCountMap.entrySet().removeIf(entry -> !activeVersions.contains(entry.getKey()));
-      versionZstdDictionaryMap.entrySet().removeIf(entry -> !activeVersions.contains(entry.getKey()));
-      currentVersion.set(fetchedCurrentVersion);
-      clusterStats.updateCurrentVersion(fetchedCurrentVersion);
-      routingStrategy.updateHelixGroupInfo(helixGroupInfo);
-      // Update the metadata timestamp only if all updates are successful
-      clientStats.updateCacheTimestamp(currentTimeMs);
-      LOGGER.debug(
-          "Metadata fetch operation for store: {} finished successfully with current version {}.",
-          storeName,
-          fetchedCurrentVersion);
+      applyMetadata(transportClientResponse.getSchemaId(), body, currentTimeMs);
     } catch (ExecutionException e) {
       // perform an on demand refresh if update fails in case of store migration
       // TODO: need a better way to handle store migration
-      if (!onDemandRefresh) {
+      if (!onDemandRefresh && !longPoll) {
         LOGGER.warn("Metadata fetch operation for store: {} failed with exception {}", storeName, e.getMessage());
         isServiceDiscovered = false;
         discoverD2Service();
-        updateCache(true);
+        updateCache(true, false);
       } else {
-        // pass the error along if the on demand refresh also fails
+        // pass the error along if the on demand refresh also fails, or if the long poll fails
         clusterStats.recordVersionUpdateFailure();
+        String operation = longPoll ? "long poll" : "retry";
         throw new VeniceClientException(
-            String.format("Metadata fetch operation for store: %s retry failed", storeName),
+            String.format("Metadata fetch operation for store: %s %s failed", storeName, operation),
             e.getCause());
       }
     }
   }
 
+  /**
+   * Update the local metadata with the fetched one, under the lock so that concurrent refreshes apply it one at a time.
+   */
+  private synchronized void applyMetadata(int writerSchemaId, byte[] body, long currentTimeMs)
+      throws ExecutionException, InterruptedException {
+    // Metadata response schema forward compatibility support via router backed schema reader
+    Schema writerSchema = metadataResponseSchemaReader.getValueSchema(writerSchemaId);
+    RecordDeserializer<MetadataResponseRecord> metadataResponseDeserializer =
+        FastSerializerDeserializerFactory.getFastAvroSpecificDeserializer(writerSchema, MetadataResponseRecord.class);
+    MetadataResponseRecord metadataResponse = metadataResponseDeserializer.deserialize(body);
+    VersionProperties versionMetadata = metadataResponse.getVersionMetadata();
+    batchGetLimit.set(metadataResponse.getBatchGetLimit());
+    int fetchedCurrentVersion = versionMetadata.getCurrentVersion();
+
+    // call the DICTIONARY endpoint if needed
+    CompletableFuture<TransportClientResponse> dictionaryFetchFuture = null;
+    if (!versionZstdDictionaryMap.containsKey(fetchedCurrentVersion)
+        && versionMetadata.getCompressionStrategy() == CompressionStrategy.ZSTD_WITH_DICT.getValue()) {
+      dictionaryFetchFuture = fetchCompressionDictionary(fetchedCurrentVersion);
+    }
+
+    // Update partitioner pair map (versionPartitionerMap)
+    int partitionCount = versionMetadata.getPartitionCount();
+    Properties params = new Properties();
+    params.putAll(versionMetadata.getPartitionerParams());
+    VenicePartitioner partitioner = PartitionUtils
+        .getVenicePartitioner(versionMetadata.getPartitionerClass().toString(), new VeniceProperties(params));
+    versionPartitionerMap.put(fetchedCurrentVersion, partitioner);
+    versionPartitionCountMap.put(fetchedCurrentVersion, partitionCount);
+
+    // Update readyToServeInstanceMap
+    Map<Integer, List<String>> routingInfo = metadataResponse.getRoutingInfo()
+        .entrySet()
+        .stream()
+        .collect(
+            Collectors.toMap(
+                e -> Integer.valueOf(e.getKey().toString()),
+                e -> e.getValue().stream().map(CharSequence::toString).collect(Collectors.toList())));
+
+    for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
+      String key = getVersionPartitionMapKey(fetchedCurrentVersion, partitionId);
+      readyToServeInstancesMap.put(key, routingInfo.get(partitionId));
+    }
+
+    // Update schemas
+    Map.Entry<CharSequence, CharSequence> lastEntry = null;
+    for (Map.Entry<CharSequence, CharSequence> entry: metadataResponse.getKeySchema().entrySet()) {
+      lastEntry = entry;
+    }
+    SchemaEntry keySchema = lastEntry == null
+        ? null
+        : new SchemaEntry(Integer.parseInt(lastEntry.getKey().toString()), lastEntry.getValue().toString());
+    SchemaData schemaData = new SchemaData(storeName, keySchema);
+    for (Map.Entry<CharSequence, CharSequence> entry: metadataResponse.getValueSchemas().entrySet()) {
+      schemaData
+          .addValueSchema(new SchemaEntry(Integer.parseInt(entry.getKey().toString()), entry.getValue().toString()));
+    }
+    schemas.set(schemaData);
+
+    // Update helix group info
+    for (Map.Entry<CharSequence, Integer> entry: metadataResponse.getHelixGroupInfo().entrySet()) {
+      helixGroupInfo.put(entry.getKey().toString(), entry.getValue());
+    }
+
+    latestSuperSetValueSchemaId.set(metadataResponse.getLatestSuperSetValueSchemaId());
+    // Wait for dictionary fetch to finish if there is one
+    try {
+      if (dictionaryFetchFuture != null) {
+        dictionaryFetchFuture.get(ZSTD_DICT_FETCH_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+      }
+    } catch (ExecutionException | TimeoutException e) {
+      LOGGER.warn(
+          "Dictionary fetch operation could not complete in time for some of the versions. "
+              + "Will be retried on next refresh",
+          e);
+      // throw exception to make the start() blocking till the dictionary is fetched in case
+      // of initial fetch. For other cases: returning an exception doesn't make any difference.
+      throw new VeniceException(e);
+    }
+
+    if (isMetadataConnWarmupEnabled) {
+      // warmup H2 conns before setting the fetched version as the current version
+      warmupConnectionToInstances(fetchedCurrentVersion, partitionCount);
+    }
+
+    // Evict entries from inactive versions
+    Set<Integer> activeVersions = new HashSet<>(metadataResponse.getVersions());
+    readyToServeInstancesMap.entrySet()
+        .removeIf(entry -> !activeVersions.contains(getVersionFromKey(entry.getKey())));
+    versionPartitionerMap.entrySet().removeIf(entry -> !activeVersions.contains(entry.getKey()));
+    versionPartitionCountMap.entrySet().removeIf(entry -> !activeVersions.contains(entry.getKey()));
+    versionZstdDictionaryMap.entrySet().removeIf(entry -> !activeVersions.contains(entry.getKey()));
+    currentVersion.set(fetchedCurrentVersion);
+    clusterStats.updateCurrentVersion(fetchedCurrentVersion);
+    routingStrategy.updateHelixGroupInfo(helixGroupInfo);
+    metadataHash = metadataResponse.getMetadataHash();
+    // Update the metadata timestamp only if all updates are successful
+    clientStats.updateCacheTimestamp(currentTimeMs);
+    LOGGER.debug(
+        "Metadata fetch operation for store: {} finished successfully with current version {}.",
+        storeName,
+        fetchedCurrentVersion);
+  }
+
+  /**
+   * @return whether the next refresh can long poll the metadata, which requires it to have been fetched at least once
+   *         from a storage node supporting long polling.
+   */
+  private boolean canLongPoll() {
+    return isMetadataLongPollEnabled && isReady && metadataHash != UNKNOWN_METADATA_HASH;
+  }
+
   private void refresh() {
+    long refreshStartTimeInMillis = System.currentTimeMillis();
+    boolean longPoll = canLongPoll();
+    boolean succeeded = false;
     try {
-      updateCache(false);
+      updateCache(false, longPoll);
+      succeeded = true;
       if (!isReady) {
         isReadyLatch.countDown();
         isReady = true;
@@ -503,10 +559,18 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
       // Catch all errors so periodic refresh doesn't break on transient errors.
       logRefreshException(e);
     } finally {
-      scheduler.schedule(
-          this::refresh,
-          isReady ? refreshIntervalInSeconds : INITIAL_METADATA_FETCH_REFRESH_INTERVAL_IN_SECONDS,
-          TimeUnit.SECONDS);
+      if (longPoll && !succeeded) {
+        // Fall back to polling until the metadata is fetched again, in case long polling isn't possible anymore.
+        metadataHash = UNKNOWN_METADATA_HASH;
+      }
+      long delayInSeconds = isReady ? refreshIntervalInSeconds : INITIAL_METADATA_FETCH_REFRESH_INTERVAL_IN_SECONDS;
+      if (succeeded && canLongPoll()) {
+        long elapsedTimeInMillis = System.currentTimeMillis() - refreshStartTimeInMillis;
+        long delayInMillis = Math.max(MIN_LONG_POLL_INTERVAL_IN_MILLIS - elapsedTimeInMillis, 0);
+        scheduler.schedule(this::refresh, delayInMillis, TimeUnit.MILLISECONDS);
+      } else {
+        scheduler.schedule(this::refresh, delayInSeconds, TimeUnit.SECONDS);
+      }
     }
   }
 
@@ -542,9 +606,10 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
     Utils.closeQuietlyWithErrorLogged(compressorFactory);
   }
 
-  private CompletableFuture<TransportClientResponse> fetchMetadata() {
+  private CompletableFuture<TransportClientResponse> fetchMetadata(boolean longPoll) {
     CompletableFuture<TransportClientResponse> metadataFuture = new CompletableFuture<>();
-    String url = QueryAction.METADATA.toString().toLowerCase() + "/" + storeName;
+    String url = QueryAction.METADATA.toString().toLowerCase() + "/" + storeName
+        + (longPoll ? "/" + metadataHash + "/" + TimeUnit.SECONDS.toMillis(longPollTimeoutInSeconds) : "");
 
     LOGGER.debug("Fetching metadata for store {} from URL {} ", storeName, url);
     d2TransportClient.get(url).whenComplete((response, throwable) -> {
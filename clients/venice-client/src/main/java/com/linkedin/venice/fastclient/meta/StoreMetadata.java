@@ -26,6 +26,16 @@ public interface StoreMetadata extends SchemaReader {
 
   int getPartitionId(int version, byte[] key);
 
+  /**
+   * Computes the partition of each of the keys of a multi-key request, see
+   * {@link com.linkedin.venice.partitioner.VenicePartitioner#getPartitionIds}.
+   */
+  default void getPartitionIds(int version, byte[][] keys, int[] partitionIds) {
+    for (int i = 0; i < keys.length; i++) {
+      partitionIds[i] = getPartitionId(version, keys[i]);
+    }
+  }
+
   List<String> getReplicas(int version, int partitionId);
 
   /**
@@ -134,6 +134,15 @@ public abstract class VeniceClientBasedMetadata extends AbstractStoreMetadata {
     return partitioner.getPartitionId(key, versionPartitionCountMap.get().get(version));
   }
 
+  @Override
+  public void getPartitionIds(int version, byte[][] keys, int[] partitionIds) {
+    VenicePartitioner partitioner = versionPartitionerMap.get(version);
+    if (partitioner == null || !versionPartitionCountMap.get().containsKey(version)) {
+      throw new VeniceClientException("Unknown version number: " + version + " for store: " + storeName);
+    }
+    partitioner.getPartitionIds(keys, versionPartitionCountMap.get().get(version), partitionIds);
+  }
+
   @Override
   public List<String> getReplicas(int version, int partitionId) {
     return readyToServeInstancesMap
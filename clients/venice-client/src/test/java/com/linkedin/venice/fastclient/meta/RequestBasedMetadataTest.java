@@ -12,24 +12,36 @@ import static com.linkedin.venice.utils.TestUtils.waitForNonDeterministicAsserti
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.exceptions.VeniceClientHttpException;
 import com.linkedin.venice.client.schema.RouterBackedSchemaReader;
 import com.linkedin.venice.client.store.D2ServiceDiscovery;
 import com.linkedin.venice.client.store.transport.D2TransportClient;
+import com.linkedin.venice.client.store.transport.TransportClientResponse;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.exceptions.ConfigurationException;
 import com.linkedin.venice.fastclient.ClientConfig;
+import com.linkedin.venice.meta.QueryAction;
+import com.linkedin.venice.metadata.response.MetadataResponseRecord;
+import com.linkedin.venice.schema.SchemaData;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
@@ -38,6 +50,7 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -370,4 +383,68 @@ public class RequestBasedMetadataTest {
       Assert.assertThrows(ConfigurationException.class, requestBasedMetadata::start);
     }
   }
+
+  @Test(timeOut = 2 * TEST_TIMEOUT)
+  public void testMetadataLongPoll() throws IOException, InterruptedException, ExecutionException {
+    String storeName = "testStore";
+    ClientConfig clientConfig = RequestBasedMetadataTestUtils.getMockClientConfig(storeName);
+    doReturn(true).when(clientConfig).isMetadataLongPollEnabled();
+    doReturn(1L).when(clientConfig).getMetadataLongPollTimeoutInSeconds();
+    D2TransportClient d2TransportClient = RequestBasedMetadataTestUtils.getMockD2TransportClient(
+        storeName,
+        true,
+        AvroCompatibilityHelper.parse(KEY_SCHEMA),
+        AvroCompatibilityHelper.parse(VALUE_SCHEMA));
+
+    // Give the metadata, and the changed metadata, a hash so that they can be long polled.
+    String metadataUrl = QueryAction.METADATA.toString().toLowerCase() + "/" + storeName;
+    int metadataResponseSchemaId = AvroProtocolDefinition.SERVER_METADATA_RESPONSE.getCurrentProtocolVersion();
+    RecordDeserializer<MetadataResponseRecord> deserializer =
+        SerializerDeserializerFactory.getAvroSpecificDeserializer(MetadataResponseRecord.class);
+    RecordSerializer<MetadataResponseRecord> serializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(MetadataResponseRecord.SCHEMA$);
+    MetadataResponseRecord metadataResponse =
+        deserializer.deserialize(d2TransportClient.get(metadataUrl).get().getBody());
+    metadataResponse.setMetadataHash(1);
+    TransportClientResponse response = new TransportClientResponse(
+        metadataResponseSchemaId,
+        CompressionStrategy.NO_OP,
+        serializer.serialize(metadataResponse));
+    MetadataResponseRecord newMetadataResponse =
+        deserializer.deserialize(d2TransportClient.get(metadataUrl).get().getBody());
+    newMetadataResponse.setMetadataHash(2);
+    TransportClientResponse newResponse = new TransportClientResponse(
+        metadataResponseSchemaId,
+        CompressionStrategy.NO_OP,
+        serializer.serialize(newMetadataResponse));
+    TransportClientResponse unchangedResponse =
+        new TransportClientResponse(SchemaData.INVALID_VALUE_SCHEMA_ID, CompressionStrategy.NO_OP, new byte[0]);
+    CompletableFuture<TransportClientResponse> failedFuture = new CompletableFuture<>();
+    failedFuture.completeExceptionally(new VeniceClientHttpException(HttpStatus.SC_GATEWAY_TIMEOUT));
+
+    // The first long poll times out and the second one fails, which falls back to polling the changed metadata, and
+    // then to long polling it.
+    when(d2TransportClient.get(metadataUrl)).thenReturn(
+        CompletableFuture.completedFuture(response),
+        CompletableFuture.completedFuture(newResponse));
+    when(d2TransportClient.get(metadataUrl + "/1/1000"))
+        .thenReturn(CompletableFuture.completedFuture(unchangedResponse), failedFuture);
+    when(d2TransportClient.get(metadataUrl + "/2/1000"))
+        .thenReturn(CompletableFuture.completedFuture(unchangedResponse));
+    clearInvocations(d2TransportClient);
+
+    try (RequestBasedMetadata requestBasedMetadata = new RequestBasedMetadata(clientConfig, d2TransportClient)) {
+      requestBasedMetadata
+          .setMetadataResponseSchemaReader(RequestBasedMetadataTestUtils.getMockRouterBackedSchemaReader());
+      requestBasedMetadata.setD2ServiceDiscovery(getMockD2ServiceDiscovery(d2TransportClient, storeName));
+      requestBasedMetadata.start();
+      assertEquals(requestBasedMetadata.getReplicas(CURRENT_VERSION, 0), Collections.singletonList(REPLICA1_NAME));
+
+      // Each of the four refreshes is at least a second apart from the previous one.
+      verify(d2TransportClient, timeout(TEST_TIMEOUT).atLeastOnce()).get(metadataUrl + "/2/1000");
+      assertEquals(requestBasedMetadata.getReplicas(CURRENT_VERSION, 0), Collections.singletonList(NEW_REPLICA_NAME));
+      verify(d2TransportClient, times(2)).get(metadataUrl);
+      verify(d2TransportClient, times(2)).get(metadataUrl + "/1/1000");
+    }
+  }
 }
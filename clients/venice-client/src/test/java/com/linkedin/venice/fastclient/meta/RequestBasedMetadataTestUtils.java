@@ -156,7 +156,8 @@ public class RequestBasedMetadataTestUtils {
         1,
         routeMap,
         helixGroupMap,
-        150);
+        150,
+        0);
 
     byte[] metadataBody = SerializerDeserializerFactory.getAvroGenericSerializer(MetadataResponseRecord.SCHEMA$)
         .serialize(metadataResponse);
@@ -302,9 +303,9 @@ public class RequestBasedMetadataTestUtils {
       if (firstUpdateFails) {
         doAnswer(invocation -> {
           throw new VeniceClientException("update cache exception");
-        }).doAnswer(invocation -> null).when(requestBasedMetadata).updateCache(anyBoolean());
+        }).doAnswer(invocation -> null).when(requestBasedMetadata).updateCache(anyBoolean(), anyBoolean());
       } else {
-        doAnswer(invocation -> null).when(requestBasedMetadata).updateCache(anyBoolean());
+        doAnswer(invocation -> null).when(requestBasedMetadata).updateCache(anyBoolean(), anyBoolean());
       }
 
       doCallRealMethod().when(requestBasedMetadata).setIsReadyLatch(any());
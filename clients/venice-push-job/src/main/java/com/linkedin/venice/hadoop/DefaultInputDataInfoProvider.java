@@ -27,6 +27,7 @@ import com.linkedin.venice.utils.lazy.Lazy;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -53,6 +54,7 @@ public class DefaultInputDataInfoProvider implements InputDataInfoProvider {
 
   private final PushJobSetting pushJobSetting;
   protected PushJobZstdConfig pushJobZstdConfig;
+  private ZstdDictionaryTuner.Result zstdDictionaryTuningResult;
   private final VeniceProperties props;
   /**
    * Thread pool for Hadoop File System operations: Lazy initialization as this
@@ -294,9 +296,21 @@ public class DefaultInputDataInfoProvider implements InputDataInfoProvider {
           minNumberOfSamples);
       return ZstdWithDictCompressor.buildDictionaryOnSyntheticAvroData();
     }
+    if (pushJobZstdConfig.isTuningEnabled()) {
+      zstdDictionaryTuningResult = new ZstdDictionaryTuner(props).tune(pushJobZstdConfig.getRetainedSamples());
+      if (zstdDictionaryTuningResult != null) {
+        return zstdDictionaryTuningResult.getSelected().getDictionary();
+      }
+      LOGGER.warn("Zstd dictionary tuning did not produce a dictionary. Falling back to the default training.");
+    }
     return pushJobZstdConfig.getZstdDictTrainer().trainSamples();
   }
 
+  @Override
+  public Optional<ZstdDictionaryTuner.Result> getZstdDictionaryTuningResult() {
+    return Optional.ofNullable(zstdDictionaryTuningResult);
+  }
+
   @Override
   public Schema extractAvroSubSchema(Schema origin, String fieldName) {
     Schema.Field field = origin.getField(fieldName);
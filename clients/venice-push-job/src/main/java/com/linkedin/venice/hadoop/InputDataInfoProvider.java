@@ -4,6 +4,7 @@ import com.linkedin.venice.hadoop.input.recordreader.VeniceRecordIterator;
 import com.linkedin.venice.utils.ByteUtils;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Optional;
 import org.apache.avro.Schema;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -108,7 +109,7 @@ public interface InputDataInfoProvider extends Closeable {
       }
 
       // addSample returns false when the data read no longer fits in the 'sample' buffer limit
-      if (!pushJobZstdConfig.getZstdDictTrainer().addSample(value)) {
+      if (!pushJobZstdConfig.addSample(value)) {
         logger.debug(
             "Read {} to build dictionary. Reached sample limit of {}.",
             ByteUtils.generateHumanReadableByteCountString(fileSampleSize),
@@ -127,6 +128,15 @@ public interface InputDataInfoProvider extends Closeable {
 
   byte[] trainZstdDictionary();
 
+  /**
+   * @return the result of the Zstd dictionary tuning stage, if it is enabled via
+   *         {@link VenicePushJobConstants#ZSTD_DICTIONARY_TUNING_ENABLED} and {@link #trainZstdDictionary()} picked the
+   *         dictionary through it
+   */
+  default Optional<ZstdDictionaryTuner.Result> getZstdDictionaryTuningResult() {
+    return Optional.empty();
+  }
+
   Schema extractAvroSubSchema(Schema origin, String fieldName);
 
   long getInputLastModificationTime(String inputUri) throws IOException;
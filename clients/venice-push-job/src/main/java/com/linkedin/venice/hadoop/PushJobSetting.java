@@ -82,6 +82,8 @@ public class PushJobSetting implements Serializable {
   public String systemSchemaClusterD2ZKHost;
   public boolean isZstdDictCreationRequired;
   public boolean isZstdDictCreationSuccess;
+  /** Level picked by {@link ZstdDictionaryTuner} along with the dictionary, null if no tuning happened */
+  public Integer zstdDictionaryTunedCompressionLevel;
 
   // Multiple compute engine support
   public Class<? extends DataWriterComputeJob> dataWriterComputeJobClass;
@@ -3,10 +3,17 @@ package com.linkedin.venice.hadoop;
 import static com.linkedin.venice.hadoop.VenicePushJobConstants.COMPRESSION_DICTIONARY_SAMPLE_SIZE;
 import static com.linkedin.venice.hadoop.VenicePushJobConstants.COMPRESSION_DICTIONARY_SIZE_LIMIT;
 import static com.linkedin.venice.hadoop.VenicePushJobConstants.DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_SIZE;
+import static com.linkedin.venice.hadoop.VenicePushJobConstants.DEFAULT_ZSTD_DICTIONARY_TUNING_ENABLED;
+import static com.linkedin.venice.hadoop.VenicePushJobConstants.DEFAULT_ZSTD_DICTIONARY_TUNING_SAMPLE_SIZE;
+import static com.linkedin.venice.hadoop.VenicePushJobConstants.ZSTD_DICTIONARY_TUNING_ENABLED;
+import static com.linkedin.venice.hadoop.VenicePushJobConstants.ZSTD_DICTIONARY_TUNING_SAMPLE_SIZE;
 
 import com.github.luben.zstd.ZstdDictTrainer;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.writer.VeniceWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 
 public class PushJobZstdConfig {
@@ -15,6 +22,13 @@ public class PushJobZstdConfig {
   private final int maxSampleSize;
   private int filledSize; // Duplicate of filledSize in ZstdDictTrainer as there is no getter for this
   private int collectedNumberOfSamples;
+  /**
+   * Copy of (a prefix of) the samples added to {@link #zstdDictTrainer}, which does not expose them. Only retained when
+   * {@link VenicePushJobConstants#ZSTD_DICTIONARY_TUNING_ENABLED} is set, to be used by {@link ZstdDictionaryTuner}.
+   */
+  private final List<byte[]> retainedSamples;
+  private final int maxRetainedSampleSize;
+  private int retainedSampleSize;
 
   public PushJobZstdConfig(VeniceProperties props, int numFiles) {
     int maxDictSize = props
@@ -24,6 +38,39 @@ public class PushJobZstdConfig {
     zstdDictTrainer = new ZstdDictTrainer(maxSampleSize, maxDictSize);
     filledSize = 0;
     collectedNumberOfSamples = 0;
+    if (props.getBoolean(ZSTD_DICTIONARY_TUNING_ENABLED, DEFAULT_ZSTD_DICTIONARY_TUNING_ENABLED)) {
+      retainedSamples = new ArrayList<>();
+      maxRetainedSampleSize = Math.min(
+          maxSampleSize,
+          props.getInt(ZSTD_DICTIONARY_TUNING_SAMPLE_SIZE, DEFAULT_ZSTD_DICTIONARY_TUNING_SAMPLE_SIZE));
+    } else {
+      retainedSamples = null;
+      maxRetainedSampleSize = 0;
+    }
+    retainedSampleSize = 0;
+  }
+
+  /**
+   * Adds the sample to the {@link ZstdDictTrainer}, and retains it for tuning if enabled.
+   * @return false if the sample no longer fits in the trainer's sample buffer
+   */
+  public synchronized boolean addSample(byte[] sample) {
+    if (!zstdDictTrainer.addSample(sample)) {
+      return false;
+    }
+    if (retainedSamples != null && retainedSampleSize + sample.length <= maxRetainedSampleSize) {
+      retainedSamples.add(sample);
+      retainedSampleSize += sample.length;
+    }
+    return true;
+  }
+
+  public boolean isTuningEnabled() {
+    return retainedSamples != null;
+  }
+
+  public synchronized List<byte[]> getRetainedSamples() {
+    return retainedSamples == null ? Collections.emptyList() : new ArrayList<>(retainedSamples);
   }
 
   public ZstdDictTrainer getZstdDictTrainer() {
@@ -130,6 +130,7 @@ import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
 import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.partitioner.XXHash64VenicePartitioner;
 import com.linkedin.venice.pushmonitor.ExecutionStatus;
 import com.linkedin.venice.schema.AvroSchemaParseUtils;
 import com.linkedin.venice.schema.writecompute.WriteComputeOperation;
@@ -139,6 +140,7 @@ import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.status.PushJobDetailsStatus;
 import com.linkedin.venice.status.protocol.PushJobDetails;
 import com.linkedin.venice.status.protocol.PushJobDetailsStatusTuple;
+import com.linkedin.venice.status.protocol.ZstdDictionaryTuningCandidate;
 import com.linkedin.venice.utils.AvroSupersetSchemaUtils;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.DictionaryUtils;
@@ -1555,7 +1557,9 @@ public class VenicePushJob implements AutoCloseable {
     }
 
     if (!pushJobSetting.useMapperToBuildDict) {
-      return ByteBuffer.wrap(getInputDataInfoProvider().trainZstdDictionary());
+      ByteBuffer compressionDictionary = ByteBuffer.wrap(getInputDataInfoProvider().trainZstdDictionary());
+      getInputDataInfoProvider().getZstdDictionaryTuningResult().ifPresent(this::applyZstdDictionaryTuningResult);
+      return compressionDictionary;
     } else {
       // In case of pushJobSetting.useMapperToBuildDict job, the dictionary will already have been generated
       if (pushJobSetting.isZstdDictCreationSuccess) {
@@ -1569,6 +1573,29 @@ public class VenicePushJob implements AutoCloseable {
     return null;
   }
 
+  /**
+   * Use the compression level picked along with the tuned dictionary in the data writer job, and report all the
+   * evaluated candidates in the push job details.
+   */
+  private void applyZstdDictionaryTuningResult(ZstdDictionaryTuner.Result tuningResult) {
+    ZstdDictionaryTuner.Candidate selected = tuningResult.getSelected();
+    pushJobSetting.zstdDictionaryTunedCompressionLevel = selected.getCompressionLevel();
+    LOGGER.info("Using the tuned Zstd dictionary. {}", selected);
+
+    List<ZstdDictionaryTuningCandidate> candidates = new ArrayList<>(tuningResult.getCandidates().size());
+    for (ZstdDictionaryTuner.Candidate candidate: tuningResult.getCandidates()) {
+      ZstdDictionaryTuningCandidate tuningCandidate = new ZstdDictionaryTuningCandidate();
+      tuningCandidate.dictionarySizeInBytes = candidate.getDictionary().length;
+      tuningCandidate.compressionLevel = candidate.getCompressionLevel();
+      tuningCandidate.compressionRatio = candidate.getCompressionRatio();
+      tuningCandidate.avgDecompressionLatencyNs = candidate.getAvgDecompressionLatencyNs();
+      tuningCandidate.decompressionThroughputMBps = candidate.getDecompressionThroughputMBps();
+      tuningCandidate.selected = candidate == selected;
+      candidates.add(tuningCandidate);
+    }
+    pushJobDetails.zstdDictionaryTuningCandidates = candidates;
+  }
+
   private void throwVeniceException(Throwable e) throws VeniceException {
     if (!(e instanceof VeniceException)) {
       e = new VeniceException("Exception or error caught during VenicePushJob: " + e.getMessage(), e);
@@ -2198,7 +2225,9 @@ public class VenicePushJob implements AutoCloseable {
       Optional<ByteBuffer> optionalCompressionDictionary) {
     Version.PushType pushType = getPushType(setting);
     boolean askControllerToSendControlMessage = !setting.sendControlMessagesDirectly;
-    final String partitioners = props.getString(VENICE_PARTITIONERS, DefaultVenicePartitioner.class.getName());
+    final String partitioners = props.getString(
+        VENICE_PARTITIONERS,
+        DefaultVenicePartitioner.class.getName() + "," + XXHash64VenicePartitioner.class.getName());
 
     Optional<String> dictionary;
     if (askControllerToSendControlMessage) {
@@ -8,6 +8,8 @@ import com.linkedin.venice.hadoop.jobs.DataWriterComputeJob;
 import com.linkedin.venice.hadoop.mapreduce.datawriter.map.AbstractVeniceMapper;
 import com.linkedin.venice.meta.StoreInfo;
 import com.linkedin.venice.utils.Time;
+import java.util.Arrays;
+import java.util.List;
 import org.apache.hadoop.fs.PathFilter;
 import org.apache.hadoop.fs.permission.FsPermission;
 
@@ -348,6 +350,49 @@ public final class VenicePushJobConstants {
   /** Maximum final dictionary size TODO add more details about the current limits */
   public static final String COMPRESSION_DICTIONARY_SIZE_LIMIT = "compression.dictionary.size.limit";
 
+  /**
+   * Config to enable the Zstd dictionary tuning stage. When enabled, the push job driver trains candidate
+   * dictionaries with the sizes in {@link #ZSTD_DICTIONARY_TUNING_CANDIDATE_DICT_SIZES} and evaluates each of them
+   * with the levels in {@link #ZSTD_DICTIONARY_TUNING_CANDIDATE_COMPRESSION_LEVELS} on a held-out part of the
+   * collected samples. The candidate with the best compression ratio within
+   * {@link #ZSTD_DICTIONARY_TUNING_MAX_DECOMPRESSION_LATENCY_NS} is used for the version and the results are reported
+   * in the push job details. <br><br>
+   *
+   * This is only applicable when the dictionary is trained in the VPJ driver, i.e. not with
+   * {@link #USE_MAPPER_TO_BUILD_DICTIONARY} nor with Kafka Input Format.
+   */
+  public static final String ZSTD_DICTIONARY_TUNING_ENABLED = "zstd.dictionary.tuning.enabled";
+  public static final boolean DEFAULT_ZSTD_DICTIONARY_TUNING_ENABLED = false;
+
+  /**
+   * Comma separated list of candidate dictionary sizes in bytes, capped by {@link #COMPRESSION_DICTIONARY_SIZE_LIMIT}
+   */
+  public static final String ZSTD_DICTIONARY_TUNING_CANDIDATE_DICT_SIZES =
+      "zstd.dictionary.tuning.candidate.dict.sizes";
+  public static final List<String> DEFAULT_ZSTD_DICTIONARY_TUNING_CANDIDATE_DICT_SIZES =
+      Arrays.asList("16384", "65536", "262144");
+
+  /** Comma separated list of candidate Zstd compression levels */
+  public static final String ZSTD_DICTIONARY_TUNING_CANDIDATE_COMPRESSION_LEVELS =
+      "zstd.dictionary.tuning.candidate.compression.levels";
+  public static final List<String> DEFAULT_ZSTD_DICTIONARY_TUNING_CANDIDATE_COMPRESSION_LEVELS =
+      Arrays.asList("3", "9", "16", "22");
+
+  /**
+   * Budget for the average decompression latency of a single value measured on the held-out samples. Candidates above
+   * the budget are not selected unless none of them fits. A non-positive value disables the budget.
+   */
+  public static final String ZSTD_DICTIONARY_TUNING_MAX_DECOMPRESSION_LATENCY_NS =
+      "zstd.dictionary.tuning.max.decompression.latency.ns";
+  public static final long DEFAULT_ZSTD_DICTIONARY_TUNING_MAX_DECOMPRESSION_LATENCY_NS = -1;
+
+  /**
+   * Size of the samples retained for the tuning stage, on top of the ones collected in the {@link ZstdDictTrainer}.
+   * It is capped by {@link #COMPRESSION_DICTIONARY_SAMPLE_SIZE}.
+   */
+  public static final String ZSTD_DICTIONARY_TUNING_SAMPLE_SIZE = "zstd.dictionary.tuning.sample.size";
+  public static final int DEFAULT_ZSTD_DICTIONARY_TUNING_SAMPLE_SIZE = 20 * BYTES_PER_MB; // 20MB
+
   // Compute engine abstraction
   /**
    * Config to set the class for the DataWriter job. When using KIF, we currently will continue to fall back to MR mode.
@@ -0,0 +1,280 @@
+package com.linkedin.venice.hadoop;
+
+import static com.linkedin.venice.hadoop.VenicePushJobConstants.COMPRESSION_DICTIONARY_SIZE_LIMIT;
+import static com.linkedin.venice.hadoop.VenicePushJobConstants.DEFAULT_ZSTD_DICTIONARY_TUNING_CANDIDATE_COMPRESSION_LEVELS;
+import static com.linkedin.venice.hadoop.VenicePushJobConstants.DEFAULT_ZSTD_DICTIONARY_TUNING_CANDIDATE_DICT_SIZES;
+import static com.linkedin.venice.hadoop.VenicePushJobConstants.DEFAULT_ZSTD_DICTIONARY_TUNING_MAX_DECOMPRESSION_LATENCY_NS;
+import static com.linkedin.venice.hadoop.VenicePushJobConstants.MINIMUM_NUMBER_OF_SAMPLES_REQUIRED_TO_BUILD_ZSTD_DICTIONARY;
+import static com.linkedin.venice.hadoop.VenicePushJobConstants.ZSTD_DICTIONARY_TUNING_CANDIDATE_COMPRESSION_LEVELS;
+import static com.linkedin.venice.hadoop.VenicePushJobConstants.ZSTD_DICTIONARY_TUNING_CANDIDATE_DICT_SIZES;
+import static com.linkedin.venice.hadoop.VenicePushJobConstants.ZSTD_DICTIONARY_TUNING_MAX_DECOMPRESSION_LATENCY_NS;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictTrainer;
+import com.linkedin.venice.compression.ZstdWithDictCompressor;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.writer.VeniceWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Trains candidate Zstd dictionaries of several sizes on the samples collected by {@link PushJobZstdConfig}, and
+ * evaluates each of them with several compression levels on a held-out part of the samples. The candidate with the
+ * best compression ratio whose average decompression latency fits the configured budget gets selected.
+ *
+ * Every {@link #HOLD_OUT_SAMPLE_INTERVAL}th sample is held out of training so that the numbers reflect how the
+ * dictionary behaves on values it has not seen.
+ */
+public class ZstdDictionaryTuner {
+  private static final Logger LOGGER = LogManager.getLogger(ZstdDictionaryTuner.class);
+
+  static final int HOLD_OUT_SAMPLE_INTERVAL = 5;
+  /** Number of timed decompression passes over the held-out samples, after one warm-up pass. */
+  static final int DECOMPRESSION_ROUNDS = 3;
+
+  private final List<Integer> candidateDictSizes;
+  private final List<Integer> candidateCompressionLevels;
+  private final long maxDecompressionLatencyNs;
+
+  public ZstdDictionaryTuner(VeniceProperties props) {
+    int maxDictSize = props
+        .getInt(COMPRESSION_DICTIONARY_SIZE_LIMIT, VeniceWriter.DEFAULT_MAX_SIZE_FOR_USER_PAYLOAD_PER_MESSAGE_IN_BYTES);
+    this.candidateDictSizes = parseCandidates(
+        props.getList(ZSTD_DICTIONARY_TUNING_CANDIDATE_DICT_SIZES, DEFAULT_ZSTD_DICTIONARY_TUNING_CANDIDATE_DICT_SIZES),
+        1,
+        maxDictSize);
+    this.candidateCompressionLevels = parseCandidates(
+        props.getList(
+            ZSTD_DICTIONARY_TUNING_CANDIDATE_COMPRESSION_LEVELS,
+            DEFAULT_ZSTD_DICTIONARY_TUNING_CANDIDATE_COMPRESSION_LEVELS),
+        Zstd.minCompressionLevel(),
+        Zstd.maxCompressionLevel());
+    this.maxDecompressionLatencyNs = props.getLong(
+        ZSTD_DICTIONARY_TUNING_MAX_DECOMPRESSION_LATENCY_NS,
+        DEFAULT_ZSTD_DICTIONARY_TUNING_MAX_DECOMPRESSION_LATENCY_NS);
+    if (candidateDictSizes.isEmpty() || candidateCompressionLevels.isEmpty()) {
+      throw new VeniceException(
+          "Zstd dictionary tuning requires at least one candidate dictionary size and compression level. Got sizes: "
+              + candidateDictSizes + ", levels: " + candidateCompressionLevels);
+    }
+  }
+
+  private static List<Integer> parseCandidates(List<String> values, int min, int max) {
+    TreeSet<Integer> candidates = new TreeSet<>();
+    for (String value: values) {
+      int candidate;
+      try {
+        candidate = Integer.parseInt(value.trim());
+      } catch (NumberFormatException e) {
+        throw new VeniceException("Invalid Zstd dictionary tuning candidate: " + value, e);
+      }
+      candidates.add(Math.max(min, Math.min(max, candidate)));
+    }
+    return new ArrayList<>(candidates);
+  }
+
+  /**
+   * @param samples the retained samples, see {@link PushJobZstdConfig#getRetainedSamples()}
+   * @return the evaluated candidates along with the selected one, or null if there are not enough samples
+   */
+  public Result tune(List<byte[]> samples) {
+    List<byte[]> trainingSamples = new ArrayList<>(samples.size());
+    List<byte[]> holdOutSamples = new ArrayList<>(samples.size() / HOLD_OUT_SAMPLE_INTERVAL + 1);
+    int trainingSampleSize = 0;
+    for (int i = 0; i < samples.size(); i++) {
+      if (i % HOLD_OUT_SAMPLE_INTERVAL == HOLD_OUT_SAMPLE_INTERVAL - 1) {
+        holdOutSamples.add(samples.get(i));
+      } else {
+        trainingSamples.add(samples.get(i));
+        trainingSampleSize += samples.get(i).length;
+      }
+    }
+    if (trainingSamples.size() < MINIMUM_NUMBER_OF_SAMPLES_REQUIRED_TO_BUILD_ZSTD_DICTIONARY
+        || holdOutSamples.isEmpty()) {
+      LOGGER.warn(
+          "Skipping Zstd dictionary tuning. Not enough samples: {} for training and {} held out",
+          trainingSamples.size(),
+          holdOutSamples.size());
+      return null;
+    }
+
+    List<Candidate> candidates = new ArrayList<>(candidateDictSizes.size() * candidateCompressionLevels.size());
+    for (int dictSize: candidateDictSizes) {
+      byte[] dictionary;
+      try {
+        ZstdDictTrainer trainer = new ZstdDictTrainer(trainingSampleSize, dictSize);
+        for (byte[] sample: trainingSamples) {
+          trainer.addSample(sample);
+        }
+        dictionary = trainer.trainSamples();
+      } catch (Exception e) {
+        LOGGER.warn("Failed to train a candidate Zstd dictionary of size: {}. Skipping it.", dictSize, e);
+        continue;
+      }
+      for (int level: candidateCompressionLevels) {
+        try {
+          candidates.add(evaluate(dictionary, level, holdOutSamples));
+        } catch (Exception e) {
+          LOGGER.warn(
+              "Failed to evaluate Zstd dictionary of size: {} with level: {}. Skipping it.",
+              dictSize,
+              level,
+              e);
+        }
+      }
+    }
+    if (candidates.isEmpty()) {
+      LOGGER.warn("None of the Zstd dictionary tuning candidates could be trained");
+      return null;
+    }
+
+    Candidate selected = select(candidates, maxDecompressionLatencyNs);
+    for (Candidate candidate: candidates) {
+      LOGGER.info("{}{}", candidate == selected ? "[Selected] " : "", candidate);
+    }
+    return new Result(selected, candidates);
+  }
+
+  static Candidate select(List<Candidate> candidates, long maxDecompressionLatencyNs) {
+    Candidate best = null;
+    for (Candidate candidate: candidates) {
+      if (maxDecompressionLatencyNs > 0 && candidate.getAvgDecompressionLatencyNs() > maxDecompressionLatencyNs) {
+        continue;
+      }
+      if (best == null || candidate.getCompressionRatio() > best.getCompressionRatio()
+          || (candidate.getCompressionRatio() == best.getCompressionRatio()
+              && candidate.getAvgDecompressionLatencyNs() < best.getAvgDecompressionLatencyNs())) {
+        best = candidate;
+      }
+    }
+    if (best != null) {
+      return best;
+    }
+    LOGGER.warn(
+        "None of the Zstd dictionary tuning candidates fits the decompression latency budget of {} ns. "
+            + "Selecting the fastest one.",
+        maxDecompressionLatencyNs);
+    for (Candidate candidate: candidates) {
+      if (best == null || candidate.getAvgDecompressionLatencyNs() < best.getAvgDecompressionLatencyNs()) {
+        best = candidate;
+      }
+    }
+    return best;
+  }
+
+  private static Candidate evaluate(byte[] dictionary, int level, List<byte[]> holdOutSamples) throws IOException {
+    try (ZstdWithDictCompressor compressor = new ZstdWithDictCompressor(dictionary, level)) {
+      long rawBytes = 0;
+      long compressedBytes = 0;
+      List<byte[]> compressedSamples = new ArrayList<>(holdOutSamples.size());
+      for (byte[] sample: holdOutSamples) {
+        byte[] compressed = compressor.compress(sample);
+        compressedSamples.add(compressed);
+        rawBytes += sample.length;
+        compressedBytes += compressed.length;
+      }
+
+      // Warm-up pass, so that the thread local context is created and the dictionary is loaded
+      for (byte[] compressed: compressedSamples) {
+        compressor.decompress(compressed, 0, compressed.length);
+      }
+      long startTimeNs = System.nanoTime();
+      for (int round = 0; round < DECOMPRESSION_ROUNDS; round++) {
+        for (byte[] compressed: compressedSamples) {
+          compressor.decompress(compressed, 0, compressed.length);
+        }
+      }
+      long elapsedNs = Math.max(1, System.nanoTime() - startTimeNs);
+      long decompressedRecords = (long) DECOMPRESSION_ROUNDS * compressedSamples.size();
+
+      return new Candidate(
+          dictionary,
+          level,
+          (double) rawBytes / Math.max(1, compressedBytes),
+          elapsedNs / decompressedRecords,
+          (double) (rawBytes * DECOMPRESSION_ROUNDS) / ByteUtils.BYTES_PER_MB / (elapsedNs / 1_000_000_000d));
+    }
+  }
+
+  /**
+   * A trained dictionary, the level it was evaluated with and the measured numbers on the held-out samples.
+   */
+  public static class Candidate {
+    private final byte[] dictionary;
+    private final int compressionLevel;
+    private final double compressionRatio;
+    private final long avgDecompressionLatencyNs;
+    private final double decompressionThroughputMBps;
+
+    Candidate(
+        byte[] dictionary,
+        int compressionLevel,
+        double compressionRatio,
+        long avgDecompressionLatencyNs,
+        double decompressionThroughputMBps) {
+      this.dictionary = dictionary;
+      this.compressionLevel = compressionLevel;
+      this.compressionRatio = compressionRatio;
+      this.avgDecompressionLatencyNs = avgDecompressionLatencyNs;
+      this.decompressionThroughputMBps = decompressionThroughputMBps;
+    }
+
+    public byte[] getDictionary() {
+      return dictionary;
+    }
+
+    public int getCompressionLevel() {
+      return compressionLevel;
+    }
+
+    public double getCompressionRatio() {
+      return compressionRatio;
+    }
+
+    public long getAvgDecompressionLatencyNs() {
+      return avgDecompressionLatencyNs;
+    }
+
+    public double getDecompressionThroughputMBps() {
+      return decompressionThroughputMBps;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "Zstd dictionary candidate: size: %s, level: %d, compression ratio: %.3f, "
+              + "avg decompression latency: %d ns, decompression throughput: %.2f MB/s",
+          ByteUtils.generateHumanReadableByteCountString(dictionary.length),
+          compressionLevel,
+          compressionRatio,
+          avgDecompressionLatencyNs,
+          decompressionThroughputMBps);
+    }
+  }
+
+  public static class Result {
+    private final Candidate selected;
+    private final List<Candidate> candidates;
+
+    Result(Candidate selected, List<Candidate> candidates) {
+      this.selected = selected;
+      this.candidates = Collections.unmodifiableList(candidates);
+    }
+
+    public Candidate getSelected() {
+      return selected;
+    }
+
+    public List<Candidate> getCandidates() {
+      return candidates;
+    }
+  }
+}
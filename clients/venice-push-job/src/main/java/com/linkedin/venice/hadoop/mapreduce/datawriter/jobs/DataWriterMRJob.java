@@ -208,7 +208,9 @@ public class DataWriterMRJob extends DataWriterComputeJob {
             : CompressionStrategy.NO_OP.toString());
     conf.set(
         ZSTD_COMPRESSION_LEVEL,
-        props.getString(ZSTD_COMPRESSION_LEVEL, String.valueOf(Zstd.maxCompressionLevel())));
+        pushJobSetting.zstdDictionaryTunedCompressionLevel != null
+            ? String.valueOf(pushJobSetting.zstdDictionaryTunedCompressionLevel)
+            : props.getString(ZSTD_COMPRESSION_LEVEL, String.valueOf(Zstd.maxCompressionLevel())));
     conf.setBoolean(ZSTD_DICTIONARY_CREATION_SUCCESS, pushJobSetting.isZstdDictCreationSuccess);
 
     // We generate a random UUID once, and the tasks of the compute job can use this to build the same producerGUID
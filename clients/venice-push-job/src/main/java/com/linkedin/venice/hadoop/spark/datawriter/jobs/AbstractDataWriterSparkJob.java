@@ -285,7 +285,9 @@ public abstract class AbstractDataWriterSparkJob extends DataWriterComputeJob {
             : CompressionStrategy.NO_OP.name());
     jobConf.set(
         ZSTD_COMPRESSION_LEVEL,
-        props.getString(ZSTD_COMPRESSION_LEVEL, String.valueOf(Zstd.maxCompressionLevel())));
+        pushJobSetting.zstdDictionaryTunedCompressionLevel != null
+            ? String.valueOf(pushJobSetting.zstdDictionaryTunedCompressionLevel)
+            : props.getString(ZSTD_COMPRESSION_LEVEL, String.valueOf(Zstd.maxCompressionLevel())));
     jobConf.set(ZSTD_DICTIONARY_CREATION_SUCCESS, pushJobSetting.isZstdDictCreationSuccess);
 
     // We generate a random UUID once, and the tasks of the compute job can use this to build the same producerGUID
@@ -0,0 +1,97 @@
+package com.linkedin.venice.hadoop;
+
+import static com.linkedin.venice.hadoop.VenicePushJobConstants.COMPRESSION_DICTIONARY_SAMPLE_SIZE;
+import static com.linkedin.venice.hadoop.VenicePushJobConstants.ZSTD_DICTIONARY_TUNING_CANDIDATE_COMPRESSION_LEVELS;
+import static com.linkedin.venice.hadoop.VenicePushJobConstants.ZSTD_DICTIONARY_TUNING_CANDIDATE_DICT_SIZES;
+import static com.linkedin.venice.hadoop.VenicePushJobConstants.ZSTD_DICTIONARY_TUNING_ENABLED;
+import static com.linkedin.venice.hadoop.VenicePushJobConstants.ZSTD_DICTIONARY_TUNING_SAMPLE_SIZE;
+
+import com.linkedin.venice.utils.VeniceProperties;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestZstdDictionaryTuner {
+  private static List<byte[]> generateSamples(int count) {
+    List<byte[]> samples = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      String value = "{\"memberId\": " + i + ", \"firstName\": \"first_name_" + (i % 17) + "\", \"lastName\": \"last_"
+          + (i % 31) + "\", \"headline\": \"Software engineer working on distributed storage systems " + (i % 7)
+          + "\"}";
+      samples.add(value.getBytes(StandardCharsets.UTF_8));
+    }
+    return samples;
+  }
+
+  private static VeniceProperties getTuningProps() {
+    Properties props = new Properties();
+    props.setProperty(ZSTD_DICTIONARY_TUNING_ENABLED, "true");
+    props.setProperty(ZSTD_DICTIONARY_TUNING_CANDIDATE_DICT_SIZES, "1024,4096");
+    props.setProperty(ZSTD_DICTIONARY_TUNING_CANDIDATE_COMPRESSION_LEVELS, "1,3,22");
+    return new VeniceProperties(props);
+  }
+
+  @Test
+  public void testTuneEvaluatesAllCandidates() {
+    ZstdDictionaryTuner.Result result = new ZstdDictionaryTuner(getTuningProps()).tune(generateSamples(2000));
+    Assert.assertNotNull(result);
+    Assert.assertEquals(result.getCandidates().size(), 6);
+    Assert.assertTrue(result.getCandidates().contains(result.getSelected()));
+    for (ZstdDictionaryTuner.Candidate candidate: result.getCandidates()) {
+      Assert.assertTrue(candidate.getDictionary().length > 0);
+      Assert.assertTrue(candidate.getCompressionRatio() > 1, candidate.toString());
+      Assert.assertTrue(candidate.getAvgDecompressionLatencyNs() > 0, candidate.toString());
+      Assert.assertTrue(candidate.getDecompressionThroughputMBps() > 0, candidate.toString());
+      // Without a latency budget, the best compression ratio wins
+      Assert.assertTrue(candidate.getCompressionRatio() <= result.getSelected().getCompressionRatio());
+    }
+  }
+
+  @Test
+  public void testTuneWithTooFewSamples() {
+    Assert.assertNull(new ZstdDictionaryTuner(getTuningProps()).tune(generateSamples(10)));
+  }
+
+  @Test
+  public void testSelectHonorsLatencyBudget() {
+    byte[] dictionary = new byte[16];
+    ZstdDictionaryTuner.Candidate fastCandidate = new ZstdDictionaryTuner.Candidate(dictionary, 1, 2.0, 500, 800);
+    ZstdDictionaryTuner.Candidate balancedCandidate = new ZstdDictionaryTuner.Candidate(dictionary, 9, 3.0, 900, 500);
+    ZstdDictionaryTuner.Candidate smallCandidate = new ZstdDictionaryTuner.Candidate(dictionary, 22, 4.0, 2000, 200);
+    List<ZstdDictionaryTuner.Candidate> candidates = Arrays.asList(fastCandidate, balancedCandidate, smallCandidate);
+
+    Assert.assertSame(ZstdDictionaryTuner.select(candidates, -1), smallCandidate);
+    Assert.assertSame(ZstdDictionaryTuner.select(candidates, 1000), balancedCandidate);
+    Assert.assertSame(ZstdDictionaryTuner.select(candidates, 500), fastCandidate);
+    // Nothing fits in the budget: fall back to the fastest candidate
+    Assert.assertSame(ZstdDictionaryTuner.select(candidates, 100), fastCandidate);
+  }
+
+  @Test
+  public void testPushJobZstdConfigRetainsSamplesOnlyWhenTuningEnabled() {
+    List<byte[]> samples = generateSamples(100);
+    int totalSize = samples.stream().mapToInt(sample -> sample.length).sum();
+
+    Properties props = new Properties();
+    props.setProperty(COMPRESSION_DICTIONARY_SAMPLE_SIZE, String.valueOf(totalSize * 2));
+    PushJobZstdConfig zstdConfig = new PushJobZstdConfig(new VeniceProperties(props), 1);
+    samples.forEach(zstdConfig::addSample);
+    Assert.assertFalse(zstdConfig.isTuningEnabled());
+    Assert.assertTrue(zstdConfig.getRetainedSamples().isEmpty());
+
+    props.setProperty(ZSTD_DICTIONARY_TUNING_ENABLED, "true");
+    props.setProperty(ZSTD_DICTIONARY_TUNING_SAMPLE_SIZE, String.valueOf(totalSize / 2));
+    zstdConfig = new PushJobZstdConfig(new VeniceProperties(props), 1);
+    samples.forEach(zstdConfig::addSample);
+    Assert.assertTrue(zstdConfig.isTuningEnabled());
+    List<byte[]> retainedSamples = zstdConfig.getRetainedSamples();
+    Assert.assertFalse(retainedSamples.isEmpty());
+    Assert.assertTrue(retainedSamples.size() < samples.size());
+    Assert.assertTrue(retainedSamples.stream().mapToInt(sample -> sample.length).sum() <= totalSize / 2);
+  }
+}
@@ -21,6 +21,11 @@ public class HttpConstants {
   public static final String VENICE_SCHEMA_ID = "X-VENICE-SCHEMA-ID";
   public static final String VENICE_REQUEST_RCU = "X-VENICE-RCU";
   public static final String VENICE_RETRY = "X-VENICE-RETRY";
+  /**
+   * How long the router is going to wait for the response, so that the storage node can stop working on the request
+   * once it is obsolete.
+   */
+  public static final String VENICE_REQUEST_TIMEOUT_MS = "X-VENICE-REQUEST-TIMEOUT-MS";
 
   public static final String VENICE_COMPRESSION_STRATEGY = "X-VENICE-COMPRESSION-STRATEGY";
   public static final String VENICE_SUPPORTED_COMPRESSION_STRATEGY = "X-VENICE-SUPPORTED-COMPRESSION-STRATEGY";
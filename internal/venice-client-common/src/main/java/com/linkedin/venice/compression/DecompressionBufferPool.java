@@ -0,0 +1,45 @@
+package com.linkedin.venice.compression;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * Pools the buffers which batches of values get decompressed into, for the callers which are done with the decompressed
+ * values before they decompress another batch on the same thread, see
+ * {@link VeniceCompressor#decompressBatchIntoPooledBuffer(java.util.List)}.
+ *
+ * Each thread reuses one heap buffer and one direct buffer, which grow with its batches up to a max capacity. Bigger
+ * batches get their own buffer instead, so that a few huge batches don't pin their memory for the life of the thread.
+ */
+final class DecompressionBufferPool {
+  private final int maxPooledCapacity;
+  private final ThreadLocal<ByteBuffer> heapBuffers = new ThreadLocal<>();
+  private final ThreadLocal<ByteBuffer> directBuffers = new ThreadLocal<>();
+
+  DecompressionBufferPool(int maxPooledCapacity) {
+    this.maxPooledCapacity = maxPooledCapacity;
+  }
+
+  /**
+   * @return an empty buffer of at least the given capacity, which the calling thread owns until its next call.
+   */
+  ByteBuffer getBuffer(int capacity, boolean direct) {
+    if (capacity > maxPooledCapacity) {
+      return allocate(capacity, direct);
+    }
+    ThreadLocal<ByteBuffer> buffers = direct ? directBuffers : heapBuffers;
+    ByteBuffer buffer = buffers.get();
+    if (buffer == null || buffer.capacity() < capacity) {
+      // Rounded up to a power of two, so that the buffer isn't reallocated for every slightly bigger batch
+      int pooledCapacity = Math.min(maxPooledCapacity, Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1);
+      buffer = allocate(pooledCapacity, direct);
+      buffers.set(buffer);
+    }
+    buffer.clear();
+    return buffer;
+  }
+
+  private static ByteBuffer allocate(int capacity, boolean direct) {
+    return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+  }
+}
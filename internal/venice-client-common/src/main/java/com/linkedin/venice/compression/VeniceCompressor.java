@@ -5,6 +5,8 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
 
 public abstract class VeniceCompressor implements Closeable {
@@ -23,6 +25,63 @@ public abstract class VeniceCompressor implements Closeable {
 
   public abstract ByteBuffer decompress(byte[] data, int offset, int length) throws IOException;
 
+  /**
+   * Decompresses the remaining bytes of {@code src} into {@code dst}, starting at the position of {@code dst}, which is
+   * advanced by the decompressed size. The position of {@code src} is left untouched. This allows callers to decompress
+   * into buffers they manage, e.g. reused or pooled direct buffers.
+   *
+   * The default implementation goes through {@link #decompress(ByteBuffer)} and copies the result into {@code dst}.
+   *
+   * @return the decompressed size
+   */
+  public int decompress(ByteBuffer src, ByteBuffer dst) throws IOException {
+    ByteBuffer decompressed = decompress(src.duplicate());
+    int size = decompressed.remaining();
+    dst.put(decompressed);
+    return size;
+  }
+
+  /**
+   * Decompresses a batch of values into consecutive regions of {@code output}, see
+   * {@link #decompress(ByteBuffer, ByteBuffer)}. The returned buffers are views over {@code output}, positioned at the
+   * beginning of each decompressed value, so they are only valid as long as the caller does not reuse {@code output}.
+   */
+  public List<ByteBuffer> decompressBatch(List<ByteBuffer> values, ByteBuffer output) throws IOException {
+    List<ByteBuffer> decompressedValues = new ArrayList<>(values.size());
+    for (ByteBuffer value: values) {
+      int startPosition = output.position();
+      int size = decompress(value, output);
+      ByteBuffer decompressedValue = output.duplicate();
+      decompressedValue.limit(startPosition + size);
+      decompressedValue.position(startPosition);
+      decompressedValues.add(decompressedValue);
+    }
+    return decompressedValues;
+  }
+
+  /**
+   * Decompresses a batch of values. Implementations may back all the returned buffers with a single allocation, so
+   * none of them should be modified beyond its own position and limit.
+   */
+  public List<ByteBuffer> decompressBatch(List<ByteBuffer> values) throws IOException {
+    List<ByteBuffer> decompressedValues = new ArrayList<>(values.size());
+    for (ByteBuffer value: values) {
+      decompressedValues.add(decompress(value));
+    }
+    return decompressedValues;
+  }
+
+  /**
+   * Decompresses a batch of values like {@link #decompressBatch(List)}, but implementations may back the returned
+   * buffers with a buffer pooled per thread, which gets reused by the next call on the same thread. Callers must be
+   * done with the decompressed values before then, e.g. by copying or serializing them right away.
+   *
+   * The default implementation does not pool anything and goes through {@link #decompressBatch(List)}.
+   */
+  public List<ByteBuffer> decompressBatchIntoPooledBuffer(List<ByteBuffer> values) throws IOException {
+    return decompressBatch(values);
+  }
+
   /**
    * This method tries to decompress data and maybe prepend the schema header.
    * The returned ByteBuffer will be backed by byte array that starts with schema header, followed by the
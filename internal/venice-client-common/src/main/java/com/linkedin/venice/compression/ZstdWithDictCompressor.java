@@ -29,6 +29,10 @@ import org.apache.logging.log4j.Logger;
 
 public class ZstdWithDictCompressor extends VeniceCompressor {
   private static final Logger LOGGER = LogManager.getLogger(ZstdWithDictCompressor.class);
+  /**
+   * Shared by all the compressors, so that the memory pinned by the pool doesn't grow with the number of dictionaries.
+   */
+  private static final DecompressionBufferPool BUFFER_POOL = new DecompressionBufferPool(BYTES_PER_MB);
   private final CloseableThreadLocal<ZstdCompressCtx> compressor;
   private final CloseableThreadLocal<ZstdDecompressCtx> decompressor;
   private final ZstdDictCompress dictCompress;
@@ -123,6 +127,91 @@ public class ZstdWithDictCompressor extends VeniceCompressor {
     return returnedData;
   }
 
+  /**
+   * Decompresses straight into {@code dst} with the thread-local {@link ZstdDecompressCtx}, without any intermediate
+   * allocation, as long as {@code src} and {@code dst} are both direct or both backed by an array. Mixed buffers go
+   * through the copying default implementation.
+   */
+  @Override
+  public int decompress(ByteBuffer src, ByteBuffer dst) throws IOException {
+    if (!src.hasRemaining()) {
+      return 0;
+    }
+    int expectedSize = validateExpectedDecompressedSize(getDecompressedSize(src));
+    if (dst.remaining() < expectedSize) {
+      throw new IllegalArgumentException(
+          "The destination buffer has " + dst.remaining() + " bytes remaining, but " + expectedSize
+              + " bytes are needed.");
+    }
+    int actualSize;
+    if (src.isDirect() && dst.isDirect()) {
+      actualSize = decompressor.get()
+          .decompressDirectByteBuffer(dst, dst.position(), expectedSize, src, src.position(), src.remaining());
+    } else if (src.hasArray() && dst.hasArray()) {
+      actualSize = decompressor.get()
+          .decompressByteArray(
+              dst.array(),
+              dst.arrayOffset() + dst.position(),
+              expectedSize,
+              src.array(),
+              src.arrayOffset() + src.position(),
+              src.remaining());
+    } else {
+      return super.decompress(src, dst);
+    }
+    validateActualDecompressedSize(actualSize, expectedSize);
+    dst.position(dst.position() + actualSize);
+    return actualSize;
+  }
+
+  @Override
+  public List<ByteBuffer> decompressBatch(List<ByteBuffer> values) throws IOException {
+    return decompressBatch(values, false);
+  }
+
+  /**
+   * Batches of up to 1MB are decompressed into a buffer of the {@link DecompressionBufferPool} of the calling thread.
+   */
+  @Override
+  public List<ByteBuffer> decompressBatchIntoPooledBuffer(List<ByteBuffer> values) throws IOException {
+    return decompressBatch(values, true);
+  }
+
+  /**
+   * Reads the content sizes from the frame headers first, so that the whole batch gets decompressed into a single
+   * buffer, which is direct if all the values are direct.
+   */
+  private List<ByteBuffer> decompressBatch(List<ByteBuffer> values, boolean pooled) throws IOException {
+    long totalSize = 0;
+    boolean allDirect = true;
+    for (ByteBuffer value: values) {
+      if (value.hasRemaining()) {
+        totalSize += validateExpectedDecompressedSize(getDecompressedSize(value));
+        allDirect &= value.isDirect();
+      }
+    }
+    if (totalSize > Integer.MAX_VALUE) {
+      return super.decompressBatch(values);
+    }
+    ByteBuffer output;
+    if (pooled) {
+      output = BUFFER_POOL.getBuffer((int) totalSize, allDirect);
+    } else {
+      output = allDirect ? ByteBuffer.allocateDirect((int) totalSize) : ByteBuffer.allocate((int) totalSize);
+    }
+    return decompressBatch(values, output);
+  }
+
+  private static long getDecompressedSize(ByteBuffer data) {
+    if (data.isDirect()) {
+      return Zstd.decompressedSize(data);
+    } else if (data.hasArray()) {
+      return Zstd.decompressedSize(data.array(), data.arrayOffset() + data.position(), data.remaining());
+    } else {
+      throw new IllegalArgumentException("The passed in ByteBuffer must be either direct or be backed by an array!");
+    }
+  }
+
   @Override
   public ByteBuffer decompressAndPrependSchemaHeader(byte[] data, int offset, int length, int schemaHeader)
       throws IOException {
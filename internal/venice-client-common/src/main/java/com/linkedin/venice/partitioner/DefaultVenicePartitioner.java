@@ -53,8 +53,10 @@ public class DefaultVenicePartitioner extends VenicePartitioner {
   }
 
   public int getPartitionId(byte[] keyBytes, int offset, int length, int numPartitions) {
-    PartitionerState ps = partitionerState.get();
+    return getPartitionId(partitionerState.get(), keyBytes, offset, length, numPartitions);
+  }
 
+  private static int getPartitionId(PartitionerState ps, byte[] keyBytes, int offset, int length, int numPartitions) {
     ps.md.update(keyBytes, offset, length);
     try {
       ps.digestSize = ps.md.digest(ps.digestOutput, 0, ps.digestOutput.length);
@@ -85,4 +87,21 @@ public class DefaultVenicePartitioner extends VenicePartitioner {
   public int getPartitionId(ByteBuffer keyByteBuffer, int numPartitions) {
     return getPartitionId(keyByteBuffer.array(), keyByteBuffer.position(), keyByteBuffer.remaining(), numPartitions);
   }
+
+  @Override
+  public void getPartitionIds(byte[][] keys, int numPartitions, int[] partitionIds) {
+    PartitionerState ps = partitionerState.get();
+    for (int i = 0; i < keys.length; i++) {
+      partitionIds[i] = getPartitionId(ps, keys[i], 0, keys[i].length, numPartitions);
+    }
+  }
+
+  @Override
+  public void getPartitionIds(ByteBuffer[] keys, int numPartitions, int[] partitionIds) {
+    PartitionerState ps = partitionerState.get();
+    for (int i = 0; i < keys.length; i++) {
+      ByteBuffer key = keys[i];
+      partitionIds[i] = getPartitionId(ps, key.array(), key.position(), key.remaining(), numPartitions);
+    }
+  }
 }
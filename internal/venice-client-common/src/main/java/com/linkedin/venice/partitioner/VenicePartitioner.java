@@ -56,6 +56,30 @@ public abstract class VenicePartitioner {
 
   public abstract int getPartitionId(ByteBuffer keyByteBuffer, int numPartitions);
 
+  /**
+   * Computes the partition of several keys at once, which lets implementors amortize their per-call overhead, such as
+   * the lookup of a thread-local state, over the keys of a multi-key request.
+   *
+   * @param keys          - The keys to map into partitions
+   * @param numPartitions - The number of total partitions available in Kafka/storage
+   * @param partitionIds  - Receives the partition of {@code keys[i]} at index {@code i}, should be at least as long as
+   *                        {@code keys}
+   */
+  public void getPartitionIds(byte[][] keys, int numPartitions, int[] partitionIds) {
+    for (int i = 0; i < keys.length; i++) {
+      partitionIds[i] = getPartitionId(keys[i], numPartitions);
+    }
+  }
+
+  /**
+   * Same as {@link #getPartitionIds(byte[][], int, int[])}, for keys held by {@link ByteBuffer}s.
+   */
+  public void getPartitionIds(ByteBuffer[] keys, int numPartitions, int[] partitionIds) {
+    for (int i = 0; i < keys.length; i++) {
+      partitionIds[i] = getPartitionId(keys[i], numPartitions);
+    }
+  }
+
   /**
    * Implementors of this class can optionally provide an implementation of this function,
    * which can perform validation of schemas to be certain that they are compatible with the
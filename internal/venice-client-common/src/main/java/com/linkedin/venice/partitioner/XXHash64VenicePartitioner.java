@@ -0,0 +1,66 @@
+package com.linkedin.venice.partitioner;
+
+import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.utils.XXHash64;
+import java.nio.ByteBuffer;
+import org.apache.avro.Schema;
+
+
+/**
+ * {@link VenicePartitioner} based on the xxHash64 (seed 0) of the key, which is a non-cryptographic hash several times
+ * cheaper than the MD5 digest of {@link DefaultVenicePartitioner}, and doesn't need any per-thread state.
+ *
+ * The 64-bit hash is mapped to a partition with a multiply-shift of its upper 32 bits instead of a modulus, which is
+ * uniform as long as the number of partitions is much smaller than 2^32.
+ *
+ * N.B.: The two partitioners assign the keys to different partitions, so this one can only be picked for new stores,
+ *       or by changing the {@link com.linkedin.venice.meta.PartitionerConfig} of a store before its next push.
+ */
+public class XXHash64VenicePartitioner extends VenicePartitioner {
+  public XXHash64VenicePartitioner() {
+    super();
+  }
+
+  public XXHash64VenicePartitioner(VeniceProperties props) {
+    this(props, null);
+  }
+
+  public XXHash64VenicePartitioner(VeniceProperties props, Schema schema) {
+    super(props, schema);
+  }
+
+  @Override
+  public int getPartitionId(byte[] keyBytes, int offset, int length, int numPartitions) {
+    return toPartitionId(XXHash64.hash(keyBytes, offset, length), numPartitions);
+  }
+
+  @Override
+  public int getPartitionId(byte[] keyBytes, int numPartitions) {
+    return getPartitionId(keyBytes, 0, keyBytes.length, numPartitions);
+  }
+
+  @Override
+  public int getPartitionId(ByteBuffer keyByteBuffer, int numPartitions) {
+    if (keyByteBuffer.hasArray()) {
+      return getPartitionId(
+          keyByteBuffer.array(),
+          keyByteBuffer.arrayOffset() + keyByteBuffer.position(),
+          keyByteBuffer.remaining(),
+          numPartitions);
+    }
+    byte[] keyBytes = new byte[keyByteBuffer.remaining()];
+    keyByteBuffer.duplicate().get(keyBytes);
+    return getPartitionId(keyBytes, numPartitions);
+  }
+
+  @Override
+  public void getPartitionIds(byte[][] keys, int numPartitions, int[] partitionIds) {
+    for (int i = 0; i < keys.length; i++) {
+      partitionIds[i] = toPartitionId(XXHash64.hash(keys[i], 0, keys[i].length), numPartitions);
+    }
+  }
+
+  static int toPartitionId(long hash, int numPartitions) {
+    return (int) (((hash >>> 32) * numPartitions) >>> 32);
+  }
+}
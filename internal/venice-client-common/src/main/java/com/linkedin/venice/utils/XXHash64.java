@@ -0,0 +1,120 @@
+package com.linkedin.venice.utils;
+
+/**
+ * The xxHash64 hash function with seed 0, a non-cryptographic hash which digests 32 bytes per round with plain 64-bit
+ * arithmetic.
+ *
+ * Besides hashing a whole array with {@link #hash(byte[], int, int)}, the stripes of 32 bytes can be fed one by one
+ * into 4 accumulators, starting from {@link #INITIAL_ACC_1} to {@link #INITIAL_ACC_4}, with {@link #round(long, long)},
+ * and the hash is then computed by {@link #finish}, which lets running hashes keep their own state.
+ */
+public final class XXHash64 {
+  private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+  private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+  private static final long PRIME64_3 = 0x165667B19E3779F9L;
+  private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+  private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+
+  public static final int STRIPE_LENGTH = 32;
+  public static final long INITIAL_ACC_1 = PRIME64_1 + PRIME64_2;
+  public static final long INITIAL_ACC_2 = PRIME64_2;
+  public static final long INITIAL_ACC_3 = 0;
+  public static final long INITIAL_ACC_4 = -PRIME64_1;
+
+  private XXHash64() {
+  }
+
+  /**
+   * @return the xxHash64 of the given bytes, with seed 0.
+   */
+  public static long hash(byte[] bytes, int offset, int length) {
+    int end = offset + length;
+    long acc1 = INITIAL_ACC_1;
+    long acc2 = INITIAL_ACC_2;
+    long acc3 = INITIAL_ACC_3;
+    long acc4 = INITIAL_ACC_4;
+    for (; offset + STRIPE_LENGTH <= end; offset += STRIPE_LENGTH) {
+      acc1 = round(acc1, readLongLE(bytes, offset));
+      acc2 = round(acc2, readLongLE(bytes, offset + 8));
+      acc3 = round(acc3, readLongLE(bytes, offset + 16));
+      acc4 = round(acc4, readLongLE(bytes, offset + 24));
+    }
+    return finish(acc1, acc2, acc3, acc4, length, bytes, offset, end - offset);
+  }
+
+  /**
+   * Feeds 8 bytes of a stripe into one of the accumulators.
+   */
+  public static long round(long acc, long input) {
+    acc += input * PRIME64_2;
+    acc = Long.rotateLeft(acc, 31);
+    return acc * PRIME64_1;
+  }
+
+  /**
+   * @param totalLength the number of bytes hashed, including the stripes fed into the accumulators
+   * @param tail the bytes after the last full stripe, there are {@code totalLength % STRIPE_LENGTH} of them
+   * @return the hash of the bytes fed into the accumulators followed by the tail.
+   */
+  public static long finish(
+      long acc1,
+      long acc2,
+      long acc3,
+      long acc4,
+      long totalLength,
+      byte[] tail,
+      int tailOffset,
+      int tailLength) {
+    long hash;
+    if (totalLength >= STRIPE_LENGTH) {
+      hash = Long.rotateLeft(acc1, 1) + Long.rotateLeft(acc2, 7) + Long.rotateLeft(acc3, 12)
+          + Long.rotateLeft(acc4, 18);
+      hash = mergeRound(hash, acc1);
+      hash = mergeRound(hash, acc2);
+      hash = mergeRound(hash, acc3);
+      hash = mergeRound(hash, acc4);
+    } else {
+      hash = PRIME64_5;
+    }
+    hash += totalLength;
+
+    int offset = tailOffset;
+    int end = tailOffset + tailLength;
+    for (; offset + 8 <= end; offset += 8) {
+      hash ^= round(0, readLongLE(tail, offset));
+      hash = Long.rotateLeft(hash, 27) * PRIME64_1 + PRIME64_4;
+    }
+    if (offset + 4 <= end) {
+      hash ^= (readIntLE(tail, offset) & 0xFFFFFFFFL) * PRIME64_1;
+      hash = Long.rotateLeft(hash, 23) * PRIME64_2 + PRIME64_3;
+      offset += 4;
+    }
+    for (; offset < end; offset++) {
+      hash ^= (tail[offset] & 0xFF) * PRIME64_5;
+      hash = Long.rotateLeft(hash, 11) * PRIME64_1;
+    }
+
+    hash ^= hash >>> 33;
+    hash *= PRIME64_2;
+    hash ^= hash >>> 29;
+    hash *= PRIME64_3;
+    hash ^= hash >>> 32;
+    return hash;
+  }
+
+  public static long readLongLE(byte[] bytes, int offset) {
+    return (bytes[offset] & 0xFFL) | (bytes[offset + 1] & 0xFFL) << 8 | (bytes[offset + 2] & 0xFFL) << 16
+        | (bytes[offset + 3] & 0xFFL) << 24 | (bytes[offset + 4] & 0xFFL) << 32 | (bytes[offset + 5] & 0xFFL) << 40
+        | (bytes[offset + 6] & 0xFFL) << 48 | (bytes[offset + 7] & 0xFFL) << 56;
+  }
+
+  private static int readIntLE(byte[] bytes, int offset) {
+    return (bytes[offset] & 0xFF) | (bytes[offset + 1] & 0xFF) << 8 | (bytes[offset + 2] & 0xFF) << 16
+        | (bytes[offset + 3] & 0xFF) << 24;
+  }
+
+  private static long mergeRound(long acc, long value) {
+    acc ^= round(0, value);
+    return acc * PRIME64_1 + PRIME64_4;
+  }
+}
@@ -20,12 +20,19 @@ public final class ThreadPoolFactory {
       String threadNamePrefix,
       int capacity,
       BlockingQueueType blockingQueueType) {
+    return createThreadPool(threadCount, threadNamePrefix, getExecutionQueue(capacity, blockingQueueType));
+  }
+
+  public static ThreadPoolExecutor createThreadPool(
+      int threadCount,
+      String threadNamePrefix,
+      BlockingQueue<Runnable> executionQueue) {
     ThreadPoolExecutor executor = new ThreadPoolExecutor(
         threadCount,
         threadCount,
         0,
         TimeUnit.MILLISECONDS,
-        getExecutionQueue(capacity, blockingQueueType),
+        executionQueue,
         new DaemonThreadFactory(threadNamePrefix));
     /**
      * When the capacity is fully saturated, the scheduled task will be executed in the caller thread.
@@ -7,6 +7,7 @@ import com.linkedin.venice.utils.Time;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Random;
@@ -167,6 +168,86 @@ public class TestVeniceCompressor {
     }
   }
 
+  @Test(dataProvider = "CompressionStrategy", timeOut = TEST_TIMEOUT)
+  public void testDecompressIntoProvidedBufferAndBatch(CompressionStrategy strategy) throws IOException {
+    try (VeniceCompressor compressor = getCompressor(strategy)) {
+      Random rd = new Random();
+      int numValues = 10;
+      List<byte[]> values = new ArrayList<>(numValues);
+      List<ByteBuffer> heapCompressedValues = new ArrayList<>(numValues);
+      List<ByteBuffer> directCompressedValues = new ArrayList<>(numValues);
+      int totalSize = 0;
+      for (int i = 0; i < numValues; i++) {
+        byte[] value = new byte[50 + i];
+        rd.nextBytes(value);
+        values.add(value);
+        totalSize += value.length;
+        ByteBuffer compressed = compressor.compress(ByteBuffer.wrap(value), ByteUtils.SIZE_OF_INT);
+        heapCompressedValues.add(compressed);
+        ByteBuffer directCompressed = ByteBuffer.allocateDirect(compressed.remaining());
+        directCompressed.put(compressed.duplicate());
+        directCompressed.flip();
+        directCompressedValues.add(directCompressed);
+      }
+
+      ByteBuffer[] outputs = new ByteBuffer[] { ByteBuffer.allocate(totalSize), ByteBuffer.allocateDirect(totalSize) };
+      for (ByteBuffer output: outputs) {
+        for (List<ByteBuffer> compressedValues: Arrays.asList(heapCompressedValues, directCompressedValues)) {
+          output.clear();
+          for (int i = 0; i < numValues; i++) {
+            ByteBuffer compressed = compressedValues.get(i);
+            int position = compressed.position();
+            Assert.assertEquals(compressor.decompress(compressed, output), values.get(i).length);
+            Assert.assertEquals(compressed.position(), position);
+          }
+          Assert.assertFalse(output.hasRemaining());
+
+          output.clear();
+          assertDecompressedValues(compressor.decompressBatch(compressedValues, output), values);
+          assertDecompressedValues(compressor.decompressBatch(compressedValues), values);
+          assertDecompressedValues(compressor.decompressBatchIntoPooledBuffer(compressedValues), values);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testDecompressionBufferPool() {
+    DecompressionBufferPool pool = new DecompressionBufferPool(1024);
+    for (boolean direct: new boolean[] { false, true }) {
+      ByteBuffer buffer = pool.getBuffer(100, direct);
+      Assert.assertEquals(buffer.isDirect(), direct);
+      Assert.assertEquals(buffer.capacity(), 128);
+      buffer.put(new byte[50]);
+
+      // The buffer of the thread is reused, empty, as long as it is big enough.
+      ByteBuffer reusedBuffer = pool.getBuffer(128, direct);
+      Assert.assertSame(reusedBuffer, buffer);
+      Assert.assertEquals(reusedBuffer.position(), 0);
+      Assert.assertEquals(reusedBuffer.remaining(), 128);
+
+      // It grows with bigger batches, up to the max pooled capacity.
+      ByteBuffer grownBuffer = pool.getBuffer(129, direct);
+      Assert.assertEquals(grownBuffer.capacity(), 256);
+      Assert.assertSame(pool.getBuffer(100, direct), grownBuffer);
+      Assert.assertEquals(pool.getBuffer(1000, direct).capacity(), 1024);
+
+      // Batches over the max pooled capacity get their own buffer.
+      ByteBuffer unpooledBuffer = pool.getBuffer(2000, direct);
+      Assert.assertEquals(unpooledBuffer.capacity(), 2000);
+      Assert.assertEquals(unpooledBuffer.isDirect(), direct);
+      Assert.assertNotSame(pool.getBuffer(2000, direct), unpooledBuffer);
+      Assert.assertEquals(pool.getBuffer(100, direct).capacity(), 1024);
+    }
+  }
+
+  private static void assertDecompressedValues(List<ByteBuffer> decompressedValues, List<byte[]> expectedValues) {
+    Assert.assertEquals(decompressedValues.size(), expectedValues.size());
+    for (int i = 0; i < expectedValues.size(); i++) {
+      Assert.assertEquals(decompressedValues.get(i), ByteBuffer.wrap(expectedValues.get(i)));
+    }
+  }
+
   private enum SourceDataType {
     DIRECT_BYTE_BUFFER, NON_DIRECT_BYTE_BUFFER, BYTE_ARRAY
   }
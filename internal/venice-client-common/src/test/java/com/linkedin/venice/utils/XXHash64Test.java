@@ -0,0 +1,42 @@
+package com.linkedin.venice.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class XXHash64Test {
+  @Test
+  public void testReferenceValues() {
+    // Reference values of xxHash64 with seed 0
+    Assert.assertEquals(XXHash64.hash(new byte[0], 0, 0), 0xEF46DB3751D8E999L);
+    Assert.assertEquals(XXHash64.hash("abc".getBytes(), 0, 3), 0x44BC2CF5AD770999L);
+    byte[] longBytes = "Nobody inspects the spammish repetition".getBytes();
+    Assert.assertEquals(XXHash64.hash(longBytes, 0, longBytes.length), 0xFBCEA83C8A378BF1L);
+
+    byte[] paddedBytes = new byte[longBytes.length + 2];
+    System.arraycopy(longBytes, 0, paddedBytes, 1, longBytes.length);
+    Assert.assertEquals(XXHash64.hash(paddedBytes, 1, longBytes.length), 0xFBCEA83C8A378BF1L);
+  }
+
+  @Test
+  public void testRunningHash() {
+    byte[] bytes = new byte[100];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) (i * 31);
+    }
+    long acc1 = XXHash64.INITIAL_ACC_1;
+    long acc2 = XXHash64.INITIAL_ACC_2;
+    long acc3 = XXHash64.INITIAL_ACC_3;
+    long acc4 = XXHash64.INITIAL_ACC_4;
+    int offset = 0;
+    for (; offset + XXHash64.STRIPE_LENGTH <= bytes.length; offset += XXHash64.STRIPE_LENGTH) {
+      acc1 = XXHash64.round(acc1, XXHash64.readLongLE(bytes, offset));
+      acc2 = XXHash64.round(acc2, XXHash64.readLongLE(bytes, offset + 8));
+      acc3 = XXHash64.round(acc3, XXHash64.readLongLE(bytes, offset + 16));
+      acc4 = XXHash64.round(acc4, XXHash64.readLongLE(bytes, offset + 24));
+    }
+    Assert.assertEquals(
+        XXHash64.finish(acc1, acc2, acc3, acc4, bytes.length, bytes, offset, bytes.length - offset),
+        XXHash64.hash(bytes, 0, bytes.length));
+  }
+}
@@ -222,6 +222,11 @@ public class ConfigKeys {
   public static final String HELIX_SEND_MESSAGE_TIMEOUT_MS = "helix.send.message.timeout.ms";
   public static final String REFRESH_ATTEMPTS_FOR_ZK_RECONNECT = "refresh.attempts.for.zk.reconnect";
   public static final String REFRESH_INTERVAL_FOR_ZK_RECONNECT_MS = "refresh.interval.for.zk.reconnect.ms";
+  /**
+   * The number of threads reading and deserializing the stores from ZK when the store repository of a router, server
+   * or controller is fully refreshed, at startup or after a ZK reconnection.
+   */
+  public static final String STORE_REPOSITORY_REFRESH_THREAD_COUNT = "store.repository.refresh.thread.count";
   public static final String KAFKA_READ_CYCLE_DELAY_MS = "kafka.read.cycle.delay.ms";
   public static final String KAFKA_EMPTY_POLL_SLEEP_MS = "kafka.empty.poll.sleep.ms";
   public static final String KAFKA_FETCH_MIN_SIZE_PER_SEC = "kafka.fetch.min.size.per.sec";
@@ -417,6 +422,13 @@ public class ConfigKeys {
 
   public static final String DATA_BASE_PATH = "data.base.path";
   public static final String AUTOCREATE_DATA_PATH = "autocreate.data.path";
+
+  /**
+   * Number of threads used to open the persisted storage engines and their partitions at startup. Current versions are
+   * restored before the other ones. The number of concurrent RocksDB open operations is still bounded by
+   * {@literal rocksdb.db.open.operation.throttle}. The default value 1 restores the stores sequentially.
+   */
+  public static final String SERVER_STORE_RESTORE_PARALLELISM = "server.store.restore.parallelism";
   public static final String ENABLE_SERVER_ALLOW_LIST = "enable.server.allowlist";
   public static final String MAX_ONLINE_OFFLINE_STATE_TRANSITION_THREAD_NUMBER = "max.state.transition.thread.number";
   public static final String MAX_LEADER_FOLLOWER_STATE_TRANSITION_THREAD_NUMBER =
@@ -537,6 +549,32 @@ public class ConfigKeys {
    */
   public static final String SERVER_QUOTA_ENFORCEMENT_ENABLED = "server.quota.enforcement.enabled";
 
+  /**
+   * Set to true to enforce the read quota with {@link com.linkedin.venice.throttle.GcraTokenBucket}, which is refilled
+   * continuously, instead of {@link com.linkedin.venice.throttle.TokenBucket}, which is refilled every 10 seconds.
+   */
+  public static final String SERVER_QUOTA_ENFORCEMENT_GCRA_ENABLED = "server.quota.enforcement.gcra.enabled";
+
+  /**
+   * How many milliseconds worth of read quota can be consumed at once after a period of inactivity, when
+   * {@link #SERVER_QUOTA_ENFORCEMENT_GCRA_ENABLED} is set.
+   */
+  public static final String SERVER_QUOTA_ENFORCEMENT_GCRA_BURST_CREDIT_MS =
+      "server.quota.enforcement.gcra.burst.credit.ms";
+
+  /**
+   * How often the metadata of the stores with pending metadata long poll requests from fast clients is checked for
+   * changes, which bounds how long it takes for a change to reach the clients.
+   */
+  public static final String SERVER_METADATA_LONG_POLL_CHECK_INTERVAL_MS =
+      "server.metadata.long.poll.check.interval.ms";
+
+  /**
+   * The max time a metadata long poll request is held when the metadata doesn't change, regardless of the time
+   * requested by the fast client.
+   */
+  public static final String SERVER_METADATA_LONG_POLL_MAX_WAIT_MS = "server.metadata.long.poll.max.wait.ms";
+
   /**
    * Set to true to enable disk quota usage based on partitions assignment reported by the storage node
    */
@@ -602,6 +640,13 @@ public class ConfigKeys {
    */
   public static final String SERVER_COMPUTE_FAST_AVRO_ENABLED = "server.compute.fast.avro.enabled";
 
+  /**
+   * Whether the leader applies partial updates on the serialized stored value by re-encoding only the updated fields,
+   * instead of deserializing and serializing the whole value. Stored values which are not serialized with the superset
+   * schema still take the regular path.
+   */
+  public static final String SERVER_FIELD_LEVEL_WRITE_COMPUTE_ENABLED = "server.field.level.write.compute.enabled";
+
   /**
    * Whether to enable parallel lookup for batch-get.
    */
@@ -637,6 +682,30 @@ public class ConfigKeys {
    */
   public static final String SERVER_BLOCKING_QUEUE_TYPE = "server.blocking.queue.type";
 
+  /**
+   * Whether to replace the FIFO queues of the storage execution and compute thread pools with QOS based queues, which
+   * keep one queue per store and dequeue from them in a weighted fair manner. Single-get requests get a higher QOS
+   * than batch-get requests within the same store.
+   */
+  public static final String SERVER_READ_QOS_SCHEDULING_ENABLED = "server.read.qos.scheduling.enabled";
+
+  /**
+   * Check the available policies in {@literal com.linkedin.alpini.base.queuing.QOSPolicy}.
+   * Only takes effect when {@link #SERVER_READ_QOS_SCHEDULING_ENABLED} is true.
+   */
+  public static final String SERVER_READ_QOS_POLICY = "server.read.qos.policy";
+
+  /**
+   * The fair allocation ratio among the QOS levels, in the form of LOW:NORMAL:HIGH, e.g. 5:15:80.
+   */
+  public static final String SERVER_READ_QOS_FAIR_ALLOCATION_RATIO = "server.read.qos.fair.allocation.ratio";
+
+  /**
+   * The maximum number of requests queued per store. When the queue of a store is full, server will propagate the
+   * back pressure to the caller, the same way as {@link #SERVER_DATABASE_LOOKUP_QUEUE_CAPACITY}. 0 means unbounded.
+   */
+  public static final String SERVER_READ_QOS_MAX_QUEUE_LENGTH_PER_STORE = "server.read.qos.max.queue.length.per.store";
+
   /**
    * This config is used to control how much time Server will wait for connection warming from Routers.
    * This is trying to avoid availability issue when router connection warming happens when Server restarts.
@@ -703,6 +772,27 @@ public class ConfigKeys {
   public static final String SERVER_INGESTION_ISOLATION_APPLICATION_PORT =
       "server.ingestion.isolation.application.port";
 
+  /**
+   * Whether the main process and the forked ingestion process talk over Unix domain sockets instead of TCP loopback.
+   * The TCP ports remain bound, and are used as a fallback when epoll is not available on the host.
+   */
+  public static final String SERVER_INGESTION_ISOLATION_UNIX_DOMAIN_SOCKET_ENABLED =
+      "server.ingestion.isolation.unix.domain.socket.enabled";
+
+  /**
+   * Directory of the Unix domain sockets of isolated ingestion, the data base path by default. The path of a socket is
+   * limited to 107 characters.
+   */
+  public static final String SERVER_INGESTION_ISOLATION_UNIX_DOMAIN_SOCKET_DIR =
+      "server.ingestion.isolation.unix.domain.socket.dir";
+
+  /**
+   * Whether the forked ingestion process only reports the latest of the PROGRESS reports of a partition which are
+   * pending delivery to the main process, instead of all of them.
+   */
+  public static final String SERVER_INGESTION_ISOLATION_REPORT_COALESCING_ENABLED =
+      "server.ingestion.isolation.report.coalescing.enabled";
+
   public static final String SERVER_DB_READ_ONLY_FOR_BATCH_ONLY_STORE_ENABLED =
       "server.db.read.only.for.batch.only.store.enabled";
   /**
@@ -1004,6 +1094,13 @@ public class ConfigKeys {
    */
   public static final String ROUTER_SOCKET_TIMEOUT = "router.socket.timeout";
 
+  /**
+   * Whether router should tell the storage nodes how long it is going to wait for the response, which is the socket
+   * timeout, so that they can abort the work of the requests which the router has already given up on.
+   */
+  public static final String ROUTER_STORAGE_NODE_REQUEST_TIMEOUT_PROPAGATION_ENABLED =
+      "router.storage.node.request.timeout.propagation.enabled";
+
   /**
    * Timeout for building a new connection from router to server
    */
@@ -1182,6 +1279,21 @@ public class ConfigKeys {
   public static final String NATIVE_REPLICATION_SOURCE_FABRIC_AS_DEFAULT_FOR_HYBRID_STORES =
       "native.replication.source.fabric.as.default.for.hybrid.stores";
 
+  /**
+   * The partitioner class of the new user stores, e.g. com.linkedin.venice.partitioner.XXHash64VenicePartitioner,
+   * which is cheaper to compute than the MD5 based default. The partitioner of existing stores doesn't change.
+   */
+  public static final String PARTITIONER_CLASS_AS_DEFAULT_FOR_NEW_STORES =
+      "partitioner.class.as.default.for.new.stores";
+
+  /**
+   * Whether the controller writes the store metadata to ZK with the compact Avro binary encoding instead of json.
+   * Stores are readable in both encodings, but this must only be enabled once all the routers, servers and clients of
+   * the cluster run a version able to read the binary encoding.
+   */
+  public static final String CONTROLLER_STORE_METADATA_BINARY_ENCODING_ENABLED =
+      "controller.store.metadata.binary.encoding.enabled";
+
   /**
    * We will use this config to determine whether we should enable incremental push for hybrid active-active user stores.
    * If this config is set to true, we will enable incremental push for hybrid active-active user stores.
@@ -1442,6 +1554,75 @@ public class ConfigKeys {
   public static final String ROUTER_PENDING_CONNECTION_RESUME_THRESHOLD_PER_ROUTE =
       "router.pending.connection.resume.threshold.per.host";
 
+  /**
+   * Whether Router should estimate the sustainable number of in-flight requests of each storage node from the
+   * observed latency, instead of relying on the static
+   * {@link #ROUTER_UNHEALTHY_PENDING_CONNECTION_THRESHOLD_PER_ROUTE}.
+   * A storage node which reached its limit is considered unhealthy, and the requests are rerouted to other replicas.
+   */
+  public static final String ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_ENABLED = "router.adaptive.concurrency.limit.enabled";
+
+  /**
+   * The concurrency limit of a storage node before any latency got observed.
+   */
+  public static final String ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_INITIAL = "router.adaptive.concurrency.limit.initial";
+
+  /**
+   * Lower bound of the adaptive concurrency limit of a storage node.
+   */
+  public static final String ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_MIN = "router.adaptive.concurrency.limit.min";
+
+  /**
+   * Upper bound of the adaptive concurrency limit of a storage node.
+   */
+  public static final String ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_MAX = "router.adaptive.concurrency.limit.max";
+
+  /**
+   * Comma separated list of the stores whose values are cached by Router, per key, for their single gets and batch
+   * gets, so that their hottest keys don't hot-spot the replicas holding them. The values are cached per store version,
+   * and dropped once another version becomes current. Hybrid stores are only cached if they are also listed in
+   * {@link #ROUTER_HOT_KEY_CACHE_HYBRID_STORES}.
+   */
+  public static final String ROUTER_HOT_KEY_CACHE_STORES = "router.hot.key.cache.stores";
+
+  /**
+   * Comma separated list of the hybrid stores which accept to read responses as stale as
+   * {@link #ROUTER_HOT_KEY_CACHE_TTL_MS} from the Router cache, since the nearline writes don't invalidate it.
+   */
+  public static final String ROUTER_HOT_KEY_CACHE_HYBRID_STORES = "router.hot.key.cache.hybrid.stores";
+
+  /**
+   * The max total size of the keys and the (compressed) responses cached by Router, shared by all the cached stores.
+   * Only the most frequently read keys are admitted once the cache is full.
+   */
+  public static final String ROUTER_HOT_KEY_CACHE_SIZE_IN_BYTES = "router.hot.key.cache.size.in.bytes";
+
+  /**
+   * How long a response is cached by Router after it was read from the storage nodes.
+   */
+  public static final String ROUTER_HOT_KEY_CACHE_TTL_MS = "router.hot.key.cache.ttl.ms";
+
+  /**
+   * Whether Router should estimate which partitions and keys receive the most reads, and spread the reads of the hot
+   * partitions evenly over all their ready replicas instead of following the routing strategy.
+   */
+  public static final String ROUTER_READ_HOTNESS_DETECTION_ENABLED = "router.read.hotness.detection.enabled";
+
+  /**
+   * The number of hottest partitions and keys tracked by Router.
+   */
+  public static final String ROUTER_READ_HOTNESS_TOP_K = "router.read.hotness.top.k";
+
+  /**
+   * The minimum share of the reads of a Router that a partition must receive to be considered hot.
+   */
+  public static final String ROUTER_HOT_PARTITION_READ_SHARE_THRESHOLD = "router.hot.partition.read.share.threshold";
+
+  /**
+   * How often Router refreshes the hot partitions, and halves the read counts it estimates them from.
+   */
+  public static final String ROUTER_READ_HOTNESS_REFRESH_INTERVAL_MS = "router.read.hotness.refresh.interval.ms";
+
   /**
    * Enables HttpAsyncClient allocation per storage node.
    */
@@ -1904,6 +2085,40 @@ public class ConfigKeys {
   public static final String SERVER_ENABLE_LIVE_CONFIG_BASED_KAFKA_THROTTLING =
       "server.enable.live.config.based.kafka.throttling";
 
+  /**
+   * Whether to back off the consumption of a store version whose RocksDB partitions are close to stalling their
+   * writes, because of too many L0 files or too many pending compaction bytes, before RocksDB stalls them.
+   */
+  public static final String SERVER_COMPACTION_AWARE_INGESTION_THROTTLING_ENABLED =
+      "server.compaction.aware.ingestion.throttling.enabled";
+
+  /**
+   * How often the write stall pressure of the partitions of a store version is sampled, and its allowed consumption
+   * rate adjusted. The consumption is measured and limited over the same interval.
+   */
+  public static final String SERVER_COMPACTION_AWARE_INGESTION_THROTTLING_INTERVAL_MS =
+      "server.compaction.aware.ingestion.throttling.interval.ms";
+
+  /**
+   * The write stall pressure, as a fraction of the thresholds at which RocksDB starts to slow down the writes, above
+   * which the allowed consumption rate of a store version is halved.
+   */
+  public static final String SERVER_COMPACTION_AWARE_INGESTION_THROTTLING_BACK_OFF_PRESSURE =
+      "server.compaction.aware.ingestion.throttling.back.off.pressure";
+
+  /**
+   * The write stall pressure below which the allowed consumption rate of a store version is increased again, until it
+   * isn't limited anymore.
+   */
+  public static final String SERVER_COMPACTION_AWARE_INGESTION_THROTTLING_RECOVERY_PRESSURE =
+      "server.compaction.aware.ingestion.throttling.recovery.pressure";
+
+  /**
+   * The lowest consumption rate a store version is backed off to, so that its ingestion never stops completely.
+   */
+  public static final String SERVER_COMPACTION_AWARE_INGESTION_THROTTLING_MIN_RECORDS_PER_SEC =
+      "server.compaction.aware.ingestion.throttling.min.records.per.sec";
+
   /**
    * Enable the concurrent execution of the controllers' init routines, which are executed when a controller
    * becomes a cluster leader.
@@ -0,0 +1,91 @@
+package com.linkedin.venice.blobtransfer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+
+/**
+ * The list of files of a snapshot, along with their size and checksum, which a peer serves before any file is
+ * transferred. It lets the receiving side split the transfer across peers holding identical files, verify each file
+ * once received, and skip the files which were already received by a previous attempt.
+ */
+public class BlobTransferManifest {
+  private List<FileInfo> files = new ArrayList<>();
+
+  public BlobTransferManifest() {
+  }
+
+  public BlobTransferManifest(List<FileInfo> files) {
+    this.files = files;
+  }
+
+  public List<FileInfo> getFiles() {
+    return files;
+  }
+
+  public void setFiles(List<FileInfo> files) {
+    this.files = files;
+  }
+
+  public static class FileInfo {
+    private String name;
+    private long size;
+    private long checksum;
+
+    public FileInfo() {
+    }
+
+    public FileInfo(String name, long size, long checksum) {
+      this.name = name;
+      this.size = size;
+      this.checksum = checksum;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public long getSize() {
+      return size;
+    }
+
+    public void setSize(long size) {
+      this.size = size;
+    }
+
+    public long getChecksum() {
+      return checksum;
+    }
+
+    public void setChecksum(long checksum) {
+      this.checksum = checksum;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      FileInfo fileInfo = (FileInfo) o;
+      return size == fileInfo.size && checksum == fileInfo.checksum && Objects.equals(name, fileInfo.name);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(name, size, checksum);
+    }
+
+    @Override
+    public String toString() {
+      return "FileInfo{name=" + name + ", size=" + size + ", checksum=" + checksum + "}";
+    }
+  }
+}
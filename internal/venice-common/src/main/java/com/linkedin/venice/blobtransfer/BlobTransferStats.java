@@ -0,0 +1,84 @@
+package com.linkedin.venice.blobtransfer;
+
+import com.linkedin.venice.blobtransfer.client.NettyFileTransferClient;
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.AsyncGauge;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Count;
+import io.tehuti.metrics.stats.Max;
+import io.tehuti.metrics.stats.Min;
+import io.tehuti.metrics.stats.OccurrenceRate;
+import io.tehuti.metrics.stats.Total;
+
+
+/**
+ * Stats of the parallel blob transfers of {@link NettyP2PBlobTransferManager}: the throughput and duration of each
+ * transfer, the files which did not need to be transferred because they were already present locally, either from a
+ * previous attempt of the transfer or from the previous database of the replica, and the failures.
+ */
+public class BlobTransferStats extends AbstractVeniceStats {
+  private static final double BYTES_PER_MB = 1024 * 1024;
+
+  private final Sensor transferThroughputSensor;
+  private final Sensor transferTimeSensor;
+  private final Sensor transferredBytesSensor;
+  private final Sensor resumedFileCountSensor;
+  private final Sensor reusedLocalFileCountSensor;
+  private final Sensor reusedLocalBytesSensor;
+  private final Sensor transferFailureSensor;
+  private final Sensor peerFailureSensor;
+  private final Sensor checksumMismatchSensor;
+
+  public BlobTransferStats(MetricsRepository metricsRepository, String name, NettyFileTransferClient client) {
+    super(metricsRepository, name);
+    transferThroughputSensor =
+        registerSensorIfAbsent("transfer_throughput_mb_per_sec", new Avg(), new Min(), new Max());
+    transferTimeSensor = registerSensorIfAbsent("transfer_time_in_sec", new Avg(), new Max());
+    transferredBytesSensor = registerSensorIfAbsent("transferred_bytes", new Avg(), new Max());
+    resumedFileCountSensor = registerSensorIfAbsent("resumed_file_count", new Count());
+    reusedLocalFileCountSensor = registerSensorIfAbsent("reused_local_file_count", new Total());
+    reusedLocalBytesSensor = registerSensorIfAbsent("reused_local_bytes", new Total());
+    transferFailureSensor = registerSensorIfAbsent("transfer_failure_count", new OccurrenceRate());
+    peerFailureSensor = registerSensorIfAbsent("peer_failure_count", new OccurrenceRate());
+    checksumMismatchSensor = registerSensorIfAbsent("checksum_mismatch_count", new OccurrenceRate());
+    registerSensorIfAbsent(
+        new AsyncGauge(
+            (ignored, ignored2) -> client.getThroughputBytesPerSec() / BYTES_PER_MB,
+            "global_throughput_mb_per_sec"));
+  }
+
+  public void recordTransferCompleted(long transferredBytes, double transferTimeInSec) {
+    transferredBytesSensor.record(transferredBytes);
+    transferTimeSensor.record(transferTimeInSec);
+    if (transferTimeInSec > 0) {
+      transferThroughputSensor.record(transferredBytes / BYTES_PER_MB / transferTimeInSec);
+    }
+  }
+
+  public void recordResumedFile() {
+    resumedFileCountSensor.record();
+  }
+
+  /**
+   * @param fileCount the number of files of the snapshot which were already present locally
+   * @param sizeInBytes their total size
+   */
+  public void recordLocalFilesReused(int fileCount, long sizeInBytes) {
+    reusedLocalFileCountSensor.record(fileCount);
+    reusedLocalBytesSensor.record(sizeInBytes);
+  }
+
+  public void recordTransferFailure() {
+    transferFailureSensor.record();
+  }
+
+  public void recordPeerFailure() {
+    peerFailureSensor.record();
+  }
+
+  public void recordChecksumMismatch() {
+    checksumMismatchSensor.record();
+  }
+}
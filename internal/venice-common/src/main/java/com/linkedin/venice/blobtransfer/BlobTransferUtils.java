@@ -1,6 +1,40 @@
 package com.linkedin.venice.blobtransfer;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+
 public class BlobTransferUtils {
   public static final String BLOB_TRANSFER_STATUS = "X-Blob-Transfer-Status";
   public static final String BLOB_TRANSFER_COMPLETED = "Completed";
+  /**
+   * Last part of the path to request the list of files of a snapshot: /store/version/partition/manifest
+   */
+  public static final String BLOB_TRANSFER_MANIFEST = "manifest";
+  /**
+   * Next to last part of the path to request a single file, or a byte range of it: /store/version/partition/file/name
+   */
+  public static final String BLOB_TRANSFER_FILE = "file";
+
+  private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * @return the CRC32 checksum of the whole content of the given file
+   */
+  public static long computeChecksum(File file) throws IOException {
+    CRC32 crc = new CRC32();
+    ByteBuffer buffer = ByteBuffer.allocate(CHECKSUM_BUFFER_SIZE);
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      while (channel.read(buffer) > 0) {
+        buffer.flip();
+        crc.update(buffer);
+        buffer.clear();
+      }
+    }
+    return crc.getValue();
+  }
 }
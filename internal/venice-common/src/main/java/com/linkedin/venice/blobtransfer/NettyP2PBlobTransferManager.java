@@ -3,9 +3,12 @@ package com.linkedin.venice.blobtransfer;
 import com.linkedin.venice.blobtransfer.client.NettyFileTransferClient;
 import com.linkedin.venice.blobtransfer.server.P2PBlobTransferService;
 import com.linkedin.venice.exceptions.VenicePeersNotFoundException;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import java.io.InputStream;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -14,6 +17,9 @@ import org.apache.logging.log4j.Logger;
  * Netty based P2P blob transfer manager implementation.
  * Upon start, it starts the blob transfer service and the client, so it can receive requests from peers to serve
  * blobs and in the meanwhile, it can make requests to other peers to fetch blobs.
+ *
+ * By default, a blob is fetched from a single peer as a stream of whole files. With {@code maxParallelStreams} set,
+ * it is fetched from all the peers at once by {@link ParallelBlobTransfer}, in ranges, and can be resumed if it fails.
  */
 public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void> {
   private static final Logger LOGGER = LogManager.getLogger(NettyP2PBlobTransferManager.class);
@@ -23,14 +29,46 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
   protected final NettyFileTransferClient nettyClient;
   // peer finder is responsible to find the peers that have the requested blob
   protected final BlobFinder peerFinder;
+  private final int maxParallelStreams;
+  private final long fileRangeSizeInBytes;
+  private final BlobTransferStats stats;
+  private final ExecutorService transferExecutor;
 
   public NettyP2PBlobTransferManager(
       P2PBlobTransferService blobTransferService,
       NettyFileTransferClient nettyClient,
       BlobFinder peerFinder) {
+    this(blobTransferService, nettyClient, peerFinder, 0, 0, null);
+  }
+
+  /**
+   * @param maxParallelStreams the maximum number of file ranges fetched at once for a single blob, or 0 to fetch the
+   *                           blob from a single peer
+   * @param fileRangeSizeInBytes the maximum size of a range, the unit of work spread across the peers
+   * @param stats the stats of the parallel transfers, or null
+   */
+  public NettyP2PBlobTransferManager(
+      P2PBlobTransferService blobTransferService,
+      NettyFileTransferClient nettyClient,
+      BlobFinder peerFinder,
+      int maxParallelStreams,
+      long fileRangeSizeInBytes,
+      BlobTransferStats stats) {
+    if (maxParallelStreams > 0 && fileRangeSizeInBytes <= 0) {
+      throw new IllegalArgumentException("The file range size must be positive, got: " + fileRangeSizeInBytes);
+    }
     this.blobTransferService = blobTransferService;
     this.nettyClient = nettyClient;
     this.peerFinder = peerFinder;
+    this.maxParallelStreams = maxParallelStreams;
+    this.fileRangeSizeInBytes = fileRangeSizeInBytes;
+    this.stats = stats;
+    // Only runs the bookkeeping of the transfers and the checksum verification, the I/O happens in the Netty client
+    this.transferExecutor = maxParallelStreams > 0
+        ? Executors.newFixedThreadPool(
+            Math.min(maxParallelStreams, Runtime.getRuntime().availableProcessors()),
+            new DaemonThreadFactory("ParallelBlobTransfer"))
+        : null;
   }
 
   @Override
@@ -50,6 +88,20 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
     if (discoverPeers == null || discoverPeers.isEmpty()) {
       throw new VenicePeersNotFoundException("No peers found for the requested blob");
     }
+    if (maxParallelStreams > 0) {
+      // The files are written straight to the partition directory, there is no stream to hand over
+      return new ParallelBlobTransfer(
+          nettyClient,
+          nettyClient.getBaseDir(),
+          storeName,
+          version,
+          partition,
+          discoverPeers,
+          maxParallelStreams,
+          fileRangeSizeInBytes,
+          stats,
+          transferExecutor).start().thenApply(ignored -> null);
+    }
     try {
       // TODO: add some retry logic or strategy to choose the peers differently in case of failure
       String chosenHost = discoverPeers.get(0);
@@ -66,5 +118,8 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
   public void close() throws Exception {
     blobTransferService.close();
     nettyClient.close();
+    if (transferExecutor != null) {
+      transferExecutor.shutdownNow();
+    }
   }
 }
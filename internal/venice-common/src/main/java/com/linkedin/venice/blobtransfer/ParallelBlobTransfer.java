@@ -0,0 +1,484 @@
+package com.linkedin.venice.blobtransfer;
+
+import com.linkedin.venice.blobtransfer.client.NettyFileTransferClient;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.exceptions.VenicePeersNotFoundException;
+import com.linkedin.venice.utils.LatencyUtils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A single transfer of the snapshot of a partition from several peers in parallel:
+ *
+ * 1. The {@link BlobTransferManifest} is fetched from every peer. Each replica has its own RocksDB instance, so peers
+ *    do not necessarily hold the same files: the manifest shared by most peers is the one being transferred, and each
+ *    file is only fetched from the peers holding exactly the same file, as told by its size and checksum.
+ * 2. The files are split into ranges of at most {@code fileRangeSizeInBytes}, which are fetched by up to
+ *    {@code maxParallelStreams} streams, each range from the next peer holding the file in a round-robin fashion.
+ * 3. A range which failed is fetched again from another peer, and the failed peer is not used anymore by this transfer.
+ * 4. Once all the ranges of a file are received, its checksum is verified, and the file is recorded in a journal kept
+ *    in the partition directory. If the transfer fails, the next transfer of the same partition skips the files
+ *    recorded in the journal, as long as they are still part of the manifest.
+ *
+ * Only the files missing locally, or differing from the ones of the manifest, are transferred: when a replica restarts
+ * with its previous database, most of its SST files are immutable and already there, so the partition directory ends
+ * up with the same files as the snapshot of the peers, mostly out of its own files. Since the transferred files are
+ * written straight to the partition directory, the local files which are not part of the manifest are deleted.
+ */
+class ParallelBlobTransfer {
+  private static final Logger LOGGER = LogManager.getLogger(ParallelBlobTransfer.class);
+  static final String COMPLETED_FILES_JOURNAL = ".blob_transfer_completed_files";
+  static final int MAX_FILE_ATTEMPTS = 3;
+
+  private final NettyFileTransferClient client;
+  private final String storeName;
+  private final int version;
+  private final int partition;
+  private final BlobTransferPayload payload;
+  private final List<String> peers;
+  private final int maxParallelStreams;
+  private final long fileRangeSizeInBytes;
+  private final BlobTransferStats stats;
+  private final Executor executor;
+  private final Path partitionDir;
+  private final Path journal;
+
+  private final CompletableFuture<Void> result = new CompletableFuture<>();
+  private final Queue<FileRange> pendingRanges = new ConcurrentLinkedQueue<>();
+  private final Set<String> failedPeers = VeniceConcurrentHashMap.newKeySet();
+  private final List<FileState> fileStates = new ArrayList<>();
+  private final AtomicInteger activeStreamCount = new AtomicInteger();
+  private final AtomicInteger peerCursor = new AtomicInteger();
+  private final AtomicInteger remainingFileCount = new AtomicInteger();
+  private final AtomicLong transferredBytes = new AtomicLong();
+  private long startTimeNs;
+
+  ParallelBlobTransfer(
+      NettyFileTransferClient client,
+      String baseDir,
+      String storeName,
+      int version,
+      int partition,
+      List<String> peers,
+      int maxParallelStreams,
+      long fileRangeSizeInBytes,
+      BlobTransferStats stats,
+      Executor executor) {
+    this.client = client;
+    this.storeName = storeName;
+    this.version = version;
+    this.partition = partition;
+    this.payload = new BlobTransferPayload(baseDir, storeName, version, partition);
+    this.peers = peers;
+    this.maxParallelStreams = maxParallelStreams;
+    this.fileRangeSizeInBytes = fileRangeSizeInBytes;
+    this.stats = stats;
+    this.executor = executor;
+    this.partitionDir = Paths.get(payload.getPartitionDir());
+    this.journal = partitionDir.resolve(COMPLETED_FILES_JOURNAL);
+  }
+
+  CompletableFuture<Void> start() {
+    startTimeNs = System.nanoTime();
+    fetchManifests().thenAcceptAsync(this::prepare, executor).exceptionally(e -> {
+      fail(e);
+      return null;
+    });
+    return result;
+  }
+
+  /**
+   * @return the manifest of each peer which replied, in the order of {@link #peers}
+   */
+  private CompletableFuture<Map<String, BlobTransferManifest>> fetchManifests() {
+    Map<String, CompletableFuture<BlobTransferManifest>> manifestFutures = new LinkedHashMap<>();
+    for (String peer: peers) {
+      manifestFutures.put(peer, client.getManifest(peer, storeName, version, partition));
+    }
+    CompletableFuture<?>[] settledFutures =
+        manifestFutures.values().stream().map(future -> future.handle((m, e) -> m)).toArray(CompletableFuture[]::new);
+    return CompletableFuture.allOf(settledFutures).thenApply(ignored -> {
+      Map<String, BlobTransferManifest> manifests = new LinkedHashMap<>();
+      manifestFutures.forEach((peer, future) -> {
+        BlobTransferManifest manifest = future.handle((m, e) -> {
+          if (e != null) {
+            onPeerFailure(peer, e);
+          }
+          return m;
+        }).join();
+        if (manifest != null) {
+          manifests.put(peer, manifest);
+        }
+      });
+      return manifests;
+    });
+  }
+
+  private void prepare(Map<String, BlobTransferManifest> manifests) {
+    try {
+      BlobTransferManifest manifest = selectManifest(manifests);
+      Files.createDirectories(partitionDir);
+
+      Set<BlobTransferManifest.FileInfo> completedFiles = readJournal();
+      Set<String> fileNames = new HashSet<>();
+      manifest.getFiles().forEach(fileInfo -> fileNames.add(fileInfo.getName()));
+      // The leftovers of a previous transfer of a different snapshot
+      File[] localFiles = partitionDir.toFile().listFiles();
+      if (localFiles != null) {
+        for (File localFile: localFiles) {
+          if (!fileNames.contains(localFile.getName()) && !localFile.getName().equals(COMPLETED_FILES_JOURNAL)) {
+            Files.delete(localFile.toPath());
+          }
+        }
+      }
+
+      List<BlobTransferManifest.FileInfo> localFileInfos = new ArrayList<>();
+      int resumedFileCount = 0;
+      long reusedBytes = 0;
+      for (BlobTransferManifest.FileInfo fileInfo: manifest.getFiles()) {
+        Path file = partitionDir.resolve(fileInfo.getName());
+        if (Files.exists(file) && Files.size(file) == fileInfo.getSize()) {
+          if (completedFiles.contains(fileInfo)) {
+            localFileInfos.add(fileInfo);
+            resumedFileCount++;
+            if (stats != null) {
+              stats.recordResumedFile();
+            }
+            continue;
+          }
+          // The size is only a cheap filter, the SST files of distinct RocksDB instances share the same names
+          if (BlobTransferUtils.computeChecksum(file.toFile()) == fileInfo.getChecksum()) {
+            localFileInfos.add(fileInfo);
+            reusedBytes += fileInfo.getSize();
+            continue;
+          }
+        }
+        List<String> sources = new ArrayList<>();
+        manifests.forEach((peer, peerManifest) -> {
+          if (peerManifest.getFiles().contains(fileInfo)) {
+            sources.add(peer);
+          }
+        });
+        fileStates.add(new FileState(fileInfo, sources));
+      }
+      // So that the local files do not need to be verified again if the transfer gets resumed
+      writeJournal(localFileInfos);
+      if (stats != null) {
+        stats.recordLocalFilesReused(localFileInfos.size() - resumedFileCount, reusedBytes);
+      }
+      LOGGER.info(
+          "Transferring {} files of {} from {} peers, {} files were already transferred, {} files ({} bytes) were"
+              + " already present locally",
+          fileStates.size(),
+          payload.getFullResourceName(),
+          manifests.size(),
+          resumedFileCount,
+          localFileInfos.size() - resumedFileCount,
+          reusedBytes);
+
+      if (fileStates.isEmpty()) {
+        finish();
+        return;
+      }
+      // The largest files first, so that the streams remain busy until the end
+      fileStates.sort(Comparator.comparingLong((FileState fileState) -> fileState.fileInfo.getSize()).reversed());
+      remainingFileCount.set(fileStates.size());
+      for (FileState fileState: fileStates) {
+        fileState.open();
+        if (fileState.ranges.isEmpty()) {
+          // Nothing to fetch for an empty file
+          verifyFile(fileState);
+        } else {
+          pendingRanges.addAll(fileState.ranges);
+        }
+      }
+      maybeStartStreams();
+    } catch (Exception e) {
+      fail(e);
+    }
+  }
+
+  /**
+   * @return the manifest shared by most peers, so that each file can be fetched from as many peers as possible
+   */
+  private BlobTransferManifest selectManifest(Map<String, BlobTransferManifest> manifests) {
+    if (manifests.isEmpty()) {
+      throw new VenicePeersNotFoundException(
+          "Failed to fetch the manifest of " + payload.getFullResourceName() + " from any of the peers: " + peers);
+    }
+    Map<List<BlobTransferManifest.FileInfo>, Integer> peerCounts = new LinkedHashMap<>();
+    manifests.values().forEach(manifest -> peerCounts.merge(manifest.getFiles(), 1, Integer::sum));
+    // Collections.max returns the first of the maximal elements, i.e. ties go to the first peer which replied
+    return new BlobTransferManifest(Collections.max(peerCounts.entrySet(), Map.Entry.comparingByValue()).getKey());
+  }
+
+  private void maybeStartStreams() {
+    while (!result.isDone() && !pendingRanges.isEmpty()) {
+      int activeStreams = activeStreamCount.get();
+      if (activeStreams >= maxParallelStreams) {
+        return;
+      }
+      if (activeStreamCount.compareAndSet(activeStreams, activeStreams + 1)) {
+        executor.execute(this::runStream);
+      }
+    }
+  }
+
+  /**
+   * Fetch the pending ranges one after the other, until there is none left.
+   */
+  private void runStream() {
+    FileRange range = result.isDone() ? null : pendingRanges.poll();
+    if (range == null) {
+      activeStreamCount.decrementAndGet();
+      // A failed range might have been added back in the meantime
+      maybeStartStreams();
+      return;
+    }
+    String peer = pickPeer(range.fileState);
+    if (peer == null) {
+      activeStreamCount.decrementAndGet();
+      fail(
+          new VenicePeersNotFoundException(
+              "No peer left to fetch " + range.fileState.fileInfo.getName() + " of " + payload.getFullResourceName()));
+      return;
+    }
+    client
+        .getFileRange(
+            peer,
+            storeName,
+            version,
+            partition,
+            range.fileState.fileInfo.getName(),
+            range.offset,
+            range.length,
+            range.fileState.channel)
+        .whenCompleteAsync((receivedBytes, throwable) -> {
+          if (throwable != null) {
+            onPeerFailure(peer, throwable);
+            pendingRanges.add(range);
+          } else {
+            transferredBytes.addAndGet(receivedBytes);
+            if (range.fileState.remainingRangeCount.decrementAndGet() == 0) {
+              verifyFile(range.fileState);
+            }
+          }
+          runStream();
+        }, executor);
+  }
+
+  /**
+   * @return the next peer holding the given file which did not fail yet, or null if there is none
+   */
+  private String pickPeer(FileState fileState) {
+    List<String> candidates = new ArrayList<>(fileState.sources.size());
+    for (String source: fileState.sources) {
+      if (!failedPeers.contains(source)) {
+        candidates.add(source);
+      }
+    }
+    if (candidates.isEmpty()) {
+      return null;
+    }
+    return candidates.get(Math.floorMod(peerCursor.getAndIncrement(), candidates.size()));
+  }
+
+  private void onPeerFailure(String peer, Throwable throwable) {
+    if (failedPeers.add(peer)) {
+      LOGGER.warn(
+          "Failed to transfer {} from peer {}, the transfer continues with the other peers",
+          payload.getFullResourceName(),
+          peer,
+          throwable);
+      if (stats != null) {
+        stats.recordPeerFailure();
+      }
+    }
+  }
+
+  private void verifyFile(FileState fileState) {
+    try {
+      fileState.channel.force(true);
+      long checksum = BlobTransferUtils.computeChecksum(partitionDir.resolve(fileState.fileInfo.getName()).toFile());
+      if (checksum != fileState.fileInfo.getChecksum()) {
+        if (stats != null) {
+          stats.recordChecksumMismatch();
+        }
+        if (fileState.attemptCount.incrementAndGet() >= MAX_FILE_ATTEMPTS) {
+          throw new VeniceException(
+              "Checksum mismatch for " + fileState.fileInfo + " of " + payload.getFullResourceName() + " after "
+                  + MAX_FILE_ATTEMPTS + " attempts, actual checksum: " + checksum);
+        }
+        LOGGER.warn(
+            "Checksum mismatch for {} of {}, actual checksum: {}, fetching it again",
+            fileState.fileInfo,
+            payload.getFullResourceName(),
+            checksum);
+        fileState.remainingRangeCount.set(fileState.ranges.size());
+        pendingRanges.addAll(fileState.ranges);
+        maybeStartStreams();
+        return;
+      }
+      fileState.channel.close();
+      appendToJournal(fileState.fileInfo);
+      if (remainingFileCount.decrementAndGet() == 0) {
+        finish();
+      }
+    } catch (Exception e) {
+      fail(e);
+    }
+  }
+
+  private void finish() throws IOException {
+    Files.deleteIfExists(journal);
+    double transferTimeInSec = LatencyUtils.getElapsedTimeFromNSToMS(startTimeNs) / 1000;
+    LOGGER.info(
+        "Transferred {} bytes of {} in {} seconds",
+        transferredBytes.get(),
+        payload.getFullResourceName(),
+        transferTimeInSec);
+    if (stats != null) {
+      stats.recordTransferCompleted(transferredBytes.get(), transferTimeInSec);
+    }
+    result.complete(null);
+  }
+
+  private void fail(Throwable throwable) {
+    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+        ? throwable.getCause()
+        : throwable;
+    if (!result.completeExceptionally(cause)) {
+      return;
+    }
+    LOGGER.error("Failed to transfer {}", payload.getFullResourceName(), cause);
+    if (stats != null) {
+      stats.recordTransferFailure();
+    }
+    for (FileState fileState: fileStates) {
+      fileState.closeQuietly();
+    }
+  }
+
+  private Set<BlobTransferManifest.FileInfo> readJournal() throws IOException {
+    Set<BlobTransferManifest.FileInfo> completedFiles = new HashSet<>();
+    if (!Files.exists(journal)) {
+      return completedFiles;
+    }
+    for (String line: Files.readAllLines(journal, StandardCharsets.UTF_8)) {
+      String[] parts = line.split("\t");
+      // A partially written line is ignored
+      if (parts.length == 3) {
+        try {
+          completedFiles.add(
+              new BlobTransferManifest.FileInfo(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2])));
+        } catch (NumberFormatException e) {
+          LOGGER.warn("Ignoring invalid line: {} in {}", line, journal);
+        }
+      }
+    }
+    return completedFiles;
+  }
+
+  private void writeJournal(List<BlobTransferManifest.FileInfo> fileInfos) throws IOException {
+    StringBuilder content = new StringBuilder();
+    fileInfos.forEach(fileInfo -> content.append(toJournalLine(fileInfo)));
+    Files.write(
+        journal,
+        content.toString().getBytes(StandardCharsets.UTF_8),
+        StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING,
+        StandardOpenOption.WRITE,
+        StandardOpenOption.DSYNC);
+  }
+
+  private synchronized void appendToJournal(BlobTransferManifest.FileInfo fileInfo) throws IOException {
+    Files.write(
+        journal,
+        toJournalLine(fileInfo).getBytes(StandardCharsets.UTF_8),
+        StandardOpenOption.CREATE,
+        StandardOpenOption.APPEND,
+        StandardOpenOption.DSYNC);
+  }
+
+  private static String toJournalLine(BlobTransferManifest.FileInfo fileInfo) {
+    return fileInfo.getName() + "\t" + fileInfo.getSize() + "\t" + fileInfo.getChecksum() + "\n";
+  }
+
+  private class FileState {
+    private final BlobTransferManifest.FileInfo fileInfo;
+    private final List<String> sources;
+    private final List<FileRange> ranges = new ArrayList<>();
+    private final AtomicInteger remainingRangeCount = new AtomicInteger();
+    private final AtomicInteger attemptCount = new AtomicInteger();
+    private FileChannel channel;
+
+    FileState(BlobTransferManifest.FileInfo fileInfo, List<String> sources) {
+      this.fileInfo = fileInfo;
+      this.sources = sources;
+      for (long offset = 0; offset < fileInfo.getSize(); offset += fileRangeSizeInBytes) {
+        ranges.add(new FileRange(this, offset, Math.min(fileRangeSizeInBytes, fileInfo.getSize() - offset)));
+      }
+      remainingRangeCount.set(ranges.size());
+    }
+
+    /**
+     * Create the file with its final size, so that its ranges can be written in any order.
+     */
+    void open() throws IOException {
+      Path file = partitionDir.resolve(fileInfo.getName());
+      Files.deleteIfExists(file);
+      RandomAccessFile randomAccessFile = new RandomAccessFile(file.toFile(), "rw");
+      randomAccessFile.setLength(fileInfo.getSize());
+      channel = randomAccessFile.getChannel();
+    }
+
+    void closeQuietly() {
+      if (channel == null) {
+        return;
+      }
+      try {
+        channel.close();
+      } catch (IOException e) {
+        LOGGER.warn("Failed to close {} of {}", fileInfo.getName(), payload.getFullResourceName(), e);
+      }
+    }
+  }
+
+  private static class FileRange {
+    private final FileState fileState;
+    private final long offset;
+    private final long length;
+
+    FileRange(FileState fileState, long offset, long length) {
+      this.fileState = fileState;
+      this.offset = offset;
+      this.length = length;
+    }
+  }
+}
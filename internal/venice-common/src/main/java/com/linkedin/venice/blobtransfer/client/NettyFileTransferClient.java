@@ -1,7 +1,14 @@
 package com.linkedin.venice.blobtransfer.client;
 
+import static com.linkedin.venice.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_FILE;
+import static com.linkedin.venice.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_MANIFEST;
+
+import com.linkedin.venice.blobtransfer.BlobTransferManifest;
+import com.linkedin.venice.blobtransfer.BlobTransferPayload;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
@@ -11,33 +18,49 @@ import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.traffic.GlobalTrafficShapingHandler;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 
 public class NettyFileTransferClient {
+  private static final int MAX_MANIFEST_SIZE_IN_BYTES = 16 * 1024 * 1024;
+
   EventLoopGroup workerGroup;
   Bootstrap clientBootstrap;
   private final String baseDir;
   private final int serverPort;
+  // shared by all the channels, to cap the bandwidth used by all the transfers and to measure it
+  private final GlobalTrafficShapingHandler trafficShapingHandler;
 
   // TODO 1: move tunable configs to a config class
   // TODO 2: consider either increasing worker threads or have a dedicated thread pool to handle requests.
   public NettyFileTransferClient(int serverPort, String baseDir) {
+    this(serverPort, baseDir, 0);
+  }
+
+  /**
+   * @param maxBandwidthBytesPerSec the cap of the bandwidth used by all the transfers of this client, 0 means unlimited
+   */
+  public NettyFileTransferClient(int serverPort, String baseDir, long maxBandwidthBytesPerSec) {
     this.baseDir = baseDir;
     this.serverPort = serverPort;
     clientBootstrap = new Bootstrap();
     workerGroup = new NioEventLoopGroup();
+    trafficShapingHandler = new GlobalTrafficShapingHandler(workerGroup, 0, maxBandwidthBytesPerSec);
     clientBootstrap.group(workerGroup);
     clientBootstrap.channel(NioSocketChannel.class);
     clientBootstrap.option(ChannelOption.SO_KEEPALIVE, true);
     clientBootstrap.handler(new ChannelInitializer<SocketChannel>() {
       @Override
       public void initChannel(SocketChannel ch) {
-        ch.pipeline().addLast(new HttpClientCodec());
+        ch.pipeline().addLast(trafficShapingHandler).addLast(new HttpClientCodec());
       }
     });
   }
@@ -46,7 +69,7 @@ public class NettyFileTransferClient {
       throws InterruptedException {
     CompletionStage<InputStream> inputStream = new CompletableFuture<>();
     // Connects to the remote host
-    Channel ch = clientBootstrap.connect(host, serverPort).sync().channel();
+    Channel ch = clientBootstrap.connect(getHostName(host), getPort(host)).sync().channel();
     // Attach the file handler to the pipeline
     ch.pipeline().addLast(new P2PFileTransferClientHandler(baseDir, inputStream, storeName, version, partition));
     // Send a GET request
@@ -54,10 +77,109 @@ public class NettyFileTransferClient {
     return inputStream;
   }
 
+  /**
+   * Fetch the list of files of the snapshot of the given partition, with their size and checksum.
+   */
+  public CompletableFuture<BlobTransferManifest> getManifest(
+      String host,
+      String storeName,
+      int version,
+      int partition) {
+    CompletableFuture<BlobTransferManifest> manifestFuture = new CompletableFuture<>();
+    String resourceName = new BlobTransferPayload(baseDir, storeName, version, partition).getFullResourceName();
+    send(
+        host,
+        new DefaultFullHttpRequest(
+            HttpVersion.HTTP_1_1,
+            HttpMethod.GET,
+            String.format("/%s/%d/%d/%s", storeName, version, partition, BLOB_TRANSFER_MANIFEST)),
+        manifestFuture,
+        new HttpObjectAggregator(MAX_MANIFEST_SIZE_IN_BYTES),
+        new P2PManifestClientHandler(manifestFuture, resourceName));
+    return manifestFuture;
+  }
+
+  /**
+   * Fetch {@code length} bytes of the given file of the snapshot of the given partition, starting at {@code offset},
+   * and write them at the same position of {@code outputFileChannel}.
+   *
+   * @return a future completed with the number of bytes received.
+   */
+  public CompletableFuture<Long> getFileRange(
+      String host,
+      String storeName,
+      int version,
+      int partition,
+      String fileName,
+      long offset,
+      long length,
+      FileChannel outputFileChannel) {
+    CompletableFuture<Long> rangeFuture = new CompletableFuture<>();
+    FullHttpRequest request = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.GET,
+        String.format("/%s/%d/%d/%s/%s", storeName, version, partition, BLOB_TRANSFER_FILE, fileName));
+    request.headers().set(HttpHeaderNames.RANGE, "bytes=" + offset + "-" + (offset + length - 1));
+    String description = fileName + "[" + offset + "-" + (offset + length - 1) + "] of "
+        + new BlobTransferPayload(baseDir, storeName, version, partition).getFullResourceName() + " from " + host;
+    send(
+        host,
+        request,
+        rangeFuture,
+        new P2PFileRangeClientHandler(rangeFuture, outputFileChannel, description, offset, length));
+    return rangeFuture;
+  }
+
+  /**
+   * @return the throughput of all the transfers of this client over the last second, in bytes per second
+   */
+  public long getThroughputBytesPerSec() {
+    return trafficShapingHandler.trafficCounter().lastReadThroughput();
+  }
+
+  public String getBaseDir() {
+    return baseDir;
+  }
+
   public void close() {
+    trafficShapingHandler.release();
     workerGroup.shutdownGracefully();
   }
 
+  /**
+   * Connect to the given host without blocking, and send the request once the given handlers got attached.
+   */
+  private void send(String host, FullHttpRequest request, CompletableFuture<?> future, ChannelHandler... handlers) {
+    clientBootstrap.connect(getHostName(host), getPort(host)).addListener((ChannelFutureListener) connectFuture -> {
+      if (!connectFuture.isSuccess()) {
+        request.release();
+        future.completeExceptionally(connectFuture.cause());
+        return;
+      }
+      Channel ch = connectFuture.channel();
+      ch.pipeline().addLast(handlers);
+      ch.writeAndFlush(request);
+    });
+  }
+
+  /**
+   * Peers are usually identified by their host name, and serve blobs on the same port as this host, but a peer can
+   * also be identified by "host:port".
+   */
+  private String getHostName(String host) {
+    return hasPort(host) ? host.substring(0, host.indexOf(':')) : host;
+  }
+
+  private int getPort(String host) {
+    return hasPort(host) ? Integer.parseInt(host.substring(host.indexOf(':') + 1)) : serverPort;
+  }
+
+  private static boolean hasPort(String host) {
+    // IPv6 addresses contain several colons
+    int separatorIndex = host.indexOf(':');
+    return separatorIndex > 0 && separatorIndex == host.lastIndexOf(':');
+  }
+
   private FullHttpRequest prepareRequest(String storeName, int version, int partition) {
     return new DefaultFullHttpRequest(
         HttpVersion.HTTP_1_1,
@@ -0,0 +1,92 @@
+package com.linkedin.venice.blobtransfer.client;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.LastHttpContent;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * The client-side Netty handler to receive a byte range of a single file from a peer, and write it at the same
+ * position of the local file, so that several ranges of the same file can be received in parallel. It's not shareable
+ * among multiple requests. The future completes with the number of bytes received.
+ */
+public class P2PFileRangeClientHandler extends SimpleChannelInboundHandler<HttpObject> {
+  private final CompletableFuture<Long> rangeFuture;
+  private final FileChannel outputFileChannel;
+  private final String description;
+  private final long offset;
+  private final long length;
+  private long receivedBytes = 0;
+  private boolean responseReceived = false;
+
+  public P2PFileRangeClientHandler(
+      CompletableFuture<Long> rangeFuture,
+      FileChannel outputFileChannel,
+      String description,
+      long offset,
+      long length) {
+    this.rangeFuture = rangeFuture;
+    this.outputFileChannel = outputFileChannel;
+    this.description = description;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  @Override
+  protected void channelRead0(ChannelHandlerContext ctx, HttpObject msg) throws Exception {
+    if (msg instanceof HttpResponse) {
+      HttpResponse response = (HttpResponse) msg;
+      HttpResponseStatus status = response.status();
+      if (!status.equals(HttpResponseStatus.OK) && !status.equals(HttpResponseStatus.PARTIAL_CONTENT)) {
+        throw new VeniceException("Failed to fetch " + description + " from remote peer. Response: " + status);
+      }
+      String contentLength = response.headers().get(HttpHeaderNames.CONTENT_LENGTH);
+      if (contentLength == null || Long.parseLong(contentLength) != length) {
+        throw new VeniceException(
+            "Content length mismatch for " + description + ". Expected: " + length + ", Actual: " + contentLength);
+      }
+      responseReceived = true;
+    }
+    if (msg instanceof HttpContent) {
+      if (!responseReceived) {
+        throw new VeniceException("Received content before the response for " + description);
+      }
+      ByteBuf byteBuf = ((HttpContent) msg).content();
+      while (byteBuf.isReadable()) {
+        receivedBytes += byteBuf.readBytes(outputFileChannel, offset + receivedBytes, byteBuf.readableBytes());
+      }
+      if (msg instanceof LastHttpContent) {
+        if (receivedBytes != length) {
+          throw new VeniceException(
+              "Size mismatch for " + description + ". Expected: " + length + ", Actual: " + receivedBytes);
+        }
+        rangeFuture.complete(receivedBytes);
+        ctx.close();
+      }
+    }
+  }
+
+  @Override
+  public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+    super.channelInactive(ctx);
+    // No-op if the range was received entirely
+    rangeFuture.completeExceptionally(
+        new VeniceException(
+            "Connection closed after receiving " + receivedBytes + " out of " + length + " bytes of " + description));
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+    rangeFuture.completeExceptionally(cause);
+    ctx.close();
+  }
+}
@@ -0,0 +1,53 @@
+package com.linkedin.venice.blobtransfer.client;
+
+import com.linkedin.venice.blobtransfer.BlobTransferManifest;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ObjectMapperFactory;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * The client-side Netty handler to receive the {@link BlobTransferManifest} of a snapshot from a peer. It expects an
+ * aggregated response, and is not shareable among multiple requests.
+ */
+public class P2PManifestClientHandler extends SimpleChannelInboundHandler<FullHttpResponse> {
+  private final CompletableFuture<BlobTransferManifest> manifestFuture;
+  private final String resourceName;
+
+  public P2PManifestClientHandler(CompletableFuture<BlobTransferManifest> manifestFuture, String resourceName) {
+    this.manifestFuture = manifestFuture;
+    this.resourceName = resourceName;
+  }
+
+  @Override
+  protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse response) throws Exception {
+    if (!response.status().equals(HttpResponseStatus.OK)) {
+      throw new VeniceException(
+          "Failed to fetch the manifest of " + resourceName + " from remote peer. Response: " + response.status()
+              + ", " + response.content().toString(StandardCharsets.UTF_8));
+    }
+    try (ByteBufInputStream inputStream = new ByteBufInputStream(response.content())) {
+      manifestFuture.complete(ObjectMapperFactory.getInstance().readValue(inputStream, BlobTransferManifest.class));
+    }
+    ctx.close();
+  }
+
+  @Override
+  public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+    super.channelInactive(ctx);
+    manifestFuture.completeExceptionally(
+        new VeniceException("Connection closed before receiving the manifest of " + resourceName));
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+    manifestFuture.completeExceptionally(cause);
+    ctx.close();
+  }
+}
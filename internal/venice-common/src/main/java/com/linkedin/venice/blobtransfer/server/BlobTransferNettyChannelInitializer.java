@@ -7,13 +7,21 @@ import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpServerCodec;
 import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.handler.timeout.IdleStateHandler;
+import io.netty.handler.traffic.GlobalTrafficShapingHandler;
 
 
 public class BlobTransferNettyChannelInitializer extends ChannelInitializer<SocketChannel> {
   private final String baseDir;
+  private final SnapshotManifestProvider manifestProvider;
+  private final GlobalTrafficShapingHandler trafficShapingHandler;
 
-  public BlobTransferNettyChannelInitializer(String baseDir) {
+  public BlobTransferNettyChannelInitializer(
+      String baseDir,
+      SnapshotManifestProvider manifestProvider,
+      GlobalTrafficShapingHandler trafficShapingHandler) {
     this.baseDir = baseDir;
+    this.manifestProvider = manifestProvider;
+    this.trafficShapingHandler = trafficShapingHandler;
   }
 
   @Override
@@ -21,6 +29,8 @@ public class BlobTransferNettyChannelInitializer extends ChannelInitializer<Sock
     ChannelPipeline pipeline = ch.pipeline();
 
     pipeline
+        // for capping the bandwidth used by all the transfers served by this host
+        .addLast("trafficShaping", trafficShapingHandler)
         // for http encoding/decoding.
         .addLast("codec", new HttpServerCodec())
         .addLast("aggregator", new HttpObjectAggregator(65536))
@@ -29,6 +39,6 @@ public class BlobTransferNettyChannelInitializer extends ChannelInitializer<Sock
         // for safe writing of chunks for responses
         .addLast("chunker", new ChunkedWriteHandler())
         // for handling p2p file transfer
-        .addLast("p2pFileTransferHandler", new P2PFileTransferServerHandler(baseDir));
+        .addLast("p2pFileTransferHandler", new P2PFileTransferServerHandler(baseDir, manifestProvider));
   }
 }
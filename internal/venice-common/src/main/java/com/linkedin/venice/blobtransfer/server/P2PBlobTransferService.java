@@ -11,6 +11,7 @@ import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.traffic.GlobalTrafficShapingHandler;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -23,6 +24,8 @@ public class P2PBlobTransferService extends AbstractVeniceService {
   private EventLoopGroup workerGroup;
   private final int port;
   private ChannelFuture channelFuture;
+  private final SnapshotManifestProvider manifestProvider;
+  private final GlobalTrafficShapingHandler trafficShapingHandler;
   // TODO 1: move tunable configs to a config class
   // TODO 2: add SSL/auth/Quota support
   // TODO 3: consider adding support for HTTP2
@@ -31,6 +34,13 @@ public class P2PBlobTransferService extends AbstractVeniceService {
   // TODO 6: consider either increasing worker threads or have a dedicated thread pool to handle requests.
 
   public P2PBlobTransferService(int port, String baseDir) {
+    this(port, baseDir, 0);
+  }
+
+  /**
+   * @param maxBandwidthBytesPerSec the cap of the bandwidth used to serve all the transfers, 0 means unlimited
+   */
+  public P2PBlobTransferService(int port, String baseDir, long maxBandwidthBytesPerSec) {
     this.port = port;
     this.serverBootstrap = new ServerBootstrap();
 
@@ -45,9 +55,12 @@ public class P2PBlobTransferService extends AbstractVeniceService {
       workerGroup = new NioEventLoopGroup(6);
     }
 
+    manifestProvider = new SnapshotManifestProvider(2);
+    trafficShapingHandler = new GlobalTrafficShapingHandler(workerGroup, maxBandwidthBytesPerSec, 0);
+
     serverBootstrap.group(bossGroup, workerGroup)
         .channel(socketChannelClass)
-        .childHandler(new BlobTransferNettyChannelInitializer(baseDir))
+        .childHandler(new BlobTransferNettyChannelInitializer(baseDir, manifestProvider, trafficShapingHandler))
         .option(ChannelOption.SO_BACKLOG, 1000)
         .option(ChannelOption.SO_REUSEADDR, true)
         .childOption(ChannelOption.SO_KEEPALIVE, true)
@@ -65,6 +78,8 @@ public class P2PBlobTransferService extends AbstractVeniceService {
   @Override
   public void stopInner() throws Exception {
     LOGGER.info("Shutting down NettyP2PBlobTransferManager");
+    trafficShapingHandler.release();
+    manifestProvider.close();
     bossGroup.shutdownGracefully();
     workerGroup.shutdownGracefully();
     channelFuture.channel().closeFuture().sync();
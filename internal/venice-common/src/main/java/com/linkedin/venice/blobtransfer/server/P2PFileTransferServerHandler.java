@@ -1,12 +1,15 @@
 package com.linkedin.venice.blobtransfer.server;
 
 import static com.linkedin.venice.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_COMPLETED;
+import static com.linkedin.venice.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_FILE;
+import static com.linkedin.venice.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_MANIFEST;
 import static com.linkedin.venice.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_STATUS;
 import static com.linkedin.venice.utils.NettyUtils.setupResponseAndFlush;
 import static io.netty.handler.codec.http.HttpHeaderValues.APPLICATION_OCTET_STREAM;
 
 import com.linkedin.venice.blobtransfer.BlobTransferPayload;
 import com.linkedin.venice.request.RequestHelper;
+import com.linkedin.venice.utils.ObjectMapperFactory;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
@@ -30,6 +33,8 @@ import io.netty.handler.timeout.IdleStateEvent;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -37,15 +42,29 @@ import org.apache.logging.log4j.Logger;
 /**
  * The server-side Netty handler to process requests for P2P file transfer. It's shareable among multiple requests since it doesn't
  * maintain states.
+ *
+ * Three kinds of requests are supported:
+ * 1. /store/version/partition: all the files of the snapshot, one after the other.
+ * 2. /store/version/partition/manifest: the {@link com.linkedin.venice.blobtransfer.BlobTransferManifest} of the
+ *    snapshot, so that the client can fetch its files from several peers in parallel.
+ * 3. /store/version/partition/file/name: a single file of the snapshot, or a byte range of it if the request carries a
+ *    "Range: bytes=first-last" header.
  */
 @ChannelHandler.Sharable
 public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
   private static final Logger LOGGER = LogManager.getLogger(P2PFileTransferServerHandler.class);
+  private static final Pattern RANGE_PATTERN = Pattern.compile("^bytes=(\\d+)-(\\d+)$");
+  private static final int CHUNK_SIZE = 8192;
   private boolean useZeroCopy = false;
   private final String baseDir;
+  private final SnapshotManifestProvider manifestProvider;
 
-  public P2PFileTransferServerHandler(String baseDir) {
+  /**
+   * @param manifestProvider Shared by all the channels, and closed by its owner rather than by the handler.
+   */
+  public P2PFileTransferServerHandler(String baseDir, SnapshotManifestProvider manifestProvider) {
     this.baseDir = baseDir;
+    this.manifestProvider = manifestProvider;
   }
 
   @Override
@@ -82,8 +101,9 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
     }
     final BlobTransferPayload blobTransferRequest;
     final File snapshotDir;
+    final String[] requestParts = RequestHelper.getRequestParts(httpRequest.uri());
     try {
-      blobTransferRequest = parseBlobTransferPayload(httpRequest);
+      blobTransferRequest = parseBlobTransferPayload(httpRequest.uri(), requestParts);
       snapshotDir = new File(blobTransferRequest.getSnapshotDir());
       if (!snapshotDir.exists() || !snapshotDir.isDirectory()) {
         byte[] errBody = ("Snapshot for " + blobTransferRequest.getFullResourceName() + " doesn't exist").getBytes();
@@ -98,6 +118,15 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
       return;
     }
 
+    if (requestParts.length == 5) {
+      sendManifest(snapshotDir, blobTransferRequest, ctx);
+      return;
+    }
+    if (requestParts.length == 6) {
+      sendSingleFile(snapshotDir, requestParts[5], httpRequest, ctx);
+      return;
+    }
+
     File[] files = snapshotDir.listFiles();
     if (files == null || files.length == 0) {
       setupResponseAndFlush(
@@ -150,23 +179,88 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
     ctx.close();
   }
 
+  private void sendManifest(File snapshotDir, BlobTransferPayload blobTransferRequest, ChannelHandlerContext ctx) {
+    manifestProvider.getManifest(snapshotDir).whenComplete((manifest, throwable) -> {
+      if (throwable != null) {
+        LOGGER.error("Failed to build the manifest of {}", blobTransferRequest.getFullResourceName(), throwable);
+        setupResponseAndFlush(
+            HttpResponseStatus.INTERNAL_SERVER_ERROR,
+            ("Failed to build the manifest of " + blobTransferRequest.getFullResourceName()).getBytes(),
+            false,
+            ctx);
+        return;
+      }
+      try {
+        setupResponseAndFlush(
+            HttpResponseStatus.OK,
+            ObjectMapperFactory.getInstance().writeValueAsBytes(manifest),
+            true,
+            ctx);
+      } catch (IOException e) {
+        setupResponseAndFlush(HttpResponseStatus.INTERNAL_SERVER_ERROR, e.getMessage().getBytes(), false, ctx);
+      }
+    });
+  }
+
+  private void sendSingleFile(File snapshotDir, String fileName, HttpRequest httpRequest, ChannelHandlerContext ctx)
+      throws IOException {
+    File file = new File(snapshotDir, fileName);
+    // Only the files right under the snapshot directory can be served
+    if (!file.getName().equals(fileName) || fileName.equals("..") || !file.isFile()) {
+      byte[] errBody = ("File " + fileName + " doesn't exist in " + snapshotDir.getName()).getBytes();
+      setupResponseAndFlush(HttpResponseStatus.NOT_FOUND, errBody, false, ctx);
+      return;
+    }
+    long fileLength = file.length();
+    String range = httpRequest.headers().get(HttpHeaderNames.RANGE);
+    if (range == null) {
+      sendFile(file, 0, fileLength, HttpResponseStatus.OK, ctx);
+      return;
+    }
+    Matcher matcher = RANGE_PATTERN.matcher(range);
+    long first = -1;
+    long last = -1;
+    if (matcher.matches()) {
+      try {
+        first = Long.parseLong(matcher.group(1));
+        last = Long.parseLong(matcher.group(2));
+      } catch (NumberFormatException e) {
+        // handled right below
+      }
+    }
+    if (first < 0 || last < first || last >= fileLength) {
+      byte[] errBody = ("Invalid range " + range + " for " + fileName + " of " + fileLength + " bytes").getBytes();
+      setupResponseAndFlush(HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE, errBody, false, ctx);
+      return;
+    }
+    sendFile(file, first, last - first + 1, HttpResponseStatus.PARTIAL_CONTENT, ctx);
+  }
+
   private void sendFile(File file, ChannelHandlerContext ctx) throws IOException {
+    sendFile(file, 0, file.length(), HttpResponseStatus.OK, ctx);
+  }
+
+  private void sendFile(File file, long offset, long length, HttpResponseStatus status, ChannelHandlerContext ctx)
+      throws IOException {
     RandomAccessFile raf = new RandomAccessFile(file, "r");
     ChannelFuture sendFileFuture;
     ChannelFuture lastContentFuture;
-    long length = raf.length();
-    HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+    HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, status);
     response.headers().set(HttpHeaderNames.CONTENT_LENGTH, length);
     response.headers().set(HttpHeaderNames.CONTENT_TYPE, APPLICATION_OCTET_STREAM);
     response.headers().set(HttpHeaderNames.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getName() + "\"");
+    if (status == HttpResponseStatus.PARTIAL_CONTENT) {
+      response.headers()
+          .set(HttpHeaderNames.CONTENT_RANGE, "bytes " + offset + "-" + (offset + length - 1) + "/" + raf.length());
+    }
 
     ctx.write(response);
 
     if (useZeroCopy) {
-      sendFileFuture = ctx.writeAndFlush(new DefaultFileRegion(raf.getChannel(), 0, length));
+      sendFileFuture = ctx.writeAndFlush(new DefaultFileRegion(raf.getChannel(), offset, length));
       lastContentFuture = ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
     } else {
-      sendFileFuture = ctx.writeAndFlush(new HttpChunkedInput(new ChunkedFile(raf)));
+      sendFileFuture = ctx.writeAndFlush(new HttpChunkedInput(new ChunkedFile(raf, offset, length, CHUNK_SIZE)));
       lastContentFuture = sendFileFuture;
     }
 
@@ -189,15 +283,17 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
 
   /**
    * Parse the URI to locate the blob
-   * @param request
+   * @param uri
+   * @param requestParts the parts of the path of the URI
    * @return
    */
-  private BlobTransferPayload parseBlobTransferPayload(HttpRequest request) throws IllegalArgumentException {
-    // Parse the request uri to obtain the storeName and partition
-    String uri = request.uri();
-    String[] requestParts = RequestHelper.getRequestParts(uri);
-    if (requestParts.length == 4) {
-      // [0]""/[1]"store"/[2]"version"/[3]"partition"
+  private BlobTransferPayload parseBlobTransferPayload(String uri, String[] requestParts)
+      throws IllegalArgumentException {
+    // [0]""/[1]"store"/[2]"version"/[3]"partition", optionally followed by [4]"manifest" or [4]"file"/[5]"name"
+    boolean isValid = requestParts.length == 4
+        || (requestParts.length == 5 && requestParts[4].equals(BLOB_TRANSFER_MANIFEST))
+        || (requestParts.length == 6 && requestParts[4].equals(BLOB_TRANSFER_FILE) && !requestParts[5].isEmpty());
+    if (isValid) {
       return new BlobTransferPayload(
           baseDir,
           requestParts[1],
@@ -0,0 +1,84 @@
+package com.linkedin.venice.blobtransfer.server;
+
+import com.linkedin.venice.blobtransfer.BlobTransferManifest;
+import com.linkedin.venice.blobtransfer.BlobTransferUtils;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+
+/**
+ * Builds the {@link BlobTransferManifest} of the snapshots served by {@link P2PFileTransferServerHandler}.
+ *
+ * Computing the checksums means reading the whole snapshot, so it happens in a dedicated thread pool instead of the
+ * Netty event loop, and the checksums are cached: the files of a snapshot are immutable, and the same snapshot is
+ * usually requested by several peers. A cached checksum is only reused if the size and the modification time of the
+ * file did not change, since a snapshot gets recreated in place.
+ */
+public class SnapshotManifestProvider implements AutoCloseable {
+  private final ExecutorService executor;
+  private final Map<String, CachedChecksum> checksumCache = new VeniceConcurrentHashMap<>();
+
+  public SnapshotManifestProvider(int threadCount) {
+    this.executor = Executors.newFixedThreadPool(threadCount, new DaemonThreadFactory("BlobTransferChecksum"));
+  }
+
+  public CompletableFuture<BlobTransferManifest> getManifest(File snapshotDir) {
+    return CompletableFuture.supplyAsync(() -> {
+      File[] files = snapshotDir.listFiles(File::isFile);
+      if (files == null) {
+        throw new UncheckedIOException(new IOException("Failed to access files at " + snapshotDir));
+      }
+      Arrays.sort(files, Comparator.comparing(File::getName));
+      List<BlobTransferManifest.FileInfo> fileInfos = new ArrayList<>(files.length);
+      for (File file: files) {
+        fileInfos.add(new BlobTransferManifest.FileInfo(file.getName(), file.length(), getChecksum(file)));
+      }
+      return new BlobTransferManifest(fileInfos);
+    }, executor);
+  }
+
+  private long getChecksum(File file) {
+    long size = file.length();
+    long lastModified = file.lastModified();
+    CachedChecksum cached = checksumCache.get(file.getAbsolutePath());
+    if (cached != null && cached.size == size && cached.lastModified == lastModified) {
+      return cached.checksum;
+    }
+    try {
+      long checksum = BlobTransferUtils.computeChecksum(file);
+      checksumCache.put(file.getAbsolutePath(), new CachedChecksum(size, lastModified, checksum));
+      return checksum;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+    checksumCache.clear();
+  }
+
+  private static class CachedChecksum {
+    private final long size;
+    private final long lastModified;
+    private final long checksum;
+
+    CachedChecksum(long size, long lastModified, long checksum) {
+      this.size = size;
+      this.lastModified = lastModified;
+      this.checksum = checksum;
+    }
+  }
+}
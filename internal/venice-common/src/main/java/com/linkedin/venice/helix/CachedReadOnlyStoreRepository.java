@@ -2,23 +2,34 @@ package com.linkedin.venice.helix;
 
 import static com.linkedin.venice.zk.VeniceZkPaths.STORES;
 
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceNoStoreException;
 import com.linkedin.venice.meta.ReadOnlyStore;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.StoreDataChangedListener;
+import com.linkedin.venice.stats.StoreRepositoryStats;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.HelixUtils;
+import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.PathResourceRegistry;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
 import com.linkedin.venice.utils.locks.ClusterLockManager;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import org.apache.helix.AccessOption;
@@ -43,12 +54,34 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
   protected final Map<String, Store> storeMap = new VeniceConcurrentHashMap<>();
   private final AtomicLong totalStoreReadQuota = new AtomicLong();
   private final Set<StoreDataChangedListener> listeners = new CopyOnWriteArraySet<>();
+  private final int refreshThreadCount;
+  /** Reads the stores in parallel during the refreshes, created on first use and shut down by {@link #clear()}. */
+  private ExecutorService refreshExecutor;
+  private final Optional<StoreRepositoryStats> stats;
+  private boolean refreshed = false;
 
   public CachedReadOnlyStoreRepository(
       ZkClient zkClient,
       String clusterName,
       HelixAdapterSerializer compositeSerializer,
       ClusterLockManager clusterLockManager) {
+    this(zkClient, clusterName, compositeSerializer, clusterLockManager, 1, false, Optional.empty());
+  }
+
+  /**
+   * @param refreshThreadCount The number of threads reading and deserializing the stores from ZK during a full
+   *                           {@link #refresh()}.
+   * @param binaryWriteEnabled Whether the stores are written with the binary encoding of {@link StoreAvroSerializer}
+   *                           instead of json. Both are always readable.
+   */
+  public CachedReadOnlyStoreRepository(
+      ZkClient zkClient,
+      String clusterName,
+      HelixAdapterSerializer compositeSerializer,
+      ClusterLockManager clusterLockManager,
+      int refreshThreadCount,
+      boolean binaryWriteEnabled,
+      Optional<StoreRepositoryStats> stats) {
     this.zkClient = zkClient;
     this.zkDataAccessor = new ZkBaseDataAccessor<>(zkClient);
     this.clusterName = clusterName;
@@ -56,9 +89,13 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
         Paths.get(HelixUtils.getHelixClusterZkPath(clusterName), STORE_REPOSITORY_PATH).toString();
     compositeSerializer.registerSerializer(clusterStoreRepositoryPath, new VeniceJsonSerializer<>(Integer.TYPE));
     compositeSerializer
-        .registerSerializer(getStoreZkPath(PathResourceRegistry.WILDCARD_MATCH_ANY), new StoreJSONSerializer());
+        .registerSerializer(
+            getStoreZkPath(PathResourceRegistry.WILDCARD_MATCH_ANY),
+            new StoreAvroSerializer(binaryWriteEnabled));
     zkClient.setZkSerializer(compositeSerializer);
     this.clusterLockManager = clusterLockManager;
+    this.refreshThreadCount = refreshThreadCount;
+    this.stats = stats;
   }
 
   @Override
@@ -107,6 +144,7 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
   public void refresh() {
     LOGGER.info("Refresh started for cluster {}'s ", clusterName, getClass().getSimpleName());
     try (AutoCloseableLock ignore = clusterLockManager.createClusterWriteLock()) {
+      long startTimeMs = System.currentTimeMillis();
       List<Store> newStores = getStoresFromZk();
       LOGGER.info(
           "Got {} stores from cluster {} during refresh in repo: {}",
@@ -122,7 +160,16 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
       for (String storeName: deletedStoreNames) {
         removeStore(storeName);
       }
-      LOGGER.info("Refresh finished for cluster {}'s {}", clusterName, getClass().getSimpleName());
+      long latencyMs = LatencyUtils.getElapsedTimeFromMsToMs(startTimeMs);
+      if (stats.isPresent()) {
+        if (!refreshed) {
+          stats.get().recordStartupRefreshLatency(latencyMs);
+        }
+        stats.get().recordRefreshLatency(latencyMs);
+        stats.get().recordRefreshStoreCount(newStores.size());
+      }
+      refreshed = true;
+      LOGGER.info("Refresh finished for cluster {}'s {} in {} ms", clusterName, getClass().getSimpleName(), latencyMs);
     }
   }
 
@@ -146,6 +193,7 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
       totalStoreReadQuota.set(0);
       clusterLockManager.clear();
     }
+    shutdownRefreshExecutor();
   }
 
   @Override
@@ -201,6 +249,10 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
    * accordingly.
    */
   protected List<Store> getStoresFromZk() {
+    if (refreshThreadCount > 1) {
+      List<String> storeNames = zkDataAccessor.getChildNames(clusterStoreRepositoryPath, AccessOption.PERSISTENT);
+      return storeNames == null ? new ArrayList<>() : getStoresFromZk(storeNames);
+    }
     List<Store> stores = zkDataAccessor.getChildren(clusterStoreRepositoryPath, null, AccessOption.PERSISTENT);
     stores.removeIf(Objects::isNull);
     return stores;
@@ -208,11 +260,54 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
 
   protected List<Store> getStoresFromZk(Collection<String> storeNames) {
     List<String> paths = storeNames.stream().map(this::getStoreZkPath).collect(Collectors.toList());
-    List<Store> stores = zkDataAccessor.get(paths, null, AccessOption.PERSISTENT);
+    List<Store> stores = refreshThreadCount > 1 && paths.size() > 1
+        ? getStoresFromZkInParallel(paths)
+        : zkDataAccessor.get(paths, null, AccessOption.PERSISTENT);
     stores.removeIf(Objects::isNull);
     return stores;
   }
 
+  /**
+   * Split the paths in one batch per thread, so that the stores are deserialized in parallel, which is what dominates
+   * the refresh of a cluster with thousands of stores.
+   */
+  private List<Store> getStoresFromZkInParallel(List<String> paths) {
+    int batchSize = (paths.size() + refreshThreadCount - 1) / refreshThreadCount;
+    ExecutorService executor = getRefreshExecutor();
+    try {
+      List<CompletableFuture<List<Store>>> futures = new ArrayList<>();
+      for (int i = 0; i < paths.size(); i += batchSize) {
+        List<String> batch = paths.subList(i, Math.min(i + batchSize, paths.size()));
+        futures.add(
+            CompletableFuture.supplyAsync(() -> zkDataAccessor.get(batch, null, AccessOption.PERSISTENT), executor));
+      }
+      List<Store> stores = new ArrayList<>(paths.size());
+      for (CompletableFuture<List<Store>> future: futures) {
+        stores.addAll(future.join());
+      }
+      return stores;
+    } catch (CompletionException e) {
+      throw new VeniceException("Failed to read the stores of cluster: " + clusterName + " from ZK", e.getCause());
+    } catch (RejectedExecutionException e) {
+      throw new VeniceException("Failed to read the stores of cluster: " + clusterName + " after clearing it", e);
+    }
+  }
+
+  private synchronized ExecutorService getRefreshExecutor() {
+    if (refreshExecutor == null) {
+      refreshExecutor =
+          Executors.newFixedThreadPool(refreshThreadCount, new DaemonThreadFactory(clusterName + "-store-refresh"));
+    }
+    return refreshExecutor;
+  }
+
+  private synchronized void shutdownRefreshExecutor() {
+    if (refreshExecutor != null) {
+      refreshExecutor.shutdownNow();
+      refreshExecutor = null;
+    }
+  }
+
   protected void notifyStoreCreated(Store store) {
     for (StoreDataChangedListener listener: listeners) {
       try {
@@ -1,12 +1,14 @@
 package com.linkedin.venice.helix;
 
 import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.stats.StoreRepositoryStats;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
 import com.linkedin.venice.utils.locks.ClusterLockManager;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.helix.zookeeper.impl.client.ZkClient;
@@ -25,11 +27,36 @@ public class HelixReadOnlyStoreRepository extends CachedReadOnlyStoreRepository
       String clusterName,
       int refreshAttemptsForZkReconnect,
       long refreshIntervalForZkReconnectInMs) {
+    this(
+        zkClient,
+        compositeSerializer,
+        clusterName,
+        refreshAttemptsForZkReconnect,
+        refreshIntervalForZkReconnectInMs,
+        1,
+        Optional.empty());
+  }
+
+  public HelixReadOnlyStoreRepository(
+      ZkClient zkClient,
+      HelixAdapterSerializer compositeSerializer,
+      String clusterName,
+      int refreshAttemptsForZkReconnect,
+      long refreshIntervalForZkReconnectInMs,
+      int refreshThreadCount,
+      Optional<StoreRepositoryStats> stats) {
     /**
      * HelixReadOnlyStoreRepository is used in router, server, fast-client, da-vinci and system store.
      * Its centralized locking should NOT be shared with other classes. Create a new instance.
      */
-    super(zkClient, clusterName, compositeSerializer, new ClusterLockManager(clusterName));
+    super(
+        zkClient,
+        clusterName,
+        compositeSerializer,
+        new ClusterLockManager(clusterName),
+        refreshThreadCount,
+        false,
+        stats);
   }
 
   @Override
@@ -4,6 +4,7 @@ import com.linkedin.venice.exceptions.VeniceNoStoreException;
 import com.linkedin.venice.exceptions.VeniceStoreAlreadyExistsException;
 import com.linkedin.venice.meta.ReadWriteStoreRepository;
 import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.stats.StoreRepositoryStats;
 import com.linkedin.venice.system.store.MetaStoreWriter;
 import com.linkedin.venice.utils.HelixUtils;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
@@ -30,7 +31,23 @@ public class HelixReadWriteStoreRepository extends CachedReadOnlyStoreRepository
       String clusterName,
       Optional<MetaStoreWriter> metaStoreWriter,
       ClusterLockManager storeLock) {
-    super(zkClient, clusterName, compositeSerializer, storeLock);
+    this(zkClient, compositeSerializer, clusterName, metaStoreWriter, storeLock, 1, false, Optional.empty());
+  }
+
+  /**
+   * @param binaryWriteEnabled Whether the stores are written with the binary encoding of {@link StoreAvroSerializer},
+   *                           which must only be enabled once all the readers of the cluster are able to read it.
+   */
+  public HelixReadWriteStoreRepository(
+      ZkClient zkClient,
+      HelixAdapterSerializer compositeSerializer,
+      String clusterName,
+      Optional<MetaStoreWriter> metaStoreWriter,
+      ClusterLockManager storeLock,
+      int refreshThreadCount,
+      boolean binaryWriteEnabled,
+      Optional<StoreRepositoryStats> stats) {
+    super(zkClient, clusterName, compositeSerializer, storeLock, refreshThreadCount, binaryWriteEnabled, stats);
     this.clusterName = clusterName;
     this.metaStoreWriter = metaStoreWriter;
   }
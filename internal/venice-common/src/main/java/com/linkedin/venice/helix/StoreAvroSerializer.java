@@ -0,0 +1,175 @@
+package com.linkedin.venice.helix;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.LazyStoreVersionList;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.VeniceSerializer;
+import com.linkedin.venice.meta.ZKStore;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.VeniceSpecificDatumReader;
+import com.linkedin.venice.systemstore.schemas.StoreMetaValue;
+import com.linkedin.venice.systemstore.schemas.StoreProperties;
+import com.linkedin.venice.systemstore.schemas.StoreVersion;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.specific.SpecificDatumWriter;
+
+
+/**
+ * Serializer used to convert the data between {@link Store} and the Avro binary encoding of its
+ * {@link StoreProperties}, which is several times smaller and cheaper to decode than the json of
+ * {@link StoreJSONSerializer}.
+ *
+ * The encoding is a magic byte, the protocol version of {@link AvroProtocolDefinition#METADATA_SYSTEM_SCHEMA_STORE}, a
+ * {@link StoreMetaValue} holding the store without its versions, and the encoded versions as an Avro bytes field, so
+ * that they are only decoded once accessed, see {@link LazyStoreVersionList}.
+ *
+ * Data which doesn't start with the magic byte is read as json, so that the stores written by older controllers can
+ * still be read. Since older readers can't read the binary encoding, it is only written when enabled, which should only
+ * happen once all the readers of the cluster are able to read it.
+ */
+public class StoreAvroSerializer implements VeniceSerializer<Store> {
+  /**
+   * No json document starts with this byte.
+   */
+  static final byte MAGIC_BYTE = 0;
+  private static final int HEADER_LENGTH = 2;
+  /**
+   * Same as {@link VeniceJsonSerializer}, ZK has a max size limit of 0xfffff bytes per znode.
+   */
+  private static final int SERIALIZED_SIZE_LIMIT = 0xfffff;
+  private static final AvroProtocolDefinition PROTOCOL = AvroProtocolDefinition.METADATA_SYSTEM_SCHEMA_STORE;
+  private static final Schema VERSIONS_SCHEMA = getVersionsSchema(PROTOCOL.getCurrentProtocolVersionSchema());
+
+  private final boolean binaryWriteEnabled;
+  private final StoreJSONSerializer jsonSerializer = new StoreJSONSerializer();
+  private final Map<Integer, Schema> protocolSchemas = Utils.getAllSchemasFromResources(PROTOCOL);
+  private final Map<Integer, DatumReader<StoreMetaValue>> storeReaders = new VeniceConcurrentHashMap<>();
+  private final Map<Integer, DatumReader<List<StoreVersion>>> versionsReaders = new VeniceConcurrentHashMap<>();
+  private final DatumWriter<StoreMetaValue> storeWriter =
+      new SpecificDatumWriter<>(PROTOCOL.getCurrentProtocolVersionSchema());
+  private final DatumWriter<List<StoreVersion>> versionsWriter = new SpecificDatumWriter<>(VERSIONS_SCHEMA);
+
+  /**
+   * @param binaryWriteEnabled Whether to write the binary encoding, or json. Both are always readable.
+   */
+  public StoreAvroSerializer(boolean binaryWriteEnabled) {
+    this.binaryWriteEnabled = binaryWriteEnabled;
+  }
+
+  @Override
+  public byte[] serialize(Store object, String path) throws IOException {
+    if (!binaryWriteEnabled) {
+      return jsonSerializer.serialize(object, path);
+    }
+    /**
+     * This function will only serialize {@link ZKStore}.
+     */
+    if (!(object instanceof ZKStore)) {
+      throw new VeniceException("This serializer only supports ZKStore type for binary serialization");
+    }
+    StoreProperties storeProperties = ((ZKStore) object).dataModel();
+    StoreMetaValue storeMetaValue = new StoreMetaValue();
+    storeMetaValue.storeProperties = LazyStoreVersionList.copyWithoutVersions(storeProperties);
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    outputStream.write(MAGIC_BYTE);
+    outputStream.write(PROTOCOL.getCurrentProtocolVersion());
+    BinaryEncoder encoder = AvroCompatibilityHelper.newBinaryEncoder(outputStream, true, null);
+    storeWriter.write(storeMetaValue, encoder);
+    encoder.writeBytes(encodeVersions(storeProperties.versions));
+    encoder.flush();
+    if (outputStream.size() > SERIALIZED_SIZE_LIMIT) {
+      throw new IOException("Serialized store exceeded the size limit of " + SERIALIZED_SIZE_LIMIT + " bytes");
+    }
+    return outputStream.toByteArray();
+  }
+
+  @Override
+  public Store deserialize(byte[] bytes, String path) throws IOException {
+    if (bytes == null || bytes.length == 0 || bytes[0] != MAGIC_BYTE) {
+      return jsonSerializer.deserialize(bytes, path);
+    }
+    int protocolVersion = bytes[1];
+    BinaryDecoder decoder =
+        AvroCompatibilityHelper.newBinaryDecoder(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH, null);
+    StoreMetaValue storeMetaValue = getStoreReader(protocolVersion).read(null, decoder);
+    ByteBuffer encodedVersionsBuffer = decoder.readBytes(null);
+    byte[] encodedVersions = new byte[encodedVersionsBuffer.remaining()];
+    encodedVersionsBuffer.get(encodedVersions);
+
+    StoreProperties storeProperties = storeMetaValue.storeProperties;
+    storeProperties.versions = new LazyStoreVersionList(
+        protocolVersion,
+        encodedVersions,
+        versionBytes -> decodeVersions(protocolVersion, versionBytes));
+    return new ZKStore(storeProperties);
+  }
+
+  private ByteBuffer encodeVersions(List<StoreVersion> versions) throws IOException {
+    if (versions instanceof LazyStoreVersionList) {
+      LazyStoreVersionList lazyVersions = (LazyStoreVersionList) versions;
+      byte[] encodedVersions = lazyVersions.getEncodedVersions();
+      if (encodedVersions != null && lazyVersions.getProtocolVersion() == PROTOCOL.getCurrentProtocolVersion()) {
+        // Never decoded, so never modified either.
+        return ByteBuffer.wrap(encodedVersions);
+      }
+    }
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    BinaryEncoder encoder = AvroCompatibilityHelper.newBinaryEncoder(outputStream, true, null);
+    versionsWriter.write(versions, encoder);
+    encoder.flush();
+    return ByteBuffer.wrap(outputStream.toByteArray());
+  }
+
+  private List<StoreVersion> decodeVersions(int protocolVersion, byte[] encodedVersions) {
+    try {
+      BinaryDecoder decoder =
+          AvroCompatibilityHelper.newBinaryDecoder(encodedVersions, 0, encodedVersions.length, null);
+      return getVersionsReader(protocolVersion).read(null, decoder);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to decode the store versions of protocol version: " + protocolVersion, e);
+    }
+  }
+
+  private DatumReader<StoreMetaValue> getStoreReader(int protocolVersion) throws IOException {
+    Schema protocolSchema = getProtocolSchema(protocolVersion);
+    return storeReaders.computeIfAbsent(
+        protocolVersion,
+        version -> new VeniceSpecificDatumReader<>(protocolSchema, PROTOCOL.getCurrentProtocolVersionSchema()));
+  }
+
+  private DatumReader<List<StoreVersion>> getVersionsReader(int protocolVersion) throws IOException {
+    Schema protocolSchema = getProtocolSchema(protocolVersion);
+    return versionsReaders.computeIfAbsent(
+        protocolVersion,
+        version -> new VeniceSpecificDatumReader<>(getVersionsSchema(protocolSchema), VERSIONS_SCHEMA));
+  }
+
+  private Schema getProtocolSchema(int protocolVersion) throws IOException {
+    Schema protocolSchema = protocolSchemas.get(protocolVersion);
+    if (protocolSchema == null) {
+      throw new IOException(
+          "Unknown protocol version: " + protocolVersion + " for " + PROTOCOL + ", known protocol versions: "
+              + protocolSchemas.keySet());
+    }
+    return protocolSchema;
+  }
+
+  private static Schema getVersionsSchema(Schema storeMetaValueSchema) {
+    // The storeProperties field is a union of null and StoreProperties.
+    Schema storePropertiesSchema = storeMetaValueSchema.getField("storeProperties").schema().getTypes().get(1);
+    return storePropertiesSchema.getField("versions").schema();
+  }
+}
@@ -0,0 +1,189 @@
+package com.linkedin.venice.kafka.validation.checksum;
+
+import com.linkedin.venice.utils.ByteUtils;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Supplier;
+import java.util.zip.Checksum;
+
+
+/**
+ * Running CRC32C (Castagnoli) checksum.
+ *
+ * On Java 9+, {@code java.util.zip.CRC32C} is used, which the JIT compiles down to the CRC32C instructions of the CPU
+ * (SSE4.2 on x86, the CRC extension on ARMv8). Older JVMs fall back to a table driven implementation, which produces
+ * the same values.
+ *
+ * Neither implementation can be seeded with a previous CRC, so checkpointing is supported by combining the CRC of the
+ * data before the checkpoint with the CRC of the data after it, the same way as zlib's crc32_combine.
+ */
+public class CRC32CCheckSum extends CheckSum {
+  /** The Castagnoli polynomial, bit-reversed */
+  private static final int POLYNOMIAL = 0x82F63B78;
+  private static final Supplier<Checksum> CRC32C_SUPPLIER = getCRC32CSupplier();
+
+  private final Checksum checkSumGenerator = CRC32C_SUPPLIER.get();
+  /** CRC of the data before the last checkpoint */
+  private int checkpointedCrc;
+  /** Number of bytes fed into {@link #checkSumGenerator} since the last checkpoint */
+  private long lengthSinceCheckpoint;
+
+  public CRC32CCheckSum() {
+    this.checkpointedCrc = 0;
+  }
+
+  public CRC32CCheckSum(byte[] encodedState) {
+    this.checkpointedCrc = ByteUtils.readInt(encodedState, 0);
+  }
+
+  @Override
+  public byte[] getFinalCheckSum() {
+    return getEncodedState();
+  }
+
+  @Override
+  public void updateChecksum(byte[] input, int startIndex, int length) {
+    checkSumGenerator.update(input, startIndex, length);
+    lengthSinceCheckpoint += length;
+  }
+
+  @Override
+  public void resetInternal() {
+    checkSumGenerator.reset();
+    checkpointedCrc = 0;
+    lengthSinceCheckpoint = 0;
+  }
+
+  @Override
+  public CheckSumType getType() {
+    return CheckSumType.CRC32C;
+  }
+
+  @Override
+  public byte[] getEncodedState() {
+    if (lengthSinceCheckpoint > 0) {
+      checkpointedCrc = combine(checkpointedCrc, (int) checkSumGenerator.getValue(), lengthSinceCheckpoint);
+      checkSumGenerator.reset();
+      lengthSinceCheckpoint = 0;
+    }
+    byte[] encodedState = new byte[ByteUtils.SIZE_OF_INT];
+    ByteUtils.writeInt(encodedState, checkpointedCrc, 0);
+    return encodedState;
+  }
+
+  /**
+   * @return the CRC of the concatenation of two blocks, given the CRC of both blocks and the length of the second one.
+   */
+  static int combine(int crc1, int crc2, long length2) {
+    if (length2 <= 0) {
+      return crc1;
+    }
+    // Operator for one zero bit, then for two and four zero bits.
+    int[] odd = new int[32];
+    int[] even = new int[32];
+    odd[0] = POLYNOMIAL;
+    int row = 1;
+    for (int n = 1; n < 32; n++) {
+      odd[n] = row;
+      row <<= 1;
+    }
+    gf2MatrixSquare(even, odd);
+    gf2MatrixSquare(odd, even);
+
+    // Apply the operator for length2 zero bytes to crc1, squaring it for each bit of length2.
+    do {
+      gf2MatrixSquare(even, odd);
+      if ((length2 & 1) != 0) {
+        crc1 = gf2MatrixTimes(even, crc1);
+      }
+      length2 >>>= 1;
+      if (length2 == 0) {
+        break;
+      }
+      gf2MatrixSquare(odd, even);
+      if ((length2 & 1) != 0) {
+        crc1 = gf2MatrixTimes(odd, crc1);
+      }
+      length2 >>>= 1;
+    } while (length2 != 0);
+    return crc1 ^ crc2;
+  }
+
+  private static int gf2MatrixTimes(int[] matrix, int vector) {
+    int sum = 0;
+    for (int i = 0; vector != 0; i++, vector >>>= 1) {
+      if ((vector & 1) != 0) {
+        sum ^= matrix[i];
+      }
+    }
+    return sum;
+  }
+
+  private static void gf2MatrixSquare(int[] square, int[] matrix) {
+    for (int n = 0; n < 32; n++) {
+      square[n] = gf2MatrixTimes(matrix, matrix[n]);
+    }
+  }
+
+  private static Supplier<Checksum> getCRC32CSupplier() {
+    try {
+      MethodHandle constructor = MethodHandles.publicLookup()
+          .findConstructor(Class.forName("java.util.zip.CRC32C"), MethodType.methodType(void.class))
+          .asType(MethodType.methodType(Checksum.class));
+      return () -> {
+        try {
+          return (Checksum) constructor.invokeExact();
+        } catch (Throwable e) {
+          throw new IllegalStateException("Unable to create java.util.zip.CRC32C", e);
+        }
+      };
+    } catch (ReflectiveOperationException e) {
+      // Java 8
+      return PureJavaCRC32C::new;
+    }
+  }
+
+  /**
+   * Table driven CRC32C, for the JVMs without {@code java.util.zip.CRC32C}.
+   */
+  static class PureJavaCRC32C implements Checksum {
+    private static final int[] TABLE = new int[256];
+
+    static {
+      for (int n = 0; n < 256; n++) {
+        int crc = n;
+        for (int k = 0; k < 8; k++) {
+          crc = (crc & 1) != 0 ? (crc >>> 1) ^ POLYNOMIAL : crc >>> 1;
+        }
+        TABLE[n] = crc;
+      }
+    }
+
+    private int crc = 0xFFFFFFFF;
+
+    @Override
+    public void update(int b) {
+      crc = (crc >>> 8) ^ TABLE[(crc ^ b) & 0xFF];
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+      int localCrc = crc;
+      for (int i = off; i < off + len; i++) {
+        localCrc = (localCrc >>> 8) ^ TABLE[(localCrc ^ b[i]) & 0xFF];
+      }
+      crc = localCrc;
+    }
+
+    @Override
+    public long getValue() {
+      return (~crc) & 0xFFFFFFFFL;
+    }
+
+    @Override
+    public void reset() {
+      crc = 0xFFFFFFFF;
+    }
+  }
+}
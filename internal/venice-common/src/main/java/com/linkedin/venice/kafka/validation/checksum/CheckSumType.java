@@ -7,11 +7,14 @@ import java.util.Map;
 
 /**
  * Types of checksum algorithms supported by Venice's Data Ingest Validation.
+ *
+ * N.B.: A consumer fails on the segments whose checksum type it does not know about, so the producers should only
+ * switch to {@link #CRC32C} or {@link #XXHASH64} once all the consumers of the topic support them.
  */
 public enum CheckSumType {
   NONE(0, true), MD5(1, true), @Deprecated
   ADLER32(2, false), @Deprecated
-  CRC32(3, false), ADHASH(4, true);
+  CRC32(3, false), ADHASH(4, true), CRC32C(5, true), XXHASH64(6, true);
 
   /** The value is the byte used on the wire format */
   private final int value;
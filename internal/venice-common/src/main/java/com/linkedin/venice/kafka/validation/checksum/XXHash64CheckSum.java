@@ -0,0 +1,125 @@
+package com.linkedin.venice.kafka.validation.checksum;
+
+import static com.linkedin.venice.utils.XXHash64.STRIPE_LENGTH;
+import static com.linkedin.venice.utils.XXHash64.readLongLE;
+import static com.linkedin.venice.utils.XXHash64.round;
+
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.XXHash64;
+
+
+/**
+ * Running xxHash64 checksum (seed 0), which digests 32 bytes per round with plain 64-bit arithmetic, and is several
+ * times cheaper than MD5 per byte.
+ *
+ * The encoded state is made of the 4 accumulators, the total length and the bytes buffered since the last full
+ * stripe, so it supports checkpointing.
+ */
+public class XXHash64CheckSum extends CheckSum {
+  private static final int ENCODED_STATE_HEADER_LENGTH = 5 * ByteUtils.SIZE_OF_LONG;
+
+  private long v1;
+  private long v2;
+  private long v3;
+  private long v4;
+  private long totalLength;
+  /** Bytes which do not make a full stripe yet, there are always {@code totalLength % STRIPE_LENGTH} of them */
+  private final byte[] buffer = new byte[STRIPE_LENGTH];
+
+  public XXHash64CheckSum() {
+    resetInternal();
+  }
+
+  public XXHash64CheckSum(byte[] encodedState) {
+    v1 = ByteUtils.readLong(encodedState, 0);
+    v2 = ByteUtils.readLong(encodedState, ByteUtils.SIZE_OF_LONG);
+    v3 = ByteUtils.readLong(encodedState, 2 * ByteUtils.SIZE_OF_LONG);
+    v4 = ByteUtils.readLong(encodedState, 3 * ByteUtils.SIZE_OF_LONG);
+    totalLength = ByteUtils.readLong(encodedState, 4 * ByteUtils.SIZE_OF_LONG);
+    System.arraycopy(encodedState, ENCODED_STATE_HEADER_LENGTH, buffer, 0, getBufferedLength());
+  }
+
+  @Override
+  public byte[] getFinalCheckSum() {
+    long hash = XXHash64.finish(v1, v2, v3, v4, totalLength, buffer, 0, getBufferedLength());
+    byte[] checkSum = new byte[ByteUtils.SIZE_OF_LONG];
+    ByteUtils.writeLong(checkSum, hash, 0);
+    return checkSum;
+  }
+
+  @Override
+  public void updateChecksum(byte[] input, int startIndex, int length) {
+    int bufferedLength = getBufferedLength();
+    totalLength += length;
+    int offset = startIndex;
+    int end = startIndex + length;
+
+    if (bufferedLength > 0) {
+      int fillLength = Math.min(STRIPE_LENGTH - bufferedLength, length);
+      System.arraycopy(input, offset, buffer, bufferedLength, fillLength);
+      offset += fillLength;
+      if (bufferedLength + fillLength < STRIPE_LENGTH) {
+        return;
+      }
+      processStripe(buffer, 0);
+    }
+
+    // Local copies of the accumulators let the JIT keep them in registers.
+    long acc1 = v1;
+    long acc2 = v2;
+    long acc3 = v3;
+    long acc4 = v4;
+    for (; offset + STRIPE_LENGTH <= end; offset += STRIPE_LENGTH) {
+      acc1 = round(acc1, readLongLE(input, offset));
+      acc2 = round(acc2, readLongLE(input, offset + 8));
+      acc3 = round(acc3, readLongLE(input, offset + 16));
+      acc4 = round(acc4, readLongLE(input, offset + 24));
+    }
+    v1 = acc1;
+    v2 = acc2;
+    v3 = acc3;
+    v4 = acc4;
+
+    if (offset < end) {
+      System.arraycopy(input, offset, buffer, 0, end - offset);
+    }
+  }
+
+  @Override
+  public void resetInternal() {
+    v1 = XXHash64.INITIAL_ACC_1;
+    v2 = XXHash64.INITIAL_ACC_2;
+    v3 = XXHash64.INITIAL_ACC_3;
+    v4 = XXHash64.INITIAL_ACC_4;
+    totalLength = 0;
+  }
+
+  @Override
+  public CheckSumType getType() {
+    return CheckSumType.XXHASH64;
+  }
+
+  @Override
+  public byte[] getEncodedState() {
+    int bufferedLength = getBufferedLength();
+    byte[] encodedState = new byte[ENCODED_STATE_HEADER_LENGTH + bufferedLength];
+    ByteUtils.writeLong(encodedState, v1, 0);
+    ByteUtils.writeLong(encodedState, v2, ByteUtils.SIZE_OF_LONG);
+    ByteUtils.writeLong(encodedState, v3, 2 * ByteUtils.SIZE_OF_LONG);
+    ByteUtils.writeLong(encodedState, v4, 3 * ByteUtils.SIZE_OF_LONG);
+    ByteUtils.writeLong(encodedState, totalLength, 4 * ByteUtils.SIZE_OF_LONG);
+    System.arraycopy(buffer, 0, encodedState, ENCODED_STATE_HEADER_LENGTH, bufferedLength);
+    return encodedState;
+  }
+
+  private int getBufferedLength() {
+    return (int) (totalLength & (STRIPE_LENGTH - 1));
+  }
+
+  private void processStripe(byte[] input, int offset) {
+    v1 = round(v1, readLongLE(input, offset));
+    v2 = round(v2, readLongLE(input, offset + 8));
+    v3 = round(v3, readLongLE(input, offset + 16));
+    v4 = round(v4, readLongLE(input, offset + 24));
+  }
+}
@@ -330,7 +330,11 @@ public abstract class AbstractStore implements Store {
   @Override
   public void fixMissingFields() {
     checkVersionSupplier();
-    for (StoreVersion storeVersion: storeVersionsSupplier.getForUpdate()) {
+    fixMissingFields(storeVersionsSupplier.getForUpdate());
+  }
+
+  protected void fixMissingFields(List<StoreVersion> storeVersions) {
+    for (StoreVersion storeVersion: storeVersions) {
       Version version = new VersionImpl(storeVersion);
       if (version.getPartitionerConfig() == null) {
         version.setPartitionerConfig(getPartitionerConfig());
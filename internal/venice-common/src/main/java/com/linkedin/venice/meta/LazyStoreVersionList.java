@@ -0,0 +1,160 @@
+package com.linkedin.venice.meta;
+
+import com.linkedin.venice.systemstore.schemas.StoreProperties;
+import com.linkedin.venice.systemstore.schemas.StoreVersion;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+
+/**
+ * A list of {@link StoreVersion} which is kept in its encoded form until it is first accessed, so that reading a store
+ * doesn't pay for decoding its versions, usually the bulk of its metadata, until they are needed.
+ *
+ * Once decoded, the list behaves like an {@link ArrayList} and the encoded form is dropped, since it would go stale as
+ * soon as the list is modified.
+ */
+public class LazyStoreVersionList extends AbstractList<StoreVersion> {
+  private final int protocolVersion;
+  private final Function<byte[], List<StoreVersion>> decoder;
+  private volatile byte[] encodedVersions;
+  private volatile List<StoreVersion> versions;
+  /** Guarded by this. */
+  private Consumer<List<StoreVersion>> decodedListener;
+
+  /**
+   * @param protocolVersion The protocol version the versions were encoded with.
+   * @param encodedVersions The encoded versions.
+   * @param decoder Decodes the encoded versions, on the first access to the list.
+   */
+  public LazyStoreVersionList(
+      int protocolVersion,
+      byte[] encodedVersions,
+      Function<byte[], List<StoreVersion>> decoder) {
+    this.protocolVersion = protocolVersion;
+    this.encodedVersions = encodedVersions;
+    this.decoder = decoder;
+  }
+
+  public int getProtocolVersion() {
+    return protocolVersion;
+  }
+
+  /**
+   * @return the encoded versions, or null once the versions are decoded.
+   */
+  public byte[] getEncodedVersions() {
+    return encodedVersions;
+  }
+
+  public boolean isDecoded() {
+    return versions != null;
+  }
+
+  /**
+   * Run the given listener on the versions once they are decoded, before they are visible to anyone else, or right away
+   * if they already are.
+   */
+  public synchronized void whenDecoded(Consumer<List<StoreVersion>> listener) {
+    if (versions != null) {
+      listener.accept(versions);
+    } else {
+      decodedListener = decodedListener == null ? listener : decodedListener.andThen(listener);
+    }
+  }
+
+  /**
+   * @return true if both lists are still encoded, with the same encoding, in which case they are equal without having
+   *         to decode them.
+   */
+  public static boolean haveSameEncoding(List<StoreVersion> versions1, List<StoreVersion> versions2) {
+    if (!(versions1 instanceof LazyStoreVersionList) || !(versions2 instanceof LazyStoreVersionList)) {
+      return false;
+    }
+    LazyStoreVersionList lazyVersions1 = (LazyStoreVersionList) versions1;
+    LazyStoreVersionList lazyVersions2 = (LazyStoreVersionList) versions2;
+    byte[] encodedVersions1 = lazyVersions1.encodedVersions;
+    byte[] encodedVersions2 = lazyVersions2.encodedVersions;
+    return encodedVersions1 != null && encodedVersions2 != null
+        && lazyVersions1.protocolVersion == lazyVersions2.protocolVersion
+        && Arrays.equals(encodedVersions1, encodedVersions2);
+  }
+
+  /**
+   * @return a shallow copy of the store properties with no versions, to encode or compare the store properties apart
+   *         from their versions.
+   */
+  public static StoreProperties copyWithoutVersions(StoreProperties storeProperties) {
+    StoreProperties copy = new StoreProperties();
+    for (int i = 0; i < storeProperties.getSchema().getFields().size(); i++) {
+      copy.put(i, storeProperties.get(i));
+    }
+    copy.versions = Collections.emptyList();
+    return copy;
+  }
+
+  private List<StoreVersion> getVersions() {
+    List<StoreVersion> decodedVersions = versions;
+    if (decodedVersions == null) {
+      synchronized (this) {
+        decodedVersions = versions;
+        if (decodedVersions == null) {
+          decodedVersions = new ArrayList<>(decoder.apply(encodedVersions));
+          if (decodedListener != null) {
+            decodedListener.accept(decodedVersions);
+            decodedListener = null;
+          }
+          versions = decodedVersions;
+          encodedVersions = null;
+        }
+      }
+    }
+    return decodedVersions;
+  }
+
+  @Override
+  public StoreVersion get(int index) {
+    return getVersions().get(index);
+  }
+
+  @Override
+  public int size() {
+    return getVersions().size();
+  }
+
+  @Override
+  public StoreVersion set(int index, StoreVersion element) {
+    return getVersions().set(index, element);
+  }
+
+  @Override
+  public void add(int index, StoreVersion element) {
+    getVersions().add(index, element);
+  }
+
+  @Override
+  public StoreVersion remove(int index) {
+    return getVersions().remove(index);
+  }
+
+  @Override
+  public Iterator<StoreVersion> iterator() {
+    return getVersions().iterator();
+  }
+
+  @Override
+  public ListIterator<StoreVersion> listIterator() {
+    return getVersions().listIterator();
+  }
+
+  @Override
+  public ListIterator<StoreVersion> listIterator(int index) {
+    return getVersions().listIterator(index);
+  }
+}
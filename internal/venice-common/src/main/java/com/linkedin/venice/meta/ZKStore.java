@@ -881,6 +881,21 @@ public class ZKStore extends AbstractStore implements DataModelBackedStructure<S
     return this.storeProperties.blobTransferEnabled;
   }
 
+  /**
+   * The versions which are not decoded yet are fixed once they are, see {@link LazyStoreVersionList}.
+   */
+  @Override
+  public void fixMissingFields() {
+    if (storeProperties.versions instanceof LazyStoreVersionList) {
+      LazyStoreVersionList versions = (LazyStoreVersionList) storeProperties.versions;
+      if (!versions.isDecoded()) {
+        versions.whenDecoded(this::fixMissingFields);
+        return;
+      }
+    }
+    super.fixMissingFields();
+  }
+
   /**
    * Set all of PUSHED version to ONLINE once store is enabled to write.
    */
@@ -904,6 +919,13 @@ public class ZKStore extends AbstractStore implements DataModelBackedStructure<S
       return false;
     }
     ZKStore store = (ZKStore) o;
+    if (LazyStoreVersionList.haveSameEncoding(storeProperties.versions, store.storeProperties.versions)) {
+      // Compare everything but the versions, so that they don't get decoded.
+      return AvroCompatibilityUtils
+          .compare(
+              LazyStoreVersionList.copyWithoutVersions(storeProperties),
+              LazyStoreVersionList.copyWithoutVersions(store.storeProperties));
+    }
     return AvroCompatibilityUtils.compare(storeProperties, store.storeProperties);
   }
 
@@ -12,15 +12,18 @@ import com.linkedin.venice.pubsub.api.exceptions.PubSubClientRetriableException;
 import com.linkedin.venice.pubsub.api.exceptions.PubSubOpTimeoutException;
 import com.linkedin.venice.pubsub.api.exceptions.PubSubTopicAuthorizationException;
 import com.linkedin.venice.pubsub.api.exceptions.PubSubTopicDoesNotExistException;
+import com.linkedin.venice.serialization.avro.KafkaValueSerializer;
 import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
 import it.unimi.dsi.fastutil.objects.Object2DoubleMaps;
 import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
 import java.time.Duration;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.Metric;
 import org.apache.kafka.common.MetricName;
@@ -179,4 +182,15 @@ public class ApacheKafkaProducerAdapter implements PubSubProducerAdapter {
   public String getBrokerAddress() {
     return producerConfig.getBrokerAddress();
   }
+
+  /**
+   * The Kafka producer serializes the records in the thread calling send, with {@link KafkaValueSerializer} unless the
+   * producer config overrides it.
+   */
+  @Override
+  public boolean isValuePreSerializationSupported() {
+    Properties producerProperties = producerConfig.getProducerProperties();
+    return producerProperties != null
+        && producerProperties.get(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG) == KafkaValueSerializer.class;
+  }
 }
@@ -50,6 +50,17 @@ public interface PubSubProducerAdapter {
       PubSubMessageHeaders pubSubMessageHeaders,
       PubSubProducerCallback pubSubProducerCallback);
 
+  /**
+   * @return true if {@link #sendMessage} serializes the value with
+   *         {@link com.linkedin.venice.serialization.avro.KafkaValueSerializer} in the calling thread, in which case
+   *         the caller can serialize it ahead of time with
+   *         {@link com.linkedin.venice.serialization.avro.KafkaValueSerializer#preSerialize(KafkaMessageEnvelope)}.
+   *         Otherwise, serializing it ahead of time is wasted work.
+   */
+  default boolean isValuePreSerializationSupported() {
+    return false;
+  }
+
   void flush();
 
   void close(long closeTimeOutMs);
@@ -3,6 +3,7 @@ package com.linkedin.venice.serialization;
 import com.linkedin.venice.serialization.avro.ChunkedKeySuffixSerializer;
 import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 
 public class KeyWithChunkingSuffixSerializer {
@@ -41,6 +42,13 @@ public class KeyWithChunkingSuffixSerializer {
     return serializeNonChunkedKeyAsByteBuffer(key).array();
   }
 
+  /**
+   * @return the key without the standard suffix for non-chunked keys which {@link #serializeNonChunkedKey} appends
+   */
+  public byte[] getKeyFromNonChunkedKey(byte[] nonChunkedKey) {
+    return Arrays.copyOf(nonChunkedKey, nonChunkedKey.length - serializedNonChunkKeySuffix.length);
+  }
+
   private ByteBuffer serialize(byte[] key, byte[] encodedChunkedKeySuffix) {
     ByteBuffer target = ByteBuffer.allocate(key.length + encodedChunkedKeySuffix.length);
     target.put(key);
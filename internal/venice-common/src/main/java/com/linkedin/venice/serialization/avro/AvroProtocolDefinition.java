@@ -62,7 +62,7 @@ public enum AvroProtocolDefinition {
   /**
    * Used to encode push job details records to be written to the PushJobDetails system store.
    */
-  PUSH_JOB_DETAILS(26, 4, PushJobDetails.class),
+  PUSH_JOB_DETAILS(26, 5, PushJobDetails.class),
 
   /**
    * Used to encode metadata changes about the system as a whole. Records of this type
@@ -168,7 +168,7 @@ public enum AvroProtocolDefinition {
   /**
    * Response record for metadata fetch request.
    */
-  SERVER_METADATA_RESPONSE(2, MetadataResponseRecord.class),
+  SERVER_METADATA_RESPONSE(3, MetadataResponseRecord.class),
 
   /**
    * Value schema for change capture event.
@@ -15,6 +15,13 @@ import org.apache.avro.Schema;
  * the Kafka producer.
  */
 public class KafkaValueSerializer extends InternalAvroSpecificSerializer<KafkaMessageEnvelope> {
+  /**
+   * The envelope serialized by {@link #preSerialize(KafkaMessageEnvelope)} in this thread, and its bytes. The Kafka
+   * producer serializes the records in the thread calling send, so it picks these bytes up instead of serializing the
+   * same envelope again.
+   */
+  private static final ThreadLocal<PreSerializedValue> PRE_SERIALIZED_VALUE = new ThreadLocal<>();
+
   public KafkaValueSerializer() {
     super(AvroProtocolDefinition.KAFKA_MESSAGE_ENVELOPE);
   }
@@ -22,4 +29,40 @@ public class KafkaValueSerializer extends InternalAvroSpecificSerializer<KafkaMe
   public KafkaValueSerializer(BiConsumer<Integer, Schema> newSchemaEncountered) {
     super(AvroProtocolDefinition.KAFKA_MESSAGE_ENVELOPE, null, newSchemaEncountered);
   }
+
+  @Override
+  public byte[] serialize(String topic, KafkaMessageEnvelope object) {
+    PreSerializedValue preSerializedValue = PRE_SERIALIZED_VALUE.get();
+    if (preSerializedValue != null && preSerializedValue.value == object) {
+      PRE_SERIALIZED_VALUE.remove();
+      return preSerializedValue.bytes;
+    }
+    return super.serialize(topic, object);
+  }
+
+  /**
+   * Serialize the given envelope ahead of handing it over to the producer in this thread, so that the serialization
+   * can happen outside of the critical section the producer gets called in. The envelope must not be modified
+   * afterwards.
+   */
+  public void preSerialize(KafkaMessageEnvelope value) {
+    PRE_SERIALIZED_VALUE.set(new PreSerializedValue(value, super.serialize(null, value)));
+  }
+
+  /**
+   * Drop the pre-serialized envelope of this thread, if the producer did not pick it up.
+   */
+  public static void clearPreSerializedValue() {
+    PRE_SERIALIZED_VALUE.remove();
+  }
+
+  private static class PreSerializedValue {
+    private final KafkaMessageEnvelope value;
+    private final byte[] bytes;
+
+    PreSerializedValue(KafkaMessageEnvelope value, byte[] bytes) {
+      this.value = value;
+      this.bytes = bytes;
+    }
+  }
 }
@@ -0,0 +1,49 @@
+package com.linkedin.venice.stats;
+
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Gauge;
+import io.tehuti.metrics.stats.Max;
+
+
+/**
+ * Stats of the store repositories which cache the store metadata of a cluster from ZK.
+ */
+public class StoreRepositoryStats extends AbstractVeniceStats {
+  private static final String NAME_SUFFIX = "-store_repository";
+  /**
+   * The latency of the first full refresh, which loads all the stores at startup.
+   */
+  private static final String STARTUP_REFRESH_LATENCY = "startup_refresh_latency";
+  /**
+   * The latency of any full refresh, including the one at startup and the ones after a ZK reconnection.
+   */
+  private static final String REFRESH_LATENCY = "refresh_latency";
+  /**
+   * The number of stores read from ZK by the last full refresh.
+   */
+  private static final String REFRESH_STORE_COUNT = "refresh_store_count";
+  private final Sensor startupRefreshLatencySensor;
+  private final Sensor refreshLatencySensor;
+  private final Sensor refreshStoreCountSensor;
+
+  public StoreRepositoryStats(MetricsRepository metricsRepository, String clusterName) {
+    super(metricsRepository, clusterName + NAME_SUFFIX);
+    startupRefreshLatencySensor = registerSensorIfAbsent(STARTUP_REFRESH_LATENCY, new Gauge());
+    refreshLatencySensor = registerSensorIfAbsent(REFRESH_LATENCY, new Avg(), new Max());
+    refreshStoreCountSensor = registerSensorIfAbsent(REFRESH_STORE_COUNT, new Gauge());
+  }
+
+  public void recordStartupRefreshLatency(double latencyMs) {
+    startupRefreshLatencySensor.record(latencyMs);
+  }
+
+  public void recordRefreshLatency(double latencyMs) {
+    refreshLatencySensor.record(latencyMs);
+  }
+
+  public void recordRefreshStoreCount(int storeCount) {
+    refreshStoreCountSensor.record(storeCount);
+  }
+}
@@ -0,0 +1,113 @@
+package com.linkedin.venice.throttle;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A {@link TokenBucket} which is refilled continuously instead of once per refill interval, implemented with the
+ * Generic Cell Rate Algorithm.
+ * @see <a href="https://en.wikipedia.org/wiki/Generic_cell_rate_algorithm">Generic Cell Rate Algorithm on Wikipedia</a>
+ *
+ * Each token is worth an emission interval, the refill interval divided by the refill amount, and the whole state is
+ * the theoretical arrival time: the time at which the bucket would be full again, shifted by the capacity. Consuming
+ * tokens moves it forward with a single compare-and-set, so there is no lock, no refill step, and requests are
+ * admitted at a smooth rate instead of in bursts at each refill.
+ *
+ * A request is admitted as long as there is at least one token in the bucket, and can take the bucket into debt,
+ * which delays the next admitted request accordingly. This lets requests larger than the capacity go through, while
+ * still enforcing the rate over time. Requests larger than the capacity plus the refill amount are always rejected,
+ * as they would empty the bucket for more than a refill interval.
+ */
+public class GcraTokenBucket extends TokenBucket {
+  private final Clock clock;
+  private final long maxTokensPerRequest;
+  private final long refillIntervalMs;
+  private final double emissionIntervalNs;
+  private final long burstToleranceNs;
+  private final AtomicLong theoreticalArrivalTimeNs;
+  private final AtomicLong tokensRequestedSinceUsageReset = new AtomicLong();
+  private final AtomicLong usageResetTimeMs;
+
+  /**
+   * This constructor should only be used by tests.  Application should not specify it's own instance of Clock
+   */
+  public GcraTokenBucket(long capacity, long refillAmount, long refillInterval, TimeUnit refillUnit, Clock clock) {
+    super(capacity, refillAmount, refillInterval, refillUnit, clock);
+    this.clock = clock;
+    this.maxTokensPerRequest = capacity + refillAmount;
+    this.refillIntervalMs = refillUnit.toMillis(refillInterval);
+    this.emissionIntervalNs = refillUnit.toNanos(refillInterval) / (double) refillAmount;
+    this.burstToleranceNs = (long) (capacity * emissionIntervalNs);
+    long timeNowMs = clock.millis();
+    // The bucket starts full, like a TokenBucket.
+    this.theoreticalArrivalTimeNs = new AtomicLong(TimeUnit.MILLISECONDS.toNanos(timeNowMs) - burstToleranceNs);
+    this.usageResetTimeMs = new AtomicLong(timeNowMs);
+  }
+
+  /**
+   * @param capacity The maximum number of tokens that the bucket can have at any one time, which is the burst credit
+   *                 accumulated while the bucket isn't used.
+   * @param refillAmount The number of tokens added to the bucket over each interval, continuously
+   * @param refillInterval The interval of time over which the refill amount is added to the bucket
+   * @param refillUnit The TimeUnit for the refillInterval
+   */
+  public GcraTokenBucket(long capacity, long refillAmount, long refillInterval, TimeUnit refillUnit) {
+    this(capacity, refillAmount, refillInterval, refillUnit, Clock.systemUTC());
+  }
+
+  @Override
+  public boolean tryConsume(long tokensToConsume) {
+    long timeNowMs = clock.millis();
+    recordRequestedTokens(tokensToConsume, timeNowMs);
+    if (tokensToConsume > maxTokensPerRequest) {
+      return false;
+    }
+    long timeNowNs = TimeUnit.MILLISECONDS.toNanos(timeNowMs);
+    long costNs = (long) Math.ceil(tokensToConsume * emissionIntervalNs);
+    while (true) {
+      long arrivalTimeNs = theoreticalArrivalTimeNs.get();
+      long startNs = Math.max(arrivalTimeNs, timeNowNs - burstToleranceNs);
+      if (timeNowNs - startNs < emissionIntervalNs) {
+        // Less than one token in the bucket.
+        return false;
+      }
+      if (theoreticalArrivalTimeNs.compareAndSet(arrivalTimeNs, startNs + costNs)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Different from {@link TokenBucket}, the token count is up to date, but it is 0 when the bucket is in debt.
+   */
+  @Override
+  public long getStaleTokenCount() {
+    long timeNowNs = TimeUnit.MILLISECONDS.toNanos(clock.millis());
+    long startNs = Math.max(theoreticalArrivalTimeNs.get(), timeNowNs - burstToleranceNs);
+    return Math.max(0, (long) ((timeNowNs - startNs) / emissionIntervalNs));
+  }
+
+  /**
+   * The ratio of the tokens requested per second to the refill rate, over the last refill interval or so.
+   */
+  @Override
+  public double getStaleUsageRatio() {
+    long elapsedTimeMs = clock.millis() - usageResetTimeMs.get();
+    if (elapsedTimeMs > 0) {
+      double requestedPerSecond = tokensRequestedSinceUsageReset.get() * 1000d / elapsedTimeMs;
+      return requestedPerSecond / getAmortizedRefillPerSecond();
+    } else {
+      return 0d;
+    }
+  }
+
+  private void recordRequestedTokens(long tokensToConsume, long timeNowMs) {
+    long usageResetTime = usageResetTimeMs.get();
+    if (timeNowMs - usageResetTime > refillIntervalMs && usageResetTimeMs.compareAndSet(usageResetTime, timeNowMs)) {
+      tokensRequestedSinceUsageReset.set(0);
+    }
+    tokensRequestedSinceUsageReset.addAndGet(tokensToConsume);
+  }
+}
@@ -0,0 +1,46 @@
+package com.linkedin.venice.writer;
+
+/**
+ * Keeps the messages of a partition in the order of their sequence numbers when they are handed over to the producer,
+ * without holding the partition lock of {@link VeniceWriter} meanwhile.
+ *
+ * A ticket is taken under the partition lock, at the time the sequence number gets assigned. The envelope can then be
+ * serialized outside of any lock, and the message is handed over to the producer once all the messages with an
+ * earlier ticket have been.
+ *
+ * Every ticket must be followed by exactly one {@link #awaitTurn(long)} and {@link #endTurn()}, otherwise the later
+ * tickets of the partition wait forever.
+ */
+class ProduceTicketLock {
+  /** Guarded by the partition lock of {@link VeniceWriter} */
+  private long nextTicket = 0;
+  /** Guarded by this */
+  private long currentTurn = 0;
+
+  /**
+   * Must be called under the partition lock.
+   */
+  long takeTicket() {
+    return nextTicket++;
+  }
+
+  synchronized void awaitTurn(long ticket) {
+    boolean interrupted = false;
+    while (currentTurn != ticket) {
+      try {
+        wait();
+      } catch (InterruptedException e) {
+        // The turn cannot be given up, since the following tickets would never get theirs.
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  synchronized void endTurn() {
+    currentTurn++;
+    notifyAll();
+  }
+}
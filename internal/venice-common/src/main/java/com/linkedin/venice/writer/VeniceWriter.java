@@ -49,6 +49,7 @@ import com.linkedin.venice.serialization.KeyWithChunkingSuffixSerializer;
 import com.linkedin.venice.serialization.VeniceKafkaSerializer;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.ChunkedValueManifestSerializer;
+import com.linkedin.venice.serialization.avro.KafkaValueSerializer;
 import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.ByteUtils;
@@ -157,7 +158,9 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
   public static final int DEFAULT_CLOSE_TIMEOUT_MS = 30 * Time.MS_PER_SECOND;
 
   /**
-   * Default checksum type. N.B.: Only MD5 (and having no checksums) supports checkpointing mid-checksum.
+   * Default checksum type. N.B.: Only MD5, ADHASH, CRC32C and XXHASH64 (and having no checksums) support checkpointing
+   * mid-checksum. CRC32C and XXHASH64 are much cheaper than MD5, but they can only be configured via
+   * {@link #CHECK_SUM_TYPE} once all the consumers of the topic know about them.
    */
   public static final String DEFAULT_CHECK_SUM_TYPE = CheckSumType.MD5.name();
 
@@ -256,6 +259,12 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
   private final Map<CharSequence, CharSequence> defaultDebugInfo;
   private final boolean elapsedTimeForClosingSegmentEnabled;
   private final Object[] partitionLocks;
+  private final ProduceTicketLock[] produceTicketLocks;
+  /**
+   * Serializes the envelopes ahead of handing them over to the producer, or null if the producer would not use the
+   * pre-serialized bytes, see {@link PubSubProducerAdapter#isValuePreSerializationSupported()}.
+   */
+  private final KafkaValueSerializer kafkaValueSerializer;
   private String writerId;
   private volatile boolean isClosed = false;
   private final Object closeLock = new Object();
@@ -356,6 +365,8 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
             .add(VENICE_TRANSPORT_PROTOCOL_HEADER, overrideProtocolSchema.toString().getBytes(StandardCharsets.UTF_8));
     try {
       this.producerAdapter = producerAdapter;
+      this.kafkaValueSerializer =
+          producerAdapter.isValuePreSerializationSupported() ? new KafkaValueSerializer() : null;
       // We cache the number of partitions, as it is expected to be immutable, and the call to Kafka is expensive.
       // Also avoiding a metadata call to kafka here as the partitionsFor() call sometimes may get blocked indefinitely
       // if the kafka broker is overloaded and does not respond in timely manner.
@@ -373,8 +384,10 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
       // Prepare locks for all partitions instead of using map to avoid the searching and creation cost during
       // ingestion.
       this.partitionLocks = new Object[this.numberOfPartitions];
+      this.produceTicketLocks = new ProduceTicketLock[this.numberOfPartitions];
       for (int i = 0; i < numberOfPartitions; i++) {
         partitionLocks[i] = new Object();
+        produceTicketLocks[i] = new ProduceTicketLock();
         segmentsStartTimeArray[i] = -1L;
       }
       this.segments = new Segment[this.numberOfPartitions];
@@ -1317,8 +1330,8 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
 
   /**
    * This is (and should remain!) the only function in the class which writes to Kafka. The synchronized locking
-   * is important, in that it ensures that DIV-related operations are performed atomically with the write to Kafka,
-   * which prevents ordering issues such as this one:
+   * is important, in that it ensures that DIV-related operations are performed atomically, and that the messages get
+   * written to Kafka in the same order, which prevents ordering issues such as this one:
    *
    * - Thread A: calls sendMessage(msgA)
    * - Thread A: increments sequence # (now at X)
@@ -1328,14 +1341,15 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
    * - Thread A: produces (msgA, seq# X) into Kafka
    * - Consumer (in another process) sees: (msgB, seq# X+1) followed by (msgA, seq# X) which triggers a DIV issue
    *
+   * Only the sequence # and checksum updates happen under the partition lock, along with taking a
+   * {@link ProduceTicketLock} ticket. The envelope is then serialized outside of the lock, concurrently with the other
+   * writers of the partition, and the message is handed over to the producer in the order of the tickets.
+   *
    * P.S. 1: Callers which pass {@param updateDIV} == false for the purpose of retrying to produce the same message
    *         should also be synchronized, since otherwise the retries could be interleaved with other messages which
    *         have also updated the DIV.
    *         @see {@link #sendControlMessage(ControlMessage, int, Map, PubSubProducerCallback, LeaderMetadataWrapper)}
    *
-   * P.S. 2: If there is too much contention on this lock, then we can consider a finer locking strategy, where the
-   *         locking is per-partition, which would also be correct as far as DIV is concerned.
-   *
    * @param updateDIV if true, the partition's segment's checksum will be updated and its sequence number incremented
    *                  if false, the checksum and seq# update are omitted, which is the right thing to do during retries
    */
@@ -1345,9 +1359,12 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
       int partition,
       PubSubProducerCallback callback,
       boolean updateDIV) {
+    KafkaMessageEnvelope kafkaValue;
+    KafkaKey key;
+    long ticket;
     synchronized (this.partitionLocks[partition]) {
-      KafkaMessageEnvelope kafkaValue = valueProvider.getKafkaMessageEnvelope();
-      KafkaKey key = keyProvider.getKey(kafkaValue.producerMetadata);
+      kafkaValue = valueProvider.getKafkaMessageEnvelope();
+      key = keyProvider.getKey(kafkaValue.producerMetadata);
       if (updateDIV) {
         Segment segment = segments[partition];
         if (segment == null) {
@@ -1355,31 +1372,48 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
         }
         segment.addToCheckSum(key, kafkaValue);
       }
-      PubSubProducerCallback messageCallback = callback;
-      if (callback == null) {
-        messageCallback = new SendMessageErrorLoggerCallback(kafkaValue, logger);
-      } else if (callback instanceof CompletableFutureCallback) {
-        CompletableFutureCallback completableFutureCallBack = (CompletableFutureCallback) callback;
-        if (completableFutureCallBack.getCallback() == null) {
-          completableFutureCallBack.setCallback(new SendMessageErrorLoggerCallback(kafkaValue, logger));
-        }
+      ticket = produceTicketLocks[partition].takeTicket();
+    }
+
+    PubSubProducerCallback messageCallback = callback;
+    if (callback == null) {
+      messageCallback = new SendMessageErrorLoggerCallback(kafkaValue, logger);
+    } else if (callback instanceof CompletableFutureCallback) {
+      CompletableFutureCallback completableFutureCallBack = (CompletableFutureCallback) callback;
+      if (completableFutureCallBack.getCallback() == null) {
+        completableFutureCallBack.setCallback(new SendMessageErrorLoggerCallback(kafkaValue, logger));
       }
+    }
+    try {
       try {
-        return producerAdapter.sendMessage(
-            topicName,
-            partition,
-            key,
-            kafkaValue,
-            getHeaders(kafkaValue.getProducerMetadata()),
-            messageCallback);
-      } catch (Exception e) {
-        if (ExceptionUtils.recursiveClassEquals(e, PubSubTopicAuthorizationException.class)) {
-          throw new VeniceResourceAccessException(
-              "You do not have permission to write to this store. Please check that ACLs are set correctly.",
-              e);
-        } else {
-          throw e;
+        if (kafkaValueSerializer != null) {
+          kafkaValueSerializer.preSerialize(kafkaValue);
         }
+      } catch (Exception e) {
+        // The producer serializes it again, and handles the failure.
+        logger.warn("Unable to serialize message ahead of producing it to partition {}", partition, e);
+      } finally {
+        produceTicketLocks[partition].awaitTurn(ticket);
+      }
+      return producerAdapter.sendMessage(
+          topicName,
+          partition,
+          key,
+          kafkaValue,
+          getHeaders(kafkaValue.getProducerMetadata()),
+          messageCallback);
+    } catch (Exception e) {
+      if (ExceptionUtils.recursiveClassEquals(e, PubSubTopicAuthorizationException.class)) {
+        throw new VeniceResourceAccessException(
+            "You do not have permission to write to this store. Please check that ACLs are set correctly.",
+            e);
+      } else {
+        throw e;
+      }
+    } finally {
+      produceTicketLocks[partition].endTurn();
+      if (kafkaValueSerializer != null) {
+        KafkaValueSerializer.clearPreSerializedValue();
       }
     }
   }
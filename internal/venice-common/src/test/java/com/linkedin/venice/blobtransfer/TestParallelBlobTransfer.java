@@ -0,0 +1,293 @@
+package com.linkedin.venice.blobtransfer;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.blobtransfer.client.NettyFileTransferClient;
+import com.linkedin.venice.blobtransfer.server.P2PBlobTransferService;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.utils.TestUtils;
+import io.tehuti.metrics.MetricsRepository;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+
+public class TestParallelBlobTransfer {
+  private static final int PEER_COUNT = 3;
+  private static final int TEST_VERSION = 1;
+  private static final int TEST_PARTITION = 0;
+  private static final long FILE_RANGE_SIZE = 256 * 1024;
+
+  private final List<P2PBlobTransferService> servers = new ArrayList<>();
+  private final List<Path> snapshotBaseDirs = new ArrayList<>();
+  private final List<String> peers = new ArrayList<>();
+  private Path partitionBaseDir;
+  private BlobFinder finder;
+  private MetricsRepository metricsRepository;
+  private NettyFileTransferClient client;
+  private NettyP2PBlobTransferManager manager;
+
+  @BeforeClass
+  public void setUp() throws Exception {
+    for (int i = 0; i < PEER_COUNT; i++) {
+      int port = TestUtils.getFreePort();
+      Path snapshotBaseDir = Files.createTempDirectory("tmpSnapshotDir");
+      snapshotBaseDirs.add(snapshotBaseDir);
+      servers.add(new P2PBlobTransferService(port, snapshotBaseDir.toString()));
+      peers.add("localhost:" + port);
+    }
+    partitionBaseDir = Files.createTempDirectory("tmpPartitionDir");
+    client = new NettyFileTransferClient(TestUtils.getFreePort(), partitionBaseDir.toString());
+    finder = mock(BlobFinder.class);
+    metricsRepository = new MetricsRepository();
+    BlobTransferStats stats = new BlobTransferStats(metricsRepository, "blob_transfer", client);
+    // The first server is owned by the manager
+    manager = new NettyP2PBlobTransferManager(servers.get(0), client, finder, 4, FILE_RANGE_SIZE, stats);
+    manager.start();
+    for (int i = 1; i < PEER_COUNT; i++) {
+      servers.get(i).start();
+    }
+  }
+
+  @AfterClass
+  public void teardown() throws Exception {
+    manager.close();
+    for (int i = 1; i < PEER_COUNT; i++) {
+      servers.get(i).close();
+    }
+    for (Path snapshotBaseDir: snapshotBaseDirs) {
+      FileUtils.deleteDirectory(snapshotBaseDir.toFile());
+    }
+    FileUtils.deleteDirectory(partitionBaseDir.toFile());
+  }
+
+  private void setPeers(List<String> discoveredPeers) {
+    BlobPeersDiscoveryResponse response = new BlobPeersDiscoveryResponse();
+    response.setDiscoveryResult(discoveredPeers);
+    doReturn(response).when(finder).discoverBlobPeers(anyString(), anyInt(), anyInt());
+  }
+
+  private Path getSnapshotDir(int peerIndex, String storeName) {
+    return Paths.get(
+        RocksDBUtils.composeSnapshotDir(
+            snapshotBaseDirs.get(peerIndex).toString(),
+            storeName + "_v" + TEST_VERSION,
+            TEST_PARTITION));
+  }
+
+  private Path getPartitionDir(String storeName) {
+    return Paths.get(
+        RocksDBUtils
+            .composePartitionDbDir(partitionBaseDir.toString(), storeName + "_v" + TEST_VERSION, TEST_PARTITION));
+  }
+
+  /**
+   * Write the same file in the snapshot of each given peer.
+   */
+  private void writeSnapshotFile(String storeName, String fileName, byte[] content, int... peerIndexes)
+      throws IOException {
+    for (int peerIndex: peerIndexes) {
+      Path snapshotDir = getSnapshotDir(peerIndex, storeName);
+      Files.createDirectories(snapshotDir);
+      Files.write(snapshotDir.resolve(fileName), content);
+    }
+  }
+
+  private static byte[] randomBytes(int size, long seed) {
+    byte[] bytes = new byte[size];
+    new Random(seed).nextBytes(bytes);
+    return bytes;
+  }
+
+  private void transfer(String storeName) throws InterruptedException, ExecutionException, TimeoutException {
+    manager.get(storeName, TEST_VERSION, TEST_PARTITION).toCompletableFuture().get(1, TimeUnit.MINUTES);
+  }
+
+  private double getMetric(String sensorName) {
+    return metricsRepository.getMetric(".blob_transfer--" + sensorName).value();
+  }
+
+  @Test
+  public void testTransferFromAllPeers() throws Exception {
+    String storeName = "test_store_all_peers";
+    setPeers(peers);
+    byte[] largeFile = randomBytes(10 * 1024 * 1024, 1);
+    byte[] smallFile = "helloworld".getBytes();
+    writeSnapshotFile(storeName, "000001.sst", largeFile, 0, 1, 2);
+    writeSnapshotFile(storeName, "MANIFEST-000001", smallFile, 0, 1, 2);
+    writeSnapshotFile(storeName, "empty", new byte[0], 0, 1, 2);
+
+    transfer(storeName);
+
+    Path partitionDir = getPartitionDir(storeName);
+    Assert.assertEquals(Files.readAllBytes(partitionDir.resolve("000001.sst")), largeFile);
+    Assert.assertEquals(Files.readAllBytes(partitionDir.resolve("MANIFEST-000001")), smallFile);
+    Assert.assertEquals(Files.size(partitionDir.resolve("empty")), 0);
+    // The journal is only needed to resume an incomplete transfer
+    Assert.assertTrue(Files.notExists(partitionDir.resolve(ParallelBlobTransfer.COMPLETED_FILES_JOURNAL)));
+    Assert.assertTrue(getMetric("transferred_bytes.Max") >= largeFile.length + smallFile.length);
+  }
+
+  @Test
+  public void testFileOnlyFetchedFromPeersWithTheSameCopy() throws Exception {
+    String storeName = "test_store_different_copy";
+    setPeers(peers);
+    byte[] sharedFile = randomBytes(2 * 1024 * 1024, 2);
+    byte[] majorityFile = randomBytes(1024 * 1024, 3);
+    // Same name and size, but different content, as it can happen with the files of distinct RocksDB instances
+    byte[] minorityFile = randomBytes(1024 * 1024, 4);
+    writeSnapshotFile(storeName, "000001.sst", sharedFile, 0, 1, 2);
+    writeSnapshotFile(storeName, "000002.sst", majorityFile, 0, 1);
+    writeSnapshotFile(storeName, "000002.sst", minorityFile, 2);
+    // Only known by a single peer, so not part of the snapshot being transferred
+    writeSnapshotFile(storeName, "000003.sst", minorityFile, 2);
+
+    transfer(storeName);
+
+    Path partitionDir = getPartitionDir(storeName);
+    Assert.assertEquals(Files.readAllBytes(partitionDir.resolve("000001.sst")), sharedFile);
+    Assert.assertEquals(Files.readAllBytes(partitionDir.resolve("000002.sst")), majorityFile);
+    Assert.assertTrue(Files.notExists(partitionDir.resolve("000003.sst")));
+  }
+
+  @Test
+  public void testTransferWithUnavailablePeer() throws Exception {
+    String storeName = "test_store_unavailable_peer";
+    List<String> discoveredPeers = new ArrayList<>(peers);
+    discoveredPeers.add(0, "localhost:" + TestUtils.getFreePort());
+    setPeers(discoveredPeers);
+    byte[] file = randomBytes(2 * 1024 * 1024, 5);
+    writeSnapshotFile(storeName, "000001.sst", file, 0, 1, 2);
+
+    transfer(storeName);
+
+    Assert.assertEquals(Files.readAllBytes(getPartitionDir(storeName).resolve("000001.sst")), file);
+    Assert.assertTrue(getMetric("peer_failure_count.OccurrenceRate") > 0);
+  }
+
+  @Test
+  public void testTransferFailsWithoutAvailablePeer() throws Exception {
+    String storeName = "test_store_no_available_peer";
+    setPeers(Arrays.asList("localhost:" + TestUtils.getFreePort()));
+    try {
+      transfer(storeName);
+      Assert.fail("Should have thrown exception");
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause().getMessage().startsWith("Failed to fetch the manifest"), e.getMessage());
+    }
+  }
+
+  @Test
+  public void testResumeTransfer() throws Exception {
+    String storeName = "test_store_resume";
+    setPeers(peers);
+    byte[] file1 = randomBytes(1024 * 1024, 6);
+    byte[] file2 = randomBytes(1024 * 1024, 7);
+    writeSnapshotFile(storeName, "000001.sst", file1, 0, 1, 2);
+    writeSnapshotFile(storeName, "000002.sst", file2, 0, 1, 2);
+
+    // A previous transfer completed the first file, got the second one partially, and left a file of an older snapshot
+    Path partitionDir = getPartitionDir(storeName);
+    Files.createDirectories(partitionDir);
+    Files.write(partitionDir.resolve("000001.sst"), file1);
+    Files.write(partitionDir.resolve("000002.sst"), Arrays.copyOf(file2, 1024));
+    Files.write(partitionDir.resolve("000000.sst"), file2);
+    long checksum1 = BlobTransferUtils.computeChecksum(partitionDir.resolve("000001.sst").toFile());
+    String journal = "000001.sst\t" + file1.length + "\t" + checksum1 + "\n" + "000002.sst\t" + file2.length + "\t0\n";
+    Files.write(partitionDir.resolve(ParallelBlobTransfer.COMPLETED_FILES_JOURNAL), journal.getBytes());
+    double resumedFileCount = getMetric("resumed_file_count.Count");
+
+    transfer(storeName);
+
+    Assert.assertEquals(Files.readAllBytes(partitionDir.resolve("000001.sst")), file1);
+    Assert.assertEquals(Files.readAllBytes(partitionDir.resolve("000002.sst")), file2);
+    Assert.assertTrue(Files.notExists(partitionDir.resolve("000000.sst")));
+    // Only the first file matches its entry in the journal
+    Assert.assertEquals(getMetric("resumed_file_count.Count"), resumedFileCount + 1);
+  }
+
+  @Test
+  public void testOnlyMissingOrChangedFilesTransferred() throws Exception {
+    String storeName = "test_store_delta";
+    setPeers(peers);
+    byte[] unchangedFile = randomBytes(2 * 1024 * 1024, 9);
+    byte[] changedFile = randomBytes(1024 * 1024, 10);
+    byte[] missingFile = randomBytes(1024 * 1024, 11);
+    writeSnapshotFile(storeName, "000001.sst", unchangedFile, 0, 1, 2);
+    writeSnapshotFile(storeName, "000002.sst", changedFile, 0, 1, 2);
+    writeSnapshotFile(storeName, "000003.sst", missingFile, 0, 1, 2);
+
+    // The previous database of a restarting replica, without any journal
+    Path partitionDir = getPartitionDir(storeName);
+    Files.createDirectories(partitionDir);
+    Files.write(partitionDir.resolve("000001.sst"), unchangedFile);
+    Files.write(partitionDir.resolve("000002.sst"), randomBytes(changedFile.length, 12));
+    double reusedFileCount = getMetric("reused_local_file_count.Total");
+    double reusedBytes = getMetric("reused_local_bytes.Total");
+
+    transfer(storeName);
+
+    Assert.assertEquals(Files.readAllBytes(partitionDir.resolve("000001.sst")), unchangedFile);
+    Assert.assertEquals(Files.readAllBytes(partitionDir.resolve("000002.sst")), changedFile);
+    Assert.assertEquals(Files.readAllBytes(partitionDir.resolve("000003.sst")), missingFile);
+    Assert.assertEquals(getMetric("reused_local_file_count.Total"), reusedFileCount + 1);
+    Assert.assertEquals(getMetric("reused_local_bytes.Total"), reusedBytes + unchangedFile.length);
+  }
+
+  @Test
+  public void testBandwidthLimit() throws Exception {
+    String storeName = "test_store_bandwidth_limit";
+    int serverPort = TestUtils.getFreePort();
+    Path snapshotBaseDir = Files.createTempDirectory("tmpSnapshotDir");
+    Path limitedPartitionBaseDir = Files.createTempDirectory("tmpPartitionDir");
+    long maxBandwidthBytesPerSec = 1024 * 1024;
+    P2PBlobTransferService limitedServer =
+        new P2PBlobTransferService(serverPort, snapshotBaseDir.toString(), maxBandwidthBytesPerSec);
+    NettyFileTransferClient limitedClient =
+        new NettyFileTransferClient(serverPort, limitedPartitionBaseDir.toString(), maxBandwidthBytesPerSec);
+    NettyP2PBlobTransferManager limitedManager =
+        new NettyP2PBlobTransferManager(limitedServer, limitedClient, finder, 4, FILE_RANGE_SIZE, null);
+    try {
+      limitedManager.start();
+      setPeers(Arrays.asList("localhost"));
+      byte[] file = randomBytes(3 * 1024 * 1024, 8);
+      Path snapshotDir = Paths.get(
+          RocksDBUtils.composeSnapshotDir(snapshotBaseDir.toString(), storeName + "_v" + TEST_VERSION, TEST_PARTITION));
+      Files.createDirectories(snapshotDir);
+      Files.write(snapshotDir.resolve("000001.sst"), file);
+
+      long startTimeMs = System.currentTimeMillis();
+      limitedManager.get(storeName, TEST_VERSION, TEST_PARTITION).toCompletableFuture().get(1, TimeUnit.MINUTES);
+      long elapsedTimeMs = System.currentTimeMillis() - startTimeMs;
+
+      Path partitionDir = Paths.get(
+          RocksDBUtils.composePartitionDbDir(
+              limitedPartitionBaseDir.toString(),
+              storeName + "_v" + TEST_VERSION,
+              TEST_PARTITION));
+      Assert.assertEquals(Files.readAllBytes(partitionDir.resolve("000001.sst")), file);
+      // The first second of traffic is not shaped yet, so only check the transfer got slowed down
+      Assert.assertTrue(elapsedTimeMs >= 1000, "Transfer took " + elapsedTimeMs + "ms");
+    } finally {
+      limitedManager.close();
+      FileUtils.deleteDirectory(snapshotBaseDir.toFile());
+      FileUtils.deleteDirectory(limitedPartitionBaseDir.toFile());
+    }
+  }
+}
@@ -32,16 +32,19 @@ import org.testng.annotations.Test;
 public class TestP2PFileTransferServerHandler {
   EmbeddedChannel ch;
   Path baseDir;
+  SnapshotManifestProvider manifestProvider;
 
   @BeforeMethod
   public void setUp() throws IOException {
     baseDir = Files.createTempDirectory("tmp");
-    ch = new EmbeddedChannel(new P2PFileTransferServerHandler(baseDir.toString()));
+    manifestProvider = new SnapshotManifestProvider(1);
+    ch = new EmbeddedChannel(new P2PFileTransferServerHandler(baseDir.toString(), manifestProvider));
   }
 
   @AfterMethod
   public void teardown() throws IOException {
     ch.close();
+    manifestProvider.close();
     Files.walk(baseDir).sorted(Comparator.reverseOrder()).forEach(path -> {
       try {
         Files.delete(path);
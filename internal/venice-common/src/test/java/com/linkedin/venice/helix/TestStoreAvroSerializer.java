@@ -0,0 +1,88 @@
+package com.linkedin.venice.helix;
+
+import com.linkedin.venice.meta.BufferReplayPolicy;
+import com.linkedin.venice.meta.DataReplicationPolicy;
+import com.linkedin.venice.meta.HybridStoreConfigImpl;
+import com.linkedin.venice.meta.LazyStoreVersionList;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.VersionImpl;
+import com.linkedin.venice.meta.ZKStore;
+import com.linkedin.venice.utils.TestUtils;
+import java.io.IOException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+/**
+ * Test cases for StoreAvroSerializer.
+ */
+public class TestStoreAvroSerializer {
+  private static Store createStore() {
+    Store store = TestUtils.createTestStore("s1", "owner", 1l);
+    store.setPartitionCount(10);
+    store.setReadQuotaInCU(100);
+    store.setHybridStoreConfig(
+        new HybridStoreConfigImpl(
+            1000,
+            1000,
+            HybridStoreConfigImpl.DEFAULT_HYBRID_TIME_LAG_THRESHOLD,
+            DataReplicationPolicy.NON_AGGREGATE,
+            BufferReplayPolicy.REWIND_FROM_EOP));
+    // Cloned versions don't inherit the store configs, so their partition count is missing.
+    store.addVersion(new VersionImpl(store.getName(), 1, "pushJobId1"), true);
+    store.addVersion(new VersionImpl(store.getName(), 2, "pushJobId2"), true);
+    return store;
+  }
+
+  @Test
+  public void testSerializeAndDeserializeStore() throws IOException {
+    Store store = createStore();
+    StoreAvroSerializer serializer = new StoreAvroSerializer(true);
+    byte[] data = serializer.serialize(store, "");
+    Assert.assertEquals(data[0], StoreAvroSerializer.MAGIC_BYTE);
+    Assert.assertTrue(data.length < new StoreJSONSerializer().serialize(store, "").length);
+
+    Store newStore = serializer.deserialize(data, "");
+    LazyStoreVersionList versions = (LazyStoreVersionList) ((ZKStore) newStore).dataModel().versions;
+    Assert.assertEquals(newStore.getName(), store.getName());
+    Assert.assertEquals(newStore.getOwner(), store.getOwner());
+    Assert.assertEquals(newStore.getPartitionCount(), 10);
+    Assert.assertEquals(newStore.getReadQuotaInCU(), 100);
+    Assert.assertEquals(newStore.getHybridStoreConfig(), store.getHybridStoreConfig());
+    Assert.assertFalse(versions.isDecoded(), "The versions should only be decoded once accessed");
+
+    // Stores with the same encoded versions are compared without decoding them.
+    Assert.assertEquals(serializer.deserialize(data, ""), newStore);
+    Assert.assertFalse(versions.isDecoded());
+
+    // The missing fields of the versions are fixed once they are decoded.
+    newStore.fixMissingFields();
+    Assert.assertFalse(versions.isDecoded());
+    Assert.assertEquals(newStore.getVersions().size(), 2);
+    Assert.assertTrue(versions.isDecoded());
+    Assert.assertEquals(newStore.getVersion(1).getPushJobId(), "pushJobId1");
+    Assert.assertEquals(newStore.getVersion(1).getPartitionCount(), 10);
+    Assert.assertEquals(newStore.getVersion(2).getPushJobId(), "pushJobId2");
+    Assert.assertEquals(newStore.getVersion(2).getPartitionCount(), 10);
+
+    // Decoded versions can be modified, and are encoded again.
+    newStore.deleteVersion(1);
+    Store reserializedStore = serializer.deserialize(serializer.serialize(newStore, ""), "");
+    Assert.assertEquals(reserializedStore.getVersions().size(), 1);
+    Assert.assertEquals(reserializedStore, newStore);
+  }
+
+  @Test
+  public void testDeserializeJsonStore() throws IOException {
+    Store store = createStore();
+    byte[] data = new StoreJSONSerializer().serialize(store, "");
+    StoreAvroSerializer serializer = new StoreAvroSerializer(true);
+    Assert.assertEquals(serializer.deserialize(data, ""), store);
+
+    // Json is written until the binary encoding is enabled.
+    StoreAvroSerializer jsonSerializer = new StoreAvroSerializer(false);
+    data = jsonSerializer.serialize(store, "");
+    Assert.assertEquals(data[0], '{');
+    Assert.assertEquals(jsonSerializer.deserialize(data, ""), store);
+  }
+}
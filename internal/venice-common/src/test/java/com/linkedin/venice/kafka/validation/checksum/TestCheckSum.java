@@ -1,8 +1,11 @@
 package com.linkedin.venice.kafka.validation.checksum;
 
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.DataProviderUtils;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Random;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -28,4 +31,39 @@ public class TestCheckSum {
     checkSum.update(3);
     Assert.assertFalse(Arrays.equals(curCheckSumVal, checkSum.getCheckSum()));
   }
+
+  @Test
+  public void testKnownValues() {
+    byte[] input = "123456789".getBytes(StandardCharsets.UTF_8);
+    Assert.assertEquals(ByteUtils.readInt(checkSumOf(CheckSumType.CRC32C, input), 0), 0xE3069283);
+    Assert.assertEquals(ByteUtils.readLong(checkSumOf(CheckSumType.XXHASH64, new byte[0]), 0), 0xEF46DB3751D8E999L);
+    // Longer than an xxHash64 stripe
+    input = "Nobody inspects the spammish repetition".getBytes(StandardCharsets.UTF_8);
+    Assert.assertEquals(ByteUtils.readLong(checkSumOf(CheckSumType.XXHASH64, input), 0), 0xFBCEA83C8A378BF1L);
+  }
+
+  @Test(dataProvider = "CheckpointingSupported-CheckSum-Types", dataProviderClass = DataProviderUtils.class)
+  public void testCheckpointing(CheckSumType checkSumType) {
+    Random random = new Random(0);
+    byte[] input = new byte[1000];
+    random.nextBytes(input);
+    byte[] expectedCheckSum = checkSumOf(checkSumType, input);
+
+    // Resume from the encoded state after updates of random lengths.
+    CheckSum checkSum = CheckSum.getInstance(checkSumType);
+    int offset = 0;
+    while (offset < input.length) {
+      int length = Math.min(input.length - offset, random.nextInt(70));
+      checkSum.update(input, offset, length);
+      offset += length;
+      checkSum = CheckSum.getInstance(checkSumType, checkSum.getEncodedState());
+    }
+    Assert.assertEquals(checkSum.getCheckSum(), expectedCheckSum);
+  }
+
+  private static byte[] checkSumOf(CheckSumType checkSumType, byte[] input) {
+    CheckSum checkSum = CheckSum.getInstance(checkSumType);
+    checkSum.update(input);
+    return checkSum.getCheckSum();
+  }
 }
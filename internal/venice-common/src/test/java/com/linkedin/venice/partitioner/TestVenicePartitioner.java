@@ -1,6 +1,8 @@
 package com.linkedin.venice.partitioner;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -68,4 +70,50 @@ public class TestVenicePartitioner {
     partition2 = sumPartitioner.getPartitionId(keyBytes2, 16);
     Assert.assertEquals(partition1, partition2);
   }
+
+  @Test
+  public void testXXHash64Partitioning() {
+    VenicePartitioner vp = new XXHash64VenicePartitioner();
+    int numPartitions = 7;
+    int[] partitionSizes = new int[numPartitions];
+    for (int i = 0; i < 7000; i++) {
+      byte[] keyBytes = ("key_" + i).getBytes();
+      int partition = vp.getPartitionId(keyBytes, numPartitions);
+      partitionSizes[partition]++;
+      byte[] paddedKeyBytes = new byte[keyBytes.length + 2];
+      System.arraycopy(keyBytes, 0, paddedKeyBytes, 1, keyBytes.length);
+      Assert.assertEquals(vp.getPartitionId(paddedKeyBytes, 1, keyBytes.length, numPartitions), partition);
+      ByteBuffer keyBuffer = ByteBuffer.wrap(paddedKeyBytes, 1, keyBytes.length);
+      Assert.assertEquals(vp.getPartitionId(keyBuffer, numPartitions), partition);
+      ByteBuffer directKeyBuffer = ByteBuffer.allocateDirect(keyBytes.length);
+      directKeyBuffer.put(keyBytes).flip();
+      Assert.assertEquals(vp.getPartitionId(directKeyBuffer, numPartitions), partition);
+    }
+    for (int partitionSize: partitionSizes) {
+      Assert.assertTrue(partitionSize > 800 && partitionSize < 1200, "Unbalanced partitions: " + partitionSize);
+    }
+  }
+
+  @Test
+  public void testBatchedPartitioning() {
+    byte[][] keys = new byte[100][];
+    ByteBuffer[] keyBuffers = new ByteBuffer[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = ("key_" + i).getBytes();
+      keyBuffers[i] = ByteBuffer.wrap(keys[i]);
+    }
+    int numPartitions = 16;
+    List<VenicePartitioner> partitioners =
+        Arrays.asList(new DefaultVenicePartitioner(), new XXHash64VenicePartitioner());
+    for (VenicePartitioner vp: partitioners) {
+      int[] partitionIds = new int[keys.length];
+      int[] bufferPartitionIds = new int[keys.length];
+      vp.getPartitionIds(keys, numPartitions, partitionIds);
+      vp.getPartitionIds(keyBuffers, numPartitions, bufferPartitionIds);
+      for (int i = 0; i < keys.length; i++) {
+        Assert.assertEquals(partitionIds[i], vp.getPartitionId(keys[i], numPartitions));
+        Assert.assertEquals(bufferPartitionIds[i], partitionIds[i]);
+      }
+    }
+  }
 }
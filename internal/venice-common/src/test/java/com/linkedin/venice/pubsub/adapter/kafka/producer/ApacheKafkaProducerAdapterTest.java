@@ -11,6 +11,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
@@ -24,15 +25,18 @@ import com.linkedin.venice.pubsub.api.exceptions.PubSubClientException;
 import com.linkedin.venice.pubsub.api.exceptions.PubSubOpTimeoutException;
 import com.linkedin.venice.pubsub.api.exceptions.PubSubTopicAuthorizationException;
 import com.linkedin.venice.pubsub.api.exceptions.PubSubTopicDoesNotExistException;
+import com.linkedin.venice.serialization.avro.KafkaValueSerializer;
 import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.concurrent.Future;
 import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.KafkaException;
@@ -69,6 +73,19 @@ public class ApacheKafkaProducerAdapterTest {
     producerAdapter.sendMessage(TOPIC_NAME, 0, testKafkaKey, testKafkaValue, null, null);
   }
 
+  @Test
+  public void testIsValuePreSerializationSupported() {
+    ApacheKafkaProducerAdapter producerAdapter = new ApacheKafkaProducerAdapter(producerConfigMock, kafkaProducerMock);
+    Properties producerProperties = new Properties();
+    when(producerConfigMock.getProducerProperties()).thenReturn(producerProperties);
+    producerProperties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, KafkaValueSerializer.class);
+    assertTrue(producerAdapter.isValuePreSerializationSupported());
+
+    // A value serializer overridden in a non-strict config would not pick up the pre-serialized bytes
+    producerProperties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, Object.class);
+    assertFalse(producerAdapter.isValuePreSerializationSupported());
+  }
+
   @Test
   public void testGetNumberOfPartitions() {
     List<PartitionInfo> list = new ArrayList<>();
@@ -0,0 +1,62 @@
+package com.linkedin.venice.throttle;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.Test;
+
+
+public class GcraTokenBucketTest {
+  @Test
+  public void testConsume() {
+    Clock mockClock = mock(Clock.class);
+    long start = System.currentTimeMillis();
+    doReturn(start).when(mockClock).millis();
+
+    long capacity = 100;
+    long refillAmount = 10;
+
+    TokenBucket tokenBucket = new GcraTokenBucket(capacity, refillAmount, 1, TimeUnit.SECONDS, mockClock);
+    assertEquals(tokenBucket.getStaleTokenCount(), capacity, "Bucket must start with full capacity");
+    assertTrue(tokenBucket.tryConsume(80), "Bucket must allow consuming available tokens");
+    assertEquals(tokenBucket.getStaleTokenCount(), 20, "After consuming tokens, the bucket must have fewer tokens");
+    assertFalse(tokenBucket.tryConsume(111), "Bucket must not allow consuming more than capacity plus refill amount");
+    assertEquals(tokenBucket.getStaleTokenCount(), 20, "After failing to consume tokens, the bucket must be unchanged");
+
+    // Consuming more tokens than available takes the bucket into debt
+    assertTrue(tokenBucket.tryConsume(30), "Bucket must allow consuming more tokens than available");
+    assertEquals(tokenBucket.getStaleTokenCount(), 0);
+    assertFalse(tokenBucket.tryConsume(1), "Bucket must not allow consuming tokens while in debt");
+
+    // The debt of 10 tokens is repaid after 1 second, then tokens are refilled continuously
+    doReturn(start + 1000).when(mockClock).millis();
+    assertFalse(tokenBucket.tryConsume(1), "Bucket must not allow consuming tokens until the debt is repaid");
+    doReturn(start + 1100).when(mockClock).millis();
+    assertEquals(tokenBucket.getStaleTokenCount(), 1, "Bucket must be refilled by a token every 100 ms");
+    assertTrue(tokenBucket.tryConsume(1));
+    assertFalse(tokenBucket.tryConsume(1));
+
+    // The bucket is never refilled beyond its capacity
+    doReturn(start + 100000).when(mockClock).millis();
+    assertEquals(tokenBucket.getStaleTokenCount(), capacity);
+  }
+
+  @Test
+  public void testUsageRatio() {
+    Clock mockClock = mock(Clock.class);
+    long start = System.currentTimeMillis();
+    doReturn(start).when(mockClock).millis();
+
+    TokenBucket tokenBucket = new GcraTokenBucket(100, 10, 1, TimeUnit.SECONDS, mockClock);
+    assertEquals(tokenBucket.getStaleUsageRatio(), 0d, "Stale usage ratio should be zero since time hasn't moved");
+    tokenBucket.tryConsume(20);
+    doReturn(start + 500).when(mockClock).millis();
+    // 20 tokens requested in half a second, at a rate of 10 tokens per second
+    assertEquals(tokenBucket.getStaleUsageRatio(), 4d);
+  }
+}
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
 import com.linkedin.davinci.kafka.consumer.LeaderFollowerStoreIngestionTask;
@@ -58,9 +59,14 @@ import com.linkedin.venice.utils.VeniceProperties;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import org.apache.kafka.common.errors.TimeoutException;
@@ -616,4 +622,47 @@ public class VeniceWriterUnitTest {
       fail("VeniceWriter.close() should not cause StackOverflowError", t);
     }
   }
+
+  @Test(timeOut = TIMEOUT)
+  public void testConcurrentWritersKeepSequenceNumberOrder() throws Exception {
+    List<Integer> producedSequenceNumbers = Collections.synchronizedList(new ArrayList<>());
+    PubSubProducerAdapter mockedProducer = mock(PubSubProducerAdapter.class);
+    when(mockedProducer.sendMessage(any(), any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+      KafkaMessageEnvelope value = invocation.getArgument(3);
+      producedSequenceNumbers.add(value.getProducerMetadata().getMessageSequenceNumber());
+      return CompletableFuture.completedFuture(null);
+    });
+    VeniceKafkaSerializer serializer = new VeniceAvroKafkaSerializer("\"string\"");
+    VeniceWriterOptions veniceWriterOptions = new VeniceWriterOptions.Builder("test").setKeySerializer(serializer)
+        .setValueSerializer(serializer)
+        .setPartitionCount(1)
+        .build();
+
+    int threadCount = 4;
+    int recordCountPerThread = 500;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try (VeniceWriter<Object, Object, Object> writer =
+        new VeniceWriter<>(veniceWriterOptions, VeniceProperties.empty(), mockedProducer)) {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < threadCount; i++) {
+        int threadId = i;
+        futures.add(executor.submit(() -> {
+          for (int j = 0; j < recordCountPerThread; j++) {
+            writer.put("key-" + threadId + "-" + j, "value", 1, null);
+          }
+        }));
+      }
+      for (Future<?> future: futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // The start of segment, then all the records, then the end of segment sent by close.
+    assertTrue(producedSequenceNumbers.size() >= threadCount * recordCountPerThread + 1);
+    for (int i = 0; i < producedSequenceNumbers.size(); i++) {
+      assertEquals((int) producedSequenceNumbers.get(i), i, "Messages were handed to the producer out of order");
+    }
+  }
 }
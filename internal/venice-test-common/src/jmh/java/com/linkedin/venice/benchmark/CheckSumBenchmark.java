@@ -0,0 +1,86 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.kafka.protocol.enums.MessageType;
+import com.linkedin.venice.kafka.validation.Segment;
+import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
+import com.linkedin.venice.message.KafkaKey;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Benchmark the per-record cost of the Data Ingest Validation checksum, which every producer and every consumer pays
+ * for each PUT, for each {@link CheckSumType} supporting checkpointing.
+ */
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class CheckSumBenchmark {
+  @Param({ "MD5", "ADHASH", "CRC32C", "XXHASH64" })
+  private String checkSumType;
+
+  @Param({ "100", "1000", "10000" })
+  private int valueSize;
+
+  private Segment segment;
+  private KafkaKey key;
+  private KafkaMessageEnvelope messageEnvelope;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(0);
+    byte[] keyBytes = new byte[16];
+    random.nextBytes(keyBytes);
+    byte[] valueBytes = new byte[valueSize];
+    random.nextBytes(valueBytes);
+
+    segment = new Segment(0, 0, CheckSumType.valueOf(checkSumType));
+    key = new KafkaKey(MessageType.PUT, keyBytes);
+    Put put = new Put();
+    put.schemaId = 1;
+    put.putValue = ByteBuffer.wrap(valueBytes);
+    messageEnvelope = new KafkaMessageEnvelope();
+    messageEnvelope.messageType = MessageType.PUT.getValue();
+    messageEnvelope.payloadUnion = put;
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(CheckSumBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Benchmark
+  public void addToCheckSum(Blackhole blackhole) {
+    blackhole.consume(segment.addToCheckSum(key, messageEnvelope));
+  }
+
+  /**
+   * The cost of checkpointing the running checksum into the offset record.
+   */
+  @Benchmark
+  public void getCheckSumState(Blackhole blackhole) {
+    segment.addToCheckSum(key, messageEnvelope);
+    blackhole.consume(segment.getCheckSumState());
+  }
+}
@@ -0,0 +1,152 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.ACTIVE_ELEM_TS_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.DELETED_ELEM_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.DELETED_ELEM_TS_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.PUT_ONLY_PART_LENGTH_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.TOP_LEVEL_COLO_ID_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.TOP_LEVEL_TS_FIELD_NAME;
+
+import com.linkedin.avro.api.PrimitiveLongList;
+import com.linkedin.avro.fastserde.primitive.PrimitiveLongArrayList;
+import com.linkedin.davinci.schema.merge.AvroCollectionElementComparator;
+import com.linkedin.davinci.schema.merge.SortBasedCollectionFieldOpHandler;
+import com.linkedin.davinci.utils.IndexedHashMap;
+import com.linkedin.venice.schema.AvroSchemaParseUtils;
+import com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Benchmark a partial update adding a few elements to a list field and a map field in the collection-merge state,
+ * with and without the linear merge of {@link SortBasedCollectionFieldOpHandler}.
+ *
+ * Every partial update adds back the elements with the oldest active timestamps, which moves them to the end of the
+ * collection, so that the size of the collection stays the same across invocations.
+ */
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class CollectionMergeBenchmark {
+  private static final Schema VALUE_SCHEMA = AvroSchemaParseUtils.parseSchemaFromJSONStrictValidation(
+      "{\"type\":\"record\",\"name\":\"BenchmarkValue\",\"namespace\":\"com.linkedin.venice.benchmark\",\"fields\":["
+          + "{\"name\":\"listField\",\"type\":{\"type\":\"array\",\"items\":\"long\"},\"default\":[]},"
+          + "{\"name\":\"mapField\",\"type\":{\"type\":\"map\",\"values\":\"long\"},\"default\":{}}]}");
+  private static final Schema.Field LIST_FIELD = VALUE_SCHEMA.getField("listField");
+  private static final Schema.Field MAP_FIELD = VALUE_SCHEMA.getField("mapField");
+
+  @Param({ "100", "1000", "10000", "100000" })
+  private int collectionSize;
+
+  @Param({ "10" })
+  private int deltaSize;
+
+  @Param({ "true", "false" })
+  private boolean linearMerge;
+
+  private SortBasedCollectionFieldOpHandler handler;
+  private GenericRecord valueRecord;
+  private CollectionRmdTimestamp<Object> listRmd;
+  private CollectionRmdTimestamp<String> mapRmd;
+  private long modifyTimestamp;
+  private int nextOldestElement;
+
+  @Setup
+  public void setUp() {
+    handler = new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE, linearMerge);
+    valueRecord = new GenericData.Record(VALUE_SCHEMA);
+    List<Object> list = new ArrayList<>(collectionSize);
+    IndexedHashMap<String, Object> map = new IndexedHashMap<>(collectionSize);
+    PrimitiveLongList listTimestamps = new PrimitiveLongArrayList(collectionSize);
+    PrimitiveLongList mapTimestamps = new PrimitiveLongArrayList(collectionSize);
+    for (int i = 0; i < collectionSize; i++) {
+      list.add((long) i);
+      map.put(mapKey(i), (long) i);
+      listTimestamps.addPrimitive(i + 1);
+      mapTimestamps.addPrimitive(i + 1);
+    }
+    valueRecord.put(LIST_FIELD.pos(), list);
+    valueRecord.put(MAP_FIELD.pos(), map);
+    listRmd = new CollectionRmdTimestamp<>(createCollectionRmdRecord(Schema.create(Schema.Type.LONG), listTimestamps));
+    mapRmd = new CollectionRmdTimestamp<>(createCollectionRmdRecord(Schema.create(Schema.Type.STRING), mapTimestamps));
+    modifyTimestamp = collectionSize + 1;
+    nextOldestElement = 0;
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(CollectionMergeBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Benchmark
+  public Object addToList() {
+    List<Object> toAddElements = new ArrayList<>(deltaSize);
+    for (int i = 0; i < deltaSize; i++) {
+      toAddElements.add((long) nextOldestElement(i));
+    }
+    nextOldestElement = nextOldestElement(deltaSize);
+    return handler.handleModifyList(
+        modifyTimestamp++,
+        listRmd,
+        valueRecord,
+        LIST_FIELD,
+        toAddElements,
+        Collections.emptyList());
+  }
+
+  @Benchmark
+  public Object addToMap() {
+    Map<String, Object> newEntries = new HashMap<>();
+    for (int i = 0; i < deltaSize; i++) {
+      newEntries.put(mapKey(nextOldestElement(i)), modifyTimestamp);
+    }
+    nextOldestElement = nextOldestElement(deltaSize);
+    return handler
+        .handleModifyMap(modifyTimestamp++, mapRmd, valueRecord, MAP_FIELD, newEntries, Collections.emptyList());
+  }
+
+  private int nextOldestElement(int offset) {
+    return (nextOldestElement + offset) % collectionSize;
+  }
+
+  private static String mapKey(int element) {
+    return "key_" + element;
+  }
+
+  private static GenericRecord createCollectionRmdRecord(Schema elementSchema, PrimitiveLongList activeTimestamps) {
+    GenericRecord collectionRmdRecord = new GenericData.Record(
+        CollectionRmdTimestamp.createCollectionTimeStampSchema("CollectionTs", "com.linkedin.venice", elementSchema));
+    collectionRmdRecord.put(TOP_LEVEL_TS_FIELD_NAME, 0L);
+    collectionRmdRecord.put(TOP_LEVEL_COLO_ID_FIELD_NAME, 0);
+    collectionRmdRecord.put(PUT_ONLY_PART_LENGTH_FIELD_NAME, 0);
+    collectionRmdRecord.put(ACTIVE_ELEM_TS_FIELD_NAME, activeTimestamps);
+    collectionRmdRecord.put(DELETED_ELEM_FIELD_NAME, new ArrayList<>());
+    collectionRmdRecord.put(DELETED_ELEM_TS_FIELD_NAME, new PrimitiveLongArrayList(0));
+    return collectionRmdRecord;
+  }
+}
@@ -1,6 +1,8 @@
 package com.linkedin.venice.benchmark;
 
 import static com.linkedin.davinci.kafka.consumer.KafkaConsumerService.ConsumerAssignmentStrategy;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_REPORT_COALESCING_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_UNIX_DOMAIN_SOCKET_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_SHARED_CONSUMER_ASSIGNMENT_STRATEGY;
 import static com.linkedin.venice.ConfigKeys.SORTED_INPUT_DRAINER_SIZE;
 import static com.linkedin.venice.ConfigKeys.UNSORTED_INPUT_DRAINER_SIZE;
@@ -56,6 +58,11 @@ import org.testng.Assert;
  * We call it IngestionBenchmarkWithTwoProcesses since the main process only starts up a Da Vinci client
  * to do ingestion, while the testing cluster (including server, controller, kafka broker etc.) is spawned
  * in another process to maximize testing environment isolation.
+ *
+ * With isolated ingestion, the ingestion runs in a process forked by the Da Vinci client, which hands the partitions
+ * over to the main process once they are ingested, so the measured time includes the reports and the handover going
+ * through the transport between both processes: TCP loopback, or a Unix domain socket along with the coalescing of the
+ * PROGRESS reports.
  */
 @BenchmarkMode(Mode.AverageTime)
 @OperationsPerInvocation(VeniceClusterWrapper.NUM_RECORDS)
@@ -71,6 +78,9 @@ public class IngestionBenchmarkWithTwoProcesses {
   @Param({ "1", "2", "4" })
   private static int drainerSize;
 
+  @Param({ "NONE", "TCP", "UNIX_DOMAIN_SOCKET" })
+  private static String ingestionIsolationTransport;
+
   private String storeName;
 
   /**
@@ -123,6 +133,12 @@ public class IngestionBenchmarkWithTwoProcesses {
       backendConfig.put(SERVER_SHARED_CONSUMER_ASSIGNMENT_STRATEGY, strategy);
       backendConfig.put(SORTED_INPUT_DRAINER_SIZE, drainerSize);
       backendConfig.put(UNSORTED_INPUT_DRAINER_SIZE, drainerSize);
+      if (!ingestionIsolationTransport.equals("NONE")) {
+        backendConfig.putAll(TestUtils.getIngestionIsolationPropertyMap());
+        boolean unixDomainSocketEnabled = ingestionIsolationTransport.equals("UNIX_DOMAIN_SOCKET");
+        backendConfig.put(SERVER_INGESTION_ISOLATION_UNIX_DOMAIN_SOCKET_ENABLED, unixDomainSocketEnabled);
+        backendConfig.put(SERVER_INGESTION_ISOLATION_REPORT_COALESCING_ENABLED, unixDomainSocketEnabled);
+      }
 
       DaVinciClient<String, String> client = getGenericAvroDaVinciClientWithRetries(
           storeName,
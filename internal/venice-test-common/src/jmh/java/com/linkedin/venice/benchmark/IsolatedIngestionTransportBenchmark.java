@@ -0,0 +1,147 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.buildHttpResponse;
+import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.getDummyCommand;
+import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.getDummyContent;
+
+import com.linkedin.davinci.ingestion.AbstractIngestionTransport;
+import com.linkedin.davinci.ingestion.HttpClientTransport;
+import com.linkedin.davinci.ingestion.UnixDomainSocketServer;
+import com.linkedin.davinci.ingestion.UnixDomainSocketTransport;
+import com.linkedin.venice.ingestion.protocol.IngestionTaskReport;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionReportType;
+import com.linkedin.venice.utils.TestUtils;
+import com.linkedin.venice.utils.Utils;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import java.io.File;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Benchmark the round trip of the requests between the main process and the forked ingestion process, over the HTTP
+ * transport on the loopback interface and over the Unix domain socket transport. The server side is a stub which
+ * answers like the real handlers, so only the transport gets measured.
+ */
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class IsolatedIngestionTransportBenchmark {
+  private static final int REQUEST_TIMEOUT_IN_SECONDS = 10;
+
+  @Param({ "HTTP", "UNIX_DOMAIN_SOCKET" })
+  private String transportType;
+
+  private EventLoopGroup serverGroup;
+  private Channel serverChannel;
+  private UnixDomainSocketServer unixDomainSocketServer;
+  private File socketDir;
+  private AbstractIngestionTransport transport;
+  private IngestionTaskReport report;
+
+  @Setup
+  public void setUp() throws Exception {
+    int port = TestUtils.getFreePort();
+    if (transportType.equals("HTTP")) {
+      serverGroup = new NioEventLoopGroup(2);
+      serverChannel = new ServerBootstrap().group(serverGroup)
+          .channel(NioServerSocketChannel.class)
+          .childHandler(new StubChannelInitializer())
+          .bind(port)
+          .sync()
+          .channel();
+      transport = new HttpClientTransport(Optional.empty(), port, REQUEST_TIMEOUT_IN_SECONDS);
+    } else {
+      socketDir = Utils.getTempDataDirectory();
+      String socketPath = new File(socketDir, "venice_ingestion_" + port + ".sock").getAbsolutePath();
+      unixDomainSocketServer = new UnixDomainSocketServer(socketPath);
+      unixDomainSocketServer.start(new StubChannelInitializer());
+      transport = new UnixDomainSocketTransport(socketPath, REQUEST_TIMEOUT_IN_SECONDS);
+    }
+
+    report = new IngestionTaskReport();
+    report.reportType = IngestionReportType.PROGRESS.getValue();
+    report.topicName = "benchmark_store_v1";
+    report.partitionId = 0;
+    report.offset = 12345L;
+    report.message = "";
+  }
+
+  @TearDown
+  public void cleanUp() throws Exception {
+    transport.close();
+    if (serverChannel != null) {
+      serverChannel.close().sync();
+      serverGroup.shutdownGracefully();
+    }
+    if (unixDomainSocketServer != null) {
+      unixDomainSocketServer.close();
+      FileUtils.deleteDirectory(socketDir);
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(IsolatedIngestionTransportBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Benchmark
+  public void heartbeat(Blackhole blackhole) {
+    blackhole.consume(transport.sendRequest(IngestionAction.HEARTBEAT, getDummyCommand(), REQUEST_TIMEOUT_IN_SECONDS));
+  }
+
+  @Benchmark
+  public void report(Blackhole blackhole) {
+    blackhole.consume(transport.sendRequest(IngestionAction.REPORT, report, REQUEST_TIMEOUT_IN_SECONDS));
+  }
+
+  private static class StubChannelInitializer extends ChannelInitializer<Channel> {
+    @Override
+    protected void initChannel(Channel ch) {
+      ch.pipeline()
+          .addLast(new HttpServerCodec())
+          .addLast(new HttpObjectAggregator(1024 * 1024))
+          .addLast(new SimpleChannelInboundHandler<FullHttpRequest>() {
+            @Override
+            protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest msg) {
+              // Both HEARTBEAT and REPORT are answered with the dummy content.
+              ctx.writeAndFlush(buildHttpResponse(HttpResponseStatus.OK, getDummyContent()));
+            }
+          });
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.throttle.GcraTokenBucket;
+import com.linkedin.venice.throttle.TokenBucket;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Benchmark the cost of admitting a request against a token bucket shared by all the request handler threads, as the
+ * read quota enforcement of a storage node does, with the {@link TokenBucket} refilled once per interval and the
+ * continuously refilled {@link GcraTokenBucket}.
+ */
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Threads(8)
+public class TokenBucketBenchmark {
+  @Param({ "TOKEN_BUCKET", "GCRA" })
+  private String tokenBucketType;
+
+  private TokenBucket tokenBucket;
+
+  @Setup
+  public void setUp() {
+    // A quota large enough that the benchmark measures the admission path rather than the rejection path.
+    long capacity = 1_000_000_000L;
+    long refillAmount = 1_000_000_000L;
+    tokenBucket = tokenBucketType.equals("GCRA")
+        ? new GcraTokenBucket(capacity, refillAmount, 1, TimeUnit.SECONDS)
+        : new TokenBucket(capacity, refillAmount, 1, TimeUnit.SECONDS);
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(TokenBucketBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Benchmark
+  public boolean tryConsume() {
+    return tokenBucket.tryConsume(1);
+  }
+}
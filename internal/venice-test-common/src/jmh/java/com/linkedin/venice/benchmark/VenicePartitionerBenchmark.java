@@ -0,0 +1,78 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
+import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.partitioner.XXHash64VenicePartitioner;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Benchmark the cost of finding the partition of a batch of keys, which every client, router and producer pays for each
+ * key, either one key at a time or with the batched API.
+ */
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class VenicePartitionerBenchmark {
+  private static final int KEY_COUNT = 100;
+  private static final int PARTITION_COUNT = 64;
+
+  @Param({ "DEFAULT", "XXHASH64" })
+  private String partitionerType;
+
+  @Param({ "8", "32", "128", "1024" })
+  private int keySize;
+
+  private VenicePartitioner partitioner;
+  private byte[][] keys;
+  private int[] partitionIds;
+
+  @Setup
+  public void setUp() {
+    partitioner =
+        partitionerType.equals("DEFAULT") ? new DefaultVenicePartitioner() : new XXHash64VenicePartitioner();
+    Random random = new Random(0);
+    keys = new byte[KEY_COUNT][keySize];
+    for (byte[] key: keys) {
+      random.nextBytes(key);
+    }
+    partitionIds = new int[KEY_COUNT];
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(VenicePartitionerBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Benchmark
+  public void getPartitionId(Blackhole blackhole) {
+    for (byte[] key: keys) {
+      blackhole.consume(partitioner.getPartitionId(key, PARTITION_COUNT));
+    }
+  }
+
+  @Benchmark
+  public void getPartitionIds(Blackhole blackhole) {
+    partitioner.getPartitionIds(keys, PARTITION_COUNT, partitionIds);
+    blackhole.consume(partitionIds);
+  }
+}
@@ -0,0 +1,159 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.pubsub.api.PubSubMessageHeaders;
+import com.linkedin.venice.pubsub.api.PubSubProduceResult;
+import com.linkedin.venice.pubsub.api.PubSubProducerAdapter;
+import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
+import com.linkedin.venice.serialization.DefaultSerializer;
+import com.linkedin.venice.serialization.KafkaKeySerializer;
+import com.linkedin.venice.serialization.avro.KafkaValueSerializer;
+import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.writer.VeniceWriter;
+import com.linkedin.venice.writer.VeniceWriterOptions;
+import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
+import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Benchmark the throughput of {@link VeniceWriter} with 1, 4 and 16 threads writing to the same partition.
+ *
+ * The producer serializes the key and the envelope with the same serializers as the Kafka producer, and appends them
+ * to the partition under a lock, like the Kafka producer appends them to the batch of the partition, without any I/O.
+ */
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class VeniceWriterBenchmark {
+  @Param({ "100", "10000" })
+  private int valueSize;
+
+  @Param({ "MD5", "XXHASH64" })
+  private String checkSumType;
+
+  private VeniceWriter<byte[], byte[], byte[]> veniceWriter;
+  private byte[] value;
+  private final AtomicLong keyCounter = new AtomicLong();
+
+  @Setup
+  public void setUp() {
+    value = new byte[valueSize];
+    new Random(0).nextBytes(value);
+    VeniceWriterOptions options = new VeniceWriterOptions.Builder("benchmark_store_v1").setPartitionCount(1)
+        .setKeySerializer(new DefaultSerializer())
+        .setValueSerializer(new DefaultSerializer())
+        .build();
+    Properties props = new Properties();
+    props.put(VeniceWriter.CHECK_SUM_TYPE, checkSumType);
+    veniceWriter = new VeniceWriter<>(options, new VeniceProperties(props), new InMemoryProducerAdapter());
+  }
+
+  @TearDown
+  public void cleanUp() {
+    veniceWriter.close();
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(VeniceWriterBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Object putWith1Thread() {
+    return put();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Object putWith4Threads() {
+    return put();
+  }
+
+  @Benchmark
+  @Threads(16)
+  public Object putWith16Threads() {
+    return put();
+  }
+
+  private Object put() {
+    byte[] key = Long.toString(keyCounter.incrementAndGet()).getBytes();
+    return veniceWriter.put(key, value, 1, null);
+  }
+
+  private static class InMemoryProducerAdapter implements PubSubProducerAdapter {
+    private final KafkaKeySerializer keySerializer = new KafkaKeySerializer();
+    private final KafkaValueSerializer valueSerializer = new KafkaValueSerializer();
+    private final CompletableFuture<PubSubProduceResult> completedFuture = CompletableFuture.completedFuture(null);
+    private long appendedBytes;
+
+    @Override
+    public int getNumberOfPartitions(String topic) {
+      return 1;
+    }
+
+    @Override
+    public CompletableFuture<PubSubProduceResult> sendMessage(
+        String topic,
+        Integer partition,
+        KafkaKey key,
+        KafkaMessageEnvelope value,
+        PubSubMessageHeaders pubSubMessageHeaders,
+        PubSubProducerCallback pubSubProducerCallback) {
+      byte[] serializedKey = keySerializer.serialize(topic, key);
+      byte[] serializedValue = valueSerializer.serialize(topic, value);
+      synchronized (this) {
+        appendedBytes += serializedKey.length + serializedValue.length;
+      }
+      return completedFuture;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close(long closeTimeOutMs) {
+    }
+
+    @Override
+    public Object2DoubleMap<String> getMeasurableProducerMetrics() {
+      return new Object2DoubleOpenHashMap<>();
+    }
+
+    @Override
+    public String getBrokerAddress() {
+      return "localhost:0";
+    }
+
+    @Override
+    public boolean isValuePreSerializationSupported() {
+      return true;
+    }
+  }
+}
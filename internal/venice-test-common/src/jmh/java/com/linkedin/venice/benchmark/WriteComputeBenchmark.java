@@ -0,0 +1,144 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.davinci.schema.merge.CollectionTimestampMergeRecordHelper;
+import com.linkedin.davinci.schema.writecompute.WriteComputeProcessor;
+import com.linkedin.davinci.serializer.avro.MapOrderPreservingSerDeFactory;
+import com.linkedin.venice.schema.AvroSchemaParseUtils;
+import com.linkedin.venice.schema.writecompute.WriteComputeSchemaConverter;
+import com.linkedin.venice.serializer.AvroSerializer;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.writer.update.UpdateBuilderImpl;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Benchmark a partial update touching one small field of a value of about 50KB, either by deserializing the whole
+ * value, updating the record and serializing it again, or by re-encoding only the updated field in the serialized
+ * value with {@link WriteComputeProcessor#updateSerializedRecord}.
+ *
+ * The allocation rate of each operation is reported by the GC profiler when running {@link #main}.
+ */
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class WriteComputeBenchmark {
+  private static final Schema VALUE_SCHEMA = AvroSchemaParseUtils.parseSchemaFromJSONStrictValidation(
+      "{\"type\":\"record\",\"name\":\"BenchmarkValue\",\"namespace\":\"com.linkedin.venice.benchmark\",\"fields\":["
+          + "{\"name\":\"counter\",\"type\":\"long\",\"default\":0},"
+          + "{\"name\":\"listField\",\"type\":{\"type\":\"array\",\"items\":\"long\"},\"default\":[]},"
+          + "{\"name\":\"mapField\",\"type\":{\"type\":\"map\",\"values\":\"string\"},\"default\":{}},"
+          + "{\"name\":\"payload\",\"type\":\"string\",\"default\":\"\"}]}");
+  private static final Schema UPDATE_SCHEMA =
+      WriteComputeSchemaConverter.getInstance().convertFromValueRecordSchema(VALUE_SCHEMA);
+  private static final int LIST_SIZE = 1000;
+  private static final int MAP_SIZE = 100;
+  private static final int PAYLOAD_SIZE = 40 * 1024;
+
+  @Param({ "true", "false" })
+  private boolean fieldLevel;
+
+  private WriteComputeProcessor writeComputeProcessor;
+  private RecordSerializer<GenericRecord> serializer;
+  private RecordDeserializer<GenericRecord> deserializer;
+  private ByteBuffer valueBytes;
+  private GenericRecord setFieldUpdate;
+  private GenericRecord addToListUpdate;
+  private GenericRecord addToMapUpdate;
+
+  @Setup
+  public void setUp() {
+    writeComputeProcessor = new WriteComputeProcessor(new CollectionTimestampMergeRecordHelper());
+    serializer = new AvroSerializer<>(VALUE_SCHEMA);
+    deserializer = MapOrderPreservingSerDeFactory.getDeserializer(VALUE_SCHEMA, VALUE_SCHEMA);
+
+    GenericRecord value = new GenericData.Record(VALUE_SCHEMA);
+    value.put("counter", 0L);
+    List<Long> list = new ArrayList<>(LIST_SIZE);
+    for (long i = 0; i < LIST_SIZE; i++) {
+      list.add(i);
+    }
+    value.put("listField", list);
+    Map<String, String> map = new HashMap<>();
+    for (int i = 0; i < MAP_SIZE; i++) {
+      map.put("key_" + i, "value_" + i);
+    }
+    value.put("mapField", map);
+    StringBuilder payload = new StringBuilder(PAYLOAD_SIZE);
+    for (int i = 0; i < PAYLOAD_SIZE; i++) {
+      payload.append((char) ('a' + i % 26));
+    }
+    value.put("payload", payload.toString());
+    valueBytes = ByteBuffer.wrap(serializer.serialize(value));
+
+    setFieldUpdate = new UpdateBuilderImpl(UPDATE_SCHEMA).setNewFieldValue("counter", 1L).build();
+    List<Long> toAddElements = new ArrayList<>();
+    for (long i = LIST_SIZE; i < LIST_SIZE + 10; i++) {
+      toAddElements.add(i);
+    }
+    addToListUpdate = new UpdateBuilderImpl(UPDATE_SCHEMA).setElementsToAddToListField("listField", toAddElements)
+        .setElementsToRemoveFromListField("listField", Collections.singletonList(0L))
+        .build();
+    addToMapUpdate = new UpdateBuilderImpl(UPDATE_SCHEMA)
+        .setEntriesToAddToMapField("mapField", Collections.singletonMap("key_" + MAP_SIZE, "value_" + MAP_SIZE))
+        .setKeysToRemoveFromMapField("mapField", Collections.singletonList("key_0"))
+        .build();
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(WriteComputeBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(options).run();
+  }
+
+  @Benchmark
+  public byte[] setField() {
+    return update(setFieldUpdate);
+  }
+
+  @Benchmark
+  public byte[] addToList() {
+    return update(addToListUpdate);
+  }
+
+  @Benchmark
+  public byte[] addToMap() {
+    return update(addToMapUpdate);
+  }
+
+  private byte[] update(GenericRecord updateRecord) {
+    if (fieldLevel) {
+      return writeComputeProcessor.updateSerializedRecord(VALUE_SCHEMA, valueBytes, updateRecord);
+    }
+    GenericRecord value = deserializer.deserialize(valueBytes);
+    return serializer.serialize(writeComputeProcessor.updateRecord(VALUE_SCHEMA, value, updateRecord));
+  }
+}
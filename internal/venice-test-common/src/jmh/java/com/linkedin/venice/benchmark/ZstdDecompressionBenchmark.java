@@ -9,6 +9,9 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import org.apache.commons.io.IOUtils;
@@ -38,10 +41,17 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 public class ZstdDecompressionBenchmark {
   private static final int NUMBER_OF_PAYLOADS = 10_000;
+  /** Similar to the number of keys in a multi-get response */
+  private static final int BATCH_SIZE = 100;
   @Param({ "500", "65536" })
   private static int PAYLOAD_SIZE;
   private VeniceCompressor compressor;
   private ByteBuffer[] compressedPayloads;
+  private List<List<ByteBuffer>> compressedBatches;
+  /** Direct copies of the compressed payloads, so that decompressing into a direct buffer needs no extra copy */
+  private ByteBuffer[] directCompressedPayloads;
+  private List<List<ByteBuffer>> directCompressedBatches;
+  private ByteBuffer reusedDirectOutput;
   private byte[] dictionary;
   private Random rd = new Random();
 
@@ -50,11 +60,21 @@ public class ZstdDecompressionBenchmark {
     this.dictionary = ZstdWithDictCompressor.buildDictionaryOnSyntheticAvroData();
     this.compressor = new CompressorFactory().createCompressorWithDictionary(dictionary, Zstd.maxCompressionLevel());
     this.compressedPayloads = new ByteBuffer[NUMBER_OF_PAYLOADS];
+    this.directCompressedPayloads = new ByteBuffer[NUMBER_OF_PAYLOADS];
     for (int i = 0; i < NUMBER_OF_PAYLOADS; i++) {
       byte[] data = new byte[PAYLOAD_SIZE];
       this.rd.nextBytes(data);
       this.compressedPayloads[i] = compressor.compress(ByteBuffer.wrap(data), 0);
+      this.directCompressedPayloads[i] = ByteBuffer.allocateDirect(compressedPayloads[i].remaining());
+      this.directCompressedPayloads[i].put(compressedPayloads[i].duplicate()).flip();
     }
+    this.compressedBatches = new ArrayList<>(NUMBER_OF_PAYLOADS / BATCH_SIZE);
+    this.directCompressedBatches = new ArrayList<>(NUMBER_OF_PAYLOADS / BATCH_SIZE);
+    for (int i = 0; i < NUMBER_OF_PAYLOADS; i += BATCH_SIZE) {
+      this.compressedBatches.add(Arrays.asList(compressedPayloads).subList(i, i + BATCH_SIZE));
+      this.directCompressedBatches.add(Arrays.asList(directCompressedPayloads).subList(i, i + BATCH_SIZE));
+    }
+    this.reusedDirectOutput = ByteBuffer.allocateDirect(PAYLOAD_SIZE * BATCH_SIZE);
   }
 
   @Benchmark
@@ -69,6 +89,48 @@ public class ZstdDecompressionBenchmark {
     }
   }
 
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_PAYLOADS)
+  public void measureBatchDecompression(org.openjdk.jmh.infra.Blackhole bh) throws IOException {
+    for (List<ByteBuffer> batch: compressedBatches) {
+      bh.consume(compressor.decompressBatch(batch));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_PAYLOADS)
+  public void measureBatchDecompressionIntoPooledBuffer(org.openjdk.jmh.infra.Blackhole bh) throws IOException {
+    for (List<ByteBuffer> batch: compressedBatches) {
+      bh.consume(compressor.decompressBatchIntoPooledBuffer(batch));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_PAYLOADS)
+  public void measureBatchDecompressionIntoPooledDirectBuffer(org.openjdk.jmh.infra.Blackhole bh) throws IOException {
+    for (List<ByteBuffer> batch: directCompressedBatches) {
+      bh.consume(compressor.decompressBatchIntoPooledBuffer(batch));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_PAYLOADS)
+  public void measureBatchDecompressionIntoReusedDirectBuffer(org.openjdk.jmh.infra.Blackhole bh) throws IOException {
+    for (List<ByteBuffer> batch: directCompressedBatches) {
+      reusedDirectOutput.clear();
+      bh.consume(compressor.decompressBatch(batch, reusedDirectOutput));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_PAYLOADS)
+  public void measureDecompressionIntoReusedDirectBuffer(org.openjdk.jmh.infra.Blackhole bh) throws IOException {
+    for (int i = 0; i < NUMBER_OF_PAYLOADS; i++) {
+      reusedDirectOutput.clear();
+      bh.consume(compressor.decompress(directCompressedPayloads[i], reusedDirectOutput));
+    }
+  }
+
   @Benchmark
   @OperationsPerInvocation(NUMBER_OF_PAYLOADS)
   public void measureDecompressionWithDictionaryReload(org.openjdk.jmh.infra.Blackhole bh) throws IOException {
@@ -64,7 +64,8 @@ public class DataProviderUtils {
 
   @DataProvider(name = "CheckpointingSupported-CheckSum-Types")
   public static Object[][] checkpointingSupportedCheckSumTypes() {
-    return new Object[][] { { CheckSumType.MD5 }, { CheckSumType.ADHASH } };
+    return new Object[][] { { CheckSumType.MD5 }, { CheckSumType.ADHASH }, { CheckSumType.CRC32C },
+        { CheckSumType.XXHASH64 } };
   }
 
   @DataProvider(name = "dv-client-config-provider")
@@ -12,6 +12,7 @@ import static com.linkedin.venice.ConfigKeys.CONTROLLER_JETTY_CONFIG_OVERRIDE_PR
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_NAME;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_SCHEMA_VALIDATION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_SSL_ENABLED;
+import static com.linkedin.venice.ConfigKeys.CONTROLLER_STORE_METADATA_BINARY_ENCODING_ENABLED;
 import static com.linkedin.venice.ConfigKeys.DEFAULT_MAX_NUMBER_OF_PARTITIONS;
 import static com.linkedin.venice.ConfigKeys.DEFAULT_NUMBER_OF_PARTITION;
 import static com.linkedin.venice.ConfigKeys.DEFAULT_NUMBER_OF_PARTITION_FOR_HYBRID;
@@ -54,6 +55,7 @@ import static com.linkedin.venice.ConfigKeys.MIN_ACTIVE_REPLICA;
 import static com.linkedin.venice.ConfigKeys.NATIVE_REPLICATION_SOURCE_FABRIC_AS_DEFAULT_FOR_BATCH_ONLY_STORES;
 import static com.linkedin.venice.ConfigKeys.NATIVE_REPLICATION_SOURCE_FABRIC_AS_DEFAULT_FOR_HYBRID_STORES;
 import static com.linkedin.venice.ConfigKeys.OFFLINE_JOB_START_TIMEOUT_MS;
+import static com.linkedin.venice.ConfigKeys.PARTITIONER_CLASS_AS_DEFAULT_FOR_NEW_STORES;
 import static com.linkedin.venice.ConfigKeys.PARTITION_COUNT_ROUND_UP_SIZE;
 import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
 import static com.linkedin.venice.ConfigKeys.PUSH_MONITOR_TYPE;
@@ -64,6 +66,7 @@ import static com.linkedin.venice.ConfigKeys.REFRESH_INTERVAL_FOR_ZK_RECONNECT_M
 import static com.linkedin.venice.ConfigKeys.REPLICATION_METADATA_VERSION;
 import static com.linkedin.venice.ConfigKeys.SSL_KAFKA_BOOTSTRAP_SERVERS;
 import static com.linkedin.venice.ConfigKeys.SSL_TO_KAFKA_LEGACY;
+import static com.linkedin.venice.ConfigKeys.STORE_REPOSITORY_REFRESH_THREAD_COUNT;
 import static com.linkedin.venice.ConfigKeys.ZOOKEEPER_ADDRESS;
 import static com.linkedin.venice.SSLConfig.DEFAULT_CONTROLLER_SSL_ENABLED;
 import static com.linkedin.venice.VeniceConstants.DEFAULT_PER_ROUTER_READ_QUOTA;
@@ -78,6 +81,7 @@ import com.linkedin.venice.meta.OfflinePushStrategy;
 import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.meta.ReadStrategy;
 import com.linkedin.venice.meta.RoutingStrategy;
+import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
 import com.linkedin.venice.pushmonitor.LeakedPushStatusCleanUpService;
 import com.linkedin.venice.pushmonitor.PushMonitorType;
 import com.linkedin.venice.utils.KafkaSSLUtils;
@@ -165,6 +169,12 @@ public class VeniceControllerClusterConfig {
   private String nativeReplicationSourceFabricAsDefaultForBatchOnly;
   private String nativeReplicationSourceFabricAsDefaultForHybrid;
 
+  private String partitionerClassAsDefaultForNewStores;
+
+  private boolean storeMetadataBinaryEncodingEnabled;
+
+  private int storeRepositoryRefreshThreadCount;
+
   /**
    * When the following option is enabled, active-active enabled new user hybrid store will automatically
    * have incremental push enabled.
@@ -328,6 +338,10 @@ public class VeniceControllerClusterConfig {
         props.getString(NATIVE_REPLICATION_SOURCE_FABRIC_AS_DEFAULT_FOR_BATCH_ONLY_STORES, "");
     nativeReplicationSourceFabricAsDefaultForHybrid =
         props.getString(NATIVE_REPLICATION_SOURCE_FABRIC_AS_DEFAULT_FOR_HYBRID_STORES, "");
+    partitionerClassAsDefaultForNewStores =
+        props.getString(PARTITIONER_CLASS_AS_DEFAULT_FOR_NEW_STORES, DefaultVenicePartitioner.class.getName());
+    storeMetadataBinaryEncodingEnabled = props.getBoolean(CONTROLLER_STORE_METADATA_BINARY_ENCODING_ENABLED, false);
+    storeRepositoryRefreshThreadCount = props.getInt(STORE_REPOSITORY_REFRESH_THREAD_COUNT, 8);
     activeActiveReplicationEnabledAsDefaultForBatchOnly =
         props.getBoolean(ENABLE_ACTIVE_ACTIVE_REPLICATION_AS_DEFAULT_FOR_BATCH_ONLY_STORE, false);
     activeActiveReplicationEnabledAsDefaultForHybrid =
@@ -631,6 +645,18 @@ public class VeniceControllerClusterConfig {
     return nativeReplicationSourceFabricAsDefaultForHybrid;
   }
 
+  public String getPartitionerClassAsDefaultForNewStores() {
+    return partitionerClassAsDefaultForNewStores;
+  }
+
+  public boolean isStoreMetadataBinaryEncodingEnabled() {
+    return storeMetadataBinaryEncodingEnabled;
+  }
+
+  public int getStoreRepositoryRefreshThreadCount() {
+    return storeRepositoryRefreshThreadCount;
+  }
+
   public VeniceProperties getJettyConfigOverrides() {
     return jettyConfigOverrides;
   }
@@ -1008,6 +1008,14 @@ public class VeniceHelixAdmin implements Admin, StoreCleaner {
     } else {
       newStore.setNativeReplicationSourceFabric(config.getNativeReplicationSourceFabricAsDefaultForBatchOnly());
     }
+    /**
+     * Existing stores keep their partitioner, as changing it would move their keys to different partitions.
+     */
+    if (!newStore.isSystemStore()) {
+      PartitionerConfig partitionerConfig = newStore.getPartitionerConfig();
+      partitionerConfig.setPartitionerClass(config.getPartitionerClassAsDefaultForNewStores());
+      newStore.setPartitionerConfig(partitionerConfig);
+    }
     newStore.setLargestUsedVersionNumber(largestUsedVersionNumber);
   }
 
@@ -2,6 +2,7 @@ package com.linkedin.venice.router;
 
 import static com.linkedin.venice.router.api.VenicePathParser.ACTION_DISABLE;
 import static com.linkedin.venice.router.api.VenicePathParser.ACTION_ENABLE;
+import static com.linkedin.venice.router.api.VenicePathParser.TASK_READ_HOTNESS;
 import static com.linkedin.venice.router.api.VenicePathParser.TASK_READ_QUOTA_THROTTLE;
 import static com.linkedin.venice.router.api.VenicePathParserHelper.parseRequest;
 import static com.linkedin.venice.utils.NettyUtils.setupResponseAndFlush;
@@ -17,6 +18,7 @@ import com.linkedin.venice.acl.AccessController;
 import com.linkedin.venice.acl.AclException;
 import com.linkedin.venice.router.api.RouterResourceType;
 import com.linkedin.venice.router.api.VenicePathParserHelper;
+import com.linkedin.venice.router.api.routing.ReadHotnessTracker;
 import com.linkedin.venice.router.stats.AdminOperationsStats;
 import com.linkedin.venice.utils.ObjectMapperFactory;
 import com.linkedin.venice.utils.RedundantExceptionFilter;
@@ -53,6 +55,9 @@ public class AdminOperationsHandler extends SimpleChannelInboundHandler<HttpRequ
 
   public static final String READ_THROTTLING_ENABLED = "readThrottlingEnabled";
   public static final String EARLY_THROTTLE_ENABLED = "earlyThrottleEnabled";
+  public static final String HOT_PARTITIONS = "hotPartitions";
+  public static final String TOP_PARTITIONS = "topPartitions";
+  public static final String TOP_KEYS = "topKeys";
 
   private final AccessController accessController;
   private final AdminOperationsStats adminOperationsStats;
@@ -174,6 +179,14 @@ public class AdminOperationsHandler extends SimpleChannelInboundHandler<HttpRequ
       } else {
         sendUserErrorResponse("GET admin task " + TASK_READ_QUOTA_THROTTLE + " can not specify an action", ctx);
       }
+    } else if (TASK_READ_HOTNESS.equals(task)) {
+      if (!StringUtils.isEmpty(action)) {
+        sendUserErrorResponse("GET admin task " + TASK_READ_HOTNESS + " can not specify an action", ctx);
+      } else if (routerServer.getReadHotnessTracker() == null) {
+        sendUserErrorResponse("Read hotness detection is not enabled", ctx);
+      } else {
+        sendReadHotness(routerServer.getReadHotnessTracker(), ctx);
+      }
     } else {
       sendUnimplementedErrorResponse(task, ctx);
     }
@@ -256,6 +269,15 @@ public class AdminOperationsHandler extends SimpleChannelInboundHandler<HttpRequ
     sendSuccessResponse(payload, ctx);
   }
 
+  private void sendReadHotness(ReadHotnessTracker readHotnessTracker, ChannelHandlerContext ctx) throws IOException {
+    Map<String, Object> payload = new HashMap<>();
+    payload.put(HOT_PARTITIONS, readHotnessTracker.getHotPartitions());
+    payload.put(TOP_PARTITIONS, readHotnessTracker.getTopPartitions());
+    payload.put(TOP_KEYS, readHotnessTracker.getTopKeys());
+
+    sendResponse(OK, payload, ctx);
+  }
+
   private void sendUserErrorResponse(String message, ChannelHandlerContext ctx) throws IOException {
     adminOperationsStats.recordErrorAdminRequest();
     HttpResponseStatus status = BAD_REQUEST;
@@ -285,7 +307,7 @@ public class AdminOperationsHandler extends SimpleChannelInboundHandler<HttpRequ
     sendResponse(status, payload, ctx);
   }
 
-  private void sendResponse(HttpResponseStatus status, Map<String, String> payload, ChannelHandlerContext ctx)
+  private void sendResponse(HttpResponseStatus status, Map<String, ?> payload, ChannelHandlerContext ctx)
       throws JsonProcessingException {
     if (payload == null) {
       setupResponseAndFlush(status, EMPTY_BYTES, true, ctx);
@@ -58,6 +58,7 @@ import com.linkedin.venice.router.api.VeniceResponseAggregator;
 import com.linkedin.venice.router.api.VeniceRoleFinder;
 import com.linkedin.venice.router.api.VeniceVersionFinder;
 import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.api.routing.ReadHotnessTracker;
 import com.linkedin.venice.router.api.routing.helix.HelixGroupSelector;
 import com.linkedin.venice.router.httpclient.ApacheHttpAsyncStorageNodeClient;
 import com.linkedin.venice.router.httpclient.HttpClient5StorageNodeClient;
@@ -79,6 +80,7 @@ import com.linkedin.venice.router.utils.VeniceRouterUtils;
 import com.linkedin.venice.security.SSLFactory;
 import com.linkedin.venice.service.AbstractVeniceService;
 import com.linkedin.venice.servicediscovery.ServiceDiscoveryAnnouncer;
+import com.linkedin.venice.stats.StoreRepositoryStats;
 import com.linkedin.venice.stats.TehutiUtils;
 import com.linkedin.venice.stats.ThreadPoolStats;
 import com.linkedin.venice.stats.VeniceJVMStats;
@@ -165,6 +167,7 @@ public class RouterServer extends AbstractVeniceService {
   private VeniceDispatcher dispatcher;
   private RouterHeartbeat heartbeat = null;
   private VeniceDelegateMode scatterGatherMode;
+  private ReadHotnessTracker readHotnessTracker;
   private final HelixAdapterSerializer adapter;
   private ZkRoutersClusterManager routersClusterManager;
   private Optional<Router> router = Optional.empty();
@@ -284,7 +287,9 @@ public class RouterServer extends AbstractVeniceService {
         adapter,
         config.getClusterName(),
         config.getRefreshAttemptsForZkReconnect(),
-        config.getRefreshIntervalForZkReconnectInMs());
+        config.getRefreshIntervalForZkReconnectInMs(),
+        config.getStoreRepositoryRefreshThreadCount(),
+        Optional.of(new StoreRepositoryStats(metricsRepository, config.getClusterName())));
     this.metadataRepository = new HelixReadOnlyStoreRepositoryAdapter(
         readOnlyZKSharedSystemStoreRepository,
         readOnlyStoreRepository,
@@ -468,7 +473,8 @@ public class RouterServer extends AbstractVeniceService {
             "Router client type " + config.getStorageNodeClientType().toString() + " is not supported!");
     }
 
-    RouteHttpRequestStats routeHttpRequestStats = new RouteHttpRequestStats(metricsRepository, storageNodeClient);
+    RouteHttpRequestStats routeHttpRequestStats =
+        new RouteHttpRequestStats(metricsRepository, storageNodeClient, config);
 
     VeniceHostHealth healthMonitor =
         new VeniceHostHealth(liveInstanceMonitor, storageNodeClient, config, routeHttpRequestStats, aggHostHealthStats);
@@ -482,6 +488,10 @@ public class RouterServer extends AbstractVeniceService {
         aggHostHealthStats,
         routerStats);
     scatterGatherMode = new VeniceDelegateMode(config, routerStats, routeHttpRequestStats);
+    if (config.isReadHotnessDetectionEnabled()) {
+      readHotnessTracker = new ReadHotnessTracker(config, metricsRepository);
+      scatterGatherMode.initReadHotnessTracker(readHotnessTracker);
+    }
 
     if (config.isRouterHeartBeatEnabled()) {
       heartbeat =
@@ -827,6 +837,9 @@ public class RouterServer extends AbstractVeniceService {
     }
 
     dispatcher.stop();
+    if (readHotnessTracker != null) {
+      readHotnessTracker.close();
+    }
 
     router.ifPresent(Router::shutdown);
     secureRouter.shutdown();
@@ -1017,6 +1030,13 @@ public class RouterServer extends AbstractVeniceService {
     return config;
   }
 
+  /**
+   * @return the read hotness tracker, or null if the read hotness detection is disabled.
+   */
+  public ReadHotnessTracker getReadHotnessTracker() {
+    return readHotnessTracker;
+  }
+
   public void setReadRequestThrottling(boolean throttle) {
     boolean isNoopThrottlerEnabled = !throttle;
     readRequestThrottler.setIsNoopThrottlerEnabled(isNoopThrottlerEnabled);
@@ -17,6 +17,10 @@ import static com.linkedin.venice.ConfigKeys.LISTENER_SSL_PORT;
 import static com.linkedin.venice.ConfigKeys.MAX_READ_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.REFRESH_ATTEMPTS_FOR_ZK_RECONNECT;
 import static com.linkedin.venice.ConfigKeys.REFRESH_INTERVAL_FOR_ZK_RECONNECT_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_ENABLED;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_INITIAL;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_MAX;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_MIN;
 import static com.linkedin.venice.ConfigKeys.ROUTER_ASYNC_START_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_CLIENT_DECOMPRESSION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_CLIENT_RESOLUTION_RETRY_ATTEMPTS;
@@ -37,6 +41,11 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_FULL_PENDING_QUEUE_SERVER_OO
 import static com.linkedin.venice.ConfigKeys.ROUTER_HEART_BEAT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HELIX_ASSISTED_ROUTING_GROUP_SELECTION_STRATEGY;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HELIX_VIRTUAL_GROUP_FIELD_IN_DOMAIN;
+import static com.linkedin.venice.ConfigKeys.ROUTER_HOT_KEY_CACHE_HYBRID_STORES;
+import static com.linkedin.venice.ConfigKeys.ROUTER_HOT_KEY_CACHE_SIZE_IN_BYTES;
+import static com.linkedin.venice.ConfigKeys.ROUTER_HOT_KEY_CACHE_STORES;
+import static com.linkedin.venice.ConfigKeys.ROUTER_HOT_KEY_CACHE_TTL_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_HOT_PARTITION_READ_SHARE_THRESHOLD;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HTTP2_HEADER_TABLE_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HTTP2_INBOUND_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HTTP2_INITIAL_WINDOW_SIZE;
@@ -78,6 +87,9 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_PER_NODE_CLIENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PER_NODE_CLIENT_THREAD_COUNT;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PER_STORE_ROUTER_QUOTA_BUFFER;
 import static com.linkedin.venice.ConfigKeys.ROUTER_QUOTA_CHECK_WINDOW;
+import static com.linkedin.venice.ConfigKeys.ROUTER_READ_HOTNESS_DETECTION_ENABLED;
+import static com.linkedin.venice.ConfigKeys.ROUTER_READ_HOTNESS_REFRESH_INTERVAL_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_READ_HOTNESS_TOP_K;
 import static com.linkedin.venice.ConfigKeys.ROUTER_READ_QUOTA_THROTTLING_LEASE_TIMEOUT_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_RESOLVE_BEFORE_SSL;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLEGET_TARDY_LATENCY_MS;
@@ -86,10 +98,12 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_SMART_LONG_TAIL_RETRY_ENABLE
 import static com.linkedin.venice.ConfigKeys.ROUTER_SOCKET_TIMEOUT;
 import static com.linkedin.venice.ConfigKeys.ROUTER_STATEFUL_HEALTHCHECK_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_STORAGE_NODE_CLIENT_TYPE;
+import static com.linkedin.venice.ConfigKeys.ROUTER_STORAGE_NODE_REQUEST_TIMEOUT_PROPAGATION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_UNHEALTHY_PENDING_CONNECTION_THRESHOLD_PER_ROUTE;
 import static com.linkedin.venice.ConfigKeys.ROUTE_DNS_CACHE_HOST_PATTERN;
 import static com.linkedin.venice.ConfigKeys.SSL_TO_KAFKA_LEGACY;
 import static com.linkedin.venice.ConfigKeys.SSL_TO_STORAGE_NODES;
+import static com.linkedin.venice.ConfigKeys.STORE_REPOSITORY_REFRESH_THREAD_COUNT;
 import static com.linkedin.venice.ConfigKeys.SYSTEM_SCHEMA_CLUSTER_NAME;
 import static com.linkedin.venice.ConfigKeys.UNREGISTER_METRIC_FOR_DELETED_STORE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ZOOKEEPER_ADDRESS;
@@ -145,6 +159,7 @@ public class VeniceRouterConfig {
   private Map<String, String> clusterToServerD2Map;
   private int refreshAttemptsForZkReconnect;
   private long refreshIntervalForZkReconnectInMs;
+  private int storeRepositoryRefreshThreadCount;
   private int routerNettyGracefulShutdownPeriodSeconds;
   private boolean enforceSecureOnly;
   private boolean dnsCacheEnabled;
@@ -161,8 +176,21 @@ public class VeniceRouterConfig {
   private int socketTimeout;
   private int connectionTimeout;
   private boolean statefulRouterHealthCheckEnabled;
+  private boolean storageNodeRequestTimeoutPropagationEnabled;
   private int routerUnhealthyPendingConnThresholdPerRoute;
   private int routerPendingConnResumeThresholdPerRoute;
+  private boolean adaptiveConcurrencyLimitEnabled;
+  private int adaptiveConcurrencyLimitInitial;
+  private int adaptiveConcurrencyLimitMin;
+  private int adaptiveConcurrencyLimitMax;
+  private List<String> hotKeyCacheStores;
+  private List<String> hotKeyCacheHybridStores;
+  private long hotKeyCacheSizeInBytes;
+  private long hotKeyCacheTtlMs;
+  private boolean readHotnessDetectionEnabled;
+  private int readHotnessTopK;
+  private double hotPartitionReadShareThreshold;
+  private long readHotnessRefreshIntervalMs;
   private boolean perNodeClientAllocationEnabled;
   private int perNodeClientThreadCount;
   private boolean keyValueProfilingEnabled;
@@ -258,6 +286,7 @@ public class VeniceRouterConfig {
     refreshAttemptsForZkReconnect = props.getInt(REFRESH_ATTEMPTS_FOR_ZK_RECONNECT, 3);
     refreshIntervalForZkReconnectInMs =
         props.getLong(REFRESH_INTERVAL_FOR_ZK_RECONNECT_MS, java.util.concurrent.TimeUnit.SECONDS.toMillis(10));
+    storeRepositoryRefreshThreadCount = props.getInt(STORE_REPOSITORY_REFRESH_THREAD_COUNT, 8);
     routerNettyGracefulShutdownPeriodSeconds = props.getInt(ROUTER_NETTY_GRACEFUL_SHUTDOWN_PERIOD_SECONDS, 30);
     enforceSecureOnly = props.getBoolean(ENFORCE_SECURE_ROUTER, false);
 
@@ -285,9 +314,23 @@ public class VeniceRouterConfig {
     connectionTimeout = props.getInt(ROUTER_CONNECTION_TIMEOUT, 5000); // 5s
 
     statefulRouterHealthCheckEnabled = props.getBoolean(ROUTER_STATEFUL_HEALTHCHECK_ENABLED, true);
+    storageNodeRequestTimeoutPropagationEnabled =
+        props.getBoolean(ROUTER_STORAGE_NODE_REQUEST_TIMEOUT_PROPAGATION_ENABLED, false);
     routerUnhealthyPendingConnThresholdPerRoute =
         props.getInt(ROUTER_UNHEALTHY_PENDING_CONNECTION_THRESHOLD_PER_ROUTE, 100);
     routerPendingConnResumeThresholdPerRoute = props.getInt(ROUTER_PENDING_CONNECTION_RESUME_THRESHOLD_PER_ROUTE, 15);
+    adaptiveConcurrencyLimitEnabled = props.getBoolean(ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_ENABLED, false);
+    adaptiveConcurrencyLimitInitial = props.getInt(ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_INITIAL, 20);
+    adaptiveConcurrencyLimitMin = props.getInt(ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_MIN, 5);
+    adaptiveConcurrencyLimitMax = props.getInt(ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_MAX, 1000);
+    hotKeyCacheStores = props.getList(ROUTER_HOT_KEY_CACHE_STORES, Collections.emptyList());
+    hotKeyCacheHybridStores = props.getList(ROUTER_HOT_KEY_CACHE_HYBRID_STORES, Collections.emptyList());
+    hotKeyCacheSizeInBytes = props.getSizeInBytes(ROUTER_HOT_KEY_CACHE_SIZE_IN_BYTES, 64 * 1024 * 1024L);
+    hotKeyCacheTtlMs = props.getLong(ROUTER_HOT_KEY_CACHE_TTL_MS, TimeUnit.MINUTES.toMillis(1));
+    readHotnessDetectionEnabled = props.getBoolean(ROUTER_READ_HOTNESS_DETECTION_ENABLED, false);
+    readHotnessTopK = props.getInt(ROUTER_READ_HOTNESS_TOP_K, 20);
+    hotPartitionReadShareThreshold = props.getDouble(ROUTER_HOT_PARTITION_READ_SHARE_THRESHOLD, 0.05);
+    readHotnessRefreshIntervalMs = props.getLong(ROUTER_READ_HOTNESS_REFRESH_INTERVAL_MS, TimeUnit.SECONDS.toMillis(5));
 
     perNodeClientAllocationEnabled = props.getBoolean(ROUTER_PER_NODE_CLIENT_ENABLED, false);
     perNodeClientThreadCount = props.getInt(ROUTER_PER_NODE_CLIENT_THREAD_COUNT, 2);
@@ -475,6 +518,10 @@ public class VeniceRouterConfig {
     return refreshAttemptsForZkReconnect;
   }
 
+  public int getStoreRepositoryRefreshThreadCount() {
+    return storeRepositoryRefreshThreadCount;
+  }
+
   public int getRouterNettyGracefulShutdownPeriodSeconds() {
     return routerNettyGracefulShutdownPeriodSeconds;
   }
@@ -559,6 +606,10 @@ public class VeniceRouterConfig {
     return statefulRouterHealthCheckEnabled;
   }
 
+  public boolean isStorageNodeRequestTimeoutPropagationEnabled() {
+    return storageNodeRequestTimeoutPropagationEnabled;
+  }
+
   public int getRouterUnhealthyPendingConnThresholdPerRoute() {
     return routerUnhealthyPendingConnThresholdPerRoute;
   }
@@ -567,6 +618,54 @@ public class VeniceRouterConfig {
     return routerPendingConnResumeThresholdPerRoute;
   }
 
+  public boolean isAdaptiveConcurrencyLimitEnabled() {
+    return adaptiveConcurrencyLimitEnabled;
+  }
+
+  public int getAdaptiveConcurrencyLimitInitial() {
+    return adaptiveConcurrencyLimitInitial;
+  }
+
+  public int getAdaptiveConcurrencyLimitMin() {
+    return adaptiveConcurrencyLimitMin;
+  }
+
+  public int getAdaptiveConcurrencyLimitMax() {
+    return adaptiveConcurrencyLimitMax;
+  }
+
+  public List<String> getHotKeyCacheStores() {
+    return hotKeyCacheStores;
+  }
+
+  public List<String> getHotKeyCacheHybridStores() {
+    return hotKeyCacheHybridStores;
+  }
+
+  public long getHotKeyCacheSizeInBytes() {
+    return hotKeyCacheSizeInBytes;
+  }
+
+  public long getHotKeyCacheTtlMs() {
+    return hotKeyCacheTtlMs;
+  }
+
+  public boolean isReadHotnessDetectionEnabled() {
+    return readHotnessDetectionEnabled;
+  }
+
+  public int getReadHotnessTopK() {
+    return readHotnessTopK;
+  }
+
+  public double getHotPartitionReadShareThreshold() {
+    return hotPartitionReadShareThreshold;
+  }
+
+  public long getReadHotnessRefreshIntervalMs() {
+    return readHotnessRefreshIntervalMs;
+  }
+
   public boolean isPerNodeClientAllocationEnabled() {
     return perNodeClientAllocationEnabled;
   }
@@ -0,0 +1,479 @@
+package com.linkedin.venice.router.api;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.StoreDataChangedListener;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VeniceMultiGetPath;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.io.OptimizedBinaryDecoderFactory;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * {@code HotKeyResponseCache} caches the values returned by the storage nodes to the single gets and batch gets of the
+ * stores configured with {@link com.linkedin.venice.ConfigKeys#ROUTER_HOT_KEY_CACHE_STORES}, so that the hottest keys
+ * of a store are served by Router instead of hot-spotting the replicas holding them.
+ *
+ * The values are cached as they came from the storage nodes, still compressed, and keyed by store version and key, so
+ * that the single gets and the batch gets of a key share the same entry. A batch get only requests the keys which are
+ * not cached from the storage node, and its response is completed with the records of the cached keys.
+ * The cache is bounded by the total size of its entries, and its W-TinyLFU eviction policy only admits a new key over
+ * the victim key if it was read more frequently, so that a scan over cold keys doesn't evict the hot ones.
+ *
+ * Only the responses of the current version are cached. Since the version of a batch only store never changes, its
+ * entries are valid until another version becomes current, at which point all of its entries are dropped. The entries
+ * of hybrid stores are not invalidated by the nearline writes, so hybrid stores must opt in to reading responses as
+ * stale as the TTL.
+ */
+public class HotKeyResponseCache {
+  private static final Logger LOGGER = LogManager.getLogger(HotKeyResponseCache.class);
+  /**
+   * Rough estimate of the memory taken by an entry besides its key and content, to account for in its weight.
+   */
+  private static final int ENTRY_OVERHEAD_IN_BYTES = 128;
+  private static final String MULTI_GET_RESPONSE_SCHEMA_ID =
+      Integer.toString(ReadAvroProtocolDefinition.MULTI_GET_RESPONSE_V1.getProtocolVersion());
+  private static final RecordSerializer<MultiGetResponseRecordV1> RECORD_SERIALIZER =
+      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema());
+  private static final RecordDeserializer<MultiGetResponseRecordV1> RECORD_DESERIALIZER =
+      FastSerializerDeserializerFactory
+          .getFastAvroSpecificDeserializer(MultiGetResponseRecordV1.getClassSchema(), MultiGetResponseRecordV1.class);
+
+  private final Set<String> cachedStores;
+  private final Set<String> cachedHybridStores;
+  private final Cache<CacheKey, CachedResponse> cache;
+  /**
+   * The current version of the stores whose responses can be cached right now.
+   */
+  private final Map<String, Integer> cacheableStoreVersions = new VeniceConcurrentHashMap<>();
+
+  public HotKeyResponseCache(VeniceRouterConfig config, ReadOnlyStoreRepository storeRepository) {
+    this(
+        config.getHotKeyCacheStores(),
+        config.getHotKeyCacheHybridStores(),
+        config.getHotKeyCacheSizeInBytes(),
+        config.getHotKeyCacheTtlMs(),
+        storeRepository,
+        Ticker.systemTicker());
+  }
+
+  HotKeyResponseCache(
+      Collection<String> cachedStores,
+      Collection<String> cachedHybridStores,
+      long maxSizeInBytes,
+      long ttlMs,
+      ReadOnlyStoreRepository storeRepository,
+      Ticker ticker) {
+    this.cachedStores = new HashSet<>(cachedStores);
+    this.cachedHybridStores = new HashSet<>(cachedHybridStores);
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(maxSizeInBytes)
+        .weigher((CacheKey key, CachedResponse response) -> key.getWeight() + response.getWeight())
+        .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+        .ticker(ticker)
+        .build();
+    storeRepository.registerStoreDataChangedListener(storeChangeListener);
+    for (String storeName: this.cachedStores) {
+      Store store = storeRepository.getStore(storeName);
+      if (store != null) {
+        updateStore(store);
+      }
+    }
+    LOGGER.info(
+        "Hot key response cache of {} bytes with ttl: {}ms enabled for stores: {}, including hybrid stores: {}",
+        maxSizeInBytes,
+        ttlMs,
+        this.cachedStores,
+        this.cachedHybridStores);
+  }
+
+  /**
+   * @return whether the response to the given request can be served from, and saved into, the cache.
+   */
+  public boolean isCacheable(VenicePath path) {
+    switch (path.getRequestType()) {
+      case SINGLE_GET:
+      case MULTI_GET:
+      case MULTI_GET_STREAMING:
+        break;
+      default:
+        return false;
+    }
+    Integer currentVersion = cacheableStoreVersions.get(path.getStoreName());
+    return currentVersion != null && currentVersion == path.getVersionNumber();
+  }
+
+  /**
+   * @return the cached response to the given cacheable single get request, or null if it isn't cached.
+   */
+  public PortableHttpResponse get(VenicePath path) {
+    return cache.getIfPresent(new CacheKey(path));
+  }
+
+  /**
+   * Caches the given response to a cacheable single get request if it is successful.
+   *
+   * @return the response to use in place of the given one, whose content might have been consumed.
+   */
+  public PortableHttpResponse put(VenicePath path, PortableHttpResponse response) throws IOException {
+    if (response.getStatusCode() != HttpStatus.SC_OK) {
+      return response;
+    }
+    CachedResponse cachedResponse = new CachedResponse(response);
+    cache.put(new CacheKey(path).copy(), cachedResponse);
+    return cachedResponse;
+  }
+
+  /**
+   * The records of a batch get response all share the compression strategy of its header, so the values which are
+   * returned together are all compressed the same way. All the values of a version are compressed the same way anyway,
+   * but the values compressed differently than the first one found are treated as misses, just in case.
+   *
+   * @return the cached values of the keys of the given cacheable batch get request which are cached, by key.
+   */
+  public Map<RouterKey, CachedResponse> getAll(VeniceMultiGetPath path) {
+    Map<RouterKey, CachedResponse> cachedResponses = new HashMap<>();
+    CachedResponse firstCachedResponse = null;
+    for (RouterKey key: path.getPartitionKeys()) {
+      CachedResponse cachedResponse = cache.getIfPresent(new CacheKey(path, key));
+      if (cachedResponse == null) {
+        continue;
+      }
+      if (firstCachedResponse == null) {
+        firstCachedResponse = cachedResponse;
+      }
+      if (Objects.equals(cachedResponse.compressionStrategy, firstCachedResponse.compressionStrategy)) {
+        cachedResponses.put(key, cachedResponse);
+      }
+    }
+    return cachedResponses;
+  }
+
+  /**
+   * @return the response to the given cacheable batch get request, out of the cached values of all of its keys, as
+   *         returned by {@link #getAll(VeniceMultiGetPath)}.
+   */
+  public PortableHttpResponse buildMultiGetResponse(
+      VeniceMultiGetPath path,
+      Map<RouterKey, CachedResponse> cachedResponses) {
+    String compressionStrategy = cachedResponses.values().iterator().next().compressionStrategy;
+    return new MultiGetResponse(serializeRecords(path, cachedResponses), compressionStrategy, getRequestRcu(path));
+  }
+
+  /**
+   * Caches the records of the given response to a cacheable batch get request if it is successful, and completes them
+   * with the records of the given cached values, as returned by {@link #getAll(VeniceMultiGetPath)}, whose keys were
+   * not requested from the storage node.
+   *
+   * The RCU of the returned response covers all the keys of the request, like if the storage node had served all of
+   * them, instead of the keys which were actually requested from the storage node.
+   *
+   * @return the response to use in place of the given one, whose content might have been consumed.
+   * @throws VeniceException if the values returned by the storage node are not compressed like the cached ones, in
+   *         which case the cached ones are invalidated, so that they are read from the storage nodes from then on.
+   */
+  public PortableHttpResponse putAll(
+      VeniceMultiGetPath path,
+      PortableHttpResponse response,
+      Map<RouterKey, CachedResponse> cachedResponses) throws IOException {
+    if (response.getStatusCode() != HttpStatus.SC_OK) {
+      return response;
+    }
+    Map<Integer, RouterKey> requestedKeys = new HashMap<>();
+    for (RouterKey key: path.getPartitionKeys()) {
+      if (!cachedResponses.containsKey(key)) {
+        requestedKeys.put(path.getKeyIndex(key), key);
+      }
+    }
+    byte[] content = ByteBufUtil.getBytes(response.getContentInByteBuf());
+    String compressionStrategy = response.getFirstHeader(HttpConstants.VENICE_COMPRESSION_STRATEGY);
+    if (!cachedResponses.isEmpty()) {
+      String cachedCompressionStrategy = cachedResponses.values().iterator().next().compressionStrategy;
+      if (!Objects.equals(compressionStrategy, cachedCompressionStrategy)) {
+        for (RouterKey key: cachedResponses.keySet()) {
+          cache.invalidate(new CacheKey(path, key));
+        }
+        throw new VeniceException(
+            "The values of store: " + path.getStoreName() + " version: " + path.getVersionNumber()
+                + " returned with compression strategy: " + compressionStrategy
+                + " cannot be merged with the cached ones compressed with: " + cachedCompressionStrategy);
+      }
+    }
+    List<MultiGetResponseRecordV1> records = RECORD_DESERIALIZER.deserializeObjects(
+        OptimizedBinaryDecoderFactory.defaultFactory().createOptimizedBinaryDecoder(content, 0, content.length));
+    for (MultiGetResponseRecordV1 record: records) {
+      RouterKey key = requestedKeys.get(record.keyIndex);
+      if (key != null) {
+        cache.put(new CacheKey(path, key).copy(), new CachedResponse(record, compressionStrategy));
+      }
+    }
+    if (!cachedResponses.isEmpty()) {
+      // The records are encoded one after the other, so the cached ones can simply be appended
+      byte[] cachedContent = serializeRecords(path, cachedResponses);
+      byte[] mergedContent = new byte[content.length + cachedContent.length];
+      System.arraycopy(content, 0, mergedContent, 0, content.length);
+      System.arraycopy(cachedContent, 0, mergedContent, content.length, cachedContent.length);
+      content = mergedContent;
+    }
+    return new MultiGetResponse(content, compressionStrategy, getRequestRcu(path));
+  }
+
+  /**
+   * Storage nodes charge one RCU per key of a batch get.
+   */
+  private static String getRequestRcu(VeniceMultiGetPath path) {
+    return Integer.toString(path.getPartitionKeys().size());
+  }
+
+  private static byte[] serializeRecords(VeniceMultiGetPath path, Map<RouterKey, CachedResponse> cachedResponses) {
+    List<MultiGetResponseRecordV1> records = new ArrayList<>(cachedResponses.size());
+    for (Map.Entry<RouterKey, CachedResponse> entry: cachedResponses.entrySet()) {
+      records.add(entry.getValue().toRecord(path.getKeyIndex(entry.getKey())));
+    }
+    return RECORD_SERIALIZER.serializeObjects(records);
+  }
+
+  /**
+   * For TEST ONLY
+   */
+  long getEntryCount() {
+    cache.cleanUp();
+    return cache.estimatedSize();
+  }
+
+  private void updateStore(Store store) {
+    String storeName = store.getName();
+    boolean cacheable =
+        cachedStores.contains(storeName) && (!store.isHybrid() || cachedHybridStores.contains(storeName));
+    int currentVersion = store.getCurrentVersion();
+    Integer previousVersion =
+        cacheable ? cacheableStoreVersions.put(storeName, currentVersion) : cacheableStoreVersions.remove(storeName);
+    if (previousVersion != null && (!cacheable || previousVersion != currentVersion)) {
+      invalidateStore(storeName, cacheable ? currentVersion : Store.NON_EXISTING_VERSION);
+    }
+  }
+
+  /**
+   * Drops the cached responses of all the versions of the given store but the given one.
+   */
+  private void invalidateStore(String storeName, int retainedVersion) {
+    cache.asMap().keySet().removeIf(key -> key.storeName.equals(storeName) && key.version != retainedVersion);
+    LOGGER.info("Invalidated the cached responses of store: {}, except for version: {}", storeName, retainedVersion);
+  }
+
+  private final StoreDataChangedListener storeChangeListener = new StoreDataChangedListener() {
+    @Override
+    public void handleStoreCreated(Store store) {
+      if (cachedStores.contains(store.getName())) {
+        updateStore(store);
+      }
+    }
+
+    @Override
+    public void handleStoreChanged(Store store) {
+      if (cachedStores.contains(store.getName())) {
+        updateStore(store);
+      }
+    }
+
+    @Override
+    public void handleStoreDeleted(String storeName) {
+      if (cacheableStoreVersions.remove(storeName) != null) {
+        invalidateStore(storeName, Store.NON_EXISTING_VERSION);
+      }
+    }
+  };
+
+  private static class CacheKey {
+    private final String storeName;
+    private final int version;
+    private final ByteBuffer key;
+    private final int hashCode;
+
+    CacheKey(VenicePath path) {
+      this(path, path.getPartitionKey());
+    }
+
+    CacheKey(VenicePath path, RouterKey key) {
+      this(path.getStoreName(), path.getVersionNumber(), key.getKeyBuffer());
+    }
+
+    private CacheKey(String storeName, int version, ByteBuffer key) {
+      this.storeName = storeName;
+      this.version = version;
+      this.key = key;
+      this.hashCode = 31 * (31 * storeName.hashCode() + version) + key.hashCode();
+    }
+
+    /**
+     * The key of the request could be backed by a buffer which gets reused, so cached keys get their own copy.
+     */
+    CacheKey copy() {
+      ByteBuffer keyCopy = ByteBuffer.allocate(key.remaining());
+      keyCopy.put(key.duplicate()).flip();
+      return new CacheKey(storeName, version, keyCopy);
+    }
+
+    int getWeight() {
+      return key.remaining() + ENTRY_OVERHEAD_IN_BYTES;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      CacheKey other = (CacheKey) o;
+      return version == other.version && storeName.equals(other.storeName) && key.equals(other.key);
+    }
+  }
+
+  /**
+   * The value of a key returned by a storage node, as the response to a single get which can be read any number of
+   * times.
+   */
+  public static final class CachedResponse implements PortableHttpResponse {
+    private final byte[] content;
+    private final String contentType;
+    private final String schemaId;
+    private final String compressionStrategy;
+
+    CachedResponse(PortableHttpResponse response) throws IOException {
+      this.content = ByteBufUtil.getBytes(response.getContentInByteBuf());
+      this.contentType = response.getFirstHeader(HttpHeaders.CONTENT_TYPE);
+      this.schemaId = response.getFirstHeader(HttpConstants.VENICE_SCHEMA_ID);
+      this.compressionStrategy = response.getFirstHeader(HttpConstants.VENICE_COMPRESSION_STRATEGY);
+    }
+
+    CachedResponse(MultiGetResponseRecordV1 record, String compressionStrategy) {
+      // The value of the record is backed by the content of the whole response, which must not be retained
+      this.content = new byte[record.value.remaining()];
+      record.value.duplicate().get(this.content);
+      this.contentType = HttpConstants.AVRO_BINARY;
+      this.schemaId = Integer.toString(record.schemaId);
+      this.compressionStrategy = compressionStrategy;
+    }
+
+    int getWeight() {
+      return content.length;
+    }
+
+    MultiGetResponseRecordV1 toRecord(int keyIndex) {
+      MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+      record.keyIndex = keyIndex;
+      record.value = ByteBuffer.wrap(content);
+      record.schemaId = Integer.parseInt(schemaId);
+      return record;
+    }
+
+    @Override
+    public int getStatusCode() {
+      return HttpStatus.SC_OK;
+    }
+
+    @Override
+    public ByteBuf getContentInByteBuf() {
+      return Unpooled.wrappedBuffer(content);
+    }
+
+    @Override
+    public boolean containsHeader(String headerName) {
+      return getFirstHeader(headerName) != null;
+    }
+
+    @Override
+    public String getFirstHeader(String headerName) {
+      if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(headerName)) {
+        return contentType;
+      } else if (HttpConstants.VENICE_SCHEMA_ID.equalsIgnoreCase(headerName)) {
+        return schemaId;
+      } else if (HttpConstants.VENICE_COMPRESSION_STRATEGY.equalsIgnoreCase(headerName)) {
+        return compressionStrategy;
+      }
+      return null;
+    }
+  }
+
+  /**
+   * The response to a batch get request, made of records served by the storage node and records of cached values.
+   */
+  private static class MultiGetResponse implements PortableHttpResponse {
+    private final byte[] content;
+    private final String compressionStrategy;
+    private final String requestRcu;
+
+    MultiGetResponse(byte[] content, String compressionStrategy, String requestRcu) {
+      this.content = content;
+      this.compressionStrategy = compressionStrategy;
+      this.requestRcu = requestRcu;
+    }
+
+    @Override
+    public int getStatusCode() {
+      return HttpStatus.SC_OK;
+    }
+
+    @Override
+    public ByteBuf getContentInByteBuf() {
+      return Unpooled.wrappedBuffer(content);
+    }
+
+    @Override
+    public boolean containsHeader(String headerName) {
+      return getFirstHeader(headerName) != null;
+    }
+
+    @Override
+    public String getFirstHeader(String headerName) {
+      if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(headerName)) {
+        return HttpConstants.AVRO_BINARY;
+      } else if (HttpConstants.VENICE_SCHEMA_ID.equalsIgnoreCase(headerName)) {
+        return MULTI_GET_RESPONSE_SCHEMA_ID;
+      } else if (HttpConstants.VENICE_COMPRESSION_STRATEGY.equalsIgnoreCase(headerName)) {
+        return compressionStrategy;
+      } else if (HttpConstants.VENICE_REQUEST_RCU.equalsIgnoreCase(headerName)) {
+        return requestRcu;
+      }
+      return null;
+    }
+  }
+}
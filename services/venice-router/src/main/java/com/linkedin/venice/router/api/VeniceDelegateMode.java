@@ -19,6 +19,7 @@ import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.Instance;
 import com.linkedin.venice.router.VeniceRouterConfig;
 import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.api.routing.ReadHotnessTracker;
 import com.linkedin.venice.router.api.routing.helix.HelixGroupSelector;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouteHttpRequestStats;
@@ -32,6 +33,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import javax.annotation.Nonnull;
 
 
@@ -88,6 +90,11 @@ public class VeniceDelegateMode extends ScatterGatherMode {
 
   private HelixGroupSelector helixGroupSelector;
 
+  /**
+   * Null unless the read hotness detection is enabled.
+   */
+  private ReadHotnessTracker readHotnessTracker;
+
   private final VeniceMultiKeyRoutingStrategy multiKeyRoutingStrategy;
   private final ScatterGatherMode scatterGatherModeForMultiKeyRequest;
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
@@ -133,6 +140,10 @@ public class VeniceDelegateMode extends ScatterGatherMode {
     this.helixGroupSelector = helixGroupSelector;
   }
 
+  public void initReadHotnessTracker(ReadHotnessTracker readHotnessTracker) {
+    this.readHotnessTracker = readHotnessTracker;
+  }
+
   @Nonnull
   @Override
   public <H, P extends ResourcePath<K>, K, R> Scatter<H, P, K> scatter(
@@ -344,6 +355,71 @@ public class VeniceDelegateMode extends ScatterGatherMode {
     return host;
   }
 
+  /**
+   * Select the less loaded of two random hosts among the ones which can serve the request, so that the reads of a hot
+   * partition are spread over its replicas. The pending request counts lag behind a burst of reads, so following them
+   * alone would send most of the burst to the replica which looked the least loaded when it started, while comparing
+   * two random replicas still steers the reads away from a slow one.
+   */
+  private <H> H selectRandomHost(List<H> hosts, VenicePath path) throws RouterException {
+    H selectedHost = null;
+    H otherSelectedHost = null;
+    int candidateCount = 0;
+    for (H h: hosts) {
+      if (!path.canRequestStorageNode(((Instance) h).getNodeId())) {
+        continue;
+      }
+      // Reservoir sampling of two distinct candidates.
+      candidateCount++;
+      if (candidateCount <= 2) {
+        if (selectedHost == null) {
+          selectedHost = h;
+        } else {
+          otherSelectedHost = h;
+        }
+      } else {
+        int index = ThreadLocalRandom.current().nextInt(candidateCount);
+        if (index == 0) {
+          selectedHost = h;
+        } else if (index == 1) {
+          otherSelectedHost = h;
+        }
+      }
+    }
+    if (otherSelectedHost != null) {
+      long pendingRequestCount = routeHttpRequestStats.getPendingRequestCount(((Instance) selectedHost).getNodeId());
+      long otherPendingRequestCount =
+          routeHttpRequestStats.getPendingRequestCount(((Instance) otherSelectedHost).getNodeId());
+      // Break the ties randomly, since the first two candidates are always picked in the order of the hosts.
+      if (otherPendingRequestCount < pendingRequestCount
+          || (otherPendingRequestCount == pendingRequestCount && ThreadLocalRandom.current().nextBoolean())) {
+        selectedHost = otherSelectedHost;
+      }
+    }
+    if (selectedHost == null) {
+      // Fails the same way as the regular selection when no host can serve the request.
+      return selectLeastLoadedHost(hosts, path);
+    }
+    H finalHost = selectedHost;
+    hosts.removeIf(aHost -> !aHost.equals(finalHost));
+    return finalHost;
+  }
+
+  /**
+   * Records the read of the given keys of a partition, unless it is a retry, which doesn't add any load on the keys.
+   *
+   * @return whether the partition is hot, in which case its reads should be spread over all its replicas.
+   */
+  private <K> boolean recordPartitionRead(VenicePath path, String resourceName, int partition, Iterable<K> keys) {
+    if (readHotnessTracker == null) {
+      return false;
+    }
+    if (!path.isRetryRequest()) {
+      readHotnessTracker.recordRead(resourceName, partition, (Iterable<RouterKey>) keys);
+    }
+    return readHotnessTracker.isHotPartition(resourceName, partition);
+  }
+
   /**
    * This mode route the request to the least loaded replica for single get.
    */
@@ -388,10 +464,11 @@ public class VeniceDelegateMode extends ScatterGatherMode {
       List<H> hosts = (List<H>) veniceHostFinder
           .findHosts(requestMethod, resourceName, venicePath.getStoreName(), partitionNumber, veniceHostHealthMonitor);
       Set<K> keySet = Collections.singleton(key);
+      boolean isHotPartition = recordPartitionRead(venicePath, resourceName, partitionNumber, keySet);
       if (hosts.isEmpty()) {
         scatter.addOfflineRequest(new ScatterGatherRequest<>(Collections.emptyList(), keySet));
       } else if (hosts.size() > 1) {
-        H host = selectLeastLoadedHost(hosts, venicePath);
+        H host = isHotPartition ? selectRandomHost(hosts, venicePath) : selectLeastLoadedHost(hosts, venicePath);
         scatter.addOnlineRequest(new ScatterGatherRequest<>(Collections.singletonList(host), keySet));
       } else {
         scatter.addOnlineRequest(new ScatterGatherRequest<>(hosts, keySet));
@@ -523,6 +600,8 @@ public class VeniceDelegateMode extends ScatterGatherMode {
               venicePath.getStoreName(),
               currentPartition,
               veniceHostHealthMonitor);
+          boolean isHotPartition =
+              recordPartitionRead(venicePath, resourceName, currentPartition, keysForCurrentPartition);
 
           if (hosts.isEmpty()) {
             veniceScatter.addOfflineRequest(
@@ -532,13 +611,17 @@ public class VeniceDelegateMode extends ScatterGatherMode {
             populateHostMap(hostMap, host, keysForCurrentPartition);
           } else {
             try {
-              selectHostForPartition(
-                  hosts,
-                  keysForCurrentPartition,
-                  venicePath,
-                  hostMap,
-                  helixGroupNum,
-                  assignedHelixGroupId);
+              if (isHotPartition) {
+                populateHostMap(hostMap, selectRandomHost(hosts, venicePath), keysForCurrentPartition);
+              } else {
+                selectHostForPartition(
+                    hosts,
+                    keysForCurrentPartition,
+                    venicePath,
+                    hostMap,
+                    helixGroupNum,
+                    assignedHelixGroupId);
+              }
             } catch (RouterException e) {
               /**
                * We don't want to throw exception here to fail the whole request since for streaming, partial scatter is acceptable.
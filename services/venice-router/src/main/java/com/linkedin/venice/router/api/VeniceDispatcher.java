@@ -20,6 +20,7 @@ import com.linkedin.venice.meta.Instance;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VeniceMultiGetPath;
 import com.linkedin.venice.router.api.path.VenicePath;
 import com.linkedin.venice.router.httpclient.PortableHttpResponse;
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
@@ -42,10 +43,14 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
 import io.tehuti.metrics.MetricsRepository;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
@@ -91,6 +96,11 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
 
+  /**
+   * Null unless some stores are configured to be cached.
+   */
+  private final HotKeyResponseCache hotKeyResponseCache;
+
   public VeniceDispatcher(
       VeniceRouterConfig config,
       ReadOnlyStoreRepository storeRepository,
@@ -114,6 +124,8 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     this.leakedCompletableFutureCleanupService = new LeakedCompletableFutureCleanupService();
     this.leakedCompletableFutureCleanupService.start();
     this.routerStats = routerStats;
+    this.hotKeyResponseCache =
+        config.getHotKeyCacheStores().isEmpty() ? null : new HotKeyResponseCache(config, storeRepository);
   }
 
   @Override
@@ -142,8 +154,46 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     Instance storageNode = part.getHosts().get(0);
     hostSelected.setSuccess(storageNode);
 
+    boolean isCacheable = hotKeyResponseCache != null && hotKeyResponseCache.isCacheable(path);
+    VenicePath storageNodePath = path;
+    Map<RouterKey, HotKeyResponseCache.CachedResponse> cachedResponses = Collections.emptyMap();
+    if (isCacheable) {
+      AggRouterHttpRequestStats stats = routerStats.getStatsByType(requestType);
+      PortableHttpResponse cachedResponse = null;
+      if (path instanceof VeniceMultiGetPath) {
+        VeniceMultiGetPath multiGetPath = (VeniceMultiGetPath) path;
+        cachedResponses = hotKeyResponseCache.getAll(multiGetPath);
+        Collection<RouterKey> keys = path.getPartitionKeys();
+        stats.recordHotKeyCacheLookups(storeName, keys.size(), cachedResponses.size());
+        if (cachedResponses.size() == keys.size()) {
+          cachedResponse = hotKeyResponseCache.buildMultiGetResponse(multiGetPath, cachedResponses);
+        } else if (!cachedResponses.isEmpty()) {
+          // Only the keys which are not cached are requested from the storage node
+          List<RouterKey> requestedKeys = new ArrayList<>(keys.size() - cachedResponses.size());
+          for (RouterKey key: keys) {
+            if (!cachedResponses.containsKey(key)) {
+              requestedKeys.add(key);
+            }
+          }
+          storageNodePath = path.substitutePartitionKey(requestedKeys);
+        }
+      } else {
+        cachedResponse = hotKeyResponseCache.get(path);
+        stats.recordHotKeyCacheLookups(storeName, 1, cachedResponse != null ? 1 : 0);
+      }
+      if (cachedResponse != null) {
+        try {
+          responseFuture.setSuccess(Collections.singletonList(buildResponse(path, cachedResponse)));
+        } catch (Throwable e) {
+          responseFuture.setFailure(e);
+        }
+        return;
+      }
+    }
+
+    Map<RouterKey, HotKeyResponseCache.CachedResponse> storageNodeCachedResponses = cachedResponses;
     // sendRequest completes future either immediately in the calling thread context or on the executor
-    sendRequest(storageNode, path, retryFuture).whenComplete((response, throwable) -> {
+    sendRequest(storageNode, storageNodePath, retryFuture).whenComplete((response, throwable) -> {
       try {
         int statusCode = response != null ? response.getStatusCode() : HttpStatus.SC_INTERNAL_SERVER_ERROR;
         if (!retryFuture.isCancelled() && RETRIABLE_ERROR_CODES.contains(statusCode)) {
@@ -162,7 +212,13 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
           path.markStorageNodeAsFast(storageNode.getNodeId());
         }
 
-        responseFuture.setSuccess(Collections.singletonList(buildResponse(path, response)));
+        PortableHttpResponse storageNodeResponse = response;
+        if (isCacheable) {
+          storageNodeResponse = path instanceof VeniceMultiGetPath
+              ? hotKeyResponseCache.putAll((VeniceMultiGetPath) path, response, storageNodeCachedResponses)
+              : hotKeyResponseCache.put(path, response);
+        }
+        responseFuture.setSuccess(Collections.singletonList(buildResponse(path, storageNodeResponse)));
       } catch (Throwable e) {
         responseFuture.setFailure(e);
       }
@@ -203,7 +259,7 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     try {
       long pendingRequestCount = routeHttpRequestStats.getPendingRequestCount(storageNode.getNodeId());
 
-      if (isStatefulHealthCheckEnabled && pendingRequestCount > routerUnhealthyPendingConnThresholdPerRoute) {
+      if (isRouteOverloaded(storageNode.getNodeId(), pendingRequestCount)) {
         isRequestThrottled = true;
         // try to trigger error retry if its not cancelled already. if retry is cancelled throw exception which
         // increases the unhealthy request metric.
@@ -223,6 +279,7 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
         }
       }
       routeHttpRequestStats.recordPendingRequest(storageNode.getNodeId());
+      long inFlightCount = pendingRequestCount + 1;
 
       long requestId = uniqueRequestId.getAndIncrement();
       responseFutureMap.put(requestId, responseFuture);
@@ -232,6 +289,13 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
          * to decide whether a storage node is suitable for retry request.
          */
         path.requestStorageNode(storageNode.getNodeId());
+        if (routerConfig.isStorageNodeRequestTimeoutPropagationEnabled()) {
+          /**
+           * The storage node client gives up on the request once the socket timeout passes, so there is no point for
+           * the storage node to keep working on it past that point.
+           */
+          path.setStorageNodeRequestTimeoutMs(routerConfig.getSocketTimeout());
+        }
         storageNodeClient.query(
             storageNode,
             path,
@@ -245,6 +309,11 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
         RouteHttpStats perRouteStats = perRouteStatsByType.getStatsByType(requestType);
         perRouteStats
             .recordResponseWaitingTime(storageNode.getHost(), LatencyUtils.getElapsedTimeFromNSToMS(startTime));
+        routeHttpRequestStats.recordResponse(
+            storageNode.getNodeId(),
+            System.nanoTime() - startTime,
+            inFlightCount,
+            isOverloadSignal(response, throwable));
         routeHttpRequestStats.recordFinishedRequest(storageNode.getNodeId());
         pendingRequestThrottler.take();
         responseFutureMap.remove(requestId);
@@ -257,6 +326,33 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     }
   }
 
+  /**
+   * With adaptive concurrency limit, the limit of each route is estimated from its latency, otherwise the static
+   * pending request threshold applies when the stateful health check is enabled.
+   */
+  private boolean isRouteOverloaded(String nodeId, long pendingRequestCount) {
+    if (routeHttpRequestStats.isAdaptiveConcurrencyLimitEnabled()) {
+      if (pendingRequestCount >= routeHttpRequestStats.getConcurrencyLimit(nodeId)) {
+        routeHttpRequestStats.recordConcurrencyLimitRejectedRequest(nodeId);
+        return true;
+      }
+      return false;
+    }
+    return isStatefulHealthCheckEnabled && pendingRequestCount > routerUnhealthyPendingConnThresholdPerRoute;
+  }
+
+  /**
+   * Requests which timed out or got rejected by an overloaded storage node do not tell anything about its latency,
+   * but they are a strong signal to back off. Cancelled requests (e.g. the losing side of a long-tail retry) are not.
+   */
+  private static boolean isOverloadSignal(PortableHttpResponse response, Throwable throwable) {
+    if (throwable != null) {
+      return !(throwable instanceof CancellationException);
+    }
+    int statusCode = response.getStatusCode();
+    return statusCode == SERVICE_UNAVAILABLE.code() || statusCode == TOO_MANY_REQUESTS.code();
+  }
+
   protected VeniceFullHttpResponse buildResponse(VenicePath path, PortableHttpResponse serverResponse)
       throws IOException {
     int statusCode = serverResponse.getStatusCode();
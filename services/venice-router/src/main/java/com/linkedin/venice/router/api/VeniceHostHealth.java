@@ -95,6 +95,15 @@ public class VeniceHostHealth implements HostHealthMonitor<Instance> {
       return false;
     }
 
+    /**
+     * A storage node which reached its adaptive concurrency limit is routed around, as long as there are other replicas
+     * to pick from, so the requests go to the replicas which can absorb them.
+     */
+    if (routeHttpRequestStats.isConcurrencyLimitReached(nodeId)) {
+      aggHostHealthStats.recordUnhealthyHostConcurrencyLimitReached(nodeId);
+      return false;
+    }
+
     if (isPendingRequestQueueUnhealthy(instance.getNodeId())) {
       aggHostHealthStats.recordUnhealthyHostTooManyPendingRequest(nodeId);
       // Record the unhealthy node count because of pending queue check
@@ -108,7 +117,8 @@ public class VeniceHostHealth implements HostHealthMonitor<Instance> {
   private boolean isPendingRequestQueueUnhealthy(String nodeId) {
     long pendingRequestCount = routeHttpRequestStats.getPendingRequestCount(nodeId);
     aggHostHealthStats.recordPendingRequestCount(nodeId, pendingRequestCount);
-    if (!statefulRouterHealthCheckEnabled) {
+    if (!statefulRouterHealthCheckEnabled || routeHttpRequestStats.isAdaptiveConcurrencyLimitEnabled()) {
+      // The static threshold does not apply when the limit of each route is adaptive
       return false;
     }
     Long unhealthyStartTime = pendingRequestUnhealthyTimeMap.get(nodeId);
@@ -65,6 +65,7 @@ public class VenicePathParser<HTTP_REQUEST extends BasicHttpRequest>
 
   // Admin tasks
   public static final String TASK_READ_QUOTA_THROTTLE = "readQuotaThrottle";
+  public static final String TASK_READ_HOTNESS = "readHotness";
 
   // Admin actions
   public static final String ACTION_ENABLE = "enable";
@@ -26,6 +26,8 @@ import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpRequest;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import org.apache.avro.io.OptimizedBinaryDecoderFactory;
 
@@ -201,7 +203,7 @@ public class VeniceResponseDecompressor {
       ByteBuf data,
       RequestType requestType) {
     ByteBuf copy = data.isReadOnly() ? data.copy() : data;
-    Iterable<MultiGetResponseRecordV1> records = recordDeserializer.deserializeObjects(
+    List<MultiGetResponseRecordV1> records = recordDeserializer.deserializeObjects(
         OptimizedBinaryDecoderFactory.defaultFactory()
             .createOptimizedBinaryDecoder(copy.array(), 0, copy.readableBytes()));
 
@@ -219,8 +221,14 @@ public class VeniceResponseDecompressor {
       } else {
         compressor = compressorFactory.getCompressor(compressionStrategy);
       }
+      List<ByteBuffer> compressedValues = new ArrayList<>(records.size());
       for (MultiGetResponseRecordV1 record: records) {
-        record.value = compressor.decompress(record.value);
+        compressedValues.add(record.value);
+      }
+      // The decompressed values are only needed until the records are serialized below, so the buffer can be reused
+      List<ByteBuffer> decompressedValues = compressor.decompressBatchIntoPooledBuffer(compressedValues);
+      for (int i = 0; i < records.size(); i++) {
+        records.get(i).value = decompressedValues.get(i);
       }
     } catch (IOException e) {
       String errorMsg = String
@@ -137,6 +137,13 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
     return subPath;
   }
 
+  /**
+   * @return the index of the given key in the request of the client, which the records of the response refer to.
+   */
+  public int getKeyIndex(RouterKey key) {
+    return routerKeyMap.get(key).keyIndex;
+  }
+
   @Override
   protected MultiGetRouterRequestKeyV1 createRouterRequestKey(ByteBuffer key, int keyIdx, int partitionId) {
     MultiGetRouterRequestKeyV1 routerRequestKey = new MultiGetRouterRequestKeyV1();
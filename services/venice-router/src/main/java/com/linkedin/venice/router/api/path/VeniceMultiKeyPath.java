@@ -16,8 +16,10 @@ import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import io.netty.handler.codec.http.HttpMethod;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -97,6 +99,8 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
           e.getMessage());
     }
 
+    List<ByteBuffer> keyList = new ArrayList<>();
+    List<RouterKey> routerKeyList = new ArrayList<>();
     for (ByteBuffer key: keys) {
       RouterKey routerKey = new RouterKey(key);
 
@@ -105,13 +109,24 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
       if (stats != null) {
         stats.getStatsByType(RequestType.MULTI_GET).recordKeySize(storeName, routerKey.getKeySize());
       }
+      keyList.add(key);
+      routerKeyList.add(routerKey);
+    }
+
+    // partition lookup of all the keys at once
+    ByteBuffer[] keyBuffers = new ByteBuffer[routerKeyList.size()];
+    for (int i = 0; i < keyBuffers.length; i++) {
+      keyBuffers[i] = routerKeyList.get(i).getKeyBuffer();
+    }
+    int[] partitionIds = new int[keyBuffers.length];
+    partitioner.getPartitionIds(keyBuffers, partitionNum, partitionIds);
 
-      // partition lookup
-      int partitionId = partitioner.getPartitionId(routerKey.getKeyBuffer(), partitionNum);
+    for (; keyIdx < keyBuffers.length; keyIdx++) {
+      RouterKey routerKey = routerKeyList.get(keyIdx);
+      int partitionId = partitionIds[keyIdx];
       routerKey.setPartitionId(partitionId);
-      K routerRequestKey = createRouterRequestKey(key, keyIdx, partitionId);
+      K routerRequestKey = createRouterRequestKey(keyList.get(keyIdx), keyIdx, partitionId);
       this.routerKeyMap.put(routerKey, routerRequestKey);
-      ++keyIdx;
     }
     setPartitionKeys(this.routerKeyMap.keySet());
 
@@ -39,6 +39,7 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
   private final int smartLongTailRetryAbortThresholdMs;
   private long originalRequestStartTs = -1;
   private int longTailRetryThresholdMs = Integer.MAX_VALUE;
+  private int storageNodeRequestTimeoutMs = -1;
   /**
    * This slow storage node set, which will be decided by the scattered requests of the original request.
    * And this set is mostly used to decide whether we should send retry request to any specific storage node or not.
@@ -260,6 +261,14 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
     return false;
   }
 
+  /**
+   * @param storageNodeRequestTimeoutMs how long the router is going to wait for the response of the storage node,
+   *                                    which is propagated in {@link HttpConstants#VENICE_REQUEST_TIMEOUT_MS}
+   */
+  public void setStorageNodeRequestTimeoutMs(int storageNodeRequestTimeoutMs) {
+    this.storageNodeRequestTimeoutMs = storageNodeRequestTimeoutMs;
+  }
+
   public void setupVeniceHeaders(BiConsumer<String, String> setupHeaderFunc) {
     // API
     setupHeaderFunc.accept(HttpConstants.VENICE_API_VERSION, getVeniceApiVersionHeader());
@@ -267,6 +276,10 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
     if (isRetryRequest()) {
       setupHeaderFunc.accept(HttpConstants.VENICE_RETRY, "1");
     }
+    // Deadline
+    if (storageNodeRequestTimeoutMs > 0) {
+      setupHeaderFunc.accept(HttpConstants.VENICE_REQUEST_TIMEOUT_MS, Integer.toString(storageNodeRequestTimeoutMs));
+    }
     // Streaming
     if (chunkedResponse != null) {
       setupHeaderFunc.accept(HttpConstants.VENICE_STREAMING, "1");
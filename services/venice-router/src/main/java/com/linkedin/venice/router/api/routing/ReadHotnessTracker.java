@@ -0,0 +1,232 @@
+package com.linkedin.venice.router.api.routing;
+
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.RouterKey;
+import com.linkedin.venice.router.stats.ReadHotnessStats;
+import com.linkedin.venice.router.utils.HeavyHitterSketch;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.HelixUtils;
+import io.tehuti.metrics.MetricsRepository;
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * {@code ReadHotnessTracker} estimates which partitions and keys receive the most reads through this Router, with a
+ * {@link HeavyHitterSketch} each, so that the reads of the hot partitions can be spread over all their ready replicas.
+ *
+ * A partition is hot once its share of the reads exceeds
+ * {@link com.linkedin.venice.ConfigKeys#ROUTER_HOT_PARTITION_READ_SHARE_THRESHOLD}. The hot partitions are refreshed,
+ * and the counts halved, at a fixed interval, so the hotness reflects the last few intervals of traffic.
+ */
+public class ReadHotnessTracker implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(ReadHotnessTracker.class);
+  /**
+   * With 4 rows of 4096 counters, the over-estimation of a count is below 0.1% of the total count with high
+   * probability, for 128KB of counters per sketch.
+   */
+  private static final int SKETCH_WIDTH = 4096;
+
+  private final HeavyHitterSketch<HotPartition> partitionSketch;
+  private final HeavyHitterSketch<HotKey> keySketch;
+  private final double hotPartitionReadShareThreshold;
+  private final ReadHotnessStats stats;
+  private final ScheduledExecutorService refreshExecutor;
+  private volatile Set<HotPartition> hotPartitions = Collections.emptySet();
+
+  public ReadHotnessTracker(VeniceRouterConfig config, MetricsRepository metricsRepository) {
+    this(config.getReadHotnessTopK(), config.getHotPartitionReadShareThreshold(), metricsRepository);
+    long refreshIntervalMs = config.getReadHotnessRefreshIntervalMs();
+    refreshExecutor.scheduleWithFixedDelay(this::refresh, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  ReadHotnessTracker(int topK, double hotPartitionReadShareThreshold, MetricsRepository metricsRepository) {
+    this.partitionSketch = new HeavyHitterSketch<>(SKETCH_WIDTH, topK, UnaryOperator.identity());
+    this.keySketch = new HeavyHitterSketch<>(SKETCH_WIDTH, topK, HotKey::copy);
+    this.hotPartitionReadShareThreshold = hotPartitionReadShareThreshold;
+    this.stats = new ReadHotnessStats(metricsRepository);
+    this.refreshExecutor = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("ReadHotnessTracker"));
+  }
+
+  /**
+   * Records the read of the given keys of a partition.
+   */
+  public void recordRead(String resourceName, int partition, Iterable<RouterKey> keys) {
+    long keyCount = 0;
+    for (RouterKey key: keys) {
+      keySketch.record(new HotKey(resourceName, key.getKeyBuffer(), key.hashCode()), 1);
+      keyCount++;
+    }
+    partitionSketch.record(new HotPartition(resourceName, partition), keyCount);
+  }
+
+  public boolean isHotPartition(String resourceName, int partition) {
+    Set<HotPartition> currentHotPartitions = hotPartitions;
+    return !currentHotPartitions.isEmpty() && currentHotPartitions.contains(new HotPartition(resourceName, partition));
+  }
+
+  /**
+   * @return the names of the hot partitions.
+   */
+  public Set<String> getHotPartitions() {
+    Set<String> hotPartitionNames = new HashSet<>();
+    hotPartitions.forEach(hotPartition -> hotPartitionNames.add(hotPartition.toString()));
+    return hotPartitionNames;
+  }
+
+  /**
+   * @return the names of the partitions with the most reads, and their estimated read count over the last few
+   *         intervals.
+   */
+  public Map<String, Long> getTopPartitions() {
+    Map<String, Long> topPartitions = new LinkedHashMap<>();
+    partitionSketch.getTopItems().forEach((partition, count) -> topPartitions.put(partition.toString(), count));
+    return topPartitions;
+  }
+
+  /**
+   * @return the keys with the most reads, as their resource name and base64 encoded key, and their estimated read
+   *         count over the last few intervals.
+   */
+  public Map<String, Long> getTopKeys() {
+    Map<String, Long> topKeys = new LinkedHashMap<>();
+    keySketch.getTopItems().forEach((key, count) -> topKeys.put(key.toString(), count));
+    return topKeys;
+  }
+
+  /**
+   * Refreshes the hot partitions and the metrics, then halves the counts. Called periodically, and public for tests.
+   */
+  public void refresh() {
+    try {
+      long totalReadCount = partitionSketch.getTotalCount();
+      Map<HotPartition, Long> topPartitions = partitionSketch.getTopItems();
+      Map<HotKey, Long> topKeys = keySketch.getTopItems();
+      Set<HotPartition> newHotPartitions = new HashSet<>();
+      for (Map.Entry<HotPartition, Long> entry: topPartitions.entrySet()) {
+        if (entry.getValue() > hotPartitionReadShareThreshold * totalReadCount) {
+          newHotPartitions.add(entry.getKey());
+        }
+      }
+      if (!newHotPartitions.equals(hotPartitions)) {
+        LOGGER.info("Hot partitions changed from: {} to: {}", hotPartitions, newHotPartitions);
+      }
+      hotPartitions = newHotPartitions.isEmpty() ? Collections.emptySet() : newHotPartitions;
+
+      stats.recordHotPartitionCount(newHotPartitions.size());
+      stats.recordHottestPartitionReadShare(getReadShare(topPartitions, totalReadCount));
+      stats.recordHottestKeyReadShare(getReadShare(topKeys, totalReadCount));
+      partitionSketch.decay();
+      keySketch.decay();
+    } catch (Exception e) {
+      LOGGER.error("Failed to refresh the read hotness", e);
+    }
+  }
+
+  private static double getReadShare(Map<?, Long> topItems, long totalReadCount) {
+    if (topItems.isEmpty() || totalReadCount == 0) {
+      return 0;
+    }
+    return (double) topItems.values().iterator().next() / totalReadCount;
+  }
+
+  @Override
+  public void close() {
+    refreshExecutor.shutdownNow();
+  }
+
+  /**
+   * A partition of a given resource, which is cheaper to build on every read than its partition name.
+   */
+  private static class HotPartition {
+    private final String resourceName;
+    private final int partition;
+
+    HotPartition(String resourceName, int partition) {
+      this.resourceName = resourceName;
+      this.partition = partition;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * resourceName.hashCode() + partition;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      HotPartition other = (HotPartition) o;
+      return partition == other.partition && resourceName.equals(other.resourceName);
+    }
+
+    @Override
+    public String toString() {
+      return HelixUtils.getPartitionName(resourceName, partition);
+    }
+  }
+
+  /**
+   * A key of a given resource.
+   */
+  private static class HotKey {
+    private final String resourceName;
+    private final ByteBuffer key;
+    private final int hashCode;
+
+    /**
+     * @param keyHashCode The hash code of the key, as precomputed by {@link RouterKey}.
+     */
+    HotKey(String resourceName, ByteBuffer key, int keyHashCode) {
+      this.resourceName = resourceName;
+      this.key = key;
+      this.hashCode = 31 * resourceName.hashCode() + keyHashCode;
+    }
+
+    /**
+     * The key of the request is a view of the request content, which shouldn't be retained.
+     */
+    HotKey copy() {
+      ByteBuffer keyCopy = ByteBuffer.allocate(key.remaining());
+      keyCopy.put(key.duplicate()).flip();
+      return new HotKey(resourceName, keyCopy, key.hashCode());
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      HotKey other = (HotKey) o;
+      return resourceName.equals(other.resourceName) && key.equals(other.key);
+    }
+
+    @Override
+    public String toString() {
+      return resourceName + "/" + new RouterKey(key.duplicate()).base64Encoded();
+    }
+  }
+}
@@ -30,6 +30,11 @@ public class AggHostHealthStats extends AbstractVeniceAggStats<HostHealthStats>
     getHostStats(hostName).recordUnhealthyHostTooManyPendingRequest();
   }
 
+  public void recordUnhealthyHostConcurrencyLimitReached(String hostName) {
+    totalStats.recordUnhealthyHostConcurrencyLimitReached();
+    getHostStats(hostName).recordUnhealthyHostConcurrencyLimitReached();
+  }
+
   public void recordUnhealthyHostHeartBeatFailure(String hostName) {
     totalStats.recordUnhealthyHostHeartBeatFailure();
     getHostStats(hostName).recordUnhealthyHostHeartBeatFailure();
@@ -197,6 +197,11 @@ public class AggRouterHttpRequestStats extends AbstractVeniceAggStoreStats<Route
     getStoreStats(storeName).recordMetaStoreShadowRead();
   }
 
+  public void recordHotKeyCacheLookups(String storeName, int lookupCount, int hitCount) {
+    totalStats.recordHotKeyCacheLookups(lookupCount, hitCount);
+    getStoreStats(storeName).recordHotKeyCacheLookups(lookupCount, hitCount);
+  }
+
   private class AggScatterGatherStats extends ScatterGatherStats {
     private long getAggStats(Function<ScatterGatherStats, Long> func) {
       long total = 0;
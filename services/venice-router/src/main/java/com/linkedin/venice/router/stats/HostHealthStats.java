@@ -19,6 +19,7 @@ import java.util.Optional;
 public class HostHealthStats extends AbstractVeniceStats {
   private final Sensor unhealthyHostOfflineInstance;
   private final Sensor unhealthyHostTooManyPendingRequest;
+  private final Sensor unhealthyHostConcurrencyLimitReached;
   private final Sensor unhealthyHostHeartBeatFailure;
   private final Sensor pendingRequestCount;
   private final Sensor leakedPendingRequestCount;
@@ -33,6 +34,8 @@ public class HostHealthStats extends AbstractVeniceStats {
 
     this.unhealthyHostOfflineInstance = registerSensor("unhealthy_host_offline_instance", new Count());
     this.unhealthyHostTooManyPendingRequest = registerSensor("unhealthy_host_too_many_pending_request", new Count());
+    this.unhealthyHostConcurrencyLimitReached =
+        registerSensor("unhealthy_host_concurrency_limit_reached", new Count());
     this.unhealthyHostHeartBeatFailure = registerSensor("unhealthy_host_heart_beat_failure", new Count());
     this.pendingRequestCount = registerSensor("pending_request_count", new Max());
     this.leakedPendingRequestCount = registerSensor("leaked_pending_request_count", new Count());
@@ -58,6 +61,10 @@ public class HostHealthStats extends AbstractVeniceStats {
     unhealthyHostTooManyPendingRequest.record();
   }
 
+  public void recordUnhealthyHostConcurrencyLimitReached() {
+    unhealthyHostConcurrencyLimitReached.record();
+  }
+
   public void recordUnhealthyHostHeartBeatFailure() {
     unhealthyHostHeartBeatFailure.record();
   }
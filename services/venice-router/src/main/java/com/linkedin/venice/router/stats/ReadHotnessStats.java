@@ -0,0 +1,35 @@
+package com.linkedin.venice.router.stats;
+
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Gauge;
+
+
+/**
+ * Stats of the read hotness estimated by {@link com.linkedin.venice.router.api.routing.ReadHotnessTracker}.
+ */
+public class ReadHotnessStats extends AbstractVeniceStats {
+  private final Sensor hotPartitionCountSensor;
+  private final Sensor hottestPartitionReadShareSensor;
+  private final Sensor hottestKeyReadShareSensor;
+
+  public ReadHotnessStats(MetricsRepository metricsRepository) {
+    super(metricsRepository, "read_hotness");
+    hotPartitionCountSensor = registerSensor("hot_partition_count", new Gauge());
+    hottestPartitionReadShareSensor = registerSensor("hottest_partition_read_share", new Gauge());
+    hottestKeyReadShareSensor = registerSensor("hottest_key_read_share", new Gauge());
+  }
+
+  public void recordHotPartitionCount(int count) {
+    hotPartitionCountSensor.record(count);
+  }
+
+  public void recordHottestPartitionReadShare(double share) {
+    hottestPartitionReadShareSensor.record(share);
+  }
+
+  public void recordHottestKeyReadShare(double share) {
+    hottestKeyReadShareSensor.record(share);
+  }
+}
@@ -1,11 +1,14 @@
 package com.linkedin.venice.router.stats;
 
+import com.linkedin.venice.router.VeniceRouterConfig;
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
+import com.linkedin.venice.router.throttle.AdaptiveConcurrencyLimiter;
 import com.linkedin.venice.stats.AbstractVeniceStats;
 import com.linkedin.venice.stats.StatsUtils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.tehuti.metrics.MetricsRepository;
 import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.AsyncGauge;
 import io.tehuti.metrics.stats.Avg;
 import io.tehuti.metrics.stats.Max;
 import io.tehuti.metrics.stats.Min;
@@ -13,6 +16,7 @@ import io.tehuti.metrics.stats.OccurrenceRate;
 import io.tehuti.metrics.stats.SampledTotal;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 
 /**
@@ -23,25 +27,97 @@ public class RouteHttpRequestStats {
   private final MetricsRepository metricsRepository;
   private final StorageNodeClient storageNodeClient;
   private final Map<String, InternalHostStats> routeStatsMap = new VeniceConcurrentHashMap<>();
+  /**
+   * Creates the {@link AdaptiveConcurrencyLimiter} of each route, null if adaptive concurrency limit is disabled.
+   */
+  private final Supplier<AdaptiveConcurrencyLimiter> concurrencyLimiterSupplier;
 
   public RouteHttpRequestStats(MetricsRepository metricsRepository, StorageNodeClient storageNodeClient) {
+    this(metricsRepository, storageNodeClient, (Supplier<AdaptiveConcurrencyLimiter>) null);
+  }
+
+  public RouteHttpRequestStats(
+      MetricsRepository metricsRepository,
+      StorageNodeClient storageNodeClient,
+      VeniceRouterConfig config) {
+    this(
+        metricsRepository,
+        storageNodeClient,
+        config.isAdaptiveConcurrencyLimitEnabled()
+            ? () -> new AdaptiveConcurrencyLimiter(
+                config.getAdaptiveConcurrencyLimitInitial(),
+                config.getAdaptiveConcurrencyLimitMin(),
+                config.getAdaptiveConcurrencyLimitMax())
+            : null);
+  }
+
+  public RouteHttpRequestStats(
+      MetricsRepository metricsRepository,
+      StorageNodeClient storageNodeClient,
+      Supplier<AdaptiveConcurrencyLimiter> concurrencyLimiterSupplier) {
     this.metricsRepository = metricsRepository;
     this.storageNodeClient = storageNodeClient;
+    this.concurrencyLimiterSupplier = concurrencyLimiterSupplier;
+  }
+
+  private InternalHostStats getHostStats(String hostName) {
+    return routeStatsMap.computeIfAbsent(
+        hostName,
+        h -> new InternalHostStats(
+            metricsRepository,
+            h,
+            concurrencyLimiterSupplier == null ? null : concurrencyLimiterSupplier.get()));
   }
 
   public void recordPendingRequest(String hostName) {
-    InternalHostStats stats = routeStatsMap.computeIfAbsent(hostName, h -> new InternalHostStats(metricsRepository, h));
-    stats.recordPendingRequestCount();
+    getHostStats(hostName).recordPendingRequestCount();
   }
 
   public void recordFinishedRequest(String hostName) {
-    InternalHostStats stats = routeStatsMap.computeIfAbsent(hostName, h -> new InternalHostStats(metricsRepository, h));
-    stats.recordFinishedRequestCount();
+    getHostStats(hostName).recordFinishedRequestCount();
   }
 
   public void recordUnhealthyQueueDuration(String hostName, double duration) {
-    InternalHostStats stats = routeStatsMap.computeIfAbsent(hostName, h -> new InternalHostStats(metricsRepository, h));
-    stats.recordUnhealthyQueueDuration(duration);
+    getHostStats(hostName).recordUnhealthyQueueDuration(duration);
+  }
+
+  public boolean isAdaptiveConcurrencyLimitEnabled() {
+    return concurrencyLimiterSupplier != null;
+  }
+
+  /**
+   * @return true if the given route already has as many in-flight requests as its adaptive concurrency limit allows,
+   *         always false if adaptive concurrency limit is disabled.
+   */
+  public boolean isConcurrencyLimitReached(String hostName) {
+    InternalHostStats stats = routeStatsMap.get(hostName);
+    return stats != null && stats.concurrencyLimiter != null
+        && stats.concurrencyLimiter.isLimitReached(stats.pendingRequestCount.get());
+  }
+
+  /**
+   * @return the adaptive concurrency limit of the given route, or -1 if adaptive concurrency limit is disabled.
+   */
+  public int getConcurrencyLimit(String hostName) {
+    AdaptiveConcurrencyLimiter concurrencyLimiter = getHostStats(hostName).concurrencyLimiter;
+    return concurrencyLimiter == null ? -1 : concurrencyLimiter.getLimit();
+  }
+
+  public void recordConcurrencyLimitRejectedRequest(String hostName) {
+    getHostStats(hostName).recordConcurrencyLimitRejectedRequest();
+  }
+
+  /**
+   * Feed the outcome of a request to the adaptive concurrency limiter of its route, if any.
+   *
+   * @param inFlightCount the number of in-flight requests to the route, including this one, when it got sent
+   * @param dropped true if the request timed out or the storage node replied with an overload related error
+   */
+  public void recordResponse(String hostName, long latencyNs, long inFlightCount, boolean dropped) {
+    AdaptiveConcurrencyLimiter concurrencyLimiter = getHostStats(hostName).concurrencyLimiter;
+    if (concurrencyLimiter != null) {
+      concurrencyLimiter.onSample(latencyNs, inFlightCount, dropped);
+    }
   }
 
   public long getPendingRequestCount(String hostName) {
@@ -56,11 +132,17 @@ public class RouteHttpRequestStats {
     // private final Sensor pendingRequestCountSensor;
     private final Sensor unhealthyPendingQueueDuration;
     private final Sensor unhealthyPendingRateSensor;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private Sensor concurrencyLimitRejectedRequestSensor;
     private AtomicLong pendingRequestCount;
 
-    public InternalHostStats(MetricsRepository metricsRepository, String hostName) {
+    public InternalHostStats(
+        MetricsRepository metricsRepository,
+        String hostName,
+        AdaptiveConcurrencyLimiter concurrencyLimiter) {
       super(metricsRepository, StatsUtils.convertHostnameToMetricName(hostName));
       pendingRequestCount = new AtomicLong();
+      this.concurrencyLimiter = concurrencyLimiter;
       // pendingRequestCountSensor =
       // registerSensor(new AsyncGauge((ignored, ignored2) -> pendingRequestCount.get(), "pending_request_count"));
 
@@ -72,6 +154,11 @@ public class RouteHttpRequestStats {
           new SampledTotal());
       ;
       unhealthyPendingRateSensor = registerSensor("unhealthy_pending_queue_per_route", new OccurrenceRate());
+      if (concurrencyLimiter != null) {
+        registerSensor(new AsyncGauge((ignored, ignored2) -> concurrencyLimiter.getLimit(), "concurrency_limit"));
+        concurrencyLimitRejectedRequestSensor =
+            registerSensor("concurrency_limit_rejected_request", new OccurrenceRate());
+      }
     }
 
     public void recordPendingRequestCount() {
@@ -86,5 +173,11 @@ public class RouteHttpRequestStats {
       unhealthyPendingRateSensor.record();
       unhealthyPendingQueueDuration.record(duration);
     }
+
+    public void recordConcurrencyLimitRejectedRequest() {
+      if (concurrencyLimitRejectedRequestSensor != null) {
+        concurrencyLimitRejectedRequestSensor.record();
+      }
+    }
   }
 }
@@ -68,6 +68,9 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor retryDelaySensor;
   private final Sensor multiGetFallbackSensor;
   private final Sensor metaStoreShadowReadSensor;
+  private final Sensor hotKeyCacheLookupSensor;
+  private final Sensor hotKeyCacheHitSensor;
+  private final Sensor hotKeyCacheHitRatioSensor;
   private Sensor keySizeSensor;
   private final String systemStoreName;
 
@@ -188,6 +191,13 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
         registerSensor("error_retry_attempt_triggered_by_pending_request_check", new OccurrenceRate());
     retryDelaySensor = registerSensor("retry_delay", new Avg(), new Max());
     metaStoreShadowReadSensor = registerSensor("meta_store_shadow_read", new OccurrenceRate());
+    // The lookups of a batch get are recorded per key
+    Rate hotKeyCacheLookupRate = new Rate();
+    Rate hotKeyCacheHitRate = new Rate();
+    hotKeyCacheLookupSensor = registerSensor("hot_key_cache_lookup", hotKeyCacheLookupRate);
+    hotKeyCacheHitSensor = registerSensor("hot_key_cache_hit", hotKeyCacheHitRate);
+    hotKeyCacheHitRatioSensor = registerSensor(
+        new TehutiUtils.SimpleRatioStat(hotKeyCacheHitRate, hotKeyCacheLookupRate, "hot_key_cache_hit_ratio"));
   }
 
   /**
@@ -376,6 +386,11 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     metaStoreShadowReadSensor.record();
   }
 
+  public void recordHotKeyCacheLookups(int lookupCount, int hitCount) {
+    hotKeyCacheLookupSensor.record(lookupCount);
+    hotKeyCacheHitSensor.record(hitCount);
+  }
+
   @Override
   protected Sensor registerSensor(String sensorName, MeasurableStat... stats) {
     return super.registerSensor(systemStoreName == null ? sensorName : systemStoreName, null, stats);
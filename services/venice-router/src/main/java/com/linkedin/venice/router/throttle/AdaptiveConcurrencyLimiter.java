@@ -0,0 +1,183 @@
+package com.linkedin.venice.router.throttle;
+
+/**
+ * Estimates how many requests a single storage node can have in flight before they start queueing up, from the
+ * latency observed by Router, in the fashion of TCP Vegas:
+ *
+ * 1. The latency of a request sent while the storage node is not loaded is tracked as the no-load latency.
+ * 2. The responses are aggregated in windows of roughly one round trip, i.e. as many responses as the current limit,
+ *    since any change of the limit only shows up in the latency of the requests sent after it. Each window gives an
+ *    estimate of the number of requests queued in the storage node: {@code limit * (1 - noLoadLatency / avgLatency)}.
+ * 3. The limit grows additively while that estimate stays below {@code 3 * log10(limit)}, and faster while there is no
+ *    queueing at all, and shrinks once it goes over {@code 6 * log10(limit)}. A window with a failed request shrinks it
+ *    multiplicatively (AIMD), since a timeout or an overload error does not carry any meaningful latency.
+ *
+ * Under sustained load, every request gets queued, so the no-load latency can not be observed anymore. To keep up with
+ * changes of the storage node (e.g. a host swapped to a different hardware generation, or a noisy neighbour going away),
+ * the limiter periodically halves the limit until it collects enough samples with the reduced concurrency, and uses
+ * the lowest of their latencies as the new no-load latency.
+ *
+ * The limiter does not count in-flight requests by itself: the caller passes the current in-flight count, which is
+ * already tracked by {@link com.linkedin.venice.router.stats.RouteHttpRequestStats}.
+ *
+ * This class is thread-safe: {@link #getLimit()} is lock-free, while the samples get recorded under the monitor of the
+ * limiter, which is only shared by the requests of a single storage node.
+ */
+public class AdaptiveConcurrencyLimiter {
+  static final int MIN_WINDOW_SAMPLE_COUNT = 10;
+  static final int PROBE_INTERVAL_WINDOWS = 100;
+  static final double BACKOFF_RATIO = 0.9;
+
+  private final int minLimit;
+  private final int maxLimit;
+
+  private volatile int currentLimit;
+  private double estimatedLimit;
+  private long noLoadLatencyNs = 0;
+
+  private int windowSampleCount = 0;
+  private long windowLatencySumNs = 0;
+  private long windowMaxInFlightCount = 0;
+  private boolean windowDropped = false;
+  private int windowsSinceLastProbe = 0;
+
+  private boolean probing = false;
+  private int probeLimit;
+  private long probeMinLatencyNs;
+  private int probeSampleCount;
+  private int probeTotalSampleCount;
+
+  public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+    if (minLimit <= 0 || minLimit > maxLimit) {
+      throw new IllegalArgumentException(
+          "Invalid concurrency limit bounds, min: " + minLimit + ", max: " + maxLimit + ", min must be positive and"
+              + " not larger than max");
+    }
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.estimatedLimit = Math.min(maxLimit, Math.max(minLimit, initialLimit));
+    this.currentLimit = (int) estimatedLimit;
+  }
+
+  /**
+   * @return the maximum number of requests which should be in flight to the storage node.
+   */
+  public int getLimit() {
+    return currentLimit;
+  }
+
+  /**
+   * @return true if the storage node should not receive any more requests with the given number of in-flight ones.
+   */
+  public boolean isLimitReached(long inFlightCount) {
+    return inFlightCount >= currentLimit;
+  }
+
+  /**
+   * Feed the outcome of a request to the limiter.
+   *
+   * @param latencyNs the time between sending the request and receiving its response
+   * @param inFlightCount the number of requests in flight to the storage node, including this one, when it got sent
+   * @param dropped true if the request timed out or failed because the storage node was overloaded
+   */
+  public synchronized void onSample(long latencyNs, long inFlightCount, boolean dropped) {
+    if (latencyNs <= 0) {
+      return;
+    }
+    if (probing) {
+      onProbeSample(latencyNs, inFlightCount, dropped);
+      return;
+    }
+    if (noLoadLatencyNs == 0 || latencyNs < noLoadLatencyNs) {
+      noLoadLatencyNs = latencyNs;
+    }
+    windowSampleCount++;
+    windowLatencySumNs += latencyNs;
+    windowMaxInFlightCount = Math.max(windowMaxInFlightCount, inFlightCount);
+    windowDropped |= dropped;
+    if (windowSampleCount < Math.max(MIN_WINDOW_SAMPLE_COUNT, currentLimit)) {
+      return;
+    }
+
+    long avgLatencyNs = windowLatencySumNs / windowSampleCount;
+    long maxInFlightCount = windowMaxInFlightCount;
+    boolean dropObserved = windowDropped;
+    resetWindow();
+    if (++windowsSinceLastProbe >= PROBE_INTERVAL_WINDOWS) {
+      startProbe();
+      return;
+    }
+    updateLimit(avgLatencyNs, maxInFlightCount, dropObserved);
+  }
+
+  private void updateLimit(long avgLatencyNs, long maxInFlightCount, boolean dropObserved) {
+    if (dropObserved) {
+      estimatedLimit *= BACKOFF_RATIO;
+    } else if (maxInFlightCount * 2 < estimatedLimit) {
+      // The storage node is not loaded enough to tell anything about its limit
+      return;
+    } else {
+      double step = Math.max(1, Math.log10(estimatedLimit));
+      double queueSize = estimatedLimit * (1 - (double) noLoadLatencyNs / avgLatencyNs);
+      if (queueSize <= step) {
+        estimatedLimit += 6 * step;
+      } else if (queueSize < 3 * step) {
+        estimatedLimit += step;
+      } else if (queueSize > 6 * step) {
+        estimatedLimit -= step;
+      } else {
+        return;
+      }
+    }
+    estimatedLimit = Math.min(maxLimit, Math.max(minLimit, estimatedLimit));
+    currentLimit = (int) estimatedLimit;
+  }
+
+  private void resetWindow() {
+    windowSampleCount = 0;
+    windowLatencySumNs = 0;
+    windowMaxInFlightCount = 0;
+    windowDropped = false;
+  }
+
+  private void startProbe() {
+    probing = true;
+    probeLimit = Math.max(minLimit, (int) (estimatedLimit / 2));
+    probeMinLatencyNs = Long.MAX_VALUE;
+    probeSampleCount = 0;
+    probeTotalSampleCount = 0;
+    currentLimit = probeLimit;
+  }
+
+  private void onProbeSample(long latencyNs, long inFlightCount, boolean dropped) {
+    probeTotalSampleCount++;
+    if (dropped) {
+      estimatedLimit = Math.max(minLimit, estimatedLimit * BACKOFF_RATIO);
+    } else if (inFlightCount <= probeLimit) {
+      // Only the requests sent with the reduced concurrency are relevant
+      probeMinLatencyNs = Math.min(probeMinLatencyNs, latencyNs);
+      probeSampleCount++;
+    }
+    int requiredSampleCount = Math.max(MIN_WINDOW_SAMPLE_COUNT, probeLimit);
+    // Give up on the probe if the storage node keeps failing, instead of getting stuck with the reduced limit
+    if (probeSampleCount >= requiredSampleCount || probeTotalSampleCount >= 4 * requiredSampleCount) {
+      if (probeSampleCount > 0) {
+        noLoadLatencyNs = probeMinLatencyNs;
+      }
+      windowsSinceLastProbe = 0;
+      probing = false;
+      currentLimit = (int) estimatedLimit;
+    }
+  }
+
+  /**
+   * @return the current no-load latency estimate, in nanoseconds, or 0 if no sample was recorded yet.
+   */
+  public synchronized long getNoLoadLatencyNs() {
+    return noLoadLatencyNs;
+  }
+
+  public synchronized boolean isProbing() {
+    return probing;
+  }
+}
@@ -0,0 +1,151 @@
+package com.linkedin.venice.router.utils;
+
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+
+/**
+ * {@code HeavyHitterSketch} finds the most frequent items of a stream in constant memory, with a Count-Min sketch
+ * estimating the count of every item, and the top K items by estimated count kept aside.
+ *
+ * Recording an item only takes a few atomic increments, unless its estimated count is high enough to enter or update
+ * the top items, and only takes the lock of the top items when its estimated count exceeds the smallest count of a full
+ * set of top items. The counts are estimates: Count-Min never under-estimates a count, but hash collisions can
+ * over-estimate it by a fraction of the total count inversely proportional to the width of the sketch.
+ *
+ * {@link #decay()} halves all the counts, so that calling it periodically keeps the sketch focused on the recent items.
+ * Since it doesn't stop the concurrent recordings, a few of them can be lost while it runs, which is fine for an
+ * estimate.
+ */
+public class HeavyHitterSketch<T> {
+  private static final int DEPTH = 4;
+  private static final int[] SEEDS = { 0x9E3779B1, 0x85EBCA77, 0xC2B2AE3D, 0x27D4EB2F };
+
+  private final int width;
+  private final AtomicLongArray counters;
+  /** Incremented by every recording, so it is striped rather than contended by all the reading threads. */
+  private final LongAdder totalCount = new LongAdder();
+  private final int topK;
+  private final UnaryOperator<T> topItemCopier;
+  private final Map<T, Long> topItems = new VeniceConcurrentHashMap<>();
+  /**
+   * The smallest count of the top items once there are K of them, which the count of an item must exceed to enter.
+   */
+  private volatile long topItemThreshold = 0;
+
+  /**
+   * @param width The number of counters per row of the sketch, rounded up to a power of 2.
+   * @param topK The number of top items to keep.
+   * @param topItemCopier Copies an item before it is kept as a top item, in case it references state which shouldn't
+   *                      be retained.
+   */
+  public HeavyHitterSketch(int width, int topK, UnaryOperator<T> topItemCopier) {
+    this.width = Integer.highestOneBit(Math.max(width - 1, 1)) << 1;
+    this.counters = new AtomicLongArray(DEPTH * this.width);
+    this.topK = topK;
+    this.topItemCopier = topItemCopier;
+  }
+
+  /**
+   * @return the estimated count of the item, including the given count.
+   */
+  public long record(T item, long count) {
+    int hash = item.hashCode();
+    long estimate = Long.MAX_VALUE;
+    for (int row = 0; row < DEPTH; row++) {
+      estimate = Math.min(estimate, counters.addAndGet(getIndex(hash, row), count));
+    }
+    totalCount.add(count);
+    if (estimate > topItemThreshold && topItems.replace(item, estimate) == null) {
+      addTopItem(item, estimate);
+    }
+    return estimate;
+  }
+
+  /**
+   * @return the estimated count of the item.
+   */
+  public long getCount(T item) {
+    int hash = item.hashCode();
+    long estimate = Long.MAX_VALUE;
+    for (int row = 0; row < DEPTH; row++) {
+      estimate = Math.min(estimate, counters.get(getIndex(hash, row)));
+    }
+    return estimate;
+  }
+
+  public long getTotalCount() {
+    return totalCount.sum();
+  }
+
+  /**
+   * @return the top items and their estimated count, by decreasing count.
+   */
+  public Map<T, Long> getTopItems() {
+    List<Map.Entry<T, Long>> entries = new ArrayList<>(topItems.entrySet());
+    entries.sort(Map.Entry.<T, Long>comparingByValue().reversed());
+    Map<T, Long> sortedTopItems = new LinkedHashMap<>();
+    for (Map.Entry<T, Long> entry: entries) {
+      sortedTopItems.put(entry.getKey(), entry.getValue());
+    }
+    return sortedTopItems;
+  }
+
+  /**
+   * Halves all the counts, and drops the top items whose count drops to 0.
+   */
+  public synchronized void decay() {
+    for (int i = 0; i < counters.length(); i++) {
+      counters.set(i, counters.get(i) >> 1);
+    }
+    long currentTotalCount = totalCount.sum();
+    totalCount.add((currentTotalCount >> 1) - currentTotalCount);
+    topItems.replaceAll((item, count) -> count >> 1);
+    topItems.values().removeIf(count -> count == 0);
+    updateTopItemThreshold();
+  }
+
+  private synchronized void addTopItem(T item, long estimate) {
+    if (topItems.replace(item, estimate) != null || estimate <= topItemThreshold) {
+      // Another recording already added the item, or raised the threshold above its count, while waiting for the lock.
+      return;
+    }
+    if (topItems.size() >= topK) {
+      Map.Entry<T, Long> smallestEntry = null;
+      for (Map.Entry<T, Long> entry: topItems.entrySet()) {
+        if (smallestEntry == null || entry.getValue() < smallestEntry.getValue()) {
+          smallestEntry = entry;
+        }
+      }
+      if (smallestEntry == null || smallestEntry.getValue() >= estimate) {
+        return;
+      }
+      topItems.remove(smallestEntry.getKey());
+    }
+    topItems.put(topItemCopier.apply(item), estimate);
+    updateTopItemThreshold();
+  }
+
+  private void updateTopItemThreshold() {
+    long threshold = 0;
+    if (topItems.size() >= topK) {
+      threshold = Long.MAX_VALUE;
+      for (long count: topItems.values()) {
+        threshold = Math.min(threshold, count);
+      }
+    }
+    topItemThreshold = threshold;
+  }
+
+  private int getIndex(int hash, int row) {
+    int rowHash = hash * SEEDS[row];
+    rowHash ^= rowHash >>> 16;
+    return row * width + (rowHash & (width - 1));
+  }
+}
@@ -4,6 +4,7 @@ import static org.mockito.Mockito.mock;
 
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
 import com.linkedin.venice.router.stats.RouteHttpRequestStats;
+import com.linkedin.venice.router.throttle.AdaptiveConcurrencyLimiter;
 import com.linkedin.venice.tehuti.MockTehutiReporter;
 import com.linkedin.venice.utils.metrics.MetricsRepositoryUtils;
 import io.tehuti.metrics.MetricsRepository;
@@ -41,4 +42,30 @@ public class RouteHttpRequestStatsTest {
     Assert.assertEquals(stats.getPendingRequestCount("my_host1"), 1);
     Assert.assertEquals(stats.getPendingRequestCount("my_host2"), 0);
   }
+
+  @Test
+  public void testAdaptiveConcurrencyLimit() {
+    MetricsRepository metrics = MetricsRepositoryUtils.createSingleThreadedMetricsRepository();
+    RouteHttpRequestStats limitedStats = new RouteHttpRequestStats(
+        metrics,
+        mock(StorageNodeClient.class),
+        () -> new AdaptiveConcurrencyLimiter(2, 1, 10));
+    Assert.assertTrue(limitedStats.isAdaptiveConcurrencyLimitEnabled());
+    Assert.assertFalse(stats.isAdaptiveConcurrencyLimitEnabled());
+    Assert.assertEquals(stats.getConcurrencyLimit("my_host1"), -1);
+    Assert.assertFalse(stats.isConcurrencyLimitReached("my_host1"));
+
+    Assert.assertFalse(limitedStats.isConcurrencyLimitReached("my_host"));
+    limitedStats.recordPendingRequest("my_host");
+    Assert.assertFalse(limitedStats.isConcurrencyLimitReached("my_host"));
+    limitedStats.recordPendingRequest("my_host");
+    Assert.assertTrue(limitedStats.isConcurrencyLimitReached("my_host"));
+    Assert.assertEquals(limitedStats.getConcurrencyLimit("my_host"), 2);
+    Assert.assertEquals(metrics.getMetric(".my_host--concurrency_limit.Gauge").value(), 2.0);
+
+    limitedStats.recordFinishedRequest("my_host");
+    Assert.assertFalse(limitedStats.isConcurrencyLimitReached("my_host"));
+    limitedStats.recordConcurrencyLimitRejectedRequest("my_host");
+    Assert.assertTrue(metrics.getMetric(".my_host--concurrency_limit_rejected_request.OccurrenceRate").value() > 0);
+  }
 }
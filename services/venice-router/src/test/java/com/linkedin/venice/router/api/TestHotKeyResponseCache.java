@@ -0,0 +1,285 @@
+package com.linkedin.venice.router.api;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.StoreDataChangedListener;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.router.api.path.VeniceMultiGetPath;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.avro.io.OptimizedBinaryDecoderFactory;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestHotKeyResponseCache {
+  private static final String BATCH_STORE = "batch_store";
+  private static final String HYBRID_STORE = "hybrid_store";
+  private static final String OPTED_IN_HYBRID_STORE = "opted_in_hybrid_store";
+  private static final long TTL_MS = TimeUnit.MINUTES.toMillis(1);
+  private static final RecordSerializer<MultiGetResponseRecordV1> RECORD_SERIALIZER =
+      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema());
+  private static final RecordDeserializer<MultiGetResponseRecordV1> RECORD_DESERIALIZER =
+      FastSerializerDeserializerFactory
+          .getFastAvroSpecificDeserializer(MultiGetResponseRecordV1.getClassSchema(), MultiGetResponseRecordV1.class);
+
+  private static Store mockStore(String storeName, boolean hybrid, int currentVersion) {
+    Store store = mock(Store.class);
+    doReturn(storeName).when(store).getName();
+    doReturn(hybrid).when(store).isHybrid();
+    doReturn(currentVersion).when(store).getCurrentVersion();
+    return store;
+  }
+
+  private static VenicePath mockPath(String storeName, int version, String key, RequestType requestType) {
+    VenicePath path = mock(VenicePath.class);
+    doReturn(storeName).when(path).getStoreName();
+    doReturn(version).when(path).getVersionNumber();
+    doReturn(RouterKey.fromString(key)).when(path).getPartitionKey();
+    doReturn(requestType).when(path).getRequestType();
+    return path;
+  }
+
+  private static VeniceMultiGetPath mockMultiGetPath(String storeName, int version, String... keys) {
+    VeniceMultiGetPath path = mock(VeniceMultiGetPath.class);
+    doReturn(storeName).when(path).getStoreName();
+    doReturn(version).when(path).getVersionNumber();
+    List<RouterKey> routerKeys = new ArrayList<>();
+    for (int keyIndex = 0; keyIndex < keys.length; keyIndex++) {
+      RouterKey routerKey = RouterKey.fromString(keys[keyIndex]);
+      routerKeys.add(routerKey);
+      doReturn(keyIndex).when(path).getKeyIndex(routerKey);
+    }
+    doReturn(routerKeys).when(path).getPartitionKeys();
+    return path;
+  }
+
+  private static PortableHttpResponse mockResponse(int statusCode, String content) throws Exception {
+    PortableHttpResponse response = mock(PortableHttpResponse.class);
+    doReturn(statusCode).when(response).getStatusCode();
+    doReturn(Unpooled.wrappedBuffer(content.getBytes(StandardCharsets.UTF_8))).when(response).getContentInByteBuf();
+    doReturn("1").when(response).getFirstHeader(HttpConstants.VENICE_SCHEMA_ID);
+    doReturn(HttpConstants.AVRO_BINARY).when(response).getFirstHeader(HttpHeaders.CONTENT_TYPE);
+    doReturn(String.valueOf(CompressionStrategy.GZIP.getValue())).when(response)
+        .getFirstHeader(HttpConstants.VENICE_COMPRESSION_STRATEGY);
+    return response;
+  }
+
+  private static PortableHttpResponse mockMultiGetResponse(String rcu, String... values) throws Exception {
+    List<MultiGetResponseRecordV1> records = new ArrayList<>();
+    for (int keyIndex = 0; keyIndex < values.length; keyIndex++) {
+      if (values[keyIndex] != null) {
+        MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+        record.keyIndex = keyIndex;
+        record.value = ByteBuffer.wrap(values[keyIndex].getBytes(StandardCharsets.UTF_8));
+        record.schemaId = 1;
+        records.add(record);
+      }
+    }
+    PortableHttpResponse response = mock(PortableHttpResponse.class);
+    doReturn(HttpStatus.SC_OK).when(response).getStatusCode();
+    doReturn(Unpooled.wrappedBuffer(RECORD_SERIALIZER.serializeObjects(records))).when(response).getContentInByteBuf();
+    doReturn(String.valueOf(CompressionStrategy.GZIP.getValue())).when(response)
+        .getFirstHeader(HttpConstants.VENICE_COMPRESSION_STRATEGY);
+    doReturn(rcu).when(response).getFirstHeader(HttpConstants.VENICE_REQUEST_RCU);
+    return response;
+  }
+
+  private static String getContent(PortableHttpResponse response) throws Exception {
+    return new String(ByteBufUtil.getBytes(response.getContentInByteBuf()), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @return the values of the records of the given batch get response, by key index.
+   */
+  private static Map<Integer, String> getRecordValues(PortableHttpResponse response) throws Exception {
+    byte[] content = ByteBufUtil.getBytes(response.getContentInByteBuf());
+    List<MultiGetResponseRecordV1> records = RECORD_DESERIALIZER.deserializeObjects(
+        OptimizedBinaryDecoderFactory.defaultFactory().createOptimizedBinaryDecoder(content, 0, content.length));
+    Map<Integer, String> values = new HashMap<>();
+    for (MultiGetResponseRecordV1 record: records) {
+      Assert.assertEquals(record.schemaId, 1);
+      values.put(record.keyIndex, StandardCharsets.UTF_8.decode(record.value).toString());
+    }
+    return values;
+  }
+
+  @Test
+  public void testHotKeyResponseCache() throws Exception {
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    doReturn(mockStore(BATCH_STORE, false, 1)).when(storeRepository).getStore(BATCH_STORE);
+    doReturn(mockStore(HYBRID_STORE, true, 1)).when(storeRepository).getStore(HYBRID_STORE);
+    doReturn(mockStore(OPTED_IN_HYBRID_STORE, true, 1)).when(storeRepository).getStore(OPTED_IN_HYBRID_STORE);
+    AtomicLong nanoTime = new AtomicLong();
+    HotKeyResponseCache cache = new HotKeyResponseCache(
+        Arrays.asList(BATCH_STORE, HYBRID_STORE, OPTED_IN_HYBRID_STORE),
+        Collections.singletonList(OPTED_IN_HYBRID_STORE),
+        1024 * 1024,
+        TTL_MS,
+        storeRepository,
+        nanoTime::get);
+    ArgumentCaptor<StoreDataChangedListener> listenerCaptor = ArgumentCaptor.forClass(StoreDataChangedListener.class);
+    verify(storeRepository).registerStoreDataChangedListener(listenerCaptor.capture());
+    StoreDataChangedListener listener = listenerCaptor.getValue();
+
+    // Only the single gets and batch gets of the current version of the stores which opted in are cached.
+    VenicePath path = mockPath(BATCH_STORE, 1, "key", RequestType.SINGLE_GET);
+    Assert.assertTrue(cache.isCacheable(path));
+    Assert.assertTrue(cache.isCacheable(mockPath(OPTED_IN_HYBRID_STORE, 1, "key", RequestType.SINGLE_GET)));
+    Assert.assertFalse(cache.isCacheable(mockPath(HYBRID_STORE, 1, "key", RequestType.SINGLE_GET)));
+    Assert.assertFalse(cache.isCacheable(mockPath("other_store", 1, "key", RequestType.SINGLE_GET)));
+    Assert.assertFalse(cache.isCacheable(mockPath(BATCH_STORE, 2, "key", RequestType.SINGLE_GET)));
+    Assert.assertTrue(cache.isCacheable(mockPath(BATCH_STORE, 1, "key", RequestType.MULTI_GET)));
+    Assert.assertTrue(cache.isCacheable(mockPath(BATCH_STORE, 1, "key", RequestType.MULTI_GET_STREAMING)));
+    Assert.assertFalse(cache.isCacheable(mockPath(BATCH_STORE, 1, "key", RequestType.COMPUTE)));
+
+    // Unsuccessful responses are not cached.
+    Assert.assertNull(cache.get(path));
+    PortableHttpResponse notFoundResponse = mockResponse(HttpStatus.SC_NOT_FOUND, "");
+    Assert.assertSame(cache.put(path, notFoundResponse), notFoundResponse);
+    Assert.assertNull(cache.get(path));
+
+    // Cached responses keep the compressed content and the headers of the storage node response.
+    PortableHttpResponse cachedResponse = cache.put(path, mockResponse(HttpStatus.SC_OK, "value"));
+    Assert.assertEquals(getContent(cachedResponse), "value");
+    cachedResponse = cache.get(mockPath(BATCH_STORE, 1, "key", RequestType.SINGLE_GET));
+    Assert.assertNotNull(cachedResponse);
+    Assert.assertEquals(cachedResponse.getStatusCode(), HttpStatus.SC_OK);
+    Assert.assertEquals(getContent(cachedResponse), "value");
+    Assert.assertEquals(getContent(cachedResponse), "value", "The cached content should be readable again");
+    Assert.assertEquals(cachedResponse.getFirstHeader(HttpConstants.VENICE_SCHEMA_ID), "1");
+    Assert.assertEquals(cachedResponse.getFirstHeader(HttpHeaders.CONTENT_TYPE), HttpConstants.AVRO_BINARY);
+    Assert.assertEquals(
+        cachedResponse.getFirstHeader(HttpConstants.VENICE_COMPRESSION_STRATEGY),
+        String.valueOf(CompressionStrategy.GZIP.getValue()));
+    Assert.assertFalse(cachedResponse.containsHeader(HttpConstants.VENICE_REQUEST_RCU));
+    Assert.assertNull(cache.get(mockPath(BATCH_STORE, 1, "other_key", RequestType.SINGLE_GET)));
+
+    // Responses expire after the TTL.
+    nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(TTL_MS + 1));
+    Assert.assertNull(cache.get(path));
+
+    // The responses of the previous version are dropped once another version becomes current.
+    cache.put(path, mockResponse(HttpStatus.SC_OK, "value"));
+    VenicePath hybridPath = mockPath(OPTED_IN_HYBRID_STORE, 1, "key", RequestType.SINGLE_GET);
+    cache.put(hybridPath, mockResponse(HttpStatus.SC_OK, "hybrid_value"));
+    Assert.assertEquals(cache.getEntryCount(), 2);
+    listener.handleStoreChanged(mockStore(BATCH_STORE, false, 2));
+    Assert.assertEquals(cache.getEntryCount(), 1);
+    Assert.assertFalse(cache.isCacheable(path));
+    Assert.assertTrue(cache.isCacheable(mockPath(BATCH_STORE, 2, "key", RequestType.SINGLE_GET)));
+    Assert.assertNotNull(cache.get(hybridPath));
+
+    // Deleted stores are not cached anymore.
+    listener.handleStoreDeleted(OPTED_IN_HYBRID_STORE);
+    Assert.assertEquals(cache.getEntryCount(), 0);
+    Assert.assertFalse(cache.isCacheable(hybridPath));
+  }
+
+  @Test
+  public void testBatchGetRecordsCachedPerKey() throws Exception {
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    doReturn(mockStore(BATCH_STORE, false, 1)).when(storeRepository).getStore(BATCH_STORE);
+    AtomicLong nanoTime = new AtomicLong();
+    HotKeyResponseCache cache = new HotKeyResponseCache(
+        Collections.singletonList(BATCH_STORE),
+        Collections.emptyList(),
+        1024 * 1024,
+        TTL_MS,
+        storeRepository,
+        nanoTime::get);
+    cache.put(mockPath(BATCH_STORE, 1, "key1", RequestType.SINGLE_GET), mockResponse(HttpStatus.SC_OK, "value1"));
+
+    // The value cached by a single get is used by the batch gets of the same key.
+    VeniceMultiGetPath path = mockMultiGetPath(BATCH_STORE, 1, "key1", "key2", "key3");
+    Map<RouterKey, HotKeyResponseCache.CachedResponse> cachedResponses = cache.getAll(path);
+    Assert.assertEquals(cachedResponses.keySet(), Collections.singleton(RouterKey.fromString("key1")));
+
+    // The records of the storage node are cached, and completed with the records of the cached keys.
+    PortableHttpResponse response = cache.putAll(path, mockMultiGetResponse("2", null, "value2"), cachedResponses);
+    Map<Integer, String> expectedValues = new HashMap<>();
+    expectedValues.put(0, "value1");
+    expectedValues.put(1, "value2");
+    Assert.assertEquals(getRecordValues(response), expectedValues);
+    Assert.assertEquals(response.getStatusCode(), HttpStatus.SC_OK);
+    Assert.assertEquals(response.getFirstHeader(HttpHeaders.CONTENT_TYPE), HttpConstants.AVRO_BINARY);
+    Assert.assertEquals(
+        response.getFirstHeader(HttpConstants.VENICE_SCHEMA_ID),
+        String.valueOf(ReadAvroProtocolDefinition.MULTI_GET_RESPONSE_V1.getProtocolVersion()));
+    Assert.assertEquals(
+        response.getFirstHeader(HttpConstants.VENICE_COMPRESSION_STRATEGY),
+        String.valueOf(CompressionStrategy.GZIP.getValue()));
+    Assert.assertEquals(
+        response.getFirstHeader(HttpConstants.VENICE_REQUEST_RCU),
+        "3",
+        "The RCU should cover all the keys of the request");
+    Assert.assertEquals(cache.getEntryCount(), 2, "The missing key should not be cached");
+
+    // The values cached by a batch get are used by the single gets of the same key.
+    PortableHttpResponse cachedResponse = cache.get(mockPath(BATCH_STORE, 1, "key2", RequestType.SINGLE_GET));
+    Assert.assertNotNull(cachedResponse);
+    Assert.assertEquals(getContent(cachedResponse), "value2");
+    Assert.assertEquals(cachedResponse.getFirstHeader(HttpConstants.VENICE_SCHEMA_ID), "1");
+    Assert.assertEquals(
+        cachedResponse.getFirstHeader(HttpConstants.VENICE_COMPRESSION_STRATEGY),
+        String.valueOf(CompressionStrategy.GZIP.getValue()));
+
+    // A batch get whose keys are all cached is served with the key indexes of its own request.
+    VeniceMultiGetPath cachedPath = mockMultiGetPath(BATCH_STORE, 1, "key2", "key1");
+    cachedResponses = cache.getAll(cachedPath);
+    Assert.assertEquals(cachedResponses.size(), 2);
+    response = cache.buildMultiGetResponse(cachedPath, cachedResponses);
+    expectedValues.clear();
+    expectedValues.put(0, "value2");
+    expectedValues.put(1, "value1");
+    Assert.assertEquals(getRecordValues(response), expectedValues);
+    Assert.assertEquals(response.getFirstHeader(HttpConstants.VENICE_REQUEST_RCU), "2");
+
+    // Unsuccessful responses are not cached.
+    PortableHttpResponse errorResponse = mockResponse(HttpStatus.SC_INTERNAL_SERVER_ERROR, "");
+    VeniceMultiGetPath otherPath = mockMultiGetPath(BATCH_STORE, 1, "key3");
+    Assert.assertSame(cache.putAll(otherPath, errorResponse, Collections.emptyMap()), errorResponse);
+    Assert.assertTrue(cache.getAll(otherPath).isEmpty());
+
+    // Values compressed differently are not merged into the same response.
+    cache.put(mockPath(BATCH_STORE, 1, "key3", RequestType.SINGLE_GET), mockResponse(HttpStatus.SC_OK, "value3"));
+    VeniceMultiGetPath mixedPath = mockMultiGetPath(BATCH_STORE, 1, "key3", "key4");
+    cachedResponses = cache.getAll(mixedPath);
+    Assert.assertEquals(cachedResponses.keySet(), Collections.singleton(RouterKey.fromString("key3")));
+    PortableHttpResponse uncompressedResponse = mockMultiGetResponse("1", null, "value4");
+    doReturn(String.valueOf(CompressionStrategy.NO_OP.getValue())).when(uncompressedResponse)
+        .getFirstHeader(HttpConstants.VENICE_COMPRESSION_STRATEGY);
+    Map<RouterKey, HotKeyResponseCache.CachedResponse> mixedCachedResponses = cachedResponses;
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> cache.putAll(mixedPath, uncompressedResponse, mixedCachedResponses));
+    Assert.assertTrue(cache.getAll(mixedPath).isEmpty(), "The cached values which could not be merged are dropped");
+  }
+}
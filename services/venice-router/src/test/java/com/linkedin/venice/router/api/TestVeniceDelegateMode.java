@@ -30,6 +30,7 @@ import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.router.VeniceRouterConfig;
 import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.api.routing.ReadHotnessTracker;
 import com.linkedin.venice.router.api.routing.helix.HelixGroupSelectionStrategyEnum;
 import com.linkedin.venice.router.api.routing.helix.HelixGroupSelector;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
@@ -50,6 +51,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.mockito.ArgumentCaptor;
@@ -280,6 +282,84 @@ public class TestVeniceDelegateMode {
     Assert.assertTrue(instanceList.contains(selectedHost));
   }
 
+  /**
+   * Sends bursts of single gets for the same key, and returns the largest number of reads a replica received in a
+   * burst. The pending request counts only catch up with the reads between the bursts, as they lag behind in practice.
+   */
+  private int getMaxReplicaReadsPerBurst(
+      VeniceDelegateMode scatterMode,
+      RouteHttpRequestStats routeHttpRequestStats,
+      String storeName,
+      int burstCount,
+      int burstSize) throws RouterException {
+    int version = 1;
+    String resourceName = storeName + "_v" + version;
+    RouterKey key = new RouterKey("hot_key".getBytes());
+    PartitionFinder partitionFinder = getPartitionFinder(Collections.singletonMap(key, resourceName + "_0"), 1);
+    List<Instance> replicas = new ArrayList<>();
+    for (int i = 1; i <= 3; i++) {
+      replicas.add(new Instance("host" + i + "_123", "host" + i, 123));
+    }
+    // The host selection trims the host list, so every request gets its own.
+    VeniceHostFinder hostFinder = mock(VeniceHostFinder.class);
+    when(hostFinder.findHosts(anyString(), anyString(), anyString(), anyInt(), any()))
+        .then(invocation -> new ArrayList<>(replicas));
+
+    int maxReplicaReads = 0;
+    for (int burst = 0; burst < burstCount; burst++) {
+      Map<Instance, Integer> replicaReads = new HashMap<>();
+      for (int i = 0; i < burstSize; i++) {
+        VenicePath path =
+            getVenicePath(storeName, version, resourceName, RequestType.SINGLE_GET, Collections.singletonList(key));
+        Scatter<Instance, VenicePath, RouterKey> scatter = scatterMode.scatter(
+            new Scatter(path, getPathParser(), VeniceRole.REPLICA),
+            HttpMethod.GET.name(),
+            resourceName,
+            partitionFinder,
+            hostFinder,
+            getHostHealthMonitor(),
+            VeniceRole.REPLICA);
+        Instance host = scatter.getOnlineRequests().iterator().next().getHosts().get(0);
+        replicaReads.merge(host, 1, Integer::sum);
+      }
+      for (Instance replica: replicas) {
+        doReturn((long) replicaReads.getOrDefault(replica, 0)).when(routeHttpRequestStats)
+            .getPendingRequestCount(replica.getNodeId());
+      }
+      maxReplicaReads = Math.max(maxReplicaReads, Collections.max(replicaReads.values()));
+    }
+    return maxReplicaReads;
+  }
+
+  @Test
+  public void testHotPartitionReadsSpreadAcrossReplicas() throws RouterException {
+    VeniceRouterConfig config = mock(VeniceRouterConfig.class);
+    doReturn(LEAST_LOADED_ROUTING).when(config).getMultiKeyRoutingStrategy();
+    doReturn(5).when(config).getReadHotnessTopK();
+    doReturn(0.05).when(config).getHotPartitionReadShareThreshold();
+    doReturn(TimeUnit.HOURS.toMillis(1)).when(config).getReadHotnessRefreshIntervalMs();
+    String storeName = Utils.getUniqueString("test_store");
+
+    // With lagging pending request counts, a whole burst goes to the replica which looked the least loaded.
+    RouteHttpRequestStats routeHttpRequestStats = mock(RouteHttpRequestStats.class);
+    VeniceDelegateMode scatterMode = new VeniceDelegateMode(config, mock(RouterStats.class), routeHttpRequestStats);
+    scatterMode.initReadRequestThrottler(getReadRequestThrottle(false));
+    Assert.assertEquals(getMaxReplicaReadsPerBurst(scatterMode, routeHttpRequestStats, storeName, 3, 300), 300);
+
+    routeHttpRequestStats = mock(RouteHttpRequestStats.class);
+    scatterMode = new VeniceDelegateMode(config, mock(RouterStats.class), routeHttpRequestStats);
+    scatterMode.initReadRequestThrottler(getReadRequestThrottle(false));
+    try (ReadHotnessTracker readHotnessTracker = new ReadHotnessTracker(config, new MetricsRepository())) {
+      scatterMode.initReadHotnessTracker(readHotnessTracker);
+      getMaxReplicaReadsPerBurst(scatterMode, routeHttpRequestStats, storeName, 1, 300);
+      readHotnessTracker.refresh();
+      // Once the partition is detected as hot, its reads are spread over its 3 replicas: with lagging pending request
+      // counts, the replica which looked the least loaded only gets the reads of the 2 out of 3 pairs it belongs to.
+      int maxReplicaReads = getMaxReplicaReadsPerBurst(scatterMode, routeHttpRequestStats, storeName, 3, 300);
+      Assert.assertTrue(maxReplicaReads < 250, "Too many reads sent to the same replica: " + maxReplicaReads);
+    }
+  }
+
   @Test(expectedExceptions = RouterException.class, expectedExceptionsMessageRegExp = ".*not available to serve request of type: SINGLE_GET")
   public void testScatterWithSingleGetWithNotAvailablePartition() throws RouterException {
     String storeName = Utils.getUniqueString("test_store");
@@ -0,0 +1,244 @@
+package com.linkedin.venice.router.api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.alpini.base.concurrency.AsyncFuture;
+import com.linkedin.alpini.base.concurrency.AsyncPromise;
+import com.linkedin.alpini.netty4.misc.BasicHttpRequest;
+import com.linkedin.alpini.router.api.Scatter;
+import com.linkedin.alpini.router.api.ScatterGatherRequest;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VeniceMultiGetPath;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.router.httpclient.StorageNodeClient;
+import com.linkedin.venice.router.stats.AggHostHealthStats;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.router.stats.RouteHttpRequestStats;
+import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.tehuti.metrics.MetricsRepository;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.avro.io.OptimizedBinaryDecoderFactory;
+import org.apache.http.HttpStatus;
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class TestVeniceDispatcher {
+  private static final String STORE_NAME = "hot_store";
+  private static final RecordSerializer<MultiGetResponseRecordV1> RECORD_SERIALIZER =
+      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema());
+  private static final RecordDeserializer<MultiGetResponseRecordV1> RECORD_DESERIALIZER =
+      FastSerializerDeserializerFactory
+          .getFastAvroSpecificDeserializer(MultiGetResponseRecordV1.getClassSchema(), MultiGetResponseRecordV1.class);
+
+  private final Instance storageNode = new Instance("node_1", "localhost", 1234);
+  private StorageNodeClient storageNodeClient;
+  private AggRouterHttpRequestStats requestStats;
+  private VeniceDispatcher dispatcher;
+
+  @BeforeMethod
+  public void setUp() {
+    VeniceRouterConfig config = mock(VeniceRouterConfig.class);
+    doReturn(Collections.singletonList(STORE_NAME)).when(config).getHotKeyCacheStores();
+    doReturn(Collections.emptyList()).when(config).getHotKeyCacheHybridStores();
+    doReturn(1024L * 1024L).when(config).getHotKeyCacheSizeInBytes();
+    doReturn(TimeUnit.MINUTES.toMillis(1)).when(config).getHotKeyCacheTtlMs();
+    doReturn(1000L).when(config).getMaxPendingRequest();
+    doReturn(TimeUnit.MINUTES.toMillis(1)).when(config).getLeakedFutureCleanupPollIntervalMs();
+    doReturn(TimeUnit.MINUTES.toMillis(1)).when(config).getLeakedFutureCleanupThresholdMs();
+
+    Store store = mock(Store.class);
+    doReturn(STORE_NAME).when(store).getName();
+    doReturn(1).when(store).getCurrentVersion();
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    doReturn(store).when(storeRepository).getStore(STORE_NAME);
+
+    requestStats = mock(AggRouterHttpRequestStats.class);
+    RouterStats<AggRouterHttpRequestStats> routerStats = new RouterStats<>(requestType -> requestStats);
+    storageNodeClient = mock(StorageNodeClient.class);
+    dispatcher = new VeniceDispatcher(
+        config,
+        storeRepository,
+        routerStats,
+        new MetricsRepository(),
+        storageNodeClient,
+        mock(RouteHttpRequestStats.class),
+        mock(AggHostHealthStats.class),
+        routerStats);
+  }
+
+  @AfterMethod
+  public void cleanUp() {
+    dispatcher.stop();
+  }
+
+  /**
+   * @return a batch get path of the current version of the store, whose keys are indexed in the given order.
+   */
+  private static VeniceMultiGetPath mockMultiGetPath(String... keys) {
+    VeniceMultiGetPath path = mock(VeniceMultiGetPath.class);
+    doReturn(STORE_NAME).when(path).getStoreName();
+    doReturn(1).when(path).getVersionNumber();
+    List<RouterKey> routerKeys = new ArrayList<>();
+    for (int keyIndex = 0; keyIndex < keys.length; keyIndex++) {
+      RouterKey routerKey = RouterKey.fromString(keys[keyIndex]);
+      routerKeys.add(routerKey);
+      doReturn(keyIndex).when(path).getKeyIndex(routerKey);
+    }
+    doReturn(routerKeys).when(path).getPartitionKeys();
+    VeniceResponseDecompressor responseDecompressor = mock(VeniceResponseDecompressor.class);
+    doAnswer(invocation -> new ContentDecompressResult(invocation.getArgument(1), CompressionStrategy.NO_OP, 0))
+        .when(responseDecompressor)
+        .decompressMultiGetContent(any(), any());
+    doReturn(responseDecompressor).when(path).getResponseDecompressor();
+    return path;
+  }
+
+  /**
+   * The storage node responds with the given values, by key index, with the key indexes which are null left out.
+   */
+  private void mockStorageNodeResponse(String... values) throws Exception {
+    List<MultiGetResponseRecordV1> records = new ArrayList<>();
+    for (int keyIndex = 0; keyIndex < values.length; keyIndex++) {
+      if (values[keyIndex] != null) {
+        MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+        record.keyIndex = keyIndex;
+        record.value = ByteBuffer.wrap(values[keyIndex].getBytes(StandardCharsets.UTF_8));
+        record.schemaId = 1;
+        records.add(record);
+      }
+    }
+    PortableHttpResponse response = mock(PortableHttpResponse.class);
+    doReturn(HttpStatus.SC_OK).when(response).getStatusCode();
+    doReturn(Unpooled.wrappedBuffer(RECORD_SERIALIZER.serializeObjects(records))).when(response).getContentInByteBuf();
+    doReturn(String.valueOf(CompressionStrategy.NO_OP.getValue())).when(response)
+        .getFirstHeader(HttpConstants.VENICE_COMPRESSION_STRATEGY);
+    doReturn(true).when(response).containsHeader(HttpConstants.VENICE_REQUEST_RCU);
+    doReturn(Integer.toString(records.size())).when(response).getFirstHeader(HttpConstants.VENICE_REQUEST_RCU);
+    doAnswer(invocation -> {
+      Consumer<PortableHttpResponse> completedCallBack = invocation.getArgument(2);
+      completedCallBack.accept(response);
+      return null;
+    }).when(storageNodeClient).query(eq(storageNode), any(), any(), any(), any());
+  }
+
+  /**
+   * @return the response the dispatcher completed the given request with.
+   */
+  private FullHttpResponse dispatch(VenicePath path) throws Exception {
+    ScatterGatherRequest<Instance, RouterKey> part = mock(ScatterGatherRequest.class);
+    doReturn(Collections.singletonList(storageNode)).when(part).getHosts();
+    AsyncPromise<List<FullHttpResponse>> responseFuture = mock(AsyncPromise.class);
+    dispatcher.dispatch(
+        mock(Scatter.class),
+        part,
+        path,
+        mock(BasicHttpRequest.class),
+        mock(AsyncPromise.class),
+        responseFuture,
+        mock(AsyncPromise.class),
+        mock(AsyncFuture.class),
+        Runnable::run);
+    ArgumentCaptor<List<FullHttpResponse>> responseCaptor = ArgumentCaptor.forClass(List.class);
+    verify(responseFuture).setSuccess(responseCaptor.capture());
+    FullHttpResponse response = responseCaptor.getValue().get(0);
+    Assert.assertEquals(response.status(), HttpResponseStatus.OK);
+    return response;
+  }
+
+  /**
+   * @return the values of the records of the given batch get response, by key index.
+   */
+  private static Map<Integer, String> getRecordValues(FullHttpResponse response) {
+    ByteBuf content = response.content();
+    byte[] bytes = ByteBufUtil.getBytes(content);
+    List<MultiGetResponseRecordV1> records = RECORD_DESERIALIZER.deserializeObjects(
+        OptimizedBinaryDecoderFactory.defaultFactory().createOptimizedBinaryDecoder(bytes, 0, bytes.length));
+    Map<Integer, String> values = new HashMap<>();
+    for (MultiGetResponseRecordV1 record: records) {
+      values.put(record.keyIndex, StandardCharsets.UTF_8.decode(record.value).toString());
+    }
+    return values;
+  }
+
+  @Test
+  public void testBatchGetServedFromHotKeyCache() throws Exception {
+    // Nothing is cached yet, so the whole batch get goes to the storage node, and its records get cached.
+    VeniceMultiGetPath path = mockMultiGetPath("key1", "key2");
+    mockStorageNodeResponse("value1", "value2");
+    FullHttpResponse response = dispatch(path);
+    Map<Integer, String> expectedValues = new HashMap<>();
+    expectedValues.put(0, "value1");
+    expectedValues.put(1, "value2");
+    Assert.assertEquals(getRecordValues(response), expectedValues);
+    verify(storageNodeClient).query(eq(storageNode), eq(path), any(), any(), any());
+    verify(requestStats).recordHotKeyCacheLookups(STORE_NAME, 2, 0);
+
+    // Partial hit: only the key which is not cached is requested from the storage node.
+    VeniceMultiGetPath partiallyCachedPath = mockMultiGetPath("key3", "key1", "key2");
+    VeniceMultiGetPath missingKeysPath = mockMultiGetPath("key3");
+    doReturn(missingKeysPath).when(partiallyCachedPath).substitutePartitionKey(anyCollection());
+    mockStorageNodeResponse("value3");
+    response = dispatch(partiallyCachedPath);
+    ArgumentCaptor<Collection<RouterKey>> requestedKeysCaptor = ArgumentCaptor.forClass(Collection.class);
+    verify(partiallyCachedPath).substitutePartitionKey(requestedKeysCaptor.capture());
+    Assert.assertEquals(
+        new ArrayList<>(requestedKeysCaptor.getValue()),
+        Collections.singletonList(RouterKey.fromString("key3")));
+    verify(storageNodeClient).query(eq(storageNode), eq(missingKeysPath), any(), any(), any());
+    verify(storageNodeClient, never()).query(eq(storageNode), eq(partiallyCachedPath), any(), any(), any());
+    expectedValues.clear();
+    expectedValues.put(0, "value3");
+    expectedValues.put(1, "value1");
+    expectedValues.put(2, "value2");
+    Assert.assertEquals(getRecordValues(response), expectedValues);
+    Assert.assertEquals(response.headers().get(HttpConstants.VENICE_REQUEST_RCU), "3");
+    verify(requestStats).recordHotKeyCacheLookups(STORE_NAME, 3, 2);
+
+    // Full hit: the storage node is not involved at all.
+    VeniceMultiGetPath cachedPath = mockMultiGetPath("key2", "key3");
+    response = dispatch(cachedPath);
+    verify(storageNodeClient, never()).query(eq(storageNode), eq(cachedPath), any(), any(), any());
+    verify(cachedPath, never()).substitutePartitionKey(anyCollection());
+    expectedValues.clear();
+    expectedValues.put(0, "value2");
+    expectedValues.put(1, "value3");
+    Assert.assertEquals(getRecordValues(response), expectedValues);
+    Assert.assertEquals(response.headers().get(HttpConstants.VENICE_REQUEST_RCU), "2");
+    verify(requestStats).recordHotKeyCacheLookups(STORE_NAME, 2, 2);
+  }
+}
@@ -4,6 +4,7 @@ import static com.linkedin.venice.compute.ComputeRequestWrapper.LATEST_SCHEMA_VE
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -93,6 +94,7 @@ public class TestVeniceComputePath {
     VenicePartitionFinder mockedPartitionFinder = mock(VenicePartitionFinder.class);
     VenicePartitioner venicePartitioner = mock(VenicePartitioner.class);
     when(venicePartitioner.getPartitionId(any(ByteBuffer.class), anyInt())).thenReturn(partitionId);
+    doCallRealMethod().when(venicePartitioner).getPartitionIds(any(ByteBuffer[].class), anyInt(), any(int[].class));
     when(mockedPartitionFinder.findPartitioner(anyString(), anyInt())).thenReturn(venicePartitioner);
     return mockedPartitionFinder;
   }
@@ -2,6 +2,7 @@ package com.linkedin.venice.router.api.path;
 
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -61,6 +62,7 @@ public class TestVeniceMultiGetPath {
     VenicePartitionFinder mockedPartitionFinder = mock(VenicePartitionFinder.class);
     VenicePartitioner venicePartitioner = mock(VenicePartitioner.class);
     when(venicePartitioner.getPartitionId(any(ByteBuffer.class), anyInt())).thenReturn(partitionId);
+    doCallRealMethod().when(venicePartitioner).getPartitionIds(any(ByteBuffer[].class), anyInt(), any(int[].class));
     when(mockedPartitionFinder.findPartitioner(any(), anyInt())).thenReturn(venicePartitioner);
     return mockedPartitionFinder;
   }
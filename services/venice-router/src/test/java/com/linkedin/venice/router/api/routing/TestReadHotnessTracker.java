@@ -0,0 +1,54 @@
+package com.linkedin.venice.router.api.routing;
+
+import com.linkedin.venice.router.api.RouterKey;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.Collections;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestReadHotnessTracker {
+  @Test
+  public void testHotPartitions() {
+    MetricsRepository metricsRepository = new MetricsRepository();
+    try (ReadHotnessTracker tracker = new ReadHotnessTracker(5, 0.2, metricsRepository)) {
+      String resourceName = "test_store_v1";
+      RouterKey hotKey = RouterKey.fromString("hot_key");
+      for (int i = 0; i < 100; i++) {
+        // Partition 0 gets half of the reads, all of them for the same key, and the others share the rest.
+        tracker.recordRead(resourceName, 0, Collections.singletonList(RouterKey.fromString("hot_key")));
+        tracker.recordRead(resourceName, 1 + i % 10, Collections.singletonList(RouterKey.fromString("key_" + i)));
+      }
+      // The hot partitions are only refreshed periodically.
+      Assert.assertFalse(tracker.isHotPartition(resourceName, 0));
+
+      tracker.refresh();
+      Assert.assertTrue(tracker.isHotPartition(resourceName, 0));
+      Assert.assertFalse(tracker.isHotPartition(resourceName, 1));
+      Assert.assertEquals(tracker.getHotPartitions(), Collections.singleton(resourceName + "_0"));
+      Map<String, Long> topPartitions = tracker.getTopPartitions();
+      Assert.assertEquals(topPartitions.size(), 5);
+      Assert.assertEquals(topPartitions.keySet().iterator().next(), resourceName + "_0");
+      Map<String, Long> topKeys = tracker.getTopKeys();
+      Assert.assertEquals(topKeys.keySet().iterator().next(), resourceName + "/" + hotKey.base64Encoded());
+      Assert.assertEquals(metricsRepository.getMetric(".read_hotness--hot_partition_count.Gauge").value(), 1d);
+      Assert.assertEquals(
+          metricsRepository.getMetric(".read_hotness--hottest_partition_read_share.Gauge").value(),
+          0.5,
+          0.01);
+      Assert.assertEquals(
+          metricsRepository.getMetric(".read_hotness--hottest_key_read_share.Gauge").value(),
+          0.5,
+          0.01);
+
+      // The partition cools down once it stops being read more than the others.
+      for (int i = 0; i < 1000; i++) {
+        tracker.recordRead(resourceName, 1 + i % 10, Collections.singletonList(RouterKey.fromString("key_" + i)));
+      }
+      tracker.refresh();
+      Assert.assertFalse(tracker.isHotPartition(resourceName, 0));
+      Assert.assertTrue(tracker.getHotPartitions().isEmpty());
+    }
+  }
+}
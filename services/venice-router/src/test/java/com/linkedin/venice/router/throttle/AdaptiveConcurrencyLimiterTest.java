@@ -0,0 +1,209 @@
+package com.linkedin.venice.router.throttle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class AdaptiveConcurrencyLimiterTest {
+  private static final long TICK_NS = TimeUnit.MICROSECONDS.toNanos(100);
+  private static final long BASE_LATENCY_NS = TimeUnit.MILLISECONDS.toNanos(2);
+
+  /**
+   * A stand-in storage node which serves {@code capacity} requests in parallel within {@link #BASE_LATENCY_NS}, and
+   * queues up the rest, so its latency grows linearly with the number of in-flight requests past its capacity.
+   */
+  private static class SimulatedStorageNode {
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 2, 1000);
+    private final int arrivalsPerTick;
+    private int capacity;
+    private int inFlightCount = 0;
+    private final List<Integer> limitSamples = new ArrayList<>();
+    private long servedCount = 0;
+    private long rejectedCount = 0;
+    private long totalLatencyNs = 0;
+
+    SimulatedStorageNode(int capacity, int arrivalsPerTick) {
+      this.capacity = capacity;
+      this.arrivalsPerTick = arrivalsPerTick;
+    }
+
+    long getLatencyNs(int inFlightCount) {
+      return Math.max(BASE_LATENCY_NS, BASE_LATENCY_NS * inFlightCount / capacity);
+    }
+
+    void resetSamples() {
+      limitSamples.clear();
+      servedCount = 0;
+      rejectedCount = 0;
+      totalLatencyNs = 0;
+    }
+
+    int getMedianLimit() {
+      List<Integer> sortedSamples = new ArrayList<>(limitSamples);
+      Collections.sort(sortedSamples);
+      return sortedSamples.get(sortedSamples.size() / 2);
+    }
+
+    double getAvgLatencyNs() {
+      return (double) totalLatencyNs / servedCount;
+    }
+  }
+
+  private static class Completion implements Comparable<Completion> {
+    private final long timeNs;
+    private final SimulatedStorageNode node;
+    private final long latencyNs;
+    private final int inFlightCount;
+
+    Completion(long timeNs, SimulatedStorageNode node, long latencyNs, int inFlightCount) {
+      this.timeNs = timeNs;
+      this.node = node;
+      this.latencyNs = latencyNs;
+      this.inFlightCount = inFlightCount;
+    }
+
+    @Override
+    public int compareTo(Completion other) {
+      return Long.compare(timeNs, other.timeNs);
+    }
+  }
+
+  /**
+   * Drives the given nodes with a constant arrival rate, rejecting the requests the limiter does not admit, the same
+   * way {@link com.linkedin.venice.router.api.VeniceDispatcher} does.
+   */
+  private static long simulate(
+      List<SimulatedStorageNode> nodes,
+      PriorityQueue<Completion> completions,
+      long startNs,
+      long durationNs) {
+    long endNs = startNs + durationNs;
+    long nowNs = startNs;
+    for (; nowNs < endNs; nowNs += TICK_NS) {
+      while (!completions.isEmpty() && completions.peek().timeNs <= nowNs) {
+        Completion completion = completions.poll();
+        completion.node.inFlightCount--;
+        completion.node.limiter.onSample(completion.latencyNs, completion.inFlightCount, false);
+      }
+      for (SimulatedStorageNode node: nodes) {
+        for (int i = 0; i < node.arrivalsPerTick; i++) {
+          if (node.limiter.isLimitReached(node.inFlightCount)) {
+            node.rejectedCount++;
+            continue;
+          }
+          node.inFlightCount++;
+          long latencyNs = node.getLatencyNs(node.inFlightCount);
+          completions.add(new Completion(nowNs + latencyNs, node, latencyNs, node.inFlightCount));
+          node.servedCount++;
+          node.totalLatencyNs += latencyNs;
+        }
+        node.limitSamples.add(node.limiter.getLimit());
+      }
+    }
+    return nowNs;
+  }
+
+  @Test
+  public void testLimitConvergesToCapacityOfEachStorageNode() {
+    // Two hardware generations, both offered twice the load they can sustain
+    SimulatedStorageNode smallNode = new SimulatedStorageNode(20, 2);
+    SimulatedStorageNode largeNode = new SimulatedStorageNode(80, 8);
+    List<SimulatedStorageNode> nodes = new ArrayList<>();
+    nodes.add(smallNode);
+    nodes.add(largeNode);
+    PriorityQueue<Completion> completions = new PriorityQueue<>();
+
+    long nowNs = simulate(nodes, completions, 0, TimeUnit.SECONDS.toNanos(10));
+    nodes.forEach(SimulatedStorageNode::resetSamples);
+    simulate(nodes, completions, nowNs, TimeUnit.SECONDS.toNanos(10));
+
+    for (SimulatedStorageNode node: nodes) {
+      int medianLimit = node.getMedianLimit();
+      Assert.assertTrue(
+          medianLimit >= node.capacity && medianLimit <= node.capacity * 1.5,
+          "Limit: " + medianLimit + " should be close to the capacity: " + node.capacity);
+      // The excess load is shed instead of piling up in the storage node
+      Assert.assertTrue(node.rejectedCount > 0);
+      Assert.assertTrue(
+          node.getAvgLatencyNs() <= BASE_LATENCY_NS * 1.5,
+          "Avg latency: " + node.getAvgLatencyNs() + " should stay close to the no-load latency");
+      // Most of the capacity remains in use
+      long maxServedCount = TimeUnit.SECONDS.toNanos(10) / BASE_LATENCY_NS * node.capacity;
+      Assert.assertTrue(
+          node.servedCount >= maxServedCount * 0.8,
+          "Served: " + node.servedCount + ", capacity: " + maxServedCount);
+    }
+  }
+
+  @Test
+  public void testLimitFollowsCapacityChanges() {
+    SimulatedStorageNode node = new SimulatedStorageNode(80, 8);
+    List<SimulatedStorageNode> nodes = Collections.singletonList(node);
+    PriorityQueue<Completion> completions = new PriorityQueue<>();
+    long nowNs = simulate(nodes, completions, 0, TimeUnit.SECONDS.toNanos(5));
+    int initialLimit = node.limiter.getLimit();
+
+    // e.g. a noisy neighbour, or a compaction storm
+    node.capacity = 20;
+    node.resetSamples();
+    nowNs = simulate(nodes, completions, nowNs, TimeUnit.SECONDS.toNanos(5));
+    int degradedLimit = node.getMedianLimit();
+    Assert.assertTrue(degradedLimit <= 30, "Limit: " + degradedLimit + " should follow the degraded capacity");
+    Assert.assertTrue(degradedLimit < initialLimit);
+
+    node.capacity = 80;
+    node.resetSamples();
+    simulate(nodes, completions, nowNs, TimeUnit.SECONDS.toNanos(5));
+    int recoveredLimit = node.getMedianLimit();
+    Assert.assertTrue(recoveredLimit >= 80, "Limit: " + recoveredLimit + " should follow the recovered capacity");
+  }
+
+  /**
+   * Records as many samples as needed for the limiter to update its limit once.
+   */
+  private static void recordWindow(AdaptiveConcurrencyLimiter limiter, long inFlightCount, boolean dropped) {
+    int sampleCount = Math.max(AdaptiveConcurrencyLimiter.MIN_WINDOW_SAMPLE_COUNT, limiter.getLimit());
+    for (int i = 0; i < sampleCount; i++) {
+      limiter.onSample(BASE_LATENCY_NS, inFlightCount, dropped && i == 0);
+    }
+  }
+
+  @Test
+  public void testLimitBacksOffOnDrops() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 10, 200);
+    recordWindow(limiter, 100, true);
+    Assert.assertEquals(limiter.getLimit(), 90);
+    for (int i = 0; i < 50; i++) {
+      recordWindow(limiter, 100, true);
+    }
+    Assert.assertEquals(limiter.getLimit(), 10);
+    Assert.assertTrue(limiter.isLimitReached(10));
+    Assert.assertFalse(limiter.isLimitReached(9));
+  }
+
+  @Test
+  public void testLimitDoesNotGrowWithoutLoad() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 10, 200);
+    for (int i = 0; i < 10; i++) {
+      // Not loaded enough to tell anything
+      recordWindow(limiter, 10, false);
+    }
+    Assert.assertEquals(limiter.getLimit(), 100);
+    Assert.assertEquals(limiter.getNoLoadLatencyNs(), BASE_LATENCY_NS);
+
+    for (int i = 0; i < 10; i++) {
+      recordWindow(limiter, limiter.getLimit(), false);
+    }
+    Assert.assertEquals(limiter.getLimit(), 200);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidBounds() {
+    new AdaptiveConcurrencyLimiter(10, 20, 10);
+  }
+}
@@ -0,0 +1,55 @@
+package com.linkedin.venice.router.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestHeavyHitterSketch {
+  @Test
+  public void testTopItems() {
+    HeavyHitterSketch<String> sketch = new HeavyHitterSketch<>(1024, 3, item -> item);
+    // A long tail of cold items, read once each, and a few hot items read many times.
+    for (int i = 0; i < 1000; i++) {
+      sketch.record("cold_" + i, 1);
+      sketch.record("hot_1", 3);
+      sketch.record("hot_2", 2);
+      if (i % 2 == 0) {
+        sketch.record("hot_3", 1);
+      }
+    }
+    Assert.assertEquals(sketch.getTotalCount(), 6500);
+    // Count-Min never under-estimates a count, and the collisions only add a small fraction of the total count.
+    Assert.assertTrue(sketch.getCount("hot_1") >= 3000);
+    Assert.assertTrue(sketch.getCount("hot_1") < 3000 + 6500 / 100);
+    Assert.assertTrue(sketch.getCount("cold_1") >= 1);
+
+    Map<String, Long> topItems = sketch.getTopItems();
+    List<String> topItemNames = new ArrayList<>(topItems.keySet());
+    Assert.assertEquals(topItemNames.size(), 3);
+    Assert.assertEquals(topItemNames.get(0), "hot_1");
+    Assert.assertEquals(topItemNames.get(1), "hot_2");
+    Assert.assertEquals(topItemNames.get(2), "hot_3");
+    Assert.assertTrue(topItems.get("hot_1") >= 3000);
+  }
+
+  @Test
+  public void testDecay() {
+    HeavyHitterSketch<String> sketch = new HeavyHitterSketch<>(1024, 2, item -> item);
+    sketch.record("old_hot", 100);
+    sketch.record("cold", 1);
+    sketch.decay();
+    Assert.assertEquals(sketch.getTotalCount(), 50);
+    Assert.assertEquals(sketch.getCount("old_hot"), 50);
+    Assert.assertEquals(sketch.getTopItems().keySet().iterator().next(), "old_hot");
+    // The count of cold items drops to 0, which removes them from the top items.
+    Assert.assertFalse(sketch.getTopItems().containsKey("cold"));
+
+    // Items which became hot replace the ones which cooled down.
+    sketch.decay();
+    sketch.record("new_hot", 60);
+    Assert.assertEquals(sketch.getTopItems().keySet().iterator().next(), "new_hot");
+  }
+}
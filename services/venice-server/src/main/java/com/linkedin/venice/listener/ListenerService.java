@@ -1,5 +1,6 @@
 package com.linkedin.venice.listener;
 
+import com.linkedin.alpini.base.queuing.QOSPolicy;
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.storage.DiskHealthCheckService;
@@ -18,6 +19,7 @@ import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.security.SSLFactory;
 import com.linkedin.venice.service.AbstractVeniceService;
+import com.linkedin.venice.stats.ServerReadQueueStats;
 import com.linkedin.venice.stats.ThreadPoolStats;
 import com.linkedin.venice.utils.concurrent.ThreadPoolFactory;
 import io.grpc.ServerInterceptor;
@@ -88,17 +90,19 @@ public class ListenerService extends AbstractVeniceService {
     this.isGrpcEnabled = serverConfig.isGrpcEnabled();
     this.grpcPort = serverConfig.getGrpcPort();
 
-    executor = createThreadPool(
+    executor = createReadThreadPool(
         serverConfig.getRestServiceStorageThreadNum(),
         "StorageExecutionThread",
-        serverConfig.getDatabaseLookupQueueCapacity());
-    new ThreadPoolStats(metricsRepository, executor, "storage_execution_thread_pool");
+        serverConfig.getDatabaseLookupQueueCapacity(),
+        metricsRepository,
+        "storage_execution_thread_pool");
 
-    computeExecutor = createThreadPool(
+    computeExecutor = createReadThreadPool(
         serverConfig.getServerComputeThreadNum(),
         "StorageComputeThread",
-        serverConfig.getComputeQueueCapacity());
-    new ThreadPoolStats(metricsRepository, computeExecutor, "storage_compute_thread_pool");
+        serverConfig.getComputeQueueCapacity(),
+        metricsRepository,
+        "storage_compute_thread_pool");
 
     if (sslFactory.isPresent() && serverConfig.getSslHandshakeThreadPoolSize() > 0) {
       this.sslHandshakeExecutor = createThreadPool(
@@ -223,6 +227,33 @@ public class ListenerService extends AbstractVeniceService {
         .createThreadPool(threadCount, threadNamePrefix, capacity, serverConfig.getBlockingQueueType());
   }
 
+  /**
+   * Creates a pool to serve read requests, which is backed by a {@link QOSBasedReadRequestQueue} when
+   * {@link VeniceServerConfig#isReadQosSchedulingEnabled()} is true.
+   */
+  private ThreadPoolExecutor createReadThreadPool(
+      int threadCount,
+      String threadNamePrefix,
+      int capacity,
+      MetricsRepository metricsRepository,
+      String statsName) {
+    ThreadPoolExecutor threadPool;
+    if (serverConfig.isReadQosSchedulingEnabled()) {
+      QOSPolicy.StaticConfig qosPolicyConfig = new QOSPolicy.StaticConfig(
+          serverConfig.getReadQosPolicy(),
+          serverConfig.getReadQosFairAllocationRatio(),
+          serverConfig.getReadQosMaxQueueLengthPerStore());
+      QOSBasedReadRequestQueue queue = new QOSBasedReadRequestQueue(qosPolicyConfig, capacity);
+      queue.setStats(new ServerReadQueueStats(metricsRepository, statsName + "_qos_queue", queue));
+      threadPool = ThreadPoolFactory.createThreadPool(threadCount, threadNamePrefix, queue);
+      LOGGER.info("Created {} with QOS based queue, policy: {}", statsName, qosPolicyConfig.getQosPolicy());
+    } else {
+      threadPool = createThreadPool(threadCount, threadNamePrefix, capacity);
+    }
+    new ThreadPoolStats(metricsRepository, threadPool, statsName);
+    return threadPool;
+  }
+
   protected StorageReadRequestHandler createRequestHandler(
       ThreadPoolExecutor executor,
       ThreadPoolExecutor computeExecutor,
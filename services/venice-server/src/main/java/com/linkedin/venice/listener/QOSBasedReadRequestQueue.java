@@ -0,0 +1,379 @@
+package com.linkedin.venice.listener;
+
+import com.linkedin.alpini.base.queuing.QOSPolicy;
+import com.linkedin.alpini.base.queuing.SimpleQueue;
+import com.linkedin.alpini.consts.QOS;
+import com.linkedin.venice.stats.ServerReadQueueStats;
+import com.linkedin.venice.utils.LatencyUtils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A {@link BlockingQueue} for the storage execution thread pools, backed by a {@link SimpleQueue} built from a
+ * {@link QOSPolicy}. With {@link QOSPolicy#HIGHEST_PRIORITY_W_FAIR_ALLOCATION_MULTI_QUEUE}, every store gets its own
+ * queue and the queues are visited in a ring, so a single store flooding the server can no longer delay the requests
+ * of all the other stores the way a FIFO queue does. Within a store, the {@link QOS} fair ratio decides which
+ * request type gets dequeued.
+ *
+ * Tasks which are not {@link QOSBasedReadRequestTask}s get queued with {@link QOS#NORMAL} in a shared queue. They are
+ * still the ones {@link #peek()}, {@link #iterator()} and {@link #drainTo} hand out, so that e.g. the cancelled futures
+ * of {@link java.util.concurrent.ThreadPoolExecutor#submit} get found by
+ * {@link java.util.concurrent.ThreadPoolExecutor#purge}.
+ *
+ * Requests whose router timeout already passed while being queued are dropped when dequeued: the dequeuing thread
+ * answers them with {@link QOSBasedReadRequestTask#runExpiredCommand()} and moves on to the next task, so they don't
+ * take a turn of the thread pool. They are counted in {@link ServerReadQueueStats}.
+ *
+ * Since the {@link SimpleQueue} can neither be inspected nor have an element removed, the queued tasks are also kept
+ * in one sub-queue per {@link QOS}, which {@link #peek()} and {@link #iterator()} go through. A task removed through
+ * the iterator, e.g. by {@link java.util.concurrent.ThreadPoolExecutor#remove} or
+ * {@link java.util.concurrent.ThreadPoolExecutor#purge}, gets removed from the {@link SimpleQueue} by refilling it with
+ * the remaining tasks, so that it no longer counts towards the bounded length of the queue of its store.
+ */
+public class QOSBasedReadRequestQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+  private static final Logger LOGGER = LogManager.getLogger(QOSBasedReadRequestQueue.class);
+  private static final String DEFAULT_QUEUE_NAME = "";
+  private static final QOS[] QOS_BY_PRIORITY = { QOS.HIGH, QOS.NORMAL, QOS.LOW };
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  /** Guarded by {@link #lock}. */
+  private final SimpleQueue<QOSBasedReadRequestTask> queue;
+  /** The tasks of {@link #queue} which haven't been removed, by {@link QOS}, in order of arrival. Guarded by lock. */
+  private final Map<QOS, Set<QOSBasedReadRequestTask>> queuedTasks = new EnumMap<>(QOS.class);
+  private final int capacity;
+  /** The number of tasks in {@link #queuedTasks}, only updated while holding {@link #lock}. */
+  private final AtomicInteger size = new AtomicInteger();
+  private final Map<String, AtomicInteger> queueDepthMap = new VeniceConcurrentHashMap<>();
+  private ServerReadQueueStats stats;
+
+  public QOSBasedReadRequestQueue(QOSPolicy.StaticConfig qosPolicyConfig, int capacity) {
+    this.queue = QOSPolicy.getQOSPolicy(qosPolicyConfig);
+    this.capacity = capacity;
+    for (QOS qos: QOS.values()) {
+      queuedTasks.put(qos, new LinkedHashSet<>());
+    }
+  }
+
+  public void setStats(ServerReadQueueStats stats) {
+    this.stats = stats;
+  }
+
+  @Override
+  public boolean offer(Runnable runnable) {
+    Objects.requireNonNull(runnable);
+    QOSBasedReadRequestTask task = runnable instanceof QOSBasedReadRequestTask
+        ? (QOSBasedReadRequestTask) runnable
+        : new WrappedTask(runnable);
+    lock.lock();
+    try {
+      // The underlying queue rejects the task when the queue of this store is full
+      if (size.get() >= capacity || !queue.add(task)) {
+        return false;
+      }
+      queuedTasks.get(task.getQOS()).add(task);
+      size.incrementAndGet();
+      queueDepthMap.computeIfAbsent(task.getQueueName(), k -> new AtomicInteger()).incrementAndGet();
+      notEmpty.signal();
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void put(Runnable runnable) throws InterruptedException {
+    /**
+     * There is no way to wait for a specific store queue to free up, and this method is not used by the
+     * {@link java.util.concurrent.ThreadPoolExecutor}, which relies on {@link #offer(Runnable)}.
+     */
+    if (!offer(runnable)) {
+      throw new IllegalStateException("Queue is full");
+    }
+  }
+
+  @Override
+  public boolean offer(Runnable runnable, long timeout, TimeUnit unit) {
+    return offer(runnable);
+  }
+
+  @Override
+  public Runnable take() throws InterruptedException {
+    while (true) {
+      QOSBasedReadRequestTask task;
+      lock.lockInterruptibly();
+      try {
+        while (size.get() == 0) {
+          notEmpty.await();
+        }
+        task = dequeue();
+      } finally {
+        lock.unlock();
+      }
+      if (!dropIfExpired(task)) {
+        return task;
+      }
+    }
+  }
+
+  @Override
+  public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    while (true) {
+      QOSBasedReadRequestTask task;
+      lock.lockInterruptibly();
+      try {
+        while (size.get() == 0) {
+          if (nanos <= 0) {
+            return null;
+          }
+          nanos = notEmpty.awaitNanos(nanos);
+        }
+        task = dequeue();
+      } finally {
+        lock.unlock();
+      }
+      if (!dropIfExpired(task)) {
+        return task;
+      }
+    }
+  }
+
+  @Override
+  public Runnable poll() {
+    while (true) {
+      QOSBasedReadRequestTask task;
+      lock.lock();
+      try {
+        if (size.get() == 0) {
+          return null;
+        }
+        task = dequeue();
+      } finally {
+        lock.unlock();
+      }
+      if (!dropIfExpired(task)) {
+        return task;
+      }
+    }
+  }
+
+  /**
+   * Must be called while holding {@link #lock}, and only when the queue isn't empty.
+   */
+  private QOSBasedReadRequestTask dequeue() {
+    QOSBasedReadRequestTask task = queue.poll();
+    if (task == null || !queuedTasks.get(task.getQOS()).remove(task)) {
+      throw new IllegalStateException("The underlying queue is out of sync while holding " + size.get() + " tasks");
+    }
+    onRemoved(task);
+    if (stats != null) {
+      stats.recordQueueWaitTime(task.getQOS(), LatencyUtils.getElapsedTimeFromNSToMS(task.getEnqueueTimeNs()));
+    }
+    return task;
+  }
+
+  private void onRemoved(QOSBasedReadRequestTask task) {
+    size.decrementAndGet();
+    queueDepthMap.get(task.getQueueName()).decrementAndGet();
+  }
+
+  /**
+   * Answers the task right away, outside the lock, if its request expired while being queued.
+   *
+   * @return true if the task got dropped.
+   */
+  private boolean dropIfExpired(QOSBasedReadRequestTask task) {
+    if (!task.isExpired()) {
+      return false;
+    }
+    if (stats != null) {
+      stats.recordExpiredRequest();
+    }
+    try {
+      task.runExpiredCommand();
+    } catch (Exception e) {
+      // The dequeuing thread is a worker of the pool, which must keep serving the next tasks
+      LOGGER.error("Failed to answer an expired request of store: {}", task.getQueueName(), e);
+    }
+    return true;
+  }
+
+  /**
+   * @return the oldest task of the highest {@link QOS} which has any, which is the one the {@link QOSPolicy} favors,
+   *         although its fair ratio can hand out another one first.
+   */
+  @Override
+  public Runnable peek() {
+    lock.lock();
+    try {
+      for (QOS qos: QOS_BY_PRIORITY) {
+        Set<QOSBasedReadRequestTask> tasks = queuedTasks.get(qos);
+        if (!tasks.isEmpty()) {
+          return unwrap(tasks.iterator().next());
+        }
+      }
+      return null;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return an iterator over a snapshot of the queued tasks, by decreasing {@link QOS} and order of arrival,
+   *         whose {@link Iterator#remove()} removes the task from this queue if it is still queued.
+   */
+  @Override
+  public Iterator<Runnable> iterator() {
+    List<QOSBasedReadRequestTask> snapshot = new ArrayList<>(size.get());
+    lock.lock();
+    try {
+      for (QOS qos: QOS_BY_PRIORITY) {
+        snapshot.addAll(queuedTasks.get(qos));
+      }
+    } finally {
+      lock.unlock();
+    }
+    return new Iterator<Runnable>() {
+      private int nextIndex = 0;
+      private QOSBasedReadRequestTask lastReturned;
+
+      @Override
+      public boolean hasNext() {
+        return nextIndex < snapshot.size();
+      }
+
+      @Override
+      public Runnable next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        lastReturned = snapshot.get(nextIndex++);
+        return unwrap(lastReturned);
+      }
+
+      @Override
+      public void remove() {
+        if (lastReturned == null) {
+          throw new IllegalStateException();
+        }
+        removeTask(lastReturned);
+        lastReturned = null;
+      }
+    };
+  }
+
+  /**
+   * A task which is not a {@link QOSBasedReadRequestTask}, queued in the shared queue.
+   */
+  private static final class WrappedTask extends QOSBasedReadRequestTask {
+    private WrappedTask(Runnable runnable) {
+      super(DEFAULT_QUEUE_NAME, QOS.NORMAL, null, runnable);
+    }
+  }
+
+  private void removeTask(QOSBasedReadRequestTask task) {
+    lock.lock();
+    try {
+      if (queuedTasks.get(task.getQOS()).remove(task)) {
+        onRemoved(task);
+        refillQueue();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Since the {@link SimpleQueue} cannot remove a given element, it gets emptied and refilled with the tasks which
+   * are still queued, in order of arrival, which keeps the order of the tasks of each store and {@link QOS}. Must be
+   * called while holding {@link #lock}.
+   */
+  private void refillQueue() {
+    while (queue.poll() != null) {
+      // Drop everything, the remaining tasks are all in queuedTasks
+    }
+    for (Set<QOSBasedReadRequestTask> tasks: queuedTasks.values()) {
+      for (QOSBasedReadRequestTask task: tasks) {
+        // Every queue of a store holds fewer tasks than before, so it can't be full
+        if (!queue.add(task)) {
+          throw new IllegalStateException("Failed to re-queue a task of store: " + task.getQueueName());
+        }
+      }
+    }
+  }
+
+  @Override
+  public int size() {
+    return size.get();
+  }
+
+  @Override
+  public int remainingCapacity() {
+    return Math.max(0, capacity - size.get());
+  }
+
+  @Override
+  public int drainTo(Collection<? super Runnable> c) {
+    return drainTo(c, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public int drainTo(Collection<? super Runnable> c, int maxElements) {
+    int drained = 0;
+    Runnable runnable;
+    while (drained < maxElements && (runnable = poll()) != null) {
+      c.add(unwrap((QOSBasedReadRequestTask) runnable));
+      drained++;
+    }
+    return drained;
+  }
+
+  private static Runnable unwrap(QOSBasedReadRequestTask task) {
+    return task instanceof WrappedTask ? task.getCommand() : task;
+  }
+
+  /**
+   * @return the depth of the queue of the given store
+   */
+  public int getQueueDepth(String queueName) {
+    AtomicInteger queueDepth = queueDepthMap.get(queueName);
+    return queueDepth == null ? 0 : queueDepth.get();
+  }
+
+  public int getMaxQueueDepth() {
+    int max = 0;
+    for (AtomicInteger queueDepth: queueDepthMap.values()) {
+      max = Math.max(max, queueDepth.get());
+    }
+    return max;
+  }
+
+  public int getActiveQueueCount() {
+    int count = 0;
+    for (AtomicInteger queueDepth: queueDepthMap.values()) {
+      if (queueDepth.get() > 0) {
+        count++;
+      }
+    }
+    return count;
+  }
+}
@@ -0,0 +1,91 @@
+package com.linkedin.venice.listener;
+
+import com.linkedin.alpini.base.queuing.QOSBasedRequestRunnable;
+import com.linkedin.alpini.consts.QOS;
+import com.linkedin.venice.listener.request.RouterRequest;
+import com.linkedin.venice.read.RequestType;
+
+
+/**
+ * A read task tagged with the queue it belongs to (the store name) and its {@link QOS}, so that
+ * {@link QOSBasedReadRequestQueue} can schedule it. It remains a plain {@link Runnable}, so it can be executed by any
+ * {@link java.util.concurrent.ThreadPoolExecutor} regardless of the queue type backing it.
+ */
+public class QOSBasedReadRequestTask extends QOSBasedRequestRunnable implements Runnable {
+  private final String queueName;
+  private final RouterRequest request;
+  private final RequestType requestType;
+  private final long enqueueTimeNs;
+  private final Runnable expiredCommand;
+
+  /**
+   * For the commands which check by themselves whether the request expired, and abort right away if so.
+   */
+  public QOSBasedReadRequestTask(RouterRequest request, Runnable command) {
+    this(request, command, command);
+  }
+
+  /**
+   * @param expiredCommand Run instead of the command when the request expired while being queued, to answer it.
+   */
+  public QOSBasedReadRequestTask(RouterRequest request, Runnable command, Runnable expiredCommand) {
+    this(request.getStoreName(), getQOS(request.getRequestType()), request, command, expiredCommand);
+  }
+
+  QOSBasedReadRequestTask(String queueName, QOS qos, RouterRequest request, Runnable command) {
+    this(queueName, qos, request, command, command);
+  }
+
+  private QOSBasedReadRequestTask(
+      String queueName,
+      QOS qos,
+      RouterRequest request,
+      Runnable command,
+      Runnable expiredCommand) {
+    super(queueName, qos, command);
+    this.queueName = queueName;
+    this.request = request;
+    this.requestType = request == null ? null : request.getRequestType();
+    this.enqueueTimeNs = System.nanoTime();
+    this.expiredCommand = expiredCommand;
+  }
+
+  /**
+   * Single-get requests are the most latency sensitive ones, and the cheapest to serve, so they get dequeued before
+   * the multi-get requests sharing the same pool. Compute requests have their own pool, so their QOS does not matter.
+   */
+  static QOS getQOS(RequestType requestType) {
+    return requestType == RequestType.SINGLE_GET ? QOS.HIGH : QOS.NORMAL;
+  }
+
+  @Override
+  public void run() {
+    getCommand().run();
+  }
+
+  /**
+   * @return true if the router has already given up on this request, so there is no point in serving it.
+   */
+  public boolean isExpired() {
+    return request != null && request.shouldRequestBeTerminatedEarly();
+  }
+
+  /**
+   * Answers the request without serving it, once {@link #isExpired()}.
+   */
+  public void runExpiredCommand() {
+    expiredCommand.run();
+  }
+
+  public String getQueueName() {
+    return queueName;
+  }
+
+  public RequestType getRequestType() {
+    return requestType;
+  }
+
+  public long getEnqueueTimeNs() {
+    return enqueueTimeNs;
+  }
+}
@@ -22,6 +22,7 @@ import com.linkedin.venice.pushmonitor.ReadOnlyPartitionStatus;
 import com.linkedin.venice.stats.AbstractVeniceAggStats;
 import com.linkedin.venice.stats.AggServerQuotaUsageStats;
 import com.linkedin.venice.stats.ServerQuotaTokenBucketStats;
+import com.linkedin.venice.throttle.GcraTokenBucket;
 import com.linkedin.venice.throttle.TokenBucket;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.netty.channel.ChannelHandler;
@@ -55,6 +56,11 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
   // TODO make these configurable
   private final int enforcementIntervalSeconds = 10; // TokenBucket refill interval
   private final int enforcementCapacityMultiple = 5; // Token bucket capacity is refill amount times this multiplier
+  /**
+   * When positive, the buckets are {@link GcraTokenBucket}s which are refilled continuously, and can accumulate this
+   * many milliseconds worth of quota.
+   */
+  private final long gcraBurstCreditMs;
   private HelixCustomizedViewOfflinePushRepository customizedViewRepository;
   private volatile boolean initializedVolatile = false;
   private boolean initialized = false;
@@ -84,7 +90,24 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
       AggServerQuotaUsageStats stats,
       MetricsRepository metricsRepository,
       Clock clock) {
+    this(storageNodeRcuCapacity, storeRepository, customizedViewRepository, nodeId, stats, metricsRepository, clock, 0);
+  }
+
+  /**
+   * @param gcraBurstCreditMs when positive, the quota is enforced with {@link GcraTokenBucket}s which can accumulate
+   *                          this many milliseconds worth of quota, instead of {@link TokenBucket}s.
+   */
+  public ReadQuotaEnforcementHandler(
+      long storageNodeRcuCapacity,
+      ReadOnlyStoreRepository storeRepository,
+      CompletableFuture<HelixCustomizedViewOfflinePushRepository> customizedViewRepository,
+      String nodeId,
+      AggServerQuotaUsageStats stats,
+      MetricsRepository metricsRepository,
+      Clock clock,
+      long gcraBurstCreditMs) {
     this.clock = clock;
+    this.gcraBurstCreditMs = gcraBurstCreditMs;
     this.storageNodeBucket = tokenBucketfromRcuPerSecond(storageNodeRcuCapacity, 1);
     this.storageNodeTokenBucketStats =
         new ServerQuotaTokenBucketStats(metricsRepository, SERVER_BUCKET_STATS_NAME, () -> storageNodeBucket);
@@ -355,6 +378,17 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
     long totalCapacity = totalRefillAmount * enforcementCapacityMultiple;
     long thisRefillAmount = calculateRefillAmount(totalRcuPerSecond, thisBucketProportionOfTotalRcu);
     long thisCapacity = (long) Math.ceil(totalCapacity * thisBucketProportionOfTotalRcu);
+    if (gcraBurstCreditMs > 0) {
+      // The capacity is the burst credit, as the refill is continuous. There should be at least one token in it.
+      long thisBurstCapacity =
+          (long) Math.ceil(totalRcuPerSecond * thisBucketProportionOfTotalRcu * gcraBurstCreditMs / 1000);
+      return new GcraTokenBucket(
+          Math.max(thisBurstCapacity, 1),
+          thisRefillAmount,
+          enforcementIntervalSeconds,
+          SECONDS,
+          clock);
+    }
     return new TokenBucket(thisCapacity, thisRefillAmount, enforcementIntervalSeconds, SECONDS, clock);
   }
 
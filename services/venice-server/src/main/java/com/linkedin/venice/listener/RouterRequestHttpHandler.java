@@ -1,5 +1,6 @@
 package com.linkedin.venice.listener;
 
+import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.listener.request.AdminRequest;
 import com.linkedin.venice.listener.request.ComputeRouterRequestWrapper;
@@ -14,6 +15,7 @@ import com.linkedin.venice.listener.request.TopicPartitionIngestionContextReques
 import com.linkedin.venice.listener.response.HttpShortcutResponse;
 import com.linkedin.venice.meta.QueryAction;
 import com.linkedin.venice.meta.Version;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.codec.http.FullHttpRequest;
@@ -61,13 +63,34 @@ public class RouterRequestHttpHandler extends SimpleChannelInboundHandler<FullHt
     ctx.flush();
   }
 
-  private void setupRequestTimeout(RouterRequest routerRequest) {
+  /**
+   * The request gets terminated early once the earliest of the store specific threshold and the timeout propagated
+   * by the router in {@link HttpConstants#VENICE_REQUEST_TIMEOUT_MS} passes, or once the channel it was received on
+   * gets closed, since nobody would be waiting for the response anymore.
+   */
+  private void setupRequestTimeout(ChannelHandlerContext ctx, FullHttpRequest req, RouterRequest routerRequest) {
     String storeName = routerRequest.getStoreName();
-    Integer timeoutThresholdInMS = storeToEarlyTerminationThresholdMSMap.get(storeName);
-    if (timeoutThresholdInMS != null) {
+    long timeoutThresholdInMS = Long.MAX_VALUE;
+    Integer storeTimeoutThresholdInMS = storeToEarlyTerminationThresholdMSMap.get(storeName);
+    if (storeTimeoutThresholdInMS != null) {
+      timeoutThresholdInMS = storeTimeoutThresholdInMS;
+    }
+    String routerTimeoutInMS = req.headers().get(HttpConstants.VENICE_REQUEST_TIMEOUT_MS);
+    if (routerTimeoutInMS != null) {
+      try {
+        timeoutThresholdInMS = Math.min(timeoutThresholdInMS, Long.parseLong(routerTimeoutInMS));
+      } catch (NumberFormatException e) {
+        LOGGER.warn("Invalid {} header: {}", HttpConstants.VENICE_REQUEST_TIMEOUT_MS, routerTimeoutInMS);
+      }
+    }
+    if (timeoutThresholdInMS != Long.MAX_VALUE) {
       routerRequest.setRequestTimeoutInNS(
           statsHandler.getRequestStartTimeInNS() + TimeUnit.MILLISECONDS.toNanos(timeoutThresholdInMS));
     }
+    Channel channel = ctx.channel();
+    if (channel != null) {
+      routerRequest.setCancellationSignal(() -> !channel.isActive());
+    }
   }
 
   @Override
@@ -81,13 +104,13 @@ public class RouterRequestHttpHandler extends SimpleChannelInboundHandler<FullHt
           if (requestMethod.equals(HttpMethod.GET)) {
             // TODO: evaluate whether we can replace single-get by multi-get
             GetRouterRequest getRouterRequest = GetRouterRequest.parseGetHttpRequest(req);
-            setupRequestTimeout(getRouterRequest);
+            setupRequestTimeout(ctx, req, getRouterRequest);
             statsHandler.setRequestInfo(getRouterRequest);
             ctx.fireChannelRead(getRouterRequest);
           } else if (requestMethod.equals(HttpMethod.POST)) {
             // Multi-get
             MultiGetRouterRequestWrapper multiGetRouterReq = MultiGetRouterRequestWrapper.parseMultiGetHttpRequest(req);
-            setupRequestTimeout(multiGetRouterReq);
+            setupRequestTimeout(ctx, req, multiGetRouterReq);
             statsHandler.setRequestInfo(multiGetRouterReq);
             ctx.fireChannelRead(multiGetRouterReq);
           } else {
@@ -97,7 +120,7 @@ public class RouterRequestHttpHandler extends SimpleChannelInboundHandler<FullHt
         case COMPUTE: // compute request
           if (req.method().equals(HttpMethod.POST)) {
             ComputeRouterRequestWrapper computeRouterReq = ComputeRouterRequestWrapper.parseComputeRequest(req);
-            setupRequestTimeout(computeRouterReq);
+            setupRequestTimeout(ctx, req, computeRouterReq);
             statsHandler.setRequestInfo(computeRouterReq);
             ctx.fireChannelRead(computeRouterReq);
           } else {
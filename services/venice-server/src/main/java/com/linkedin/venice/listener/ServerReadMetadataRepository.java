@@ -15,7 +15,9 @@ import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.metadata.response.VersionProperties;
 import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.HelixUtils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.tehuti.metrics.MetricsRepository;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -24,20 +26,35 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 
 /**
  * A wrapper that holds reference for various repositories responsible for constructing metadata responses upon request.
+ *
+ * Metadata requests can also long poll the metadata: they are held until the metadata of their store changes, which is
+ * checked periodically, once per store no matter how many requests are waiting for it, so that fast clients pick up
+ * version swaps and replica moves right away without having to poll the metadata often.
  */
 public class ServerReadMetadataRepository implements ReadMetadataRetriever {
   private static final Logger LOGGER = LogManager.getLogger(ServerReadMetadataRepository.class);
+  public static final long DEFAULT_LONG_POLL_CHECK_INTERVAL_MS = 1000;
+  public static final long DEFAULT_LONG_POLL_MAX_WAIT_MS = TimeUnit.SECONDS.toMillis(60);
   private final ServerMetadataServiceStats serverMetadataServiceStats;
   private final ReadOnlyStoreRepository storeRepository;
   private final ReadOnlySchemaRepository schemaRepository;
   private HelixCustomizedViewOfflinePushRepository customizedViewRepository;
   private HelixInstanceConfigRepository helixInstanceConfigRepository;
+  private final long longPollMaxWaitMs;
+  /** The pending long poll requests of each store, only ever modified within the atomic operations of the map. */
+  private final Map<String, List<MetadataLongPoll>> longPolls = new VeniceConcurrentHashMap<>();
+  private final ScheduledExecutorService longPollScheduler =
+      Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("server-metadata-long-poll"));
+  private volatile boolean closed = false;
 
   public ServerReadMetadataRepository(
       MetricsRepository metricsRepository,
@@ -45,12 +62,36 @@ public class ServerReadMetadataRepository implements ReadMetadataRetriever {
       ReadOnlySchemaRepository schemaRepository,
       Optional<CompletableFuture<HelixCustomizedViewOfflinePushRepository>> customizedViewFuture,
       Optional<CompletableFuture<HelixInstanceConfigRepository>> helixInstanceFuture) {
+    this(
+        metricsRepository,
+        storeRepository,
+        schemaRepository,
+        customizedViewFuture,
+        helixInstanceFuture,
+        DEFAULT_LONG_POLL_CHECK_INTERVAL_MS,
+        DEFAULT_LONG_POLL_MAX_WAIT_MS);
+  }
+
+  public ServerReadMetadataRepository(
+      MetricsRepository metricsRepository,
+      ReadOnlyStoreRepository storeRepository,
+      ReadOnlySchemaRepository schemaRepository,
+      Optional<CompletableFuture<HelixCustomizedViewOfflinePushRepository>> customizedViewFuture,
+      Optional<CompletableFuture<HelixInstanceConfigRepository>> helixInstanceFuture,
+      long longPollCheckIntervalMs,
+      long longPollMaxWaitMs) {
     this.serverMetadataServiceStats = new ServerMetadataServiceStats(metricsRepository);
     this.storeRepository = storeRepository;
     this.schemaRepository = schemaRepository;
+    this.longPollMaxWaitMs = longPollMaxWaitMs;
 
     customizedViewFuture.ifPresent(future -> future.thenApply(cv -> this.customizedViewRepository = cv));
     helixInstanceFuture.ifPresent(future -> future.thenApply(helix -> this.helixInstanceConfigRepository = helix));
+    longPollScheduler.scheduleWithFixedDelay(
+        this::checkLongPolls,
+        longPollCheckIntervalMs,
+        longPollCheckIntervalMs,
+        TimeUnit.MILLISECONDS);
   }
 
   /**
@@ -63,6 +104,10 @@ public class ServerReadMetadataRepository implements ReadMetadataRetriever {
   @Override
   public MetadataResponse getMetadata(String storeName) {
     serverMetadataServiceStats.recordRequestBasedMetadataInvokeCount();
+    return buildMetadata(storeName);
+  }
+
+  private MetadataResponse buildMetadata(String storeName) {
     MetadataResponse response = new MetadataResponse();
     try {
       Store store = storeRepository.getStoreOrThrow(storeName);
@@ -133,6 +178,7 @@ public class ServerReadMetadataRepository implements ReadMetadataRetriever {
       } else {
         response.setBatchGetLimit(Store.DEFAULT_BATCH_GET_LIMIT);
       }
+      response.computeMetadataHash();
     } catch (VeniceException e) {
       LOGGER.warn("Failed to populate request based metadata for store: {}.", storeName);
       response.setMessage("Failed to populate metadata for store: " + storeName + " due to: " + e.getMessage());
@@ -142,6 +188,103 @@ public class ServerReadMetadataRepository implements ReadMetadataRetriever {
     return response;
   }
 
+  /**
+   * Return the metadata right away if its hash differs from the given one, otherwise hold the request until it does, or
+   * until the given time, capped by the configured max wait time, elapses.
+   */
+  @Override
+  public CompletableFuture<MetadataResponse> getMetadataOnChange(
+      String storeName,
+      int knownMetadataHash,
+      long maxWaitMs) {
+    MetadataResponse response = getMetadata(storeName);
+    if (response.isError() || response.getMetadataHash() != knownMetadataHash) {
+      return CompletableFuture.completedFuture(response);
+    }
+    serverMetadataServiceStats.recordRequestBasedMetadataLongPollCount();
+    long deadlineMs = System.currentTimeMillis() + Math.min(maxWaitMs, longPollMaxWaitMs);
+    MetadataLongPoll longPoll = new MetadataLongPoll(knownMetadataHash, deadlineMs);
+    addLongPoll(storeName, longPoll);
+    if (closed) {
+      // The long polls are not checked anymore, so answer this one right away in case it was added after closing.
+      completeLongPolls();
+    }
+    return longPoll.future;
+  }
+
+  private void addLongPoll(String storeName, MetadataLongPoll longPoll) {
+    longPolls.compute(storeName, (ignored, storeLongPolls) -> {
+      List<MetadataLongPoll> newStoreLongPolls = storeLongPolls == null ? new ArrayList<>() : storeLongPolls;
+      newStoreLongPolls.add(longPoll);
+      return newStoreLongPolls;
+    });
+  }
+
+  /**
+   * Build the metadata of each store with pending long poll requests once, answer the requests which are waiting for
+   * another version of it or expired, and put back the others.
+   */
+  private void checkLongPolls() {
+    for (String storeName: longPolls.keySet()) {
+      List<MetadataLongPoll> storeLongPolls = longPolls.remove(storeName);
+      if (storeLongPolls == null) {
+        continue;
+      }
+      MetadataResponse response = null;
+      Exception error = null;
+      try {
+        response = buildMetadata(storeName);
+      } catch (Exception e) {
+        LOGGER.warn("Failed to check the metadata of store: {} for long poll requests", storeName, e);
+        error = e;
+      }
+      long currentTimeMs = System.currentTimeMillis();
+      for (MetadataLongPoll longPoll: storeLongPolls) {
+        if (error != null) {
+          longPoll.future.completeExceptionally(error);
+        } else if (response.isError() || response.getMetadataHash() != longPoll.knownMetadataHash) {
+          serverMetadataServiceStats.recordRequestBasedMetadataLongPollChangeCount();
+          longPoll.future.complete(response);
+        } else if (currentTimeMs >= longPoll.deadlineMs) {
+          longPoll.future.complete(null);
+        } else {
+          addLongPoll(storeName, longPoll);
+        }
+      }
+    }
+  }
+
+  /**
+   * Answer the pending long poll requests as if their metadata didn't change, so that their clients keep their
+   * metadata and poll again, possibly from another storage node.
+   */
+  private void completeLongPolls() {
+    for (String storeName: longPolls.keySet()) {
+      List<MetadataLongPoll> storeLongPolls = longPolls.remove(storeName);
+      if (storeLongPolls != null) {
+        for (MetadataLongPoll longPoll: storeLongPolls) {
+          longPoll.future.complete(null);
+        }
+      }
+    }
+  }
+
+  /**
+   * Stop checking the metadata of the stores with pending long poll requests and answer these requests.
+   */
+  public void close() {
+    closed = true;
+    longPollScheduler.shutdown();
+    try {
+      if (!longPollScheduler.awaitTermination(DEFAULT_LONG_POLL_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+        longPollScheduler.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    completeLongPolls();
+  }
+
   @Override
   public ServerCurrentVersionResponse getCurrentVersionResponse(String storeName) {
     ServerCurrentVersionResponse response = new ServerCurrentVersionResponse();
@@ -161,4 +304,15 @@ public class ServerReadMetadataRepository implements ReadMetadataRetriever {
     }
     return response;
   }
+
+  private static class MetadataLongPoll {
+    private final int knownMetadataHash;
+    private final long deadlineMs;
+    private final CompletableFuture<MetadataResponse> future = new CompletableFuture<>();
+
+    private MetadataLongPoll(int knownMetadataHash, long deadlineMs) {
+      this.knownMetadataHash = knownMetadataHash;
+      this.deadlineMs = deadlineMs;
+    }
+  }
 }
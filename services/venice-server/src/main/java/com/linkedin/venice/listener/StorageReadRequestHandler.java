@@ -80,6 +80,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.locks.ReentrantLock;
@@ -117,6 +119,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   private final boolean parallelBatchGetEnabled;
   private final int parallelBatchGetChunkSize;
   private final boolean keyValueProfilingEnabled;
+  private final boolean readQosSchedulingEnabled;
   private final VeniceServerConfig serverConfig;
   private final Map<String, PerStoreVersionState> perStoreVersionStateMap = new VeniceConcurrentHashMap<>();
   private final Map<String, StoreDeserializerCache<GenericRecord>> storeDeserializerCacheMap =
@@ -204,6 +207,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     this.parallelBatchGetEnabled = parallelBatchGetEnabled;
     this.parallelBatchGetChunkSize = parallelBatchGetChunkSize;
     this.keyValueProfilingEnabled = serverConfig.isKeyValueProfilingEnabled();
+    this.readQosSchedulingEnabled = serverConfig.isReadQosSchedulingEnabled();
     this.serverConfig = serverConfig;
     this.compressorFactory = compressorFactory;
     this.resourceReadUsageTracker = resourceReadUsageTracker;
@@ -253,8 +257,9 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
        */
       if (parallelBatchGetEnabled && request.getRequestType().equals(RequestType.MULTI_GET)) {
         handleMultiGetRequestInParallel((MultiGetRouterRequestWrapper) request, parallelBatchGetChunkSize)
-            .whenComplete((v, e) -> {
-              if (e != null) {
+            .whenComplete((v, t) -> {
+              if (t != null) {
+                Throwable e = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
                 if (e instanceof VeniceRequestEarlyTerminationException) {
                   VeniceRequestEarlyTerminationException earlyTerminationException =
                       (VeniceRequestEarlyTerminationException) e;
@@ -283,7 +288,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       }
 
       final ThreadPoolExecutor executor = getExecutor(request.getRequestType());
-      executor.submit(() -> {
+      Runnable command = () -> {
         try {
           if (request.shouldRequestBeTerminatedEarly()) {
             throw new VeniceRequestEarlyTerminationException(request.getStoreName());
@@ -337,7 +342,21 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
           shortcutResponse.setMisroutedStoreVersion(checkMisroutedStoreVersionRequest(request));
           context.writeAndFlush(shortcutResponse);
         }
-      });
+      };
+      if (readQosSchedulingEnabled) {
+        // Run by the queue instead of the request when it expired while being queued
+        Runnable expiredCommand = () -> {
+          VeniceRequestEarlyTerminationException earlyTerminationException =
+              new VeniceRequestEarlyTerminationException(request.getStoreName());
+          context.writeAndFlush(
+              new HttpShortcutResponse(
+                  earlyTerminationException.getMessage(),
+                  earlyTerminationException.getHttpResponseStatus()));
+        };
+        executor.execute(new QOSBasedReadRequestTask(request, command, expiredCommand));
+      } else {
+        executor.submit(command);
+      }
 
     } else if (message instanceof HealthCheckRequest) {
       if (diskHealthCheckService.isDiskHealthy()) {
@@ -358,14 +377,25 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       AdminResponse response = handleServerAdminRequest((AdminRequest) message);
       context.writeAndFlush(response);
     } else if (message instanceof MetadataFetchRequest) {
+      MetadataFetchRequest metadataFetchRequest = (MetadataFetchRequest) message;
       try {
-        MetadataResponse response = handleMetadataFetchRequest((MetadataFetchRequest) message);
-        context.writeAndFlush(response);
+        if (metadataFetchRequest.isLongPoll()) {
+          handleMetadataLongPollRequest(metadataFetchRequest).whenComplete((response, throwable) -> {
+            if (throwable != null) {
+              writeMetadataFetchError(context, metadataFetchRequest, throwable);
+            } else if (response == null) {
+              // The metadata didn't change in time.
+              context.writeAndFlush(new HttpShortcutResponse("", HttpResponseStatus.NO_CONTENT));
+            } else {
+              context.writeAndFlush(response);
+            }
+          });
+        } else {
+          MetadataResponse response = handleMetadataFetchRequest(metadataFetchRequest);
+          context.writeAndFlush(response);
+        }
       } catch (UnsupportedOperationException e) {
-        LOGGER.warn(
-            "Metadata requested by a storage node read quota not enabled store: {}",
-            ((MetadataFetchRequest) message).getStoreName());
-        context.writeAndFlush(new HttpShortcutResponse(e.getMessage(), HttpResponseStatus.FORBIDDEN));
+        writeMetadataFetchError(context, metadataFetchRequest, e);
       }
     } else if (message instanceof CurrentVersionRequest) {
       ServerCurrentVersionResponse response = handleCurrentVersionRequest((CurrentVersionRequest) message);
@@ -491,6 +521,10 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     boolean isChunked = storageEngine.isChunked();
 
     ExecutorService executorService = getExecutor(RequestType.MULTI_GET);
+    // Tag the chunks, so that they get queued along with the other requests of the same store
+    Executor chunkExecutor = readQosSchedulingEnabled
+        ? command -> executorService.execute(new QOSBasedReadRequestTask(request, command))
+        : executorService;
     if (!(keys instanceof ArrayList)) {
       throw new VeniceException("'keys' in MultiGetResponseWrapper should be an ArrayList");
     }
@@ -507,12 +541,10 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     for (int cur = 0; cur < splitSize; ++cur) {
       final int finalCur = cur;
       chunkFutures[cur] = CompletableFuture.runAsync(() -> {
-        if (request.shouldRequestBeTerminatedEarly()) {
-          throw new VeniceRequestEarlyTerminationException(request.getStoreName());
-        }
         int startPos = finalCur * parallelChunkSize;
         int endPos = Math.min((finalCur + 1) * parallelChunkSize, totalKeyNum);
         for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
+          abortIfObsolete(request);
           final MultiGetRouterRequestKeyV1 key = keyList.get(subChunkCur);
           if (responseKeySizeList != null) {
             responseKeySizeList.set(subChunkCur, key.keyBytes.remaining());
@@ -550,11 +582,15 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
             }
           }
         }
-      }, executorService);
+      }, chunkExecutor);
     }
 
     return CompletableFuture.allOf(chunkFutures).handle((v, e) -> {
       if (e != null) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof VeniceRequestEarlyTerminationException) {
+          throw (VeniceRequestEarlyTerminationException) cause;
+        }
         throw new VeniceException(e);
       }
       responseWrapper.setKeySizeList(responseKeySizeList);
@@ -563,6 +599,16 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     });
   }
 
+  /**
+   * Checked between the keys of batch requests, so that the remaining lookups get skipped as soon as the router has
+   * given up on the request, instead of only before the request starts executing.
+   */
+  private static void abortIfObsolete(RouterRequest request) {
+    if (request.shouldRequestBeTerminatedEarly()) {
+      throw new VeniceRequestEarlyTerminationException(request.getStoreName());
+    }
+  }
+
   public ReadResponse handleMultiGetRequest(MultiGetRouterRequestWrapper request) {
     Iterable<MultiGetRouterRequestKeyV1> keys = request.getKeys();
     PerStoreVersionState perStoreVersionState = getPerStoreVersionState(request.getResourceName());
@@ -573,6 +619,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     responseWrapper.setDatabaseLookupLatency(0);
     boolean isChunked = storageEngine.isChunked();
     for (MultiGetRouterRequestKeyV1 key: keys) {
+      abortIfObsolete(request);
       MultiGetResponseRecordV1 record =
           BatchGetChunkingAdapter.get(storageEngine, key.partitionId, key.keyBytes, isChunked, responseWrapper);
       if (record == null) {
@@ -623,6 +670,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     List<Schema.Field> operationResultFields = ComputeUtils.getOperationResultFields(operations, resultSchema);
     int hits = 0;
     for (ComputeRouterRequestKeyV1 key: request.getKeys()) {
+      abortIfObsolete(request);
       AvroRecordUtils.clearRecord(reusableResultRecord);
       GenericRecord result = computeResult(
           operations,
@@ -652,6 +700,25 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     return readMetadataRetriever.getMetadata(request.getStoreName());
   }
 
+  private CompletableFuture<MetadataResponse> handleMetadataLongPollRequest(MetadataFetchRequest request) {
+    return readMetadataRetriever
+        .getMetadataOnChange(request.getStoreName(), request.getKnownMetadataHash(), request.getMaxWaitMs());
+  }
+
+  private void writeMetadataFetchError(
+      ChannelHandlerContext context,
+      MetadataFetchRequest request,
+      Throwable throwable) {
+    if (throwable instanceof UnsupportedOperationException) {
+      LOGGER.warn("Metadata requested by a storage node read quota not enabled store: {}", request.getStoreName());
+      context.writeAndFlush(new HttpShortcutResponse(throwable.getMessage(), HttpResponseStatus.FORBIDDEN));
+    } else {
+      LOGGER.error("Exception thrown for metadata of store: {}", request.getStoreName(), throwable);
+      context
+          .writeAndFlush(new HttpShortcutResponse(throwable.getMessage(), HttpResponseStatus.INTERNAL_SERVER_ERROR));
+    }
+  }
+
   private ServerCurrentVersionResponse handleCurrentVersionRequest(CurrentVersionRequest request) {
     return readMetadataRetriever.getCurrentVersionResponse(request.getStoreName());
   }
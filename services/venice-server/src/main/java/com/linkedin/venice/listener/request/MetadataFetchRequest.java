@@ -7,13 +7,20 @@ import io.netty.handler.codec.http.HttpRequest;
 
 /**
  * {@code MetadataFetchRequest} encapsulates a GET request to /metadata/storename on the storage node to fetch metadata
- * for that node.
+ * for that node, or to /metadata/storename/knownMetadataHash/maxWaitMs to long poll the metadata until its hash differs
+ * from the given one.
  */
 public class MetadataFetchRequest {
   private final String storeName;
+  private final boolean isLongPoll;
+  private final int knownMetadataHash;
+  private final long maxWaitMs;
 
-  private MetadataFetchRequest(String storeName) {
+  private MetadataFetchRequest(String storeName, boolean isLongPoll, int knownMetadataHash, long maxWaitMs) {
     this.storeName = storeName;
+    this.isLongPoll = isLongPoll;
+    this.knownMetadataHash = knownMetadataHash;
+    this.maxWaitMs = maxWaitMs;
   }
 
   public static MetadataFetchRequest parseGetHttpRequest(HttpRequest request) {
@@ -23,7 +30,19 @@ public class MetadataFetchRequest {
     if (requestParts.length == 3) {
       // [0]""/[1]"action"/[2]"store"
       String storeName = requestParts[2];
-      return new MetadataFetchRequest(storeName);
+      return new MetadataFetchRequest(storeName, false, 0, 0);
+    } else if (requestParts.length == 5) {
+      // [0]""/[1]"action"/[2]"store"/[3]"knownMetadataHash"/[4]"maxWaitMs"
+      String storeName = requestParts[2];
+      try {
+        return new MetadataFetchRequest(
+            storeName,
+            true,
+            Integer.parseInt(requestParts[3]),
+            Long.parseLong(requestParts[4]));
+      } catch (NumberFormatException e) {
+        throw new VeniceException("not a valid request for a METADATA action: " + uri, e);
+      }
     } else {
       throw new VeniceException("not a valid request for a METADATA action: " + uri);
     }
@@ -32,4 +51,16 @@ public class MetadataFetchRequest {
   public String getStoreName() {
     return storeName;
   }
+
+  public boolean isLongPoll() {
+    return isLongPoll;
+  }
+
+  public int getKnownMetadataHash() {
+    return knownMetadataHash;
+  }
+
+  public long getMaxWaitMs() {
+    return maxWaitMs;
+  }
 }
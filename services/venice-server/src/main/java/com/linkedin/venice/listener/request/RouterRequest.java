@@ -5,6 +5,7 @@ import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.streaming.StreamingUtils;
 import io.netty.handler.codec.http.HttpRequest;
+import java.util.function.BooleanSupplier;
 
 
 /**
@@ -16,7 +17,10 @@ public abstract class RouterRequest {
   // Early request termination is not enabled.
   public static final long NO_REQUEST_TIMEOUT = -1;
 
+  private static final BooleanSupplier NOT_CANCELLED = () -> false;
+
   private long requestTimeoutInNS = NO_REQUEST_TIMEOUT;
+  private BooleanSupplier cancellationSignal = NOT_CANCELLED;
   private final boolean isRetryRequest;
   private final String resourceName;
   private final String storeName;
@@ -40,6 +44,18 @@ public abstract class RouterRequest {
     this.requestTimeoutInNS = requestTimeoutInNS;
   }
 
+  public long getRequestTimeoutInNS() {
+    return requestTimeoutInNS;
+  }
+
+  /**
+   * @param cancellationSignal returns true once the caller is no longer waiting for the response, e.g. because the
+   *                           connection or the stream it was sent on got closed.
+   */
+  public void setCancellationSignal(BooleanSupplier cancellationSignal) {
+    this.cancellationSignal = cancellationSignal;
+  }
+
   public String getResourceName() {
     return resourceName;
   }
@@ -64,7 +80,12 @@ public abstract class RouterRequest {
     return request.headers().contains(HttpConstants.VENICE_RETRY);
   }
 
+  /**
+   * This check is cheap enough to be performed between the lookups of a batch request, so that the work of requests
+   * the caller gave up on gets aborted.
+   */
   public boolean shouldRequestBeTerminatedEarly() {
-    return requestTimeoutInNS != NO_REQUEST_TIMEOUT && System.nanoTime() > requestTimeoutInNS;
+    return (requestTimeoutInNS != NO_REQUEST_TIMEOUT && System.nanoTime() > requestTimeoutInNS)
+        || cancellationSignal.getAsBoolean();
   }
 }
@@ -419,7 +419,9 @@ public class VeniceServer {
         metadataRepo,
         schemaRepo,
         Optional.of(customizedViewFuture),
-        Optional.of(helixInstanceFuture));
+        Optional.of(helixInstanceFuture),
+        serverConfig.getMetadataLongPollCheckIntervalMs(),
+        serverConfig.getMetadataLongPollMaxWaitMs());
 
     // create and add ListenerServer for handling GET requests
     ListenerService listenerService = createListenerService(
@@ -601,6 +603,9 @@ public class VeniceServer {
         }
       }
 
+      // Answer the pending metadata long polls while the listener service is still able to send the responses.
+      serverReadMetadataRepository.close();
+
       for (AbstractVeniceService service: CollectionUtils.reversed(services.get())) {
         try {
           LOGGER.info("Stopping service: {}", service.getName());
@@ -0,0 +1,42 @@
+package com.linkedin.venice.stats;
+
+import com.linkedin.alpini.consts.QOS;
+import com.linkedin.venice.listener.QOSBasedReadRequestQueue;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.AsyncGauge;
+import io.tehuti.metrics.stats.OccurrenceRate;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+
+/**
+ * Stats of a {@link QOSBasedReadRequestQueue}: the overall and the largest per-store queue depth, the time spent in the
+ * queue by each {@link QOS} level and the number of requests which already expired by the time they got dequeued, and
+ * got dropped.
+ */
+public class ServerReadQueueStats extends AbstractVeniceStats {
+  private final Map<QOS, Sensor> queueWaitTimeSensors = new EnumMap<>(QOS.class);
+  private final Sensor expiredRequestSensor;
+
+  public ServerReadQueueStats(MetricsRepository metricsRepository, String name, QOSBasedReadRequestQueue queue) {
+    super(metricsRepository, name);
+    registerSensorIfAbsent(new AsyncGauge((ignored, ignored2) -> queue.size(), "queue_depth"));
+    registerSensorIfAbsent(new AsyncGauge((ignored, ignored2) -> queue.getMaxQueueDepth(), "max_store_queue_depth"));
+    registerSensorIfAbsent(new AsyncGauge((ignored, ignored2) -> queue.getActiveQueueCount(), "active_store_queues"));
+    for (QOS qos: QOS.values()) {
+      queueWaitTimeSensors
+          .put(qos, registerSensorIfAbsent(qos.name().toLowerCase(Locale.ROOT) + "_qos_queue_wait_time", avgAndMax()));
+    }
+    expiredRequestSensor = registerSensorIfAbsent("expired_request_count", new OccurrenceRate());
+  }
+
+  public void recordQueueWaitTime(QOS qos, double waitTimeMs) {
+    queueWaitTimeSensors.get(qos).record(waitTimeMs);
+  }
+
+  public void recordExpiredRequest() {
+    expiredRequestSensor.record();
+  }
+}
@@ -0,0 +1,267 @@
+package com.linkedin.venice.listener;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.alpini.base.queuing.QOSPolicy;
+import com.linkedin.venice.listener.request.RouterRequest;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.stats.ServerReadQueueStats;
+import com.linkedin.venice.utils.concurrent.ThreadPoolFactory;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class QOSBasedReadRequestQueueTest {
+  private static QOSBasedReadRequestQueue createQueue(int capacity, int maxPerStore) {
+    // Always dequeue the highest QOS first, to make the test deterministic
+    QOSPolicy.StaticConfig qosPolicyConfig = new QOSPolicy.StaticConfig(
+        QOSPolicy.HIGHEST_PRIORITY_W_FAIR_ALLOCATION_MULTI_QUEUE.name(),
+        "0:0:100",
+        maxPerStore);
+    return new QOSBasedReadRequestQueue(qosPolicyConfig, capacity);
+  }
+
+  private static RouterRequest mockRequest(String storeName, RequestType requestType, boolean expired) {
+    RouterRequest request = mock(RouterRequest.class);
+    doReturn(storeName).when(request).getStoreName();
+    doReturn(requestType).when(request).getRequestType();
+    doReturn(expired).when(request).shouldRequestBeTerminatedEarly();
+    return request;
+  }
+
+  private static QOSBasedReadRequestTask task(String storeName, RequestType requestType, List<String> executionLog) {
+    return new QOSBasedReadRequestTask(
+        mockRequest(storeName, requestType, false),
+        () -> executionLog.add(storeName + ":" + requestType));
+  }
+
+  @Test
+  public void testStoresAreDequeuedFairly() {
+    QOSBasedReadRequestQueue queue = createQueue(Integer.MAX_VALUE, 0);
+    List<String> log = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      Assert.assertTrue(queue.offer(task("noisy_store", RequestType.MULTI_GET, log)));
+    }
+    Assert.assertTrue(queue.offer(task("quiet_store", RequestType.MULTI_GET, log)));
+    Assert.assertEquals(queue.size(), 11);
+    Assert.assertEquals(queue.getQueueDepth("noisy_store"), 10);
+    Assert.assertEquals(queue.getMaxQueueDepth(), 10);
+    Assert.assertEquals(queue.getActiveQueueCount(), 2);
+
+    // With a FIFO queue, the quiet store would have been the 11th one to be served
+    for (int i = 0; i < 3; i++) {
+      queue.poll().run();
+    }
+    Assert.assertTrue(log.contains("quiet_store:MULTI_GET"), log.toString());
+    Assert.assertEquals(queue.getQueueDepth("quiet_store"), 0);
+    Assert.assertEquals(queue.getActiveQueueCount(), 1);
+  }
+
+  @Test
+  public void testSingleGetIsDequeuedBeforeMultiGetOfTheSameStore() {
+    QOSBasedReadRequestQueue queue = createQueue(Integer.MAX_VALUE, 0);
+    List<String> log = new ArrayList<>();
+    queue.offer(task("store", RequestType.MULTI_GET, log));
+    queue.offer(task("store", RequestType.MULTI_GET, log));
+    queue.offer(task("store", RequestType.SINGLE_GET, log));
+    queue.poll().run();
+    Assert.assertEquals(log.get(0), "store:SINGLE_GET");
+  }
+
+  @Test
+  public void testCapacity() {
+    QOSBasedReadRequestQueue queue = createQueue(3, 2);
+    List<String> log = new ArrayList<>();
+    Assert.assertTrue(queue.offer(task("store", RequestType.SINGLE_GET, log)));
+    Assert.assertTrue(queue.offer(task("store", RequestType.MULTI_GET, log)));
+    // The queue of the store is full
+    Assert.assertFalse(queue.offer(task("store", RequestType.MULTI_GET, log)));
+    Assert.assertTrue(queue.offer(task("other_store", RequestType.MULTI_GET, log)));
+    // The whole queue is full
+    Assert.assertFalse(queue.offer(task("another_store", RequestType.MULTI_GET, log)));
+    Assert.assertEquals(queue.size(), 3);
+    Assert.assertEquals(queue.remainingCapacity(), 0);
+    Assert.assertEquals(queue.drainTo(new ArrayList<>()), 3);
+    Assert.assertTrue(queue.isEmpty());
+    Assert.assertNull(queue.poll());
+  }
+
+  @Test
+  public void testStats() {
+    MetricsRepository metricsRepository = new MetricsRepository();
+    QOSBasedReadRequestQueue queue = createQueue(Integer.MAX_VALUE, 0);
+    queue.setStats(new ServerReadQueueStats(metricsRepository, "test_pool", queue));
+    queue.offer(new QOSBasedReadRequestTask(mockRequest("store", RequestType.SINGLE_GET, true), () -> {}));
+    queue.offer(new QOSBasedReadRequestTask(mockRequest("store", RequestType.MULTI_GET, false), () -> {}));
+    queue.offer(() -> {});
+
+    Assert.assertEquals(metricsRepository.getMetric(".test_pool--queue_depth.Gauge").value(), 3.0);
+    Assert.assertEquals(metricsRepository.getMetric(".test_pool--max_store_queue_depth.Gauge").value(), 2.0);
+    Assert.assertEquals(metricsRepository.getMetric(".test_pool--active_store_queues.Gauge").value(), 2.0);
+    queue.drainTo(new ArrayList<>());
+    Assert.assertTrue(metricsRepository.getMetric(".test_pool--expired_request_count.OccurrenceRate").value() > 0);
+    Assert.assertTrue(metricsRepository.getMetric(".test_pool--high_qos_queue_wait_time.Max").value() >= 0);
+    Assert.assertEquals(metricsRepository.getMetric(".test_pool--queue_depth.Gauge").value(), 0.0);
+  }
+
+  @Test
+  public void testPeekAndIterator() {
+    QOSBasedReadRequestQueue queue = createQueue(Integer.MAX_VALUE, 0);
+    List<String> log = new ArrayList<>();
+    Assert.assertNull(queue.peek());
+    QOSBasedReadRequestTask multiGet = task("store", RequestType.MULTI_GET, log);
+    QOSBasedReadRequestTask singleGet = task("store", RequestType.SINGLE_GET, log);
+    QOSBasedReadRequestTask otherMultiGet = task("other_store", RequestType.MULTI_GET, log);
+    queue.offer(multiGet);
+    queue.offer(singleGet);
+    queue.offer(otherMultiGet);
+    Assert.assertSame(queue.peek(), singleGet);
+    Assert.assertEquals(queue.size(), 3);
+
+    List<Runnable> tasks = new ArrayList<>();
+    queue.iterator().forEachRemaining(tasks::add);
+    Assert.assertEquals(tasks.size(), 3);
+    Assert.assertSame(tasks.get(0), singleGet);
+
+    // Removed tasks are not handed out anymore, the way ThreadPoolExecutor#remove relies on
+    Assert.assertTrue(queue.remove(multiGet));
+    Assert.assertFalse(queue.remove(multiGet));
+    Assert.assertEquals(queue.size(), 2);
+    Assert.assertEquals(queue.getQueueDepth("store"), 1);
+    Iterator<Runnable> iterator = queue.iterator();
+    Assert.assertSame(iterator.next(), singleGet);
+    iterator.remove();
+    Assert.assertSame(queue.peek(), otherMultiGet);
+    Assert.assertSame(queue.poll(), otherMultiGet);
+    Assert.assertNull(queue.poll());
+    Assert.assertTrue(queue.isEmpty());
+  }
+
+  @Test
+  public void testExpiredRequestsAreDropped() {
+    QOSBasedReadRequestQueue queue = createQueue(Integer.MAX_VALUE, 0);
+    List<String> log = new ArrayList<>();
+    queue.offer(
+        new QOSBasedReadRequestTask(
+            mockRequest("store", RequestType.SINGLE_GET, true),
+            () -> log.add("served"),
+            () -> log.add("expired")));
+    QOSBasedReadRequestTask multiGet = task("store", RequestType.MULTI_GET, log);
+    queue.offer(multiGet);
+
+    // The expired request only gets answered, and the next task is handed out instead
+    Assert.assertSame(queue.poll(), multiGet);
+    Assert.assertEquals(log.size(), 1);
+    Assert.assertEquals(log.get(0), "expired");
+    Assert.assertTrue(queue.isEmpty());
+  }
+
+  @Test
+  public void testFailingExpiredCommandDoesNotFailTheDequeue() {
+    QOSBasedReadRequestQueue queue = createQueue(Integer.MAX_VALUE, 0);
+    List<String> log = new ArrayList<>();
+    queue.offer(new QOSBasedReadRequestTask(mockRequest("store", RequestType.SINGLE_GET, true), () -> {}, () -> {
+      throw new IllegalStateException("The channel is closed");
+    }));
+    QOSBasedReadRequestTask multiGet = task("store", RequestType.MULTI_GET, log);
+    queue.offer(multiGet);
+    Assert.assertSame(queue.poll(), multiGet);
+    Assert.assertTrue(queue.isEmpty());
+  }
+
+  @Test(timeOut = 10000)
+  public void testRemovedTasksFreeTheQueueOfTheirStore() {
+    QOSBasedReadRequestQueue queue = createQueue(Integer.MAX_VALUE, 2);
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, queue);
+    CountDownLatch blocker = new CountDownLatch(1);
+    try {
+      // Keep the only thread busy, so that the next tasks stay queued
+      executor.execute(() -> {
+        try {
+          blocker.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      List<String> log = new ArrayList<>();
+      QOSBasedReadRequestTask singleGet = task("store", RequestType.SINGLE_GET, log);
+      QOSBasedReadRequestTask multiGet = task("store", RequestType.MULTI_GET, log);
+      Assert.assertTrue(queue.offer(singleGet));
+      Assert.assertTrue(queue.offer(multiGet));
+      Assert.assertFalse(queue.offer(task("store", RequestType.MULTI_GET, log)));
+
+      Assert.assertTrue(executor.remove(singleGet));
+      Assert.assertTrue(queue.offer(task("store", RequestType.SINGLE_GET, log)));
+      Assert.assertFalse(queue.offer(task("store", RequestType.MULTI_GET, log)));
+
+      // The futures of the tasks cancelled by their submitter get removed by purge
+      Future<?> first = executor.submit(() -> log.add("first"));
+      Future<?> second = executor.submit(() -> log.add("second"));
+      Assert.assertEquals(queue.getQueueDepth(""), 2);
+      first.cancel(false);
+      second.cancel(false);
+      executor.purge();
+      Assert.assertEquals(queue.getQueueDepth(""), 0);
+      Assert.assertEquals(queue.size(), 2);
+      Assert.assertTrue(queue.offer(() -> log.add("third")));
+      Assert.assertTrue(queue.offer(() -> log.add("fourth")));
+      Assert.assertFalse(queue.offer(() -> log.add("fifth")));
+
+      // Only the tasks which are still queued get handed out
+      List<Runnable> drained = new ArrayList<>();
+      Assert.assertEquals(queue.drainTo(drained), 4);
+      Assert.assertTrue(drained.contains(multiGet));
+      Assert.assertFalse(drained.contains(singleGet));
+      Assert.assertTrue(queue.isEmpty());
+    } finally {
+      blocker.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test(timeOut = 10000)
+  public void testPollWaitsForATask() throws InterruptedException {
+    QOSBasedReadRequestQueue queue = createQueue(Integer.MAX_VALUE, 0);
+    List<String> log = new ArrayList<>();
+    Assert.assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+    QOSBasedReadRequestTask task = task("store", RequestType.SINGLE_GET, log);
+    Thread producer = new Thread(() -> {
+      try {
+        Thread.sleep(100);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      queue.offer(task);
+    });
+    producer.start();
+    Assert.assertSame(queue.take(), task);
+    producer.join();
+  }
+
+  @Test(timeOut = 10000)
+  public void testBackingThreadPool() throws InterruptedException {
+    ThreadPoolExecutor executor =
+        ThreadPoolFactory.createThreadPool(2, "QOSBasedReadRequestQueueTest", createQueue(Integer.MAX_VALUE, 0));
+    try {
+      int taskCount = 100;
+      CountDownLatch latch = new CountDownLatch(taskCount);
+      for (int i = 0; i < taskCount; i++) {
+        RouterRequest request =
+            mockRequest("store_" + (i % 5), i % 2 == 0 ? RequestType.SINGLE_GET : RequestType.MULTI_GET, false);
+        executor.execute(new QOSBasedReadRequestTask(request, latch::countDown));
+      }
+      Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -37,6 +37,7 @@ import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.routerapi.ReplicaState;
 import com.linkedin.venice.stats.AbstractVeniceAggStats;
 import com.linkedin.venice.stats.AggServerQuotaUsageStats;
+import com.linkedin.venice.throttle.GcraTokenBucket;
 import com.linkedin.venice.throttle.TokenBucket;
 import com.linkedin.venice.utils.Utils;
 import io.netty.channel.ChannelHandlerContext;
@@ -497,6 +498,58 @@ public class ReadQuotaEnforcementHandlerTest {
     assertNull(bucketForInvalidStore);
   }
 
+  @Test
+  public void testGcraQuotaEnforcementAtStoreLevel() {
+    long burstCreditMs = 1000;
+    quotaEnforcer = new ReadQuotaEnforcementHandler(
+        nodeCapacity,
+        storeRepository,
+        CompletableFuture.completedFuture(customizedViewRepository),
+        thisNodeId,
+        stats,
+        metricsRepository,
+        clock,
+        burstCreditMs);
+    String storeName = Utils.getUniqueString("store");
+    String topic = Version.composeKafkaTopic(storeName, 1);
+
+    Instance thisInstance = mock(Instance.class);
+    doReturn(thisNodeId).when(thisInstance).getNodeId();
+    Partition partition = setUpPartitionMock(topic, thisInstance, true, 0);
+    doReturn(0).when(partition).getId();
+    PartitionAssignment pa = setUpPartitionAssignmentMock(topic, Collections.singletonList(partition));
+
+    long storeReadQuota = 5; // rcu per second
+    Store store = mock(Store.class);
+    doReturn(true).when(store).isStorageNodeReadQuotaEnabled();
+    doReturn(storeReadQuota).when(store).getReadQuotaInCU();
+    doReturn(store).when(storeRepository).getStore(any());
+
+    quotaEnforcer.onCustomizedViewChange(pa);
+
+    AtomicInteger allowed = new AtomicInteger(0);
+    AtomicInteger blocked = new AtomicInteger(0);
+    RouterRequest request = mock(RouterRequest.class);
+    ChannelHandlerContext ctx = mock(ChannelHandlerContext.class);
+    setUpRequestMocks(ctx, request, allowed, blocked, topic);
+
+    // The bucket holds one second worth of quota
+    Assert.assertTrue(quotaEnforcer.getStoreVersionBuckets().get(topic) instanceof GcraTokenBucket);
+    for (int i = 0; i < storeReadQuota + 1; i++) {
+      quotaEnforcer.channelRead0(ctx, request);
+    }
+    assertEquals(allowed.get(), storeReadQuota);
+    assertEquals(blocked.get(), 1);
+
+    // The quota is refilled continuously, one token every 200ms, instead of every 10 seconds
+    currentTime += 200;
+    doReturn(currentTime).when(clock).millis();
+    quotaEnforcer.channelRead0(ctx, request);
+    quotaEnforcer.channelRead0(ctx, request);
+    assertEquals(allowed.get(), storeReadQuota + 1);
+    assertEquals(blocked.get(), 2);
+  }
+
   /**
    * After appropriate setup, this test ensures we can read the initial capacity of the TokenBucket, cannot read
    * beyond that, then increments time to allow for a bucket refill, and again ensures we can read the amount that was
@@ -2,7 +2,9 @@ package com.linkedin.venice.listener;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.linkedin.venice.HttpConstants;
@@ -17,6 +19,8 @@ import com.linkedin.venice.listener.response.HttpShortcutResponse;
 import com.linkedin.venice.meta.QueryAction;
 import com.linkedin.venice.protocols.VeniceClientRequest;
 import com.linkedin.venice.protocols.VeniceServerResponse;
+import com.linkedin.venice.utils.Utils;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
@@ -57,6 +61,38 @@ public class RouterRequestHttpHandlerTest {
     Assert.assertNotNull(requestObject);
   }
 
+  @Test
+  public void testRequestTimeoutPropagatedByRouter() throws Exception {
+    StatsHandler statsHandler = mock(StatsHandler.class);
+    doReturn(System.nanoTime()).when(statsHandler).getRequestStartTimeInNS();
+    RouterRequestHttpHandler testHandler =
+        new RouterRequestHttpHandler(statsHandler, Collections.singletonMap("store", 60000));
+    ChannelHandlerContext mockContext = mock(ChannelHandlerContext.class);
+    Channel channel = mock(Channel.class);
+    doReturn(true).when(channel).isActive();
+    doReturn(channel).when(mockContext).channel();
+    ArgumentCaptor<GetRouterRequest> argumentCaptor = ArgumentCaptor.forClass(GetRouterRequest.class);
+
+    HttpRequest msg = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/storage/store_v1/1/key1");
+    testHandler.channelRead(mockContext, msg);
+    verify(mockContext).fireChannelRead(argumentCaptor.capture());
+    GetRouterRequest request = argumentCaptor.getValue();
+    Assert.assertFalse(request.shouldRequestBeTerminatedEarly());
+    // The request is obsolete once the router closes the connection
+    doReturn(false).when(channel).isActive();
+    Assert.assertTrue(request.shouldRequestBeTerminatedEarly());
+
+    // The tighter of the store threshold and the router timeout applies
+    msg = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/storage/store_v1/1/key1");
+    msg.headers().set(HttpConstants.VENICE_REQUEST_TIMEOUT_MS, "0");
+    doReturn(true).when(channel).isActive();
+    testHandler.channelRead(mockContext, msg);
+    verify(mockContext, times(2)).fireChannelRead(argumentCaptor.capture());
+    request = argumentCaptor.getValue();
+    Utils.sleep(1);
+    Assert.assertTrue(request.shouldRequestBeTerminatedEarly());
+  }
+
   public void testRequestParsing(String path, String expectedStore, int expectedPartition, byte[] expectedKey)
       throws Exception {
 
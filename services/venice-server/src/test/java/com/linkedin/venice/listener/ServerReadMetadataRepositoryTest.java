@@ -23,10 +23,12 @@ import com.linkedin.venice.meta.ZKStore;
 import com.linkedin.venice.metadata.response.VersionProperties;
 import com.linkedin.venice.schema.SchemaEntry;
 import io.tehuti.metrics.MetricsRepository;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
@@ -47,16 +49,7 @@ public class ServerReadMetadataRepositoryTest {
     mockHelixInstanceConfigRepository = mock(HelixInstanceConfigRepository.class);
   }
 
-  @Test
-  public void testGetMetadata() {
-    MetricsRepository metricsRepository = new MetricsRepository();
-    ServerReadMetadataRepository serverReadMetadataRepository = new ServerReadMetadataRepository(
-        metricsRepository,
-        mockMetadataRepo,
-        mockSchemaRepo,
-        Optional.of(CompletableFuture.completedFuture(mockCustomizedViewRepository)),
-        Optional.of(CompletableFuture.completedFuture(mockHelixInstanceConfigRepository)));
-    String storeName = "test-store";
+  private Store setUpStore(String storeName) {
     Store mockStore = new ZKStore(
         storeName,
         "unit-test",
@@ -85,6 +78,20 @@ public class ServerReadMetadataRepositoryTest {
         .thenReturn(Collections.singletonList(new SchemaEntry(0, schema)));
     Mockito.when(mockCustomizedViewRepository.getPartitionAssignments(topicName)).thenReturn(partitionAssignment);
     Mockito.when(mockHelixInstanceConfigRepository.getInstanceGroupIdMapping()).thenReturn(Collections.emptyMap());
+    return mockStore;
+  }
+
+  @Test
+  public void testGetMetadata() {
+    MetricsRepository metricsRepository = new MetricsRepository();
+    ServerReadMetadataRepository serverReadMetadataRepository = new ServerReadMetadataRepository(
+        metricsRepository,
+        mockMetadataRepo,
+        mockSchemaRepo,
+        Optional.of(CompletableFuture.completedFuture(mockCustomizedViewRepository)),
+        Optional.of(CompletableFuture.completedFuture(mockHelixInstanceConfigRepository)));
+    String storeName = "test-store";
+    Store mockStore = setUpStore(storeName);
 
     Assert.assertThrows(UnsupportedOperationException.class, () -> serverReadMetadataRepository.getMetadata(storeName));
     mockStore.setStorageNodeReadQuotaEnabled(true);
@@ -114,4 +121,80 @@ public class ServerReadMetadataRepositoryTest {
     metadataResponse = serverReadMetadataRepository.getMetadata(storeName);
     Assert.assertEquals(metadataResponse.getResponseRecord().getBatchGetLimit(), 300);
   }
+
+  @Test(timeOut = 10000)
+  public void testGetMetadataOnChange() throws Exception {
+    MetricsRepository metricsRepository = new MetricsRepository();
+    ServerReadMetadataRepository serverReadMetadataRepository = new ServerReadMetadataRepository(
+        metricsRepository,
+        mockMetadataRepo,
+        mockSchemaRepo,
+        Optional.of(CompletableFuture.completedFuture(mockCustomizedViewRepository)),
+        Optional.of(CompletableFuture.completedFuture(mockHelixInstanceConfigRepository)),
+        10,
+        TimeUnit.SECONDS.toMillis(5));
+    String storeName = "test-store";
+    Store mockStore = setUpStore(storeName);
+    mockStore.setStorageNodeReadQuotaEnabled(true);
+    int metadataHash = serverReadMetadataRepository.getMetadata(storeName).getMetadataHash();
+    Assert.assertEquals(serverReadMetadataRepository.getMetadata(storeName).getMetadataHash(), metadataHash);
+
+    // The metadata is returned right away when the client doesn't have it yet.
+    CompletableFuture<MetadataResponse> future =
+        serverReadMetadataRepository.getMetadataOnChange(storeName, metadataHash + 1, 1000);
+    Assert.assertTrue(future.isDone());
+    Assert.assertEquals(future.get().getMetadataHash(), metadataHash);
+
+    // Otherwise, it is returned once it changes.
+    future = serverReadMetadataRepository.getMetadataOnChange(storeName, metadataHash, 60000);
+    Assert.assertFalse(future.isDone());
+    mockStore.setBatchGetLimit(300);
+    MetadataResponse metadataResponse = future.get(5, TimeUnit.SECONDS);
+    Assert.assertEquals(metadataResponse.getResponseRecord().getBatchGetLimit(), 300);
+    Assert.assertNotEquals(metadataResponse.getMetadataHash(), metadataHash);
+    String longPollChangeMetricName = ".ServerMetadataStats--request_based_metadata_long_poll_change_count.Rate";
+    Assert.assertTrue(metricsRepository.getMetric(longPollChangeMetricName).value() > 0);
+
+    // Or not at all if it doesn't change in time.
+    future = serverReadMetadataRepository.getMetadataOnChange(storeName, metadataResponse.getMetadataHash(), 100);
+    Assert.assertNull(future.get(5, TimeUnit.SECONDS));
+
+    // The pending requests are answered on close, as well as the ones received afterward.
+    future = serverReadMetadataRepository.getMetadataOnChange(storeName, metadataResponse.getMetadataHash(), 60000);
+    Assert.assertFalse(future.isDone());
+    serverReadMetadataRepository.close();
+    Assert.assertTrue(future.isDone());
+    Assert.assertNull(future.get());
+    future = serverReadMetadataRepository.getMetadataOnChange(storeName, metadataResponse.getMetadataHash(), 60000);
+    Assert.assertTrue(future.isDone());
+    Assert.assertNull(future.get());
+  }
+
+  @Test
+  public void testMetadataHashIgnoresReplicaOrder() {
+    ServerReadMetadataRepository serverReadMetadataRepository = new ServerReadMetadataRepository(
+        new MetricsRepository(),
+        mockMetadataRepo,
+        mockSchemaRepo,
+        Optional.of(CompletableFuture.completedFuture(mockCustomizedViewRepository)),
+        Optional.of(CompletableFuture.completedFuture(mockHelixInstanceConfigRepository)));
+    String storeName = "test-store";
+    Store mockStore = setUpStore(storeName);
+    mockStore.setStorageNodeReadQuotaEnabled(true);
+    Instance host1 = new Instance("host1", "host1", 1234);
+    Instance host2 = new Instance("host2", "host2", 1234);
+    PartitionAssignment partitionAssignment = mockCustomizedViewRepository
+        .getPartitionAssignments(Version.composeKafkaTopic(storeName, mockStore.getCurrentVersion()));
+    Partition partition = partitionAssignment.getPartition(0);
+
+    doReturn(Arrays.asList(host1, host2)).when(partition).getReadyToServeInstances();
+    MetadataResponse metadataResponse = serverReadMetadataRepository.getMetadata(storeName);
+    doReturn(Arrays.asList(host2, host1)).when(partition).getReadyToServeInstances();
+    MetadataResponse reorderedMetadataResponse = serverReadMetadataRepository.getMetadata(storeName);
+    Assert.assertEquals(reorderedMetadataResponse.getMetadataHash(), metadataResponse.getMetadataHash());
+    Assert.assertEquals(
+        reorderedMetadataResponse.getResponseRecord().getRoutingInfo().get("0"),
+        metadataResponse.getResponseRecord().getRoutingInfo().get("0"));
+    serverReadMetadataRepository.close();
+  }
 }
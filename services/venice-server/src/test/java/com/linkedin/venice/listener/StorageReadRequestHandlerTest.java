@@ -3,15 +3,18 @@ package com.linkedin.venice.listener;
 import static com.linkedin.venice.read.RequestType.SINGLE_GET;
 import static com.linkedin.venice.router.api.VenicePathParser.TYPE_STORAGE;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.netty.handler.codec.http.HttpResponseStatus.REQUEST_TIMEOUT;
 import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -111,6 +114,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -316,6 +320,49 @@ public class StorageReadRequestHandlerTest {
     }
   }
 
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testMultiGetIsAbortedOnceCancelled(Boolean isParallel) throws Exception {
+    String uri = "/" + TYPE_STORAGE + "/test-topic_v1";
+    RecordSerializer<MultiGetRouterRequestKeyV1> serializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetRouterRequestKeyV1.SCHEMA$);
+    List<MultiGetRouterRequestKeyV1> keys = new ArrayList<>();
+    int recordCount = 10;
+    for (int i = 0; i < recordCount; ++i) {
+      MultiGetRouterRequestKeyV1 requestKey = new MultiGetRouterRequestKeyV1();
+      requestKey.keyBytes = ByteBuffer.wrap(("key_" + i).getBytes());
+      requestKey.keyIndex = i;
+      requestKey.partitionId = 0;
+      keys.add(requestKey);
+    }
+    AtomicInteger lookupCount = new AtomicInteger();
+    byte[] valueBytes = ValueRecord.create(1, "value".getBytes()).serialize();
+    doAnswer(invocation -> {
+      lookupCount.incrementAndGet();
+      return valueBytes;
+    }).when(storageEngine).get(eq(0), any(ByteBuffer.class));
+
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.GET,
+        uri,
+        Unpooled.wrappedBuffer(serializer.serializeObjects(keys)));
+    httpRequest.headers()
+        .set(
+            HttpConstants.VENICE_API_VERSION,
+            ReadAvroProtocolDefinition.MULTI_GET_ROUTER_REQUEST_V1.getProtocolVersion());
+    MultiGetRouterRequestWrapper request = MultiGetRouterRequestWrapper.parseMultiGetHttpRequest(httpRequest);
+    // The router gives up on the request after 3 lookups
+    request.setCancellationSignal(() -> lookupCount.get() >= 3);
+
+    StorageReadRequestHandler requestHandler = createStorageReadRequestHandler(isParallel, 2);
+    requestHandler.channelRead(context, request);
+
+    verify(context, times(1)).writeAndFlush(argumentCaptor.capture());
+    HttpShortcutResponse response = (HttpShortcutResponse) argumentCaptor.getValue();
+    assertEquals(response.getStatus(), REQUEST_TIMEOUT);
+    assertEquals(lookupCount.get(), 3);
+  }
+
   @Test
   public void storageExecutionHandlerLogsExceptions() throws Exception {
     String topic = "temp-test-topic_v1";
@@ -467,6 +514,30 @@ public class StorageReadRequestHandlerTest {
     assertEquals(metadataResponse.getResponseRecord().getValueSchemas(), valueSchemas);
   }
 
+  @Test
+  public void testMetadataLongPollRequestsPassInStorageExecutionHandler() throws Exception {
+    String storeName = "test_store_name";
+
+    // [0]""/[1]"action"/[2]"store"/[3]"knownMetadataHash"/[4]"maxWaitMs"
+    String uri = "/" + QueryAction.METADATA.toString().toLowerCase() + "/" + storeName + "/-123/1000";
+    HttpRequest httpRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
+    MetadataFetchRequest testRequest = MetadataFetchRequest.parseGetHttpRequest(httpRequest);
+    assertTrue(testRequest.isLongPoll());
+
+    CompletableFuture<MetadataResponse> metadataFuture = new CompletableFuture<>();
+    doReturn(metadataFuture).when(readMetadataRetriever).getMetadataOnChange(eq(storeName), eq(-123), eq(1000L));
+
+    StorageReadRequestHandler requestHandler = createStorageReadRequestHandler();
+    requestHandler.channelRead(context, testRequest);
+
+    // The response is only written once the metadata changes or the long poll expires.
+    verify(context, never()).writeAndFlush(any());
+    metadataFuture.complete(null);
+    verify(context, times(1)).writeAndFlush(argumentCaptor.capture());
+    HttpShortcutResponse shortcutResponse = (HttpShortcutResponse) argumentCaptor.getValue();
+    assertEquals(shortcutResponse.getStatus(), HttpResponseStatus.NO_CONTENT);
+  }
+
   @Test
   public void testUnrecognizedRequestInStorageExecutionHandler() throws Exception {
     StorageReadRequestHandler requestHandler = createStorageReadRequestHandler();